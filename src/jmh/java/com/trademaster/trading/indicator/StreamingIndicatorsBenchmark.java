@@ -0,0 +1,129 @@
+package com.trademaster.trading.indicator;
+
+import com.trademaster.trading.agentos.TradingCapabilityRegistry;
+import com.trademaster.trading.agentos.agents.TechnicalAnalysisAgent;
+import com.trademaster.trading.dto.MarketAnalysis;
+import com.trademaster.trading.dto.MarketDataMessage;
+import com.trademaster.trading.logging.LogSampler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Streaming vs batch technical indicator benchmark
+ *
+ * Replays a one-minute bar tape for one symbol. Each invocation advances one bar and asks
+ * the agent for the symbol's indicators over the last LOOKBACK bars:
+ * - batch: the agent's StreamingIndicatorService is off, so it recomputes every indicator
+ *   in BigDecimal from the bar list (the path every request took before)
+ * - streaming: the bar is fed to StreamingIndicatorService as a trade print and the agent
+ *   answers from the published snapshot
+ *
+ * The tape is replayed in a loop; streamed prints keep advancing one minute per bar so the
+ * series never sees time go backwards. The gc profiler's gc.alloc.rate.norm counts the
+ * calling thread only, and the streaming figure includes the print and its timestamp.
+ *
+ * Run with: ./gradlew jmh -PjmhIncludes=StreamingIndicatorsBenchmark
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class StreamingIndicatorsBenchmark {
+
+    private static final String SYMBOL = "RELIANCE";
+    private static final Instant SESSION_START = Instant.parse("2024-06-03T03:45:00Z");
+    private static final int LOOKBACK = 200;
+    private static final int REPLAY_BARS = 1 << 14;
+
+    private final List<MarketAnalysis.OHLCVData> tape = new ArrayList<>();
+    private TechnicalAnalysisAgent batchAgent;
+    private TechnicalAnalysisAgent streamingAgent;
+    private StreamingIndicatorService streamingIndicators;
+    private int batchBar;
+    private int streamedBar;
+    private long streamedMinute;
+
+    @Setup
+    public void setUp() {
+        LogSampler logSampler = new LogSampler(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(logSampler, "enabled", true);
+        ReflectionTestUtils.setField(logSampler, "defaultSampleRate", 0.0);
+        ReflectionTestUtils.setField(logSampler, "defaultMaxPerSecond", 0);
+        logSampler.init();
+
+        SplittableRandom random = new SplittableRandom(42);
+        double price = 2_450.0;
+        for (int bar = 0; bar < LOOKBACK + REPLAY_BARS; bar++) {
+            price = Math.max(100.0, price + random.nextDouble(-4.0, 4.0));
+            double rounded = Math.round(price * 20.0) / 20.0;
+            tape.add(new MarketAnalysis.OHLCVData(SYMBOL, SESSION_START.plusSeconds(60L * bar),
+                BigDecimal.valueOf(rounded), BigDecimal.valueOf(rounded),
+                BigDecimal.valueOf(rounded), BigDecimal.valueOf(rounded),
+                (long) random.nextInt(1_000, 50_000), "1m"));
+        }
+
+        batchAgent = new TechnicalAnalysisAgent(new TradingCapabilityRegistry(), logSampler,
+            indicatorService(false));
+
+        streamingIndicators = indicatorService(true);
+        streamingAgent = new TechnicalAnalysisAgent(new TradingCapabilityRegistry(), logSampler,
+            streamingIndicators);
+        streamingIndicators.backfill(SYMBOL, tape.subList(0, LOOKBACK));
+        streamedMinute = LOOKBACK;
+        streamingIndicators.onTrade(trade(tape.get(LOOKBACK)));
+    }
+
+    @Benchmark
+    public MarketAnalysis.TechnicalIndicators batch() {
+        int bar = LOOKBACK + (batchBar++ & (REPLAY_BARS - 1));
+        return batchAgent.calculateIndicators(SYMBOL, window(bar)).join();
+    }
+
+    /**
+     * The print opening the next bar closes this one, then the agent is asked as above
+     */
+    @Benchmark
+    public MarketAnalysis.TechnicalIndicators streaming() {
+        int bar = LOOKBACK + (streamedBar++ & (REPLAY_BARS - 1));
+        streamedMinute++;
+        streamingIndicators.onTrade(trade(tape.get(LOOKBACK + (streamedBar & (REPLAY_BARS - 1)))));
+        return streamingAgent.calculateIndicators(SYMBOL, window(bar)).join();
+    }
+
+    /**
+     * The trailing LOOKBACK bars ending at bar
+     */
+    private List<MarketAnalysis.OHLCVData> window(int bar) {
+        return tape.subList(bar - LOOKBACK + 1, bar + 1);
+    }
+
+    private MarketDataMessage.TradeExecution trade(MarketAnalysis.OHLCVData bar) {
+        return new MarketDataMessage.TradeExecution(SYMBOL, "NSE", bar.close(), bar.volume(), "BUY",
+            SESSION_START.plusSeconds(60L * streamedMinute));
+    }
+
+    private static StreamingIndicatorService indicatorService(boolean enabled) {
+        StreamingIndicatorService service = new StreamingIndicatorService();
+        ReflectionTestUtils.setField(service, "enabled", enabled);
+        ReflectionTestUtils.setField(service, "barTimeframe", "1m");
+        ReflectionTestUtils.setField(service, "maxSymbols", 10);
+        service.init();
+        return service;
+    }
+}
@@ -0,0 +1,129 @@
+package com.trademaster.trading.metrics;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigDecimal;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Per-order metrics recording benchmark for TradingMetricsService
+ *
+ * Each invocation records the metrics one order produces on its way through the service -
+ * placed and executed with broker volume, fees, one split child latency, and a failure for
+ * every tenth order - either through TradingMetricsService or through the builder-per-event
+ * pattern it replaced (Counter/Timer builder plus registry lookup per call, CAS loop over
+ * BigDecimal for volume and fees).
+ *
+ * Order values are pre-built, so the gc profiler's gc.alloc.rate.norm is the recording's
+ * own allocation per order.
+ *
+ * Run with: ./gradlew jmh -PjmhIncludes=TradingMetricsServiceBenchmark
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TradingMetricsServiceBenchmark {
+
+    private static final String[] BROKERS = {"ZERODHA", "UPSTOX", "ANGEL_ONE"};
+    private static final String[] ERRORS = {"ROUTING_REJECTED", "BROKER_SUBMISSION_FAILED"};
+    private static final String[] OUTCOMES = {"FILLED", "PARTIAL", "ACKNOWLEDGED"};
+
+    private MeterRegistry registry;
+    private TradingMetricsService metricsService;
+    private BuilderPerEvent builderPerEvent;
+    private BigDecimal[] orderValues;
+    private BigDecimal fee;
+    private int order;
+
+    @Setup
+    public void setUp() {
+        // Logback defaults to DEBUG outside Spring; the service logs every order at debug
+        ((Logger) LoggerFactory.getLogger(TradingMetricsService.class)).setLevel(Level.INFO);
+
+        registry = new SimpleMeterRegistry();
+        metricsService = new TradingMetricsService(registry);
+        metricsService.init();
+        builderPerEvent = new BuilderPerEvent();
+        orderValues = new BigDecimal[1024];
+        for (int i = 0; i < orderValues.length; i++) {
+            orderValues[i] = BigDecimal.valueOf(10_000 + i * 37L, 2);
+        }
+        fee = new BigDecimal("20.00");
+    }
+
+    @Benchmark
+    public void meterTables() {
+        int current = order++ & Integer.MAX_VALUE;
+        String broker = BROKERS[current % BROKERS.length];
+        BigDecimal value = orderValues[current & (orderValues.length - 1)];
+
+        metricsService.recordOrderPlaced(broker, value);
+        metricsService.recordSplitExecution(broker, OUTCOMES[current % OUTCOMES.length], 250_000 + current % 1000);
+        if (current % 10 == 0) {
+            metricsService.recordOrderFailed(broker, ERRORS[current / 10 % ERRORS.length]);
+        } else {
+            metricsService.recordOrderExecuted(broker, value);
+            metricsService.addFees(fee);
+        }
+    }
+
+    @Benchmark
+    public void builderPerEvent() {
+        builderPerEvent.recordOrder(order++ & Integer.MAX_VALUE);
+    }
+
+    /**
+     * The recording pattern TradingMetricsService used before its meter tables
+     */
+    private class BuilderPerEvent {
+
+        private final ConcurrentHashMap<String, AtomicReference<BigDecimal>> volumeByBroker = new ConcurrentHashMap<>();
+        private final AtomicReference<BigDecimal> totalFees = new AtomicReference<>(BigDecimal.ZERO);
+
+        void recordOrder(int current) {
+            String broker = BROKERS[current % BROKERS.length];
+            BigDecimal value = orderValues[current & (orderValues.length - 1)];
+
+            registry.counter("trading.orders.placed").increment();
+            addVolume(broker, value);
+            Timer.builder("trading.aggregation.split.latency")
+                .tags(Tags.of("broker", broker, "outcome", OUTCOMES[current % OUTCOMES.length]))
+                .register(registry)
+                .record(250_000 + current % 1000, TimeUnit.NANOSECONDS);
+            if (current % 10 == 0) {
+                Counter.builder("trading.orders.failed")
+                    .tags(Tags.of("broker", broker, "error_type", ERRORS[current / 10 % ERRORS.length]))
+                    .register(registry)
+                    .increment();
+            } else {
+                registry.counter("trading.orders.executed").increment();
+                addVolume(broker, value);
+                totalFees.updateAndGet(total -> total.add(fee));
+            }
+        }
+
+        private void addVolume(String broker, BigDecimal value) {
+            volumeByBroker.computeIfAbsent(broker, k -> new AtomicReference<>(BigDecimal.ZERO))
+                .updateAndGet(total -> total.add(value));
+        }
+    }
+}
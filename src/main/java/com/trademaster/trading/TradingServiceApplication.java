@@ -1,6 +1,12 @@
 package com.trademaster.trading;
 
+import com.trademaster.trading.config.ExposureConfigurationProperties;
+import com.trademaster.trading.config.JwtCacheConfigurationProperties;
 import com.trademaster.trading.config.JwtConfigurationProperties;
+import com.trademaster.trading.config.OrderControlConfigurationProperties;
+import com.trademaster.trading.config.RiskLimitConfigurationProperties;
+import com.trademaster.trading.config.ValidationConfigurationProperties;
+import com.trademaster.trading.config.VolumeProfileConfigurationProperties;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
@@ -47,7 +53,15 @@ import org.springframework.cloud.openfeign.EnableFeignClients;
     org.springframework.boot.autoconfigure.liquibase.LiquibaseAutoConfiguration.class,
     org.springframework.boot.autoconfigure.web.client.RestClientAutoConfiguration.class
 })
-@EnableConfigurationProperties(JwtConfigurationProperties.class)
+@EnableConfigurationProperties({
+    JwtConfigurationProperties.class,
+    JwtCacheConfigurationProperties.class,
+    ExposureConfigurationProperties.class,
+    OrderControlConfigurationProperties.class,
+    RiskLimitConfigurationProperties.class,
+    ValidationConfigurationProperties.class,
+    VolumeProfileConfigurationProperties.class
+})
 @EnableCaching
 @EnableJpaRepositories(basePackages = "com.trademaster.trading.repository")
 @EnableJpaAuditing
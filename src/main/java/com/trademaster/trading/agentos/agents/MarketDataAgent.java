@@ -5,6 +5,7 @@ import com.trademaster.trading.agentos.AgentOSComponent;
 import com.trademaster.trading.agentos.EventHandler;
 import com.trademaster.trading.agentos.TradingCapabilityRegistry;
 import com.trademaster.trading.dto.MarketDataMessage;
+import com.trademaster.trading.logging.LogSampler;
 import com.trademaster.trading.service.MarketDataStreamingService;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import lombok.RequiredArgsConstructor;
@@ -51,6 +52,7 @@ public class MarketDataAgent implements AgentOSComponent {
 
     private final TradingCapabilityRegistry capabilityRegistry;
     private final MarketDataStreamingService streamingService;
+    private final LogSampler logSampler;
 
     // Price cache for quick lookups: symbol -> last price
     private final Map<String, BigDecimal> priceCache = new ConcurrentHashMap<>();
@@ -70,8 +72,10 @@ public class MarketDataAgent implements AgentOSComponent {
     )
     @CircuitBreaker(name = "external-market-data", fallbackMethod = "fallbackQuote")
     public CompletableFuture<MarketDataMessage.PriceUpdate> getRealTimeQuote(String symbol, String exchange) {
+        String correlationId = LogSampler.currentCorrelationId();
         return CompletableFuture.supplyAsync(() -> {
-            log.info("Fetching real-time quote for symbol={}, exchange={}", symbol, exchange);
+            logSampler.info(correlationId, log, "market-data.quote",
+                    "Fetching real-time quote for symbol={}, exchange={}", symbol, exchange);
 
             try {
                 // Generate mock market data (in production, fetch from actual sources)
@@ -106,8 +110,10 @@ public class MarketDataAgent implements AgentOSComponent {
     )
     @CircuitBreaker(name = "external-market-data", fallbackMethod = "fallbackOrderBook")
     public CompletableFuture<MarketDataMessage.OrderBookUpdate> getOrderBook(String symbol, String exchange) {
+        String correlationId = LogSampler.currentCorrelationId();
         return CompletableFuture.supplyAsync(() -> {
-            log.info("Fetching order book for symbol={}, exchange={}", symbol, exchange);
+            logSampler.info(correlationId, log, "market-data.order-book",
+                    "Fetching order book for symbol={}, exchange={}", symbol, exchange);
 
             try {
                 // Generate mock order book data
@@ -140,9 +146,10 @@ public class MarketDataAgent implements AgentOSComponent {
     public CompletableFuture<List<MarketDataMessage.TradeExecution>> getTradeStream(
             String symbol, String exchange, int limit) {
 
+        String correlationId = LogSampler.currentCorrelationId();
         return CompletableFuture.supplyAsync(() -> {
-            log.info("Fetching trade stream for symbol={}, exchange={}, limit={}",
-                    symbol, exchange, limit);
+            logSampler.info(correlationId, log, "market-data.trade-stream",
+                    "Fetching trade stream for symbol={}, exchange={}, limit={}", symbol, exchange, limit);
 
             try {
                 // Generate mock trade executions
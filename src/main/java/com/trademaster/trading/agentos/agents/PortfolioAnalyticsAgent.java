@@ -5,6 +5,9 @@ import com.trademaster.trading.agentos.AgentOSComponent;
 import com.trademaster.trading.agentos.EventHandler;
 import com.trademaster.trading.agentos.TradingCapabilityRegistry;
 import com.trademaster.trading.dto.PortfolioAnalytics;
+import com.trademaster.trading.risk.ReturnRiskKernel;
+import com.trademaster.trading.risk.ReturnRiskProfile;
+import com.trademaster.trading.risk.covariance.CovarianceMatrix;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -12,8 +15,10 @@ import org.springframework.stereotype.Component;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.Instant;
+import java.time.LocalDate;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
@@ -42,6 +47,11 @@ import java.util.stream.Collectors;
  * - Alpha: Portfolio Return - (Risk Free Rate + Beta * Market Risk Premium)
  * - Treynor Ratio: (Portfolio Return - Risk Free Rate) / Beta
  *
+ * Return statistics come from ReturnRiskKernel (primitive arrays, one fused pass plus
+ * one selection pass) and are memoized per (portfolio, as-of date), so the performance
+ * and risk requests for the same day share one computation. The diversification ratio
+ * uses the supplied correlation matrix through CovarianceMatrix.
+ *
  * @author TradeMaster Team
  * @version 1.0.0
  * @since 2024
@@ -56,11 +66,22 @@ public class PortfolioAnalyticsAgent implements AgentOSComponent {
     private static final BigDecimal RISK_FREE_RATE = new BigDecimal("0.05");  // 5% annual
     private static final BigDecimal TRADING_DAYS_PER_YEAR = new BigDecimal("252");
     private static final int ROLLING_WINDOW_DAYS = 30;
+    private static final double VAR_95 = 0.95;
+    private static final double VAR_99 = 0.99;
+    private static final int MAX_RISK_PROFILES = 1_024;
+
+    private final Map<RiskProfileKey, ReturnRiskProfile> riskProfiles = new ConcurrentHashMap<>();
+
+    /**
+     * Memo key: a portfolio's return history up to a date does not change
+     */
+    private record RiskProfileKey(String portfolioId, LocalDate asOf) {}
 
     /**
      * Analyzes comprehensive portfolio performance metrics.
      *
      * @param portfolioId Portfolio identifier
+     * @param asOf Date of the last return in historicalReturns
      * @param positions List of portfolio positions
      * @param historicalReturns Historical daily returns
      * @param benchmarkReturns Benchmark returns for comparison
@@ -74,6 +95,7 @@ public class PortfolioAnalyticsAgent implements AgentOSComponent {
     )
     public CompletableFuture<PortfolioAnalytics.PerformanceMetrics> analyzePerformance(
             String portfolioId,
+            LocalDate asOf,
             List<PortfolioAnalytics.Position> positions,
             List<BigDecimal> historicalReturns,
             List<BigDecimal> benchmarkReturns) {
@@ -94,40 +116,35 @@ public class PortfolioAnalyticsAgent implements AgentOSComponent {
                 BigDecimal totalPnLPercent = totalPnL.divide(totalCost, 4, RoundingMode.HALF_UP)
                     .multiply(new BigDecimal("100"));
 
+                ReturnRiskProfile profile = riskProfile(portfolioId, asOf, historicalReturns, benchmarkReturns);
+
                 // Calculate return metrics
-                BigDecimal avgDailyReturn = calculateAverageReturn(historicalReturns);
+                BigDecimal avgDailyReturn = dailyReturn(profile.mean());
                 BigDecimal annualizedReturn = annualizeReturn(avgDailyReturn);
-                BigDecimal cumulativeReturn = calculateCumulativeReturn(historicalReturns);
+                BigDecimal cumulativeReturn = percent(profile.cumulativeReturn());
 
                 // Calculate risk metrics
-                BigDecimal volatility = calculateVolatility(historicalReturns);
-                BigDecimal downsideDeviation = calculateDownsideDeviation(historicalReturns, RISK_FREE_RATE);
-                BigDecimal maxDrawdown = calculateMaxDrawdown(historicalReturns);
+                BigDecimal volatility = annualizeDeviation(profile.standardDeviation());
+                BigDecimal downsideDeviation = annualizeDeviation(profile.downsideDeviation());
+                BigDecimal maxDrawdown = percent(profile.maxDrawdown());
 
                 // Calculate risk-adjusted metrics
                 BigDecimal sharpeRatio = calculateSharpeRatio(annualizedReturn, volatility);
                 BigDecimal sortinoRatio = calculateSortinoRatio(annualizedReturn, downsideDeviation);
 
                 // Calculate benchmark comparison metrics
-                BigDecimal trackingError = calculateTrackingError(historicalReturns, benchmarkReturns);
-                BigDecimal informationRatio = calculateInformationRatio(
-                    annualizedReturn,
-                    annualizeReturn(calculateAverageReturn(benchmarkReturns)),
-                    trackingError
-                );
+                BigDecimal benchmarkReturn = annualizeReturn(dailyReturn(profile.benchmarkMean()));
+                BigDecimal trackingError = annualizeDeviation(profile.trackingError());
+                BigDecimal informationRatio = calculateInformationRatio(annualizedReturn, benchmarkReturn, trackingError);
 
                 // Calculate beta and alpha
-                BigDecimal beta = calculateBeta(historicalReturns, benchmarkReturns);
-                BigDecimal alpha = calculateAlpha(
-                    annualizedReturn,
-                    beta,
-                    annualizeReturn(calculateAverageReturn(benchmarkReturns))
-                );
+                BigDecimal beta = BigDecimal.valueOf(profile.beta()).setScale(4, RoundingMode.HALF_UP);
+                BigDecimal alpha = calculateAlpha(annualizedReturn, beta, benchmarkReturn);
                 BigDecimal treynorRatio = calculateTreynorRatio(annualizedReturn, beta);
 
                 // Calculate win rate and profit factor
-                BigDecimal winRate = calculateWinRate(historicalReturns);
-                BigDecimal profitFactor = calculateProfitFactor(historicalReturns);
+                BigDecimal winRate = calculateWinRate(profile);
+                BigDecimal profitFactor = calculateProfitFactor(profile);
 
                 var metrics = new PortfolioAnalytics.PerformanceMetrics(
                     portfolioId,
@@ -173,6 +190,7 @@ public class PortfolioAnalyticsAgent implements AgentOSComponent {
      * Analyzes portfolio risk metrics including VaR, CVaR, and concentration risk.
      *
      * @param portfolioId Portfolio identifier
+     * @param asOf Date of the last return in historicalReturns
      * @param positions List of portfolio positions
      * @param historicalReturns Historical daily returns
      * @param correlationMatrix Asset correlation matrix
@@ -186,6 +204,7 @@ public class PortfolioAnalyticsAgent implements AgentOSComponent {
     )
     public CompletableFuture<PortfolioAnalytics.RiskMetrics> analyzeRisk(
             String portfolioId,
+            LocalDate asOf,
             List<PortfolioAnalytics.Position> positions,
             List<BigDecimal> historicalReturns,
             Map<String, Map<String, BigDecimal>> correlationMatrix) {
@@ -195,14 +214,15 @@ public class PortfolioAnalyticsAgent implements AgentOSComponent {
 
             try {
                 BigDecimal totalValue = calculateTotalValue(positions);
+                ReturnRiskProfile profile = riskProfile(portfolioId, asOf, historicalReturns, null);
 
                 // Calculate Value at Risk at multiple confidence levels
-                BigDecimal var95 = calculateVaR(historicalReturns, new BigDecimal("0.95"), totalValue);
-                BigDecimal var99 = calculateVaR(historicalReturns, new BigDecimal("0.99"), totalValue);
+                BigDecimal var95 = calculateVaR(profile, VAR_95, totalValue);
+                BigDecimal var99 = calculateVaR(profile, VAR_99, totalValue);
 
                 // Calculate Conditional VaR (Expected Shortfall)
-                BigDecimal cvar95 = calculateCVaR(historicalReturns, new BigDecimal("0.95"), totalValue);
-                BigDecimal cvar99 = calculateCVaR(historicalReturns, new BigDecimal("0.99"), totalValue);
+                BigDecimal cvar95 = calculateCVaR(profile, VAR_95, totalValue);
+                BigDecimal cvar99 = calculateCVaR(profile, VAR_99, totalValue);
 
                 // Calculate concentration risk
                 BigDecimal concentrationRisk = calculateConcentrationRisk(positions, totalValue);
@@ -223,8 +243,8 @@ public class PortfolioAnalyticsAgent implements AgentOSComponent {
 
                 // Determine overall risk level
                 PortfolioAnalytics.RiskMetrics.RiskLevel riskLevel = classifyRiskLevel(
-                    calculateVolatility(historicalReturns),
-                    calculateMaxDrawdown(historicalReturns),
+                    annualizeDeviation(profile.standardDeviation()),
+                    percent(profile.maxDrawdown()),
                     concentrationRisk
                 );
 
@@ -388,100 +408,57 @@ public class PortfolioAnalyticsAgent implements AgentOSComponent {
             .reduce(BigDecimal.ZERO, BigDecimal::add);
     }
 
-    // ========== Helper Methods: Return Calculations ==========
+    // ========== Helper Methods: Return Statistics ==========
 
-    private BigDecimal calculateAverageReturn(List<BigDecimal> returns) {
-        if (returns.isEmpty()) return BigDecimal.ZERO;
-
-        return returns.stream()
-            .reduce(BigDecimal.ZERO, BigDecimal::add)
-            .divide(BigDecimal.valueOf(returns.size()), 6, RoundingMode.HALF_UP);
+    /**
+     * Kernel statistics of the return series, memoized per (portfolio, as-of). A profile
+     * computed without a benchmark is recomputed once a benchmark is supplied.
+     */
+    private ReturnRiskProfile riskProfile(String portfolioId, LocalDate asOf,
+                                          List<BigDecimal> returns, List<BigDecimal> benchmarkReturns) {
+        RiskProfileKey key = new RiskProfileKey(portfolioId, asOf);
+        return Optional.ofNullable(riskProfiles.get(key))
+            .filter(profile -> benchmarkReturns == null || profile.benchmarked())
+            .orElseGet(() -> {
+                ReturnRiskProfile profile = ReturnRiskKernel.analyze(
+                    toArray(returns),
+                    benchmarkReturns == null ? null : toArray(benchmarkReturns),
+                    RISK_FREE_RATE.divide(TRADING_DAYS_PER_YEAR, 6, RoundingMode.HALF_UP).doubleValue(),
+                    VAR_95, VAR_99);
+                if (riskProfiles.size() >= MAX_RISK_PROFILES) {
+                    riskProfiles.keySet().removeIf(cached -> cached.asOf().isBefore(asOf));
+                }
+                if (riskProfiles.size() < MAX_RISK_PROFILES) {
+                    riskProfiles.put(key, profile);
+                }
+                return profile;
+            });
     }
 
-    private BigDecimal annualizeReturn(BigDecimal avgDailyReturn) {
-        return avgDailyReturn.multiply(TRADING_DAYS_PER_YEAR)
-            .multiply(new BigDecimal("100"))
-            .setScale(2, RoundingMode.HALF_UP);
+    private static double[] toArray(List<BigDecimal> values) {
+        return values.stream().mapToDouble(BigDecimal::doubleValue).toArray();
     }
 
-    private BigDecimal calculateCumulativeReturn(List<BigDecimal> returns) {
-        BigDecimal cumulative = BigDecimal.ONE;
-
-        for (BigDecimal dailyReturn : returns) {
-            cumulative = cumulative.multiply(BigDecimal.ONE.add(dailyReturn));
-        }
-
-        return cumulative.subtract(BigDecimal.ONE)
-            .multiply(new BigDecimal("100"))
-            .setScale(2, RoundingMode.HALF_UP);
+    private BigDecimal dailyReturn(double mean) {
+        return BigDecimal.valueOf(mean).setScale(6, RoundingMode.HALF_UP);
     }
 
-    // ========== Helper Methods: Risk Calculations ==========
-
-    private BigDecimal calculateVolatility(List<BigDecimal> returns) {
-        if (returns.size() < 2) return BigDecimal.ZERO;
-
-        BigDecimal mean = calculateAverageReturn(returns);
-
-        BigDecimal variance = returns.stream()
-            .map(r -> r.subtract(mean).pow(2))
-            .reduce(BigDecimal.ZERO, BigDecimal::add)
-            .divide(BigDecimal.valueOf(returns.size() - 1), 10, RoundingMode.HALF_UP);
-
-        BigDecimal stdDev = BigDecimal.valueOf(Math.sqrt(variance.doubleValue()));
-
-        // Annualize
-        BigDecimal annualizationFactor = BigDecimal.valueOf(Math.sqrt(TRADING_DAYS_PER_YEAR.doubleValue()));
-        return stdDev.multiply(annualizationFactor)
+    private BigDecimal annualizeReturn(BigDecimal avgDailyReturn) {
+        return avgDailyReturn.multiply(TRADING_DAYS_PER_YEAR)
             .multiply(new BigDecimal("100"))
             .setScale(2, RoundingMode.HALF_UP);
     }
 
-    private BigDecimal calculateDownsideDeviation(List<BigDecimal> returns, BigDecimal targetReturn) {
-        BigDecimal dailyTarget = targetReturn.divide(TRADING_DAYS_PER_YEAR, 6, RoundingMode.HALF_UP);
-
-        List<BigDecimal> downsideReturns = returns.stream()
-            .filter(r -> r.compareTo(dailyTarget) < 0)
-            .map(r -> r.subtract(dailyTarget).pow(2))
-            .toList();
-
-        if (downsideReturns.isEmpty()) return BigDecimal.ZERO;
-
-        BigDecimal variance = downsideReturns.stream()
-            .reduce(BigDecimal.ZERO, BigDecimal::add)
-            .divide(BigDecimal.valueOf(downsideReturns.size()), 10, RoundingMode.HALF_UP);
-
-        BigDecimal stdDev = BigDecimal.valueOf(Math.sqrt(variance.doubleValue()));
-
-        BigDecimal annualizationFactor = BigDecimal.valueOf(Math.sqrt(TRADING_DAYS_PER_YEAR.doubleValue()));
-        return stdDev.multiply(annualizationFactor)
-            .multiply(new BigDecimal("100"))
+    /**
+     * Daily standard deviation to annualized percent: sd * sqrt(252) * 100
+     */
+    private BigDecimal annualizeDeviation(double dailyDeviation) {
+        return BigDecimal.valueOf(dailyDeviation * Math.sqrt(TRADING_DAYS_PER_YEAR.doubleValue()) * 100.0)
             .setScale(2, RoundingMode.HALF_UP);
     }
 
-    private BigDecimal calculateMaxDrawdown(List<BigDecimal> returns) {
-        if (returns.isEmpty()) return BigDecimal.ZERO;
-
-        BigDecimal peak = BigDecimal.ONE;
-        BigDecimal maxDD = BigDecimal.ZERO;
-        BigDecimal cumulative = BigDecimal.ONE;
-
-        for (BigDecimal dailyReturn : returns) {
-            cumulative = cumulative.multiply(BigDecimal.ONE.add(dailyReturn));
-
-            if (cumulative.compareTo(peak) > 0) {
-                peak = cumulative;
-            }
-
-            BigDecimal drawdown = peak.subtract(cumulative)
-                .divide(peak, 6, RoundingMode.HALF_UP);
-
-            if (drawdown.compareTo(maxDD) > 0) {
-                maxDD = drawdown;
-            }
-        }
-
-        return maxDD.multiply(new BigDecimal("100")).setScale(2, RoundingMode.HALF_UP);
+    private BigDecimal percent(double fraction) {
+        return BigDecimal.valueOf(fraction * 100.0).setScale(2, RoundingMode.HALF_UP);
     }
 
     // ========== Helper Methods: Risk-Adjusted Metrics ==========
@@ -500,17 +477,6 @@ public class PortfolioAnalyticsAgent implements AgentOSComponent {
         return excessReturn.divide(downsideDeviation, 4, RoundingMode.HALF_UP);
     }
 
-    private BigDecimal calculateTrackingError(List<BigDecimal> portfolioReturns, List<BigDecimal> benchmarkReturns) {
-        if (portfolioReturns.size() != benchmarkReturns.size()) return BigDecimal.ZERO;
-
-        List<BigDecimal> differenceReturns = new ArrayList<>();
-        for (int i = 0; i < portfolioReturns.size(); i++) {
-            differenceReturns.add(portfolioReturns.get(i).subtract(benchmarkReturns.get(i)));
-        }
-
-        return calculateVolatility(differenceReturns);
-    }
-
     private BigDecimal calculateInformationRatio(
             BigDecimal portfolioReturn, BigDecimal benchmarkReturn, BigDecimal trackingError) {
 
@@ -520,30 +486,6 @@ public class PortfolioAnalyticsAgent implements AgentOSComponent {
         return excessReturn.divide(trackingError, 4, RoundingMode.HALF_UP);
     }
 
-    private BigDecimal calculateBeta(List<BigDecimal> portfolioReturns, List<BigDecimal> benchmarkReturns) {
-        if (portfolioReturns.size() != benchmarkReturns.size() || portfolioReturns.size() < 2) {
-            return BigDecimal.ONE;
-        }
-
-        BigDecimal portfolioMean = calculateAverageReturn(portfolioReturns);
-        BigDecimal benchmarkMean = calculateAverageReturn(benchmarkReturns);
-
-        BigDecimal covariance = BigDecimal.ZERO;
-        BigDecimal benchmarkVariance = BigDecimal.ZERO;
-
-        for (int i = 0; i < portfolioReturns.size(); i++) {
-            BigDecimal portfolioDeviation = portfolioReturns.get(i).subtract(portfolioMean);
-            BigDecimal benchmarkDeviation = benchmarkReturns.get(i).subtract(benchmarkMean);
-
-            covariance = covariance.add(portfolioDeviation.multiply(benchmarkDeviation));
-            benchmarkVariance = benchmarkVariance.add(benchmarkDeviation.pow(2));
-        }
-
-        if (benchmarkVariance.compareTo(BigDecimal.ZERO) == 0) return BigDecimal.ONE;
-
-        return covariance.divide(benchmarkVariance, 4, RoundingMode.HALF_UP);
-    }
-
     private BigDecimal calculateAlpha(BigDecimal portfolioReturn, BigDecimal beta, BigDecimal benchmarkReturn) {
         BigDecimal expectedReturn = RISK_FREE_RATE.multiply(new BigDecimal("100"))
             .add(beta.multiply(benchmarkReturn.subtract(RISK_FREE_RATE.multiply(new BigDecimal("100")))));
@@ -558,58 +500,31 @@ public class PortfolioAnalyticsAgent implements AgentOSComponent {
         return excessReturn.divide(beta, 4, RoundingMode.HALF_UP);
     }
 
-    private BigDecimal calculateWinRate(List<BigDecimal> returns) {
-        if (returns.isEmpty()) return BigDecimal.ZERO;
-
-        long winningDays = returns.stream().filter(r -> r.compareTo(BigDecimal.ZERO) > 0).count();
-
-        return BigDecimal.valueOf(winningDays)
-            .divide(BigDecimal.valueOf(returns.size()), 4, RoundingMode.HALF_UP)
+    private BigDecimal calculateWinRate(ReturnRiskProfile profile) {
+        return BigDecimal.valueOf(profile.winningPeriods())
+            .divide(BigDecimal.valueOf(profile.observations()), 4, RoundingMode.HALF_UP)
             .multiply(new BigDecimal("100"))
             .setScale(2, RoundingMode.HALF_UP);
     }
 
-    private BigDecimal calculateProfitFactor(List<BigDecimal> returns) {
-        BigDecimal totalGains = returns.stream()
-            .filter(r -> r.compareTo(BigDecimal.ZERO) > 0)
-            .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        BigDecimal totalLosses = returns.stream()
-            .filter(r -> r.compareTo(BigDecimal.ZERO) < 0)
-            .map(BigDecimal::abs)
-            .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        if (totalLosses.compareTo(BigDecimal.ZERO) == 0) {
-            return totalGains.compareTo(BigDecimal.ZERO) > 0 ? new BigDecimal("999.99") : BigDecimal.ZERO;
+    private BigDecimal calculateProfitFactor(ReturnRiskProfile profile) {
+        if (profile.totalLosses() == 0.0) {
+            return profile.totalGains() > 0.0 ? new BigDecimal("999.99") : BigDecimal.ZERO;
         }
 
-        return totalGains.divide(totalLosses, 4, RoundingMode.HALF_UP);
+        return BigDecimal.valueOf(profile.totalGains() / profile.totalLosses()).setScale(4, RoundingMode.HALF_UP);
     }
 
     // ========== Helper Methods: VaR and CVaR ==========
 
-    private BigDecimal calculateVaR(List<BigDecimal> returns, BigDecimal confidence, BigDecimal portfolioValue) {
-        if (returns.isEmpty()) return BigDecimal.ZERO;
-
-        List<BigDecimal> sortedReturns = returns.stream().sorted().toList();
-
-        int percentileIndex = (int) Math.floor(sortedReturns.size() * (1 - confidence.doubleValue()));
-        BigDecimal percentileReturn = sortedReturns.get(Math.max(0, percentileIndex));
-
-        return portfolioValue.multiply(percentileReturn.abs()).setScale(2, RoundingMode.HALF_UP);
+    private BigDecimal calculateVaR(ReturnRiskProfile profile, double confidence, BigDecimal portfolioValue) {
+        return portfolioValue.multiply(BigDecimal.valueOf(Math.abs(profile.valueAtRisk(confidence))))
+            .setScale(2, RoundingMode.HALF_UP);
     }
 
-    private BigDecimal calculateCVaR(List<BigDecimal> returns, BigDecimal confidence, BigDecimal portfolioValue) {
-        if (returns.isEmpty()) return BigDecimal.ZERO;
-
-        List<BigDecimal> sortedReturns = returns.stream().sorted().toList();
-
-        int cutoffIndex = (int) Math.floor(sortedReturns.size() * (1 - confidence.doubleValue()));
-        List<BigDecimal> tailReturns = sortedReturns.subList(0, Math.max(1, cutoffIndex));
-
-        BigDecimal avgTailReturn = tailReturns.stream()
-            .reduce(BigDecimal.ZERO, BigDecimal::add)
-            .divide(BigDecimal.valueOf(tailReturns.size()), 6, RoundingMode.HALF_UP);
+    private BigDecimal calculateCVaR(ReturnRiskProfile profile, double confidence, BigDecimal portfolioValue) {
+        BigDecimal avgTailReturn = BigDecimal.valueOf(profile.expectedShortfall(confidence))
+            .setScale(6, RoundingMode.HALF_UP);
 
         return portfolioValue.multiply(avgTailReturn.abs()).setScale(2, RoundingMode.HALF_UP);
     }
@@ -636,16 +551,23 @@ public class PortfolioAnalyticsAgent implements AgentOSComponent {
             List<PortfolioAnalytics.Position> positions,
             Map<String, Map<String, BigDecimal>> correlationMatrix) {
 
-        // Simplified diversification ratio: 1 / sqrt(concentration)
+        // Diversification ratio with unit volatilities: sum(w) / sqrt(w' * rho * w).
+        // Equals 1 / sqrt(HHI) when the positions are uncorrelated.
         BigDecimal totalValue = calculateTotalValue(positions);
-        BigDecimal concentration = calculateConcentrationRisk(positions, totalValue)
-            .divide(new BigDecimal("100"), 4, RoundingMode.HALF_UP);
+        if (positions.isEmpty() || totalValue.signum() == 0) {
+            return BigDecimal.ONE;
+        }
 
-        return BigDecimal.ONE.divide(
-            BigDecimal.valueOf(Math.sqrt(concentration.doubleValue())),
-            2,
-            RoundingMode.HALF_UP
-        );
+        List<String> symbols = positions.stream().map(PortfolioAnalytics.Position::symbol).toList();
+        double total = totalValue.doubleValue();
+        double[] weights = positions.stream()
+            .mapToDouble(pos -> pos.marketValue().doubleValue() / total)
+            .toArray();
+        double variance = CovarianceMatrix.fromCorrelations(symbols, correlationMatrix).quadraticForm(weights);
+
+        return variance > 0.0
+            ? BigDecimal.valueOf(Arrays.stream(weights).sum() / Math.sqrt(variance)).setScale(2, RoundingMode.HALF_UP)
+            : BigDecimal.ONE;
     }
 
     private PortfolioAnalytics.RiskMetrics.RiskLevel classifyRiskLevel(
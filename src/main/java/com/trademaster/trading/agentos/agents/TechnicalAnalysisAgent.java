@@ -5,6 +5,9 @@ import com.trademaster.trading.agentos.AgentOSComponent;
 import com.trademaster.trading.agentos.EventHandler;
 import com.trademaster.trading.agentos.TradingCapabilityRegistry;
 import com.trademaster.trading.dto.MarketAnalysis;
+import com.trademaster.trading.indicator.IndicatorSnapshot;
+import com.trademaster.trading.indicator.StreamingIndicatorService;
+import com.trademaster.trading.logging.LogSampler;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -13,6 +16,7 @@ import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.stream.IntStream;
 
@@ -37,6 +41,10 @@ import java.util.stream.IntStream;
  * - SMA/EMA: Simple and Exponential Moving Averages
  * - ATR: Wilder's Average True Range (14-period)
  *
+ * Symbols that StreamingIndicatorService has warmed up from the live stream are answered
+ * from its latest snapshot when the request's bars share its timeframe; the BigDecimal
+ * batch calculation below covers every other request.
+ *
  * @author TradeMaster Team
  * @version 1.0.0
  * @since 2024
@@ -47,6 +55,8 @@ import java.util.stream.IntStream;
 public class TechnicalAnalysisAgent implements AgentOSComponent {
 
     private final TradingCapabilityRegistry capabilityRegistry;
+    private final LogSampler logSampler;
+    private final StreamingIndicatorService streamingIndicators;
 
     private static final int RSI_PERIOD = 14;
     private static final int MACD_FAST = 12;
@@ -58,6 +68,7 @@ public class TechnicalAnalysisAgent implements AgentOSComponent {
 
     /**
      * Calculates comprehensive technical indicators for a symbol.
+     * Answered from the streamed indicators when the symbol is warm, otherwise from ohlcvData.
      *
      * @param symbol Stock symbol
      * @param ohlcvData Historical OHLCV data (minimum 50 periods recommended)
@@ -72,8 +83,25 @@ public class TechnicalAnalysisAgent implements AgentOSComponent {
     public CompletableFuture<MarketAnalysis.TechnicalIndicators> calculateIndicators(
             String symbol, List<MarketAnalysis.OHLCVData> ohlcvData) {
 
+        return streamingIndicators.latest(symbol, requestTimeframe(ohlcvData))
+            .map(this::toTechnicalIndicators)
+            .map(indicators -> {
+                capabilityRegistry.recordSuccessfulExecution("TECHNICAL_INDICATORS");
+                return CompletableFuture.completedFuture(indicators);
+            })
+            .orElseGet(() -> calculateFromBars(symbol, ohlcvData));
+    }
+
+    /**
+     * Batch calculation over the requested bars
+     */
+    private CompletableFuture<MarketAnalysis.TechnicalIndicators> calculateFromBars(
+            String symbol, List<MarketAnalysis.OHLCVData> ohlcvData) {
+
+        String correlationId = LogSampler.currentCorrelationId();
         return CompletableFuture.supplyAsync(() -> {
-            log.info("Calculating technical indicators for symbol={}, periods={}", symbol, ohlcvData.size());
+            logSampler.info(correlationId, log, "technical.indicators",
+                    "Calculating technical indicators for symbol={}, periods={}", symbol, ohlcvData.size());
 
             try {
                 // Extract price and volume arrays
@@ -127,7 +155,8 @@ public class TechnicalAnalysisAgent implements AgentOSComponent {
 
                 capabilityRegistry.recordSuccessfulExecution("TECHNICAL_INDICATORS");
 
-                log.info("Technical indicators calculated: symbol={}, RSI={}, MACD={}, trend={}, momentum={}",
+                logSampler.info(correlationId, log, "technical.indicators.result",
+                        "Technical indicators calculated: symbol={}, RSI={}, MACD={}, trend={}, momentum={}",
                         symbol, rsi, macd, trendSignal, momentumSignal);
 
                 return indicators;
@@ -140,6 +169,52 @@ public class TechnicalAnalysisAgent implements AgentOSComponent {
         });
     }
 
+    /**
+     * Timeframe of the requested bars, null when the request carries none
+     */
+    private String requestTimeframe(List<MarketAnalysis.OHLCVData> ohlcvData) {
+        return Optional.ofNullable(ohlcvData)
+            .filter(bars -> !bars.isEmpty())
+            .map(bars -> bars.get(bars.size() - 1).timeframe())
+            .orElse(null);
+    }
+
+    /**
+     * Converts a streamed snapshot, deriving the signals the same way as the batch path.
+     */
+    private MarketAnalysis.TechnicalIndicators toTechnicalIndicators(IndicatorSnapshot snapshot) {
+        BigDecimal close = price(snapshot.close());
+        BigDecimal sma20 = price(snapshot.sma20());
+        BigDecimal sma50 = price(snapshot.sma50());
+        BigDecimal ema12 = price(snapshot.ema12());
+        BigDecimal ema26 = price(snapshot.ema26());
+        BigDecimal rsi = price(snapshot.rsi());
+        BigDecimal macd = price(snapshot.macd());
+        BigDecimal macdSignal = price(snapshot.macdSignal());
+        BigDecimal volumeSMA = BigDecimal.valueOf(snapshot.volumeSma()).setScale(0, RoundingMode.HALF_UP);
+
+        var trendSignal = determineTrendSignal(close, sma20, sma50, ema12, ema26);
+        var momentumSignal = determineMomentumSignal(rsi, macd, macdSignal);
+
+        return new MarketAnalysis.TechnicalIndicators(
+            snapshot.symbol(),
+            snapshot.barTime(),
+            sma20, sma50, ema12, ema26,
+            rsi, macd, macdSignal, price(snapshot.macdHistogram()),
+            price(snapshot.bollingerUpper()), sma20, price(snapshot.bollingerLower()), price(snapshot.atr()),
+            volumeSMA, calculateVolumeRatio(Math.round(snapshot.volume()), volumeSMA),
+            trendSignal, momentumSignal,
+            calculateSignalStrength(rsi, macd, macdSignal, trendSignal, momentumSignal)
+        );
+    }
+
+    /**
+     * Rounds to paise without going through Double.toString
+     */
+    private static BigDecimal price(double value) {
+        return BigDecimal.valueOf(Math.round(value * 100.0), 2);
+    }
+
     /**
      * Calculates Simple Moving Average (SMA).
      * SMA = Sum of prices / Number of periods
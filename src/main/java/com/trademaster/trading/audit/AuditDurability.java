@@ -0,0 +1,18 @@
+package com.trademaster.trading.audit;
+
+/**
+ * Audit Durability
+ *
+ * How long a caller of AuditLogWriter waits before its audit record counts as written.
+ *
+ * - SYNC: wait until the record is committed to trading_audit_log or forced to the spill
+ *   file (financial events: placements, modifications, fills)
+ * - ASYNC: return as soon as the record is queued (status changes, cancellations)
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+public enum AuditDurability {
+    SYNC,
+    ASYNC
+}
@@ -0,0 +1,574 @@
+package com.trademaster.trading.audit;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.audit.AuditEvent;
+import org.springframework.boot.actuate.audit.AuditEventRepository;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Audit Log Writer
+ *
+ * Asynchronous, batched audit pipeline. Producers on the request path enqueue into a
+ * lock-free MPSC ring buffer; a single writer thread drains it and streams each batch into
+ * trading_audit_log with PostgreSQL COPY. Batches form naturally: whatever queued up while
+ * the previous COPY ran goes out in the next one, so latency stays low when idle and
+ * throughput scales under load.
+ *
+ * Durability:
+ * - SYNC records block the caller until committed or forced to the spill file, bounded by
+ *   sync-ack-timeout-millis
+ * - ASYNC records return once queued
+ *
+ * Spill to Disk:
+ * - Ring full: the producer appends its row to the spill file itself
+ * - COPY failed or slower than slow-flush-millis: batches go to the spill file for
+ *   spill-backoff-millis instead of waiting on the database
+ * - Sealed spill files are replayed through COPY once the database is healthy again,
+ *   including files left behind by a crash
+ *
+ * Malformed Rows:
+ * - A COPY refused with a data error (SQL state 22xxx or 23xxx) is split in halves and
+ *   retried until each bad row is alone; only those rows go to the quarantine file, the
+ *   rest of the batch or spill file is written
+ *
+ * Security audit events (actuator AuditEvents) ride the same ring and are handed to the
+ * AuditEventRepository on the writer thread.
+ *
+ * Metrics:
+ * - trading.audit.buffer.occupancy: records waiting in the ring buffer
+ * - trading.audit.flush.latency: time to write one batch, tagged by target (database/spill)
+ * - trading.audit.flush.batch.size: rows per batch
+ * - trading.audit.records.spilled: rows diverted to disk, tagged by reason
+ * - trading.audit.spill.pending.bytes: spilled bytes waiting for replay
+ * - trading.audit.sync.ack.timeouts: SYNC writes that gave up waiting
+ * - trading.audit.records.quarantined: malformed rows set aside
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AuditLogWriter {
+
+    private static final String COPY_SQL = "COPY trading_audit_log (user_id, order_id, trade_id, action, "
+        + "entity_type, entity_id, old_values, new_values, ip_address, user_agent, session_id, created_at) "
+        + "FROM STDIN WITH (FORMAT csv)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final AuditEventRepository auditEventRepository;
+    private final MeterRegistry meterRegistry;
+
+    // Rule #16: Dynamic Configuration
+    @Value("${trading.audit.writer.enabled:true}")
+    private boolean enabled;
+
+    @Value("${trading.audit.writer.ring-capacity:65536}")
+    private int ringCapacity;
+
+    @Value("${trading.audit.writer.max-batch-size:1000}")
+    private int maxBatchSize;
+
+    @Value("${trading.audit.writer.idle-park-millis:5}")
+    private long idleParkMillis;
+
+    @Value("${trading.audit.writer.sync-ack-enabled:true}")
+    private boolean syncAckEnabled;
+
+    @Value("${trading.audit.writer.sync-ack-timeout-millis:250}")
+    private long syncAckTimeoutMillis;
+
+    @Value("${trading.audit.writer.slow-flush-millis:200}")
+    private long slowFlushMillis;
+
+    @Value("${trading.audit.writer.spill-backoff-millis:5000}")
+    private long spillBackoffMillis;
+
+    @Value("${trading.audit.writer.spill-directory:data/audit-spill}")
+    private String spillDirectory;
+
+    private MpscRingBuffer<Entry> ring;
+    private AuditSpillFile spillFile;
+    private final List<TradingRow> batch = new ArrayList<>();
+    private final StringBuilder csv = new StringBuilder(64 * 1024);
+
+    private volatile boolean running;
+    private Thread writer;
+    private long spillUntilNanos;
+    private long nextReplayCheckNanos;
+
+    private Timer databaseFlush;
+    private Timer spillFlush;
+    private DistributionSummary batchSize;
+    private Counter spilledRingFull;
+    private Counter spilledDatabaseSlow;
+    private Counter spilledDatabaseError;
+    private Counter syncAckTimeouts;
+    private Counter quarantined;
+
+    /**
+     * Ring entries: trading audit rows and security audit events
+     */
+    private sealed interface Entry permits TradingRow, SecurityEvent {}
+
+    private record TradingRow(AuditRecord record, CompletableFuture<Void> ack) implements Entry {}
+
+    private record SecurityEvent(AuditEvent event) implements Entry {}
+
+    /**
+     * Outcome of isolating bad rows: the rows quarantined, and the first row left unwritten
+     * because the database failed for another reason (the row count if all were handled)
+     */
+    private record Isolation(BitSet quarantined, int unwrittenFrom) {}
+
+    @PostConstruct
+    public void start() throws IOException {
+        ring = new MpscRingBuffer<>(ringCapacity);
+        spillFile = new AuditSpillFile(Path.of(spillDirectory));
+        spillFile.seal();
+
+        databaseFlush = flushTimer("database");
+        spillFlush = flushTimer("spill");
+        batchSize = DistributionSummary.builder("trading.audit.flush.batch.size")
+            .description("Audit rows written per batch")
+            .publishPercentiles(0.5, 0.99)
+            .register(meterRegistry);
+        spilledRingFull = spilledCounter("ring_full");
+        spilledDatabaseSlow = spilledCounter("db_slow");
+        spilledDatabaseError = spilledCounter("db_error");
+        syncAckTimeouts = Counter.builder("trading.audit.sync.ack.timeouts")
+            .description("SYNC audit writes that gave up waiting for durability")
+            .register(meterRegistry);
+        quarantined = Counter.builder("trading.audit.records.quarantined")
+            .description("Malformed audit rows set aside instead of written")
+            .register(meterRegistry);
+        Gauge.builder("trading.audit.buffer.occupancy", ring, MpscRingBuffer::size)
+            .description("Audit records waiting in the ring buffer")
+            .register(meterRegistry);
+        Gauge.builder("trading.audit.spill.pending.bytes", spillFile, AuditSpillFile::pendingBytes)
+            .description("Spilled audit bytes waiting for replay")
+            .register(meterRegistry);
+
+        running = true;
+        writer = Thread.ofPlatform().daemon().name("audit-log-writer").start(this::runWriter);
+        log.info("Audit log writer started: ringCapacity={}, maxBatch={}, syncAck={}, spillDirectory={}",
+            ring.capacity(), maxBatchSize, syncAckEnabled, spillDirectory);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        Optional.ofNullable(writer).ifPresent(thread -> {
+            LockSupport.unpark(thread);
+            joinQuietly(thread);
+        });
+        spillFile.close();
+        log.info("Audit log writer stopped: {} records left in ring", ring.size());
+    }
+
+    /**
+     * Queues a trading audit row
+     *
+     * @return true once the record is queued (ASYNC) or durable (SYNC), or if the writer is
+     *         disabled; false if a SYNC write timed out or failed - the record is still
+     *         written in the background
+     */
+    public boolean write(AuditRecord record, AuditDurability durability) {
+        if (!enabled) {
+            return true;
+        }
+        boolean sync = durability == AuditDurability.SYNC && syncAckEnabled;
+        CompletableFuture<Void> ack = sync ? new CompletableFuture<>() : null;
+
+        if (!ring.offer(new TradingRow(record, ack))) {
+            spilledRingFull.increment();
+            return spillDirect(record, sync);
+        }
+        return !sync || awaitAck(ack);
+    }
+
+    /**
+     * Queues a security audit event for the AuditEventRepository
+     */
+    public void publish(AuditEvent event) {
+        if (!ring.offer(new SecurityEvent(event))) {
+            auditEventRepository.add(event);
+        }
+    }
+
+    private boolean awaitAck(CompletableFuture<Void> ack) {
+        LockSupport.unpark(writer);
+        try {
+            ack.get(syncAckTimeoutMillis, TimeUnit.MILLISECONDS);
+            return true;
+        } catch (TimeoutException e) {
+            syncAckTimeouts.increment();
+            return false;
+        } catch (ExecutionException e) {
+            log.error("Audit record could not be made durable: {}", e.getCause().getMessage());
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private boolean spillDirect(AuditRecord record, boolean force) {
+        try {
+            spillFile.append(appendCsv(new StringBuilder(256), record), force);
+            return true;
+        } catch (IOException e) {
+            log.error("AUDIT RECORD LOST - ring full and spill failed: action={}, entity={}:{}, error={}",
+                record.action(), record.entityType(), record.entityId(), e.getMessage());
+            return false;
+        }
+    }
+
+    // Writer thread
+
+    private void runWriter() {
+        long idleParkNanos = TimeUnit.MILLISECONDS.toNanos(idleParkMillis);
+        while (running || ring.size() > 0) {
+            int drained = ring.drain(this::stage, maxBatchSize);
+            Optional.of(batch).filter(rows -> !rows.isEmpty()).ifPresent(rows -> flush());
+            if (drained == 0) {
+                replaySpilled();
+                LockSupport.parkNanos(this, idleParkNanos);
+            }
+        }
+    }
+
+    private void stage(Entry entry) {
+        switch (entry) {
+            case TradingRow row -> batch.add(row);
+            case SecurityEvent security -> auditEventRepository.add(security.event());
+        }
+    }
+
+    private void flush() {
+        csv.setLength(0);
+        batch.forEach(row -> appendCsv(csv, row.record()));
+        batchSize.record(batch.size());
+
+        long start = System.nanoTime();
+        if (start - spillUntilNanos < 0) {
+            boolean spilled = spill(csv, batch.size(), spilledDatabaseSlow);
+            batch.forEach(row -> acknowledge(row, spilled));
+        } else {
+            copyToDatabase(start);
+        }
+        batch.clear();
+    }
+
+    private void copyToDatabase(long start) {
+        try {
+            copy(new StringReader(csv.toString()));
+            long elapsed = System.nanoTime() - start;
+            databaseFlush.record(elapsed, TimeUnit.NANOSECONDS);
+            Optional.of(elapsed)
+                .filter(nanos -> nanos > TimeUnit.MILLISECONDS.toNanos(slowFlushMillis))
+                .ifPresent(nanos -> backOff("flush took " + TimeUnit.NANOSECONDS.toMillis(nanos) + "ms"));
+            batch.forEach(row -> acknowledge(row, true));
+        } catch (RuntimeException e) {
+            if (!isDataError(e)) {
+                backOff(e.getMessage());
+                boolean spilled = spill(csv, batch.size(), spilledDatabaseError);
+                batch.forEach(row -> acknowledge(row, spilled));
+                return;
+            }
+            List<String> rows = rows(csv);
+            Isolation isolation = isolate(rows);
+            boolean spilled = spill(String.join("", rows.subList(isolation.unwrittenFrom(), rows.size())),
+                rows.size() - isolation.unwrittenFrom(), spilledDatabaseError);
+            for (int i = 0; i < batch.size(); i++) {
+                boolean written = i < isolation.unwrittenFrom() || spilled;
+                acknowledge(batch.get(i), written && !isolation.quarantined().get(i));
+            }
+        }
+    }
+
+    private boolean spill(CharSequence rows, int count, Counter reason) {
+        if (count == 0) {
+            return true;
+        }
+        long start = System.nanoTime();
+        try {
+            spillFile.append(rows, true);
+            reason.increment(count);
+            spillFlush.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return true;
+        } catch (IOException e) {
+            log.error("AUDIT RECORDS LOST - database and spill file unavailable: rows={}, error={}",
+                count, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Copies rows the database refused as one batch with a data error, halving each refused
+     * chunk until the bad rows are alone, and quarantines those. Chunks are copied left to
+     * right, so when the database fails for any other reason everything from the failed
+     * chunk on is unwritten.
+     */
+    private Isolation isolate(List<String> rows) {
+        BitSet bad = new BitSet(rows.size());
+        Deque<int[]> chunks = new ArrayDeque<>();
+        split(0, rows.size(), chunks);
+        while (!chunks.isEmpty()) {
+            int[] chunk = chunks.pop();
+            try {
+                copy(new StringReader(String.join("", rows.subList(chunk[0], chunk[1]))));
+            } catch (RuntimeException e) {
+                if (!isDataError(e)) {
+                    backOff(e.getMessage());
+                    return new Isolation(bad, chunk[0]);
+                }
+                if (chunk[1] - chunk[0] > 1) {
+                    split(chunk[0], chunk[1], chunks);
+                } else {
+                    quarantine(rows.get(chunk[0]), e);
+                    bad.set(chunk[0]);
+                }
+            }
+        }
+        return new Isolation(bad, rows.size());
+    }
+
+    /**
+     * Pushes the halves of [from, to) so the left half is copied first; a single row is
+     * pushed as is
+     */
+    private static void split(int from, int to, Deque<int[]> chunks) {
+        int middle = from + (to - from) / 2;
+        if (middle == from) {
+            chunks.push(new int[] {from, to});
+            return;
+        }
+        chunks.push(new int[] {middle, to});
+        chunks.push(new int[] {from, middle});
+    }
+
+    private void quarantine(String row, RuntimeException e) {
+        try {
+            spillFile.quarantine(row);
+            quarantined.increment();
+            log.error("Malformed audit row quarantined: {}", e.getMessage());
+        } catch (IOException io) {
+            log.error("AUDIT RECORD LOST - malformed row and quarantine file unavailable: {}", io.getMessage());
+        }
+    }
+
+    /**
+     * Splits COPY csv into rows; a newline ends a row only outside quotes, and escaped
+     * quotes come in pairs, so an even quote count marks the end of a row
+     */
+    private static List<String> rows(CharSequence csv) {
+        List<String> rows = new ArrayList<>();
+        int start = 0;
+        boolean quoted = false;
+        for (int i = 0; i < csv.length(); i++) {
+            char c = csv.charAt(i);
+            if (c == '"') {
+                quoted = !quoted;
+            } else if (c == '\n' && !quoted) {
+                rows.add(csv.subSequence(start, i + 1).toString());
+                start = i + 1;
+            }
+        }
+        if (start < csv.length()) {
+            rows.add(csv.subSequence(start, csv.length()).toString());
+        }
+        return rows;
+    }
+
+    private void backOff(String cause) {
+        spillUntilNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(spillBackoffMillis);
+        log.warn("Audit database write degraded ({}), spilling to disk for {}ms", cause, spillBackoffMillis);
+    }
+
+    /**
+     * Seals the spill file and replays sealed files, oldest first, while the database is healthy
+     */
+    private void replaySpilled() {
+        long now = System.nanoTime();
+        if (now - spillUntilNanos < 0 || now - nextReplayCheckNanos < 0) {
+            return;
+        }
+        nextReplayCheckNanos = now + TimeUnit.SECONDS.toNanos(1);
+        if (spillFile.pendingBytes() <= 0) {
+            return;
+        }
+        try {
+            spillFile.seal();
+            for (Path sealed : spillFile.sealed()) {
+                replay(sealed);
+            }
+        } catch (IOException | RuntimeException e) {
+            backOff("replay failed: " + e.getMessage());
+        }
+    }
+
+    private void replay(Path sealed) throws IOException {
+        try (Reader reader = Files.newBufferedReader(sealed, StandardCharsets.UTF_8)) {
+            long rows = copy(reader);
+            Files.delete(sealed);
+            log.info("Replayed {} spilled audit rows from {}", rows, sealed.getFileName());
+        } catch (RuntimeException e) {
+            if (!isDataError(e)) {
+                throw e;
+            }
+            List<String> rows = rows(Files.readString(sealed, StandardCharsets.UTF_8));
+            Isolation isolation = isolate(rows);
+            // Rows not reached go back to the spill file so the written ones are not replayed twice
+            spillFile.append(String.join("", rows.subList(isolation.unwrittenFrom(), rows.size())), true);
+            Files.delete(sealed);
+            log.warn("Replayed {} spilled audit rows from {}, {} quarantined, {} spilled again",
+                isolation.unwrittenFrom() - isolation.quarantined().cardinality(), sealed.getFileName(),
+                isolation.quarantined().cardinality(), rows.size() - isolation.unwrittenFrom());
+            if (isolation.unwrittenFrom() < rows.size()) {
+                throw new IllegalStateException("replay of " + sealed.getFileName() + " interrupted");
+            }
+        }
+    }
+
+    private long copy(Reader rows) {
+        return Optional.ofNullable(jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            try {
+                return connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_SQL, rows);
+            } catch (IOException e) {
+                throw new SQLException("Audit COPY stream failed", e);
+            }
+        })).orElse(0L);
+    }
+
+    /**
+     * Malformed rows (SQL state class 22 or 23) will never succeed on retry
+     */
+    private boolean isDataError(RuntimeException e) {
+        Throwable cause = e;
+        while (cause != null && !(cause instanceof SQLException)) {
+            cause = cause.getCause();
+        }
+        return Optional.ofNullable(cause)
+            .map(sql -> ((SQLException) sql).getSQLState())
+            .filter(state -> state.startsWith("22") || state.startsWith("23"))
+            .isPresent();
+    }
+
+    private void acknowledge(TradingRow row, boolean written) {
+        Optional.ofNullable(row.ack()).ifPresent(ack -> complete(ack, written));
+    }
+
+    private void complete(CompletableFuture<Void> ack, boolean written) {
+        Optional.of(written)
+            .filter(durable -> durable)
+            .ifPresentOrElse(durable -> ack.complete(null),
+                () -> ack.completeExceptionally(new IOException("audit batch not durable")));
+    }
+
+    // CSV encoding for COPY ... WITH (FORMAT csv): unquoted empty field is NULL
+
+    private StringBuilder appendCsv(StringBuilder out, AuditRecord record) {
+        appendNumber(out, record.userId()).append(',');
+        appendNumber(out, record.orderId()).append(',');
+        appendNumber(out, record.tradeId()).append(',');
+        appendQuoted(out, record.action()).append(',');
+        appendQuoted(out, record.entityType() == null ? null : record.entityType().name()).append(',');
+        appendNumber(out, record.entityId()).append(',');
+        appendQuoted(out, toJson(record.oldValues())).append(',');
+        appendQuoted(out, toJson(record.newValues())).append(',');
+        appendQuoted(out, record.ipAddress()).append(',');
+        appendQuoted(out, record.userAgent()).append(',');
+        appendQuoted(out, record.sessionId()).append(',');
+        appendQuoted(out, record.createdAt() == null ? null : record.createdAt().toString()).append('\n');
+        return out;
+    }
+
+    private static StringBuilder appendNumber(StringBuilder out, Long value) {
+        return value == null ? out : out.append(value.longValue());
+    }
+
+    private static StringBuilder appendQuoted(StringBuilder out, String value) {
+        if (value == null) {
+            return out;
+        }
+        out.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            out.append(c);
+            if (c == '"') {
+                out.append('"');
+            }
+        }
+        return out.append('"');
+    }
+
+    private String toJson(Map<String, Object> values) {
+        if (values == null) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(values);
+        } catch (JsonProcessingException e) {
+            return "{\"serializationError\":\"" + e.getOriginalMessage().replace('"', '\'') + "\"}";
+        }
+    }
+
+    private Timer flushTimer(String target) {
+        return Timer.builder("trading.audit.flush.latency")
+            .description("Time to write one audit batch")
+            .tag("target", target)
+            .publishPercentiles(0.5, 0.99, 0.999)
+            .register(meterRegistry);
+    }
+
+    private Counter spilledCounter(String reason) {
+        return Counter.builder("trading.audit.records.spilled")
+            .description("Audit rows diverted to the spill file")
+            .tag("reason", reason)
+            .register(meterRegistry);
+    }
+
+    private static void joinQuietly(Thread thread) {
+        try {
+            thread.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
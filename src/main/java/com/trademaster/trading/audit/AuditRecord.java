@@ -0,0 +1,74 @@
+package com.trademaster.trading.audit;
+
+import com.trademaster.trading.entity.Order;
+import com.trademaster.trading.entity.TradingAuditLog.EntityType;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Audit Record
+ *
+ * Immutable trading_audit_log row as queued by producers. Old and new values stay as maps
+ * on the hot path and are serialized to JSON by the audit writer thread.
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+public record AuditRecord(
+    Long userId,
+    Long orderId,
+    Long tradeId,
+    String action,
+    EntityType entityType,
+    Long entityId,
+    Map<String, Object> oldValues,
+    Map<String, Object> newValues,
+    String ipAddress,
+    String userAgent,
+    String sessionId,
+    Instant createdAt
+) {
+
+    /**
+     * Audit row for an order change, capturing the order's state after the change
+     *
+     * @param action INSERT, UPDATE or DELETE
+     * @param oldValues state before the change, or null for inserts
+     */
+    public static AuditRecord orderChange(Order order, String action, Map<String, Object> oldValues) {
+        return new AuditRecord(order.getUserId(), order.getId(), null, action, EntityType.ORDER,
+            order.getId(), oldValues, orderState(order), null, null, null, Instant.now());
+    }
+
+    /**
+     * The same change recorded as not having happened because its transaction did not
+     * commit, e.g. UPDATE_ROLLED_BACK
+     */
+    public AuditRecord rolledBack() {
+        return new AuditRecord(userId, orderId, tradeId, action + "_ROLLED_BACK", entityType, entityId,
+            oldValues, newValues, ipAddress, userAgent, sessionId, Instant.now());
+    }
+
+    /**
+     * Audited order fields, omitting unset ones
+     */
+    public static Map<String, Object> orderState(Order order) {
+        Map<String, Object> state = new LinkedHashMap<>();
+        state.put("orderId", order.getOrderId());
+        state.put("symbol", order.getSymbol());
+        state.put("side", order.getSide());
+        state.put("orderType", order.getOrderType());
+        state.put("quantity", order.getQuantity());
+        state.put("limitPrice", order.getLimitPrice());
+        state.put("stopPrice", order.getStopPrice());
+        state.put("status", order.getStatus());
+        state.put("filledQuantity", order.getFilledQuantity());
+        state.put("avgFillPrice", order.getAvgFillPrice());
+        state.put("brokerOrderId", order.getBrokerOrderId());
+        state.put("rejectionReason", order.getRejectionReason());
+        state.values().removeIf(value -> value == null);
+        return state;
+    }
+}
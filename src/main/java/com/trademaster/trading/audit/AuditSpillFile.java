@@ -0,0 +1,132 @@
+package com.trademaster.trading.audit;
+
+import java.io.IOException;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Audit Spill File
+ *
+ * Append-only overflow for audit rows that could not go to the database in time: the ring
+ * buffer was full, or the database was slow or down. Rows are stored in the same CSV form
+ * the writer streams to COPY, so a sealed spill file is replayed as-is.
+ *
+ * Layout:
+ * - audit-spill.active.csv: current append target
+ * - audit-spill-&lt;epochMillis&gt;.csv: sealed files waiting for replay, oldest first
+ * - audit-quarantine.csv.rejected: rows the database refused as malformed, kept for
+ *   inspection and never replayed
+ *
+ * Thread-safe: producers append directly when the ring is full, the writer thread appends
+ * and seals.
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+final class AuditSpillFile {
+
+    private static final String ACTIVE_NAME = "audit-spill.active.csv";
+    private static final String SEALED_PREFIX = "audit-spill-";
+    private static final String SEALED_SUFFIX = ".csv";
+    private static final String QUARANTINE_NAME = "audit-quarantine.csv.rejected";
+
+    private final Path directory;
+    private final Path activePath;
+    private FileChannel active;
+
+    AuditSpillFile(Path directory) throws IOException {
+        this.directory = Files.createDirectories(directory);
+        this.activePath = directory.resolve(ACTIVE_NAME);
+    }
+
+    /**
+     * Appends rows, forcing them to the device when requested
+     */
+    synchronized void append(CharSequence rows, boolean force) throws IOException {
+        if (active == null) {
+            active = FileChannel.open(activePath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+        }
+        var bytes = StandardCharsets.UTF_8.encode(CharBuffer.wrap(rows));
+        while (bytes.hasRemaining()) {
+            active.write(bytes);
+        }
+        if (force) {
+            active.force(false);
+        }
+    }
+
+    /**
+     * Closes the active file, if it holds rows, and moves it into the replay queue
+     */
+    synchronized void seal() throws IOException {
+        Optional.ofNullable(active).ifPresent(this::closeQuietly);
+        active = null;
+        if (Files.exists(activePath) && Files.size(activePath) > 0) {
+            Path sealed = directory.resolve(SEALED_PREFIX + System.currentTimeMillis() + SEALED_SUFFIX);
+            Files.move(activePath, sealed, StandardCopyOption.ATOMIC_MOVE);
+        }
+    }
+
+    /**
+     * Sealed files, oldest first
+     */
+    List<Path> sealed() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                .filter(path -> path.getFileName().toString().startsWith(SEALED_PREFIX))
+                .filter(path -> path.getFileName().toString().endsWith(SEALED_SUFFIX))
+                .sorted()
+                .toList();
+        }
+    }
+
+    /**
+     * Bytes waiting for replay, active and sealed
+     */
+    long pendingBytes() {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                .filter(path -> path.getFileName().toString().endsWith(SEALED_SUFFIX))
+                .mapToLong(path -> path.toFile().length())
+                .sum();
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Sets aside a row the database refused, so it does not block the rows around it
+     */
+    synchronized void quarantine(CharSequence row) throws IOException {
+        try (FileChannel quarantine = FileChannel.open(directory.resolve(QUARANTINE_NAME),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            var bytes = StandardCharsets.UTF_8.encode(CharBuffer.wrap(row));
+            while (bytes.hasRemaining()) {
+                quarantine.write(bytes);
+            }
+            quarantine.force(false);
+        }
+    }
+
+    synchronized void close() {
+        Optional.ofNullable(active).ifPresent(this::closeQuietly);
+        active = null;
+    }
+
+    private void closeQuietly(FileChannel channel) {
+        try {
+            channel.close();
+        } catch (IOException ignored) {
+            // Rows already written stay on disk
+        }
+    }
+}
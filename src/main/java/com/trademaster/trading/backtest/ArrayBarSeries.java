@@ -0,0 +1,106 @@
+package com.trademaster.trading.backtest;
+
+import com.trademaster.trading.dto.MarketAnalysis;
+
+import java.util.List;
+
+/**
+ * Array Bar Series
+ *
+ * Heap-backed BarSeries, e.g. converted once from the OHLCVData lists the analysis agents
+ * use. The arrays are taken as given (not copied).
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+public final class ArrayBarSeries implements BarSeries {
+
+    private final String symbol;
+    private final long[] timestamps;
+    private final double[] open;
+    private final double[] high;
+    private final double[] low;
+    private final double[] close;
+    private final long[] volume;
+
+    public ArrayBarSeries(String symbol, long[] timestamps, double[] open, double[] high, double[] low,
+                          double[] close, long[] volume) {
+        int size = timestamps.length;
+        if (open.length != size || high.length != size || low.length != size || close.length != size
+                || volume.length != size) {
+            throw new IllegalArgumentException("Columns of " + symbol + " differ in length");
+        }
+        for (int index = 1; index < size; index++) {
+            if (timestamps[index] < timestamps[index - 1]) {
+                throw new IllegalArgumentException("Bars of " + symbol + " are not in time order at " + index);
+            }
+        }
+        this.symbol = symbol;
+        this.timestamps = timestamps;
+        this.open = open;
+        this.high = high;
+        this.low = low;
+        this.close = close;
+        this.volume = volume;
+    }
+
+    public static ArrayBarSeries fromOhlcv(String symbol, List<MarketAnalysis.OHLCVData> bars) {
+        int size = bars.size();
+        long[] timestamps = new long[size];
+        double[] open = new double[size];
+        double[] high = new double[size];
+        double[] low = new double[size];
+        double[] close = new double[size];
+        long[] volume = new long[size];
+        for (int index = 0; index < size; index++) {
+            MarketAnalysis.OHLCVData bar = bars.get(index);
+            timestamps[index] = bar.timestamp().toEpochMilli();
+            open[index] = bar.open().doubleValue();
+            high[index] = bar.high().doubleValue();
+            low[index] = bar.low().doubleValue();
+            close[index] = bar.close().doubleValue();
+            volume[index] = bar.volume() != null ? bar.volume() : 0L;
+        }
+        return new ArrayBarSeries(symbol, timestamps, open, high, low, close, volume);
+    }
+
+    @Override
+    public String symbol() {
+        return symbol;
+    }
+
+    @Override
+    public int size() {
+        return timestamps.length;
+    }
+
+    @Override
+    public long timestamp(int index) {
+        return timestamps[index];
+    }
+
+    @Override
+    public double open(int index) {
+        return open[index];
+    }
+
+    @Override
+    public double high(int index) {
+        return high[index];
+    }
+
+    @Override
+    public double low(int index) {
+        return low[index];
+    }
+
+    @Override
+    public double close(int index) {
+        return close[index];
+    }
+
+    @Override
+    public long volume(int index) {
+        return volume[index];
+    }
+}
@@ -0,0 +1,333 @@
+package com.trademaster.trading.backtest;
+
+import com.trademaster.trading.model.OrderSide;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Backtest Context
+ *
+ * State of one run and the view a SignalStrategy gets of it: bars, positions, cash,
+ * equity and working orders. Also the run's ledger: fills update cash, positions and
+ * open trades; market value is kept incrementally (position * change in close), so
+ * equity() is O(1) however many symbols are replayed.
+ *
+ * Single-threaded: a context belongs to the thread running its backtest.
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+public final class BacktestContext implements SimulatedOrder.FillSink {
+
+    private final List<BarSeries> series;
+    private final Map<String, Integer> symbols;
+    private final FillModel fillModel;
+    private final ZoneId zone;
+    private final double initialCapital;
+
+    private final long[] positions;
+    private final double[] averageCosts;
+    private final double[] lastCloses;
+    private final List<List<SimulatedOrder>> workingOrders;
+    private final int[] currentIndex;
+
+    // Open trade per symbol, closed into a ClosedTrade when the position returns to flat
+    private final long[] openedAt;
+    private final double[] openCommission;
+    private final double[] openSlippage;
+    private final long[] exitQuantity;
+    private final double[] exitNotional;
+    private final double[] realized;
+
+    private final List<ClosedTrade> trades = new ArrayList<>();
+    private final List<LocalDate> days = new ArrayList<>();
+    private double[] equityByDay = new double[64];
+
+    private double cash;
+    private double marketValue;
+    private double commissions;
+    private double slippageCost;
+    private long nextOrderId = 1L;
+    private long now = Long.MIN_VALUE;
+    private LocalDate currentDay;
+    private long nextDayStart = Long.MIN_VALUE;
+
+    BacktestContext(BacktestSpec spec, ZoneId zone) {
+        this.series = spec.series();
+        this.fillModel = spec.fillModel();
+        this.zone = zone;
+        this.initialCapital = spec.initialCapital();
+        this.cash = spec.initialCapital();
+        int count = series.size();
+        this.symbols = new HashMap<>(count * 2);
+        for (int symbol = 0; symbol < count; symbol++) {
+            symbols.put(series.get(symbol).symbol(), symbol);
+        }
+        this.positions = new long[count];
+        this.averageCosts = new double[count];
+        this.lastCloses = new double[count];
+        Arrays.fill(lastCloses, Double.NaN);
+        this.workingOrders = new ArrayList<>(count);
+        for (int symbol = 0; symbol < count; symbol++) {
+            workingOrders.add(new ArrayList<>(2));
+        }
+        this.currentIndex = new int[count];
+        Arrays.fill(currentIndex, -1);
+        this.openedAt = new long[count];
+        this.openCommission = new double[count];
+        this.openSlippage = new double[count];
+        this.exitQuantity = new long[count];
+        this.exitNotional = new double[count];
+        this.realized = new double[count];
+    }
+
+    // ========== Strategy view ==========
+
+    public int symbolCount() {
+        return series.size();
+    }
+
+    /**
+     * Index of the symbol, -1 when it is not replayed
+     */
+    public int symbolIndex(String symbol) {
+        return symbols.getOrDefault(symbol, -1);
+    }
+
+    public BarSeries series(int symbol) {
+        return series.get(symbol);
+    }
+
+    /**
+     * Timestamp of the bar being replayed, epoch milliseconds
+     */
+    public long now() {
+        return now;
+    }
+
+    public Instant instant() {
+        return Instant.ofEpochMilli(now);
+    }
+
+    public long position(int symbol) {
+        return positions[symbol];
+    }
+
+    public double averageCost(int symbol) {
+        return averageCosts[symbol];
+    }
+
+    public double cash() {
+        return cash;
+    }
+
+    public double equity() {
+        return cash + marketValue;
+    }
+
+    public FillModel fillModel() {
+        return fillModel;
+    }
+
+    /**
+     * Queues the order; it starts working on the symbol's next bar
+     *
+     * @return the order id
+     */
+    public long submit(SimulatedOrder order) {
+        order.accept(nextOrderId++, currentIndex[order.symbol()] + 1);
+        workingOrders.get(order.symbol()).add(order);
+        return order.id();
+    }
+
+    public boolean cancel(long orderId) {
+        for (List<SimulatedOrder> orders : workingOrders) {
+            for (SimulatedOrder order : orders) {
+                if (order.id() == orderId && order.isActive()) {
+                    order.cancel();
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    public void cancelAll(int symbol) {
+        workingOrders.get(symbol).forEach(SimulatedOrder::cancel);
+    }
+
+    public boolean hasWorkingOrders(int symbol) {
+        for (SimulatedOrder order : workingOrders.get(symbol)) {
+            if (order.isActive()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // ========== Replay ==========
+
+    /**
+     * Moves the clock to the next event, closing the previous trading day if it ended
+     */
+    void advance(long timestamp) {
+        if (timestamp >= nextDayStart) {
+            closeDay();
+            currentDay = Instant.ofEpochMilli(timestamp).atZone(zone).toLocalDate();
+            nextDayStart = currentDay.plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli();
+        }
+        now = timestamp;
+    }
+
+    /**
+     * Works the symbol's orders against the bar, then marks its position to the close
+     */
+    void onBar(int symbol, int index) {
+        currentIndex[symbol] = index;
+        BarSeries bars = series.get(symbol);
+        List<SimulatedOrder> orders = workingOrders.get(symbol);
+        if (!orders.isEmpty()) {
+            for (int position = 0; position < orders.size(); position++) {
+                orders.get(position).onBar(bars, index, fillModel, this);
+            }
+            orders.removeIf(order -> !order.isActive());
+        }
+        mark(symbol, bars.close(index));
+    }
+
+    /**
+     * Cancels everything, closes open positions at the last close and records the last day
+     */
+    void finish() {
+        for (int symbol = 0; symbol < positions.length; symbol++) {
+            cancelAll(symbol);
+            workingOrders.get(symbol).clear();
+            long position = positions[symbol];
+            if (position != 0 && !Double.isNaN(lastCloses[symbol])) {
+                OrderSide side = position > 0 ? OrderSide.SELL : OrderSide.BUY;
+                apply(symbol, side, Math.abs(position), fillModel.slip(side, lastCloses[symbol]),
+                    lastCloses[symbol], SimulatedOrder.TIMEOUT);
+            }
+        }
+        closeDay();
+    }
+
+    BacktestRun toRun(BacktestSpec spec, long events, long elapsedNanos) {
+        return new BacktestRun(
+            spec.strategyId(),
+            spec.strategyName(),
+            initialCapital,
+            fillModel,
+            List.copyOf(days),
+            Arrays.copyOf(equityByDay, days.size()),
+            List.copyOf(trades),
+            events,
+            nextOrderId - 1,
+            commissions,
+            slippageCost,
+            elapsedNanos
+        );
+    }
+
+    @Override
+    public void fill(SimulatedOrder order, OrderSide side, long quantity, double price, double reference,
+                     String reason) {
+        apply(order.symbol(), side, quantity, price, reference, reason);
+    }
+
+    private void apply(int symbol, OrderSide side, long quantity, double price, double reference, String reason) {
+        long signed = side == OrderSide.BUY ? quantity : -quantity;
+        double commission = fillModel.commission(price * quantity);
+        double slippage = Math.abs(price - reference) * quantity;
+        cash -= signed * price + commission;
+        commissions += commission;
+        slippageCost += slippage;
+        if (Double.isNaN(lastCloses[symbol])) {
+            lastCloses[symbol] = price;
+        }
+        marketValue += signed * lastCloses[symbol];
+
+        long before = positions[symbol];
+        if (before == 0 || Long.signum(before) == Long.signum(signed)) {
+            open(symbol, before, signed, price, commission, slippage);
+            return;
+        }
+        long closing = Math.min(Math.abs(before), quantity);
+        double share = (double) closing / quantity;
+        openCommission[symbol] += commission * share;
+        openSlippage[symbol] += slippage * share;
+        exitQuantity[symbol] += closing;
+        exitNotional[symbol] += closing * price;
+        realized[symbol] += closing * (price - averageCosts[symbol]) * Long.signum(before);
+        positions[symbol] = before + Long.signum(signed) * closing;
+        if (positions[symbol] == 0) {
+            closeTrade(symbol, before > 0 ? OrderSide.BUY : OrderSide.SELL, reason);
+            long remainder = quantity - closing;
+            if (remainder > 0) {
+                open(symbol, 0, Long.signum(signed) * remainder, price, commission * (1.0 - share),
+                    slippage * (1.0 - share));
+            }
+        }
+    }
+
+    private void open(int symbol, long before, long signed, double price, double commission, double slippage) {
+        if (before == 0) {
+            openedAt[symbol] = now;
+            openCommission[symbol] = 0.0;
+            openSlippage[symbol] = 0.0;
+            exitQuantity[symbol] = 0L;
+            exitNotional[symbol] = 0.0;
+            realized[symbol] = 0.0;
+            averageCosts[symbol] = 0.0;
+        }
+        long after = before + signed;
+        averageCosts[symbol] = (averageCosts[symbol] * Math.abs(before) + price * Math.abs(signed)) / Math.abs(after);
+        openCommission[symbol] += commission;
+        openSlippage[symbol] += slippage;
+        positions[symbol] = after;
+    }
+
+    private void closeTrade(int symbol, OrderSide direction, String reason) {
+        long quantity = exitQuantity[symbol];
+        trades.add(new ClosedTrade(
+            series.get(symbol).symbol(),
+            direction,
+            quantity,
+            openedAt[symbol],
+            now,
+            averageCosts[symbol],
+            exitNotional[symbol] / quantity,
+            realized[symbol],
+            openCommission[symbol],
+            openSlippage[symbol],
+            reason
+        ));
+    }
+
+    private void mark(int symbol, double close) {
+        double previous = lastCloses[symbol];
+        if (!Double.isNaN(previous)) {
+            marketValue += positions[symbol] * (close - previous);
+        }
+        lastCloses[symbol] = close;
+    }
+
+    private void closeDay() {
+        if (currentDay == null) {
+            return;
+        }
+        if (days.size() == equityByDay.length) {
+            equityByDay = Arrays.copyOf(equityByDay, equityByDay.length * 2);
+        }
+        equityByDay[days.size()] = equity();
+        days.add(currentDay);
+        currentDay = null;
+    }
+}
@@ -0,0 +1,118 @@
+package com.trademaster.trading.backtest;
+
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * Backtest Engine
+ *
+ * Deterministic event replay: the bars of every series in the spec's range are merged
+ * into one time-ordered stream (a binary heap of per-symbol cursors, ties broken by
+ * symbol index) and replayed on the calling thread. For each bar the symbol's working
+ * orders fill against it first, its position is marked to the close, then the strategy
+ * sees the bar. Positions still open at the end are closed at the last close.
+ *
+ * The engine holds no run state, so one instance serves concurrent runs on different
+ * threads; each run is single-threaded and gives the same result every time.
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+public final class BacktestEngine {
+
+    private final ZoneId zone;
+
+    /**
+     * @param zone time zone whose calendar days close the daily equity curve
+     */
+    public BacktestEngine(ZoneId zone) {
+        this.zone = zone;
+    }
+
+    public ZoneId zone() {
+        return zone;
+    }
+
+    public BacktestRun run(BacktestSpec spec, SignalStrategy strategy) {
+        long started = System.nanoTime();
+        List<BarSeries> series = spec.series();
+        int count = series.size();
+        BacktestContext context = new BacktestContext(spec, zone);
+
+        int[] cursor = new int[count];
+        int[] end = new int[count];
+        long[] keys = new long[count];
+        int[] heap = new int[count];
+        int heapSize = 0;
+        for (int symbol = 0; symbol < count; symbol++) {
+            BarSeries bars = series.get(symbol);
+            cursor[symbol] = bars.indexAtOrAfter(spec.startMillis());
+            end[symbol] = bars.indexAtOrAfter(spec.endMillis());
+            if (cursor[symbol] < end[symbol]) {
+                keys[symbol] = bars.timestamp(cursor[symbol]);
+                heap[heapSize] = symbol;
+                siftUp(heap, keys, heapSize++);
+            }
+        }
+
+        strategy.onStart(context);
+        long events = 0;
+        while (heapSize > 0) {
+            int symbol = heap[0];
+            int index = cursor[symbol];
+            context.advance(keys[symbol]);
+            context.onBar(symbol, index);
+            strategy.onBar(context, symbol, index);
+            events++;
+
+            if (++cursor[symbol] < end[symbol]) {
+                keys[symbol] = series.get(symbol).timestamp(cursor[symbol]);
+            } else {
+                heap[0] = heap[--heapSize];
+            }
+            siftDown(heap, keys, heapSize);
+        }
+        context.finish();
+        return context.toRun(spec, events, System.nanoTime() - started);
+    }
+
+    private static boolean before(long[] keys, int left, int right) {
+        return keys[left] < keys[right] || (keys[left] == keys[right] && left < right);
+    }
+
+    private static void siftUp(int[] heap, long[] keys, int position) {
+        int symbol = heap[position];
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            if (!before(keys, symbol, heap[parent])) {
+                break;
+            }
+            heap[position] = heap[parent];
+            position = parent;
+        }
+        heap[position] = symbol;
+    }
+
+    private static void siftDown(int[] heap, long[] keys, int size) {
+        if (size == 0) {
+            return;
+        }
+        int symbol = heap[0];
+        int position = 0;
+        while (true) {
+            int child = 2 * position + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && before(keys, heap[child + 1], heap[child])) {
+                child++;
+            }
+            if (!before(keys, heap[child], symbol)) {
+                break;
+            }
+            heap[position] = heap[child];
+            position = child;
+        }
+        heap[position] = symbol;
+    }
+}
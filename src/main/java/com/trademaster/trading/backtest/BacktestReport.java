@@ -0,0 +1,302 @@
+package com.trademaster.trading.backtest;
+
+import com.trademaster.trading.dto.BacktestResult;
+import com.trademaster.trading.model.OrderSide;
+import com.trademaster.trading.risk.ReturnRiskKernel;
+import com.trademaster.trading.risk.ReturnRiskProfile;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Backtest Report
+ *
+ * Builds the BacktestResult DTO from a BacktestRun. Return statistics come from
+ * ReturnRiskKernel over the daily equity returns, with the conventions of
+ * PortfolioAnalyticsAgent: 252 trading days, 5% annual risk-free rate, percentages for
+ * returns and ratios as plain numbers. Benchmark-relative fields stay empty, a run has no
+ * benchmark.
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+public final class BacktestReport {
+
+    static final double TRADING_DAYS_PER_YEAR = 252.0;
+    static final double RISK_FREE_RATE = 0.05;
+    private static final double DAY_MILLIS = 86_400_000.0;
+    private static final String VERSION = "1.0.0";
+
+    private BacktestReport() {
+    }
+
+    public static BacktestResult toResult(String backtestId, BacktestRun run, ZoneId zone) {
+        double[] returns = run.dailyReturns();
+        ReturnRiskProfile profile = profile(returns);
+        List<ClosedTrade> trades = run.trades();
+
+        return BacktestResult.builder()
+            .backtestId(backtestId)
+            .strategyId(run.strategyId())
+            .strategyName(run.strategyName())
+            .startDate(run.days().isEmpty() ? null : run.days().get(0))
+            .endDate(run.days().isEmpty() ? null : run.days().get(run.days().size() - 1))
+            .completedAt(Instant.now())
+            .executionTimeMs(run.elapsedNanos() / 1_000_000L)
+            .backtestVersion(VERSION)
+            .config(BacktestResult.BacktestConfig.builder()
+                .initialCapital(amount(run.initialCapital()))
+                .commissionRate(BigDecimal.valueOf(run.fillModel().commissionRate()))
+                .slippageModel(BigDecimal.valueOf(run.fillModel().slippageBps()))
+                .totalDataPoints((int) Math.min(Integer.MAX_VALUE, run.events()))
+                .dataSource("BAR_SERIES")
+                .adjustForDividends(false)
+                .adjustForSplits(false)
+                .build())
+            .performance(performance(run, returns, profile))
+            .tradingStats(tradingStatistics(run, trades))
+            .monthlyReturns(periods(run, returns, trades, zone, day -> YearMonth.from(day).toString()))
+            .yearlyReturns(periods(run, returns, trades, zone, day -> String.valueOf(day.getYear())))
+            .trades(tradeRecords(trades, zone))
+            .statistics(statistics(returns, profile))
+            .build();
+    }
+
+    static ReturnRiskProfile profile(double[] returns) {
+        return ReturnRiskKernel.analyze(returns, null, RISK_FREE_RATE / TRADING_DAYS_PER_YEAR, 0.95, 0.99);
+    }
+
+    /**
+     * Annualized Sharpe ratio of daily returns, 0 without volatility
+     */
+    static double sharpe(ReturnRiskProfile profile) {
+        double volatility = profile.standardDeviation() * Math.sqrt(TRADING_DAYS_PER_YEAR);
+        return volatility > 0.0 ? (profile.mean() * TRADING_DAYS_PER_YEAR - RISK_FREE_RATE) / volatility : 0.0;
+    }
+
+    private static BacktestResult.PerformanceSummary performance(BacktestRun run, double[] returns,
+                                                                 ReturnRiskProfile profile) {
+        double annualReturn = profile.mean() * TRADING_DAYS_PER_YEAR;
+        double volatility = profile.standardDeviation() * Math.sqrt(TRADING_DAYS_PER_YEAR);
+        double downside = profile.downsideDeviation() * Math.sqrt(TRADING_DAYS_PER_YEAR);
+        double growth = run.finalEquity() / run.initialCapital();
+        double cagr = returns.length > 0 && growth > 0.0
+            ? Math.pow(growth, TRADING_DAYS_PER_YEAR / returns.length) - 1.0 : 0.0;
+        int[] drawdown = maxDrawdownDays(run.initialCapital(), run.equity());
+
+        double worst = 0.0;
+        double best = 0.0;
+        for (double value : returns) {
+            worst = Math.min(worst, value);
+            best = Math.max(best, value);
+        }
+
+        return BacktestResult.PerformanceSummary.builder()
+            .totalReturn(percent(run.totalReturn()))
+            .annualizedReturn(percent(annualReturn))
+            .compoundAnnualGrowthRate(percent(cagr))
+            .volatility(percent(volatility))
+            .sharpeRatio(ratio(sharpe(profile)))
+            .sortinoRatio(ratio(downside > 0.0 ? (annualReturn - RISK_FREE_RATE) / downside : 0.0))
+            .calmarRatio(ratio(profile.maxDrawdown() > 0.0 ? cagr / profile.maxDrawdown() : 0.0))
+            .maxDrawdown(percent(profile.maxDrawdown()))
+            .maxDrawdownStart(drawdown[0] >= 0 ? run.days().get(drawdown[0]) : null)
+            .maxDrawdownEnd(drawdown[1] >= 0 ? run.days().get(drawdown[1]) : null)
+            .maxDrawdownDays(drawdown[0] >= 0 ? drawdown[1] - drawdown[0] : 0)
+            .dailyVaR95(percent(returns.length > 0 ? Math.abs(profile.valueAtRisk(0.95)) : 0.0))
+            .dailyVaR99(percent(returns.length > 0 ? Math.abs(profile.valueAtRisk(0.99)) : 0.0))
+            .expectedShortfall(percent(returns.length > 0 ? Math.abs(profile.expectedShortfall(0.95)) : 0.0))
+            .maxDailyLoss(percent(worst))
+            .maxDailyGain(percent(best))
+            .build();
+    }
+
+    /**
+     * Day indexes of the peak and trough of the deepest drawdown, -1 when there is none
+     */
+    private static int[] maxDrawdownDays(double initialCapital, double[] equity) {
+        double peak = initialCapital;
+        int peakDay = -1;
+        double deepest = 0.0;
+        int[] days = {-1, -1};
+        for (int day = 0; day < equity.length; day++) {
+            if (equity[day] > peak) {
+                peak = equity[day];
+                peakDay = day;
+            }
+            double drawdown = (peak - equity[day]) / peak;
+            if (drawdown > deepest) {
+                deepest = drawdown;
+                days[0] = Math.max(peakDay, 0);
+                days[1] = day;
+            }
+        }
+        return days;
+    }
+
+    private static BacktestResult.TradingStatistics tradingStatistics(BacktestRun run, List<ClosedTrade> trades) {
+        int wins = 0;
+        int losses = 0;
+        int longs = 0;
+        double winReturns = 0.0;
+        double lossReturns = 0.0;
+        double grossProfit = 0.0;
+        double grossLoss = 0.0;
+        double largestWin = 0.0;
+        double largestLoss = 0.0;
+        double holdingDays = 0.0;
+        double longest = 0.0;
+        double shortest = trades.isEmpty() ? 0.0 : Double.MAX_VALUE;
+        int streak = 0;
+        int maxWins = 0;
+        int maxLosses = 0;
+
+        for (ClosedTrade trade : trades) {
+            double net = trade.netPnl();
+            double netReturn = trade.netReturn();
+            longs += trade.direction() == OrderSide.BUY ? 1 : 0;
+            if (net > 0.0) {
+                wins++;
+                winReturns += netReturn;
+                grossProfit += net;
+                largestWin = Math.max(largestWin, netReturn);
+                streak = Math.max(streak, 0) + 1;
+                maxWins = Math.max(maxWins, streak);
+            } else if (net < 0.0) {
+                losses++;
+                lossReturns += netReturn;
+                grossLoss -= net;
+                largestLoss = Math.min(largestLoss, netReturn);
+                streak = Math.min(streak, 0) - 1;
+                maxLosses = Math.max(maxLosses, -streak);
+            }
+            double held = (trade.exitMillis() - trade.entryMillis()) / DAY_MILLIS;
+            holdingDays += held;
+            longest = Math.max(longest, held);
+            shortest = Math.min(shortest, held);
+        }
+
+        double averageWin = wins > 0 ? winReturns / wins : 0.0;
+        double averageLoss = losses > 0 ? lossReturns / losses : 0.0;
+        double months = run.days().size() / (TRADING_DAYS_PER_YEAR / 12.0);
+        return BacktestResult.TradingStatistics.builder()
+            .totalTrades(trades.size())
+            .longTrades(longs)
+            .shortTrades(trades.size() - longs)
+            .winningTrades(wins)
+            .losingTrades(losses)
+            .winRate(percent(trades.isEmpty() ? 0.0 : (double) wins / trades.size()))
+            .averageWin(percent(averageWin))
+            .averageLoss(percent(averageLoss))
+            .largestWin(percent(largestWin))
+            .largestLoss(percent(largestLoss))
+            .profitFactor(ratio(grossLoss > 0.0 ? grossProfit / grossLoss : 0.0))
+            .payoffRatio(ratio(averageLoss < 0.0 ? averageWin / -averageLoss : 0.0))
+            .averageHoldingPeriod(ratio(trades.isEmpty() ? 0.0 : holdingDays / trades.size()))
+            .longestTrade(ratio(longest))
+            .shortestTrade(ratio(shortest))
+            .maxConsecutiveWins(maxWins)
+            .maxConsecutiveLosses(maxLosses)
+            .tradesPerMonth(ratio(months > 0.0 ? trades.size() / months : 0.0))
+            .totalCommissions(amount(run.commissions()))
+            .totalSlippageCost(amount(run.slippageCost()))
+            .netProfitAfterCosts(amount(run.finalEquity() - run.initialCapital()))
+            .build();
+    }
+
+    private static List<BacktestResult.PerformancePeriod> periods(BacktestRun run, double[] returns,
+                                                                  List<ClosedTrade> trades, ZoneId zone,
+                                                                  Function<LocalDate, String> period) {
+        Map<String, Integer> tradesByPeriod = new LinkedHashMap<>();
+        trades.forEach(trade -> tradesByPeriod.merge(
+            period.apply(Instant.ofEpochMilli(trade.exitMillis()).atZone(zone).toLocalDate()), 1, Integer::sum));
+
+        List<BacktestResult.PerformancePeriod> periods = new ArrayList<>();
+        int first = 0;
+        for (int day = 1; day <= returns.length; day++) {
+            if (day < returns.length && period.apply(run.days().get(day)).equals(period.apply(run.days().get(first)))) {
+                continue;
+            }
+            double[] slice = Arrays.copyOfRange(returns, first, day);
+            ReturnRiskProfile profile = profile(slice);
+            String name = period.apply(run.days().get(first));
+            periods.add(BacktestResult.PerformancePeriod.builder()
+                .period(name)
+                .strategyReturn(percent(profile.cumulativeReturn()))
+                .numberOfTrades(tradesByPeriod.getOrDefault(name, 0))
+                .volatility(percent(profile.standardDeviation() * Math.sqrt(TRADING_DAYS_PER_YEAR)))
+                .maxDrawdown(percent(profile.maxDrawdown()))
+                .sharpeRatio(ratio(sharpe(profile)))
+                .build());
+            first = day;
+        }
+        return periods;
+    }
+
+    private static List<BacktestResult.TradeRecord> tradeRecords(List<ClosedTrade> trades, ZoneId zone) {
+        List<BacktestResult.TradeRecord> records = new ArrayList<>(trades.size());
+        for (int index = 0; index < trades.size(); index++) {
+            ClosedTrade trade = trades.get(index);
+            double notional = trade.entryPrice() * trade.quantity();
+            records.add(BacktestResult.TradeRecord.builder()
+                .tradeId(trade.symbol() + "-" + (index + 1))
+                .entryDate(Instant.ofEpochMilli(trade.entryMillis()).atZone(zone).toLocalDate())
+                .exitDate(Instant.ofEpochMilli(trade.exitMillis()).atZone(zone).toLocalDate())
+                .direction(trade.direction() == OrderSide.BUY ? "LONG" : "SHORT")
+                .entryPrice(amount(trade.entryPrice()))
+                .exitPrice(amount(trade.exitPrice()))
+                .quantity((int) Math.min(Integer.MAX_VALUE, trade.quantity()))
+                .grossReturn(percent(notional > 0.0 ? trade.grossPnl() / notional : 0.0))
+                .netReturn(percent(trade.netReturn()))
+                .commission(amount(trade.commission()))
+                .slippage(amount(trade.slippage()))
+                .holdingPeriod((int) ((trade.exitMillis() - trade.entryMillis()) / (long) DAY_MILLIS))
+                .exitReason(trade.exitReason())
+                .build());
+        }
+        return records;
+    }
+
+    private static BacktestResult.StatisticalAnalysis statistics(double[] returns, ReturnRiskProfile profile) {
+        int n = returns.length;
+        double standardError = n > 1 ? profile.standardDeviation() / Math.sqrt(n) : 0.0;
+        double tStatistic = standardError > 0.0 ? profile.mean() / standardError : 0.0;
+        double[] sorted = returns.clone();
+        Arrays.sort(sorted);
+        double median = n == 0 ? 0.0 : n % 2 == 1 ? sorted[n / 2] : (sorted[n / 2 - 1] + sorted[n / 2]) / 2.0;
+        return BacktestResult.StatisticalAnalysis.builder()
+            .tStatistic(ratio(tStatistic))
+            .statisticallySignificant(Math.abs(tStatistic) > 1.96)
+            .degreesOfFreedom(Math.max(0, n - 1))
+            .confidenceInterval(percent(1.96 * standardError))
+            .meanReturn(percent(profile.mean()))
+            .medianReturn(percent(median))
+            .standardDeviation(percent(profile.standardDeviation()))
+            .variance(BigDecimal.valueOf(profile.standardDeviation() * profile.standardDeviation())
+                .setScale(8, RoundingMode.HALF_UP))
+            .totalObservations(n)
+            .build();
+    }
+
+    static BigDecimal percent(double fraction) {
+        return BigDecimal.valueOf(fraction * 100.0).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    static BigDecimal ratio(double value) {
+        return BigDecimal.valueOf(value).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    static BigDecimal amount(double value) {
+        return BigDecimal.valueOf(value).setScale(2, RoundingMode.HALF_UP);
+    }
+}
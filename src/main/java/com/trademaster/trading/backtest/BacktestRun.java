@@ -0,0 +1,57 @@
+package com.trademaster.trading.backtest;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Backtest Run
+ *
+ * Raw outcome of one replay: end-of-day equity for every day that had bars, the closed
+ * trades and the cost totals. BacktestReport turns it into the BacktestResult DTO.
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+public record BacktestRun(
+    String strategyId,
+    String strategyName,
+    double initialCapital,
+    FillModel fillModel,
+    List<LocalDate> days,
+    double[] equity,
+    List<ClosedTrade> trades,
+    long events,
+    long orders,
+    double commissions,
+    double slippageCost,
+    long elapsedNanos
+) {
+
+    public double finalEquity() {
+        return equity.length > 0 ? equity[equity.length - 1] : initialCapital;
+    }
+
+    /**
+     * Total return as a fraction of the initial capital
+     */
+    public double totalReturn() {
+        return finalEquity() / initialCapital - 1.0;
+    }
+
+    /**
+     * Daily returns, the first against the initial capital
+     */
+    public double[] dailyReturns() {
+        double[] returns = new double[equity.length];
+        double previous = initialCapital;
+        for (int day = 0; day < equity.length; day++) {
+            returns[day] = previous != 0.0 ? equity[day] / previous - 1.0 : 0.0;
+            previous = equity[day];
+        }
+        return returns;
+    }
+
+    public double eventsPerSecond() {
+        return elapsedNanos > 0 ? events * 1e9 / elapsedNanos : 0.0;
+    }
+}
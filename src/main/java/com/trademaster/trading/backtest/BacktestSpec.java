@@ -0,0 +1,52 @@
+package com.trademaster.trading.backtest;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Backtest Spec
+ *
+ * What to replay: the bar series (one per symbol, indexed in this order by strategies),
+ * the [start, end) time range (null for the full series), starting capital and fill model.
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+public record BacktestSpec(
+    String strategyId,
+    String strategyName,
+    List<BarSeries> series,
+    Instant start,
+    Instant end,
+    double initialCapital,
+    FillModel fillModel
+) {
+
+    public BacktestSpec {
+        if (series == null || series.isEmpty()) {
+            throw new IllegalArgumentException("At least one bar series is required");
+        }
+        if (!(initialCapital > 0.0)) {
+            throw new IllegalArgumentException("Initial capital must be positive: " + initialCapital);
+        }
+        if (start != null && end != null && !start.isBefore(end)) {
+            throw new IllegalArgumentException("Start " + start + " must be before end " + end);
+        }
+        series = List.copyOf(series);
+    }
+
+    /**
+     * Same spec over another time range
+     */
+    public BacktestSpec withRange(Instant rangeStart, Instant rangeEnd) {
+        return new BacktestSpec(strategyId, strategyName, series, rangeStart, rangeEnd, initialCapital, fillModel);
+    }
+
+    long startMillis() {
+        return start != null ? start.toEpochMilli() : Long.MIN_VALUE;
+    }
+
+    long endMillis() {
+        return end != null ? end.toEpochMilli() : Long.MAX_VALUE;
+    }
+}
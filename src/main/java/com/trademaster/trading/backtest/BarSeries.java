@@ -0,0 +1,54 @@
+package com.trademaster.trading.backtest;
+
+/**
+ * Bar Series
+ *
+ * One symbol's bars as primitive columns, oldest first, read by index so the replay loop
+ * never allocates per event. Timestamps are epoch milliseconds of the bar open. Backed by
+ * arrays (ArrayBarSeries) or a memory-mapped columnar file (MappedBarSeries).
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+public interface BarSeries {
+
+    String symbol();
+
+    int size();
+
+    long timestamp(int index);
+
+    double open(int index);
+
+    double high(int index);
+
+    double low(int index);
+
+    double close(int index);
+
+    long volume(int index);
+
+    /**
+     * (high + low + close) / 3, the reference price of time- and volume-sliced fills
+     */
+    default double typicalPrice(int index) {
+        return (high(index) + low(index) + close(index)) / 3.0;
+    }
+
+    /**
+     * Index of the first bar at or after the timestamp, size() if there is none
+     */
+    default int indexAtOrAfter(long epochMillis) {
+        int low = 0;
+        int high = size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (timestamp(middle) < epochMillis) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+}
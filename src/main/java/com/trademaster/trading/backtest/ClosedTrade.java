@@ -0,0 +1,40 @@
+package com.trademaster.trading.backtest;
+
+import com.trademaster.trading.model.OrderSide;
+
+/**
+ * Closed Trade
+ *
+ * One round trip of a backtest: from flat to flat (or to a reversal) in one symbol.
+ * Prices are quantity-weighted averages of the entry and exit fills; grossPnl excludes
+ * commission, and slippage is the cost of fills against their reference prices.
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+public record ClosedTrade(
+    String symbol,
+    OrderSide direction,
+    long quantity,
+    long entryMillis,
+    long exitMillis,
+    double entryPrice,
+    double exitPrice,
+    double grossPnl,
+    double commission,
+    double slippage,
+    String exitReason
+) {
+
+    public double netPnl() {
+        return grossPnl - commission;
+    }
+
+    /**
+     * Net return on the entry notional
+     */
+    public double netReturn() {
+        double notional = entryPrice * quantity;
+        return notional > 0.0 ? netPnl() / notional : 0.0;
+    }
+}
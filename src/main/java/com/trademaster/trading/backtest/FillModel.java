@@ -0,0 +1,44 @@
+package com.trademaster.trading.backtest;
+
+import com.trademaster.trading.model.OrderSide;
+
+/**
+ * Fill Model
+ *
+ * How simulated orders fill against bars:
+ * - slippageBps: every fill is this many basis points worse than its reference price
+ *   (bar open, stop level or typical price), limit fills never beyond the limit
+ * - maxParticipation: at most this fraction of a bar's volume fills per order and bar,
+ *   the rest carries over to later bars (0 or less for no cap)
+ * - commissionRate: fraction of traded notional charged per fill
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+public record FillModel(double commissionRate, double slippageBps, double maxParticipation) {
+
+    public FillModel {
+        if (commissionRate < 0.0 || slippageBps < 0.0) {
+            throw new IllegalArgumentException("Commission and slippage cannot be negative");
+        }
+    }
+
+    /**
+     * Reference price moved against the order by the slippage
+     */
+    public double slip(OrderSide side, double reference) {
+        double slippage = reference * slippageBps / 10_000.0;
+        return side == OrderSide.BUY ? reference + slippage : reference - slippage;
+    }
+
+    /**
+     * Quantity one order may fill on a bar with this volume
+     */
+    public long capacity(long barVolume) {
+        return maxParticipation > 0.0 ? (long) Math.floor(barVolume * maxParticipation) : Long.MAX_VALUE;
+    }
+
+    public double commission(double notional) {
+        return Math.abs(notional) * commissionRate;
+    }
+}
@@ -0,0 +1,160 @@
+package com.trademaster.trading.backtest;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Mapped Bar Series
+ *
+ * BarSeries over a memory-mapped columnar file, read in place: each column is a view on
+ * the mapping, so a replay touches only the pages it reads and nothing is copied onto
+ * the heap. Many concurrent backtests can share one file through the page cache.
+ *
+ * File layout (little-endian):
+ * - header: magic "TMBR", version, bar count, symbol length, UTF-8 symbol, padded to 8
+ * - columns of count entries each: timestamps (long, epoch ms), open, high, low, close
+ *   (double), volume (long)
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+public final class MappedBarSeries implements BarSeries {
+
+    private static final int MAGIC = 0x524D4254;  // "TMBR" little-endian
+    private static final int VERSION = 1;
+    private static final int COLUMNS = 6;
+
+    private final String symbol;
+    private final int size;
+    private final LongBuffer timestamps;
+    private final DoubleBuffer open;
+    private final DoubleBuffer high;
+    private final DoubleBuffer low;
+    private final DoubleBuffer close;
+    private final LongBuffer volume;
+
+    private MappedBarSeries(String symbol, int size, ByteBuffer columns) {
+        this.symbol = symbol;
+        this.size = size;
+        this.timestamps = column(columns, 0, size).asLongBuffer();
+        this.open = column(columns, 1, size).asDoubleBuffer();
+        this.high = column(columns, 2, size).asDoubleBuffer();
+        this.low = column(columns, 3, size).asDoubleBuffer();
+        this.close = column(columns, 4, size).asDoubleBuffer();
+        this.volume = column(columns, 5, size).asLongBuffer();
+    }
+
+    /**
+     * Maps the file read-only; the mapping stays valid after the channel is closed
+     */
+    public static MappedBarSeries open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            mapped.order(ByteOrder.LITTLE_ENDIAN);
+            if (mapped.remaining() < 16 || mapped.getInt(0) != MAGIC || mapped.getInt(4) != VERSION) {
+                throw new IOException("Not a bar file: " + file);
+            }
+            int size = mapped.getInt(8);
+            int symbolLength = mapped.getInt(12);
+            byte[] symbol = new byte[symbolLength];
+            mapped.get(16, symbol);
+            int columnsStart = headerBytes(symbolLength);
+            if (mapped.capacity() < columnsStart + (long) COLUMNS * size * Long.BYTES) {
+                throw new IOException("Truncated bar file: " + file);
+            }
+            ByteBuffer columns = mapped.slice(columnsStart, COLUMNS * size * Long.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            return new MappedBarSeries(new String(symbol, StandardCharsets.UTF_8), size, columns);
+        }
+    }
+
+    /**
+     * Writes the bars in the mapped layout, replacing the file
+     */
+    public static void write(Path file, BarSeries bars) throws IOException {
+        byte[] symbol = bars.symbol().getBytes(StandardCharsets.UTF_8);
+        int size = bars.size();
+        long length = headerBytes(symbol.length) + (long) COLUMNS * size * Long.BYTES;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            MappedByteBuffer out = channel.map(FileChannel.MapMode.READ_WRITE, 0, length);
+            out.order(ByteOrder.LITTLE_ENDIAN);
+            out.putInt(MAGIC).putInt(VERSION).putInt(size).putInt(symbol.length).put(symbol);
+            out.position(headerBytes(symbol.length));
+            for (int index = 0; index < size; index++) {
+                out.putLong(bars.timestamp(index));
+            }
+            for (int index = 0; index < size; index++) {
+                out.putDouble(bars.open(index));
+            }
+            for (int index = 0; index < size; index++) {
+                out.putDouble(bars.high(index));
+            }
+            for (int index = 0; index < size; index++) {
+                out.putDouble(bars.low(index));
+            }
+            for (int index = 0; index < size; index++) {
+                out.putDouble(bars.close(index));
+            }
+            for (int index = 0; index < size; index++) {
+                out.putLong(bars.volume(index));
+            }
+            out.force();
+        }
+    }
+
+    private static int headerBytes(int symbolLength) {
+        return (16 + symbolLength + 7) & ~7;
+    }
+
+    private static ByteBuffer column(ByteBuffer columns, int column, int size) {
+        return columns.slice(column * size * Long.BYTES, size * Long.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    @Override
+    public String symbol() {
+        return symbol;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public long timestamp(int index) {
+        return timestamps.get(index);
+    }
+
+    @Override
+    public double open(int index) {
+        return open.get(index);
+    }
+
+    @Override
+    public double high(int index) {
+        return high.get(index);
+    }
+
+    @Override
+    public double low(int index) {
+        return low.get(index);
+    }
+
+    @Override
+    public double close(int index) {
+        return close.get(index);
+    }
+
+    @Override
+    public long volume(int index) {
+        return volume.get(index);
+    }
+}
@@ -0,0 +1,138 @@
+package com.trademaster.trading.backtest;
+
+import com.trademaster.trading.agentos.agents.TradeRecommendationAgent;
+import com.trademaster.trading.dto.MarketAnalysis;
+import com.trademaster.trading.model.OrderSide;
+import lombok.extern.slf4j.Slf4j;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Recommendation Signal Strategy
+ *
+ * Replays TradeRecommendationAgent signals: every interval bars of a symbol, once
+ * lookback bars are available, the agent gets the trailing window and the run's equity
+ * and close, and its action is traded:
+ * - BUY / STRONG_BUY while flat: a BRACKET order at market with the recommended target
+ *   and stop (plain market when they do not bracket the close), sized by the
+ *   recommendation and capped by maxAllocation of cash
+ * - SELL / STRONG_SELL while long: working orders cancelled, position sold at market
+ *
+ * The agent's analysis is joined on the run thread, so the replay stays sequential; it is
+ * as deterministic as the agents behind it. A failed recommendation is skipped. Holds per
+ * run state: supply a new instance for every run.
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+@Slf4j
+public final class RecommendationSignalStrategy implements SignalStrategy {
+
+    /**
+     * Fewest bars TradeRecommendationAgent accepts
+     */
+    public static final int MIN_LOOKBACK = 20;
+
+    private final TradeRecommendationAgent agent;
+    private final int lookback;
+    private final int interval;
+    private final double maxAllocation;
+    private final String timeframe;
+    private int[] lastEvaluated;
+
+    /**
+     * @param lookback bars passed to the agent, at least MIN_LOOKBACK
+     * @param interval bars of a symbol between recommendations
+     * @param maxAllocation largest share of cash one entry may spend, in (0, 1]
+     * @param timeframe timeframe label of the bars, e.g. "1d"
+     */
+    public RecommendationSignalStrategy(TradeRecommendationAgent agent, int lookback, int interval,
+                                        double maxAllocation, String timeframe) {
+        if (lookback < MIN_LOOKBACK || interval < 1 || !(maxAllocation > 0.0 && maxAllocation <= 1.0)) {
+            throw new IllegalArgumentException("Invalid lookback " + lookback + ", interval " + interval
+                + " or allocation " + maxAllocation);
+        }
+        this.agent = agent;
+        this.lookback = lookback;
+        this.interval = interval;
+        this.maxAllocation = maxAllocation;
+        this.timeframe = timeframe;
+    }
+
+    @Override
+    public void onStart(BacktestContext context) {
+        lastEvaluated = new int[context.symbolCount()];
+        Arrays.fill(lastEvaluated, Integer.MIN_VALUE / 2);
+    }
+
+    @Override
+    public void onBar(BacktestContext context, int symbol, int index) {
+        if (index + 1 < lookback || index - lastEvaluated[symbol] < interval) {
+            return;
+        }
+        lastEvaluated[symbol] = index;
+        BarSeries bars = context.series(symbol);
+        double close = bars.close(index);
+        MarketAnalysis.TradeRecommendation recommendation = recommend(context, bars, index, close);
+        if (recommendation == null) {
+            return;
+        }
+
+        long position = context.position(symbol);
+        switch (recommendation.action()) {
+            case BUY, STRONG_BUY -> {
+                if (position == 0 && !context.hasWorkingOrders(symbol)) {
+                    enter(context, symbol, close, recommendation);
+                }
+            }
+            case SELL, STRONG_SELL -> {
+                if (position > 0) {
+                    context.cancelAll(symbol);
+                    context.submit(SimulatedOrder.market(symbol, OrderSide.SELL, position));
+                }
+            }
+            case HOLD -> { }
+        }
+    }
+
+    private void enter(BacktestContext context, int symbol, double close,
+                       MarketAnalysis.TradeRecommendation recommendation) {
+        long affordable = (long) Math.floor(context.cash() * maxAllocation / close);
+        long quantity = recommendation.quantity() != null
+            ? Math.min(recommendation.quantity(), affordable) : affordable;
+        if (quantity <= 0) {
+            return;
+        }
+        double target = price(recommendation.targetPrice());
+        double stop = price(recommendation.stopLoss());
+        context.submit(target > close && stop < close && stop > 0.0
+            ? SimulatedOrder.bracket(symbol, OrderSide.BUY, quantity, Double.NaN, target, stop)
+            : SimulatedOrder.market(symbol, OrderSide.BUY, quantity));
+    }
+
+    private MarketAnalysis.TradeRecommendation recommend(BacktestContext context, BarSeries bars, int index,
+                                                         double close) {
+        List<MarketAnalysis.OHLCVData> window = new ArrayList<>(lookback);
+        for (int bar = index - lookback + 1; bar <= index; bar++) {
+            window.add(new MarketAnalysis.OHLCVData(bars.symbol(), Instant.ofEpochMilli(bars.timestamp(bar)),
+                BigDecimal.valueOf(bars.open(bar)), BigDecimal.valueOf(bars.high(bar)),
+                BigDecimal.valueOf(bars.low(bar)), BigDecimal.valueOf(bars.close(bar)),
+                bars.volume(bar), timeframe));
+        }
+        try {
+            return agent.generateRecommendation(bars.symbol(), window, BigDecimal.valueOf(context.equity()),
+                BigDecimal.valueOf(close)).join();
+        } catch (RuntimeException e) {
+            log.debug("Recommendation skipped for {} at {}: {}", bars.symbol(), context.instant(), e.getMessage());
+            return null;
+        }
+    }
+
+    private static double price(BigDecimal value) {
+        return value != null ? value.doubleValue() : Double.NaN;
+    }
+}
@@ -0,0 +1,24 @@
+package com.trademaster.trading.backtest;
+
+/**
+ * Signal Strategy
+ *
+ * Strategy under test. Called once per bar, in time order across all symbols (ties by
+ * symbol index), after the symbol's working orders have been filled against that bar.
+ * Orders submitted here start working on the symbol's next bar, so a strategy never
+ * trades on the bar it has just seen.
+ *
+ * Instances keep their own state and are used by one run only; walk-forward analysis
+ * asks a factory for a fresh one per run.
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+@FunctionalInterface
+public interface SignalStrategy {
+
+    void onBar(BacktestContext context, int symbol, int index);
+
+    default void onStart(BacktestContext context) {
+    }
+}
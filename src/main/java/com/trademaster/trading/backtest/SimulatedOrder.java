@@ -0,0 +1,390 @@
+package com.trademaster.trading.backtest;
+
+import com.trademaster.trading.dto.OrderRequest;
+import com.trademaster.trading.model.OrderSide;
+import com.trademaster.trading.order.strategy.OrderStrategy;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+/**
+ * Simulated Order
+ *
+ * An order working inside one backtest run. Each OrderStrategy type is replayed with the
+ * rules of its live strategy on simulated time, one bar of its symbol at a time:
+ * - plain (no strategy): market at the next open, or limit when touched
+ * - STOP_LOSS: market once the stop trades, filled at the stop or a worse gap open
+ * - TRAILING_STOP: stop trails the best price seen by the percentage if set, otherwise
+ *   the fixed amount; checked against the stop before this bar's extreme moves it
+ * - BRACKET: market or limit entry, then stop-loss and profit target as one-cancels-other
+ *   exit; when a bar touches both, the stop is assumed to have traded first
+ * - ICEBERG: limit order showing displayQuantity, at most one clip per bar
+ * - TWAP: equal slices every sliceIntervalSeconds across timeWindowMinutes, at the bar's
+ *   typical price; missed slices are caught up
+ * - VWAP: participationRate percent of each bar's volume across the window, the
+ *   remainder as market after it
+ *
+ * Every fill is also capped by the FillModel's share of bar volume. Not thread-safe; an
+ * order belongs to the single thread running its backtest.
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+public final class SimulatedOrder {
+
+    static final String SIGNAL = "SIGNAL";
+    static final String STOP_LOSS = "STOP_LOSS";
+    static final String TAKE_PROFIT = "TAKE_PROFIT";
+    static final String TIMEOUT = "TIMEOUT";
+
+    private static final double UNSET = Double.NaN;
+    private static final long MINUTE_MILLIS = 60_000L;
+
+    private final int symbol;
+    private final OrderSide side;
+    private final long quantity;
+    private final OrderStrategy.StrategyType strategy;
+    private final double limitPrice;
+    private final double stopPrice;
+    private final double trailAmount;
+    private final double trailPercent;
+    private final double profitTarget;
+    private final long displayQuantity;
+    private final long windowMillis;
+    private final long sliceMillis;
+    private final double participation;
+
+    private long id;
+    private int activeFrom;
+    private boolean active = true;
+    private long filled;
+    private double filledNotional;
+    private long exitFilled;
+    private long startMillis = -1L;
+    private double extreme = UNSET;
+    private boolean triggered;
+    private int enteredIndex = -1;
+
+    private SimulatedOrder(int symbol, OrderSide side, long quantity, OrderStrategy.StrategyType strategy,
+                           double limitPrice, double stopPrice, double trailAmount, double trailPercent,
+                           double profitTarget, long displayQuantity, long windowMillis, long sliceMillis,
+                           double participation) {
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("Quantity must be positive: " + quantity);
+        }
+        this.symbol = symbol;
+        this.side = side;
+        this.quantity = quantity;
+        this.strategy = strategy;
+        this.limitPrice = limitPrice;
+        this.stopPrice = stopPrice;
+        this.trailAmount = trailAmount;
+        this.trailPercent = trailPercent;
+        this.profitTarget = profitTarget;
+        this.displayQuantity = displayQuantity;
+        this.windowMillis = windowMillis;
+        this.sliceMillis = sliceMillis;
+        this.participation = participation;
+    }
+
+    public static SimulatedOrder market(int symbol, OrderSide side, long quantity) {
+        return new SimulatedOrder(symbol, side, quantity, null, UNSET, UNSET, UNSET, UNSET, UNSET,
+            Long.MAX_VALUE, 0L, 0L, 0.0);
+    }
+
+    public static SimulatedOrder limit(int symbol, OrderSide side, long quantity, double limitPrice) {
+        return new SimulatedOrder(symbol, side, quantity, null, positive(limitPrice, "Limit price"), UNSET, UNSET,
+            UNSET, UNSET, Long.MAX_VALUE, 0L, 0L, 0.0);
+    }
+
+    public static SimulatedOrder stopLoss(int symbol, OrderSide side, long quantity, double stopPrice) {
+        return new SimulatedOrder(symbol, side, quantity, OrderStrategy.StrategyType.STOP_LOSS, UNSET,
+            positive(stopPrice, "Stop price"), UNSET, UNSET, UNSET, Long.MAX_VALUE, 0L, 0L, 0.0);
+    }
+
+    /**
+     * @param trailPercent percent of the extreme (e.g. 2.5), used when positive
+     * @param trailAmount fixed distance in price, used otherwise
+     */
+    public static SimulatedOrder trailingStop(int symbol, OrderSide side, long quantity, double trailAmount,
+                                              double trailPercent) {
+        if (!(trailPercent > 0.0) && !(trailAmount > 0.0)) {
+            throw new IllegalArgumentException("Trail amount or percent must be positive");
+        }
+        return new SimulatedOrder(symbol, side, quantity, OrderStrategy.StrategyType.TRAILING_STOP, UNSET, UNSET,
+            trailAmount, trailPercent, UNSET, Long.MAX_VALUE, 0L, 0L, 0.0);
+    }
+
+    /**
+     * @param entryPrice limit entry, NaN to enter at market
+     */
+    public static SimulatedOrder bracket(int symbol, OrderSide side, long quantity, double entryPrice,
+                                         double profitTarget, double stopPrice) {
+        double sign = side == OrderSide.BUY ? 1.0 : -1.0;
+        if (!(sign * (profitTarget - stopPrice) > 0.0)) {
+            throw new IllegalArgumentException("Profit target must be beyond the stop on the " + side + " side");
+        }
+        return new SimulatedOrder(symbol, side, quantity, OrderStrategy.StrategyType.BRACKET, entryPrice, stopPrice,
+            UNSET, UNSET, profitTarget, Long.MAX_VALUE, 0L, 0L, 0.0);
+    }
+
+    public static SimulatedOrder iceberg(int symbol, OrderSide side, long quantity, double limitPrice,
+                                         long displayQuantity) {
+        if (displayQuantity <= 0) {
+            throw new IllegalArgumentException("Display quantity must be positive");
+        }
+        return new SimulatedOrder(symbol, side, quantity, OrderStrategy.StrategyType.ICEBERG,
+            positive(limitPrice, "Limit price"), UNSET, UNSET, UNSET, UNSET, displayQuantity, 0L, 0L, 0.0);
+    }
+
+    public static SimulatedOrder twap(int symbol, OrderSide side, long quantity, int timeWindowMinutes,
+                                      int sliceIntervalSeconds) {
+        if (timeWindowMinutes <= 0 || sliceIntervalSeconds <= 0 || sliceIntervalSeconds >= timeWindowMinutes * 60) {
+            throw new IllegalArgumentException("Slice interval must be positive and less than the time window");
+        }
+        return new SimulatedOrder(symbol, side, quantity, OrderStrategy.StrategyType.TWAP, UNSET, UNSET, UNSET,
+            UNSET, UNSET, Long.MAX_VALUE, timeWindowMinutes * MINUTE_MILLIS, sliceIntervalSeconds * 1_000L, 0.0);
+    }
+
+    /**
+     * @param participationRate percent of bar volume, e.g. 10
+     */
+    public static SimulatedOrder vwap(int symbol, OrderSide side, long quantity, int timeWindowMinutes,
+                                      double participationRate) {
+        if (timeWindowMinutes <= 0 || !(participationRate > 0.0 && participationRate <= 100.0)) {
+            throw new IllegalArgumentException("Time window and participation rate (0, 100] are required");
+        }
+        return new SimulatedOrder(symbol, side, quantity, OrderStrategy.StrategyType.VWAP, UNSET, UNSET, UNSET,
+            UNSET, UNSET, Long.MAX_VALUE, timeWindowMinutes * MINUTE_MILLIS, 0L, participationRate / 100.0);
+    }
+
+    /**
+     * Order with the parameters a live request for this strategy type carries; a null
+     * type is a plain market or limit order
+     */
+    public static SimulatedOrder fromRequest(int symbol, OrderStrategy.StrategyType type, OrderRequest request) {
+        long quantity = request.quantity();
+        if (type == null) {
+            return request.limitPrice() != null
+                ? limit(symbol, request.side(), quantity, request.limitPrice().doubleValue())
+                : market(symbol, request.side(), quantity);
+        }
+        return switch (type) {
+            case STOP_LOSS -> stopLoss(symbol, request.side(), quantity, price(request.stopPrice()));
+            case TRAILING_STOP -> trailingStop(symbol, request.side(), quantity, price(request.trailAmount()),
+                price(request.trailPercent()));
+            case BRACKET -> bracket(symbol, request.side(), quantity, price(request.entryPrice()),
+                price(request.profitTarget()), price(request.stopPrice()));
+            case ICEBERG -> iceberg(symbol, request.side(), quantity, price(request.limitPrice()),
+                request.displayQuantity());
+            case TWAP -> twap(symbol, request.side(), quantity, request.timeWindowMinutes(),
+                request.sliceIntervalSeconds());
+            case VWAP -> vwap(symbol, request.side(), quantity, request.timeWindowMinutes(),
+                Optional.ofNullable(request.participationRate()).map(BigDecimal::doubleValue).orElse(10.0));
+        };
+    }
+
+    public long id() {
+        return id;
+    }
+
+    public int symbol() {
+        return symbol;
+    }
+
+    public OrderSide side() {
+        return side;
+    }
+
+    public long quantity() {
+        return quantity;
+    }
+
+    /**
+     * Strategy type, null for a plain market or limit order
+     */
+    public OrderStrategy.StrategyType strategy() {
+        return strategy;
+    }
+
+    public long filledQuantity() {
+        return filled;
+    }
+
+    public double averagePrice() {
+        return filled > 0 ? filledNotional / filled : 0.0;
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    void accept(long id, int activeFrom) {
+        this.id = id;
+        this.activeFrom = activeFrom;
+    }
+
+    void cancel() {
+        active = false;
+    }
+
+    /**
+     * Works the order against one bar of its symbol
+     *
+     * @return whether the order is still working
+     */
+    boolean onBar(BarSeries bars, int index, FillModel model, FillSink sink) {
+        if (!active || index < activeFrom) {
+            return active;
+        }
+        if (startMillis < 0) {
+            startMillis = bars.timestamp(index);
+            extreme = bars.open(index);
+        }
+        long capacity = model.capacity(bars.volume(index));
+        if (strategy == null) {
+            fillEntry(bars, index, model, sink, capacity, Long.MAX_VALUE);
+        } else {
+            switch (strategy) {
+                case STOP_LOSS -> stop(bars, index, model, sink, capacity, stopPrice);
+                case TRAILING_STOP -> trail(bars, index, model, sink, capacity);
+                case BRACKET -> bracket(bars, index, model, sink, capacity);
+                case ICEBERG -> fillEntry(bars, index, model, sink, capacity, displayQuantity);
+                case TWAP -> twap(bars, index, model, sink, capacity);
+                case VWAP -> vwap(bars, index, model, sink, capacity);
+            }
+        }
+        active = strategy == OrderStrategy.StrategyType.BRACKET ? exitFilled < quantity : filled < quantity;
+        return active;
+    }
+
+    /**
+     * Market at the open, or limit when the bar trades through it
+     */
+    private void fillEntry(BarSeries bars, int index, FillModel model, FillSink sink, long capacity, long clip) {
+        long size = Math.min(Math.min(quantity - filled, capacity), clip);
+        if (size <= 0) {
+            return;
+        }
+        double open = bars.open(index);
+        if (Double.isNaN(limitPrice)) {
+            fill(sink, side, size, model.slip(side, open), open, SIGNAL);
+            return;
+        }
+        boolean buy = side == OrderSide.BUY;
+        if (buy ? bars.low(index) <= limitPrice : bars.high(index) >= limitPrice) {
+            double reference = buy ? Math.min(open, limitPrice) : Math.max(open, limitPrice);
+            double price = buy ? Math.min(model.slip(side, reference), limitPrice)
+                : Math.max(model.slip(side, reference), limitPrice);
+            fill(sink, side, size, price, reference, SIGNAL);
+        }
+    }
+
+    private void stop(BarSeries bars, int index, FillModel model, FillSink sink, long capacity, double level) {
+        double open = bars.open(index);
+        boolean sell = side == OrderSide.SELL;
+        double reference = open;
+        if (!triggered) {
+            triggered = sell ? bars.low(index) <= level : bars.high(index) >= level;
+            reference = sell ? Math.min(open, level) : Math.max(open, level);
+        }
+        long size = Math.min(quantity - filled, capacity);
+        if (triggered && size > 0) {
+            fill(sink, side, size, model.slip(side, reference), reference, STOP_LOSS);
+        }
+    }
+
+    private void trail(BarSeries bars, int index, FillModel model, FillSink sink, long capacity) {
+        if (!triggered) {
+            boolean sell = side == OrderSide.SELL;
+            double distance = trailPercent > 0.0 ? extreme * trailPercent / 100.0 : trailAmount;
+            double level = sell ? extreme - distance : extreme + distance;
+            stop(bars, index, model, sink, capacity, level);
+            if (!triggered) {
+                extreme = sell ? Math.max(extreme, bars.high(index)) : Math.min(extreme, bars.low(index));
+            }
+            return;
+        }
+        stop(bars, index, model, sink, capacity, UNSET);
+    }
+
+    private void bracket(BarSeries bars, int index, FillModel model, FillSink sink, long capacity) {
+        if (filled < quantity) {
+            fillEntry(bars, index, model, sink, capacity, Long.MAX_VALUE);
+            if (filled == quantity) {
+                enteredIndex = index;
+            }
+            return;
+        }
+        if (index == enteredIndex) {
+            return;
+        }
+        OrderSide exit = side.opposite();
+        boolean sell = exit == OrderSide.SELL;
+        double open = bars.open(index);
+        long size = Math.min(filled - exitFilled, capacity);
+        if (size <= 0) {
+            return;
+        }
+        if (triggered || (sell ? bars.low(index) <= stopPrice : bars.high(index) >= stopPrice)) {
+            double reference = triggered ? open : sell ? Math.min(open, stopPrice) : Math.max(open, stopPrice);
+            triggered = true;
+            fill(sink, exit, size, model.slip(exit, reference), reference, STOP_LOSS);
+        } else if (sell ? bars.high(index) >= profitTarget : bars.low(index) <= profitTarget) {
+            double reference = sell ? Math.max(open, profitTarget) : Math.min(open, profitTarget);
+            double price = sell ? Math.max(model.slip(exit, reference), profitTarget)
+                : Math.min(model.slip(exit, reference), profitTarget);
+            fill(sink, exit, size, price, reference, TAKE_PROFIT);
+        }
+    }
+
+    private void twap(BarSeries bars, int index, FillModel model, FillSink sink, long capacity) {
+        long slices = Math.max(1L, windowMillis / sliceMillis);
+        long sliceSize = (quantity + slices - 1) / slices;
+        long due = Math.min(slices, (bars.timestamp(index) - startMillis) / sliceMillis + 1);
+        long size = Math.min(Math.min(quantity, due * sliceSize) - filled, capacity);
+        if (size > 0) {
+            double reference = bars.typicalPrice(index);
+            fill(sink, side, size, model.slip(side, reference), reference, SIGNAL);
+        }
+    }
+
+    private void vwap(BarSeries bars, int index, FillModel model, FillSink sink, long capacity) {
+        long size = Math.min(quantity - filled, capacity);
+        if (bars.timestamp(index) - startMillis < windowMillis) {
+            size = Math.min(size, (long) Math.floor(bars.volume(index) * participation));
+        }
+        if (size > 0) {
+            double reference = bars.typicalPrice(index);
+            fill(sink, side, size, model.slip(side, reference), reference, SIGNAL);
+        }
+    }
+
+    private void fill(FillSink sink, OrderSide fillSide, long size, double price, double reference, String reason) {
+        if (fillSide == side) {
+            filled += size;
+            filledNotional += size * price;
+        } else {
+            exitFilled += size;
+        }
+        sink.fill(this, fillSide, size, price, reference, reason);
+    }
+
+    private static double positive(double value, String name) {
+        if (!(value > 0.0)) {
+            throw new IllegalArgumentException(name + " must be positive: " + value);
+        }
+        return value;
+    }
+
+    private static double price(BigDecimal value) {
+        return value != null ? value.doubleValue() : UNSET;
+    }
+
+    /**
+     * Receives fills; implemented by the run's ledger
+     */
+    interface FillSink {
+        void fill(SimulatedOrder order, OrderSide side, long quantity, double price, double reference, String reason);
+    }
+}
@@ -0,0 +1,49 @@
+package com.trademaster.trading.config;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.PositiveOrZero;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+import java.util.List;
+
+/**
+ * Exposure Configuration Properties
+ *
+ * Type-safe configuration for the pre-trade exposure ledger (trading.risk.exposure).
+ * reconcile-interval-millis is read by the ledger's schedule directly.
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+@ConfigurationProperties(prefix = "trading.risk.exposure")
+@Validated
+public record ExposureConfigurationProperties(
+    /**
+     * Whether orders reserve and book exposure at all
+     */
+    @DefaultValue("true")
+    boolean enabled,
+
+    /**
+     * Zone whose calendar day today's accepted order counts roll over on
+     */
+    @NotBlank(message = "Exposure zone is required")
+    @DefaultValue("Asia/Kolkata")
+    String zone,
+
+    /**
+     * SYMBOL:SECTOR pairs used for sector exposure
+     */
+    @DefaultValue
+    List<String> sectors,
+
+    /**
+     * Percent above the last traded price that market orders reserve at
+     */
+    @PositiveOrZero(message = "Market collar must not be negative")
+    @DefaultValue("5")
+    double marketCollarPercent
+) {
+}
@@ -0,0 +1,41 @@
+package com.trademaster.trading.config;
+
+import jakarta.validation.constraints.Positive;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * JWT Cache Configuration Properties
+ *
+ * Type-safe configuration for the verified-token cache in JwtAuthenticationFilter
+ * (security.jwt.cache). purge-interval-millis is read by the filter's schedule directly.
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+@ConfigurationProperties(prefix = "security.jwt.cache")
+@Validated
+public record JwtCacheConfigurationProperties(
+    /**
+     * Verified tokens held at once; further tokens are verified but not cached
+     */
+    @Positive(message = "JWT cache size must be positive")
+    @DefaultValue("10000")
+    int maxEntries,
+
+    /**
+     * Longest a verified token is cached, even if it expires later or has no expiry
+     */
+    @Positive(message = "JWT cache TTL must be positive")
+    @DefaultValue("300")
+    long maxTtlSeconds,
+
+    /**
+     * Time between purges of expired tokens
+     */
+    @Positive(message = "JWT cache purge interval must be positive")
+    @DefaultValue("60000")
+    long purgeIntervalMillis
+) {
+}
@@ -0,0 +1,90 @@
+package com.trademaster.trading.config;
+
+import jakarta.validation.constraints.PositiveOrZero;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Order Control Configuration Properties
+ *
+ * Type-safe configuration for the order entry controls (trading.control). Rates are
+ * per second and notional caps are in rupees; 0 disables a limit. The kill switch
+ * propagation and reconcile settings under the same prefix are read where they are used.
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+@ConfigurationProperties(prefix = "trading.control")
+@Validated
+public record OrderControlConfigurationProperties(
+    /**
+     * Whether the rate, notional and open-order controls apply; kill switches always do
+     */
+    @DefaultValue("true")
+    boolean enabled,
+
+    /**
+     * Orders admitted per second across all users
+     */
+    @PositiveOrZero
+    @DefaultValue("2000")
+    double globalOrdersPerSecond,
+
+    /**
+     * Orders admitted at once across all users before the global rate applies
+     */
+    @PositiveOrZero
+    @DefaultValue("500")
+    long globalOrderBurst,
+
+    /**
+     * Orders admitted per second for one user
+     */
+    @PositiveOrZero
+    @DefaultValue("10")
+    double userOrdersPerSecond,
+
+    /**
+     * Orders admitted at once for one user before the user rate applies
+     */
+    @PositiveOrZero
+    @DefaultValue("20")
+    long userOrderBurst,
+
+    /**
+     * Orders admitted per second in one symbol
+     */
+    @PositiveOrZero
+    @DefaultValue("200")
+    double symbolOrdersPerSecond,
+
+    /**
+     * Orders admitted at once in one symbol before the symbol rate applies
+     */
+    @PositiveOrZero
+    @DefaultValue("100")
+    long symbolOrderBurst,
+
+    /**
+     * Rupees of order notional admitted per second for one user
+     */
+    @PositiveOrZero
+    @DefaultValue("5000000")
+    double userNotionalPerSecond,
+
+    /**
+     * Rupees of order notional admitted per second across all users
+     */
+    @PositiveOrZero
+    @DefaultValue("500000000")
+    double globalNotionalPerSecond,
+
+    /**
+     * Open orders one user may hold
+     */
+    @PositiveOrZero
+    @DefaultValue("200")
+    int maxOpenOrders
+) {
+}
@@ -0,0 +1,107 @@
+package com.trademaster.trading.config;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+import java.math.BigDecimal;
+
+/**
+ * Risk Limit Configuration Properties
+ *
+ * Type-safe configuration for the per-user risk limit cache: the trading.risk.max-*
+ * defaults for users without limits of their own, and how the cache is kept fresh
+ * (trading.risk.limits).
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+@ConfigurationProperties(prefix = "trading.risk")
+@Validated
+public record RiskLimitConfigurationProperties(
+    /**
+     * Default maximum value of a single order, in rupees
+     */
+    @Positive(message = "Max order value must be positive")
+    @DefaultValue("10000000")
+    BigDecimal maxOrderValue,
+
+    /**
+     * Default maximum orders per day
+     */
+    @Positive(message = "Max daily trades must be positive")
+    @DefaultValue("100")
+    int maxDailyTrades,
+
+    /**
+     * Default maximum percent of the portfolio in one symbol
+     */
+    @Positive(message = "Max position concentration must be positive")
+    @DefaultValue("30.0")
+    BigDecimal maxPositionConcentration,
+
+    /**
+     * Default maximum percent of the portfolio in one sector
+     */
+    @Positive(message = "Max sector concentration must be positive")
+    @DefaultValue("60.0")
+    BigDecimal maxSectorConcentration,
+
+    /**
+     * Default maximum margin usage, as a fraction
+     */
+    @Positive(message = "Max margin usage must be positive")
+    @DefaultValue("0.8")
+    BigDecimal maxMarginUsage,
+
+    /**
+     * How the cache loads and refreshes risk_limits
+     */
+    @Valid
+    @DefaultValue
+    Limits limits
+) {
+
+    /**
+     * Cache refresh settings (trading.risk.limits)
+     */
+    public record Limits(
+        /**
+         * Whether risk_limits is loaded at all; when not, every user gets the defaults
+         */
+        @DefaultValue("true")
+        boolean enabled,
+
+        /**
+         * notify (LISTEN on risk_limits_changed) or poll (updated_at)
+         */
+        @NotBlank(message = "Risk limit refresh mode is required")
+        @DefaultValue("notify")
+        String mode,
+
+        /**
+         * Wait for a notification, or between polls
+         */
+        @Positive(message = "Poll interval must be positive")
+        @DefaultValue("500")
+        int pollIntervalMillis,
+
+        /**
+         * Time spent polling before the notify connection is retried
+         */
+        @Positive(message = "Reconnect delay must be positive")
+        @DefaultValue("5000")
+        long reconnectDelayMillis,
+
+        /**
+         * Interval between reloads of every user while polling
+         */
+        @Positive(message = "Full reload interval must be positive")
+        @DefaultValue("60000")
+        long fullReloadMillis
+    ) {
+    }
+}
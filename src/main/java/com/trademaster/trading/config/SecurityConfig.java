@@ -3,6 +3,7 @@ package com.trademaster.trading.config;
 import com.trademaster.trading.security.JwtAuthenticationFilter;
 import com.trademaster.trading.security.JwtAuthenticationEntryPoint;
 import com.trademaster.trading.security.ServiceApiKeyFilter;
+import com.trademaster.trading.security.filter.RateLimitFilter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -12,6 +13,7 @@ import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.config.annotation.web.configurers.AuthorizeHttpRequestsConfigurer;
 import org.springframework.security.config.annotation.web.configurers.HeadersConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
@@ -38,6 +40,7 @@ import java.util.Optional;
  * - Comprehensive security headers (HSTS, CSP, X-Frame-Options)
  * - Rate limiting protection
  * - CORS configuration
+ * - Kill switch and log sampling writes limited to admins and risk managers
  * 
  * @author TradeMaster Development Team
  * @version 2.0.0 (Java 24 + Virtual Threads + SSL/TLS)
@@ -50,7 +53,16 @@ public class SecurityConfig {
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
     private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
     private final ServiceApiKeyFilter serviceApiKeyFilter;
+    private final RateLimitFilter rateLimitFilter;
     
+    /**
+     * Actuator endpoints whose writes halt order entry or change what is logged
+     */
+    static final String[] CONTROL_ENDPOINTS = {
+        "/actuator/order-controls", "/actuator/order-controls/**",
+        "/actuator/log-sampling", "/actuator/log-sampling/**"
+    };
+
     @Value("${server.ssl.enabled:false}")
     private boolean sslEnabled;
     
@@ -103,7 +115,7 @@ public class SecurityConfig {
                 .referrerPolicy(referrer -> referrer.policy(ReferrerPolicyHeaderWriter.ReferrerPolicy.STRICT_ORIGIN_WHEN_CROSS_ORIGIN))
             )
             
-            .authorizeHttpRequests(auth -> auth
+            .authorizeHttpRequests(auth -> controlEndpoints(auth)
                 // Public health and monitoring endpoints (MUST BE FIRST - order matters!)
                 .requestMatchers("/actuator/health", "/actuator/prometheus", "/actuator/info").permitAll()
                 .requestMatchers("/api/internal/*/actuator/health", "/api/internal/*/actuator/prometheus", "/api/internal/*/actuator/info").permitAll()
@@ -131,7 +143,8 @@ public class SecurityConfig {
             )
             .exceptionHandling(ex -> ex.authenticationEntryPoint(jwtAuthenticationEntryPoint))
             .addFilterBefore(serviceApiKeyFilter, UsernamePasswordAuthenticationFilter.class)
-            .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+            .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+            .addFilterAfter(rateLimitFilter, JwtAuthenticationFilter.class);
 
         // Require SSL/HTTPS if enabled - uses Optional to eliminate if-statement
         HttpSecurity finalHttpSecurity = Optional.of(requireSsl && sslEnabled)
@@ -150,6 +163,17 @@ public class SecurityConfig {
         return finalHttpSecurity.build();
     }
     
+    /**
+     * Any authenticated user may read the control endpoints; only admins and risk
+     * managers may engage a kill switch or change log sampling
+     */
+    static AuthorizeHttpRequestsConfigurer<HttpSecurity>.AuthorizationManagerRequestMatcherRegistry controlEndpoints(
+            AuthorizeHttpRequestsConfigurer<HttpSecurity>.AuthorizationManagerRequestMatcherRegistry auth) {
+        return auth
+            .requestMatchers(HttpMethod.GET, CONTROL_ENDPOINTS).authenticated()
+            .requestMatchers(CONTROL_ENDPOINTS).hasAnyRole("ADMIN", "RISK_MANAGER");
+    }
+
     @Bean
     public CorsConfigurationSource corsConfigurationSource() {
         CorsConfiguration configuration = new CorsConfiguration();
@@ -32,7 +32,7 @@ import java.util.Set;
  * - Security headers enforcement
  * - Audit logging for security events
  * - HTTP firewall configuration
- * - Rate limiting and DOS protection
+ * - Rate limiting and DOS protection (RateLimitFilter in the security filter chain)
  * - Input sanitization and validation
  * 
  * @author TradeMaster Development Team
@@ -366,103 +366,4 @@ public class SecurityHardeningConfig {
                 .orElse(request.getRemoteAddr());
         }
     }
-    
-    /**
-     * Rate limiting configuration (in production, use Redis-based implementation)
-     */
-    @Bean
-    public FilterRegistrationBean<RateLimitingFilter> rateLimitingFilter() {
-        FilterRegistrationBean<RateLimitingFilter> registrationBean = 
-            new FilterRegistrationBean<>();
-        
-        registrationBean.setFilter(new RateLimitingFilter());
-        registrationBean.addUrlPatterns("/api/*");
-        registrationBean.setOrder(0); // Highest priority
-        
-        return registrationBean;
-    }
-    
-    /**
-     * Simple in-memory rate limiting filter (use Redis for production)
-     */
-    public static class RateLimitingFilter extends OncePerRequestFilter {
-        
-        // Simple in-memory rate limiting (replace with Redis for production)
-        private final java.util.Map<String, java.util.concurrent.atomic.AtomicInteger> requestCounts = 
-            new java.util.concurrent.ConcurrentHashMap<>();
-        private final java.util.Map<String, Long> lastResetTime = 
-            new java.util.concurrent.ConcurrentHashMap<>();
-        
-        private static final int MAX_REQUESTS_PER_MINUTE = 1000; // Per IP
-        private static final long WINDOW_SIZE_MS = 60_000; // 1 minute
-        
-        @Override
-        protected void doFilterInternal(HttpServletRequest request,
-                                      HttpServletResponse response,
-                                      FilterChain filterChain)
-                throws ServletException, IOException {
-
-            String clientIP = getClientIP(request);
-            long currentTime = System.currentTimeMillis();
-
-            // Reset counters if window has expired - eliminates if-statement with Optional
-            Optional.ofNullable(lastResetTime.get(clientIP))
-                .filter(lastReset -> (currentTime - lastReset) <= WINDOW_SIZE_MS)
-                .ifPresentOrElse(
-                    lastReset -> {}, // Window still active, do nothing
-                    () -> {
-                        requestCounts.put(clientIP, new java.util.concurrent.atomic.AtomicInteger(0));
-                        lastResetTime.put(clientIP, currentTime);
-                    }
-                );
-
-            // Check rate limit - eliminates if-statement with Optional
-            java.util.concurrent.atomic.AtomicInteger count = requestCounts.get(clientIP);
-            Optional.ofNullable(count)
-                .filter(c -> c.incrementAndGet() > MAX_REQUESTS_PER_MINUTE)
-                .ifPresentOrElse(
-                    c -> {
-                        log.warn("Rate limit exceeded for IP: {} - Count: {}", clientIP, c.get());
-
-                        response.setStatus(429); // Too Many Requests
-                        response.setHeader("X-RateLimit-Limit", String.valueOf(MAX_REQUESTS_PER_MINUTE));
-                        response.setHeader("X-RateLimit-Remaining", "0");
-                        response.setHeader("X-RateLimit-Reset",
-                            String.valueOf((lastResetTime.get(clientIP) + WINDOW_SIZE_MS) / 1000));
-                        try {
-                            response.getWriter().write("{\"error\":\"RATE_LIMITED\",\"message\":\"Too many requests\"}");
-                        } catch (IOException e) {
-                            log.error("Failed to write rate limit response", e);
-                        }
-                    },
-                    () -> {
-                        try {
-                            // Add rate limit headers - eliminates if-statement with Optional
-                            Optional.ofNullable(count)
-                                .ifPresent(c -> {
-                                    response.setHeader("X-RateLimit-Limit", String.valueOf(MAX_REQUESTS_PER_MINUTE));
-                                    response.setHeader("X-RateLimit-Remaining",
-                                        String.valueOf(Math.max(0, MAX_REQUESTS_PER_MINUTE - c.get())));
-                                    response.setHeader("X-RateLimit-Reset",
-                                        String.valueOf((lastResetTime.get(clientIP) + WINDOW_SIZE_MS) / 1000));
-                                });
-
-                            filterChain.doFilter(request, response);
-                        } catch (ServletException | IOException e) {
-                            log.error("Filter chain processing failed", e);
-                        }
-                    }
-                );
-        }
-        
-        /**
-         * Get client IP address - eliminates if-statements with Optional chain
-         */
-        private String getClientIP(HttpServletRequest request) {
-            return Optional.ofNullable(request.getHeader("X-Forwarded-For"))
-                .filter(header -> !header.isEmpty())
-                .map(header -> header.split(",")[0].trim())
-                .orElse(request.getRemoteAddr());
-        }
-    }
-}
\ No newline at end of file
+}
@@ -1,5 +1,6 @@
 package com.trademaster.trading.config;
 
+import com.trademaster.trading.logging.LogContext;
 import lombok.extern.slf4j.Slf4j;
 import net.logstash.logback.argument.StructuredArguments;
 import org.slf4j.MDC;
@@ -10,12 +11,19 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 /**
  * Trading Service Structured Logger
  * 
  * Provides trading-context aware logging methods for order management and execution.
  * All logs include correlation IDs and structured data for trading analysis.
+ * 
+ * Order path methods log through the SLF4J fluent API: fields become key-value pairs on
+ * the event and nothing is built when the level is off. Context for a unit of work is best
+ * bound with runInTradingContext/callInTradingContext (a LogContext scope inherited by
+ * virtual thread forks); the set*Context methods write MDC and suit code outside the hot
+ * path only.
  */
 @Component
 @Slf4j
@@ -55,6 +63,36 @@ public class TradingLogger {
         MDC.remove(CORRELATION_ID);
     }
     
+    /**
+     * Run the task with trading context bound as LogContext, without touching MDC
+     */
+    public void runInTradingContext(String correlationId, String orderId, String symbol,
+                                    String strategy, String accountId, Runnable task) {
+        LogContext.currentOr(correlationId)
+            .withTrading(orderId, symbol, strategy, accountId)
+            .run(task);
+    }
+    
+    /**
+     * Call the task with trading context bound as LogContext, without touching MDC
+     */
+    public <T> T callInTradingContext(String correlationId, String orderId, String symbol,
+                                      String strategy, String accountId, Supplier<T> task) {
+        return LogContext.currentOr(correlationId)
+            .withTrading(orderId, symbol, strategy, accountId)
+            .call(task);
+    }
+    
+    /**
+     * Run the task with the broker added to the bound LogContext
+     */
+    public void runInBrokerContext(String broker, Runnable task) {
+        Optional.ofNullable(LogContext.current())
+            .orElseGet(() -> LogContext.of(MDC.get(CORRELATION_ID)))
+            .withBroker(broker)
+            .run(task);
+    }
+    
     /**
      * Set trading context for all subsequent logs
      * Uses Optional patterns to eliminate if-statements
@@ -86,19 +124,19 @@ public class TradingLogger {
      */
     public void logOrderSubmission(String orderId, String symbol, String side, double quantity,
                                   double price, String orderType, String strategy, long processingTimeMs) {
-        log.info("Order submitted",
-            StructuredArguments.kv(ORDER_ID, orderId),
-            StructuredArguments.kv(SYMBOL, symbol),
-            StructuredArguments.kv(SIDE, side),
-            StructuredArguments.kv(QUANTITY, quantity),
-            StructuredArguments.kv(PRICE, price),
-            StructuredArguments.kv("orderType", orderType),
-            StructuredArguments.kv(STRATEGY, strategy),
-            StructuredArguments.kv(DURATION_MS, processingTimeMs),
-            StructuredArguments.kv(OPERATION, "order_submission"),
-            StructuredArguments.kv(STATUS, "submitted"),
-            StructuredArguments.kv("timestamp", Instant.now())
-        );
+        log.atInfo()
+            .addKeyValue(ORDER_ID, orderId)
+            .addKeyValue(SYMBOL, symbol)
+            .addKeyValue(SIDE, side)
+            .addKeyValue(QUANTITY, quantity)
+            .addKeyValue(PRICE, price)
+            .addKeyValue("orderType", orderType)
+            .addKeyValue(STRATEGY, strategy)
+            .addKeyValue(DURATION_MS, processingTimeMs)
+            .addKeyValue(OPERATION, "order_submission")
+            .addKeyValue(STATUS, "submitted")
+            .addKeyValue("timestamp", Instant.now())
+            .log("Order submitted");
     }
     
     /**
@@ -107,20 +145,20 @@ public class TradingLogger {
     public void logOrderExecution(String orderId, String symbol, String side, double quantity,
                                  double executedPrice, double slippageBps, long executionLatencyMs,
                                  boolean isPartialFill) {
-        log.info("Order executed",
-            StructuredArguments.kv(ORDER_ID, orderId),
-            StructuredArguments.kv(SYMBOL, symbol),
-            StructuredArguments.kv(SIDE, side),
-            StructuredArguments.kv(QUANTITY, quantity),
-            StructuredArguments.kv("executedPrice", executedPrice),
-            StructuredArguments.kv("slippageBps", slippageBps),
-            StructuredArguments.kv("executionLatency", executionLatencyMs),
-            StructuredArguments.kv("isPartialFill", isPartialFill),
-            StructuredArguments.kv("tradeValue", quantity * executedPrice),
-            StructuredArguments.kv(OPERATION, "order_execution"),
-            StructuredArguments.kv(STATUS, "executed"),
-            StructuredArguments.kv("timestamp", Instant.now())
-        );
+        log.atInfo()
+            .addKeyValue(ORDER_ID, orderId)
+            .addKeyValue(SYMBOL, symbol)
+            .addKeyValue(SIDE, side)
+            .addKeyValue(QUANTITY, quantity)
+            .addKeyValue("executedPrice", executedPrice)
+            .addKeyValue("slippageBps", slippageBps)
+            .addKeyValue("executionLatency", executionLatencyMs)
+            .addKeyValue("isPartialFill", isPartialFill)
+            .addKeyValue("tradeValue", quantity * executedPrice)
+            .addKeyValue(OPERATION, "order_execution")
+            .addKeyValue(STATUS, "executed")
+            .addKeyValue("timestamp", Instant.now())
+            .log("Order executed");
     }
     
     /**
@@ -128,16 +166,16 @@ public class TradingLogger {
      */
     public void logOrderCancellation(String orderId, String symbol, String reason,
                                     double remainingQuantity, long processingTimeMs) {
-        log.info("Order cancelled",
-            StructuredArguments.kv(ORDER_ID, orderId),
-            StructuredArguments.kv(SYMBOL, symbol),
-            StructuredArguments.kv("reason", reason),
-            StructuredArguments.kv("remainingQuantity", remainingQuantity),
-            StructuredArguments.kv(DURATION_MS, processingTimeMs),
-            StructuredArguments.kv(OPERATION, "order_cancellation"),
-            StructuredArguments.kv(STATUS, "cancelled"),
-            StructuredArguments.kv("timestamp", Instant.now())
-        );
+        log.atInfo()
+            .addKeyValue(ORDER_ID, orderId)
+            .addKeyValue(SYMBOL, symbol)
+            .addKeyValue("reason", reason)
+            .addKeyValue("remainingQuantity", remainingQuantity)
+            .addKeyValue(DURATION_MS, processingTimeMs)
+            .addKeyValue(OPERATION, "order_cancellation")
+            .addKeyValue(STATUS, "cancelled")
+            .addKeyValue("timestamp", Instant.now())
+            .log("Order cancelled");
     }
     
     /**
@@ -145,17 +183,17 @@ public class TradingLogger {
      */
     public void logOrderRejection(String orderId, String symbol, String reason, String errorCode,
                                  String broker, long processingTimeMs) {
-        log.warn("Order rejected",
-            StructuredArguments.kv(ORDER_ID, orderId),
-            StructuredArguments.kv(SYMBOL, symbol),
-            StructuredArguments.kv("reason", reason),
-            StructuredArguments.kv("errorCode", errorCode),
-            StructuredArguments.kv(BROKER, broker),
-            StructuredArguments.kv(DURATION_MS, processingTimeMs),
-            StructuredArguments.kv(OPERATION, "order_rejection"),
-            StructuredArguments.kv(STATUS, "rejected"),
-            StructuredArguments.kv("timestamp", Instant.now())
-        );
+        log.atWarn()
+            .addKeyValue(ORDER_ID, orderId)
+            .addKeyValue(SYMBOL, symbol)
+            .addKeyValue("reason", reason)
+            .addKeyValue("errorCode", errorCode)
+            .addKeyValue(BROKER, broker)
+            .addKeyValue(DURATION_MS, processingTimeMs)
+            .addKeyValue(OPERATION, "order_rejection")
+            .addKeyValue(STATUS, "rejected")
+            .addKeyValue("timestamp", Instant.now())
+            .log("Order rejected");
     }
     
     /**
@@ -31,6 +31,7 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
  * 1. Public paths: /actuator/health, /api-docs, /swagger-ui (bypass security)
  * 2. Internal API paths: /api/internal/** (require service authentication)
  * 3. Public API paths: /api/v1/** (require JWT + API key via SecurityFacade)
+ * 4. Control endpoint writes: /actuator/order-controls, /actuator/log-sampling (ADMIN or RISK_MANAGER)
  *
  * @author TradeMaster Development Team
  * @version 1.0.0
@@ -61,7 +62,7 @@ public class TradingSecurityConfig {
                 session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
 
             // Configure authorization rules using pattern matching
-            .authorizeHttpRequests(auth -> auth
+            .authorizeHttpRequests(auth -> SecurityConfig.controlEndpoints(auth)
                 // Public paths (health checks, API docs)
                 .requestMatchers(
                     "/actuator/health",
@@ -0,0 +1,50 @@
+package com.trademaster.trading.config;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Positive;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Validation Configuration Properties
+ *
+ * Type-safe configuration for the order validator pipeline (trading.validation).
+ * retune-interval-millis is read by the pipeline's schedule directly.
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+@ConfigurationProperties(prefix = "trading.validation")
+@Validated
+public record ValidationConfigurationProperties(
+    /**
+     * Whether validators are reordered by observed latency and rejection rate
+     */
+    @DefaultValue("true")
+    boolean adaptive,
+
+    /**
+     * Time an IO wave may take before the order is rejected
+     */
+    @Positive(message = "Validation timeout must be positive")
+    @DefaultValue("2000")
+    long timeoutMillis,
+
+    /**
+     * Runs every validator needs before the order is retuned
+     */
+    @Positive(message = "Minimum samples must be positive")
+    @DefaultValue("200")
+    long minSamples,
+
+    /**
+     * Weight of the latest interval in the smoothed latency and rejection rate
+     */
+    @DecimalMin(value = "0.0", inclusive = false, message = "Smoothing must be above 0")
+    @DecimalMax(value = "1.0", message = "Smoothing must be at most 1")
+    @DefaultValue("0.3")
+    double smoothing
+) {
+}
@@ -0,0 +1,56 @@
+package com.trademaster.trading.config;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Volume Profile Configuration Properties
+ *
+ * Type-safe configuration for the intraday volume curves in IntradayVolumeProfileService
+ * (trading.vwap.profile). Session times are local times in the configured zone.
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+@ConfigurationProperties(prefix = "trading.vwap.profile")
+@Validated
+public record VolumeProfileConfigurationProperties(
+    /**
+     * Width of each curve bucket
+     */
+    @Positive(message = "Volume profile bucket width must be positive")
+    @DefaultValue("5")
+    int bucketMinutes,
+
+    /**
+     * Completed sessions averaged into the curve
+     */
+    @Positive(message = "Volume profile lookback must be positive")
+    @DefaultValue("20")
+    int lookbackDays,
+
+    /**
+     * Start of the continuous session, e.g. 09:15
+     */
+    @NotBlank(message = "Volume profile session open is required")
+    @DefaultValue("09:15")
+    String sessionOpen,
+
+    /**
+     * End of the continuous session; prints at or after it are not profiled
+     */
+    @NotBlank(message = "Volume profile session close is required")
+    @DefaultValue("15:30")
+    String sessionClose,
+
+    /**
+     * Zone the session times and trading days are in
+     */
+    @NotBlank(message = "Volume profile zone is required")
+    @DefaultValue("Asia/Kolkata")
+    String zone
+) {
+}
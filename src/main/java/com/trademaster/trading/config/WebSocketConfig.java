@@ -1,6 +1,7 @@
 package com.trademaster.trading.config;
 
 import com.trademaster.trading.websocket.MarketDataWebSocketHandler;
+import com.trademaster.trading.websocket.PnLWebSocketHandler;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Configuration;
@@ -17,6 +18,7 @@ import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry
  *
  * Architecture:
  * - /ws/market-data: Real-time price updates, order book changes, trades
+ * - /ws/pnl: Streaming P&L of the authenticated user's positions
  * - STOMP protocol support for pub/sub messaging patterns
  * - Heartbeat mechanism (30s intervals) for connection health monitoring
  * - Automatic reconnection support with exponential backoff
@@ -43,6 +45,7 @@ import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry
 public class WebSocketConfig implements WebSocketConfigurer {
 
     private final MarketDataWebSocketHandler marketDataHandler;
+    private final PnLWebSocketHandler pnlHandler;
 
     /**
      * Registers WebSocket handlers with their endpoints and allowed origins.
@@ -56,6 +59,10 @@ public class WebSocketConfig implements WebSocketConfigurer {
             .setAllowedOrigins("*") // Configure based on CORS requirements
             .withSockJS(); // Fallback for environments without WebSocket support
 
-        log.info("WebSocket handlers registered successfully: /ws/market-data");
+        registry.addHandler(pnlHandler, "/ws/pnl")
+            .setAllowedOrigins("*")
+            .withSockJS();
+
+        log.info("WebSocket handlers registered successfully: /ws/market-data, /ws/pnl");
     }
 }
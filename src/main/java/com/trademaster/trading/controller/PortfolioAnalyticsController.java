@@ -11,8 +11,11 @@ import org.springframework.web.bind.annotation.*;
 
 import java.math.BigDecimal;
 import java.time.Instant;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.SplittableRandom;
 import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
@@ -73,10 +76,13 @@ public class PortfolioAnalyticsController {
         List<PortfolioAnalytics.Position> positions = generateSamplePositions(portfolioId);
 
         // Generate sample historical returns
-        List<BigDecimal> historicalReturns = generateSampleReturns(50, new BigDecimal("0.001"), new BigDecimal("0.02"));
-        List<BigDecimal> benchmarkReturns = generateSampleReturns(50, new BigDecimal("0.0008"), new BigDecimal("0.015"));
+        LocalDate asOf = LocalDate.now();
+        List<BigDecimal> historicalReturns = generateSampleReturns(
+            Objects.hash(portfolioId, asOf), 50, new BigDecimal("0.001"), new BigDecimal("0.02"));
+        List<BigDecimal> benchmarkReturns = generateSampleReturns(
+            Objects.hash("benchmark", asOf), 50, new BigDecimal("0.0008"), new BigDecimal("0.015"));
 
-        return portfolioAnalyticsAgent.analyzePerformance(portfolioId, positions, historicalReturns, benchmarkReturns)
+        return portfolioAnalyticsAgent.analyzePerformance(portfolioId, asOf, positions, historicalReturns, benchmarkReturns)
             .thenApply(metrics -> {
                 var response = PerformanceMetricsResponse.fromDomain(metrics);
                 return ResponseEntity.ok(response);
@@ -111,12 +117,14 @@ public class PortfolioAnalyticsController {
         List<PortfolioAnalytics.Position> positions = generateSamplePositions(portfolioId);
 
         // Generate sample historical returns
-        List<BigDecimal> historicalReturns = generateSampleReturns(50, new BigDecimal("0.001"), new BigDecimal("0.02"));
+        LocalDate asOf = LocalDate.now();
+        List<BigDecimal> historicalReturns = generateSampleReturns(
+            Objects.hash(portfolioId, asOf), 50, new BigDecimal("0.001"), new BigDecimal("0.02"));
 
         // Generate sample correlation matrix
         Map<String, Map<String, BigDecimal>> correlationMatrix = generateSampleCorrelationMatrix(positions);
 
-        return portfolioAnalyticsAgent.analyzeRisk(portfolioId, positions, historicalReturns, correlationMatrix)
+        return portfolioAnalyticsAgent.analyzeRisk(portfolioId, asOf, positions, historicalReturns, correlationMatrix)
             .thenApply(metrics -> {
                 var response = RiskMetricsResponse.fromDomain(metrics);
                 return ResponseEntity.ok(response);
@@ -230,12 +238,14 @@ public class PortfolioAnalyticsController {
     }
 
     /**
-     * Generates sample daily returns using random walk with drift.
+     * Generates sample daily returns using random walk with drift. Seeded per portfolio
+     * and day, so the performance and risk endpoints see the same history.
      */
-    private List<BigDecimal> generateSampleReturns(int periods, BigDecimal drift, BigDecimal volatility) {
+    private List<BigDecimal> generateSampleReturns(long seed, int periods, BigDecimal drift, BigDecimal volatility) {
+        SplittableRandom generator = new SplittableRandom(seed);
         return java.util.stream.IntStream.range(0, periods)
             .mapToObj(i -> {
-                double random = Math.random() - 0.5;
+                double random = generator.nextDouble() - 0.5;
                 return drift.add(volatility.multiply(BigDecimal.valueOf(random)));
             })
             .collect(Collectors.toList());
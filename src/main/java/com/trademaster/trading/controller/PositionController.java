@@ -5,6 +5,8 @@ import com.trademaster.trading.common.TradeError;
 import com.trademaster.trading.dto.ErrorResponse;
 import com.trademaster.trading.dto.PositionSnapshot;
 import com.trademaster.trading.entity.Position;
+import com.trademaster.trading.pnl.PnLSnapshot;
+import com.trademaster.trading.pnl.StreamingPnLEngine;
 import com.trademaster.trading.security.TradingUserPrincipal;
 import com.trademaster.trading.service.PositionManagementService;
 import io.swagger.v3.oas.annotations.*;
@@ -65,6 +67,7 @@ import java.util.concurrent.CompletableFuture;
 public class PositionController {
 
     private final PositionManagementService positionManagementService;
+    private final StreamingPnLEngine pnlEngine;
 
     /**
      * Get all positions for authenticated user
@@ -333,12 +336,12 @@ public class PositionController {
 
     /**
      * Calculate P&L for all positions
-     * Rule #12: Parallel processing with Virtual Threads
+     * Served from StreamingPnLEngine's in-memory totals, marked to market on every tick
      */
     @GetMapping("/pnl/all")
     @Operation(
         summary = "Calculate P&L for all positions",
-        description = "Calculate real-time profit and loss for all user positions",
+        description = "Real-time profit and loss for all user positions, with the user's totals",
         tags = {"Positions", "Analytics"}
     )
     @ApiResponse(
@@ -349,38 +352,19 @@ public class PositionController {
             schema = @Schema(type = "object")
         )
     )
-    public CompletableFuture<ResponseEntity<?>> calculateAllPositionsPnL(
-            @Parameter(hidden = true) @AuthenticationPrincipal TradingUserPrincipal principal,
-            @Parameter(hidden = true) HttpServletRequest request) {
+    public ResponseEntity<?> calculateAllPositionsPnL(
+            @Parameter(hidden = true) @AuthenticationPrincipal TradingUserPrincipal principal) {
 
         Long userId = principal.getUserId();
-        String correlationId = generateCorrelationId();
-
-        log.info("Calculating all positions P&L - userId: {}, correlationId: {}",
-                userId, correlationId);
-
-        // Functional error handling (Rule #3, #11)
-        return positionManagementService.calculateAllPositionsPnL(userId)
-            .handle((pnlMap, ex) ->
-                Optional.ofNullable(ex)
-                    .map(error -> {
-                        log.error("Failed to calculate all positions P&L - userId: {}, correlationId: {}, error: {}",
-                                 userId, correlationId, error.getMessage());
-
-                        ErrorResponse errorResponse = ErrorResponse.genericError(
-                            "Failed to calculate all positions P&L: " + error.getMessage(),
-                            request.getRequestURI(),
-                            HttpStatus.INTERNAL_SERVER_ERROR.value(),
-                            correlationId
-                        );
-                        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body((Object) errorResponse);
-                    })
-                    .orElseGet(() -> {
-                        log.info("All positions P&L calculated - userId: {}, correlationId: {}",
-                                userId, correlationId);
-                        return ResponseEntity.ok((Object) pnlMap);
-                    })
-            );
+        log.debug("Reading all positions P&L - userId: {}", userId);
+
+        PnLSnapshot summary = pnlEngine.snapshot(userId)
+            .orElseGet(() -> new PnLSnapshot(userId, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO,
+                BigDecimal.ZERO, BigDecimal.ZERO));
+        return ResponseEntity.ok(Map.of(
+            "summary", summary,
+            "positions", pnlEngine.positions(userId)
+        ));
     }
 
     /**
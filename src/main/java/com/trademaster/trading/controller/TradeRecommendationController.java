@@ -4,6 +4,9 @@ import com.trademaster.trading.agentos.agents.TradeRecommendationAgent;
 import com.trademaster.trading.client.MarketDataServiceClient;
 import com.trademaster.trading.dto.MarketAnalysis;
 import com.trademaster.trading.dto.marketdata.MarketDataResponse;
+import com.trademaster.trading.history.HistoricalMarketDataStore;
+import com.trademaster.trading.indicator.screening.BatchScreeningService;
+import com.trademaster.trading.indicator.screening.ScreeningColumns;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -23,6 +26,7 @@ import java.math.BigDecimal;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
@@ -35,6 +39,7 @@ import java.util.stream.Collectors;
  * Key Features:
  * - Multi-agent AI analysis (Technical + Sentiment + Risk)
  * - Real market data integration from market-data-service
+ * - Daily bars read from the local historical store when it covers the period
  * - Customizable analysis periods and portfolio values
  * - Comprehensive recommendation with entry/exit prices
  *
@@ -51,6 +56,7 @@ import java.util.stream.Collectors;
  * Endpoints:
  * - GET /api/v1/recommendations/{symbol} - Get comprehensive trade recommendation
  * - POST /api/v1/recommendations/analyze - Analyze custom OHLCV data
+ * - POST /api/v1/recommendations/screen - Screen a watchlist in one batch
  * - GET /api/v1/recommendations/status - Get recommendation service status
  *
  * @author TradeMaster Team
@@ -71,6 +77,8 @@ public class TradeRecommendationController {
 
     private final TradeRecommendationAgent recommendationAgent;
     private final MarketDataServiceClient marketDataClient;
+    private final BatchScreeningService screeningService;
+    private final HistoricalMarketDataStore historicalStore;
 
     /**
      * Get AI-powered trade recommendation for a symbol.
@@ -147,23 +155,8 @@ public class TradeRecommendationController {
         Instant endTime = Instant.now();
         Instant startTime = endTime.minus(Duration.ofDays(periods));
 
-        // Fetch real OHLCV data from market-data-service
-        return marketDataClient.getHistoricalData(symbol, "NSE", startTime, endTime, "1d")
-            .thenCompose(marketDataResponse -> {
-                // Convert market data response to MarketAnalysis.OHLCVData format
-                List<MarketAnalysis.OHLCVData> ohlcvData = marketDataResponse.data().stream()
-                    .map(dataPoint -> new MarketAnalysis.OHLCVData(
-                        symbol,
-                        dataPoint.timestamp(),
-                        dataPoint.open(),
-                        dataPoint.high(),
-                        dataPoint.low(),
-                        dataPoint.close(),
-                        dataPoint.volume(),
-                        "1d"
-                    ))
-                    .collect(Collectors.toList());
-
+        return dailyBars(symbol, startTime, endTime)
+            .thenCompose(ohlcvData -> {
                 // Get current price from latest data point
                 BigDecimal currentPrice = ohlcvData.isEmpty()
                     ? BigDecimal.ZERO
@@ -187,6 +180,30 @@ public class TradeRecommendationController {
             });
     }
 
+    /**
+     * Daily bars from the local historical store when it reaches back to startTime,
+     * otherwise fetched from market-data-service
+     */
+    private CompletableFuture<List<MarketAnalysis.OHLCVData>> dailyBars(String symbol, Instant startTime,
+                                                                       Instant endTime) {
+        if (historicalStore.covers(symbol, startTime)) {
+            return CompletableFuture.completedFuture(historicalStore.ohlcv(symbol, startTime, endTime, "1d"));
+        }
+        return marketDataClient.getHistoricalData(symbol, "NSE", startTime, endTime, "1d")
+            .thenApply(marketDataResponse -> marketDataResponse.data().stream()
+                .map(dataPoint -> new MarketAnalysis.OHLCVData(
+                    symbol,
+                    dataPoint.timestamp(),
+                    dataPoint.open(),
+                    dataPoint.high(),
+                    dataPoint.low(),
+                    dataPoint.close(),
+                    dataPoint.volume(),
+                    "1d"
+                ))
+                .collect(Collectors.toList()));
+    }
+
     /**
      * Analyze custom OHLCV data and generate recommendation.
      *
@@ -262,6 +279,61 @@ public class TradeRecommendationController {
             });
     }
 
+    /**
+     * Screen a watchlist in one batch.
+     *
+     * Computes the technical, risk and sentiment figures of every symbol in a single
+     * columnar pass instead of one multi-agent analysis per symbol. Symbols are aligned
+     * on the most recent bars they all have.
+     *
+     * @param request Watchlist with OHLCV data per symbol
+     * @return One screening row per symbol
+     */
+    @PostMapping("/screen")
+    @PreAuthorize("hasAnyRole('TRADER', 'ADMIN')")
+    @Operation(
+        summary = "Screen a watchlist",
+        description = """
+            Computes indicators, risk metrics and sentiment scores for many symbols at once.
+
+            Per symbol: SMA 20/50, EMA 12/26, MACD and signal, RSI, Bollinger Bands, ATR,
+            annualized return and volatility, max drawdown, historical 95% VaR per share,
+            price change, volatility, volume and buy pressure scores, advance/decline ratio.
+
+            Intended for ranking thousands of symbols; use /analyze for a full
+            recommendation on a single symbol.
+            """
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "Screening completed successfully"
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid request - fewer than two bars for some symbol"
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "Unauthorized - valid JWT token required"
+        )
+    })
+    public ResponseEntity<List<ScreeningColumns.SymbolScreen>> screenWatchlist(
+            @RequestBody
+            @Validated
+            @Parameter(description = "OHLCV data per symbol")
+            ScreeningRequest request) {
+
+        log.info("Watchlist screening requested: symbols={}", request.watchlist().size());
+
+        try {
+            return ResponseEntity.ok(screeningService.screen(request.watchlist()));
+        } catch (IllegalArgumentException e) {
+            log.warn("Rejected watchlist screening: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     /**
      * Get recommendation service health status.
      *
@@ -515,6 +587,15 @@ public class TradeRecommendationController {
         BigDecimal portfolioValue
     ) {}
 
+    /**
+     * Watchlist screening request DTO.
+     */
+    @Schema(description = "Request for batch screening of a watchlist")
+    public record ScreeningRequest(
+        @Schema(description = "OHLCV data points per symbol, oldest first", required = true)
+        Map<String, List<MarketAnalysis.OHLCVData>> watchlist
+    ) {}
+
     /**
      * Service status response.
      */
@@ -0,0 +1,160 @@
+package com.trademaster.trading.history;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Daily Tick File
+ *
+ * Compacted, read-only tick file of one symbol and day: the day's intraday segments
+ * concatenated into exactly sized columns, plus a minute index for range lookups.
+ *
+ * File layout (little-endian):
+ * - header (32 bytes): magic "TMTD", version, price scale digits, row count, day start
+ *   (epoch ms), index minutes
+ * - minute index: minutes + 1 ints, entry m is the first row at or after minute m of the
+ *   day; padded to 8 bytes
+ * - columns of count entries each: timestamps (epoch ms), scaled prices, volumes
+ *
+ * A range lookup reads two index entries and binary-searches inside those minutes only.
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+final class DailyTickFile {
+
+    private static final int MAGIC = 0x44544D54;  // "TMTD" little-endian
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 32;
+    private static final long MINUTE_MILLIS = 60_000L;
+
+    private final int scaleDigits;
+    private final long dayStart;
+    private final int minutes;
+    private final IntBuffer index;
+    private final TickColumns columns;
+
+    private DailyTickFile(MappedByteBuffer mapped) {
+        this.scaleDigits = mapped.getInt(8);
+        int count = mapped.getInt(12);
+        this.dayStart = mapped.getLong(16);
+        this.minutes = mapped.getInt(24);
+        this.index = mapped.slice(HEADER_BYTES, (minutes + 1) * Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN)
+            .asIntBuffer();
+        int columnsStart = columnsStart(minutes);
+        this.columns = new TickColumns(
+            column(mapped, columnsStart, 0, count).asLongBuffer(),
+            column(mapped, columnsStart, 1, count).asLongBuffer(),
+            column(mapped, columnsStart, 2, count).asLongBuffer(),
+            count);
+    }
+
+    /**
+     * Maps the file read-only; the mapping stays valid after the channel is closed
+     */
+    static DailyTickFile open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            mapped.order(ByteOrder.LITTLE_ENDIAN);
+            if (mapped.capacity() < HEADER_BYTES || mapped.getInt(0) != MAGIC || mapped.getInt(4) != VERSION
+                    || mapped.capacity() < columnsStart(mapped.getInt(24)) + 3L * mapped.getInt(12) * Long.BYTES) {
+                throw new IOException("Not a daily tick file: " + file);
+            }
+            return new DailyTickFile(mapped);
+        }
+    }
+
+    /**
+     * Concatenates the segments' rows into a daily file, written beside it and renamed
+     * into place so readers never see a partial file
+     *
+     * @param dayStart epoch ms of the start of the day in the store's zone
+     * @param dayEnd epoch ms of the start of the next day
+     */
+    static void write(Path file, List<TickColumns> segments, int scaleDigits, long dayStart, long dayEnd)
+            throws IOException {
+        int count = segments.stream().mapToInt(TickColumns::size).sum();
+        int minutes = (int) ((dayEnd - dayStart) / MINUTE_MILLIS);
+        int columnsStart = columnsStart(minutes);
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            MappedByteBuffer out = channel.map(FileChannel.MapMode.READ_WRITE, 0,
+                columnsStart + 3L * count * Long.BYTES);
+            out.order(ByteOrder.LITTLE_ENDIAN);
+            out.putInt(0, MAGIC).putInt(4, VERSION).putInt(8, scaleDigits).putInt(12, count)
+                .putLong(16, dayStart).putInt(24, minutes);
+
+            int row = 0;
+            int minute = 0;
+            long timestampsAt = columnsStart;
+            long pricesAt = timestampsAt + (long) count * Long.BYTES;
+            long volumesAt = pricesAt + (long) count * Long.BYTES;
+            for (TickColumns segment : segments) {
+                for (int source = 0; source < segment.size(); source++, row++) {
+                    long timestamp = segment.timestamps().get(source);
+                    while (minute <= minutes && dayStart + minute * MINUTE_MILLIS <= timestamp) {
+                        out.putInt(HEADER_BYTES + minute++ * Integer.BYTES, row);
+                    }
+                    out.putLong((int) (timestampsAt + (long) row * Long.BYTES), timestamp);
+                    out.putLong((int) (pricesAt + (long) row * Long.BYTES), segment.prices().get(source));
+                    out.putLong((int) (volumesAt + (long) row * Long.BYTES), segment.volumes().get(source));
+                }
+            }
+            while (minute <= minutes) {
+                out.putInt(HEADER_BYTES + minute++ * Integer.BYTES, count);
+            }
+            out.force();
+        }
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static int columnsStart(int minutes) {
+        return (HEADER_BYTES + (minutes + 1) * Integer.BYTES + 7) & ~7;
+    }
+
+    private static ByteBuffer column(ByteBuffer mapped, int columnsStart, int column, int count) {
+        return mapped.slice(columnsStart + column * count * Long.BYTES, count * Long.BYTES)
+            .order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    int scaleDigits() {
+        return scaleDigits;
+    }
+
+    int count() {
+        return columns.size();
+    }
+
+    TickColumns columns() {
+        return columns;
+    }
+
+    /**
+     * Rows with timestamps in [fromMillis, toMillis), located through the minute index
+     */
+    TickColumns range(long fromMillis, long toMillis) {
+        int first = rowAtOrAfter(fromMillis);
+        return columns.slice(first, Math.max(first, rowAtOrAfter(toMillis)));
+    }
+
+    private int rowAtOrAfter(long epochMillis) {
+        if (epochMillis <= dayStart) {
+            return 0;
+        }
+        long minute = (epochMillis - dayStart) / MINUTE_MILLIS;
+        if (minute >= minutes) {
+            return columns.size();
+        }
+        return columns.rowAtOrAfter(epochMillis, index.get((int) minute), index.get((int) minute + 1));
+    }
+}
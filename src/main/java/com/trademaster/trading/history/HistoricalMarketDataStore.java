@@ -0,0 +1,469 @@
+package com.trademaster.trading.history;
+
+import com.trademaster.trading.backtest.ArrayBarSeries;
+import com.trademaster.trading.dto.MarketAnalysis;
+import com.trademaster.trading.dto.MarketDataMessage;
+import com.trademaster.trading.indicator.StreamingIndicatorService;
+import com.trademaster.trading.service.MarketDataStreamListener;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Historical Market Data Store
+ *
+ * Local tick history in columnar, memory-mapped files per symbol per day, fed from the
+ * live trade stream and read in place by range scans. Scans return TickSeries views on
+ * the mappings, used by the backtester (as a BarSeries), the analysis agents (as OHLCV
+ * bars) and VWAP volume profiles (bucket volumes).
+ *
+ * File Layout (under directory/&lt;SYMBOL&gt;/):
+ * - &lt;date&gt;-&lt;nnn&gt;.ticks: the day's append-only intraday segments (TickSegment), each
+ *   twice the capacity of the previous one, starting at segment-ticks
+ * - &lt;date&gt;.day: the compacted day (DailyTickFile) with a minute index
+ * - Dates are trading days in zone; prices are longs scaled by 10^price-scale-digits,
+ *   which must not change for an existing directory
+ *
+ * Ingest and Compaction:
+ * - Each trade print is appended under its symbol's monitor: three long writes into the
+ *   page cache, with file creation only on the first print of a day and on segment roll
+ * - Prints older than the symbol's last one, or for a day already compacted, are dropped
+ *   (as StreamingIndicatorService ignores late prints), so every file stays time-ordered
+ * - At startup and on compaction-cron, the segments of every day before today are
+ *   concatenated into the daily file, renamed into place, then deleted. A day that
+ *   already has its daily file only has its leftover segments deleted
+ * - After a restart, appends for the current day continue in its last segment
+ *
+ * Metrics:
+ * - trading.history.ticks: prints stored
+ * - trading.history.dropped: prints dropped as late, invalid or failed to write
+ * - trading.history.compaction: duration of a compaction run
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class HistoricalMarketDataStore implements MarketDataStreamListener {
+
+    private static final String SEGMENT_SUFFIX = ".ticks";
+    private static final String DAILY_SUFFIX = ".day";
+    private static final int DATE_LENGTH = 10;
+    private static final int MAX_SEGMENT_TICKS = 1 << 26;
+    private static final Pattern SYMBOL = Pattern.compile("^[A-Za-z0-9_&-][A-Za-z0-9_.&-]*$");
+
+    private final MeterRegistry meterRegistry;
+
+    // Rule #16: Dynamic Configuration
+    @Value("${trading.history.enabled:true}")
+    private boolean enabled;
+
+    @Value("${trading.history.directory:data/market-history}")
+    private String directory;
+
+    @Value("${trading.history.zone:Asia/Kolkata}")
+    private String zone;
+
+    @Value("${trading.history.price-scale-digits:4}")
+    private int priceScaleDigits;
+
+    @Value("${trading.history.segment-ticks:262144}")
+    private int segmentTicks;
+
+    private final Map<String, SymbolWriter> writers = new ConcurrentHashMap<>();
+    private volatile LocalDate compactedThrough = LocalDate.MIN;
+
+    private Path root;
+    private ZoneId zoneId;
+    private double scale;
+    private Counter storedTicks;
+    private Counter droppedTicks;
+    private Timer compactionTimer;
+
+    /**
+     * Segments being appended to for one day; replaced, never mutated, so readers need
+     * no lock
+     */
+    private record LiveDay(LocalDate day, List<TickSegment> segments) {}
+
+    @PostConstruct
+    public void init() {
+        zoneId = ZoneId.of(zone);
+        scale = Math.pow(10, priceScaleDigits);
+        storedTicks = Counter.builder("trading.history.ticks")
+            .description("Trade prints stored in the historical market data store")
+            .register(meterRegistry);
+        droppedTicks = Counter.builder("trading.history.dropped")
+            .description("Trade prints dropped as late, invalid or failed to write")
+            .register(meterRegistry);
+        compactionTimer = Timer.builder("trading.history.compaction")
+            .description("Historical store compaction run duration")
+            .register(meterRegistry);
+        if (!enabled) {
+            log.info("Historical market data store disabled");
+            return;
+        }
+        try {
+            root = Files.createDirectories(Path.of(directory));
+            log.info("Historical market data store opened: dir={}, zone={}, priceScaleDigits={}, segmentTicks={}",
+                    root, zone, priceScaleDigits, segmentTicks);
+        } catch (IOException e) {
+            // Trading continues without tick history rather than failing startup
+            log.error("Historical market data store unavailable - ticks will not be recorded", e);
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        writers.values().forEach(SymbolWriter::force);
+    }
+
+    @Override
+    public void onTrade(MarketDataMessage.TradeExecution trade) {
+        Optional.ofNullable(trade)
+            .filter(t -> t.symbol() != null && t.timestamp() != null && t.price() != null)
+            .filter(t -> t.quantity() != null && t.quantity() > 0)
+            .ifPresent(t -> append(t.symbol(), t.timestamp().toEpochMilli(), t.price().doubleValue(), t.quantity()));
+    }
+
+    /**
+     * Stores one trade print
+     *
+     * @return false if it was dropped
+     */
+    public boolean append(String symbol, long epochMillis, double price, long volume) {
+        boolean stored = root != null && SYMBOL.matcher(symbol).matches() && price > 0.0 && volume >= 0
+            && writers.computeIfAbsent(symbol, SymbolWriter::new)
+                .append(localDate(epochMillis), epochMillis, Math.round(price * scale), volume);
+        (stored ? storedTicks : droppedTicks).increment();
+        return stored;
+    }
+
+    // ========== Range Scans ==========
+
+    /**
+     * Ticks of the symbol with timestamps in [from, to), read in place
+     */
+    public TickSeries scan(String symbol, Instant from, Instant to) {
+        long fromMillis = from.toEpochMilli();
+        long toMillis = to.toEpochMilli();
+        List<TickColumns> chunks = new ArrayList<>();
+        if (root != null && SYMBOL.matcher(symbol).matches() && fromMillis < toMillis) {
+            LocalDate last = localDate(toMillis - 1);
+            for (LocalDate day = localDate(fromMillis); !day.isAfter(last); day = day.plusDays(1)) {
+                chunks.addAll(dayColumns(symbol, day, fromMillis, toMillis));
+            }
+        }
+        return new TickSeries(symbol, priceScaleDigits, chunks);
+    }
+
+    /**
+     * OHLCV bars of barMillis aligned to epoch multiples, for the backtester
+     */
+    public ArrayBarSeries bars(String symbol, Instant from, Instant to, long barMillis) {
+        return scan(symbol, from, to).toBars(barMillis);
+    }
+
+    /**
+     * OHLCV bars for the analysis agents
+     *
+     * @param timeframe e.g. 1m, 15m, 1h, 1d
+     */
+    public List<MarketAnalysis.OHLCVData> ohlcv(String symbol, Instant from, Instant to, String timeframe) {
+        return scan(symbol, from, to).toOhlcv(StreamingIndicatorService.timeframeMillis(timeframe), timeframe);
+    }
+
+    /**
+     * Volume traded in each bucket of the session that opens at sessionOpen on the day,
+     * in the layout IntradayVolumeProfileService.recordSessionVolumes takes
+     */
+    public long[] sessionVolumes(String symbol, LocalDate day, LocalTime sessionOpen, int bucketMinutes,
+                                 int buckets) {
+        long start = day.atTime(sessionOpen).atZone(zoneId).toInstant().toEpochMilli();
+        long bucketMillis = bucketMinutes * 60_000L;
+        return scan(symbol, Instant.ofEpochMilli(start), Instant.ofEpochMilli(start + bucketMillis * buckets))
+            .volumeProfile(start, bucketMillis, buckets);
+    }
+
+    /**
+     * Symbols with any stored day
+     */
+    public List<String> symbols() {
+        if (root == null) {
+            return List.of();
+        }
+        try (Stream<Path> paths = Files.list(root)) {
+            return paths.filter(Files::isDirectory).map(path -> path.getFileName().toString()).sorted().toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Trading days stored for the symbol, compacted or not, oldest first
+     */
+    public List<LocalDate> days(String symbol) {
+        return List.copyOf(filesByDay(symbol).keySet());
+    }
+
+    /**
+     * Whether stored history reaches back to the instant's trading day
+     */
+    public boolean covers(String symbol, Instant from) {
+        List<LocalDate> days = days(symbol);
+        return !days.isEmpty() && !days.get(0).isAfter(localDate(from.toEpochMilli()));
+    }
+
+    public ZoneId getZone() {
+        return zoneId;
+    }
+
+    private List<TickColumns> dayColumns(String symbol, LocalDate day, long fromMillis, long toMillis) {
+        try {
+            Path daily = dailyFile(symbol, day);
+            if (Files.exists(daily)) {
+                DailyTickFile file = DailyTickFile.open(daily);
+                checkScale(file.scaleDigits(), daily);
+                return List.of(file.range(fromMillis, toMillis));
+            }
+            List<TickColumns> chunks = new ArrayList<>();
+            for (TickSegment segment : segments(symbol, day)) {
+                checkScale(segment.scaleDigits(), segment.file());
+                chunks.add(segment.columns().range(fromMillis, toMillis));
+            }
+            return chunks;
+        } catch (NoSuchFileException e) {
+            // Compacted while listing: the daily file is in place now
+            return dayColumns(symbol, day, fromMillis, toMillis);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private List<TickSegment> segments(String symbol, LocalDate day) throws IOException {
+        LiveDay live = Optional.ofNullable(writers.get(symbol)).map(writer -> writer.live).orElse(null);
+        if (live != null && live.day().equals(day)) {
+            return live.segments();
+        }
+        List<TickSegment> segments = new ArrayList<>();
+        for (Path file : segmentFiles(symbol, day)) {
+            segments.add(TickSegment.open(file, false));
+        }
+        return segments;
+    }
+
+    // ========== Compaction ==========
+
+    /**
+     * Compacts every day before today into its daily file
+     *
+     * @return days compacted
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${trading.history.compaction-cron:0 0 16 * * *}", zone = "${trading.history.zone:Asia/Kolkata}")
+    public int compact() {
+        if (root == null) {
+            return 0;
+        }
+        LocalDate today = LocalDate.now(zoneId);
+        compactedThrough = today.minusDays(1);
+        long start = System.nanoTime();
+        int compacted = 0;
+        for (String symbol : symbols()) {
+            for (Map.Entry<LocalDate, List<Path>> day : filesByDay(symbol).entrySet()) {
+                if (day.getKey().isBefore(today) && !day.getValue().isEmpty()) {
+                    compacted += compactDay(symbol, day.getKey(), day.getValue()) ? 1 : 0;
+                }
+            }
+        }
+        compactionTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        if (compacted > 0) {
+            log.info("Compacted {} symbol-days of tick history through {}", compacted, compactedThrough);
+        }
+        return compacted;
+    }
+
+    private boolean compactDay(String symbol, LocalDate day, List<Path> segmentFiles) {
+        Optional.ofNullable(writers.get(symbol)).ifPresent(writer -> writer.release(day));
+        Path daily = dailyFile(symbol, day);
+        try {
+            boolean written = !Files.exists(daily);
+            if (written) {
+                List<TickColumns> columns = new ArrayList<>();
+                for (Path file : segmentFiles) {
+                    TickSegment segment = TickSegment.open(file, false);
+                    checkScale(segment.scaleDigits(), file);
+                    columns.add(segment.columns());
+                }
+                DailyTickFile.write(daily, columns, priceScaleDigits, dayStart(day), dayStart(day.plusDays(1)));
+            }
+            for (Path file : segmentFiles) {
+                Files.deleteIfExists(file);
+            }
+            return written;
+        } catch (IOException | RuntimeException e) {
+            log.error("Failed to compact {} ticks of {} - segments kept for the next run", symbol, day, e);
+            return false;
+        }
+    }
+
+    // ========== Files ==========
+
+    private Map<LocalDate, List<Path>> filesByDay(String symbol) {
+        Map<LocalDate, List<Path>> segmentsByDay = new TreeMap<>();
+        Path symbolDirectory = root == null ? null : root.resolve(symbol);
+        if (symbolDirectory == null || !SYMBOL.matcher(symbol).matches() || !Files.isDirectory(symbolDirectory)) {
+            return segmentsByDay;
+        }
+        try (Stream<Path> paths = Files.list(symbolDirectory)) {
+            paths.map(path -> path.getFileName().toString())
+                .filter(name -> name.endsWith(SEGMENT_SUFFIX) || name.endsWith(DAILY_SUFFIX))
+                .sorted()
+                .forEach(name -> {
+                    List<Path> segments = segmentsByDay.computeIfAbsent(
+                        LocalDate.parse(name.substring(0, DATE_LENGTH)), day -> new ArrayList<>());
+                    if (name.endsWith(SEGMENT_SUFFIX)) {
+                        segments.add(symbolDirectory.resolve(name));
+                    }
+                });
+            return segmentsByDay;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private List<Path> segmentFiles(String symbol, LocalDate day) {
+        return filesByDay(symbol).getOrDefault(day, List.of());
+    }
+
+    private Path dailyFile(String symbol, LocalDate day) {
+        return root.resolve(symbol).resolve(day + DAILY_SUFFIX);
+    }
+
+    private Path segmentFile(String symbol, LocalDate day, int sequence) {
+        return root.resolve(symbol).resolve(String.format("%s-%03d%s", day, sequence, SEGMENT_SUFFIX));
+    }
+
+    private void checkScale(int scaleDigits, Path file) {
+        if (scaleDigits != priceScaleDigits) {
+            throw new IllegalStateException("Price scale of " + file + " is " + scaleDigits
+                + " digits, store is configured for " + priceScaleDigits);
+        }
+    }
+
+    private LocalDate localDate(long epochMillis) {
+        return Instant.ofEpochMilli(epochMillis).atZone(zoneId).toLocalDate();
+    }
+
+    private long dayStart(LocalDate day) {
+        return day.atStartOfDay(zoneId).toInstant().toEpochMilli();
+    }
+
+    /**
+     * Append side of one symbol: its current day's segments, behind the symbol's monitor
+     */
+    private final class SymbolWriter {
+
+        private final String symbol;
+        private volatile LiveDay live;
+
+        private SymbolWriter(String symbol) {
+            this.symbol = symbol;
+        }
+
+        private synchronized boolean append(LocalDate day, long epochMillis, long scaledPrice, long volume) {
+            if (!day.isAfter(compactedThrough)) {
+                return false;
+            }
+            try {
+                if (live == null || day.isAfter(live.day())) {
+                    force();
+                    live = open(day);
+                } else if (day.isBefore(live.day())) {
+                    return false;
+                }
+                List<TickSegment> segments = live.segments();
+                TickSegment active = segments.isEmpty() ? null : segments.get(segments.size() - 1);
+                if (active != null && epochMillis < active.lastTimestamp()) {
+                    return false;
+                }
+                if (active == null || !active.append(epochMillis, scaledPrice, volume)) {
+                    active = roll();
+                    return active.append(epochMillis, scaledPrice, volume);
+                }
+                return true;
+            } catch (IOException | RuntimeException e) {
+                log.warn("Failed to store {} tick at {}: {}", symbol, epochMillis, e.getMessage());
+                return false;
+            }
+        }
+
+        /**
+         * Continues the day's segments left by a previous run, if any
+         */
+        private LiveDay open(LocalDate day) throws IOException {
+            Files.createDirectories(root.resolve(symbol));
+            if (Files.exists(dailyFile(symbol, day))) {
+                throw new IOException("Day " + day + " of " + symbol + " is already compacted");
+            }
+            List<TickSegment> segments = new ArrayList<>();
+            for (Path file : segmentFiles(symbol, day)) {
+                segments.add(TickSegment.open(file, true));
+            }
+            return new LiveDay(day, List.copyOf(segments));
+        }
+
+        private TickSegment roll() throws IOException {
+            List<TickSegment> segments = new ArrayList<>(live.segments());
+            int capacity = (int) Math.min(MAX_SEGMENT_TICKS, (long) segmentTicks << Math.min(segments.size(), 20));
+            TickSegment segment = TickSegment.create(segmentFile(symbol, live.day(), segments.size()), capacity,
+                priceScaleDigits);
+            segments.add(segment);
+            live = new LiveDay(live.day(), List.copyOf(segments));
+            return segment;
+        }
+
+        /**
+         * Stops appending to the day so it can be compacted
+         */
+        private synchronized void release(LocalDate day) {
+            if (live != null && !live.day().isAfter(day)) {
+                force();
+                live = null;
+            }
+        }
+
+        private synchronized void force() {
+            Optional.ofNullable(live).ifPresent(day -> day.segments().forEach(TickSegment::force));
+        }
+    }
+}
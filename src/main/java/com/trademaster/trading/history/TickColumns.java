@@ -0,0 +1,45 @@
+package com.trademaster.trading.history;
+
+import java.nio.LongBuffer;
+
+/**
+ * Tick Columns
+ *
+ * Rows [0, size) of one tick file as views on its mapping: timestamps (epoch ms), prices
+ * scaled by 10^scaleDigits and volumes. Slicing shares the mapping, nothing is copied.
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+record TickColumns(LongBuffer timestamps, LongBuffer prices, LongBuffer volumes, int size) {
+
+    TickColumns slice(int from, int to) {
+        return new TickColumns(timestamps.slice(from, to - from), prices.slice(from, to - from),
+            volumes.slice(from, to - from), to - from);
+    }
+
+    /**
+     * First row at or after the timestamp within [from, to), to if there is none
+     */
+    int rowAtOrAfter(long epochMillis, int from, int to) {
+        int low = from;
+        int high = to;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (timestamps.get(middle) < epochMillis) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Rows with timestamps in [fromMillis, toMillis)
+     */
+    TickColumns range(long fromMillis, long toMillis) {
+        int first = rowAtOrAfter(fromMillis, 0, size);
+        return slice(first, rowAtOrAfter(toMillis, first, size));
+    }
+}
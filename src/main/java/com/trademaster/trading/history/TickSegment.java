@@ -0,0 +1,143 @@
+package com.trademaster.trading.history;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Tick Segment
+ *
+ * Append-only intraday tick file of one symbol and day, mapped read-write at a fixed
+ * capacity. Each column is preallocated for capacity rows, so an append is three long
+ * writes into the page cache and a count update; the file is sparse until filled.
+ *
+ * File layout (little-endian):
+ * - header (32 bytes): magic "TMTS", version, price scale digits, capacity, row count
+ * - columns of capacity entries each: timestamps (epoch ms), scaled prices, volumes
+ *
+ * The row count is written after the row, so a crash mid-append loses only that row.
+ * One writer per segment (the store holds the symbol's monitor); readers see rows up to
+ * the count published through a volatile field.
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+final class TickSegment {
+
+    private static final int MAGIC = 0x53544D54;  // "TMTS" little-endian
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 32;
+    private static final int COUNT_OFFSET = 16;
+
+    private final Path file;
+    private final MappedByteBuffer mapped;
+    private final int scaleDigits;
+    private final int capacity;
+    private final TickColumns columns;
+    private volatile int count;
+
+    private TickSegment(Path file, MappedByteBuffer mapped) {
+        this.file = file;
+        this.mapped = mapped;
+        this.scaleDigits = mapped.getInt(8);
+        this.capacity = mapped.getInt(12);
+        this.count = mapped.getInt(COUNT_OFFSET);
+        this.columns = new TickColumns(
+            column(mapped, 0, capacity).asLongBuffer(),
+            column(mapped, 1, capacity).asLongBuffer(),
+            column(mapped, 2, capacity).asLongBuffer(),
+            capacity);
+    }
+
+    /**
+     * Creates an empty segment, replacing the file
+     */
+    static TickSegment create(Path file, int capacity, int scaleDigits) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, length(capacity));
+            mapped.order(ByteOrder.LITTLE_ENDIAN);
+            mapped.putInt(0, MAGIC).putInt(4, VERSION).putInt(8, scaleDigits).putInt(12, capacity)
+                .putInt(COUNT_OFFSET, 0);
+            return new TickSegment(file, mapped);
+        }
+    }
+
+    /**
+     * Maps an existing segment, read-write to continue appending or read-only
+     */
+    static TickSegment open(Path file, boolean writable) throws IOException {
+        try (FileChannel channel = writable
+                ? FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)
+                : FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer mapped = channel.map(writable ? FileChannel.MapMode.READ_WRITE
+                : FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            mapped.order(ByteOrder.LITTLE_ENDIAN);
+            if (mapped.capacity() < HEADER_BYTES || mapped.getInt(0) != MAGIC || mapped.getInt(4) != VERSION
+                    || mapped.capacity() < length(mapped.getInt(12))
+                    || mapped.getInt(COUNT_OFFSET) > mapped.getInt(12)) {
+                throw new IOException("Not a tick segment: " + file);
+            }
+            return new TickSegment(file, mapped);
+        }
+    }
+
+    private static long length(int capacity) {
+        return HEADER_BYTES + 3L * capacity * Long.BYTES;
+    }
+
+    private static ByteBuffer column(ByteBuffer mapped, int column, int capacity) {
+        return mapped.slice(HEADER_BYTES + column * capacity * Long.BYTES, capacity * Long.BYTES)
+            .order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * Appends one row; the caller serializes appends
+     *
+     * @return false when the segment is full
+     */
+    boolean append(long timestamp, long scaledPrice, long volume) {
+        int row = count;
+        if (row == capacity) {
+            return false;
+        }
+        columns.timestamps().put(row, timestamp);
+        columns.prices().put(row, scaledPrice);
+        columns.volumes().put(row, volume);
+        mapped.putInt(COUNT_OFFSET, row + 1);
+        count = row + 1;
+        return true;
+    }
+
+    Path file() {
+        return file;
+    }
+
+    int scaleDigits() {
+        return scaleDigits;
+    }
+
+    int count() {
+        return count;
+    }
+
+    long lastTimestamp() {
+        int rows = count;
+        return rows > 0 ? columns.timestamps().get(rows - 1) : Long.MIN_VALUE;
+    }
+
+    /**
+     * Rows appended so far
+     */
+    TickColumns columns() {
+        return columns.slice(0, count);
+    }
+
+    void force() {
+        mapped.force();
+    }
+}
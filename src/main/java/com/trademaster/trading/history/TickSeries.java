@@ -0,0 +1,188 @@
+package com.trademaster.trading.history;
+
+import com.trademaster.trading.backtest.ArrayBarSeries;
+import com.trademaster.trading.backtest.BarSeries;
+import com.trademaster.trading.dto.MarketAnalysis;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Tick Series
+ *
+ * Result of a HistoricalMarketDataStore range scan: one symbol's ticks, oldest first,
+ * read in place from the mapped day files it spans. Prices are kept as scaled longs and
+ * converted on read. As a BarSeries every tick is a bar with open = high = low = close, so
+ * the backtester can replay ticks directly; toBars aggregates them instead.
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+public final class TickSeries implements BarSeries {
+
+    private final String symbol;
+    private final double scale;
+    private final TickColumns[] chunks;
+    private final int[] starts;
+    private final int size;
+
+    TickSeries(String symbol, int scaleDigits, List<TickColumns> chunks) {
+        this.symbol = symbol;
+        this.scale = Math.pow(10, scaleDigits);
+        this.chunks = chunks.stream().filter(chunk -> chunk.size() > 0).toArray(TickColumns[]::new);
+        this.starts = new int[this.chunks.length + 1];
+        for (int chunk = 0; chunk < this.chunks.length; chunk++) {
+            starts[chunk + 1] = starts[chunk] + this.chunks[chunk].size();
+        }
+        this.size = starts[this.chunks.length];
+    }
+
+    @Override
+    public String symbol() {
+        return symbol;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public long timestamp(int index) {
+        int chunk = chunk(index);
+        return chunks[chunk].timestamps().get(index - starts[chunk]);
+    }
+
+    /**
+     * Price as stored: price * 10^scaleDigits
+     */
+    public long scaledPrice(int index) {
+        int chunk = chunk(index);
+        return chunks[chunk].prices().get(index - starts[chunk]);
+    }
+
+    public double price(int index) {
+        return scaledPrice(index) / scale;
+    }
+
+    @Override
+    public double open(int index) {
+        return price(index);
+    }
+
+    @Override
+    public double high(int index) {
+        return price(index);
+    }
+
+    @Override
+    public double low(int index) {
+        return price(index);
+    }
+
+    @Override
+    public double close(int index) {
+        return price(index);
+    }
+
+    @Override
+    public long volume(int index) {
+        int chunk = chunk(index);
+        return chunks[chunk].volumes().get(index - starts[chunk]);
+    }
+
+    private int chunk(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        if (chunks.length == 1) {
+            return 0;
+        }
+        int chunk = Arrays.binarySearch(starts, index);
+        return chunk >= 0 ? chunk : -chunk - 2;
+    }
+
+    /**
+     * OHLCV bars of barMillis aligned to epoch multiples, as StreamingIndicatorService
+     * builds them; intervals without ticks produce no bar
+     */
+    public ArrayBarSeries toBars(long barMillis) {
+        int capacity = 16;
+        long[] timestamps = new long[capacity];
+        double[] open = new double[capacity];
+        double[] high = new double[capacity];
+        double[] low = new double[capacity];
+        double[] close = new double[capacity];
+        long[] volume = new long[capacity];
+        int bars = -1;
+        long barIndex = Long.MIN_VALUE;
+
+        for (TickColumns chunk : chunks) {
+            for (int row = 0; row < chunk.size(); row++) {
+                long timestamp = chunk.timestamps().get(row);
+                double price = chunk.prices().get(row) / scale;
+                if (Math.floorDiv(timestamp, barMillis) != barIndex) {
+                    barIndex = Math.floorDiv(timestamp, barMillis);
+                    if (++bars == capacity) {
+                        capacity *= 2;
+                        timestamps = Arrays.copyOf(timestamps, capacity);
+                        open = Arrays.copyOf(open, capacity);
+                        high = Arrays.copyOf(high, capacity);
+                        low = Arrays.copyOf(low, capacity);
+                        close = Arrays.copyOf(close, capacity);
+                        volume = Arrays.copyOf(volume, capacity);
+                    }
+                    timestamps[bars] = barIndex * barMillis;
+                    open[bars] = price;
+                    high[bars] = price;
+                    low[bars] = price;
+                } else {
+                    high[bars] = Math.max(high[bars], price);
+                    low[bars] = Math.min(low[bars], price);
+                }
+                close[bars] = price;
+                volume[bars] += chunk.volumes().get(row);
+            }
+        }
+        int count = bars + 1;
+        return new ArrayBarSeries(symbol, Arrays.copyOf(timestamps, count), Arrays.copyOf(open, count),
+            Arrays.copyOf(high, count), Arrays.copyOf(low, count), Arrays.copyOf(close, count),
+            Arrays.copyOf(volume, count));
+    }
+
+    /**
+     * Bars in the OHLCVData form the analysis agents take
+     *
+     * @param timeframe e.g. 1m, 15m, 1h, 1d
+     */
+    public List<MarketAnalysis.OHLCVData> toOhlcv(long barMillis, String timeframe) {
+        ArrayBarSeries bars = toBars(barMillis);
+        List<MarketAnalysis.OHLCVData> ohlcv = new ArrayList<>(bars.size());
+        for (int index = 0; index < bars.size(); index++) {
+            ohlcv.add(new MarketAnalysis.OHLCVData(symbol, Instant.ofEpochMilli(bars.timestamp(index)),
+                BigDecimal.valueOf(bars.open(index)), BigDecimal.valueOf(bars.high(index)),
+                BigDecimal.valueOf(bars.low(index)), BigDecimal.valueOf(bars.close(index)),
+                bars.volume(index), timeframe));
+        }
+        return ohlcv;
+    }
+
+    /**
+     * Volume per bucket of bucketMillis from sessionStart, ticks outside the buckets ignored
+     */
+    public long[] volumeProfile(long sessionStart, long bucketMillis, int buckets) {
+        long[] volumes = new long[buckets];
+        for (TickColumns chunk : chunks) {
+            for (int row = 0; row < chunk.size(); row++) {
+                long offset = chunk.timestamps().get(row) - sessionStart;
+                if (offset >= 0 && offset / bucketMillis < buckets) {
+                    volumes[(int) (offset / bucketMillis)] += chunk.volumes().get(row);
+                }
+            }
+        }
+        return volumes;
+    }
+}
@@ -0,0 +1,269 @@
+package com.trademaster.trading.indicator;
+
+/**
+ * Incremental Indicators
+ *
+ * Rolling state of the technical indicators for one symbol, updated once per completed
+ * bar in O(1) with no allocation. Computes the same indicators as the batch path in
+ * TechnicalAnalysisAgent:
+ * - SMA 20/50 and Bollinger Bands (20, 2) from running sums over primitive ring buffers
+ * - EMA 12/26 seeded with the SMA of their first period
+ * - MACD (12, 26) with a true 9-period EMA signal line of the MACD values
+ * - RSI 14 and ATR 14 with Wilder's smoothing, seeded with the mean of the first period
+ * - Volume SMA 20
+ *
+ * Running sums are recomputed from their ring each time it wraps, so floating-point
+ * drift cannot build up over a long-running session.
+ *
+ * Not thread-safe; StreamingIndicatorService updates each instance under its symbol's lock.
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+public final class IncrementalIndicators {
+
+    public static final int SMA_SHORT = 20;
+    public static final int SMA_LONG = 50;
+    public static final int EMA_FAST = 12;
+    public static final int EMA_SLOW = 26;
+    public static final int MACD_SIGNAL = 9;
+    public static final int RSI_PERIOD = 14;
+    public static final int ATR_PERIOD = 14;
+    public static final int BB_PERIOD = 20;
+    public static final double BB_STD_DEV = 2.0;
+
+    /**
+     * Bars needed before every indicator has a value
+     */
+    public static final int WARM_UP_BARS = Math.max(SMA_LONG, Math.max(EMA_SLOW + MACD_SIGNAL - 1, RSI_PERIOD + 1));
+
+    private final RollingWindow closes20 = new RollingWindow(SMA_SHORT);
+    private final RollingWindow closes50 = new RollingWindow(SMA_LONG);
+    private final RollingWindow volumes20 = new RollingWindow(SMA_SHORT);
+    private final Ema ema12 = new Ema(EMA_FAST);
+    private final Ema ema26 = new Ema(EMA_SLOW);
+    private final Ema macdSignal = new Ema(MACD_SIGNAL);
+    private final WilderAverage averageGain = new WilderAverage(RSI_PERIOD);
+    private final WilderAverage averageLoss = new WilderAverage(RSI_PERIOD);
+    private final WilderAverage averageTrueRange = new WilderAverage(ATR_PERIOD);
+
+    private long bars;
+    private double previousClose;
+    private double lastClose;
+    private double lastVolume;
+
+    /**
+     * Folds one completed bar into every indicator
+     */
+    public void update(double high, double low, double close, double volume) {
+        closes20.add(close);
+        closes50.add(close);
+        volumes20.add(volume);
+        ema12.add(close);
+        ema26.add(close);
+        if (ema26.isReady()) {
+            macdSignal.add(ema12.value() - ema26.value());
+        }
+
+        if (bars > 0) {
+            double change = close - previousClose;
+            averageGain.add(Math.max(change, 0.0));
+            averageLoss.add(Math.max(-change, 0.0));
+            averageTrueRange.add(Math.max(high - low,
+                Math.max(Math.abs(high - previousClose), Math.abs(low - previousClose))));
+        }
+
+        previousClose = close;
+        lastClose = close;
+        lastVolume = volume;
+        bars++;
+    }
+
+    public boolean isWarm() {
+        return bars >= WARM_UP_BARS;
+    }
+
+    public long bars() {
+        return bars;
+    }
+
+    public double lastClose() {
+        return lastClose;
+    }
+
+    public double lastVolume() {
+        return lastVolume;
+    }
+
+    public double sma20() {
+        return closes20.mean();
+    }
+
+    public double sma50() {
+        return closes50.mean();
+    }
+
+    public double ema12() {
+        return ema12.value();
+    }
+
+    public double ema26() {
+        return ema26.value();
+    }
+
+    public double macd() {
+        return ema26.isReady() ? ema12.value() - ema26.value() : 0.0;
+    }
+
+    public double macdSignal() {
+        return macdSignal.value();
+    }
+
+    /**
+     * Neutral 50 until the first period of changes is in, 100 without losses
+     */
+    public double rsi() {
+        if (!averageLoss.isReady()) {
+            return 50.0;
+        }
+        double loss = averageLoss.value();
+        return loss == 0.0 ? 100.0 : 100.0 - 100.0 / (1.0 + averageGain.value() / loss);
+    }
+
+    public double atr() {
+        return averageTrueRange.value();
+    }
+
+    /**
+     * Population standard deviation of the last BB_PERIOD closes
+     */
+    public double bollingerStdDev() {
+        return closes20.standardDeviation();
+    }
+
+    public double volumeSma() {
+        return volumes20.mean();
+    }
+
+    /**
+     * Fixed-size window with running sum and sum of squares
+     */
+    private static final class RollingWindow {
+
+        private final double[] values;
+        private int head;
+        private int size;
+        private double sum;
+        private double sumOfSquares;
+
+        private RollingWindow(int period) {
+            this.values = new double[period];
+        }
+
+        private void add(double value) {
+            double evicted = values[head];
+            values[head] = value;
+            head = head + 1 == values.length ? 0 : head + 1;
+            if (size < values.length) {
+                size++;
+                sum += value;
+                sumOfSquares += value * value;
+            } else if (head == 0) {
+                resum();
+            } else {
+                sum += value - evicted;
+                sumOfSquares += value * value - evicted * evicted;
+            }
+        }
+
+        private void resum() {
+            double total = 0.0;
+            double squares = 0.0;
+            for (double value : values) {
+                total += value;
+                squares += value * value;
+            }
+            sum = total;
+            sumOfSquares = squares;
+        }
+
+        /**
+         * Mean of a full window, 0 before it fills (as the batch SMA)
+         */
+        private double mean() {
+            return size == values.length ? sum / size : 0.0;
+        }
+
+        private double standardDeviation() {
+            if (size == 0) {
+                return 0.0;
+            }
+            double mean = sum / size;
+            return Math.sqrt(Math.max(sumOfSquares / size - mean * mean, 0.0));
+        }
+    }
+
+    /**
+     * Exponential moving average seeded with the simple mean of its first period
+     */
+    private static final class Ema {
+
+        private final int period;
+        private final double multiplier;
+        private int count;
+        private double value;
+
+        private Ema(int period) {
+            this.period = period;
+            this.multiplier = 2.0 / (period + 1);
+        }
+
+        private void add(double sample) {
+            if (count < period) {
+                value += sample / period;
+                count++;
+            } else {
+                value += (sample - value) * multiplier;
+            }
+        }
+
+        private boolean isReady() {
+            return count == period;
+        }
+
+        private double value() {
+            return isReady() ? value : 0.0;
+        }
+    }
+
+    /**
+     * Wilder's smoothed average seeded with the simple mean of its first period
+     */
+    private static final class WilderAverage {
+
+        private final int period;
+        private int count;
+        private double value;
+
+        private WilderAverage(int period) {
+            this.period = period;
+        }
+
+        private void add(double sample) {
+            if (count < period) {
+                value += sample / period;
+                count++;
+            } else {
+                value = (value * (period - 1) + sample) / period;
+            }
+        }
+
+        private boolean isReady() {
+            return count == period;
+        }
+
+        private double value() {
+            return isReady() ? value : 0.0;
+        }
+    }
+}
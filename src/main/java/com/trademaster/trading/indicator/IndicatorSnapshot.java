@@ -0,0 +1,56 @@
+package com.trademaster.trading.indicator;
+
+import java.time.Instant;
+
+/**
+ * Indicator Snapshot
+ *
+ * Indicator values of one symbol as of its last completed bar, published by
+ * StreamingIndicatorService on every bar close and read without locking.
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+public record IndicatorSnapshot(
+    String symbol,
+    String timeframe,
+    Instant barTime,
+    long bars,
+    double close,
+    double volume,
+    double sma20,
+    double sma50,
+    double ema12,
+    double ema26,
+    double rsi,
+    double macd,
+    double macdSignal,
+    double bollingerStdDev,
+    double atr,
+    double volumeSma
+) {
+
+    static IndicatorSnapshot of(String symbol, String timeframe, Instant barTime, IncrementalIndicators indicators) {
+        return new IndicatorSnapshot(symbol, timeframe, barTime, indicators.bars(),
+            indicators.lastClose(), indicators.lastVolume(),
+            indicators.sma20(), indicators.sma50(), indicators.ema12(), indicators.ema26(),
+            indicators.rsi(), indicators.macd(), indicators.macdSignal(),
+            indicators.bollingerStdDev(), indicators.atr(), indicators.volumeSma());
+    }
+
+    public boolean isWarm() {
+        return bars >= IncrementalIndicators.WARM_UP_BARS;
+    }
+
+    public double macdHistogram() {
+        return macd - macdSignal;
+    }
+
+    public double bollingerUpper() {
+        return sma20 + IncrementalIndicators.BB_STD_DEV * bollingerStdDev;
+    }
+
+    public double bollingerLower() {
+        return sma20 - IncrementalIndicators.BB_STD_DEV * bollingerStdDev;
+    }
+}
@@ -0,0 +1,218 @@
+package com.trademaster.trading.indicator;
+
+import com.trademaster.trading.dto.MarketAnalysis;
+import com.trademaster.trading.dto.MarketDataMessage;
+import com.trademaster.trading.service.MarketDataStreamListener;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Streaming Indicator Service
+ *
+ * Per-symbol technical indicators maintained incrementally from the live market data
+ * stream. Trades and price updates are aggregated into bars of bar-timeframe; each
+ * completed bar is folded into the symbol's IncrementalIndicators in O(1) and a new
+ * IndicatorSnapshot is published. TechnicalAnalysisAgent (and through it
+ * TradeRecommendationAgent) reads the published snapshot instead of recomputing every
+ * indicator from the full OHLCV history per request.
+ *
+ * Key Features:
+ * - O(1), allocation-free accumulation of a print into the symbol's open bar
+ * - Bars close on the first print of the next bar, or at the latest one
+ *   bar-close-check-millis after their interval ends
+ * - Late prints for an already closed bar are ignored; intervals without prints produce
+ *   no bar
+ * - Snapshots are immutable and read without locking
+ * - Warm start from historical bars through backfill
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+@Service
+@Slf4j
+public class StreamingIndicatorService implements MarketDataStreamListener {
+
+    // Rule #16: Dynamic Configuration
+    @Value("${trading.indicators.streaming.enabled:true}")
+    private boolean enabled;
+
+    @Value("${trading.indicators.streaming.bar-timeframe:1m}")
+    private String barTimeframe;
+
+    @Value("${trading.indicators.streaming.max-symbols:5000}")
+    private int maxSymbols;
+
+    private final Map<String, SymbolSeries> series = new ConcurrentHashMap<>();
+    private long barMillis;
+
+    @PostConstruct
+    public void init() {
+        barMillis = timeframeMillis(barTimeframe);
+        log.info("Streaming indicators initialized - enabled: {}, barTimeframe: {}, maxSymbols: {}",
+                enabled, barTimeframe, maxSymbols);
+    }
+
+    @Override
+    public void onTrade(MarketDataMessage.TradeExecution trade) {
+        Optional.ofNullable(trade)
+            .filter(t -> t.symbol() != null && t.price() != null && t.timestamp() != null)
+            .ifPresent(t -> record(t.symbol(), t.timestamp().toEpochMilli(), t.price().doubleValue(),
+                t.quantity() == null ? 0L : t.quantity()));
+    }
+
+    @Override
+    public void onPriceUpdate(MarketDataMessage.PriceUpdate priceUpdate) {
+        Optional.ofNullable(priceUpdate)
+            .filter(update -> update.symbol() != null && update.lastPrice() != null && update.timestamp() != null)
+            .ifPresent(update -> record(update.symbol(), update.timestamp().toEpochMilli(),
+                update.lastPrice().doubleValue(), 0L));
+    }
+
+    /**
+     * Latest indicators of a symbol once every indicator has a value
+     */
+    public Optional<IndicatorSnapshot> latest(String symbol) {
+        return Optional.ofNullable(series.get(symbol))
+            .map(symbolSeries -> symbolSeries.snapshot)
+            .filter(IndicatorSnapshot::isWarm);
+    }
+
+    /**
+     * Latest indicators of a symbol when they are computed over bars of the given
+     * timeframe (null accepts any)
+     */
+    public Optional<IndicatorSnapshot> latest(String symbol, String timeframe) {
+        return Optional.of(enabled && (timeframe == null || barTimeframe.equals(timeframe)))
+            .filter(Boolean::booleanValue)
+            .flatMap(matches -> latest(symbol));
+    }
+
+    /**
+     * Seeds a symbol without streamed bars yet from historical bars of bar-timeframe,
+     * oldest first (e.g. from the historical store on warm start)
+     */
+    public boolean backfill(String symbol, List<MarketAnalysis.OHLCVData> bars) {
+        SymbolSeries symbolSeries = series.computeIfAbsent(symbol, SymbolSeries::new);
+        return symbolSeries.backfill(bars);
+    }
+
+    public String getBarTimeframe() {
+        return barTimeframe;
+    }
+
+    public int trackedSymbols() {
+        return series.size();
+    }
+
+    /**
+     * Closes open bars whose interval has ended, so quiet symbols publish on time
+     */
+    @Scheduled(fixedDelayString = "${trading.indicators.streaming.bar-close-check-millis:1000}")
+    public void closeElapsedBars() {
+        long currentBar = System.currentTimeMillis() / barMillis;
+        series.values().forEach(symbolSeries -> symbolSeries.closeBefore(currentBar));
+    }
+
+    private void record(String symbol, long epochMillis, double price, long quantity) {
+        if (!enabled) {
+            return;
+        }
+        SymbolSeries symbolSeries = series.get(symbol);
+        if (symbolSeries == null) {
+            if (series.size() >= maxSymbols) {
+                return;
+            }
+            symbolSeries = series.computeIfAbsent(symbol, SymbolSeries::new);
+        }
+        symbolSeries.add(epochMillis / barMillis, price, quantity);
+    }
+
+    /**
+     * Length of a timeframe such as 30s, 1m, 1h or 1d in milliseconds
+     */
+    public static long timeframeMillis(String timeframe) {
+        long amount = Long.parseLong(timeframe.substring(0, timeframe.length() - 1));
+        return amount * switch (timeframe.charAt(timeframe.length() - 1)) {
+            case 's' -> 1_000L;
+            case 'm' -> 60_000L;
+            case 'h' -> 3_600_000L;
+            case 'd' -> 86_400_000L;
+            default -> throw new IllegalArgumentException("Unsupported bar timeframe: " + timeframe);
+        };
+    }
+
+    /**
+     * Open bar and indicator state of one symbol; writers take its monitor, readers only
+     * read the published snapshot
+     */
+    private final class SymbolSeries {
+
+        private final String symbol;
+        private final IncrementalIndicators indicators = new IncrementalIndicators();
+        private volatile IndicatorSnapshot snapshot;
+
+        private long barIndex = -1;
+        private boolean barOpen;
+        private double high;
+        private double low;
+        private double close;
+        private double volume;
+
+        private SymbolSeries(String symbol) {
+            this.symbol = symbol;
+        }
+
+        private synchronized void add(long index, double price, long quantity) {
+            if (index < barIndex || (index == barIndex && !barOpen)) {
+                return;
+            }
+            if (index > barIndex) {
+                closeBar();
+                barIndex = index;
+                barOpen = true;
+                high = price;
+                low = price;
+                volume = 0.0;
+            }
+            high = Math.max(high, price);
+            low = Math.min(low, price);
+            close = price;
+            volume += quantity;
+        }
+
+        private synchronized void closeBefore(long index) {
+            if (barIndex < index) {
+                closeBar();
+            }
+        }
+
+        private synchronized boolean backfill(List<MarketAnalysis.OHLCVData> bars) {
+            if (indicators.bars() > 0 || barOpen || bars.isEmpty()) {
+                return false;
+            }
+            bars.forEach(bar -> indicators.update(bar.high().doubleValue(), bar.low().doubleValue(),
+                bar.close().doubleValue(), bar.volume() == null ? 0.0 : bar.volume()));
+            barIndex = bars.get(bars.size() - 1).timestamp().toEpochMilli() / barMillis;
+            snapshot = IndicatorSnapshot.of(symbol, barTimeframe, Instant.ofEpochMilli(barIndex * barMillis), indicators);
+            return true;
+        }
+
+        private void closeBar() {
+            if (!barOpen) {
+                return;
+            }
+            barOpen = false;
+            indicators.update(high, low, close, volume);
+            snapshot = IndicatorSnapshot.of(symbol, barTimeframe, Instant.ofEpochMilli(barIndex * barMillis), indicators);
+        }
+    }
+}
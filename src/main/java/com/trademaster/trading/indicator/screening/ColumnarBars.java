@@ -0,0 +1,86 @@
+package com.trademaster.trading.indicator.screening;
+
+import com.trademaster.trading.dto.MarketAnalysis;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Columnar Bars
+ *
+ * OHLCV bars of many symbols as primitive columns for batch screening. The layout is
+ * time-major: bar t of symbol s is at index t * symbolCount + s, so one row holds every
+ * symbol at the same bar and a vector lane maps to a symbol. Every symbol has the same
+ * number of bars, oldest first.
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+public final class ColumnarBars {
+
+    public static final int MIN_BARS = 2;
+
+    private final String[] symbols;
+    private final int barCount;
+    final double[] open;
+    final double[] high;
+    final double[] low;
+    final double[] close;
+    final double[] volume;
+
+    public ColumnarBars(String[] symbols, int barCount) {
+        if (barCount < MIN_BARS) {
+            throw new IllegalArgumentException("At least " + MIN_BARS + " bars per symbol are required: " + barCount);
+        }
+        this.symbols = symbols.clone();
+        this.barCount = barCount;
+        int cells = symbols.length * barCount;
+        this.open = new double[cells];
+        this.high = new double[cells];
+        this.low = new double[cells];
+        this.close = new double[cells];
+        this.volume = new double[cells];
+    }
+
+    /**
+     * Columns from per-symbol bar lists, keeping the most recent bars that every symbol has
+     */
+    public static ColumnarBars fromOhlcv(Map<String, List<MarketAnalysis.OHLCVData>> barsBySymbol) {
+        String[] symbols = barsBySymbol.keySet().toArray(String[]::new);
+        int barCount = barsBySymbol.values().stream().mapToInt(List::size).min().orElse(0);
+        ColumnarBars columns = new ColumnarBars(symbols, barCount);
+
+        for (int symbol = 0; symbol < symbols.length; symbol++) {
+            List<MarketAnalysis.OHLCVData> bars = barsBySymbol.get(symbols[symbol]);
+            int first = bars.size() - barCount;
+            for (int bar = 0; bar < barCount; bar++) {
+                MarketAnalysis.OHLCVData data = bars.get(first + bar);
+                columns.set(bar, symbol, data.open().doubleValue(), data.high().doubleValue(),
+                    data.low().doubleValue(), data.close().doubleValue(),
+                    data.volume() == null ? 0.0 : data.volume());
+            }
+        }
+        return columns;
+    }
+
+    public void set(int bar, int symbol, double open, double high, double low, double close, double volume) {
+        int index = bar * symbols.length + symbol;
+        this.open[index] = open;
+        this.high[index] = high;
+        this.low[index] = low;
+        this.close[index] = close;
+        this.volume[index] = volume;
+    }
+
+    public String symbol(int symbol) {
+        return symbols[symbol];
+    }
+
+    public int symbolCount() {
+        return symbols.length;
+    }
+
+    public int barCount() {
+        return barCount;
+    }
+}
@@ -0,0 +1,243 @@
+package com.trademaster.trading.indicator.screening;
+
+import static com.trademaster.trading.indicator.IncrementalIndicators.*;
+
+/**
+ * Scalar Screening Kernel
+ *
+ * Reference kernel, one symbol at a time. Used when the Vector API module is not
+ * resolved or vector screening is disabled, and for the symbols left over after the
+ * last full vector of a block. VectorScreeningKernel applies the same operations in the
+ * same order per lane, so both kernels produce identical columns.
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+public final class ScalarScreeningKernel implements ScreeningKernel {
+
+    static final double TRADING_DAYS_PER_YEAR = 252.0;
+    static final double VAR_TAIL = 0.05;
+    static final int SENTIMENT_LOOKBACK = 20;
+
+    @Override
+    public void screen(ColumnarBars bars, int from, int to, ScreeningColumns out) {
+        double[] scratch = new double[bars.barCount() - 1];
+        for (int symbol = from; symbol < to; symbol++) {
+            screenTechnical(bars, symbol, out);
+            screenRisk(bars, symbol, out);
+            screenSentiment(bars, symbol, out);
+            out.valueAtRisk[symbol] = valueAtRisk(bars, symbol, scratch);
+        }
+    }
+
+    @Override
+    public int lanes() {
+        return 1;
+    }
+
+    @Override
+    public String name() {
+        return "scalar";
+    }
+
+    private static void screenTechnical(ColumnarBars bars, int symbol, ScreeningColumns out) {
+        int stride = bars.symbolCount();
+        int count = bars.barCount();
+        double[] close = bars.close;
+
+        double ema12 = 0.0;
+        double ema26 = 0.0;
+        double signal = 0.0;
+        double gain = 0.0;
+        double loss = 0.0;
+        double atr = 0.0;
+        for (int bar = 0; bar < count; bar++) {
+            double price = close[bar * stride + symbol];
+            ema12 = bar < EMA_FAST ? ema12 + price / EMA_FAST : ema12 + (price - ema12) * (2.0 / (EMA_FAST + 1));
+            ema26 = bar < EMA_SLOW ? ema26 + price / EMA_SLOW : ema26 + (price - ema26) * (2.0 / (EMA_SLOW + 1));
+            if (bar >= EMA_SLOW - 1) {
+                double macd = ema12 - ema26;
+                signal = bar < EMA_SLOW - 1 + MACD_SIGNAL
+                    ? signal + macd / MACD_SIGNAL
+                    : signal + (macd - signal) * (2.0 / (MACD_SIGNAL + 1));
+            }
+            if (bar > 0) {
+                double previous = close[(bar - 1) * stride + symbol];
+                double change = price - previous;
+                double high = bars.high[bar * stride + symbol];
+                double low = bars.low[bar * stride + symbol];
+                double trueRange = Math.max(high - low, Math.max(Math.abs(high - previous), Math.abs(low - previous)));
+                gain = wilder(gain, Math.max(change, 0.0), bar, RSI_PERIOD);
+                loss = wilder(loss, Math.max(-change, 0.0), bar, RSI_PERIOD);
+                atr = wilder(atr, trueRange, bar, ATR_PERIOD);
+            }
+        }
+
+        out.sma20[symbol] = count < SMA_SHORT ? 0.0 : windowMean(close, stride, symbol, count, SMA_SHORT);
+        out.sma50[symbol] = count < SMA_LONG ? 0.0 : windowMean(close, stride, symbol, count, SMA_LONG);
+        out.bollingerStdDev[symbol] = windowStdDev(close, stride, symbol, count, Math.min(BB_PERIOD, count));
+        out.ema12[symbol] = count < EMA_FAST ? 0.0 : ema12;
+        out.ema26[symbol] = count < EMA_SLOW ? 0.0 : ema26;
+        out.macd[symbol] = count < EMA_SLOW ? 0.0 : ema12 - ema26;
+        out.macdSignal[symbol] = count < EMA_SLOW - 1 + MACD_SIGNAL ? 0.0 : signal;
+        out.rsi[symbol] = count <= RSI_PERIOD ? 50.0 : loss == 0.0 ? 100.0 : 100.0 - 100.0 / (1.0 + gain / loss);
+        out.atr[symbol] = count <= ATR_PERIOD ? 0.0 : atr;
+    }
+
+    private static void screenRisk(ColumnarBars bars, int symbol, ScreeningColumns out) {
+        int stride = bars.symbolCount();
+        int count = bars.barCount();
+        double[] close = bars.close;
+
+        double sum = 0.0;
+        double peak = close[symbol];
+        double maxDrawdown = 0.0;
+        for (int bar = 1; bar < count; bar++) {
+            double price = close[bar * stride + symbol];
+            sum += simpleReturn(close[(bar - 1) * stride + symbol], price);
+            peak = Math.max(peak, price);
+            maxDrawdown = Math.max(maxDrawdown, peak > 0.0 ? (peak - price) / peak : 0.0);
+        }
+        int returns = count - 1;
+        double mean = sum / returns;
+
+        double squares = 0.0;
+        for (int bar = 1; bar < count; bar++) {
+            double deviation = simpleReturn(close[(bar - 1) * stride + symbol], close[bar * stride + symbol]) - mean;
+            squares += deviation * deviation;
+        }
+        double variance = returns > 1 ? squares / (returns - 1) : 0.0;
+
+        out.expectedReturn[symbol] = mean * TRADING_DAYS_PER_YEAR * 100.0;
+        out.volatility[symbol] = Math.sqrt(variance) * Math.sqrt(TRADING_DAYS_PER_YEAR) * 100.0;
+        out.maxDrawdown[symbol] = maxDrawdown * 100.0;
+    }
+
+    private static void screenSentiment(ColumnarBars bars, int symbol, ScreeningColumns out) {
+        int stride = bars.symbolCount();
+        int count = bars.barCount();
+        int periods = Math.min(SENTIMENT_LOOKBACK, count);
+
+        double rangePercent = 0.0;
+        double volume = 0.0;
+        double advancing = 0.0;
+        for (int bar = count - periods; bar < count; bar++) {
+            int index = bar * stride + symbol;
+            double price = bars.close[index];
+            rangePercent += price != 0.0 ? (bars.high[index] - bars.low[index]) / price * 100.0 : 0.0;
+            volume += bars.volume[index];
+            advancing += price > bars.open[index] ? 1.0 : 0.0;
+        }
+
+        int last = (count - 1) * stride + symbol;
+        double averageVolume = volume / periods;
+        double volumeScore = averageVolume > 0.0 ? clamp(bars.volume[last] / averageVolume * 50.0) : 0.0;
+        double range = bars.high[last] - bars.low[last];
+        double basePressure = range != 0.0 ? (bars.close[last] - bars.low[last]) / range * 100.0 : 50.0;
+
+        out.priceChangePercent[symbol] =
+            simpleReturn(bars.close[last - stride], bars.close[last]) * 100.0;
+        out.volatilityScore[symbol] = Math.min(rangePercent / periods * 20.0, 100.0);
+        out.volumeScore[symbol] = volumeScore;
+        out.buyPressure[symbol] = range != 0.0
+            ? basePressure * 0.7 + basePressure * (volumeScore / 100.0) * 0.3
+            : 50.0;
+        out.advanceDecline[symbol] = advanceDecline(advancing, periods);
+    }
+
+    /**
+     * Historical VaR at 95% per share: the 5th percentile return against the last close
+     */
+    static double valueAtRisk(ColumnarBars bars, int symbol, double[] scratch) {
+        int stride = bars.symbolCount();
+        int count = bars.barCount();
+        double[] close = bars.close;
+        for (int bar = 1; bar < count; bar++) {
+            scratch[bar - 1] = simpleReturn(close[(bar - 1) * stride + symbol], close[bar * stride + symbol]);
+        }
+        return tailLoss(scratch, 0, count - 1, close[(count - 1) * stride + symbol]);
+    }
+
+    /**
+     * |5th percentile| of returns[from, from + length) times the price; reorders the returns
+     */
+    static double tailLoss(double[] returns, int from, int length, double price) {
+        return Math.abs(select(returns, from, from + length - 1, from + (int) (length * VAR_TAIL))) * price;
+    }
+
+    /**
+     * Ratio of advancing to declining bars in -100..100, as SentimentAnalysisAgent
+     */
+    static double advanceDecline(double advancing, int periods) {
+        double declining = periods - advancing;
+        if (declining == 0.0) {
+            return 100.0;
+        }
+        if (advancing == 0.0) {
+            return -100.0;
+        }
+        return (int) ((advancing - declining) * 100.0 / periods);
+    }
+
+    static double simpleReturn(double previous, double price) {
+        return previous != 0.0 ? price / previous - 1.0 : 0.0;
+    }
+
+    private static double wilder(double average, double sample, int bar, int period) {
+        return bar <= period ? average + sample / period : (average * (period - 1) + sample) / period;
+    }
+
+    private static double windowMean(double[] column, int stride, int symbol, int count, int period) {
+        double sum = 0.0;
+        for (int bar = count - period; bar < count; bar++) {
+            sum += column[bar * stride + symbol];
+        }
+        return sum / period;
+    }
+
+    private static double windowStdDev(double[] column, int stride, int symbol, int count, int period) {
+        double mean = windowMean(column, stride, symbol, count, period);
+        double squares = 0.0;
+        for (int bar = count - period; bar < count; bar++) {
+            double deviation = column[bar * stride + symbol] - mean;
+            squares += deviation * deviation;
+        }
+        return Math.sqrt(squares / period);
+    }
+
+    private static double clamp(double score) {
+        return Math.max(0.0, Math.min(score, 100.0));
+    }
+
+    /**
+     * Value that sorts to index k of values[left, right] by quickselect; reorders values
+     */
+    private static double select(double[] values, int left, int right, int k) {
+        while (left < right) {
+            double pivot = values[(left + right) >>> 1];
+            int i = left;
+            int j = right;
+            while (i <= j) {
+                while (values[i] < pivot) {
+                    i++;
+                }
+                while (values[j] > pivot) {
+                    j--;
+                }
+                if (i <= j) {
+                    double swap = values[i];
+                    values[i++] = values[j];
+                    values[j--] = swap;
+                }
+            }
+            if (k <= j) {
+                right = j;
+            } else if (k >= i) {
+                left = i;
+            } else {
+                return values[k];
+            }
+        }
+        return values[k];
+    }
+}
@@ -0,0 +1,110 @@
+package com.trademaster.trading.indicator.screening;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Screening Columns
+ *
+ * Per-symbol screening results as primitive columns, written by a ScreeningKernel for
+ * its block of symbols. Definitions follow the per-symbol agents:
+ * - Technical (TechnicalAnalysisAgent): SMA 20/50, EMA 12/26, MACD with 9-period signal,
+ *   RSI 14, Bollinger standard deviation (20), ATR 14
+ * - Risk (RiskAssessmentAgent): annualized expected return and volatility in percent,
+ *   max drawdown in percent, historical 95% VaR per share at the last close
+ * - Sentiment (SentimentAnalysisAgent): last price change, volatility, volume and buy
+ *   pressure scores (0-100) and advance/decline ratio over the last 20 bars
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+public final class ScreeningColumns {
+
+    private final ColumnarBars bars;
+    final double[] sma20;
+    final double[] sma50;
+    final double[] ema12;
+    final double[] ema26;
+    final double[] macd;
+    final double[] macdSignal;
+    final double[] rsi;
+    final double[] bollingerStdDev;
+    final double[] atr;
+    final double[] expectedReturn;
+    final double[] volatility;
+    final double[] maxDrawdown;
+    final double[] valueAtRisk;
+    final double[] priceChangePercent;
+    final double[] volatilityScore;
+    final double[] volumeScore;
+    final double[] buyPressure;
+    final double[] advanceDecline;
+
+    /**
+     * One symbol's row
+     */
+    public record SymbolScreen(
+        String symbol,
+        double close,
+        double sma20,
+        double sma50,
+        double ema12,
+        double ema26,
+        double macd,
+        double macdSignal,
+        double rsi,
+        double bollingerUpper,
+        double bollingerLower,
+        double atr,
+        double expectedReturn,
+        double volatility,
+        double maxDrawdown,
+        double valueAtRisk,
+        double priceChangePercent,
+        double volatilityScore,
+        double volumeScore,
+        double buyPressure,
+        int advanceDecline
+    ) {}
+
+    ScreeningColumns(ColumnarBars bars) {
+        this.bars = bars;
+        int symbols = bars.symbolCount();
+        sma20 = new double[symbols];
+        sma50 = new double[symbols];
+        ema12 = new double[symbols];
+        ema26 = new double[symbols];
+        macd = new double[symbols];
+        macdSignal = new double[symbols];
+        rsi = new double[symbols];
+        bollingerStdDev = new double[symbols];
+        atr = new double[symbols];
+        expectedReturn = new double[symbols];
+        volatility = new double[symbols];
+        maxDrawdown = new double[symbols];
+        valueAtRisk = new double[symbols];
+        priceChangePercent = new double[symbols];
+        volatilityScore = new double[symbols];
+        volumeScore = new double[symbols];
+        buyPressure = new double[symbols];
+        advanceDecline = new double[symbols];
+    }
+
+    public int symbolCount() {
+        return bars.symbolCount();
+    }
+
+    public SymbolScreen row(int symbol) {
+        double lastClose = bars.close[(bars.barCount() - 1) * bars.symbolCount() + symbol];
+        return new SymbolScreen(bars.symbol(symbol), lastClose,
+            sma20[symbol], sma50[symbol], ema12[symbol], ema26[symbol], macd[symbol], macdSignal[symbol],
+            rsi[symbol], sma20[symbol] + 2.0 * bollingerStdDev[symbol], sma20[symbol] - 2.0 * bollingerStdDev[symbol],
+            atr[symbol], expectedReturn[symbol], volatility[symbol], maxDrawdown[symbol], valueAtRisk[symbol],
+            priceChangePercent[symbol], volatilityScore[symbol], volumeScore[symbol], buyPressure[symbol],
+            (int) advanceDecline[symbol]);
+    }
+
+    public List<SymbolScreen> rows() {
+        return IntStream.range(0, symbolCount()).mapToObj(this::row).toList();
+    }
+}
@@ -0,0 +1,25 @@
+package com.trademaster.trading.indicator.screening;
+
+/**
+ * Screening Kernel
+ *
+ * Computes the screening columns for a contiguous block of symbols. Blocks never
+ * overlap, so BatchScreeningService runs kernels on several blocks in parallel.
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+public interface ScreeningKernel {
+
+    /**
+     * Fills out for symbols [from, to)
+     */
+    void screen(ColumnarBars bars, int from, int to, ScreeningColumns out);
+
+    /**
+     * Symbols processed together; block boundaries are aligned to it
+     */
+    int lanes();
+
+    String name();
+}
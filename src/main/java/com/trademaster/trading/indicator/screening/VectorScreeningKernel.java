@@ -0,0 +1,225 @@
+package com.trademaster.trading.indicator.screening;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+import static com.trademaster.trading.indicator.IncrementalIndicators.*;
+import static com.trademaster.trading.indicator.screening.ScalarScreeningKernel.*;
+
+/**
+ * Vector Screening Kernel
+ *
+ * SIMD kernel on the JDK Vector API (jdk.incubator.vector). Each lane is one symbol, so a
+ * row of the time-major columns is one contiguous vector load and the recursive
+ * indicators (EMA, Wilder RSI/ATR, running drawdown peak) vectorize across symbols even
+ * though they are sequential in time. Lane arithmetic mirrors ScalarScreeningKernel
+ * operation for operation.
+ *
+ * The VaR percentile and the advance/decline ratio are finished per symbol: the risk
+ * pass scatters each row of returns into a small lane-major scratch so the percentile
+ * select reads one symbol's returns contiguously. Symbols after the last full vector of
+ * a block go through the scalar kernel.
+ *
+ * Only loaded when BatchScreeningService finds the module in the boot layer
+ * (--add-modules jdk.incubator.vector).
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+public final class VectorScreeningKernel implements ScreeningKernel {
+
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    private final ScalarScreeningKernel tail = new ScalarScreeningKernel();
+
+    @Override
+    public void screen(ColumnarBars bars, int from, int to, ScreeningColumns out) {
+        int vectorEnd = from + SPECIES.loopBound(to - from);
+        int returns = bars.barCount() - 1;
+        double[] laneReturns = new double[SPECIES.length() * returns];
+        int[] laneOffsets = new int[SPECIES.length()];
+        for (int lane = 0; lane < laneOffsets.length; lane++) {
+            laneOffsets[lane] = lane * returns;
+        }
+        double[] lanes = new double[SPECIES.length()];
+        for (int symbol = from; symbol < vectorEnd; symbol += SPECIES.length()) {
+            screenTechnical(bars, symbol, out);
+            screenRisk(bars, symbol, out, laneReturns, laneOffsets);
+            screenSentiment(bars, symbol, out, lanes);
+        }
+        tail.screen(bars, vectorEnd, to, out);
+    }
+
+    @Override
+    public int lanes() {
+        return SPECIES.length();
+    }
+
+    @Override
+    public String name() {
+        return "vector-" + SPECIES.vectorBitSize();
+    }
+
+    private static void screenTechnical(ColumnarBars bars, int symbol, ScreeningColumns out) {
+        int stride = bars.symbolCount();
+        int count = bars.barCount();
+        DoubleVector zero = DoubleVector.zero(SPECIES);
+
+        DoubleVector ema12 = zero;
+        DoubleVector ema26 = zero;
+        DoubleVector signal = zero;
+        DoubleVector gain = zero;
+        DoubleVector loss = zero;
+        DoubleVector atr = zero;
+        DoubleVector previous = load(bars.close, 0, stride, symbol);
+        for (int bar = 0; bar < count; bar++) {
+            DoubleVector price = load(bars.close, bar, stride, symbol);
+            ema12 = bar < EMA_FAST ? ema12.add(price.div(EMA_FAST)) : ema12.add(price.sub(ema12).mul(2.0 / (EMA_FAST + 1)));
+            ema26 = bar < EMA_SLOW ? ema26.add(price.div(EMA_SLOW)) : ema26.add(price.sub(ema26).mul(2.0 / (EMA_SLOW + 1)));
+            if (bar >= EMA_SLOW - 1) {
+                DoubleVector macd = ema12.sub(ema26);
+                signal = bar < EMA_SLOW - 1 + MACD_SIGNAL
+                    ? signal.add(macd.div(MACD_SIGNAL))
+                    : signal.add(macd.sub(signal).mul(2.0 / (MACD_SIGNAL + 1)));
+            }
+            if (bar > 0) {
+                DoubleVector change = price.sub(previous);
+                DoubleVector high = load(bars.high, bar, stride, symbol);
+                DoubleVector low = load(bars.low, bar, stride, symbol);
+                DoubleVector trueRange = high.sub(low)
+                    .max(high.sub(previous).abs().max(low.sub(previous).abs()));
+                gain = wilder(gain, change.max(0.0), bar, RSI_PERIOD);
+                loss = wilder(loss, change.neg().max(0.0), bar, RSI_PERIOD);
+                atr = wilder(atr, trueRange, bar, ATR_PERIOD);
+            }
+            previous = price;
+        }
+
+        (count < SMA_SHORT ? zero : windowMean(bars.close, stride, symbol, count, SMA_SHORT)).intoArray(out.sma20, symbol);
+        (count < SMA_LONG ? zero : windowMean(bars.close, stride, symbol, count, SMA_LONG)).intoArray(out.sma50, symbol);
+        windowStdDev(bars.close, stride, symbol, count, Math.min(BB_PERIOD, count)).intoArray(out.bollingerStdDev, symbol);
+        (count < EMA_FAST ? zero : ema12).intoArray(out.ema12, symbol);
+        (count < EMA_SLOW ? zero : ema26).intoArray(out.ema26, symbol);
+        (count < EMA_SLOW ? zero : ema12.sub(ema26)).intoArray(out.macd, symbol);
+        (count < EMA_SLOW - 1 + MACD_SIGNAL ? zero : signal).intoArray(out.macdSignal, symbol);
+        DoubleVector rsi = DoubleVector.broadcast(SPECIES, 100.0)
+            .sub(DoubleVector.broadcast(SPECIES, 100.0).div(gain.div(loss).add(1.0)))
+            .blend(100.0, loss.eq(0.0));
+        (count <= RSI_PERIOD ? DoubleVector.broadcast(SPECIES, 50.0) : rsi).intoArray(out.rsi, symbol);
+        (count <= ATR_PERIOD ? zero : atr).intoArray(out.atr, symbol);
+    }
+
+    private static void screenRisk(ColumnarBars bars, int symbol, ScreeningColumns out,
+                                   double[] laneReturns, int[] laneOffsets) {
+        int stride = bars.symbolCount();
+        int count = bars.barCount();
+        DoubleVector zero = DoubleVector.zero(SPECIES);
+
+        DoubleVector sum = zero;
+        DoubleVector peak = load(bars.close, 0, stride, symbol);
+        DoubleVector maxDrawdown = zero;
+        DoubleVector previous = peak;
+        for (int bar = 1; bar < count; bar++) {
+            DoubleVector price = load(bars.close, bar, stride, symbol);
+            DoubleVector simpleReturn = simpleReturn(previous, price);
+            simpleReturn.intoArray(laneReturns, bar - 1, laneOffsets, 0);
+            sum = sum.add(simpleReturn);
+            peak = peak.max(price);
+            DoubleVector drawdown = peak.sub(price).div(peak).blend(0.0, peak.compare(VectorOperators.LE, 0.0));
+            maxDrawdown = maxDrawdown.max(drawdown);
+            previous = price;
+        }
+        int returns = count - 1;
+        DoubleVector mean = sum.div(returns);
+
+        DoubleVector squares = zero;
+        previous = load(bars.close, 0, stride, symbol);
+        for (int bar = 1; bar < count; bar++) {
+            DoubleVector price = load(bars.close, bar, stride, symbol);
+            DoubleVector deviation = simpleReturn(previous, price).sub(mean);
+            squares = squares.add(deviation.mul(deviation));
+            previous = price;
+        }
+        DoubleVector variance = returns > 1 ? squares.div(returns - 1) : zero;
+
+        mean.mul(TRADING_DAYS_PER_YEAR).mul(100.0).intoArray(out.expectedReturn, symbol);
+        variance.sqrt().mul(Math.sqrt(TRADING_DAYS_PER_YEAR)).mul(100.0).intoArray(out.volatility, symbol);
+        maxDrawdown.mul(100.0).intoArray(out.maxDrawdown, symbol);
+        for (int lane = 0; lane < laneOffsets.length; lane++) {
+            out.valueAtRisk[symbol + lane] = tailLoss(laneReturns, laneOffsets[lane], returns,
+                bars.close[(count - 1) * stride + symbol + lane]);
+        }
+    }
+
+    private static void screenSentiment(ColumnarBars bars, int symbol, ScreeningColumns out, double[] lanes) {
+        int stride = bars.symbolCount();
+        int count = bars.barCount();
+        int periods = Math.min(SENTIMENT_LOOKBACK, count);
+        DoubleVector zero = DoubleVector.zero(SPECIES);
+
+        DoubleVector rangePercent = zero;
+        DoubleVector volume = zero;
+        DoubleVector advances = zero;
+        for (int bar = count - periods; bar < count; bar++) {
+            DoubleVector price = load(bars.close, bar, stride, symbol);
+            DoubleVector range = load(bars.high, bar, stride, symbol).sub(load(bars.low, bar, stride, symbol));
+            rangePercent = rangePercent.add(range.div(price).mul(100.0).blend(0.0, price.eq(0.0)));
+            volume = volume.add(load(bars.volume, bar, stride, symbol));
+            advances = advances.add(zero.blend(1.0, price.compare(VectorOperators.GT, load(bars.open, bar, stride, symbol))));
+        }
+
+        int last = count - 1;
+        DoubleVector close = load(bars.close, last, stride, symbol);
+        DoubleVector low = load(bars.low, last, stride, symbol);
+        DoubleVector range = load(bars.high, last, stride, symbol).sub(low);
+        VectorMask<Double> flat = range.eq(0.0);
+        DoubleVector averageVolume = volume.div(periods);
+        DoubleVector volumeScore = load(bars.volume, last, stride, symbol).div(averageVolume).mul(50.0)
+            .min(100.0).max(0.0)
+            .blend(0.0, averageVolume.compare(VectorOperators.LE, 0.0));
+        DoubleVector basePressure = close.sub(low).div(range).mul(100.0);
+
+        simpleReturn(load(bars.close, last - 1, stride, symbol), close).mul(100.0).intoArray(out.priceChangePercent, symbol);
+        rangePercent.div(periods).mul(20.0).min(100.0).intoArray(out.volatilityScore, symbol);
+        volumeScore.intoArray(out.volumeScore, symbol);
+        basePressure.mul(0.7).add(basePressure.mul(volumeScore.div(100.0)).mul(0.3))
+            .blend(50.0, flat)
+            .intoArray(out.buyPressure, symbol);
+        advances.intoArray(lanes, 0);
+        for (int lane = 0; lane < lanes.length; lane++) {
+            out.advanceDecline[symbol + lane] = advanceDecline(lanes[lane], periods);
+        }
+    }
+
+    private static DoubleVector load(double[] column, int bar, int stride, int symbol) {
+        return DoubleVector.fromArray(SPECIES, column, bar * stride + symbol);
+    }
+
+    private static DoubleVector simpleReturn(DoubleVector previous, DoubleVector price) {
+        return price.div(previous).sub(1.0).blend(0.0, previous.eq(0.0));
+    }
+
+    private static DoubleVector wilder(DoubleVector average, DoubleVector sample, int bar, int period) {
+        return bar <= period ? average.add(sample.div(period)) : average.mul(period - 1).add(sample).div(period);
+    }
+
+    private static DoubleVector windowMean(double[] column, int stride, int symbol, int count, int period) {
+        DoubleVector sum = DoubleVector.zero(SPECIES);
+        for (int bar = count - period; bar < count; bar++) {
+            sum = sum.add(load(column, bar, stride, symbol));
+        }
+        return sum.div(period);
+    }
+
+    private static DoubleVector windowStdDev(double[] column, int stride, int symbol, int count, int period) {
+        DoubleVector mean = windowMean(column, stride, symbol, count, period);
+        DoubleVector squares = DoubleVector.zero(SPECIES);
+        for (int bar = count - period; bar < count; bar++) {
+            DoubleVector deviation = load(column, bar, stride, symbol).sub(mean);
+            squares = squares.add(deviation.mul(deviation));
+        }
+        return squares.div(period).sqrt();
+    }
+}
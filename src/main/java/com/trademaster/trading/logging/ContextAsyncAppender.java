@@ -0,0 +1,62 @@
+package com.trademaster.trading.logging;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import net.logstash.logback.appender.LoggingEventAsyncDisruptorAppender;
+import org.slf4j.event.KeyValuePair;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Context Async Appender
+ *
+ * Ring-buffer async appender for the trading service. Events are handed to the
+ * delegate appenders (console, file) through an LMAX disruptor ring buffer, so the
+ * logging thread only pays for claiming a slot; JSON encoding happens on the single
+ * consumer thread, which reuses the encoder's buffers.
+ *
+ * On top of LoggingEventAsyncDisruptorAppender:
+ * - Attaches the LogContext bound on the logging thread as the "context" key-value pair
+ *   (a reference, nothing is copied)
+ * - Counts events dropped because the ring buffer stayed full, per appender and logger
+ *   (see LogDropCounter)
+ *
+ * Drop policy is set per instance in logback-spring.xml: appendTimeout 0 drops at once
+ * (debug and performance logs), a positive appendTimeout waits that long for a slot.
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+public class ContextAsyncAppender extends LoggingEventAsyncDisruptorAppender {
+
+    public static final String CONTEXT_KEY = "context";
+
+    @Override
+    public void start() {
+        addListener(new LogDropCounter());
+        super.start();
+    }
+
+    @Override
+    protected void prepareForDeferredProcessing(ILoggingEvent event) {
+        super.prepareForDeferredProcessing(event);
+        LogContext context = LogContext.current();
+        if (context != null && event instanceof LoggingEvent loggingEvent) {
+            attach(loggingEvent, context);
+        }
+    }
+
+    private static void attach(LoggingEvent event, LogContext context) {
+        KeyValuePair pair = new KeyValuePair(CONTEXT_KEY, context);
+        List<KeyValuePair> pairs = event.getKeyValuePairs();
+        if (pairs == null || pairs.isEmpty()) {
+            event.setKeyValuePairs(List.of(pair));
+            return;
+        }
+        List<KeyValuePair> extended = new ArrayList<>(pairs.size() + 1);
+        extended.addAll(pairs);
+        extended.add(pair);
+        event.setKeyValuePairs(extended);
+    }
+}
@@ -0,0 +1,57 @@
+package com.trademaster.trading.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.filter.Filter;
+import ch.qos.logback.core.spi.FilterReply;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Droppable Event Filter
+ *
+ * Splits log events between the async appender that may drop them and the one that
+ * waits for room. An event is droppable when it is below INFO or comes from one of the
+ * configured droppable loggers (e.g. the performance logger).
+ *
+ * Configured with droppable=true the filter passes only droppable events, with
+ * droppable=false only the rest, so each event reaches exactly one of the two appenders.
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+public class DroppableEventFilter extends Filter<ILoggingEvent> {
+
+    private final List<String> droppableLoggers = new ArrayList<>();
+    private boolean droppable;
+
+    @Override
+    public FilterReply decide(ILoggingEvent event) {
+        return isDroppable(event) == droppable ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    private boolean isDroppable(ILoggingEvent event) {
+        if (!event.getLevel().isGreaterOrEqual(Level.INFO)) {
+            return true;
+        }
+        String logger = event.getLoggerName();
+        for (int index = 0; index < droppableLoggers.size(); index++) {
+            if (logger.startsWith(droppableLoggers.get(index))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public void setDroppable(boolean droppable) {
+        this.droppable = droppable;
+    }
+
+    /**
+     * Logger name prefix whose events are droppable at any level
+     */
+    public void addDroppableLogger(String loggerPrefix) {
+        droppableLoggers.add(loggerPrefix.trim());
+    }
+}
@@ -0,0 +1,98 @@
+package com.trademaster.trading.logging;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.function.Supplier;
+
+/**
+ * Log Context
+ *
+ * Trading context (correlation, user, operation, order, broker) that log events carry
+ * without MDC. A context is bound to a scope with run/call and read by
+ * ContextAsyncAppender on the logging thread, which attaches it to the event as the
+ * "context" key-value pair.
+ *
+ * Compared to MDC:
+ * - Binding costs one immutable record per scope, not a map put/remove per key
+ * - Nothing is copied per event, the appender keeps a reference to the record
+ * - Forks of a StructuredTaskScope inherit the binding, so virtual threads spawned for
+ *   an order log with its context without any copying or cleanup
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record LogContext(
+    String correlationId,
+    Long userId,
+    String operation,
+    String orderId,
+    String symbol,
+    String strategy,
+    String accountId,
+    String broker
+) {
+
+    private static final ScopedValue<LogContext> CURRENT = ScopedValue.newInstance();
+
+    public static LogContext of(String correlationId) {
+        return new LogContext(correlationId, null, null, null, null, null, null, null);
+    }
+
+    public static LogContext of(String correlationId, Long userId) {
+        return new LogContext(correlationId, userId, null, null, null, null, null, null);
+    }
+
+    /**
+     * Context bound to the current scope, or null outside of one
+     */
+    public static LogContext current() {
+        return CURRENT.orElse(null);
+    }
+
+    /**
+     * Context of the current scope extended with the given correlation id, or a new one
+     */
+    public static LogContext currentOr(String correlationId) {
+        LogContext current = current();
+        return current == null ? of(correlationId) : current.withCorrelationId(correlationId);
+    }
+
+    public LogContext withCorrelationId(String correlationId) {
+        return new LogContext(correlationId, userId, operation, orderId, symbol, strategy, accountId, broker);
+    }
+
+    public LogContext withUser(Long userId) {
+        return new LogContext(correlationId, userId, operation, orderId, symbol, strategy, accountId, broker);
+    }
+
+    public LogContext withOperation(String operation) {
+        return new LogContext(correlationId, userId, operation, orderId, symbol, strategy, accountId, broker);
+    }
+
+    public LogContext withOrder(String orderId, String symbol) {
+        return new LogContext(correlationId, userId, operation, orderId, symbol, strategy, accountId, broker);
+    }
+
+    public LogContext withTrading(String orderId, String symbol, String strategy, String accountId) {
+        return new LogContext(correlationId, userId, operation, orderId, symbol, strategy, accountId, broker);
+    }
+
+    public LogContext withBroker(String broker) {
+        return new LogContext(correlationId, userId, operation, orderId, symbol, strategy, accountId, broker);
+    }
+
+    /**
+     * Runs the task with this context bound
+     */
+    public void run(Runnable task) {
+        ScopedValue.where(CURRENT, this).run(task);
+    }
+
+    /**
+     * Runs the task with this context bound and returns its result
+     */
+    public <T> T call(Supplier<T> task) {
+        return ScopedValue.where(CURRENT, this).call(task::get);
+    }
+}
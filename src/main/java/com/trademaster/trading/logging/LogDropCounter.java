@@ -0,0 +1,75 @@
+package com.trademaster.trading.logging;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import net.logstash.logback.appender.listener.AppenderListener;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Log Drop Counter
+ *
+ * Appender listener counting events the async appenders dropped, per appender and
+ * logger. Logback starts before Spring, so the counts live here and LogDropMetrics
+ * exports them once the meter registry exists; counters created later are exported as
+ * they appear.
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+public class LogDropCounter implements AppenderListener<ILoggingEvent> {
+
+    private static final Map<String, Map<String, LongAdder>> DROPPED = new ConcurrentHashMap<>();
+    private static volatile CounterListener counterListener = (appender, logger, dropped) -> {};
+
+    /**
+     * Notified once for every new appender and logger pair
+     */
+    @FunctionalInterface
+    public interface CounterListener {
+        void counterCreated(String appender, String logger, LongAdder dropped);
+    }
+
+    @Override
+    public void eventAppendFailed(Appender<ILoggingEvent> appender, ILoggingEvent event, Throwable reason) {
+        counter(appender.getName(), event.getLoggerName()).increment();
+    }
+
+    /**
+     * Installs the listener and replays every counter created so far
+     */
+    public static void listen(CounterListener listener) {
+        counterListener = listener;
+        DROPPED.forEach((appender, loggers) ->
+            loggers.forEach((logger, dropped) -> listener.counterCreated(appender, logger, dropped)));
+    }
+
+    /**
+     * Dropped events per appender and logger
+     */
+    public static Map<String, Map<String, Long>> snapshot() {
+        Map<String, Map<String, Long>> snapshot = new TreeMap<>();
+        DROPPED.forEach((appender, loggers) -> loggers.forEach((logger, dropped) ->
+            snapshot.computeIfAbsent(appender, key -> new TreeMap<>()).put(logger, dropped.sum())));
+        return snapshot;
+    }
+
+    static LongAdder counter(String appender, String logger) {
+        Map<String, LongAdder> loggers = DROPPED.get(appender);
+        if (loggers == null) {
+            loggers = DROPPED.computeIfAbsent(appender, key -> new ConcurrentHashMap<>());
+        }
+        LongAdder dropped = loggers.get(logger);
+        if (dropped == null) {
+            dropped = loggers.computeIfAbsent(logger, key -> {
+                LongAdder created = new LongAdder();
+                counterListener.counterCreated(appender, key, created);
+                return created;
+            });
+        }
+        return dropped;
+    }
+}
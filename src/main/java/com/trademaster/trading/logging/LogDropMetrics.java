@@ -0,0 +1,41 @@
+package com.trademaster.trading.logging;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Log Drop Metrics
+ *
+ * Exports the drop counts of the async log appenders.
+ *
+ * Metrics:
+ * - logging.events.dropped: events dropped because an appender's ring buffer was full,
+ *   tagged by appender and logger
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LogDropMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    @PostConstruct
+    public void init() {
+        LogDropCounter.listen((appender, logger, dropped) ->
+            FunctionCounter.builder("logging.events.dropped", dropped, LongAdder::sum)
+                .description("Log events dropped because the async appender's ring buffer was full")
+                .tag("appender", appender)
+                .tag("logger", logger)
+                .register(meterRegistry));
+        log.info("Log drop metrics registered");
+    }
+}
@@ -0,0 +1,388 @@
+package com.trademaster.trading.logging;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Log Sampler
+ *
+ * Sampled INFO logging for per-call events on hot paths (risk checks, quotes, indicator
+ * calculations, subscriptions), with tail-based retention for orders that go wrong.
+ *
+ * Sampling, per call site (a short name such as "risk.check"):
+ * - A request is sampled when its correlation id hashes below the site's sample-rate, so
+ *   a sampled order logs at every site with the same or a higher rate
+ * - Events without a correlation id are treated as sampled
+ * - Sampled events are written up to max-per-second per site, the rest are not
+ *
+ * Tail retention:
+ * - begin(correlationId) opens a bounded buffer for the request; events of an open
+ *   request that are not written go to the buffer instead of being lost
+ * - complete(correlationId, outcome) writes the buffer out when the outcome retains its
+ *   tail (rejection, SLA breach, error) and discards it otherwise
+ * - At most tail-max-requests buffers are open; buffers not completed within
+ *   tail-ttl-millis are discarded
+ *
+ * Sample rates and limits can be changed at runtime through /actuator/log-sampling.
+ *
+ * Metrics:
+ * - logging.sampled.events: events per site and decision (written, buffered, suppressed)
+ * - logging.tail.requests: closed tail buffers by result (flushed, discarded, expired,
+ *   overflow for requests that got no buffer)
+ * - logging.tail.open: tail buffers currently open
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LogSampler {
+
+    private final MeterRegistry meterRegistry;
+
+    // Rule #16: Dynamic Configuration
+    @Value("${trading.logging.sampling.enabled:true}")
+    private boolean enabled;
+
+    @Value("${trading.logging.sampling.sample-rate:0.01}")
+    private volatile double defaultSampleRate;
+
+    @Value("${trading.logging.sampling.max-per-second:10}")
+    private volatile int defaultMaxPerSecond;
+
+    @Value("${trading.logging.sampling.tail-enabled:true}")
+    private volatile boolean tailEnabled;
+
+    @Value("${trading.logging.sampling.tail-buffer-events:128}")
+    private int tailBufferEvents;
+
+    @Value("${trading.logging.sampling.tail-max-requests:10000}")
+    private int tailMaxRequests;
+
+    @Value("${trading.logging.sampling.tail-ttl-millis:60000}")
+    private long tailTtlMillis;
+
+    private final Map<String, CallSite> sites = new ConcurrentHashMap<>();
+    private final Map<String, TailBuffer> tails = new ConcurrentHashMap<>();
+    private Counter tailsFlushed;
+    private Counter tailsDiscarded;
+    private Counter tailsExpired;
+    private Counter tailsOverflowed;
+
+    /**
+     * Sampling settings and counts of one call site
+     */
+    public record SiteStats(String site, double sampleRate, int maxPerSecond,
+                            long written, long buffered, long suppressed) {}
+
+    @PostConstruct
+    public void init() {
+        tailsFlushed = tailCounter("flushed");
+        tailsDiscarded = tailCounter("discarded");
+        tailsExpired = tailCounter("expired");
+        tailsOverflowed = tailCounter("overflow");
+        Gauge.builder("logging.tail.open", tails, Map::size)
+            .description("Per-request log tail buffers currently open")
+            .register(meterRegistry);
+
+        log.info("Log sampling initialized - enabled: {}, sampleRate: {}, maxPerSecond: {}, tailEnabled: {}",
+                enabled, defaultSampleRate, defaultMaxPerSecond, tailEnabled);
+    }
+
+    /**
+     * Correlation id of the current LogContext, or null; captured before handing work to
+     * an executor, which does not inherit the context
+     */
+    public static String currentCorrelationId() {
+        LogContext context = LogContext.current();
+        return context == null ? null : context.correlationId();
+    }
+
+    /**
+     * Logs at INFO for the correlation id of the current LogContext, if any
+     */
+    public void info(Logger logger, String site, String format, Object... arguments) {
+        info(currentCorrelationId(), logger, site, format, arguments);
+    }
+
+    /**
+     * Logs at INFO for the given correlation id (may be null)
+     */
+    public void info(String correlationId, Logger logger, String site, String format, Object... arguments) {
+        if (!logger.isInfoEnabled()) {
+            return;
+        }
+        if (!enabled) {
+            logger.info(format, arguments);
+            return;
+        }
+
+        CallSite callSite = site(site);
+        boolean sampled = correlationId == null || isSampled(correlationId, callSite.sampleRate);
+        if (sampled && callSite.tryAcquire(System.nanoTime() / 1_000_000_000L)) {
+            callSite.written.increment();
+            logger.info(format, arguments);
+        } else if (buffer(correlationId, logger, site, format, arguments)) {
+            callSite.buffered.increment();
+        } else {
+            callSite.suppressed.increment();
+        }
+    }
+
+    /**
+     * Opens the tail buffer of a request
+     */
+    public void begin(String correlationId) {
+        if (!enabled || !tailEnabled) {
+            return;
+        }
+        if (tails.size() >= tailMaxRequests) {
+            tailsOverflowed.increment();
+            return;
+        }
+        tails.put(correlationId, new TailBuffer(System.currentTimeMillis(), tailBufferEvents));
+    }
+
+    /**
+     * Closes the tail buffer of a request, writing it out when the outcome retains it
+     */
+    public void complete(String correlationId, RequestOutcome outcome) {
+        Optional.ofNullable(tails.remove(correlationId))
+            .ifPresent(tail -> {
+                if (outcome.retainsTail()) {
+                    flush(correlationId, outcome, tail);
+                    tailsFlushed.increment();
+                } else {
+                    tailsDiscarded.increment();
+                }
+            });
+    }
+
+    /**
+     * Changes the sample rate and/or rate limit of one site, or of every site and the
+     * defaults when site is null
+     */
+    public void configure(String site, Double sampleRate, Integer maxPerSecond) {
+        Optional.ofNullable(sampleRate)
+            .filter(rate -> rate < 0.0 || rate > 1.0)
+            .ifPresent(rate -> {
+                throw new IllegalArgumentException("sampleRate must be between 0 and 1: " + rate);
+            });
+        Optional.ofNullable(maxPerSecond)
+            .filter(limit -> limit < 0)
+            .ifPresent(limit -> {
+                throw new IllegalArgumentException("maxPerSecond must not be negative: " + limit);
+            });
+
+        if (site == null) {
+            Optional.ofNullable(sampleRate).ifPresent(rate -> defaultSampleRate = rate);
+            Optional.ofNullable(maxPerSecond).ifPresent(limit -> defaultMaxPerSecond = limit);
+            sites.values().forEach(callSite -> callSite.configure(sampleRate, maxPerSecond));
+        } else {
+            site(site).configure(sampleRate, maxPerSecond);
+        }
+        log.info("Log sampling reconfigured - site: {}, sampleRate: {}, maxPerSecond: {}",
+                site == null ? "*" : site, sampleRate, maxPerSecond);
+    }
+
+    public void setTailEnabled(boolean tailEnabled) {
+        this.tailEnabled = tailEnabled;
+        log.info("Log tail retention {}", tailEnabled ? "enabled" : "disabled");
+    }
+
+    public boolean isTailEnabled() {
+        return tailEnabled;
+    }
+
+    public double getDefaultSampleRate() {
+        return defaultSampleRate;
+    }
+
+    public int getDefaultMaxPerSecond() {
+        return defaultMaxPerSecond;
+    }
+
+    public int openTails() {
+        return tails.size();
+    }
+
+    public List<SiteStats> siteStats() {
+        return sites.values().stream()
+            .map(CallSite::stats)
+            .sorted(Comparator.comparing(SiteStats::site))
+            .toList();
+    }
+
+    /**
+     * Discards tail buffers of requests that never completed
+     */
+    @Scheduled(fixedDelayString = "${trading.logging.sampling.tail-sweep-millis:10000}")
+    public void expireTails() {
+        long expiredBefore = System.currentTimeMillis() - tailTtlMillis;
+        tails.entrySet().removeIf(entry -> {
+            boolean expired = entry.getValue().startedMillis < expiredBefore;
+            if (expired) {
+                tailsExpired.increment();
+            }
+            return expired;
+        });
+    }
+
+    static boolean isSampled(String correlationId, double sampleRate) {
+        // Fibonacci hashing spreads sequential ids; the top 31 bits scaled to [0, 1)
+        int spread = correlationId.hashCode() * 0x9E3779B9;
+        return (spread >>> 1) < sampleRate * Integer.MAX_VALUE;
+    }
+
+    private boolean buffer(String correlationId, Logger logger, String site, String format, Object[] arguments) {
+        if (correlationId == null) {
+            return false;
+        }
+        TailBuffer tail = tails.get(correlationId);
+        if (tail == null) {
+            return false;
+        }
+        tail.add(new BufferedEvent(System.currentTimeMillis(), logger, site, format, arguments));
+        return true;
+    }
+
+    private void flush(String correlationId, RequestOutcome outcome, TailBuffer tail) {
+        List<BufferedEvent> events = tail.drain();
+        log.info("Writing {} buffered log events for correlationId: {}, outcome: {}, overwritten: {}",
+                events.size(), correlationId, outcome, tail.overwritten);
+        events.forEach(event -> event.logger().atInfo()
+            .addKeyValue("correlationId", correlationId)
+            .addKeyValue("tailOutcome", outcome)
+            .addKeyValue("logSite", event.site())
+            .addKeyValue("loggedAt", Instant.ofEpochMilli(event.timestampMillis()))
+            .log(event.format(), event.arguments()));
+    }
+
+    private CallSite site(String name) {
+        CallSite callSite = sites.get(name);
+        return callSite != null ? callSite : sites.computeIfAbsent(name, this::register);
+    }
+
+    private CallSite register(String name) {
+        CallSite callSite = new CallSite(name, defaultSampleRate, defaultMaxPerSecond);
+        siteCounter(name, "written", callSite.written);
+        siteCounter(name, "buffered", callSite.buffered);
+        siteCounter(name, "suppressed", callSite.suppressed);
+        return callSite;
+    }
+
+    private void siteCounter(String site, String decision, LongAdder count) {
+        FunctionCounter.builder("logging.sampled.events", count, LongAdder::sum)
+            .description("Sampled log events per call site and decision")
+            .tag("site", site)
+            .tag("decision", decision)
+            .register(meterRegistry);
+    }
+
+    private Counter tailCounter(String result) {
+        return Counter.builder("logging.tail.requests")
+            .description("Per-request log tail buffers closed, by result")
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+
+    /**
+     * Sample rate, per-second limit and counts of one call site
+     */
+    private static final class CallSite {
+
+        private final String name;
+        private volatile double sampleRate;
+        private volatile int maxPerSecond;
+        private final AtomicLong second = new AtomicLong(-1);
+        private final AtomicInteger permits = new AtomicInteger();
+        private final LongAdder written = new LongAdder();
+        private final LongAdder buffered = new LongAdder();
+        private final LongAdder suppressed = new LongAdder();
+
+        private CallSite(String name, double sampleRate, int maxPerSecond) {
+            this.name = name;
+            this.sampleRate = sampleRate;
+            this.maxPerSecond = maxPerSecond;
+        }
+
+        /**
+         * Fixed one-second window; the first caller of a new second resets it
+         */
+        private boolean tryAcquire(long now) {
+            long current = second.get();
+            if (current != now && second.compareAndSet(current, now)) {
+                permits.set(0);
+            }
+            return permits.get() < maxPerSecond && permits.incrementAndGet() <= maxPerSecond;
+        }
+
+        private void configure(Double sampleRate, Integer maxPerSecond) {
+            Optional.ofNullable(sampleRate).ifPresent(rate -> this.sampleRate = rate);
+            Optional.ofNullable(maxPerSecond).ifPresent(limit -> this.maxPerSecond = limit);
+        }
+
+        private SiteStats stats() {
+            return new SiteStats(name, sampleRate, maxPerSecond, written.sum(), buffered.sum(), suppressed.sum());
+        }
+    }
+
+    private record BufferedEvent(long timestampMillis, Logger logger, String site, String format, Object[] arguments) {}
+
+    /**
+     * Most recent events of one request, oldest overwritten first
+     */
+    private static final class TailBuffer {
+
+        private final long startedMillis;
+        private final BufferedEvent[] events;
+        private int next;
+        private int size;
+        private int overwritten;
+
+        private TailBuffer(long startedMillis, int capacity) {
+            this.startedMillis = startedMillis;
+            this.events = new BufferedEvent[capacity];
+        }
+
+        private synchronized void add(BufferedEvent event) {
+            events[next] = event;
+            next = (next + 1) % events.length;
+            if (size < events.length) {
+                size++;
+            } else {
+                overwritten++;
+            }
+        }
+
+        private synchronized List<BufferedEvent> drain() {
+            List<BufferedEvent> drained = new ArrayList<>(size);
+            int first = (next - size + events.length) % events.length;
+            for (int index = 0; index < size; index++) {
+                drained.add(events[(first + index) % events.length]);
+            }
+            return drained;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.trademaster.trading.logging;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Log Sampling Endpoint
+ *
+ * Runtime control of LogSampler at /actuator/log-sampling.
+ *
+ * - GET returns the defaults, open tail buffers and per-site settings and counts
+ * - POST {"sampleRate": 0.05, "maxPerSecond": 20, "tailEnabled": true} changes the
+ *   defaults and every site; any field may be left out
+ * - POST /actuator/log-sampling/{site} {"sampleRate": 1.0} changes one site
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+@Component
+@Endpoint(id = "log-sampling")
+@RequiredArgsConstructor
+public class LogSamplingEndpoint {
+
+    private final LogSampler logSampler;
+
+    @ReadOperation
+    public Map<String, Object> sampling() {
+        return Map.of(
+            "sampleRate", logSampler.getDefaultSampleRate(),
+            "maxPerSecond", logSampler.getDefaultMaxPerSecond(),
+            "tailEnabled", logSampler.isTailEnabled(),
+            "openTails", logSampler.openTails(),
+            "sites", logSampler.siteStats()
+        );
+    }
+
+    @WriteOperation
+    public Map<String, Object> configure(@Nullable Double sampleRate, @Nullable Integer maxPerSecond,
+                                         @Nullable Boolean tailEnabled) {
+        logSampler.configure(null, sampleRate, maxPerSecond);
+        Optional.ofNullable(tailEnabled).ifPresent(logSampler::setTailEnabled);
+        return sampling();
+    }
+
+    @WriteOperation
+    public Map<String, Object> configureSite(@Selector String site, @Nullable Double sampleRate,
+                                             @Nullable Integer maxPerSecond) {
+        logSampler.configure(site, sampleRate, maxPerSecond);
+        return sampling();
+    }
+}
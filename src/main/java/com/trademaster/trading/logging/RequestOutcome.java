@@ -0,0 +1,30 @@
+package com.trademaster.trading.logging;
+
+/**
+ * Request Outcome
+ *
+ * How a request ended, as reported to LogSampler.complete. The outcomes that keep the
+ * request's tail buffer are the ones worth reading in full afterwards.
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+public enum RequestOutcome {
+    COMPLETED(false),
+    REJECTED(true),
+    SLA_BREACH(true),
+    ERROR(true);
+
+    private final boolean retainsTail;
+
+    RequestOutcome(boolean retainsTail) {
+        this.retainsTail = retainsTail;
+    }
+
+    /**
+     * Whether the events buffered for the request are written out
+     */
+    public boolean retainsTail() {
+        return retainsTail;
+    }
+}
@@ -234,6 +234,22 @@ public class AlertingService {
         );
     }
     
+    /**
+     * Handle a SYNC audit record that was not durable when its operation completed; the
+     * writer keeps trying in the background
+     */
+    public void handleAuditDurabilityFailure(String action, String orderId) {
+        metricsService.recordAuditDurabilityFailure(action);
+
+        triggerAlert(
+            AlertType.SYSTEM_HEALTH_ISSUE,
+            AlertSeverity.CRITICAL,
+            "Audit Record Not Durable",
+            String.format("Action: %s, Order: %s", action, orderId),
+            "audit_durability"
+        );
+    }
+    
     /**
      * Handle compliance violations
      */
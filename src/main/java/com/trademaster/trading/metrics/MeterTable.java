@@ -0,0 +1,159 @@
+package com.trademaster.trading.metrics;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Tags;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Meter Table
+ *
+ * Meters of one metric, indexed by tag values. Every tag has a set of known values; a
+ * combination of known values maps to a fixed array slot, so recording costs one hash
+ * lookup per tag and an array read - no builder, Tags or Meter.Id allocation and no
+ * registry lookup per event.
+ *
+ * Registration:
+ * - Pre-registered tables register every known combination up front, so each series is
+ *   exported from startup on (for small, dense tag spaces)
+ * - Lazy tables register a slot's meter on its first use (for wide, sparse tag spaces)
+ * - Tag values outside the known sets still work: their meters are registered on first
+ *   use and cached by value
+ *
+ * Thread-safe. Lookups must pass one value per tag, in the order the tags were declared.
+ *
+ * @param <M> meter type
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+public final class MeterTable<M extends Meter> {
+
+    private final Tag[] tags;
+    private final List<Map<String, Integer>> positions;
+    private final int[] strides;
+    private final Function<Tags, M> factory;
+    private final AtomicReferenceArray<M> meters;
+    private final Map<List<String>, M> overflow = new ConcurrentHashMap<>();
+
+    /**
+     * Tag key with the values that get an array slot
+     */
+    public record Tag(String key, List<String> values) {
+
+        public static Tag of(String key, String... values) {
+            return new Tag(key, List.of(values));
+        }
+
+        /**
+         * Enum constant names followed by any extra values (e.g. a fallback like UNKNOWN)
+         */
+        public static Tag of(String key, Class<? extends Enum<?>> type, String... extraValues) {
+            return new Tag(key, Stream.concat(
+                    Arrays.stream(type.getEnumConstants()).map(Enum::name),
+                    Arrays.stream(extraValues))
+                .distinct()
+                .toList());
+        }
+    }
+
+    private MeterTable(Function<Tags, M> factory, boolean preRegister, Tag... tags) {
+        this.tags = tags.clone();
+        this.factory = factory;
+        this.positions = Arrays.stream(tags).map(MeterTable::positions).toList();
+        this.strides = new int[tags.length];
+        int size = 1;
+        for (int tag = tags.length - 1; tag >= 0; tag--) {
+            strides[tag] = size;
+            size *= tags[tag].values().size();
+        }
+        this.meters = new AtomicReferenceArray<>(size);
+        if (preRegister) {
+            for (int slot = 0; slot < size; slot++) {
+                meters.set(slot, factory.apply(tagsForSlot(slot)));
+            }
+        }
+    }
+
+    /**
+     * Table with every combination of known values registered immediately
+     *
+     * @param factory registers the meter for a tag combination
+     */
+    public static <M extends Meter> MeterTable<M> preRegistered(Function<Tags, M> factory, Tag... tags) {
+        return new MeterTable<>(factory, true, tags);
+    }
+
+    /**
+     * Table whose meters are registered on first use of each combination
+     *
+     * @param factory registers the meter for a tag combination
+     */
+    public static <M extends Meter> MeterTable<M> lazy(Function<Tags, M> factory, Tag... tags) {
+        return new MeterTable<>(factory, false, tags);
+    }
+
+    public M get(String value) {
+        int slot = slot(0, value, 0);
+        return slot >= 0 ? meter(slot) : overflow(List.of(value));
+    }
+
+    public M get(String first, String second) {
+        int slot = slot(1, second, slot(0, first, 0));
+        return slot >= 0 ? meter(slot) : overflow(List.of(first, second));
+    }
+
+    public M get(String first, String second, String third) {
+        int slot = slot(2, third, slot(1, second, slot(0, first, 0)));
+        return slot >= 0 ? meter(slot) : overflow(List.of(first, second, third));
+    }
+
+    private int slot(int tag, String value, int base) {
+        Integer position = base < 0 ? null : positions.get(tag).get(value);
+        return position == null ? -1 : base + position * strides[tag];
+    }
+
+    private M meter(int slot) {
+        M meter = meters.get(slot);
+        if (meter == null) {
+            // Registration is idempotent, racing threads end up with the same meter
+            meter = factory.apply(tagsForSlot(slot));
+            meters.lazySet(slot, meter);
+        }
+        return meter;
+    }
+
+    private M overflow(List<String> values) {
+        return overflow.computeIfAbsent(values, key -> {
+            String[] keyValues = new String[key.size() * 2];
+            for (int tag = 0; tag < key.size(); tag++) {
+                keyValues[tag * 2] = tags[tag].key();
+                keyValues[tag * 2 + 1] = key.get(tag);
+            }
+            return factory.apply(Tags.of(keyValues));
+        });
+    }
+
+    private Tags tagsForSlot(int slot) {
+        String[] keyValues = new String[tags.length * 2];
+        for (int tag = 0; tag < tags.length; tag++) {
+            keyValues[tag * 2] = tags[tag].key();
+            keyValues[tag * 2 + 1] = tags[tag].values().get(slot / strides[tag] % tags[tag].values().size());
+        }
+        return Tags.of(keyValues);
+    }
+
+    private static Map<String, Integer> positions(Tag tag) {
+        Map<String, Integer> positions = new HashMap<>();
+        for (int position = 0; position < tag.values().size(); position++) {
+            positions.put(tag.values().get(position), position);
+        }
+        return positions;
+    }
+}
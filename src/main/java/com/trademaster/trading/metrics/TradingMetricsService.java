@@ -4,6 +4,10 @@ import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
+import com.trademaster.trading.metrics.AlertingService.AlertSeverity;
+import com.trademaster.trading.metrics.AlertingService.AlertType;
+import com.trademaster.trading.metrics.MeterTable.Tag;
+import com.trademaster.trading.service.SmartOrderSplitEngine.SplitOutcome;
 import io.micrometer.core.instrument.Tags;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Lazy;
@@ -15,6 +19,8 @@ import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Trading Business Metrics Service
@@ -29,6 +35,11 @@ import java.util.concurrent.atomic.AtomicReference;
  * - Performance Metrics (throughput, error rates, SLA compliance)
  * - Business Metrics (user activity, broker distribution, market coverage)
  * 
+ * Hot-path recording is allocation-free: tagged counters and timers come from MeterTables
+ * pre-registered for the known brokers, error types and outcomes, and volume, fee and
+ * per-broker order totals accumulate in LongAdder/DoubleAdder cells instead of CAS loops
+ * over BigDecimal. Unknown tag values still record, on meters registered at first use.
+ * 
  * @author TradeMaster Development Team
  * @version 1.0.0
  */
@@ -42,16 +53,24 @@ public class TradingMetricsService {
         this.meterRegistry = meterRegistry;
     }
     
+    // Known tag values, pre-registered at startup
+    private static final String[] KNOWN_BROKERS = {"ZERODHA", "UPSTOX", "ANGEL_ONE", "MULTI_BROKER", "UNKNOWN"};
+    private static final String[] KNOWN_ORDER_ERRORS = {
+        "VALIDATION_FAILED", "UNEXPECTED_ERROR", "ROUTING_REJECTED", "BROKER_SUBMISSION_FAILED"};
+    private static final String[] KNOWN_RISK_VIOLATIONS = {"EXPOSURE_LIMIT", "DAILY_LOSS"};
+    private static final String[] KNOWN_AUDIT_ACTIONS = {"INSERT", "UPDATE", "DELETE"};
+    
     // Order Processing Metrics
     private Counter ordersPlaced;
     private Counter ordersExecuted;
-    private Counter ordersFailed;
+    private MeterTable<Counter> ordersFailed;
+    private MeterTable<Timer> splitLatency;
     private Timer orderProcessingTime;
     private Timer riskCheckTime;
     
     // Risk Management Metrics
-    private Counter riskViolations;
-    private Counter riskAlerts;
+    private MeterTable<Counter> riskViolations;
+    private MeterTable<Counter> riskAlerts;
     
     private final AtomicReference<BigDecimal> totalExposure = new AtomicReference<>(BigDecimal.ZERO);
     private final AtomicReference<BigDecimal> maxDailyLoss = new AtomicReference<>(BigDecimal.ZERO);
@@ -59,7 +78,7 @@ public class TradingMetricsService {
     // Financial Metrics
     private final AtomicReference<BigDecimal> totalPnL = new AtomicReference<>(BigDecimal.ZERO);
     private final AtomicReference<BigDecimal> dailyPnL = new AtomicReference<>(BigDecimal.ZERO);
-    private final AtomicReference<BigDecimal> totalFees = new AtomicReference<>(BigDecimal.ZERO);
+    private final DoubleAdder totalFees = new DoubleAdder();
     
     // Performance Metrics
     private final AtomicLong activeOrders = new AtomicLong(0);
@@ -67,12 +86,15 @@ public class TradingMetricsService {
     private final AtomicLong connectedUsers = new AtomicLong(0);
     
     // Business Metrics by Broker
-    private final ConcurrentHashMap<String, AtomicLong> ordersByBroker = new ConcurrentHashMap<>();
-    private final ConcurrentHashMap<String, AtomicReference<BigDecimal>> volumeByBroker = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, LongAdder> ordersByBroker = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, DoubleAdder> volumeByBroker = new ConcurrentHashMap<>();
     
     // Circuit Breaker Metrics
     private Counter circuitBreakerTrips;
     
+    // Audit Metrics
+    private MeterTable<Counter> auditSyncFailures;
+    
     // Initialize metrics after dependency injection
     @PostConstruct
     public void init() {
@@ -90,6 +112,7 @@ public class TradingMetricsService {
         initializeOrderMetrics();
         initializeRiskMetrics();
         initializeCircuitBreakerMetrics();
+        initializeAuditMetrics();
     }
 
     /**
@@ -106,9 +129,19 @@ public class TradingMetricsService {
             .description("Total number of orders successfully executed")
             .register(meterRegistry);
 
-        ordersFailed = Counter.builder("trading.orders.failed")
-            .description("Total number of failed orders")
-            .register(meterRegistry);
+        ordersFailed = MeterTable.preRegistered(tags -> Counter.builder("trading.orders.failed")
+                .description("Total number of failed orders")
+                .tags(tags)
+                .register(meterRegistry),
+            Tag.of("broker", KNOWN_BROKERS),
+            Tag.of("error_type", KNOWN_ORDER_ERRORS));
+
+        splitLatency = MeterTable.preRegistered(tags -> Timer.builder("trading.aggregation.split.latency")
+                .description("Per-child latency of multi-broker split executions")
+                .tags(tags)
+                .register(meterRegistry),
+            Tag.of("broker", KNOWN_BROKERS),
+            Tag.of("outcome", SplitOutcome.class));
 
         orderProcessingTime = Timer.builder("trading.orders.processing_time")
             .description("Order processing latency")
@@ -125,13 +158,25 @@ public class TradingMetricsService {
             .description("Risk assessment processing time")
             .register(meterRegistry);
 
-        riskViolations = Counter.builder("trading.risk.violations")
-            .description("Total risk rule violations")
-            .register(meterRegistry);
+        riskViolations = MeterTable.preRegistered(tags -> Counter.builder("trading.risk.violations")
+                .description("Total risk rule violations")
+                .tags(tags)
+                .register(meterRegistry),
+            Tag.of("violation_type", KNOWN_RISK_VIOLATIONS),
+            Tag.of("severity", AlertSeverity.class));
 
-        riskAlerts = Counter.builder("trading.risk.alerts")
+        // Alert keys are open-ended, so each alert type/key pair registers on first use;
+        // the untagged series keeps the metric visible before the first alert
+        Counter.builder("trading.risk.alerts")
             .description("Risk alerts triggered")
             .register(meterRegistry);
+
+        riskAlerts = MeterTable.lazy(tags -> Counter.builder("trading.risk.alerts")
+                .description("Risk alerts triggered")
+                .tags(tags)
+                .register(meterRegistry),
+            Tag.of("alert_type", AlertType.class),
+            Tag.of("symbol"));
     }
 
     /**
@@ -144,6 +189,19 @@ public class TradingMetricsService {
             .description("Circuit breaker activations")
             .register(meterRegistry);
     }
+
+    /**
+     * Initialize audit durability metrics
+     * Pattern 2: Audit metrics extraction
+     * Rule #5: 6 lines, complexity ≤7
+     */
+    private void initializeAuditMetrics() {
+        auditSyncFailures = MeterTable.preRegistered(tags -> Counter.builder("trading.audit.sync.failures")
+                .description("SYNC audit records not durable when the operation completed")
+                .tags(tags)
+                .register(meterRegistry),
+            Tag.of("action", KNOWN_AUDIT_ACTIONS));
+    }
     
     /**
      * Register gauge metrics
@@ -186,7 +244,7 @@ public class TradingMetricsService {
             .description("Daily profit and loss")
             .register(meterRegistry);
 
-        Gauge.builder("trading.fees.total", this, metrics -> metrics.totalFees.get().doubleValue())
+        Gauge.builder("trading.fees.total", totalFees, DoubleAdder::sum)
             .description("Total trading fees")
             .register(meterRegistry);
     }
@@ -224,17 +282,14 @@ public class TradingMetricsService {
     }
     
     public void recordOrderFailed(String brokerType, String errorType) {
-        Counter.builder("trading.orders.failed")
-            .description("Total number of failed orders")
-            .tags(Tags.of(
-                "broker", brokerType,
-                "error_type", errorType
-            ))
-            .register(meterRegistry)
-            .increment();
+        ordersFailed.get(brokerType, errorType).increment();
         log.debug("Order failed metric recorded: broker={}, error={}", brokerType, errorType);
     }
     
+    public void recordSplitExecution(String brokerType, String outcome, long latencyNanos) {
+        splitLatency.get(brokerType, outcome).record(latencyNanos, java.util.concurrent.TimeUnit.NANOSECONDS);
+    }
+
     public Timer.Sample startOrderProcessing() {
         return Timer.start(meterRegistry);
     }
@@ -245,26 +300,12 @@ public class TradingMetricsService {
     
     // Risk Management Metrics
     public void recordRiskViolation(String violationType, String severity) {
-        Counter.builder("trading.risk.violations")
-            .description("Total risk rule violations")
-            .tags(Tags.of(
-                "violation_type", violationType,
-                "severity", severity
-            ))
-            .register(meterRegistry)
-            .increment();
+        riskViolations.get(violationType, severity).increment();
         log.warn("Risk violation recorded: type={}, severity={}", violationType, severity);
     }
     
     public void recordRiskAlert(String alertType, String symbol) {
-        Counter.builder("trading.risk.alerts")
-            .description("Risk alerts triggered")
-            .tags(Tags.of(
-                "alert_type", alertType,
-                "symbol", symbol
-            ))
-            .register(meterRegistry)
-            .increment();
+        riskAlerts.get(alertType, symbol).increment();
         log.info("Risk alert recorded: type={}, symbol={}", alertType, symbol);
     }
     
@@ -294,7 +335,7 @@ public class TradingMetricsService {
     }
     
     public void addFees(BigDecimal fees) {
-        totalFees.updateAndGet(current -> current.add(fees));
+        totalFees.add(fees.doubleValue());
     }
     
     // Performance Metrics
@@ -331,31 +372,42 @@ public class TradingMetricsService {
         log.warn("Circuit breaker trip recorded: service={}, reason={}", service, reason);
     }
     
-    // Business Metrics by Broker
+    public void recordAuditDurabilityFailure(String action) {
+        auditSyncFailures.get(action).increment();
+        log.warn("Audit durability failure recorded: action={}", action);
+    }
+    
+    // Business Metrics by Broker - plain get first, so known brokers allocate no lambda
     private void recordOrderByBroker(String brokerType, BigDecimal orderValue) {
-        ordersByBroker.computeIfAbsent(brokerType, k -> {
-            AtomicLong counter = new AtomicLong(0);
-            // Register gauge for this broker
-            Gauge.builder("trading.orders.by_broker", counter, AtomicLong::get)
-                .description("Number of orders by broker")
-                .tag("broker", brokerType)
-                .register(meterRegistry);
-            return counter;
-        }).incrementAndGet();
+        LongAdder orders = ordersByBroker.get(brokerType);
+        (orders != null ? orders : ordersByBroker.computeIfAbsent(brokerType, this::registerOrdersByBroker))
+            .increment();
         
         updateVolumeByBroker(brokerType, orderValue);
     }
     
     private void updateVolumeByBroker(String brokerType, BigDecimal volume) {
-        volumeByBroker.computeIfAbsent(brokerType, k -> {
-            AtomicReference<BigDecimal> volumeRef = new AtomicReference<>(BigDecimal.ZERO);
-            // Register gauge for broker volume
-            Gauge.builder("trading.volume.by_broker", volumeRef, ref -> ref.get().doubleValue())
-                .description("Trading volume by broker")
-                .tag("broker", brokerType)
-                .register(meterRegistry);
-            return volumeRef;
-        }).updateAndGet(current -> current.add(volume));
+        DoubleAdder brokerVolume = volumeByBroker.get(brokerType);
+        (brokerVolume != null ? brokerVolume : volumeByBroker.computeIfAbsent(brokerType, this::registerVolumeByBroker))
+            .add(volume.doubleValue());
+    }
+    
+    private LongAdder registerOrdersByBroker(String brokerType) {
+        LongAdder counter = new LongAdder();
+        Gauge.builder("trading.orders.by_broker", counter, LongAdder::sum)
+            .description("Number of orders by broker")
+            .tag("broker", brokerType)
+            .register(meterRegistry);
+        return counter;
+    }
+    
+    private DoubleAdder registerVolumeByBroker(String brokerType) {
+        DoubleAdder brokerVolume = new DoubleAdder();
+        Gauge.builder("trading.volume.by_broker", brokerVolume, DoubleAdder::sum)
+            .description("Trading volume by broker")
+            .tag("broker", brokerType)
+            .register(meterRegistry);
+        return brokerVolume;
     }
     
     // SLA Compliance Metrics
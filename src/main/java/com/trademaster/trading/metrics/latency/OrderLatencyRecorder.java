@@ -0,0 +1,416 @@
+package com.trademaster.trading.metrics.latency;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.ToLongFunction;
+
+/**
+ * Order Latency Recorder
+ *
+ * Breaks the latency of each order placement down into its stages (see OrderStage) and
+ * keeps HdrHistogram percentiles per stage, per validation check and for the whole order.
+ *
+ * Recording:
+ * - begin(correlationId) claims a span slot in a fixed open-addressed table keyed by
+ *   correlation id; record(...) adds stage timings to it and end(...) feeds them to the
+ *   histograms and frees the slot
+ * - Slots, timing arrays and histograms are allocated up front, so recording an order
+ *   allocates nothing and takes no lock
+ * - When every probed slot is taken the order is not traced and counted as dropped
+ *
+ * Reporting:
+ * - Every snapshot-interval the interval histograms are rotated into a sliding window of
+ *   window-intervals intervals and summarized
+ * - The last recent-orders completed orders keep their per-stage offsets and durations
+ *   for the order-latency actuator waterfall
+ *
+ * Metrics:
+ * - trading.order.stage.latency: window percentiles (0.5, 0.9, 0.99, 0.999, max) per
+ *   stage, with stage TOTAL for the whole placement
+ * - trading.order.check.latency: window percentiles per validation check
+ * - trading.order.stage.samples: orders in the window per stage
+ * - trading.order.latency.dropped: orders not traced because the span table was full
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OrderLatencyRecorder {
+
+    public static final String TOTAL = "TOTAL";
+
+    private static final OrderStage[] STAGES = OrderStage.values();
+    private static final int PROBES = 16;
+    private static final Map<String, ToLongFunction<StageLatency>> QUANTILES = Map.of(
+        "0.5", StageLatency::p50Micros,
+        "0.9", StageLatency::p90Micros,
+        "0.99", StageLatency::p99Micros,
+        "0.999", StageLatency::p999Micros,
+        "max", StageLatency::maxMicros);
+
+    private final MeterRegistry meterRegistry;
+
+    // Rule #16: Dynamic Configuration
+    @Value("${trading.latency.enabled:true}")
+    private boolean enabled;
+
+    @Value("${trading.latency.in-flight-capacity:4096}")
+    private int inFlightCapacity;
+
+    @Value("${trading.latency.recent-orders:256}")
+    private int recentOrders;
+
+    @Value("${trading.latency.window-intervals:6}")
+    private int windowIntervals;
+
+    @Value("${trading.latency.snapshot-interval-millis:10000}")
+    private long snapshotIntervalMillis;
+
+    @Value("${trading.latency.highest-trackable-millis:60000}")
+    private long highestTrackableMillis;
+
+    @Value("${trading.latency.significant-digits:2}")
+    private int significantDigits;
+
+    // In-flight spans, slot i owned by the correlation id in inFlight[i]
+    private AtomicReferenceArray<String> inFlight;
+    private long[] startedNanos;
+    private long[] stageOffsets;
+    private long[] stageDurations;
+    private int inFlightMask;
+
+    // Completed spans, a ring guarded per entry by its version (-1 while being written)
+    private final AtomicLong completedSequence = new AtomicLong();
+    private AtomicLongArray completedVersions;
+    private String[] completedIds;
+    private long[] completedTotals;
+    private long[] completedOffsets;
+    private long[] completedDurations;
+    private int completedMask;
+
+    private Series[] stageSeries;
+    private Series totalSeries;
+    private final Map<String, Series> checkSeries = new ConcurrentHashMap<>();
+    private Counter dropped;
+    private int interval;
+
+    /**
+     * Window percentiles of one stage or check, in microseconds
+     */
+    public record StageLatency(String name, long count, long p50Micros, long p90Micros,
+                               long p99Micros, long p999Micros, long maxMicros) {
+
+        static StageLatency empty(String name) {
+            return new StageLatency(name, 0, 0, 0, 0, 0, 0);
+        }
+
+        static StageLatency of(String name, Histogram histogram) {
+            return new StageLatency(name, histogram.getTotalCount(),
+                histogram.getValueAtPercentile(50.0), histogram.getValueAtPercentile(90.0),
+                histogram.getValueAtPercentile(99.0), histogram.getValueAtPercentile(99.9),
+                histogram.getMaxValue());
+        }
+    }
+
+    /**
+     * Stage timings of one completed order, offsets relative to the start of placement
+     */
+    public record OrderWaterfall(String correlationId, long totalMicros, List<Segment> segments) {}
+
+    public record Segment(OrderStage stage, long offsetMicros, long durationMicros) {}
+
+    @PostConstruct
+    public void init() {
+        int capacity = Integer.highestOneBit(Math.max(inFlightCapacity, PROBES) * 2 - 1);
+        inFlight = new AtomicReferenceArray<>(capacity);
+        startedNanos = new long[capacity];
+        stageOffsets = new long[capacity * STAGES.length];
+        stageDurations = new long[capacity * STAGES.length];
+        inFlightMask = capacity - 1;
+
+        int recent = Integer.highestOneBit(Math.max(recentOrders, 1) * 2 - 1);
+        completedVersions = new AtomicLongArray(recent);
+        completedIds = new String[recent];
+        completedTotals = new long[recent];
+        completedOffsets = new long[recent * STAGES.length];
+        completedDurations = new long[recent * STAGES.length];
+        completedMask = recent - 1;
+        for (int entry = 0; entry < recent; entry++) {
+            completedVersions.set(entry, -1);
+        }
+
+        stageSeries = Arrays.stream(STAGES)
+            .map(stage -> series("trading.order.stage.latency", "stage", stage.name()))
+            .toArray(Series[]::new);
+        totalSeries = series("trading.order.stage.latency", "stage", TOTAL);
+        dropped = Counter.builder("trading.order.latency.dropped")
+            .description("Orders not traced because the latency span table was full")
+            .register(meterRegistry);
+
+        log.info("Order latency recorder initialized - enabled: {}, in-flight slots: {}, window: {} intervals",
+                enabled, capacity, windowIntervals);
+    }
+
+    /**
+     * Starts the span of an order
+     */
+    public void begin(String correlationId) {
+        if (!enabled) {
+            return;
+        }
+        int slot = claim(correlationId);
+        if (slot < 0) {
+            dropped.increment();
+            return;
+        }
+        int base = slot * STAGES.length;
+        Arrays.fill(stageOffsets, base, base + STAGES.length, -1L);
+        Arrays.fill(stageDurations, base, base + STAGES.length, 0L);
+        startedNanos[slot] = System.nanoTime();
+    }
+
+    /**
+     * Records a stage of the order that started at startNanos (System.nanoTime) and ends
+     * now. Stages recorded more than once add up.
+     */
+    public void record(String correlationId, OrderStage stage, long startNanos) {
+        long now = System.nanoTime();
+        int slot = slotOf(correlationId);
+        if (slot < 0) {
+            return;
+        }
+        int index = slot * STAGES.length + stage.ordinal();
+        if (stageOffsets[index] < 0) {
+            stageOffsets[index] = startNanos - startedNanos[slot];
+        }
+        stageDurations[index] += now - startNanos;
+    }
+
+    /**
+     * Records one validation check that started at startNanos and ends now
+     */
+    public void recordCheck(String check, long startNanos) {
+        if (!enabled) {
+            return;
+        }
+        long elapsed = System.nanoTime() - startNanos;
+        Series series = checkSeries.get(check);
+        if (series == null) {
+            series = checkSeries.computeIfAbsent(check, name -> series("trading.order.check.latency", "check", name));
+        }
+        series.record(elapsed);
+    }
+
+    /**
+     * Ends the span of an order and feeds its stages to the histograms
+     */
+    public void end(String correlationId) {
+        long now = System.nanoTime();
+        int slot = slotOf(correlationId);
+        if (slot < 0) {
+            return;
+        }
+        long total = now - startedNanos[slot];
+        int base = slot * STAGES.length;
+        totalSeries.record(total);
+        for (int stage = 0; stage < STAGES.length; stage++) {
+            if (stageOffsets[base + stage] >= 0) {
+                stageSeries[stage].record(stageDurations[base + stage]);
+            }
+        }
+        publishCompleted(correlationId, base, total);
+        inFlight.set(slot, null);
+    }
+
+    /**
+     * Moves the latest interval of every histogram into the window and refreshes the
+     * window percentiles
+     */
+    @Scheduled(fixedRateString = "${trading.latency.snapshot-interval-millis:10000}")
+    public synchronized void rotate() {
+        Arrays.stream(stageSeries).forEach(series -> series.rotate(interval));
+        totalSeries.rotate(interval);
+        checkSeries.values().forEach(series -> series.rotate(interval));
+        interval = (interval + 1) % windowIntervals;
+    }
+
+    /**
+     * Window percentiles per stage in pipeline order, followed by TOTAL
+     */
+    public List<StageLatency> stageLatencies() {
+        List<StageLatency> latencies = new ArrayList<>(STAGES.length + 1);
+        Arrays.stream(stageSeries).map(series -> series.snapshot).forEach(latencies::add);
+        latencies.add(totalSeries.snapshot);
+        return latencies;
+    }
+
+    /**
+     * Window percentiles per validation check, slowest p99 first
+     */
+    public List<StageLatency> checkLatencies() {
+        return checkSeries.values().stream()
+            .map(series -> series.snapshot)
+            .sorted(Comparator.comparingLong(StageLatency::p99Micros).reversed())
+            .toList();
+    }
+
+    /**
+     * Recently completed orders, newest first
+     */
+    public List<OrderWaterfall> recentOrders() {
+        long newest = completedSequence.get() - 1;
+        List<OrderWaterfall> orders = new ArrayList<>();
+        for (long sequence = newest; sequence >= 0 && sequence > newest - completedVersions.length(); sequence--) {
+            readCompleted(sequence).ifPresent(orders::add);
+        }
+        return orders;
+    }
+
+    /**
+     * Waterfall of one recently completed order
+     */
+    public Optional<OrderWaterfall> waterfall(String correlationId) {
+        return recentOrders().stream()
+            .filter(order -> order.correlationId().equals(correlationId))
+            .findFirst();
+    }
+
+    /**
+     * Time span the window percentiles cover
+     */
+    public Duration window() {
+        return Duration.ofMillis(snapshotIntervalMillis * windowIntervals);
+    }
+
+    private int claim(String correlationId) {
+        int home = spread(correlationId.hashCode());
+        for (int probe = 0; probe < PROBES; probe++) {
+            int slot = (home + probe) & inFlightMask;
+            if (inFlight.get(slot) == null && inFlight.compareAndSet(slot, null, correlationId)) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    private int slotOf(String correlationId) {
+        if (correlationId == null || inFlight == null) {
+            return -1;
+        }
+        int home = spread(correlationId.hashCode());
+        for (int probe = 0; probe < PROBES; probe++) {
+            int slot = (home + probe) & inFlightMask;
+            if (correlationId.equals(inFlight.get(slot))) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    private void publishCompleted(String correlationId, int base, long total) {
+        long sequence = completedSequence.getAndIncrement();
+        int entry = (int) (sequence & completedMask);
+        completedVersions.set(entry, -1);
+        completedIds[entry] = correlationId;
+        completedTotals[entry] = total;
+        System.arraycopy(stageOffsets, base, completedOffsets, entry * STAGES.length, STAGES.length);
+        System.arraycopy(stageDurations, base, completedDurations, entry * STAGES.length, STAGES.length);
+        completedVersions.set(entry, sequence);
+    }
+
+    private Optional<OrderWaterfall> readCompleted(long sequence) {
+        int entry = (int) (sequence & completedMask);
+        if (completedVersions.get(entry) != sequence) {
+            return Optional.empty();
+        }
+        String correlationId = completedIds[entry];
+        long total = completedTotals[entry];
+        List<Segment> segments = new ArrayList<>(STAGES.length);
+        for (int stage = 0; stage < STAGES.length; stage++) {
+            long offset = completedOffsets[entry * STAGES.length + stage];
+            if (offset >= 0) {
+                segments.add(new Segment(STAGES[stage], offset / 1_000,
+                    completedDurations[entry * STAGES.length + stage] / 1_000));
+            }
+        }
+        // Discard the copy if a writer reused the entry while it was read
+        return completedVersions.get(entry) == sequence
+            ? Optional.of(new OrderWaterfall(correlationId, total / 1_000,
+                segments.stream().sorted(Comparator.comparingLong(Segment::offsetMicros)).toList()))
+            : Optional.empty();
+    }
+
+    private Series series(String metric, String tagKey, String name) {
+        Series series = new Series(name);
+        QUANTILES.forEach((quantile, value) -> Gauge.builder(metric, series,
+                s -> value.applyAsLong(s.snapshot) / 1_000_000.0)
+            .tag(tagKey, name)
+            .tag("quantile", quantile)
+            .baseUnit("seconds")
+            .register(meterRegistry));
+        Optional.of(tagKey)
+            .filter("stage"::equals)
+            .ifPresent(key -> Gauge.builder("trading.order.stage.samples", series, s -> s.snapshot.count())
+                .description("Orders in the latency window")
+                .tag(key, name)
+                .register(meterRegistry));
+        return series;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Histograms of one stage or check: a recorder taking samples and the intervals of
+     * the sliding window
+     */
+    private final class Series {
+
+        private final String name;
+        private final long highestTrackableMicros = highestTrackableMillis * 1_000;
+        private final Recorder recorder = new Recorder(highestTrackableMicros, significantDigits);
+        private final Histogram[] intervals = new Histogram[windowIntervals];
+        private final Histogram window = new Histogram(highestTrackableMicros, significantDigits);
+        private volatile StageLatency snapshot;
+
+        private Series(String name) {
+            this.name = name;
+            this.snapshot = StageLatency.empty(name);
+        }
+
+        private void record(long nanos) {
+            recorder.recordValue(Math.max(0, Math.min(nanos / 1_000, highestTrackableMicros)));
+        }
+
+        private void rotate(int interval) {
+            intervals[interval] = recorder.getIntervalHistogram(intervals[interval]);
+            window.reset();
+            Arrays.stream(intervals).filter(histogram -> histogram != null).forEach(window::add);
+            snapshot = StageLatency.of(name, window);
+        }
+    }
+}
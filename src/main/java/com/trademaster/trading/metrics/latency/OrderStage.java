@@ -0,0 +1,25 @@
+package com.trademaster.trading.metrics.latency;
+
+/**
+ * Order Stage
+ *
+ * Steps of order placement that OrderLatencyRecorder times, in pipeline order.
+ *
+ * - VALIDATE: the pre-trade validator chain (each validator is also timed as a check)
+ * - PERSIST: writes of the order row (initial insert and the update after broker ack)
+ * - ROUTE: broker and execution strategy selection
+ * - BROKER: submission to the broker until its acknowledgement
+ * - AUDIT: durable audit record write
+ * - PUBLISH: order-placed event publication
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+public enum OrderStage {
+    VALIDATE,
+    PERSIST,
+    ROUTE,
+    BROKER,
+    AUDIT,
+    PUBLISH
+}
@@ -0,0 +1,43 @@
+package com.trademaster.trading.order.journal;
+
+import com.trademaster.trading.order.strategy.OrderStrategy;
+
+import java.util.function.Consumer;
+
+/**
+ * Journaled Strategy
+ *
+ * Contract for order strategies whose live state survives a restart through the
+ * {@link StrategyStateJournal}. A strategy journals the full state of an order after every
+ * transition (publishing it in memory first), removes it once the order is terminal, and
+ * re-creates it from the recovered payload at startup. Time-driven strategies re-arm the
+ * order's next slice as part of the restore.
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+public interface JournaledStrategy {
+
+    /**
+     * Strategy type the journaled state belongs to
+     */
+    OrderStrategy.StrategyType getStrategyType();
+
+    /**
+     * Writes the state of every live order for a compaction snapshot
+     */
+    void writeSnapshot(SnapshotSink sink);
+
+    /**
+     * Re-creates one live order from its last journaled state
+     */
+    void restoreState(String orderId, StateDecoder state);
+
+    /**
+     * Receives live order state while a snapshot is written
+     */
+    @FunctionalInterface
+    interface SnapshotSink {
+        void write(String orderId, Consumer<StateEncoder> state);
+    }
+}
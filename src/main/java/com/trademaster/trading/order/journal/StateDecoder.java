@@ -0,0 +1,72 @@
+package com.trademaster.trading.order.journal;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+/**
+ * Strategy State Decoder
+ *
+ * Binary reader mirroring {@link StateEncoder}. Strategies read fields back in the order
+ * they were written when recovered state is replayed into them.
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+public final class StateDecoder {
+
+    private final ByteBuffer buffer;
+
+    StateDecoder(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    public byte getByte() {
+        return buffer.get();
+    }
+
+    public int getInt() {
+        return buffer.getInt();
+    }
+
+    public long getLong() {
+        return buffer.getLong();
+    }
+
+    public double getDouble() {
+        return buffer.getDouble();
+    }
+
+    public String getString() {
+        int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    public BigDecimal getDecimal() {
+        int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        int scale = buffer.getInt();
+        byte[] unscaled = new byte[length];
+        buffer.get(unscaled);
+        return new BigDecimal(new BigInteger(unscaled), scale);
+    }
+
+    public Instant getInstant() {
+        long epochSecond = buffer.getLong();
+        return epochSecond == Long.MIN_VALUE ? null : Instant.ofEpochSecond(epochSecond, buffer.getInt());
+    }
+
+    public <E extends Enum<E>> E getEnum(Class<E> type) {
+        String name = getString();
+        return name == null ? null : Enum.valueOf(type, name);
+    }
+}
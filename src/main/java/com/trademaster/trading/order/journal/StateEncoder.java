@@ -0,0 +1,111 @@
+package com.trademaster.trading.order.journal;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+/**
+ * Strategy State Encoder
+ *
+ * Reusable binary writer for strategy state payloads. One instance is kept per thread by
+ * {@link StrategyStateJournal}, so encoding a state transition allocates nothing once the
+ * buffer has grown to the largest payload. Every value has a null-safe encoding.
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+public final class StateEncoder {
+
+    private static final int NULL_LENGTH = -1;
+
+    private ByteBuffer buffer = ByteBuffer.allocate(1024);
+
+    StateEncoder reset(int reservedBytes) {
+        buffer.clear().position(reservedBytes);
+        return this;
+    }
+
+    ByteBuffer buffer() {
+        return buffer;
+    }
+
+    public StateEncoder putByte(byte value) {
+        ensureCapacity(Byte.BYTES).put(value);
+        return this;
+    }
+
+    public StateEncoder putInt(int value) {
+        ensureCapacity(Integer.BYTES).putInt(value);
+        return this;
+    }
+
+    public StateEncoder putLong(long value) {
+        ensureCapacity(Long.BYTES).putLong(value);
+        return this;
+    }
+
+    public StateEncoder putDouble(double value) {
+        ensureCapacity(Double.BYTES).putDouble(value);
+        return this;
+    }
+
+    public StateEncoder putString(String value) {
+        if (value == null) {
+            return putInt(NULL_LENGTH);
+        }
+        if (!isAscii(value)) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            putInt(bytes.length);
+            ensureCapacity(bytes.length).put(bytes);
+            return this;
+        }
+
+        // Order ids, symbols and enum names are ASCII - copy chars straight in without a byte[]
+        int length = value.length();
+        putInt(length);
+        ByteBuffer target = ensureCapacity(length);
+        for (int i = 0; i < length; i++) {
+            target.put((byte) value.charAt(i));
+        }
+        return this;
+    }
+
+    public StateEncoder putDecimal(BigDecimal value) {
+        if (value == null) {
+            return putInt(NULL_LENGTH);
+        }
+        byte[] unscaled = value.unscaledValue().toByteArray();
+        putInt(unscaled.length).putInt(value.scale());
+        ensureCapacity(unscaled.length).put(unscaled);
+        return this;
+    }
+
+    public StateEncoder putInstant(Instant value) {
+        return value == null
+            ? putLong(Long.MIN_VALUE)
+            : putLong(value.getEpochSecond()).putInt(value.getNano());
+    }
+
+    public StateEncoder putEnum(Enum<?> value) {
+        return putString(value == null ? null : value.name());
+    }
+
+    private static boolean isAscii(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) >= 0x80) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private ByteBuffer ensureCapacity(int bytes) {
+        if (buffer.remaining() < bytes) {
+            ByteBuffer grown = ByteBuffer.allocate(Math.max(buffer.capacity() * 2, buffer.position() + bytes));
+            grown.put(buffer.flip());
+            buffer = grown;
+        }
+        return buffer;
+    }
+}
@@ -0,0 +1,545 @@
+package com.trademaster.trading.order.journal;
+
+import com.trademaster.trading.order.strategy.OrderStrategy;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Strategy State Journal
+ *
+ * Append-only, memory-mapped journal of algorithmic order state transitions. Strategies
+ * journal the full state of an order after each transition and a removal once it is
+ * terminal, so replay is last-writer-wins per order and snapshots can be taken without
+ * pausing the strategies. Writes land in the page cache through the mapping and survive a
+ * process crash regardless of the fsync policy; fsync only bounds loss on host failure.
+ *
+ * File Layout:
+ * - segment-&lt;baseSequence&gt;.journal: fixed-size mapped segments, rolled when full
+ * - state.snapshot: compacted live state as of a sequence, written then atomically renamed
+ * - Entry: [int length][int crc32c][long sequence][byte op][strategy][orderId][payload]
+ * - The length word is written last, so a torn entry reads as the end of the journal
+ *
+ * Fsync Policies:
+ * - ALWAYS: force the entry's pages before the append returns
+ * - INTERVAL: background force every fsync-interval-millis when dirty (default)
+ * - NEVER: leave write-back to the operating system
+ *
+ * Metrics:
+ * - trading.strategy.journal.appends / bytes / errors: journal throughput
+ * - trading.strategy.journal.fsync: time spent forcing mapped pages
+ * - trading.strategy.journal.snapshot: compaction snapshot duration
+ * - trading.strategy.journal.recovery: snapshot load plus journal replay at startup
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StrategyStateJournal {
+
+    private static final int SEGMENT_MAGIC = 0x534A524E;   // "SJRN"
+    private static final int SNAPSHOT_MAGIC = 0x534A534E;  // "SJSN"
+    private static final int FORMAT_VERSION = 1;
+    private static final int FILE_HEADER_BYTES = 16;       // magic + version + base sequence
+    private static final int ENTRY_HEADER_BYTES = 8;       // length + crc
+    private static final int BODY_PREFIX_BYTES = 9;        // sequence + op
+    private static final byte OP_PUT = 1;
+    private static final byte OP_REMOVE = 2;
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".journal";
+    private static final String SNAPSHOT_FILE = "state.snapshot";
+    private static final Consumer<StateEncoder> NO_STATE = encoder -> { };
+    private static final Map<String, OrderStrategy.StrategyType> STRATEGY_TYPES = Arrays.stream(
+        OrderStrategy.StrategyType.values()).collect(Collectors.toMap(Enum::name, Function.identity()));
+
+    private final MeterRegistry meterRegistry;
+
+    // Rule #16: Dynamic Configuration
+    @Value("${trading.strategy.journal.enabled:true}")
+    private boolean enabled;
+
+    @Value("${trading.strategy.journal.directory:data/strategy-journal}")
+    private String directory;
+
+    @Value("${trading.strategy.journal.segment-size-mb:64}")
+    private int segmentSizeMb;
+
+    @Value("${trading.strategy.journal.fsync-policy:INTERVAL}")
+    private FsyncPolicy fsyncPolicy;
+
+    @Value("${trading.strategy.journal.fsync-interval-millis:50}")
+    private long fsyncIntervalMillis;
+
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final CRC32C checksum = new CRC32C();
+    private final ThreadLocal<StateEncoder> encoders = ThreadLocal.withInitial(StateEncoder::new);
+    private final Deque<Segment> segments = new ArrayDeque<>();
+
+    private Path journalDirectory;
+    private volatile Segment active;
+    private int writePosition;
+    private long lastSequence;
+    private volatile boolean dirty;
+    private ScheduledExecutorService flusher;
+
+    private Counter appendCounter;
+    private Counter bytesCounter;
+    private Counter errorCounter;
+    private Timer fsyncTimer;
+    private Timer snapshotTimer;
+    private Timer recoveryTimer;
+
+    /**
+     * Fsync policy for mapped journal pages
+     */
+    public enum FsyncPolicy {
+        ALWAYS,
+        INTERVAL,
+        NEVER
+    }
+
+    @PostConstruct
+    public void open() {
+        registerMetrics();
+        if (!enabled) {
+            log.info("Strategy state journal disabled");
+            return;
+        }
+
+        try {
+            journalDirectory = Files.createDirectories(Path.of(directory));
+            try (Stream<Path> files = Files.list(journalDirectory)) {
+                files.filter(path -> path.getFileName().toString().startsWith(SEGMENT_PREFIX))
+                    .sorted()
+                    .map(this::mapSegment)
+                    .forEach(segments::addLast);
+            }
+
+            Optional.ofNullable(segments.peekLast()).ifPresentOrElse(last -> {
+                ScanResult tail = scan(last.buffer(), last.baseSequence(), true, body -> { });
+                active = last;
+                writePosition = tail.position();
+                lastSequence = tail.lastSequence();
+            }, () -> {
+                lastSequence = readSnapshotSequence();
+                rollUnchecked();
+            });
+
+            Optional.of(fsyncPolicy)
+                .filter(policy -> policy == FsyncPolicy.INTERVAL)
+                .ifPresent(policy -> startFlusher());
+
+            log.info("Strategy state journal opened: dir={}, segments={}, lastSequence={}, fsync={}",
+                    journalDirectory, segments.size(), lastSequence, fsyncPolicy);
+        } catch (IOException | UncheckedIOException e) {
+            // Trading continues without durability rather than failing startup
+            active = null;
+            log.error("Strategy state journal unavailable - algo order state will not survive restart", e);
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        Optional.ofNullable(flusher).ifPresent(ScheduledExecutorService::shutdown);
+        Optional.ofNullable(active).ifPresent(segment -> fsyncTimer.record(() -> segment.buffer().force()));
+    }
+
+    /**
+     * Journals the full state of an order. Call after the state is published in memory.
+     */
+    public void append(OrderStrategy.StrategyType strategy, String orderId, Consumer<StateEncoder> state) {
+        write(OP_PUT, strategy, orderId, state);
+    }
+
+    /**
+     * Journals that an order reached a terminal state and needs no recovery.
+     */
+    public void remove(OrderStrategy.StrategyType strategy, String orderId) {
+        write(OP_REMOVE, strategy, orderId, NO_STATE);
+    }
+
+    private void write(byte op, OrderStrategy.StrategyType strategy, String orderId, Consumer<StateEncoder> state) {
+        if (active == null) {
+            return;
+        }
+
+        try {
+            // Encode outside the lock into the thread's reusable buffer
+            StateEncoder encoder = encoders.get().reset(ENTRY_HEADER_BYTES + BODY_PREFIX_BYTES);
+            encoder.putString(strategy.name()).putString(orderId);
+            state.accept(encoder);
+            ByteBuffer entry = encoder.buffer();
+            int entryLength = entry.position();
+            entry.put(ENTRY_HEADER_BYTES + Long.BYTES, op);
+
+            if (entryLength > segmentBytes() - FILE_HEADER_BYTES) {
+                throw new IllegalStateException("State entry of " + entryLength + " bytes exceeds segment size");
+            }
+
+            writeLock.lock();
+            try {
+                if (writePosition + entryLength > active.buffer().capacity()) {
+                    roll();
+                }
+                int bodyLength = seal(entry, entryLength, ++lastSequence);
+                MappedByteBuffer target = active.buffer();
+                target.put(writePosition + Integer.BYTES, entry, Integer.BYTES, entryLength - Integer.BYTES);
+                target.putInt(writePosition, bodyLength);
+
+                int entryPosition = writePosition;
+                writePosition += entryLength;
+                if (fsyncPolicy == FsyncPolicy.ALWAYS) {
+                    fsyncTimer.record(() -> target.force(entryPosition, entryLength));
+                } else {
+                    dirty = true;
+                }
+            } finally {
+                writeLock.unlock();
+            }
+
+            appendCounter.increment();
+            bytesCounter.increment(entryLength);
+        } catch (IOException | RuntimeException e) {
+            errorCounter.increment();
+            log.error("Failed to journal {} state - orderId: {}", strategy, orderId, e);
+        }
+    }
+
+    /**
+     * Loads the latest snapshot and replays the journal after it.
+     *
+     * @return last journaled state of every live order, per strategy, in journal order
+     */
+    public Map<OrderStrategy.StrategyType, Map<String, byte[]>> recover() {
+        Map<OrderStrategy.StrategyType, Map<String, byte[]>> live = new EnumMap<>(OrderStrategy.StrategyType.class);
+        if (active == null) {
+            return live;
+        }
+
+        long startNanos = System.nanoTime();
+        List<Segment> replaySegments;
+        long replayUpTo;
+        writeLock.lock();
+        try {
+            replaySegments = List.copyOf(segments);
+            replayUpTo = lastSequence;
+        } finally {
+            writeLock.unlock();
+        }
+
+        long snapshotSequence = loadSnapshot(live);
+        long[] replayed = {0};
+        replaySegments.forEach(segment -> scan(segment.buffer(), segment.baseSequence(), true, body -> {
+            long sequence = body.getLong(0);
+            if (sequence > snapshotSequence && sequence <= replayUpTo) {
+                apply(live, body);
+                replayed[0]++;
+            }
+        }));
+
+        long elapsedNanos = System.nanoTime() - startNanos;
+        recoveryTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        log.info("Strategy state recovered: snapshotSequence={}, replayedEntries={}, liveOrders={}, took={}ms",
+                snapshotSequence, replayed[0], live.values().stream().mapToInt(Map::size).sum(),
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+        return live;
+    }
+
+    /**
+     * Writes a compacted snapshot of all live strategy state and drops the segments it covers.
+     * Safe while strategies keep trading: entries journaled during the snapshot have a higher
+     * sequence and are replayed over it.
+     */
+    public void snapshot(List<? extends JournaledStrategy> strategies) {
+        if (active == null) {
+            return;
+        }
+
+        snapshotTimer.record(() -> {
+            try {
+                writeSnapshot(strategies);
+            } catch (IOException | RuntimeException e) {
+                errorCounter.increment();
+                log.error("Strategy state snapshot failed - journal segments retained", e);
+            }
+        });
+    }
+
+    private void writeSnapshot(List<? extends JournaledStrategy> strategies) throws IOException {
+        long snapshotSequence;
+        writeLock.lock();
+        try {
+            if (writePosition > FILE_HEADER_BYTES) {
+                roll();
+            }
+            snapshotSequence = lastSequence;
+        } finally {
+            writeLock.unlock();
+        }
+
+        Path temp = journalDirectory.resolve(SNAPSHOT_FILE + ".tmp");
+        StateEncoder encoder = new StateEncoder();
+        CRC32C snapshotChecksum = new CRC32C();
+        int[] orders = {0};
+
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            writeFully(channel, ByteBuffer.allocate(FILE_HEADER_BYTES)
+                .putInt(SNAPSHOT_MAGIC).putInt(FORMAT_VERSION).putLong(snapshotSequence).flip());
+
+            strategies.forEach(strategy -> strategy.writeSnapshot((orderId, state) -> {
+                encoder.reset(ENTRY_HEADER_BYTES + BODY_PREFIX_BYTES)
+                    .putString(strategy.getStrategyType().name())
+                    .putString(orderId);
+                state.accept(encoder);
+                ByteBuffer entry = encoder.buffer();
+                int entryLength = entry.position();
+                entry.put(ENTRY_HEADER_BYTES + Long.BYTES, OP_PUT);
+                entry.putInt(0, sealWith(snapshotChecksum, entry, entryLength, snapshotSequence));
+                writeFully(channel, entry.flip());
+                orders[0]++;
+            }));
+            channel.force(true);
+        }
+        Files.move(temp, journalDirectory.resolve(SNAPSHOT_FILE),
+            StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+
+        // Every closed segment now holds only sequences covered by the snapshot
+        int deleted = 0;
+        writeLock.lock();
+        try {
+            while (segments.peekFirst() != active && segments.peekFirst().baseSequence() <= snapshotSequence) {
+                Files.deleteIfExists(segments.pollFirst().path());
+                deleted++;
+            }
+        } finally {
+            writeLock.unlock();
+        }
+
+        log.info("Strategy state snapshot written: sequence={}, liveOrders={}, segmentsCompacted={}",
+                snapshotSequence, orders[0], deleted);
+    }
+
+    private long loadSnapshot(Map<OrderStrategy.StrategyType, Map<String, byte[]>> live) {
+        Path snapshot = journalDirectory.resolve(SNAPSHOT_FILE);
+        if (!Files.exists(snapshot)) {
+            return 0L;
+        }
+
+        try (FileChannel channel = FileChannel.open(snapshot, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt(0) != SNAPSHOT_MAGIC) {
+                log.error("Ignoring strategy state snapshot with bad header: {}", snapshot);
+                return 0L;
+            }
+            scan(buffer, buffer.getLong(8), false, body -> apply(live, body));
+            return buffer.getLong(8);
+        } catch (IOException e) {
+            log.error("Failed to load strategy state snapshot: {}", snapshot, e);
+            return 0L;
+        }
+    }
+
+    private long readSnapshotSequence() {
+        Path snapshot = journalDirectory.resolve(SNAPSHOT_FILE);
+        try (FileChannel channel = FileChannel.open(snapshot, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(FILE_HEADER_BYTES);
+            channel.read(header, 0);
+            return header.getInt(0) == SNAPSHOT_MAGIC ? header.getLong(8) : 0L;
+        } catch (IOException e) {
+            return 0L;
+        }
+    }
+
+    private void apply(Map<OrderStrategy.StrategyType, Map<String, byte[]>> live, ByteBuffer body) {
+        StateDecoder decoder = new StateDecoder(body.position(BODY_PREFIX_BYTES));
+        byte op = body.get(Long.BYTES);
+        String strategyName = decoder.getString();
+        String orderId = decoder.getString();
+
+        Optional.ofNullable(STRATEGY_TYPES.get(strategyName))
+            .ifPresentOrElse(type -> {
+                Map<String, byte[]> orders = live.computeIfAbsent(type, t -> new LinkedHashMap<>());
+                if (op == OP_PUT) {
+                    byte[] payload = new byte[body.remaining()];
+                    body.get(payload);
+                    orders.put(orderId, payload);
+                } else {
+                    orders.remove(orderId);
+                }
+            }, () -> log.warn("Skipping journaled state for unknown strategy: {}", strategyName));
+    }
+
+    /**
+     * Walks valid entries from the start of a file, stopping at the first empty, torn,
+     * corrupt or out-of-sequence entry.
+     */
+    private ScanResult scan(ByteBuffer file, long baseSequence, boolean sequential, Consumer<ByteBuffer> visitor) {
+        CRC32C scanChecksum = new CRC32C();
+        int position = FILE_HEADER_BYTES;
+        long expected = baseSequence;
+
+        while (position + ENTRY_HEADER_BYTES <= file.capacity()) {
+            int length = file.getInt(position);
+            if (length < BODY_PREFIX_BYTES || position + ENTRY_HEADER_BYTES + length > file.capacity()) {
+                break;
+            }
+            ByteBuffer body = file.slice(position + ENTRY_HEADER_BYTES, length);
+            scanChecksum.reset();
+            scanChecksum.update(body.duplicate());
+            if ((int) scanChecksum.getValue() != file.getInt(position + Integer.BYTES)
+                    || (sequential && body.getLong(0) != expected)) {
+                break;
+            }
+            visitor.accept(body);
+            expected++;
+            position += ENTRY_HEADER_BYTES + length;
+        }
+        return new ScanResult(position, sequential ? expected - 1 : baseSequence);
+    }
+
+    private int seal(ByteBuffer entry, int entryLength, long sequence) {
+        return sealWith(checksum, entry, entryLength, sequence);
+    }
+
+    private static int sealWith(CRC32C crc, ByteBuffer entry, int entryLength, long sequence) {
+        int bodyLength = entryLength - ENTRY_HEADER_BYTES;
+        entry.putLong(ENTRY_HEADER_BYTES, sequence);
+        crc.reset();
+        crc.update(entry.array(), entry.arrayOffset() + ENTRY_HEADER_BYTES, bodyLength);
+        entry.putInt(Integer.BYTES, (int) crc.getValue());
+        return bodyLength;
+    }
+
+    private void roll() throws IOException {
+        if (active != null && fsyncPolicy != FsyncPolicy.NEVER) {
+            MappedByteBuffer previous = active.buffer();
+            fsyncTimer.record(() -> previous.force());
+        }
+
+        long baseSequence = lastSequence + 1;
+        Path path = journalDirectory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, baseSequence, SEGMENT_SUFFIX));
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentBytes());
+            buffer.putInt(0, SEGMENT_MAGIC).putInt(4, FORMAT_VERSION).putLong(8, baseSequence);
+            active = new Segment(baseSequence, path, buffer);
+        }
+        segments.addLast(active);
+        writePosition = FILE_HEADER_BYTES;
+    }
+
+    private void rollUnchecked() {
+        try {
+            roll();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Segment mapSegment(Path path) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+            if (buffer.getInt(0) != SEGMENT_MAGIC) {
+                throw new IOException("Not a strategy journal segment: " + path);
+            }
+            return new Segment(buffer.getLong(8), path, buffer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void startFlusher() {
+        flusher = Executors.newSingleThreadScheduledExecutor(
+            runnable -> Thread.ofPlatform().daemon().name("strategy-journal-fsync").unstarted(runnable));
+        flusher.scheduleWithFixedDelay(this::flush, fsyncIntervalMillis, fsyncIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void flush() {
+        if (dirty) {
+            dirty = false;
+            Segment segment = active;
+            fsyncTimer.record(() -> segment.buffer().force());
+        }
+    }
+
+    private long segmentBytes() {
+        return (long) segmentSizeMb * 1024 * 1024;
+    }
+
+    private void writeFully(FileChannel channel, ByteBuffer buffer) {
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void registerMetrics() {
+        appendCounter = Counter.builder("trading.strategy.journal.appends")
+            .description("Strategy state transitions journaled")
+            .register(meterRegistry);
+        bytesCounter = Counter.builder("trading.strategy.journal.bytes")
+            .description("Bytes appended to the strategy state journal")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+        errorCounter = Counter.builder("trading.strategy.journal.errors")
+            .description("Failed strategy journal appends and snapshots")
+            .register(meterRegistry);
+        fsyncTimer = Timer.builder("trading.strategy.journal.fsync")
+            .description("Time spent forcing mapped journal pages to disk")
+            .publishPercentiles(0.5, 0.99)
+            .register(meterRegistry);
+        snapshotTimer = Timer.builder("trading.strategy.journal.snapshot")
+            .description("Strategy state snapshot duration")
+            .register(meterRegistry);
+        recoveryTimer = Timer.builder("trading.strategy.journal.recovery")
+            .description("Snapshot load and journal replay time at startup")
+            .register(meterRegistry);
+        Gauge.builder("trading.strategy.journal.sequence", this, journal -> journal.lastSequence)
+            .description("Last journaled strategy state sequence")
+            .register(meterRegistry);
+    }
+
+    private record Segment(long baseSequence, Path path, MappedByteBuffer buffer) {}
+
+    private record ScanResult(int position, long lastSequence) {}
+}
@@ -0,0 +1,349 @@
+package com.trademaster.trading.order.scheduling;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.IntStream;
+
+/**
+ * Algorithmic Slice Scheduler
+ *
+ * Shared hierarchical timing wheel for TWAP/VWAP slice execution. Each parent order holds
+ * exactly one timer - its next slice - so memory and wake-ups scale with live orders rather
+ * than with total scheduled slices. Cancelling an order unlinks its timer in O(1); a cancelled
+ * order never wakes up again.
+ *
+ * Wheel Layout:
+ * - 4 levels x 256 slots, tick configurable (default 10ms)
+ * - Level spans: 2.56s, 10.9m, 46.6h, 497d at 10ms ticks
+ * - Timers cascade to finer levels as their deadline approaches
+ *
+ * Execution Model:
+ * - One platform ticker thread advances the wheel and collects due timers
+ * - Due slices run on virtual threads; the slice task returns the delay to its next slice
+ * - The timer node is re-armed in place - no timer objects or scheduled futures per slice
+ *
+ * Metrics:
+ * - trading.algo.scheduler.lag: actual fire time minus slice deadline
+ * - trading.algo.slice.jitter: change in lag between consecutive slices of the same parent order
+ * - trading.algo.scheduler.active: parent orders with an armed timer
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AlgoSliceScheduler {
+
+    /**
+     * Returned by a slice task when the parent order has no further slices
+     */
+    public static final long STOP = -1L;
+
+    private static final int WHEEL_BITS = 8;
+    private static final int WHEEL_SIZE = 1 << WHEEL_BITS;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+    private static final int LEVELS = 4;
+
+    /** Maximum share of the remaining planned delay removed when an order falls behind on fills */
+    private static final double MAX_DELAY_COMPRESSION = 0.75;
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${trading.algo.scheduler.tick-millis:10}")
+    private long tickMillis;
+
+    private final Map<String, SliceTimer> timersByParent = new ConcurrentHashMap<>();
+    private final ReentrantLock wheelLock = new ReentrantLock();
+    private final Bucket[][] wheel = new Bucket[LEVELS][WHEEL_SIZE];
+    private final ExecutorService sliceExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private long tickNanos;
+    private long startNanos;
+    private long currentTick;
+    private volatile boolean running;
+    private Thread ticker;
+
+    private Timer schedulerLag;
+    private Timer sliceJitter;
+
+    @PostConstruct
+    public void start() {
+        tickNanos = TimeUnit.MILLISECONDS.toNanos(tickMillis);
+        startNanos = System.nanoTime();
+        IntStream.range(0, LEVELS)
+            .forEach(level -> IntStream.range(0, WHEEL_SIZE)
+                .forEach(slot -> wheel[level][slot] = new Bucket()));
+
+        schedulerLag = Timer.builder("trading.algo.scheduler.lag")
+            .description("Delay between a slice deadline and its execution start")
+            .publishPercentiles(0.5, 0.99, 0.999)
+            .register(meterRegistry);
+        sliceJitter = Timer.builder("trading.algo.slice.jitter")
+            .description("Change in scheduler lag between consecutive slices of a parent order")
+            .publishPercentiles(0.5, 0.99, 0.999)
+            .register(meterRegistry);
+        Gauge.builder("trading.algo.scheduler.active", timersByParent, Map::size)
+            .description("Algorithmic parent orders with an armed slice timer")
+            .register(meterRegistry);
+
+        running = true;
+        ticker = Thread.ofPlatform().daemon().name("algo-slice-wheel").start(this::runTicker);
+        log.info("Algo slice scheduler started: tick={}ms, levels={}, slotsPerLevel={}", tickMillis, LEVELS, WHEEL_SIZE);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        Optional.ofNullable(ticker).ifPresent(LockSupport::unpark);
+        sliceExecutor.shutdownNow();
+        log.info("Algo slice scheduler stopped: {} parent orders still armed", timersByParent.size());
+    }
+
+    /**
+     * Arm the first slice of a parent order. Replaces any timer already held by the parent.
+     */
+    public void schedule(String parentOrderId, Duration initialDelay, SliceTask task) {
+        SliceTimer timer = new SliceTimer(parentOrderId, task);
+        Optional.ofNullable(timersByParent.put(parentOrderId, timer)).ifPresent(this::unlink);
+        arm(timer, initialDelay.toNanos());
+    }
+
+    /**
+     * Cancel a parent order's pending slice in O(1)
+     *
+     * @return true if the parent had an armed timer
+     */
+    public boolean cancel(String parentOrderId) {
+        return Optional.ofNullable(timersByParent.remove(parentOrderId))
+            .map(timer -> {
+                unlink(timer);
+                return true;
+            })
+            .orElse(false);
+    }
+
+    public boolean isScheduled(String parentOrderId) {
+        return timersByParent.containsKey(parentOrderId);
+    }
+
+    public int getActiveTimerCount() {
+        return timersByParent.size();
+    }
+
+    /**
+     * Delay until the next slice, anchored to the slice's planned offset from order start so
+     * scheduler lag does not accumulate. A fill shortfall (in units of the next slice) pulls the
+     * slice forward, up to {@link #MAX_DELAY_COMPRESSION} of the remaining delay.
+     */
+    public static long adaptiveDelayNanos(long plannedOffsetNanos, long elapsedNanos, double fillShortfallRatio) {
+        long remaining = Math.max(0L, plannedOffsetNanos - elapsedNanos);
+        double compression = Math.min(MAX_DELAY_COMPRESSION, Math.max(0.0, fillShortfallRatio));
+        return (long) (remaining * (1.0 - compression));
+    }
+
+    private void arm(SliceTimer timer, long delayNanos) {
+        long now = System.nanoTime();
+        timer.deadlineNanos = now + Math.max(0L, delayNanos);
+
+        wheelLock.lock();
+        try {
+            // The current tick's slot has already been drained - the earliest reachable tick is the next one
+            Optional.of(timer)
+                .filter(t -> !t.cancelled)
+                .ifPresent(t -> place(t, Math.max(deadlineTick(t.deadlineNanos), currentTick + 1)));
+        } finally {
+            wheelLock.unlock();
+        }
+    }
+
+    private void unlink(SliceTimer timer) {
+        timer.cancelled = true;
+        wheelLock.lock();
+        try {
+            Optional.ofNullable(timer.bucket).ifPresent(bucket -> bucket.remove(timer));
+        } finally {
+            wheelLock.unlock();
+        }
+    }
+
+    private long deadlineTick(long deadlineNanos) {
+        return Math.ceilDiv(deadlineNanos - startNanos, tickNanos);
+    }
+
+    /**
+     * Place a timer at the finest level whose span covers its distance. Caller holds the lock.
+     * Cascaded timers may be due on the current tick; they land in the level-0 slot drained next.
+     */
+    private void place(SliceTimer timer, long tick) {
+        long distance = Math.max(0L, tick - currentTick);
+        int level = Math.min(LEVELS - 1, Math.max(0, 63 - Long.numberOfLeadingZeros(distance)) / WHEEL_BITS);
+        int slot = (int) ((tick >>> (level * WHEEL_BITS)) & WHEEL_MASK);
+        timer.deadlineTick = tick;
+        wheel[level][slot].add(timer);
+    }
+
+    private void runTicker() {
+        while (running) {
+            long nextTick = currentTick + 1;
+            long waitNanos = startNanos + nextTick * tickNanos - System.nanoTime();
+            Optional.of(waitNanos).filter(nanos -> nanos > 0).ifPresent(LockSupport::parkNanos);
+            Optional.of(waitNanos).filter(nanos -> nanos <= 0).ifPresent(nanos -> advance(nextTick));
+        }
+    }
+
+    /**
+     * Advance the wheel by one tick: cascade higher levels at their boundaries, then fire the level-0 slot
+     */
+    private void advance(long tick) {
+        SliceTimer due;
+        wheelLock.lock();
+        try {
+            currentTick = tick;
+            cascade(tick, 1);
+            due = wheel[0][(int) (tick & WHEEL_MASK)].drain();
+        } finally {
+            wheelLock.unlock();
+        }
+
+        // Fire outside the lock - each slice runs on its own virtual thread
+        for (SliceTimer timer = due; timer != null; ) {
+            SliceTimer next = timer.next;
+            timer.next = null;
+            timer.prev = null;
+            dispatch(timer);
+            timer = next;
+        }
+    }
+
+    private void cascade(long tick, int level) {
+        Optional.of(level)
+            .filter(l -> l < LEVELS && ((tick >>> ((l - 1) * WHEEL_BITS)) & WHEEL_MASK) == 0)
+            .ifPresent(l -> {
+                cascade(tick, l + 1);
+                SliceTimer timer = wheel[l][(int) ((tick >>> (l * WHEEL_BITS)) & WHEEL_MASK)].drain();
+                while (timer != null) {
+                    SliceTimer next = timer.next;
+                    timer.next = null;
+                    timer.prev = null;
+                    place(timer, timer.deadlineTick);
+                    timer = next;
+                }
+            });
+    }
+
+    private void dispatch(SliceTimer timer) {
+        Optional.of(timer)
+            .filter(t -> !t.cancelled)
+            .ifPresent(t -> sliceExecutor.execute(() -> fire(t)));
+    }
+
+    private void fire(SliceTimer timer) {
+        long lag = Math.max(0L, System.nanoTime() - timer.deadlineNanos);
+        schedulerLag.record(lag, TimeUnit.NANOSECONDS);
+        Optional.of(timer.sliceNumber)
+            .filter(slice -> slice > 0)
+            .ifPresent(slice -> sliceJitter.record(Math.abs(lag - timer.lastLagNanos), TimeUnit.NANOSECONDS));
+
+        timer.sliceNumber++;
+        timer.lastLagNanos = lag;
+
+        long nextDelay;
+        try {
+            nextDelay = timer.task.runSlice(timer.sliceNumber);
+        } catch (Exception e) {
+            log.error("Slice execution failed - parentOrderId: {}, slice: {}", timer.parentOrderId, timer.sliceNumber, e);
+            nextDelay = STOP;
+        }
+
+        Optional.of(nextDelay)
+            .filter(delay -> delay >= 0 && !timer.cancelled)
+            .ifPresentOrElse(
+                delay -> arm(timer, delay),
+                () -> timersByParent.remove(timer.parentOrderId, timer));
+    }
+
+    /**
+     * Slice callback. Receives the 1-based slice number and returns the delay in nanoseconds
+     * until the parent's next slice, or {@link #STOP} when the parent is complete.
+     */
+    @FunctionalInterface
+    public interface SliceTask {
+        long runSlice(int sliceNumber);
+    }
+
+    /**
+     * Intrusive timer node - the doubly linked pointers make bucket removal O(1)
+     */
+    private static final class SliceTimer {
+        private final String parentOrderId;
+        private final SliceTask task;
+        private long deadlineNanos;
+        private long deadlineTick;
+        private long lastLagNanos;
+        private int sliceNumber;
+        private volatile boolean cancelled;
+        private SliceTimer prev;
+        private SliceTimer next;
+        private Bucket bucket;
+
+        private SliceTimer(String parentOrderId, SliceTask task) {
+            this.parentOrderId = parentOrderId;
+            this.task = task;
+        }
+    }
+
+    /**
+     * Wheel slot - intrusive doubly linked list guarded by the wheel lock
+     */
+    private static final class Bucket {
+        private SliceTimer head;
+        private SliceTimer tail;
+
+        private void add(SliceTimer timer) {
+            timer.bucket = this;
+            timer.prev = tail;
+            timer.next = null;
+            Optional.ofNullable(tail).ifPresentOrElse(t -> t.next = timer, () -> head = timer);
+            tail = timer;
+        }
+
+        private void remove(SliceTimer timer) {
+            Optional.ofNullable(timer.prev).ifPresentOrElse(p -> p.next = timer.next, () -> head = timer.next);
+            Optional.ofNullable(timer.next).ifPresentOrElse(n -> n.prev = timer.prev, () -> tail = timer.prev);
+            timer.prev = null;
+            timer.next = null;
+            timer.bucket = null;
+        }
+
+        /**
+         * Detach and return the whole list; timers are no longer owned by this bucket
+         */
+        private SliceTimer drain() {
+            SliceTimer first = head;
+            for (SliceTimer timer = first; timer != null; timer = timer.next) {
+                timer.bucket = null;
+            }
+            head = null;
+            tail = null;
+            return first;
+        }
+    }
+}
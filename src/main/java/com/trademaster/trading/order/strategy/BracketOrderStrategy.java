@@ -5,6 +5,10 @@ import com.trademaster.trading.dto.OrderResponse;
 import com.trademaster.trading.model.OrderSide;
 import com.trademaster.trading.model.OrderStatus;
 import com.trademaster.trading.model.OrderType;
+import com.trademaster.trading.order.journal.JournaledStrategy;
+import com.trademaster.trading.order.journal.StateDecoder;
+import com.trademaster.trading.order.journal.StateEncoder;
+import com.trademaster.trading.order.journal.StrategyStateJournal;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -43,6 +47,9 @@ import java.util.concurrent.ConcurrentHashMap;
  * - Hands-free trading: Set and forget order management
  * - Swing trading: Overnight position management
  *
+ * Persistence:
+ * - Entry fills and leg activation are journaled, so brackets survive a restart
+ *
  * Performance:
  * - Entry execution: <100ms
  * - OCO cancellation: <50ms
@@ -55,11 +62,14 @@ import java.util.concurrent.ConcurrentHashMap;
 @Component
 @RequiredArgsConstructor
 @Slf4j
-public final class BracketOrderStrategy implements OrderStrategy {
+public final class BracketOrderStrategy implements OrderStrategy, JournaledStrategy {
 
     // Active bracket orders: orderId -> BracketOrder
     private final Map<String, BracketOrder> activeOrders = new ConcurrentHashMap<>();
 
+    // Durable state transitions for restart recovery
+    private final StrategyStateJournal journal;
+
     @Override
     public StrategyType getStrategyType() {
         return StrategyType.BRACKET;
@@ -121,6 +131,7 @@ public final class BracketOrderStrategy implements OrderStrategy {
 
                 // Store in active orders
                 activeOrders.put(orderId, bracketOrder);
+                journal(bracketOrder);
 
                 log.info("Bracket order created: orderId={}, bracket=[entry={}, profit={}, stop={}]",
                         orderId, request.entryPrice(), request.profitTarget(), request.stopPrice());
@@ -151,6 +162,7 @@ public final class BracketOrderStrategy implements OrderStrategy {
 
             return Optional.ofNullable(activeOrders.remove(orderId))
                 .map(order -> {
+                    journal.remove(StrategyType.BRACKET, orderId);
                     var cancelledOrder = new BracketOrder(
                         order.orderId(),
                         order.symbol(),
@@ -199,6 +211,7 @@ public final class BracketOrderStrategy implements OrderStrategy {
 
                     // Update in active orders
                     activeOrders.put(orderId, modifiedOrder);
+                    journal(modifiedOrder);
 
                     log.info("Bracket order modified: orderId={}, bracket=[{}, {}, {}]",
                             orderId, modifiedOrder.entryPrice(),
@@ -314,6 +327,7 @@ public final class BracketOrderStrategy implements OrderStrategy {
         );
 
         activeOrders.put(orderId, activeOrder);
+        journal(activeOrder);
     }
 
     /**
@@ -338,6 +352,7 @@ public final class BracketOrderStrategy implements OrderStrategy {
         );
 
         activeOrders.put(orderId, completedOrder);
+        journal.remove(StrategyType.BRACKET, orderId);
 
         // In production: Cancel stop-loss order and execute profit target
         // cancelStopLossOrder(orderId);
@@ -366,12 +381,57 @@ public final class BracketOrderStrategy implements OrderStrategy {
         );
 
         activeOrders.put(orderId, completedOrder);
+        journal.remove(StrategyType.BRACKET, orderId);
 
         // In production: Cancel profit target and execute stop-loss
         // cancelProfitTargetOrder(orderId);
         // executeMarketOrder(order.symbol(), getExitSide(order.side()), order.quantity());
     }
 
+    @Override
+    public void writeSnapshot(SnapshotSink sink) {
+        activeOrders.values().stream()
+            .filter(order -> order.state() == BracketState.PENDING || order.state() == BracketState.ACTIVE)
+            .forEach(order -> sink.write(order.orderId(), state -> encode(order, state)));
+    }
+
+    @Override
+    public void restoreState(String orderId, StateDecoder state) {
+        activeOrders.put(orderId, new BracketOrder(
+            orderId,
+            state.getString(),
+            state.getEnum(OrderSide.class),
+            state.getInt(),
+            state.getDecimal(),
+            state.getDecimal(),
+            state.getDecimal(),
+            state.getEnum(BracketState.class),
+            state.getDecimal(),
+            state.getEnum(OrderStatus.class),
+            state.getInstant()
+        ));
+    }
+
+    /**
+     * Journals the current state of an order after it is published in activeOrders.
+     */
+    private void journal(BracketOrder order) {
+        journal.append(StrategyType.BRACKET, order.orderId(), state -> encode(order, state));
+    }
+
+    private void encode(BracketOrder order, StateEncoder state) {
+        state.putString(order.symbol())
+            .putEnum(order.side())
+            .putInt(order.quantity())
+            .putDecimal(order.entryPrice())
+            .putDecimal(order.profitTarget())
+            .putDecimal(order.stopPrice())
+            .putEnum(order.state())
+            .putDecimal(order.entryFillPrice())
+            .putEnum(order.status())
+            .putInstant(order.createdAt());
+    }
+
     /**
      * Validates bracket price relationships.
      * For BUY: profit > entry > stop
@@ -5,6 +5,10 @@ import com.trademaster.trading.dto.OrderResponse;
 import com.trademaster.trading.model.OrderSide;
 import com.trademaster.trading.model.OrderStatus;
 import com.trademaster.trading.model.OrderType;
+import com.trademaster.trading.order.journal.JournaledStrategy;
+import com.trademaster.trading.order.journal.StateDecoder;
+import com.trademaster.trading.order.journal.StateEncoder;
+import com.trademaster.trading.order.journal.StrategyStateJournal;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -44,6 +48,9 @@ import java.util.concurrent.atomic.AtomicInteger;
  * - Stealth Trading: Conceal trading intentions
  * - Liquidity Management: Avoid overwhelming order book
  *
+ * Persistence:
+ * - Fill progress and slice number are journaled, so iceberg state survives a restart
+ *
  * Performance:
  * - Slice placement: <100ms
  * - Fill detection: <50ms
@@ -56,11 +63,14 @@ import java.util.concurrent.atomic.AtomicInteger;
 @Component
 @RequiredArgsConstructor
 @Slf4j
-public final class IcebergOrderStrategy implements OrderStrategy {
+public final class IcebergOrderStrategy implements OrderStrategy, JournaledStrategy {
 
     // Active iceberg orders: orderId -> IcebergOrder
     private final Map<String, IcebergOrder> activeOrders = new ConcurrentHashMap<>();
 
+    // Durable state transitions for restart recovery
+    private final StrategyStateJournal journal;
+
     @Override
     public StrategyType getStrategyType() {
         return StrategyType.ICEBERG;
@@ -113,6 +123,7 @@ public final class IcebergOrderStrategy implements OrderStrategy {
 
                 // Store in active orders
                 activeOrders.put(orderId, icebergOrder);
+                journal(icebergOrder);
 
                 // Place initial slice
                 placeSlice(icebergOrder);
@@ -146,6 +157,7 @@ public final class IcebergOrderStrategy implements OrderStrategy {
 
             return Optional.ofNullable(activeOrders.remove(orderId))
                 .map(order -> {
+                    journal.remove(StrategyType.ICEBERG, orderId);
                     var cancelledOrder = new IcebergOrder(
                         order.orderId(),
                         order.symbol(),
@@ -203,6 +215,7 @@ public final class IcebergOrderStrategy implements OrderStrategy {
 
                     // Update in active orders
                     activeOrders.put(orderId, modifiedOrder);
+                    journal(modifiedOrder);
 
                     log.info("Iceberg order modified: orderId={}, displayQty={}",
                             orderId, newDisplayQty);
@@ -289,6 +302,7 @@ public final class IcebergOrderStrategy implements OrderStrategy {
         );
 
         activeOrders.put(orderId, updatedOrder);
+        journal(updatedOrder);
 
         log.info("Placing next slice: orderId={}, slice={}, qty={}, remaining={}",
                 orderId, nextSliceNumber, nextSliceQty, remainingQty);
@@ -316,6 +330,7 @@ public final class IcebergOrderStrategy implements OrderStrategy {
         );
 
         activeOrders.put(orderId, completedOrder);
+        journal.remove(StrategyType.ICEBERG, orderId);
 
         log.info("ICEBERG ORDER COMPLETED: orderId={}, totalFilled={}, slices={}",
                 orderId, order.filledQuantity().get(), order.currentSlice());
@@ -337,6 +352,50 @@ public final class IcebergOrderStrategy implements OrderStrategy {
         };
     }
 
+    @Override
+    public void writeSnapshot(SnapshotSink sink) {
+        activeOrders.values().stream()
+            .filter(order -> order.state() == IcebergState.ACTIVE)
+            .forEach(order -> sink.write(order.orderId(), state -> encode(order, state)));
+    }
+
+    @Override
+    public void restoreState(String orderId, StateDecoder state) {
+        activeOrders.put(orderId, new IcebergOrder(
+            orderId,
+            state.getString(),
+            state.getEnum(OrderSide.class),
+            state.getInt(),
+            state.getInt(),
+            new AtomicInteger(state.getInt()),
+            state.getDecimal(),
+            state.getInt(),
+            state.getEnum(IcebergState.class),
+            state.getEnum(OrderStatus.class),
+            state.getInstant()
+        ));
+    }
+
+    /**
+     * Journals the current state of an order after it is published in activeOrders.
+     */
+    private void journal(IcebergOrder order) {
+        journal.append(StrategyType.ICEBERG, order.orderId(), state -> encode(order, state));
+    }
+
+    private void encode(IcebergOrder order, StateEncoder state) {
+        state.putString(order.symbol())
+            .putEnum(order.side())
+            .putInt(order.totalQuantity())
+            .putInt(order.displayQuantity())
+            .putInt(order.filledQuantity().get())
+            .putDecimal(order.price())
+            .putInt(order.currentSlice())
+            .putEnum(order.state())
+            .putEnum(order.status())
+            .putInstant(order.createdAt());
+    }
+
     /**
      * Calculates total number of slices needed.
      */
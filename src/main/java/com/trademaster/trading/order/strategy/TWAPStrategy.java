@@ -5,6 +5,11 @@ import com.trademaster.trading.dto.OrderResponse;
 import com.trademaster.trading.model.OrderSide;
 import com.trademaster.trading.model.OrderStatus;
 import com.trademaster.trading.model.OrderType;
+import com.trademaster.trading.order.journal.JournaledStrategy;
+import com.trademaster.trading.order.journal.StateDecoder;
+import com.trademaster.trading.order.journal.StateEncoder;
+import com.trademaster.trading.order.journal.StrategyStateJournal;
+import com.trademaster.trading.order.scheduling.AlgoSliceScheduler;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -13,12 +18,12 @@ import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.Duration;
 import java.time.Instant;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 
 /**
  * TWAP (Time-Weighted Average Price) Order Strategy Implementation
@@ -37,7 +42,7 @@ import java.util.concurrent.atomic.AtomicInteger;
  * Algorithm:
  * 1. Calculate number of slices: Time Window / Slice Interval
  * 2. Calculate slice size: Total Quantity / Number of Slices
- * 3. Schedule slice executions at regular intervals
+ * 3. Arm the next slice on the shared slice scheduler (one timer per order)
  * 4. Execute each slice as market order at scheduled time
  * 5. Track execution progress and average price
  *
@@ -47,9 +52,12 @@ import java.util.concurrent.atomic.AtomicInteger;
  * - Benchmark Tracking: Achieve execution close to time-weighted benchmark
  * - Liquidity Management: Match execution to market liquidity patterns
  *
+ * Persistence:
+ * - Slice progress is journaled; after a restart the next slice is re-armed on its planned grid
+ *
  * Performance:
  * - Slice execution: <100ms per slice
- * - Scheduling precision: ±10ms
+ * - Scheduling precision: ±10ms (one wheel tick), slices anchored to the planned grid
  * - Market impact: 30-50% lower than single execution
  *
  * @author TradeMaster Team
@@ -59,16 +67,16 @@ import java.util.concurrent.atomic.AtomicInteger;
 @Component
 @RequiredArgsConstructor
 @Slf4j
-public final class TWAPStrategy implements OrderStrategy {
+public final class TWAPStrategy implements OrderStrategy, JournaledStrategy {
 
     // Active TWAP orders: orderId -> TWAPOrder
     private final Map<String, TWAPOrder> activeOrders = new ConcurrentHashMap<>();
 
-    // Scheduled executor for slice execution with virtual threads
-    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(
-        10,
-        Thread.ofVirtual().name("twap-scheduler-", 0).factory()
-    );
+    // Shared timing wheel - holds only the next slice of each active order
+    private final AlgoSliceScheduler sliceScheduler;
+
+    // Durable state transitions for restart recovery
+    private final StrategyStateJournal journal;
 
     @Override
     public StrategyType getStrategyType() {
@@ -130,7 +138,7 @@ public final class TWAPStrategy implements OrderStrategy {
                     new AtomicInteger(0),  // Executed slices
                     new AtomicInteger(0),  // Filled quantity
                     request.sliceIntervalSeconds(),
-                    new ArrayList<>(),  // Slice executions
+                    new CopyOnWriteArrayList<>(),  // Slice executions - read concurrently by snapshots
                     TWAPState.ACTIVE,
                     OrderStatus.PENDING,
                     Instant.now()
@@ -138,6 +146,7 @@ public final class TWAPStrategy implements OrderStrategy {
 
                 // Store in active orders
                 activeOrders.put(orderId, twapOrder);
+                journal(twapOrder);
 
                 // Schedule slice executions
                 scheduleSliceExecutions(twapOrder);
@@ -166,8 +175,12 @@ public final class TWAPStrategy implements OrderStrategy {
         return CompletableFuture.supplyAsync(() -> {
             log.info("Cancelling TWAP order: orderId={}", orderId);
 
+            // Unlink the pending slice first so a cancelled order never wakes up again
+            sliceScheduler.cancel(orderId);
+
             return Optional.ofNullable(activeOrders.remove(orderId))
                 .map(order -> {
+                    journal.remove(StrategyType.TWAP, orderId);
                     var cancelledOrder = new TWAPOrder(
                         order.orderId(),
                         order.symbol(),
@@ -201,19 +214,10 @@ public final class TWAPStrategy implements OrderStrategy {
     }
 
     /**
-     * Schedules all slice executions at regular intervals.
+     * Arms the first slice on the shared scheduler. Each slice arms the next one on completion.
      */
     private void scheduleSliceExecutions(TWAPOrder order) {
-        for (int i = 0; i < order.totalSlices(); i++) {
-            final int sliceNumber = i + 1;
-            long delaySeconds = (long) i * order.sliceIntervalSeconds();
-
-            scheduler.schedule(
-                () -> executeSlice(order, sliceNumber),
-                delaySeconds,
-                TimeUnit.SECONDS
-            );
-        }
+        sliceScheduler.schedule(order.orderId(), Duration.ZERO, sliceNumber -> executeSlice(order, sliceNumber));
 
         log.info("Scheduled {} slices for orderId={}, interval={}s",
                 order.totalSlices(), order.orderId(), order.sliceIntervalSeconds());
@@ -221,12 +225,14 @@ public final class TWAPStrategy implements OrderStrategy {
 
     /**
      * Executes a single slice at scheduled time.
+     *
+     * @return delay in nanoseconds until the next slice, or {@link AlgoSliceScheduler#STOP}
      */
-    private void executeSlice(TWAPOrder order, int sliceNumber) {
-        if (order.state() != TWAPState.ACTIVE) {
+    private long executeSlice(TWAPOrder order, int sliceNumber) {
+        if (!activeOrders.containsKey(order.orderId())) {
             log.debug("Skipping slice execution for cancelled order: orderId={}, slice={}",
                     order.orderId(), sliceNumber);
-            return;
+            return AlgoSliceScheduler.STOP;
         }
 
         // Calculate slice quantity (last slice may be smaller)
@@ -257,7 +263,26 @@ public final class TWAPStrategy implements OrderStrategy {
         // Check if order complete
         if (order.executedSlices().get() >= order.totalSlices()) {
             completeTWAPOrder(order);
+            return AlgoSliceScheduler.STOP;
         }
+
+        journal(order);
+        return calculateNextSliceDelay(order);
+    }
+
+    /**
+     * Calculates delay to the next slice, anchored to the planned slice grid.
+     * A fill shortfall against the grid brings the next slice forward.
+     */
+    private long calculateNextSliceDelay(TWAPOrder order) {
+        int executedSlices = order.executedSlices().get();
+        long plannedOffset = executedSlices * TimeUnit.SECONDS.toNanos(order.sliceIntervalSeconds());
+        long elapsed = Duration.between(order.createdAt(), Instant.now()).toNanos();
+
+        int expectedFilled = Math.min(order.totalQuantity(), executedSlices * order.sliceSize());
+        double fillShortfall = (double) (expectedFilled - order.filledQuantity().get()) / order.sliceSize();
+
+        return AlgoSliceScheduler.adaptiveDelayNanos(plannedOffset, elapsed, fillShortfall);
     }
 
     /**
@@ -281,6 +306,7 @@ public final class TWAPStrategy implements OrderStrategy {
         );
 
         activeOrders.put(order.orderId(), completedOrder);
+        journal.remove(StrategyType.TWAP, order.orderId());
 
         // Calculate average execution price
         BigDecimal avgPrice = calculateAveragePrice(order.sliceExecutions());
@@ -291,6 +317,78 @@ public final class TWAPStrategy implements OrderStrategy {
                 executionDuration.getSeconds(), order.totalSlices());
     }
 
+    @Override
+    public void writeSnapshot(SnapshotSink sink) {
+        activeOrders.values().stream()
+            .filter(order -> order.state() == TWAPState.ACTIVE)
+            .forEach(order -> sink.write(order.orderId(), state -> encode(order, state)));
+    }
+
+    /**
+     * Restores an active TWAP order and re-arms its next slice on the planned grid.
+     */
+    @Override
+    public void restoreState(String orderId, StateDecoder state) {
+        String symbol = state.getString();
+        OrderSide side = state.getEnum(OrderSide.class);
+        int totalQuantity = state.getInt();
+        int sliceSize = state.getInt();
+        int totalSlices = state.getInt();
+        int executedSlices = state.getInt();
+        int filledQuantity = state.getInt();
+        int sliceIntervalSeconds = state.getInt();
+        List<SliceExecution> executions = new CopyOnWriteArrayList<>(IntStream.range(0, state.getInt())
+            .mapToObj(i -> new SliceExecution(state.getInt(), state.getInt(), state.getDecimal(), state.getInstant()))
+            .toList());
+
+        var order = new TWAPOrder(
+            orderId,
+            symbol,
+            side,
+            totalQuantity,
+            sliceSize,
+            totalSlices,
+            new AtomicInteger(executedSlices),
+            new AtomicInteger(filledQuantity),
+            sliceIntervalSeconds,
+            executions,
+            state.getEnum(TWAPState.class),
+            state.getEnum(OrderStatus.class),
+            state.getInstant()
+        );
+        activeOrders.put(orderId, order);
+
+        sliceScheduler.schedule(orderId, Duration.ofNanos(calculateNextSliceDelay(order)),
+            sliceNumber -> executeSlice(order, executedSlices + sliceNumber));
+    }
+
+    /**
+     * Journals the current state of an order after it is published in activeOrders.
+     */
+    private void journal(TWAPOrder order) {
+        journal.append(StrategyType.TWAP, order.orderId(), state -> encode(order, state));
+    }
+
+    private void encode(TWAPOrder order, StateEncoder state) {
+        state.putString(order.symbol())
+            .putEnum(order.side())
+            .putInt(order.totalQuantity())
+            .putInt(order.sliceSize())
+            .putInt(order.totalSlices())
+            .putInt(order.executedSlices().get())
+            .putInt(order.filledQuantity().get())
+            .putInt(order.sliceIntervalSeconds())
+            .putInt(order.sliceExecutions().size());
+        order.sliceExecutions().forEach(execution -> state
+            .putInt(execution.sliceNumber())
+            .putInt(execution.quantity())
+            .putDecimal(execution.price())
+            .putInstant(execution.executionTime()));
+        state.putEnum(order.state())
+            .putEnum(order.status())
+            .putInstant(order.createdAt());
+    }
+
     /**
      * Calculates number of slices based on time window and interval.
      */
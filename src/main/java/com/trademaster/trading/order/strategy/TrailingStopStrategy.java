@@ -5,6 +5,10 @@ import com.trademaster.trading.dto.OrderResponse;
 import com.trademaster.trading.model.OrderSide;
 import com.trademaster.trading.model.OrderStatus;
 import com.trademaster.trading.model.OrderType;
+import com.trademaster.trading.order.journal.JournaledStrategy;
+import com.trademaster.trading.order.journal.StateDecoder;
+import com.trademaster.trading.order.journal.StateEncoder;
+import com.trademaster.trading.order.journal.StrategyStateJournal;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -12,10 +16,13 @@ import org.springframework.stereotype.Component;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.Instant;
+import java.util.Arrays;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
 
 /**
  * Trailing Stop Order Strategy Implementation
@@ -39,8 +46,18 @@ import java.util.concurrent.ConcurrentHashMap;
  * - Trend following: Stay in position during favorable moves
  * - Exit strategy: Automatic exit when trend reverses
  *
+ * State Layout:
+ * - Trailing state is held per symbol as parallel primitive arrays indexed by slot
+ *   (extreme, stop, trail distance, direction), prices in paise
+ * - Each symbol partition has a single writer at a time; a favorable tick updates two
+ *   longs in place instead of copying the order, so it allocates nothing
+ * - Order parameters that only change on modify stay in an immutable record
+ *
+ * Persistence:
+ * - Every stop adjustment is journaled, so trailing state survives a restart
+ *
  * Performance:
- * - Update latency: <10ms for price adjustments
+ * - Price updates are evaluated on the caller's thread (sub-microsecond)
  * - Trigger latency: <50ms from price update
  *
  * @author TradeMaster Team
@@ -50,11 +67,21 @@ import java.util.concurrent.ConcurrentHashMap;
 @Component
 @RequiredArgsConstructor
 @Slf4j
-public final class TrailingStopStrategy implements OrderStrategy {
+public final class TrailingStopStrategy implements OrderStrategy, JournaledStrategy {
 
-    // Active trailing stop orders: orderId -> TrailingStopOrder
+    // Shared price update outcomes, so evaluating a tick never allocates a future
+    private static final CompletableFuture<Boolean> TRIGGERED = CompletableFuture.completedFuture(true);
+    private static final CompletableFuture<Boolean> NOT_TRIGGERED = CompletableFuture.completedFuture(false);
+
+    // Active trailing stop orders: orderId -> TrailingStopOrder (parameters and slot)
     private final Map<String, TrailingStopOrder> activeOrders = new ConcurrentHashMap<>();
 
+    // Mutable trailing state: symbol -> struct-of-arrays partition
+    private final Map<String, StopPartition> partitions = new ConcurrentHashMap<>();
+
+    // Durable state transitions for restart recovery
+    private final StrategyStateJournal journal;
+
     @Override
     public StrategyType getStrategyType() {
         return StrategyType.TRAILING_STOP;
@@ -78,29 +105,36 @@ public final class TrailingStopStrategy implements OrderStrategy {
                     request.symbol(), request.side(), request.trailAmount());
 
             try {
-                // Create trailing stop order with initial stop price
+                // Claim a slot for the trailing state; the stop is set on the first price update
                 String orderId = generateOrderId();
+                BigDecimal trailPercent = request.trailPercent() != null ? request.trailPercent() : BigDecimal.ZERO;
+                StopPartition partition = partitionFor(request.symbol());
+                int slot = partition.claim(orderId, request.side(),
+                    trailPaise(request.trailAmount()), trailPercentMicros(trailPercent),
+                    StopPartition.UNSET, StopPartition.UNSET);
+
                 var trailingStopOrder = new TrailingStopOrder(
                     orderId,
                     request.symbol(),
                     request.side(),
                     request.quantity(),
                     request.trailAmount(),
-                    request.trailPercent() != null ? request.trailPercent() : BigDecimal.ZERO,
-                    null,  // Initial stop price will be set on first price update
-                    null,  // High water mark for SELL, low water mark for BUY
+                    trailPercent,
                     OrderStatus.PENDING,
-                    Instant.now()
+                    Instant.now(),
+                    partition,
+                    slot
                 );
 
                 // Store in active orders for price monitoring
                 activeOrders.put(orderId, trailingStopOrder);
+                journal(trailingStopOrder);
 
                 log.info("Trailing stop order created: orderId={}, will trail by {}",
                         orderId, formatTrailAmount(request));
 
                 // Return pending order response
-                return createOrderResponse(trailingStopOrder);
+                return createOrderResponse(trailingStopOrder, null);
 
             } catch (Exception e) {
                 log.error("Failed to execute trailing stop order", e);
@@ -109,13 +143,14 @@ public final class TrailingStopStrategy implements OrderStrategy {
         });
     }
 
+    /**
+     * Evaluates the tick on the caller's thread - the in-place update is cheaper than a
+     * hand-off to the common pool, and ticks for an order are applied in arrival order.
+     */
     @Override
     public CompletableFuture<Boolean> onPriceUpdate(String orderId, BigDecimal currentPrice) {
-        return CompletableFuture.supplyAsync(() ->
-            Optional.ofNullable(activeOrders.get(orderId))
-                .map(order -> processTrailingStop(orderId, order, currentPrice))
-                .orElse(false)
-        );
+        TrailingStopOrder order = activeOrders.get(orderId);
+        return order != null && processTrailingStop(order, currentPrice) ? TRIGGERED : NOT_TRIGGERED;
     }
 
     @Override
@@ -125,19 +160,15 @@ public final class TrailingStopStrategy implements OrderStrategy {
 
             return Optional.ofNullable(activeOrders.remove(orderId))
                 .map(order -> {
-                    var cancelledOrder = new TrailingStopOrder(
-                        order.orderId(),
-                        order.symbol(),
-                        order.side(),
-                        order.quantity(),
-                        order.trailAmount(),
-                        order.trailPercent(),
-                        order.currentStopPrice(),
-                        order.extremePrice(),
-                        OrderStatus.CANCELLED,
-                        order.createdAt()
-                    );
-                    return createOrderResponse(cancelledOrder);
+                    StopPartition partition = order.partition();
+                    partition.lock.lock();
+                    try {
+                        long stopPaise = partition.release(order.slot(), order.orderId());
+                        journal.remove(StrategyType.TRAILING_STOP, orderId);
+                        return createOrderResponse(order.withStatus(OrderStatus.CANCELLED), toPrice(stopPaise));
+                    } finally {
+                        partition.lock.unlock();
+                    }
                 })
                 .orElseThrow(() -> new IllegalArgumentException("Order not found: " + orderId));
         });
@@ -150,6 +181,7 @@ public final class TrailingStopStrategy implements OrderStrategy {
                     orderId, newParameters.trailAmount());
 
             return Optional.ofNullable(activeOrders.get(orderId))
+                .filter(existingOrder -> existingOrder.status() == OrderStatus.PENDING)
                 .map(existingOrder -> {
                     // Create modified order with new trail parameters
                     var modifiedOrder = new TrailingStopOrder(
@@ -159,19 +191,28 @@ public final class TrailingStopStrategy implements OrderStrategy {
                         newParameters.quantity() != null ? newParameters.quantity() : existingOrder.quantity(),
                         newParameters.trailAmount() != null ? newParameters.trailAmount() : existingOrder.trailAmount(),
                         newParameters.trailPercent() != null ? newParameters.trailPercent() : existingOrder.trailPercent(),
-                        existingOrder.currentStopPrice(),
-                        existingOrder.extremePrice(),
                         OrderStatus.PENDING,
-                        existingOrder.createdAt()
+                        existingOrder.createdAt(),
+                        existingOrder.partition(),
+                        existingOrder.slot()
                     );
 
-                    // Update in active orders
-                    activeOrders.put(orderId, modifiedOrder);
-
-                    log.info("Trailing stop order modified: orderId={}, trailAmount={}",
-                            orderId, modifiedOrder.trailAmount());
-
-                    return createOrderResponse(modifiedOrder);
+                    // New trail distance applies from the next favorable tick
+                    StopPartition partition = modifiedOrder.partition();
+                    partition.lock.lock();
+                    try {
+                        activeOrders.put(orderId, modifiedOrder);
+                        partition.retrail(modifiedOrder.slot(), modifiedOrder.orderId(),
+                            trailPaise(modifiedOrder.trailAmount()), trailPercentMicros(modifiedOrder.trailPercent()));
+                        journal(modifiedOrder);
+
+                        log.info("Trailing stop order modified: orderId={}, trailAmount={}",
+                                orderId, modifiedOrder.trailAmount());
+
+                        return createOrderResponse(modifiedOrder, toPrice(partition.stopPaise(modifiedOrder.slot())));
+                    } finally {
+                        partition.lock.unlock();
+                    }
                 })
                 .orElseThrow(() -> new IllegalArgumentException("Order not found: " + orderId));
         });
@@ -179,149 +220,148 @@ public final class TrailingStopStrategy implements OrderStrategy {
 
     /**
      * Processes trailing stop logic for price update.
-     * Updates stop price if market moves favorably, triggers if stop hit.
+     * Moves the stop in place if market moves favorably, triggers if stop hit.
      */
-    private boolean processTrailingStop(String orderId, TrailingStopOrder order, BigDecimal currentPrice) {
-        // Initialize extreme price on first update
-        if (order.extremePrice() == null) {
-            var initializedOrder = initializeOrder(order, currentPrice);
-            activeOrders.put(orderId, initializedOrder);
-            return false;
-        }
-
-        // Check if current price is more extreme (favorable) than recorded
-        boolean isMoreExtreme = isMoreExtreme(order.side(), currentPrice, order.extremePrice());
-
-        if (isMoreExtreme) {
-            // Update extreme price and trailing stop price
-            var updatedOrder = updateTrailingStop(order, currentPrice);
-            activeOrders.put(orderId, updatedOrder);
-
-            log.debug("Trailing stop updated: orderId={}, extremePrice={} -> {}, stopPrice={}",
-                    orderId, order.extremePrice(), currentPrice, updatedOrder.currentStopPrice());
-
+    private boolean processTrailingStop(TrailingStopOrder order, BigDecimal currentPrice) {
+        if (order.status() != OrderStatus.PENDING) {
             return false;
         }
 
-        // Check if stop price has been hit
-        boolean stopHit = isStopHit(order.side(), currentPrice, order.currentStopPrice());
-
-        if (stopHit) {
-            triggerTrailingStop(orderId, order, currentPrice);
-            return true;
+        long pricePaise = toPaise(currentPrice);
+        StopPartition partition = order.partition();
+        partition.lock.lock();
+        try {
+            return switch (partition.apply(order.slot(), order.orderId(), pricePaise)) {
+                case INITIALIZED -> {
+                    log.info("Initializing trailing stop: orderId={}, currentPrice={}, stopPrice={}",
+                            order.orderId(), currentPrice, toPrice(partition.stopPaise(order.slot())));
+                    journal(order);
+                    yield false;
+                }
+                case EXTENDED -> {
+                    journal(order);
+                    if (log.isDebugEnabled()) {
+                        log.debug("Trailing stop updated: orderId={}, extremePrice={}, stopPrice={}",
+                                order.orderId(), currentPrice, toPrice(partition.stopPaise(order.slot())));
+                    }
+                    yield false;
+                }
+                case STOP_HIT -> {
+                    triggerTrailingStop(order, currentPrice);
+                    yield true;
+                }
+                case UNCHANGED, STALE -> false;
+            };
+        } finally {
+            partition.lock.unlock();
         }
-
-        return false;
     }
 
     /**
-     * Initializes order with first price update.
+     * Triggers trailing stop by converting to market order. Called with the partition lock held.
      */
-    private TrailingStopOrder initializeOrder(TrailingStopOrder order, BigDecimal currentPrice) {
-        BigDecimal initialStopPrice = calculateStopPrice(order, currentPrice);
+    private void triggerTrailingStop(TrailingStopOrder order, BigDecimal triggerPrice) {
+        StopPartition partition = order.partition();
+        log.info("TRAILING STOP TRIGGERED: orderId={}, triggerPrice={}, stopPrice={}, extremePrice={}",
+                order.orderId(), triggerPrice, toPrice(partition.stopPaise(order.slot())),
+                toPrice(partition.extremePaise(order.slot())));
 
-        log.info("Initializing trailing stop: orderId={}, currentPrice={}, stopPrice={}",
-                order.orderId(), currentPrice, initialStopPrice);
+        // Update order status to triggered and hand the slot back
+        partition.release(order.slot(), order.orderId());
+        activeOrders.put(order.orderId(), order.withStatus(OrderStatus.FILLED));  // Would be PENDING in real implementation
+        journal.remove(StrategyType.TRAILING_STOP, order.orderId());
 
-        return new TrailingStopOrder(
-            order.orderId(),
-            order.symbol(),
-            order.side(),
-            order.quantity(),
-            order.trailAmount(),
-            order.trailPercent(),
-            initialStopPrice,
-            currentPrice,
-            order.status(),
-            order.createdAt()
-        );
+        // In production: Submit market order to broker
+        // executeMarketOrder(order.symbol(), order.side(), order.quantity());
     }
 
-    /**
-     * Updates trailing stop price based on new extreme price.
-     */
-    private TrailingStopOrder updateTrailingStop(TrailingStopOrder order, BigDecimal newExtremePrice) {
-        BigDecimal newStopPrice = calculateStopPrice(order, newExtremePrice);
+    @Override
+    public void writeSnapshot(SnapshotSink sink) {
+        activeOrders.values().stream()
+            .filter(order -> order.status() == OrderStatus.PENDING)
+            .forEach(order -> order.partition().captureState(order)
+                .ifPresent(state -> sink.write(order.orderId(), state)));
+    }
 
-        return new TrailingStopOrder(
-            order.orderId(),
-            order.symbol(),
-            order.side(),
-            order.quantity(),
-            order.trailAmount(),
-            order.trailPercent(),
-            newStopPrice,
-            newExtremePrice,
-            order.status(),
-            order.createdAt()
-        );
+    @Override
+    public void restoreState(String orderId, StateDecoder state) {
+        String symbol = state.getString();
+        OrderSide side = state.getEnum(OrderSide.class);
+        int quantity = state.getInt();
+        long trailPaise = state.getLong();
+        long trailPercentMicros = state.getLong();
+        long stopPaise = state.getLong();
+        long extremePaise = state.getLong();
+        OrderStatus status = state.getEnum(OrderStatus.class);
+        Instant createdAt = state.getInstant();
+
+        StopPartition partition = partitionFor(symbol);
+        int slot = partition.claim(orderId, side, trailPaise, trailPercentMicros, extremePaise, stopPaise);
+        activeOrders.put(orderId, new TrailingStopOrder(
+            orderId,
+            symbol,
+            side,
+            quantity,
+            BigDecimal.valueOf(trailPaise, 2),
+            BigDecimal.valueOf(trailPercentMicros, 6).stripTrailingZeros(),
+            status,
+            createdAt,
+            partition,
+            slot
+        ));
     }
 
     /**
-     * Calculates stop price based on extreme price and trail parameters.
-     * Uses pattern matching for trail type selection.
+     * Journals the current state of an order after it is published in its partition.
      */
-    private BigDecimal calculateStopPrice(TrailingStopOrder order, BigDecimal extremePrice) {
-        // Use percentage trail if specified, otherwise use fixed amount
-        boolean usePercent = order.trailPercent().compareTo(BigDecimal.ZERO) > 0;
-
-        BigDecimal trailDistance = usePercent
-            ? extremePrice.multiply(order.trailPercent()).divide(new BigDecimal("100"), 2, RoundingMode.HALF_UP)
-            : order.trailAmount();
-
-        return switch (order.side()) {
-            case SELL -> extremePrice.subtract(trailDistance).setScale(2, RoundingMode.HALF_UP);
-            case BUY -> extremePrice.add(trailDistance).setScale(2, RoundingMode.HALF_UP);
-        };
+    private void journal(TrailingStopOrder order) {
+        StopPartition partition = order.partition();
+        partition.lock.lock();
+        try {
+            journal.append(StrategyType.TRAILING_STOP, order.orderId(), partition.stateOf(order));
+        } finally {
+            partition.lock.unlock();
+        }
     }
 
-    /**
-     * Checks if current price is more extreme (favorable) than recorded extreme.
-     * Uses pattern matching for side-specific logic.
-     */
-    private boolean isMoreExtreme(OrderSide side, BigDecimal currentPrice, BigDecimal extremePrice) {
-        return switch (side) {
-            case SELL -> currentPrice.compareTo(extremePrice) > 0;  // Higher is better for SELL
-            case BUY -> currentPrice.compareTo(extremePrice) < 0;   // Lower is better for BUY
-        };
+    private static void encode(TrailingStopOrder order, long trailPaise, long trailPercentMicros,
+                               long stopPaise, long extremePaise, StateEncoder state) {
+        state.putString(order.symbol())
+            .putEnum(order.side())
+            .putInt(order.quantity())
+            .putLong(trailPaise)
+            .putLong(trailPercentMicros)
+            .putLong(stopPaise)
+            .putLong(extremePaise)
+            .putEnum(order.status())
+            .putInstant(order.createdAt());
     }
 
-    /**
-     * Checks if stop price has been hit.
-     * Uses pattern matching for side-specific logic.
-     */
-    private boolean isStopHit(OrderSide side, BigDecimal currentPrice, BigDecimal stopPrice) {
-        return switch (side) {
-            case SELL -> currentPrice.compareTo(stopPrice) <= 0;  // Price fell to/below stop
-            case BUY -> currentPrice.compareTo(stopPrice) >= 0;   // Price rose to/above stop
-        };
+    private StopPartition partitionFor(String symbol) {
+        return partitions.computeIfAbsent(symbol, s -> new StopPartition());
     }
 
     /**
-     * Triggers trailing stop by converting to market order.
+     * Converts a market price to paise. Compact decimals convert without allocating.
      */
-    private void triggerTrailingStop(String orderId, TrailingStopOrder order, BigDecimal triggerPrice) {
-        log.info("TRAILING STOP TRIGGERED: orderId={}, triggerPrice={}, stopPrice={}, extremePrice={}",
-                orderId, triggerPrice, order.currentStopPrice(), order.extremePrice());
+    private static long toPaise(BigDecimal price) {
+        return Math.round(price.doubleValue() * 100);
+    }
 
-        // Update order status to triggered
-        var triggeredOrder = new TrailingStopOrder(
-            order.orderId(),
-            order.symbol(),
-            order.side(),
-            order.quantity(),
-            order.trailAmount(),
-            order.trailPercent(),
-            order.currentStopPrice(),
-            order.extremePrice(),
-            OrderStatus.FILLED,  // Would be PENDING in real implementation
-            order.createdAt()
-        );
+    private static long trailPaise(BigDecimal trailAmount) {
+        return Optional.ofNullable(trailAmount)
+            .map(amount -> amount.movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValue())
+            .orElse(0L);
+    }
 
-        activeOrders.put(orderId, triggeredOrder);
+    private static long trailPercentMicros(BigDecimal trailPercent) {
+        return Optional.ofNullable(trailPercent)
+            .map(percent -> percent.movePointRight(6).setScale(0, RoundingMode.HALF_UP).longValue())
+            .orElse(0L);
+    }
 
-        // In production: Submit market order to broker
-        // executeMarketOrder(order.symbol(), order.side(), order.quantity());
+    private static BigDecimal toPrice(long paise) {
+        return paise == StopPartition.UNSET ? null : BigDecimal.valueOf(paise, 2);
     }
 
     /**
@@ -344,7 +384,7 @@ public final class TrailingStopStrategy implements OrderStrategy {
     /**
      * Creates OrderResponse from TrailingStopOrder.
      */
-    private OrderResponse createOrderResponse(TrailingStopOrder order) {
+    private OrderResponse createOrderResponse(TrailingStopOrder order, BigDecimal currentStopPrice) {
         return new OrderResponse(
             null,
             order.orderId(),
@@ -355,7 +395,7 @@ public final class TrailingStopStrategy implements OrderStrategy {
             order.side(),
             order.quantity(),
             null,
-            order.currentStopPrice(),
+            currentStopPrice,
             null,
             null,
             order.status(),
@@ -383,7 +423,8 @@ public final class TrailingStopStrategy implements OrderStrategy {
     }
 
     /**
-     * Internal record for tracking trailing stop orders.
+     * Internal record for trailing stop order parameters. The moving stop lives in the
+     * partition slot, so this record is only replaced on create, modify and terminal states.
      */
     private record TrailingStopOrder(
         String orderId,
@@ -392,9 +433,192 @@ public final class TrailingStopStrategy implements OrderStrategy {
         Integer quantity,
         BigDecimal trailAmount,
         BigDecimal trailPercent,
-        BigDecimal currentStopPrice,
-        BigDecimal extremePrice,  // High water mark for SELL, low for BUY
         OrderStatus status,
-        Instant createdAt
-    ) {}
+        Instant createdAt,
+        StopPartition partition,
+        int slot
+    ) {
+        TrailingStopOrder withStatus(OrderStatus newStatus) {
+            return new TrailingStopOrder(orderId, symbol, side, quantity, trailAmount, trailPercent,
+                newStatus, createdAt, partition, slot);
+        }
+    }
+
+    /**
+     * Outcome of applying one tick to a slot.
+     */
+    private enum TickOutcome {
+        STALE,        // Slot no longer belongs to the order
+        UNCHANGED,
+        INITIALIZED,  // First price seen - extreme and stop set
+        EXTENDED,     // New extreme - stop moved in the favorable direction
+        STOP_HIT
+    }
+
+    /**
+     * Trailing state of every order on one symbol as parallel primitive arrays indexed by
+     * slot. All access happens under the partition lock, so each symbol has a single writer
+     * at a time. Slots are recycled through a free list; the owning order id is checked on
+     * every access so a tick for a cancelled order never touches a recycled slot.
+     */
+    private static final class StopPartition {
+
+        static final long UNSET = Long.MIN_VALUE;
+        private static final int INITIAL_CAPACITY = 16;
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final StateWriter writer = new StateWriter();
+
+        private String[] orderIds = new String[INITIAL_CAPACITY];
+        private long[] extremePaise = new long[INITIAL_CAPACITY];      // High water mark for SELL, low for BUY
+        private long[] stopPaise = new long[INITIAL_CAPACITY];
+        private long[] trailPaise = new long[INITIAL_CAPACITY];
+        private long[] trailPercentMicros = new long[INITIAL_CAPACITY];  // Percentage trail x 10^6, 0 for fixed
+        private int[] direction = new int[INITIAL_CAPACITY];           // +1 trails below highs, -1 above lows
+        private int[] freeSlots = new int[INITIAL_CAPACITY];
+        private int freeCount;
+        private int slotCount;
+
+        int claim(String orderId, OrderSide side, long trail, long trailPercent, long extreme, long stop) {
+            lock.lock();
+            try {
+                int slot = freeCount > 0 ? freeSlots[--freeCount] : nextSlot();
+                orderIds[slot] = orderId;
+                direction[slot] = switch (side) {
+                    case SELL -> 1;
+                    case BUY -> -1;
+                };
+                trailPaise[slot] = trail;
+                trailPercentMicros[slot] = trailPercent;
+                extremePaise[slot] = extreme;
+                stopPaise[slot] = stop;
+                return slot;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Frees the slot if the order still owns it.
+         *
+         * @return the last stop price in paise, or UNSET if the slot was already released
+         */
+        long release(int slot, String orderId) {
+            lock.lock();
+            try {
+                if (orderIds[slot] != orderId) {
+                    return UNSET;
+                }
+                orderIds[slot] = null;
+                freeSlots[freeCount++] = slot;
+                return stopPaise[slot];
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Applies one tick in place. Caller holds the lock.
+         */
+        TickOutcome apply(int slot, String orderId, long price) {
+            // Identity check: the slot stores the exact id instance of its owning order
+            if (orderIds[slot] != orderId) {
+                return TickOutcome.STALE;
+            }
+
+            long extreme = extremePaise[slot];
+            int sign = direction[slot];
+            if (extreme == UNSET || Long.compare(price, extreme) * sign > 0) {
+                extremePaise[slot] = price;
+                stopPaise[slot] = stopFor(slot, price);
+                return extreme == UNSET ? TickOutcome.INITIALIZED : TickOutcome.EXTENDED;
+            }
+
+            return Long.compare(price, stopPaise[slot]) * sign <= 0 ? TickOutcome.STOP_HIT : TickOutcome.UNCHANGED;
+        }
+
+        void retrail(int slot, String orderId, long trail, long trailPercent) {
+            lock.lock();
+            try {
+                if (orderIds[slot] == orderId) {
+                    trailPaise[slot] = trail;
+                    trailPercentMicros[slot] = trailPercent;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        long stopPaise(int slot) {
+            return stopPaise[slot];
+        }
+
+        long extremePaise(int slot) {
+            return extremePaise[slot];
+        }
+
+        /**
+         * Reusable journal payload for the current state of a slot. Caller holds the lock
+         * until the journal has consumed it.
+         */
+        Consumer<StateEncoder> stateOf(TrailingStopOrder order) {
+            writer.order = order;
+            return writer;
+        }
+
+        /**
+         * Copies the state of a slot for a snapshot written outside the lock.
+         */
+        Optional<Consumer<StateEncoder>> captureState(TrailingStopOrder order) {
+            lock.lock();
+            try {
+                int slot = order.slot();
+                long trail = trailPaise[slot];
+                long trailPercent = trailPercentMicros[slot];
+                long stop = stopPaise[slot];
+                long extreme = extremePaise[slot];
+                return Optional.of(orderIds[slot] == order.orderId())
+                    .filter(owned -> owned)
+                    .map(owned -> state -> encode(order, trail, trailPercent, stop, extreme, state));
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Stop price for a new extreme: percentage trail if set, otherwise the fixed amount.
+         */
+        private long stopFor(int slot, long extreme) {
+            long percent = trailPercentMicros[slot];
+            long distance = percent > 0
+                ? (extreme * percent + 50_000_000L) / 100_000_000L  // extreme * pct / 100, half-up to the paisa
+                : trailPaise[slot];
+            return extreme - direction[slot] * distance;
+        }
+
+        private int nextSlot() {
+            if (slotCount == orderIds.length) {
+                int capacity = orderIds.length * 2;
+                orderIds = Arrays.copyOf(orderIds, capacity);
+                extremePaise = Arrays.copyOf(extremePaise, capacity);
+                stopPaise = Arrays.copyOf(stopPaise, capacity);
+                trailPaise = Arrays.copyOf(trailPaise, capacity);
+                trailPercentMicros = Arrays.copyOf(trailPercentMicros, capacity);
+                direction = Arrays.copyOf(direction, capacity);
+                freeSlots = Arrays.copyOf(freeSlots, capacity);
+            }
+            return slotCount++;
+        }
+
+        private final class StateWriter implements Consumer<StateEncoder> {
+
+            private TrailingStopOrder order;
+
+            @Override
+            public void accept(StateEncoder state) {
+                int slot = order.slot();
+                encode(order, trailPaise[slot], trailPercentMicros[slot], stopPaise[slot], extremePaise[slot], state);
+            }
+        }
+    }
 }
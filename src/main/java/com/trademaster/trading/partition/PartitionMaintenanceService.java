@@ -0,0 +1,276 @@
+package com.trademaster.trading.partition;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Partition Maintenance Service
+ *
+ * Keeps the range-partitioned trading tables (orders, order_fills, trades,
+ * trading_audit_log) ready for incoming rows and moves old partitions out of the hot
+ * database. Layout and retention per table come from trading_partition_policy (V8
+ * migration); this service only drives the SQL functions defined there.
+ *
+ * Each run, at startup and on maintenance-cron:
+ * - Creates the current partition and the policy's premade future ones
+ * - For each partition past retention: exports it as gzipped CSV to
+ *   archive-directory/&lt;table&gt;/&lt;partition&gt;.csv.gz, then detaches and drops it, all in
+ *   one transaction so a failed export leaves the partition in place
+ * - Keeps partitions attached while a row matches the policy's archive blocker, so orders
+ *   that are still open are never archived
+ *
+ * Runs are serialized across instances with a PostgreSQL advisory lock. Detaching takes
+ * a brief exclusive lock on the parent table and gives up after lock-timeout-millis rather
+ * than stall order flow; the partition is retried on the next run.
+ *
+ * Metrics:
+ * - trading.partitions.created: partitions created, tagged by table
+ * - trading.partitions.archived: partitions exported and detached, tagged by table
+ * - trading.partitions.archive.blocked: expired partitions kept for open rows, tagged by table
+ * - trading.partitions.archive.duration: time to export and detach one partition
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PartitionMaintenanceService {
+
+    private static final long MAINTENANCE_LOCK_KEY = 0x54524144_50415254L;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MeterRegistry meterRegistry;
+
+    // Rule #16: Dynamic Configuration
+    @Value("${trading.partitions.enabled:true}")
+    private boolean enabled;
+
+    @Value("${trading.partitions.archive-enabled:true}")
+    private boolean archiveEnabled;
+
+    @Value("${trading.partitions.archive-directory:data/partition-archive}")
+    private String archiveDirectory;
+
+    @Value("${trading.partitions.drop-after-archive:true}")
+    private boolean dropAfterArchive;
+
+    @Value("${trading.partitions.lock-timeout-millis:2000}")
+    private long lockTimeoutMillis;
+
+    /**
+     * Partitioned table as registered in trading_partition_policy
+     */
+    private record PartitionPolicy(String table, String granularity, String archiveBlocker) {}
+
+    /**
+     * Creates upcoming partitions and archives expired ones
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${trading.partitions.maintenance-cron:0 15 0 * * *}")
+    public void maintain() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+                if (!tryLock(connection)) {
+                    log.info("Partition maintenance skipped, another instance holds the lock");
+                    return null;
+                }
+                try {
+                    for (PartitionPolicy policy : policies(connection)) {
+                        ensurePartitions(connection, policy);
+                        if (archiveEnabled) {
+                            archiveExpired(connection, policy);
+                        }
+                    }
+                } finally {
+                    unlock(connection);
+                }
+                return null;
+            });
+        } catch (RuntimeException e) {
+            log.error("Partition maintenance failed", e);
+        }
+    }
+
+    private void ensurePartitions(Connection connection, PartitionPolicy policy) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT trading_ensure_partitions(?)")) {
+            statement.setString(1, policy.table());
+            try (ResultSet result = statement.executeQuery()) {
+                result.next();
+                int created = result.getInt(1);
+                if (created > 0) {
+                    counter("trading.partitions.created", "Partitions created ahead of time", policy)
+                        .increment(created);
+                    log.info("Created {} {} partitions of {}", created, policy.granularity(), policy.table());
+                }
+            }
+        }
+    }
+
+    private void archiveExpired(Connection connection, PartitionPolicy policy) throws SQLException {
+        for (String partition : expiredPartitions(connection, policy)) {
+            try {
+                archive(connection, policy, partition);
+            } catch (SQLException | IOException e) {
+                log.warn("Archiving partition {} failed, retrying next run: {}", partition, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Exports, detaches and drops one partition in a single transaction
+     */
+    private void archive(Connection connection, PartitionPolicy policy, String partition)
+            throws SQLException, IOException {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SET LOCAL lock_timeout = " + lockTimeoutMillis);
+            // Freeze the partition's contents for the export
+            statement.execute("LOCK TABLE " + quote(partition) + " IN SHARE MODE");
+
+            if (hasBlockingRows(statement, policy, partition)) {
+                connection.rollback();
+                counter("trading.partitions.archive.blocked", "Expired partitions kept for open rows", policy)
+                    .increment();
+                log.info("Partition {} is past retention but still holds open rows, keeping it", partition);
+                return;
+            }
+
+            long rows = export(connection, policy, partition);
+            statement.execute("ALTER TABLE " + quote(policy.table()) + " DETACH PARTITION " + quote(partition));
+            if (dropAfterArchive) {
+                statement.execute("DROP TABLE " + quote(partition));
+            }
+            connection.commit();
+
+            counter("trading.partitions.archived", "Partitions exported and detached", policy).increment();
+            sample.stop(Timer.builder("trading.partitions.archive.duration")
+                .description("Time to export and detach one partition")
+                .register(meterRegistry));
+            log.info("Archived partition {} ({} rows){}", partition, rows, dropAfterArchive ? " and dropped it" : "");
+        } catch (SQLException | IOException | RuntimeException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+
+    private boolean hasBlockingRows(Statement statement, PartitionPolicy policy, String partition)
+            throws SQLException {
+        if (policy.archiveBlocker() == null) {
+            return false;
+        }
+        try (ResultSet result = statement.executeQuery(
+                "SELECT EXISTS (SELECT 1 FROM " + quote(partition) + " WHERE " + policy.archiveBlocker() + ")")) {
+            result.next();
+            return result.getBoolean(1);
+        }
+    }
+
+    /**
+     * Streams the partition through COPY into a gzipped CSV, published only once it is
+     * fully on disk
+     */
+    private long export(Connection connection, PartitionPolicy policy, String partition)
+            throws SQLException, IOException {
+        Path directory = Files.createDirectories(Path.of(archiveDirectory, policy.table()));
+        Path target = directory.resolve(partition + ".csv.gz");
+        Path part = directory.resolve(partition + ".csv.gz.part");
+
+        long rows;
+        try (FileOutputStream file = new FileOutputStream(part.toFile());
+             GZIPOutputStream gzip = new GZIPOutputStream(file, 64 * 1024)) {
+            rows = connection.unwrap(PGConnection.class).getCopyAPI()
+                .copyOut("COPY " + quote(partition) + " TO STDOUT WITH (FORMAT csv, HEADER)", gzip);
+            gzip.finish();
+            file.getFD().sync();
+        }
+        Files.move(part, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        return rows;
+    }
+
+    private List<PartitionPolicy> policies(Connection connection) throws SQLException {
+        List<PartitionPolicy> policies = new ArrayList<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery(
+                 "SELECT parent_table, granularity, archive_blocker FROM trading_partition_policy ORDER BY parent_table")) {
+            while (result.next()) {
+                policies.add(new PartitionPolicy(result.getString(1), result.getString(2), result.getString(3)));
+            }
+        }
+        return policies;
+    }
+
+    private List<String> expiredPartitions(Connection connection, PartitionPolicy policy) throws SQLException {
+        List<String> partitions = new ArrayList<>();
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT partition_name FROM trading_expired_partitions(?)")) {
+            statement.setString(1, policy.table());
+            try (ResultSet result = statement.executeQuery()) {
+                while (result.next()) {
+                    partitions.add(result.getString(1));
+                }
+            }
+        }
+        return partitions;
+    }
+
+    private boolean tryLock(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT pg_try_advisory_lock(?)")) {
+            statement.setLong(1, MAINTENANCE_LOCK_KEY);
+            try (ResultSet result = statement.executeQuery()) {
+                result.next();
+                return result.getBoolean(1);
+            }
+        }
+    }
+
+    private void unlock(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT pg_advisory_unlock(?)")) {
+            statement.setLong(1, MAINTENANCE_LOCK_KEY);
+            statement.execute();
+        }
+    }
+
+    private Counter counter(String name, String description, PartitionPolicy policy) {
+        return Counter.builder(name)
+            .description(description)
+            .tag("table", policy.table())
+            .register(meterRegistry);
+    }
+
+    private static String quote(String identifier) {
+        return '"' + identifier.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,20 @@
+package com.trademaster.trading.pnl;
+
+import java.math.BigDecimal;
+
+/**
+ * P&L Snapshot
+ *
+ * Totals of one user across all positions, in rupees.
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+public record PnLSnapshot(
+    long userId,
+    BigDecimal marketValue,
+    BigDecimal unrealizedPnL,
+    BigDecimal realizedPnL,
+    BigDecimal intradayPnL,
+    BigDecimal totalPnL
+) {}
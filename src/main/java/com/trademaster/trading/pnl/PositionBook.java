@@ -0,0 +1,375 @@
+package com.trademaster.trading.pnl;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Position Book
+ *
+ * Every user's position in one symbol as parallel primitive arrays indexed by slot, in
+ * paise. A price move is applied to all holders in one sweep over the arrays; each slot
+ * whose values change pushes its deltas into its holder's UserPnL.
+ *
+ * Per slot, with value = quantity * price (signed, negative when short):
+ * - cost: signed cost of the open quantity at average cost
+ * - unrealized = value - cost
+ * - dayBasis: value at the day's reference price plus the signed cost of today's fills,
+ *   so intraday = value - dayBasis covers both the move of carried quantity and the
+ *   realized and unrealized result of today's trades
+ *
+ * Fills applied here since the last write are also kept as deltas of quantity, signed
+ * cost and realized P&L, so the write adds them to the stored position instead of
+ * replacing it with this instance's view, which misses fills applied on other replicas.
+ *
+ * All state is guarded by the book's lock, so each symbol has a single writer at a time.
+ * Prices are conflated: offer() keeps only the latest one and reports whether a sweep
+ * needs scheduling.
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+final class PositionBook {
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    private final String symbol;
+    private final Consumer<UserPnL> onChanged;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final AtomicBoolean queued = new AtomicBoolean();
+    private volatile long offeredPrice;
+    private volatile long offeredAt;
+
+    private final Map<SlotKey, Integer> slots = new HashMap<>();
+    private UserPnL[] holders = new UserPnL[INITIAL_CAPACITY];
+    private String[] exchanges = new String[INITIAL_CAPACITY];
+    private long[] quantity = new long[INITIAL_CAPACITY];
+    private long[] cost = new long[INITIAL_CAPACITY];
+    private long[] dayBasis = new long[INITIAL_CAPACITY];
+    private long[] realized = new long[INITIAL_CAPACITY];
+    private long[] marketValue = new long[INITIAL_CAPACITY];
+    private long[] unrealized = new long[INITIAL_CAPACITY];
+    private long[] intraday = new long[INITIAL_CAPACITY];
+    private boolean[] unpersisted = new boolean[INITIAL_CAPACITY];
+    private boolean[] filled = new boolean[INITIAL_CAPACITY];
+    private long[] filledQuantity = new long[INITIAL_CAPACITY];
+    private long[] filledCost = new long[INITIAL_CAPACITY];
+    private long[] filledRealized = new long[INITIAL_CAPACITY];
+    private boolean[] unpushed = new boolean[INITIAL_CAPACITY];
+    private int size;
+    private long price;
+    private long priceTime;
+
+    private record SlotKey(long userId, String exchange) {}
+
+    /**
+     * Position as written back to the positions table, in paise; fill is null unless fills
+     * were applied here since the last write
+     */
+    record Row(long userId, String symbol, String exchange, long quantity, long cost, long price, long priceTime,
+               long marketValue, long unrealized, long realized, long intraday, Fill fill) {}
+
+    /**
+     * Change of a position by the fills applied here since the last write, in paise
+     */
+    record Fill(long quantity, long cost, long realized) {}
+
+    PositionBook(String symbol, Consumer<UserPnL> onChanged) {
+        this.symbol = symbol;
+        this.onChanged = onChanged;
+    }
+
+    String symbol() {
+        return symbol;
+    }
+
+    int size() {
+        lock.lock();
+        try {
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Records the latest price; true if the caller must schedule sweep()
+     */
+    boolean offer(long pricePaise, long epochMillis) {
+        offeredPrice = pricePaise;
+        offeredAt = epochMillis;
+        return !queued.get() && queued.compareAndSet(false, true);
+    }
+
+    /**
+     * Marks every holder to the latest offered price
+     */
+    void sweep() {
+        queued.set(false);
+        lock.lock();
+        try {
+            long latest = offeredPrice;
+            priceTime = offeredAt;
+            if (latest != price) {
+                price = latest;
+                for (int slot = 0; slot < size; slot++) {
+                    mark(slot, 0);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Seeds a position loaded from the positions table
+     */
+    void load(UserPnL holder, String exchange, long signedQuantity, long signedCost, long realizedPaise,
+              long dayBasisPaise, long pricePaise, long pricedAt) {
+        lock.lock();
+        try {
+            if (price == 0 && pricePaise > 0) {
+                price = pricePaise;
+                priceTime = pricedAt;
+            }
+            int slot = slot(holder, exchange);
+            quantity[slot] = signedQuantity;
+            cost[slot] = signedCost;
+            dayBasis[slot] = dayBasisPaise;
+            realized[slot] += realizedPaise;
+            mark(slot, realizedPaise);
+            unpersisted[slot] = false;
+            takeFill(slot);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Applies a fill at average cost: quantity in the position's direction adds to its
+     * cost; the opposite direction closes at the average cost first, realizing the
+     * difference, and any remainder opens a position the other way at the fill price
+     *
+     * @param signedQuantity positive for buys, negative for sells
+     */
+    void fill(UserPnL holder, String exchange, long signedQuantity, long pricePaise, long epochMillis) {
+        lock.lock();
+        try {
+            if (price == 0) {
+                price = pricePaise;
+                priceTime = epochMillis;
+            }
+            int slot = slot(holder, exchange);
+            long open = quantity[slot];
+            long costBefore = cost[slot];
+            long realizedDelta = 0;
+            long remaining = signedQuantity;
+            if (open != 0 && Long.signum(open) != Long.signum(signedQuantity)) {
+                long closing = Math.min(Math.abs(open), Math.abs(signedQuantity));
+                long closedCost = Math.round((double) cost[slot] * closing / Math.abs(open));
+                realizedDelta = Long.signum(open) * closing * pricePaise - closedCost;
+                cost[slot] -= closedCost;
+                quantity[slot] -= Long.signum(open) * closing;
+                remaining += Long.signum(open) * closing;
+            }
+            quantity[slot] += remaining;
+            cost[slot] += remaining * pricePaise;
+            if (quantity[slot] == 0) {
+                cost[slot] = 0;
+            }
+            dayBasis[slot] += signedQuantity * pricePaise;
+            realized[slot] += realizedDelta;
+            mark(slot, realizedDelta);
+            unpersisted[slot] = true;
+            filled[slot] = true;
+            filledQuantity[slot] += signedQuantity;
+            filledCost[slot] += cost[slot] - costBefore;
+            filledRealized[slot] += realizedDelta;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Makes the current price the day's reference for every holder
+     */
+    void rollDay() {
+        lock.lock();
+        try {
+            for (int slot = 0; slot < size; slot++) {
+                dayBasis[slot] = quantity[slot] * price;
+                mark(slot, 0);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * The user's positions in this symbol
+     */
+    void positions(long userId, List<PositionPnL> out) {
+        lock.lock();
+        try {
+            for (int slot = 0; slot < size; slot++) {
+                if (holders[slot].userId() == userId) {
+                    out.add(position(slot));
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * The user's positions to push: all of them, or only those moved since the last push.
+     * Either way they count as pushed afterwards.
+     */
+    void takeUnpushed(long userId, boolean changedOnly, List<PositionPnL> out) {
+        lock.lock();
+        try {
+            for (int slot = 0; slot < size; slot++) {
+                if (holders[slot].userId() == userId && (unpushed[slot] || !changedOnly)) {
+                    unpushed[slot] = false;
+                    out.add(position(slot));
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Positions changed since the last call, clearing their flags
+     */
+    List<Row> takeUnpersisted() {
+        lock.lock();
+        try {
+            List<Row> rows = new ArrayList<>();
+            for (int slot = 0; slot < size; slot++) {
+                if (unpersisted[slot]) {
+                    unpersisted[slot] = false;
+                    rows.add(new Row(holders[slot].userId(), symbol, exchanges[slot], quantity[slot], cost[slot],
+                        price, priceTime, marketValue[slot], unrealized[slot], realized[slot], intraday[slot],
+                        takeFill(slot)));
+                }
+            }
+            return rows;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Flags rows again after a failed write, adding back the fills they carried
+     */
+    void restoreUnpersisted(List<Row> rows) {
+        lock.lock();
+        try {
+            rows.forEach(row -> {
+                int slot = slots.get(new SlotKey(row.userId(), row.exchange()));
+                unpersisted[slot] = true;
+                if (row.fill() != null) {
+                    filled[slot] = true;
+                    filledQuantity[slot] += row.fill().quantity();
+                    filledCost[slot] += row.fill().cost();
+                    filledRealized[slot] += row.fill().realized();
+                }
+            });
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * The slot's fills since the last write, or null if none; clears them
+     */
+    private Fill takeFill(int slot) {
+        if (!filled[slot]) {
+            return null;
+        }
+        Fill fill = new Fill(filledQuantity[slot], filledCost[slot], filledRealized[slot]);
+        filled[slot] = false;
+        filledQuantity[slot] = 0;
+        filledCost[slot] = 0;
+        filledRealized[slot] = 0;
+        return fill;
+    }
+
+    private int slot(UserPnL holder, String exchange) {
+        return slots.computeIfAbsent(new SlotKey(holder.userId(), exchange), key -> {
+            if (size == holders.length) {
+                grow();
+            }
+            holders[size] = holder;
+            exchanges[size] = exchange;
+            holder.hold(this);
+            return size++;
+        });
+    }
+
+    /**
+     * Recomputes the slot at the current price and hands the deltas to its holder
+     */
+    private void mark(int slot, long realizedDelta) {
+        long value = quantity[slot] * price;
+        long absolute = Math.abs(value);
+        long open = value - cost[slot];
+        long day = value - dayBasis[slot];
+        long valueDelta = absolute - marketValue[slot];
+        long openDelta = open - unrealized[slot];
+        long dayDelta = day - intraday[slot];
+        if ((valueDelta | openDelta | dayDelta | realizedDelta) != 0) {
+            marketValue[slot] = absolute;
+            unrealized[slot] = open;
+            intraday[slot] = day;
+            unpersisted[slot] = true;
+            unpushed[slot] = true;
+            if (holders[slot].add(valueDelta, openDelta, realizedDelta, dayDelta)) {
+                onChanged.accept(holders[slot]);
+            }
+        }
+    }
+
+    private PositionPnL position(int slot) {
+        long open = quantity[slot];
+        return new PositionPnL(symbol, exchanges[slot], open,
+            open != 0 ? rupees(cost[slot]).divide(BigDecimal.valueOf(open), 4, RoundingMode.HALF_UP) : BigDecimal.ZERO,
+            rupees(price), rupees(marketValue[slot]), rupees(unrealized[slot]), rupees(realized[slot]),
+            rupees(intraday[slot]));
+    }
+
+    private void grow() {
+        int capacity = holders.length * 2;
+        holders = Arrays.copyOf(holders, capacity);
+        exchanges = Arrays.copyOf(exchanges, capacity);
+        quantity = Arrays.copyOf(quantity, capacity);
+        cost = Arrays.copyOf(cost, capacity);
+        dayBasis = Arrays.copyOf(dayBasis, capacity);
+        realized = Arrays.copyOf(realized, capacity);
+        marketValue = Arrays.copyOf(marketValue, capacity);
+        unrealized = Arrays.copyOf(unrealized, capacity);
+        intraday = Arrays.copyOf(intraday, capacity);
+        unpersisted = Arrays.copyOf(unpersisted, capacity);
+        filled = Arrays.copyOf(filled, capacity);
+        filledQuantity = Arrays.copyOf(filledQuantity, capacity);
+        filledCost = Arrays.copyOf(filledCost, capacity);
+        filledRealized = Arrays.copyOf(filledRealized, capacity);
+        unpushed = Arrays.copyOf(unpushed, capacity);
+    }
+
+    static long paise(BigDecimal rupees) {
+        return rupees.movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValueExact();
+    }
+
+    static BigDecimal rupees(long paise) {
+        return BigDecimal.valueOf(paise, 2);
+    }
+}
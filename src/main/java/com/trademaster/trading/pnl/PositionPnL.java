@@ -0,0 +1,24 @@
+package com.trademaster.trading.pnl;
+
+import java.math.BigDecimal;
+
+/**
+ * Position P&L
+ *
+ * One user's position in one symbol as the P&L engine holds it, in rupees. Quantity is
+ * signed: negative for short positions.
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+public record PositionPnL(
+    String symbol,
+    String exchange,
+    long quantity,
+    BigDecimal averageCost,
+    BigDecimal currentPrice,
+    BigDecimal marketValue,
+    BigDecimal unrealizedPnL,
+    BigDecimal realizedPnL,
+    BigDecimal intradayPnL
+) {}
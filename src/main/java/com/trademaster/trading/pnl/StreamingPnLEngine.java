@@ -0,0 +1,420 @@
+package com.trademaster.trading.pnl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.trademaster.trading.dto.MarketDataMessage;
+import com.trademaster.trading.model.OrderSide;
+import com.trademaster.trading.service.MarketDataStreamListener;
+import com.trademaster.trading.websocket.PnLWebSocketHandler;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Streaming P&L Engine
+ *
+ * Real-time P&L for every user's positions, held in memory and marked to market on each
+ * tick instead of recomputing BigDecimal entities per request.
+ *
+ * Key Features:
+ * - One PositionBook per symbol holds all users' quantity and cost in primitive arrays
+ *   (paise); a tick for a held symbol is conflated and applied to every holder in one
+ *   sweep on a dedicated pool, each book swept by one thread at a time
+ * - Per-user totals move by the sweep's deltas, so snapshot() and positions() are O(1)
+ *   in the number of users and ticks
+ * - Fills from OrderServiceImpl update quantity, average cost and realized P&L
+ * - Changed users get their deltas pushed to /ws/pnl every push-interval-millis; a new
+ *   connection gets the full positions first
+ * - Changed positions are written to positions every write-behind-millis and on
+ *   shutdown; a failed write keeps them flagged for the next run. Fills are added to
+ *   the stored quantity, cost and realized P&L as deltas, and the mark-to-market
+ *   columns are computed from the stored position at this instance's price, so replicas
+ *   writing the same position never overwrite each other's fills
+ * - At startup the book is seeded from positions, before order traffic starts
+ *
+ * Metrics:
+ * - trading.pnl.sweep.duration: time to mark one symbol's holders to a new price
+ * - trading.pnl.positions: user positions held
+ * - trading.pnl.write-behind.duration: time to upsert one batch of changed positions
+ * - trading.pnl.write-behind.failures: batches that failed and will be retried
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StreamingPnLEngine implements MarketDataStreamListener {
+
+    private static final String LOAD_SQL = "SELECT user_id, symbol, exchange, quantity, average_cost, cost_basis, "
+        + "current_price, realized_pnl, intraday_pnl, previous_close_value, price_updated_at, updated_at "
+        + "FROM positions";
+
+    // Right-hand sides see the row before the update, so the cost delta is applied to the old signed cost
+    private static final String FILL_SQL = "UPDATE positions SET quantity = quantity + ?, "
+        + "cost_basis = ABS(SIGN(quantity) * COALESCE(cost_basis, 0) + ?), "
+        + "realized_pnl = COALESCE(realized_pnl, 0) + ?, intraday_pnl = ?, updated_at = NOW() "
+        + "WHERE user_id = ? AND symbol = ? AND exchange = ?";
+
+    private static final String INSERT_SQL = "INSERT INTO positions (user_id, symbol, exchange, quantity, "
+        + "cost_basis, realized_pnl, intraday_pnl, created_at, updated_at) "
+        + "VALUES (?, ?, ?, ?, ?, ?, ?, NOW(), NOW()) ON CONFLICT (user_id, symbol, exchange) DO NOTHING";
+
+    private static final String MARK_SQL = "UPDATE positions SET "
+        + "side = CASE WHEN quantity > 0 THEN 'LONG' WHEN quantity < 0 THEN 'SHORT' ELSE side END, "
+        + "average_cost = cost_basis / NULLIF(ABS(quantity), 0), current_price = ?, "
+        + "market_value = ABS(quantity * ?), unrealized_pnl = quantity * ? - SIGN(quantity) * COALESCE(cost_basis, 0), "
+        + "total_pnl = quantity * ? - SIGN(quantity) * COALESCE(cost_basis, 0) + COALESCE(realized_pnl, 0), "
+        + "price_updated_at = ?, updated_at = NOW() WHERE user_id = ? AND symbol = ? AND exchange = ?";
+
+    private final MeterRegistry meterRegistry;
+    private final JdbcTemplate jdbcTemplate;
+    private final PnLWebSocketHandler webSocketHandler;
+    private final ObjectMapper objectMapper;
+
+    // Rule #16: Dynamic Configuration
+    @Value("${trading.pnl.enabled:true}")
+    private boolean enabled;
+
+    @Value("${trading.pnl.parallelism:0}")
+    private int parallelism;
+
+    @Value("${trading.pnl.write-batch-size:500}")
+    private int writeBatchSize;
+
+    @Value("${trading.pnl.zone:Asia/Kolkata}")
+    private String zone;
+
+    private final Map<String, PositionBook> books = new ConcurrentHashMap<>();
+    private final Map<Long, UserPnL> users = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<UserPnL> changedUsers = new ConcurrentLinkedQueue<>();
+
+    private ForkJoinPool pool;
+    private ZoneId zoneId;
+    private Timer sweepTimer;
+    private Timer writeBehindTimer;
+    private Counter writeBehindFailures;
+
+    @PostConstruct
+    public void init() {
+        // FIFO mode: sweeps are independent event tasks, not fork/join work
+        pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors(),
+            ForkJoinPool.defaultForkJoinWorkerThreadFactory, null, true);
+        zoneId = ZoneId.of(zone);
+        sweepTimer = Timer.builder("trading.pnl.sweep.duration")
+            .description("Time to mark one symbol's holders to a new price")
+            .register(meterRegistry);
+        Gauge.builder("trading.pnl.positions", books, held -> held.values().stream()
+                .mapToInt(PositionBook::size).sum())
+            .description("User positions held by the streaming P&L engine")
+            .register(meterRegistry);
+        writeBehindTimer = Timer.builder("trading.pnl.write-behind.duration")
+            .description("Time to upsert one batch of changed positions")
+            .register(meterRegistry);
+        writeBehindFailures = Counter.builder("trading.pnl.write-behind.failures")
+            .description("Position write-behind batches that failed and will be retried")
+            .register(meterRegistry);
+        log.info("Streaming P&L engine initialized - enabled: {}, parallelism: {}", enabled, pool.getParallelism());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdown();
+        try {
+            pool.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        writeBehind();
+    }
+
+    // ========== Inputs ==========
+
+    @Override
+    public void onPriceUpdate(MarketDataMessage.PriceUpdate priceUpdate) {
+        Optional.ofNullable(priceUpdate)
+            .filter(update -> update.symbol() != null && update.lastPrice() != null)
+            .ifPresent(update -> onPrice(update.symbol(), update.lastPrice().doubleValue(),
+                update.timestamp() != null ? update.timestamp().toEpochMilli() : System.currentTimeMillis()));
+    }
+
+    @Override
+    public void onTrade(MarketDataMessage.TradeExecution trade) {
+        Optional.ofNullable(trade)
+            .filter(t -> t.symbol() != null && t.price() != null)
+            .ifPresent(t -> onPrice(t.symbol(), t.price().doubleValue(),
+                t.timestamp() != null ? t.timestamp().toEpochMilli() : System.currentTimeMillis()));
+    }
+
+    /**
+     * Marks the symbol's holders to the price; O(1) on the caller, the sweep runs on the pool
+     */
+    public void onPrice(String symbol, double price, long epochMillis) {
+        PositionBook book = books.get(symbol);
+        if (book != null && price > 0.0 && book.offer(Math.round(price * 100.0), epochMillis)) {
+            pool.execute(() -> {
+                long start = System.nanoTime();
+                book.sweep();
+                sweepTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            });
+        }
+    }
+
+    /**
+     * Applies an executed fill to the user's position
+     */
+    public void applyFill(Long userId, String symbol, String exchange, OrderSide side, long quantity,
+                          BigDecimal price) {
+        if (!enabled || userId == null || symbol == null || side == null || quantity <= 0 || price == null) {
+            return;
+        }
+        long signedQuantity = side == OrderSide.BUY ? quantity : -quantity;
+        book(symbol).fill(user(userId), Optional.ofNullable(exchange).orElse("NSE"), signedQuantity,
+            PositionBook.paise(price), System.currentTimeMillis());
+    }
+
+    // ========== Reads ==========
+
+    /**
+     * The user's totals, empty if the engine holds no position of theirs
+     */
+    public Optional<PnLSnapshot> snapshot(long userId) {
+        return Optional.ofNullable(users.get(userId)).map(UserPnL::snapshot);
+    }
+
+    public List<PositionPnL> positions(long userId) {
+        List<PositionPnL> positions = new ArrayList<>();
+        Optional.ofNullable(users.get(userId))
+            .ifPresent(user -> user.books().forEach(book -> book.positions(userId, positions)));
+        return positions;
+    }
+
+    // ========== Push and Write-Behind ==========
+
+    /**
+     * Sends full positions to new connections and deltas to changed, connected users
+     */
+    @Scheduled(fixedDelayString = "${trading.pnl.push-interval-millis:250}")
+    public void publishChanges() {
+        webSocketHandler.takeNewlyConnected().forEach(userId -> Optional.ofNullable(users.get(userId))
+            .ifPresent(user -> push(user, "PNL_SNAPSHOT", false)));
+        for (UserPnL user = changedUsers.poll(); user != null; user = changedUsers.poll()) {
+            if (webSocketHandler.isConnected(user.userId())) {
+                push(user, "PNL_DELTA", true);
+            } else {
+                user.takeChanged();
+            }
+        }
+    }
+
+    /**
+     * Writes positions changed since the last run to positions: fills applied here are
+     * added to the stored position, inserting it if there is none, then every changed
+     * position is marked to the current price
+     */
+    @Scheduled(fixedDelayString = "${trading.pnl.write-behind-millis:5000}")
+    public void writeBehind() {
+        if (!enabled) {
+            return;
+        }
+        for (PositionBook book : books.values()) {
+            List<PositionBook.Row> rows = book.takeUnpersisted();
+            if (rows.isEmpty()) {
+                continue;
+            }
+            long start = System.nanoTime();
+            try {
+                List<PositionBook.Row> lost = writeFills(rows.stream().filter(row -> row.fill() != null).toList());
+                jdbcTemplate.batchUpdate(MARK_SQL, rows, writeBatchSize, (statement, row) -> {
+                    BigDecimal price = PositionBook.rupees(row.price());
+                    statement.setBigDecimal(1, price);
+                    statement.setBigDecimal(2, price);
+                    statement.setBigDecimal(3, price);
+                    statement.setBigDecimal(4, price);
+                    statement.setTimestamp(5, row.priceTime() > 0 ? new Timestamp(row.priceTime()) : null);
+                    statement.setLong(6, row.userId());
+                    statement.setString(7, row.symbol());
+                    statement.setString(8, row.exchange());
+                });
+                writeBehindTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                if (!lost.isEmpty()) {
+                    book.restoreUnpersisted(lost);
+                }
+            } catch (DataAccessException e) {
+                book.restoreUnpersisted(rows);
+                writeBehindFailures.increment();
+                log.warn("P&L write-behind failed for {} positions of {} - retrying next run: {}",
+                        rows.size(), book.symbol(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Adds the fills to the stored positions and inserts the positions not stored yet
+     *
+     * @return rows whose insert lost to another replica's, to be added to its row next run
+     */
+    private List<PositionBook.Row> writeFills(List<PositionBook.Row> filled) {
+        if (filled.isEmpty()) {
+            return List.of();
+        }
+        int[][] updated = jdbcTemplate.batchUpdate(FILL_SQL, filled, writeBatchSize, (statement, row) -> {
+            statement.setLong(1, row.fill().quantity());
+            statement.setBigDecimal(2, PositionBook.rupees(row.fill().cost()));
+            statement.setBigDecimal(3, PositionBook.rupees(row.fill().realized()));
+            statement.setBigDecimal(4, PositionBook.rupees(row.intraday()));
+            statement.setLong(5, row.userId());
+            statement.setString(6, row.symbol());
+            statement.setString(7, row.exchange());
+        });
+        List<PositionBook.Row> unstored = unaffected(filled, updated);
+        if (unstored.isEmpty()) {
+            return List.of();
+        }
+        int[][] inserted = jdbcTemplate.batchUpdate(INSERT_SQL, unstored, writeBatchSize, (statement, row) -> {
+            statement.setLong(1, row.userId());
+            statement.setString(2, row.symbol());
+            statement.setString(3, row.exchange());
+            statement.setLong(4, row.fill().quantity());
+            statement.setBigDecimal(5, PositionBook.rupees(Math.abs(row.fill().cost())));
+            statement.setBigDecimal(6, PositionBook.rupees(row.fill().realized()));
+            statement.setBigDecimal(7, PositionBook.rupees(row.intraday()));
+        });
+        return unaffected(unstored, inserted);
+    }
+
+    /**
+     * Rows whose statement in a batchUpdate result changed nothing
+     */
+    private static List<PositionBook.Row> unaffected(List<PositionBook.Row> rows, int[][] counts) {
+        List<PositionBook.Row> unaffected = new ArrayList<>();
+        int index = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                if (count == 0) {
+                    unaffected.add(rows.get(index));
+                }
+                index++;
+            }
+        }
+        return unaffected;
+    }
+
+    /**
+     * Makes the current prices the reference for intraday P&L
+     */
+    @Scheduled(cron = "${trading.pnl.day-roll-cron:0 0 9 * * MON-FRI}", zone = "${trading.pnl.zone:Asia/Kolkata}")
+    public void rollDay() {
+        books.values().forEach(PositionBook::rollDay);
+        log.info("Intraday P&L reference rolled for {} symbols", books.size());
+    }
+
+    /**
+     * Seeds the books from positions
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (!enabled) {
+            return;
+        }
+        Instant today = LocalDate.now(zoneId).atStartOfDay(zoneId).toInstant();
+        int[] loaded = new int[1];
+        jdbcTemplate.query(LOAD_SQL, (ResultSet row) -> {
+            load(row, today);
+            loaded[0]++;
+        });
+        log.info("Streaming P&L engine loaded {} positions of {} users over {} symbols",
+                loaded[0], users.size(), books.size());
+    }
+
+    private void load(ResultSet row, Instant today) throws SQLException {
+        long quantity = row.getLong("quantity");
+        long averageCost = paiseOrZero(row.getBigDecimal("average_cost"));
+        long signedCost = Optional.ofNullable(row.getBigDecimal("cost_basis"))
+            .map(costBasis -> Long.signum(quantity) * Math.abs(PositionBook.paise(costBasis)))
+            .orElse(quantity * averageCost);
+        long price = Optional.ofNullable(row.getBigDecimal("current_price")).map(PositionBook::paise).orElse(averageCost);
+        BigDecimal intraday = row.getBigDecimal("intraday_pnl");
+        BigDecimal previousClose = row.getBigDecimal("previous_close_value");
+        Timestamp updatedAt = row.getTimestamp("updated_at");
+        Timestamp pricedAt = row.getTimestamp("price_updated_at");
+
+        // Intraday P&L already accrued today is kept; otherwise the day starts at the previous close
+        long dayBasis = intraday != null && updatedAt != null && !updatedAt.toInstant().isBefore(today)
+            ? quantity * price - PositionBook.paise(intraday)
+            : previousClose != null ? Long.signum(quantity) * PositionBook.paise(previousClose) : quantity * price;
+
+        book(row.getString("symbol")).load(user(row.getLong("user_id")), row.getString("exchange"), quantity,
+            signedCost, paiseOrZero(row.getBigDecimal("realized_pnl")), dayBasis, price,
+            pricedAt != null ? pricedAt.getTime() : 0L);
+    }
+
+    /**
+     * Waits until queued sweeps have run
+     */
+    boolean awaitQuiescence(long timeout, TimeUnit unit) {
+        return pool.awaitQuiescence(timeout, unit);
+    }
+
+    private PositionBook book(String symbol) {
+        return books.computeIfAbsent(symbol, key -> new PositionBook(key, changedUsers::offer));
+    }
+
+    private UserPnL user(long userId) {
+        return users.computeIfAbsent(userId, UserPnL::new);
+    }
+
+    /**
+     * Sends the user's totals with all or only the changed positions; a delta with
+     * nothing changed since the last push is skipped
+     */
+    private void push(UserPnL user, String type, boolean changedOnly) {
+        if (!user.takeChanged() && changedOnly) {
+            return;
+        }
+        List<PositionPnL> positions = new ArrayList<>();
+        user.books().forEach(book -> book.takeUnpushed(user.userId(), changedOnly, positions));
+        try {
+            webSocketHandler.send(user.userId(), objectMapper.writeValueAsString(Map.of(
+                "type", type,
+                "summary", user.snapshot(),
+                "positions", positions,
+                "timestamp", Instant.now().toString()
+            )));
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize P&L update for userId={}", user.userId(), e);
+        }
+    }
+
+    private static long paiseOrZero(BigDecimal rupees) {
+        return rupees != null ? PositionBook.paise(rupees) : 0L;
+    }
+}
@@ -0,0 +1,73 @@
+package com.trademaster.trading.pnl;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * User P&L
+ *
+ * Running totals of one user in paise, moved by the deltas PositionBook sweeps and
+ * fills produce, so reading them is O(1). Fields are updated independently; a reader
+ * racing a sweep may see one total moved and not yet another.
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+final class UserPnL {
+
+    private final long userId;
+    private final AtomicLong marketValue = new AtomicLong();
+    private final AtomicLong unrealized = new AtomicLong();
+    private final AtomicLong realized = new AtomicLong();
+    private final AtomicLong intraday = new AtomicLong();
+    private final AtomicBoolean changed = new AtomicBoolean();
+
+    // Books the user holds a slot in, for per-position reads and pushes
+    private final CopyOnWriteArrayList<PositionBook> books = new CopyOnWriteArrayList<>();
+
+    UserPnL(long userId) {
+        this.userId = userId;
+    }
+
+    long userId() {
+        return userId;
+    }
+
+    /**
+     * Applies deltas, returning true if this call flipped the user to changed
+     */
+    boolean add(long marketValueDelta, long unrealizedDelta, long realizedDelta, long intradayDelta) {
+        marketValue.addAndGet(marketValueDelta);
+        unrealized.addAndGet(unrealizedDelta);
+        if (realizedDelta != 0) {
+            realized.addAndGet(realizedDelta);
+        }
+        intraday.addAndGet(intradayDelta);
+        return !changed.get() && changed.compareAndSet(false, true);
+    }
+
+    /**
+     * Clears the changed flag, returning whether it was set
+     */
+    boolean takeChanged() {
+        return changed.getAndSet(false);
+    }
+
+    void hold(PositionBook book) {
+        books.addIfAbsent(book);
+    }
+
+    List<PositionBook> books() {
+        return books;
+    }
+
+    PnLSnapshot snapshot() {
+        long unrealizedPaise = unrealized.get();
+        long realizedPaise = realized.get();
+        return new PnLSnapshot(userId, PositionBook.rupees(marketValue.get()), PositionBook.rupees(unrealizedPaise),
+            PositionBook.rupees(realizedPaise), PositionBook.rupees(intraday.get()),
+            PositionBook.rupees(unrealizedPaise + realizedPaise));
+    }
+}
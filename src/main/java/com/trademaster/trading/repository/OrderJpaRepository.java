@@ -11,6 +11,7 @@ import org.springframework.stereotype.Repository;
 
 import java.time.Instant;
 import java.time.LocalDate;
+import java.time.ZoneId;
 import java.util.List;
 import java.util.Optional;
 
@@ -33,14 +34,26 @@ public interface OrderJpaRepository extends JpaRepository<Order, Long> {
     @Query("SELECT COUNT(o) FROM Order o WHERE o.userId = :userId AND o.status NOT IN ('FILLED', 'CANCELLED', 'REJECTED', 'EXPIRED')")
     long countOpenOrdersByUserId(@Param("userId") Long userId);
     
-    @Query("SELECT COUNT(o) FROM Order o WHERE o.userId = :userId AND DATE(o.createdAt) = :date")
-    long countDailyOrdersByUserId(@Param("userId") Long userId, @Param("date") LocalDate date);
+    // Day boundaries are passed as a created_at range rather than DATE(created_at) so the
+    // planner can prune orders partitions; the day is taken in the exchange zone the caller
+    // passes (trading.risk.exposure.zone), not the JVM's
+    default long countDailyOrdersByUserId(Long userId, LocalDate date, ZoneId zone) {
+        return countOrdersCreatedBetween(userId, date.atStartOfDay(zone).toInstant(),
+            date.plusDays(1).atStartOfDay(zone).toInstant());
+    }
+    
+    @Query("SELECT COUNT(o) FROM Order o WHERE o.userId = :userId AND o.createdAt >= :from AND o.createdAt < :to")
+    long countOrdersCreatedBetween(@Param("userId") Long userId, @Param("from") Instant from, @Param("to") Instant to);
     
     @Query("SELECT o FROM Order o WHERE o.timeInForce = 'GTD' AND o.expiryDate < :currentDate AND o.status NOT IN ('FILLED', 'CANCELLED', 'REJECTED', 'EXPIRED')")
     List<Order> findOrdersRequiringExpiry(@Param("currentDate") LocalDate currentDate);
     
-    @Query("SELECT o FROM Order o WHERE o.timeInForce = 'DAY' AND DATE(o.createdAt) < :currentDate AND o.status NOT IN ('FILLED', 'CANCELLED', 'REJECTED', 'EXPIRED')")
-    List<Order> findDayOrdersRequiringExpiry(@Param("currentDate") LocalDate currentDate);
+    default List<Order> findDayOrdersRequiringExpiry(LocalDate currentDate, ZoneId zone) {
+        return findDayOrdersCreatedBefore(currentDate.atStartOfDay(zone).toInstant());
+    }
+    
+    @Query("SELECT o FROM Order o WHERE o.timeInForce = 'DAY' AND o.createdAt < :cutoff AND o.status NOT IN ('FILLED', 'CANCELLED', 'REJECTED', 'EXPIRED')")
+    List<Order> findDayOrdersCreatedBefore(@Param("cutoff") Instant cutoff);
     
     Optional<Order> findByBrokerOrderId(String brokerOrderId);
     
@@ -80,4 +80,9 @@ public interface OrderRepository extends OrderJpaRepository {
      */
     @Query("SELECT COUNT(o) FROM Order o WHERE o.userId = :userId AND o.status = :status")
     long countByUserIdAndStatus(@Param("userId") Long userId, @Param("status") OrderStatus status);
+
+    /**
+     * Count orders by user in any of the given statuses
+     */
+    long countByUserIdAndStatusIn(Long userId, List<OrderStatus> statuses);
 }
\ No newline at end of file
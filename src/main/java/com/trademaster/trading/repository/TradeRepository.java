@@ -12,6 +12,7 @@ import org.springframework.stereotype.Repository;
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.time.LocalDate;
+import java.time.ZoneId;
 import java.util.List;
 import java.util.Optional;
 
@@ -99,11 +100,25 @@ public interface TradeRepository extends JpaRepository<Trade, Long> {
     
     /**
      * Get daily trade count for user
+     *
+     * Bounds trade_time by range instead of DATE(trade_time) so only that day's partition
+     * is scanned. The day is taken in the given exchange zone (trading.risk.exposure.zone),
+     * so its boundaries do not move with the JVM's time zone.
+     */
+    default Long getDailyTradeCount(Long userId, LocalDate tradeDate, ZoneId zone) {
+        return countTradesInRange(userId, tradeDate.atStartOfDay(zone).toInstant(),
+            tradeDate.plusDays(1).atStartOfDay(zone).toInstant());
+    }
+    
+    /**
+     * Count user trades with startTime <= trade_time < endTime
      */
     @Query("SELECT COUNT(t) FROM Trade t " +
            "WHERE t.userId = :userId " +
-           "AND DATE(t.tradeTime) = :tradeDate")
-    Long getDailyTradeCount(@Param("userId") Long userId, @Param("tradeDate") LocalDate tradeDate);
+           "AND t.tradeTime >= :startTime AND t.tradeTime < :endTime")
+    Long countTradesInRange(@Param("userId") Long userId,
+                           @Param("startTime") Instant startTime,
+                           @Param("endTime") Instant endTime);
     
     /**
      * Get average trade size for user and symbol
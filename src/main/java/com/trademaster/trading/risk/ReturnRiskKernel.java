@@ -0,0 +1,200 @@
+package com.trademaster.trading.risk;
+
+import java.util.Arrays;
+
+/**
+ * Return Risk Kernel
+ *
+ * Risk statistics of a daily return series on primitive arrays, in two passes instead
+ * of one BigDecimal pass (and one full sort) per metric:
+ * - one fused pass for mean, volatility, downside deviation, cumulative return, max
+ *   drawdown, win/loss totals and, against a benchmark, beta and tracking error
+ *   (Welford updates, so no second pass over the mean)
+ * - one selection pass for every requested confidence level: the series is partitioned
+ *   around the deepest tail index and only that tail is sorted
+ *
+ * Definitions match the BigDecimal helpers PortfolioAnalyticsAgent used before:
+ * sample (n - 1) volatility and tracking error, downside deviation as the root mean
+ * square shortfall of the periods below the target, drawdown on the compounded wealth
+ * path starting at 1, beta of 1 without an aligned benchmark.
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+public final class ReturnRiskKernel {
+
+    private ReturnRiskKernel() {
+    }
+
+    /**
+     * @param returns daily returns, oldest first; an empty series gives an all-zero profile
+     * @param benchmark benchmark daily returns aligned with returns, or null
+     * @param dailyTarget minimum acceptable daily return for downside deviation
+     * @param confidences VaR/expected shortfall confidence levels, e.g. 0.95 and 0.99
+     */
+    public static ReturnRiskProfile analyze(double[] returns, double[] benchmark, double dailyTarget,
+                                            double... confidences) {
+        int n = returns.length;
+        boolean aligned = benchmark != null && benchmark.length == n;
+
+        double mean = 0.0;
+        double squares = 0.0;
+        double benchmarkMean = 0.0;
+        double benchmarkSquares = 0.0;
+        double coMoment = 0.0;
+        double differenceMean = 0.0;
+        double differenceSquares = 0.0;
+        double downsideSquares = 0.0;
+        int downsidePeriods = 0;
+        double wealth = 1.0;
+        double peak = 1.0;
+        double maxDrawdown = 0.0;
+        int winningPeriods = 0;
+        double gains = 0.0;
+        double losses = 0.0;
+
+        for (int index = 0; index < n; index++) {
+            double value = returns[index];
+            int count = index + 1;
+            double delta = value - mean;
+            mean += delta / count;
+            squares += delta * (value - mean);
+
+            if (aligned) {
+                double benchmarkValue = benchmark[index];
+                double benchmarkDelta = benchmarkValue - benchmarkMean;
+                benchmarkMean += benchmarkDelta / count;
+                benchmarkSquares += benchmarkDelta * (benchmarkValue - benchmarkMean);
+                coMoment += delta * (benchmarkValue - benchmarkMean);
+
+                double difference = value - benchmarkValue;
+                double differenceDelta = difference - differenceMean;
+                differenceMean += differenceDelta / count;
+                differenceSquares += differenceDelta * (difference - differenceMean);
+            }
+
+            if (value < dailyTarget) {
+                double shortfall = value - dailyTarget;
+                downsideSquares += shortfall * shortfall;
+                downsidePeriods++;
+            }
+
+            wealth *= 1.0 + value;
+            peak = Math.max(peak, wealth);
+            maxDrawdown = Math.max(maxDrawdown, (peak - wealth) / peak);
+
+            if (value > 0.0) {
+                winningPeriods++;
+                gains += value;
+            } else if (value < 0.0) {
+                losses -= value;
+            }
+        }
+
+        if (benchmark != null && !aligned) {
+            benchmarkMean = mean(benchmark);
+        }
+
+        double[] tailQuantiles = new double[confidences.length];
+        double[] tailMeans = new double[confidences.length];
+        tails(returns, confidences, tailQuantiles, tailMeans);
+
+        return new ReturnRiskProfile(
+            n,
+            mean,
+            n > 1 ? Math.sqrt(squares / (n - 1)) : 0.0,
+            downsidePeriods > 0 ? Math.sqrt(downsideSquares / downsidePeriods) : 0.0,
+            wealth - 1.0,
+            maxDrawdown,
+            winningPeriods,
+            gains,
+            losses,
+            benchmark != null,
+            benchmarkMean,
+            aligned && n > 1 && benchmarkSquares != 0.0 ? coMoment / benchmarkSquares : 1.0,
+            aligned && n > 1 ? Math.sqrt(differenceSquares / (n - 1)) : 0.0,
+            confidences.clone(),
+            tailQuantiles,
+            tailMeans
+        );
+    }
+
+    /**
+     * Partitions a copy around the deepest index any confidence needs, sorts just that
+     * prefix, then reads every quantile and tail mean from it
+     */
+    private static void tails(double[] returns, double[] confidences, double[] quantiles, double[] means) {
+        int n = returns.length;
+        if (n == 0) {
+            return;
+        }
+        int deepest = 0;
+        for (double confidence : confidences) {
+            deepest = Math.max(deepest, Math.min(n - 1, tailIndex(n, confidence)));
+            deepest = Math.max(deepest, Math.min(n, tailLength(n, confidence)) - 1);
+        }
+
+        double[] sorted = returns.clone();
+        select(sorted, deepest);
+        Arrays.sort(sorted, 0, deepest + 1);
+
+        for (int level = 0; level < confidences.length; level++) {
+            quantiles[level] = sorted[Math.min(n - 1, tailIndex(n, confidences[level]))];
+            int length = Math.min(n, tailLength(n, confidences[level]));
+            double sum = 0.0;
+            for (int index = 0; index < length; index++) {
+                sum += sorted[index];
+            }
+            means[level] = sum / length;
+        }
+    }
+
+    private static int tailIndex(int n, double confidence) {
+        return Math.max(0, (int) Math.floor(n * (1 - confidence)));
+    }
+
+    private static int tailLength(int n, double confidence) {
+        return Math.max(1, (int) Math.floor(n * (1 - confidence)));
+    }
+
+    private static double mean(double[] values) {
+        double sum = 0.0;
+        for (double value : values) {
+            sum += value;
+        }
+        return values.length > 0 ? sum / values.length : 0.0;
+    }
+
+    /**
+     * Quickselect: afterwards values[k] is in sorted position and nothing before it is larger
+     */
+    private static void select(double[] values, int k) {
+        int left = 0;
+        int right = values.length - 1;
+        while (left < right) {
+            double pivot = values[(left + right) >>> 1];
+            int i = left;
+            int j = right;
+            while (i <= j) {
+                while (values[i] < pivot) {
+                    i++;
+                }
+                while (values[j] > pivot) {
+                    j--;
+                }
+                if (i <= j) {
+                    double swap = values[i];
+                    values[i++] = values[j];
+                    values[j--] = swap;
+                }
+            }
+            if (k <= j) {
+                right = j;
+            } else if (k >= i) {
+                left = i;
+            } else {
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.trademaster.trading.risk;
+
+import java.util.Arrays;
+
+/**
+ * Return Risk Profile
+ *
+ * Statistics of one daily return series, produced by ReturnRiskKernel. All values are
+ * daily and in fractions (not percent, not annualized); callers scale them for display.
+ *
+ * Tail statistics are kept per requested confidence level:
+ * - tailQuantile: the historical VaR return, sorted[floor(n * (1 - confidence))]
+ * - tailMean: the expected shortfall return, mean of the max(1, floor(n * (1 - confidence)))
+ *   lowest returns
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+public record ReturnRiskProfile(
+    int observations,
+    double mean,
+    double standardDeviation,
+    double downsideDeviation,
+    double cumulativeReturn,
+    double maxDrawdown,
+    int winningPeriods,
+    double totalGains,
+    double totalLosses,
+    boolean benchmarked,
+    double benchmarkMean,
+    double beta,
+    double trackingError,
+    double[] confidences,
+    double[] tailQuantiles,
+    double[] tailMeans
+) {
+
+    /**
+     * VaR return at the confidence level (negative for a loss)
+     */
+    public double valueAtRisk(double confidence) {
+        return tailQuantiles[indexOf(confidence)];
+    }
+
+    /**
+     * Expected shortfall return at the confidence level (negative for a loss)
+     */
+    public double expectedShortfall(double confidence) {
+        return tailMeans[indexOf(confidence)];
+    }
+
+    private int indexOf(double confidence) {
+        for (int index = 0; index < confidences.length; index++) {
+            if (confidences[index] == confidence) {
+                return index;
+            }
+        }
+        throw new IllegalArgumentException("Confidence " + confidence + " not in " + Arrays.toString(confidences));
+    }
+}
@@ -0,0 +1,42 @@
+package com.trademaster.trading.risk.control;
+
+import com.trademaster.trading.common.TradeError;
+
+/**
+ * Control Verdict
+ *
+ * Outcome of OrderControls.admit. Every refusal carries a preallocated error, so a
+ * refused order costs no allocation from the check through to the caller's result.
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+public enum ControlVerdict {
+    ADMITTED(null),
+    GLOBAL_HALT("Trading halted by kill switch"),
+    USER_HALT("Trading halted for user by kill switch"),
+    SYMBOL_HALT("Trading halted for symbol by kill switch"),
+    GLOBAL_RATE("Order rate limit exceeded"),
+    USER_RATE("Order rate limit exceeded for user"),
+    SYMBOL_RATE("Order rate limit exceeded for symbol"),
+    OPEN_ORDERS("Maximum open orders reached"),
+    USER_NOTIONAL("Order notional per second limit exceeded for user"),
+    GLOBAL_NOTIONAL("Order notional per second limit exceeded");
+
+    private final TradeError error;
+
+    ControlVerdict(String reason) {
+        this.error = reason != null ? new TradeError.ExecutionError.OrderRejected(reason) : null;
+    }
+
+    public boolean admitted() {
+        return this == ADMITTED;
+    }
+
+    /**
+     * Error to reject the order with; null when admitted
+     */
+    public TradeError error() {
+        return error;
+    }
+}
@@ -0,0 +1,228 @@
+package com.trademaster.trading.risk.control;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Kill Switch Broadcaster
+ *
+ * Shares kill switches between replicas. A flip is written to a Redis hash holding every
+ * engaged switch, applied to this instance's OrderControls, and published on a Redis
+ * channel that every replica subscribes to, so all of them stop taking orders within a
+ * round trip. Pub/sub does not redeliver, so each replica also resynchronizes with the
+ * hash at startup and every sync-interval-millis.
+ *
+ * Modes:
+ * - redis: shared across replicas (default)
+ * - local: this instance only; also the fallback when Redis is not configured
+ *
+ * A flip is applied locally even if Redis is unreachable, so an instance can always be
+ * halted directly. Until it is stored in the hash the flip is pending: sync leaves it in
+ * place rather than undoing it from the hash, and retries the write.
+ *
+ * Metrics:
+ * - trading.control.redis.errors: kill switch writes and syncs that failed on Redis
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class KillSwitchBroadcaster implements MessageListener {
+
+    private static final String ENGAGED = "1";
+
+    private final OrderControls orderControls;
+    private final ObjectProvider<RedisTemplate<String, String>> redisTemplate;
+    private final ObjectProvider<RedisConnectionFactory> connectionFactory;
+    private final MeterRegistry meterRegistry;
+
+    // Rule #16: Dynamic Configuration
+    @Value("${trading.control.propagation:redis}")
+    private String propagation;
+
+    @Value("${trading.control.channel:trading:control:kill-switch}")
+    private String channel;
+
+    @Value("${trading.control.state-key:trading:control:kill-switches}")
+    private String stateKey;
+
+    // Flips applied here but not yet stored in the hash, by field
+    private final Map<String, Boolean> pending = new ConcurrentHashMap<>();
+
+    private RedisTemplate<String, String> redis;
+    private RedisMessageListenerContainer container;
+    private Counter redisErrors;
+
+    @PostConstruct
+    public void init() {
+        redisErrors = Counter.builder("trading.control.redis.errors")
+            .description("Kill switch writes and syncs that failed on Redis")
+            .register(meterRegistry);
+        if (!"redis".equalsIgnoreCase(propagation)) {
+            log.info("Kill switches are local to this instance (propagation: {})", propagation);
+            return;
+        }
+        RedisConnectionFactory factory = connectionFactory.getIfAvailable();
+        redis = redisTemplate.getIfAvailable();
+        if (redis == null || factory == null) {
+            redis = null;
+            log.warn("Kill switch propagation is redis but Redis is not configured - switches are local");
+            return;
+        }
+        container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(factory);
+        container.addMessageListener(this, new ChannelTopic(channel));
+        container.afterPropertiesSet();
+        container.start();
+        log.info("Kill switches shared through Redis - channel: {}, state: {}", channel, stateKey);
+    }
+
+    @PreDestroy
+    public void shutdown() throws Exception {
+        if (container != null) {
+            container.destroy();
+        }
+    }
+
+    /**
+     * Engages or releases a kill switch on every replica
+     *
+     * @return whether the switch changed on this instance
+     */
+    public boolean flip(KillSwitchScope scope, String key, boolean engaged) {
+        String field = field(scope, key);
+        if (redis != null) {
+            pending.put(field, engaged);
+            store(field, engaged);
+        }
+        boolean changed = orderControls.apply(scope, key, engaged);
+        if (redis != null) {
+            try {
+                redis.convertAndSend(channel, (engaged ? ENGAGED : "0") + ":" + field);
+            } catch (RuntimeException e) {
+                redisErrors.increment();
+                log.warn("Kill switch {} not published: {}", field, e.getMessage());
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Applies a flip published by any replica, including this one
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        String[] parts = body.split(":", 3);
+        try {
+            KillSwitchScope scope = KillSwitchScope.valueOf(parts[1]);
+            orderControls.apply(scope, parts.length > 2 ? parts[2] : null, ENGAGED.equals(parts[0]));
+        } catch (RuntimeException e) {
+            log.warn("Ignoring malformed kill switch message '{}': {}", body, e.getMessage());
+        }
+    }
+
+    /**
+     * Makes this instance's kill switches match the Redis hash, catching up on any flip
+     * published while it was not subscribed
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${trading.control.sync-interval-millis:5000}",
+        initialDelayString = "${trading.control.sync-interval-millis:5000}")
+    public void sync() {
+        if (redis == null) {
+            return;
+        }
+        pending.forEach(this::store);
+        Map<Object, Object> stored;
+        try {
+            stored = redis.opsForHash().entries(stateKey);
+        } catch (RuntimeException e) {
+            redisErrors.increment();
+            log.debug("Kill switch sync skipped: {}", e.getMessage());
+            return;
+        }
+        Set<String> engaged = new HashSet<>();
+        stored.keySet().forEach(field -> engaged.add(String.valueOf(field)));
+        // A flip the hash does not have yet wins over the hash
+        pending.forEach((field, engage) -> {
+            if (engage) {
+                engaged.add(field);
+            } else {
+                engaged.remove(field);
+            }
+        });
+
+        OrderControls.KillSwitches current = orderControls.killSwitches();
+        orderControls.apply(KillSwitchScope.GLOBAL, null, engaged.remove(field(KillSwitchScope.GLOBAL, null)));
+        current.users().stream()
+            .map(String::valueOf)
+            .filter(user -> !engaged.remove(field(KillSwitchScope.USER, user)))
+            .forEach(user -> orderControls.apply(KillSwitchScope.USER, user, false));
+        current.symbols().stream()
+            .filter(symbol -> !engaged.remove(field(KillSwitchScope.SYMBOL, symbol)))
+            .forEach(symbol -> orderControls.apply(KillSwitchScope.SYMBOL, symbol, false));
+        // What is left was engaged elsewhere and is not yet engaged here
+        engaged.forEach(field -> {
+            String[] parts = field.split(":", 2);
+            try {
+                orderControls.apply(KillSwitchScope.valueOf(parts[0]), parts.length > 1 ? parts[1] : null, true);
+            } catch (RuntimeException e) {
+                log.warn("Ignoring malformed kill switch '{}': {}", field, e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Writes a flip to the hash; it stays pending unless the write succeeds and no later
+     * flip of the same switch has replaced it
+     */
+    private void store(String field, boolean engaged) {
+        try {
+            if (engaged) {
+                redis.opsForHash().put(stateKey, field, ENGAGED);
+            } else {
+                redis.opsForHash().delete(stateKey, field);
+            }
+            pending.remove(field, engaged);
+        } catch (RuntimeException e) {
+            redisErrors.increment();
+            log.warn("Kill switch {} not stored in Redis: {}", field, e.getMessage());
+        }
+    }
+
+    /**
+     * Hash field of a switch; user IDs are normalized so one user has one field
+     */
+    private static String field(KillSwitchScope scope, String key) {
+        return switch (scope) {
+            case GLOBAL -> scope.name();
+            case USER -> scope.name() + ":" + Long.parseLong(key.trim());
+            case SYMBOL -> scope.name() + ":" + key.trim();
+        };
+    }
+}
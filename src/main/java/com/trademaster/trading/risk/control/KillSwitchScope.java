@@ -0,0 +1,16 @@
+package com.trademaster.trading.risk.control;
+
+/**
+ * Kill Switch Scope
+ *
+ * What a kill switch halts: all order entry, one user's, or one symbol's. A GLOBAL
+ * switch has no key; USER is keyed by user ID and SYMBOL by trading symbol.
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+public enum KillSwitchScope {
+    GLOBAL,
+    USER,
+    SYMBOL
+}
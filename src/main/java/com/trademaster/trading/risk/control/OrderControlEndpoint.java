@@ -0,0 +1,72 @@
+package com.trademaster.trading.risk.control;
+
+import com.trademaster.trading.metrics.AlertingService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Order Control Endpoint
+ *
+ * Order entry controls and kill switches at /actuator/order-controls.
+ *
+ * - GET returns the limits, global headroom, rejection counts and engaged kill switches
+ * - POST {"scope": "GLOBAL", "engaged": true} halts all order entry on every replica
+ * - POST {"scope": "USER", "key": "42", "engaged": true} halts one user;
+ *   {"scope": "SYMBOL", "key": "INFY", ...} one symbol; "engaged": false releases
+ *
+ * Engaging a switch raises a compliance alert.
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+@Component
+@Endpoint(id = "order-controls")
+@RequiredArgsConstructor
+public class OrderControlEndpoint {
+
+    private final OrderControls orderControls;
+    private final KillSwitchBroadcaster broadcaster;
+    private final AlertingService alertingService;
+
+    @ReadOperation
+    public Map<String, Object> controls() {
+        return orderControls.status();
+    }
+
+    @WriteOperation
+    public Map<String, Object> killSwitch(String scope, @Nullable String key, boolean engaged) {
+        KillSwitchScope killSwitchScope = Arrays.stream(KillSwitchScope.values())
+            .filter(candidate -> candidate.name().equalsIgnoreCase(scope))
+            .findFirst()
+            .orElseThrow(() -> new InvalidEndpointRequestException("Unknown kill switch scope: " + scope,
+                "scope must be one of " + Arrays.toString(KillSwitchScope.values())));
+        validateKey(killSwitchScope, key);
+
+        boolean changed = broadcaster.flip(killSwitchScope, key, engaged);
+        if (changed && engaged) {
+            alertingService.handleComplianceViolation("KILL_SWITCH",
+                "Order entry halted - scope: " + killSwitchScope + ", key: " + (key != null ? key : "-"));
+        }
+        return orderControls.status();
+    }
+
+    private static void validateKey(KillSwitchScope scope, String key) {
+        if (scope == KillSwitchScope.GLOBAL) {
+            return;
+        }
+        if (key == null || key.isBlank()) {
+            throw new InvalidEndpointRequestException("A " + scope + " kill switch needs a key", "key is required");
+        }
+        if (scope == KillSwitchScope.USER && !key.trim().matches("\\d+")) {
+            throw new InvalidEndpointRequestException("User ID must be numeric: " + key, "key must be a user ID");
+        }
+    }
+}
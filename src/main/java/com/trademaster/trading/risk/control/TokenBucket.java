@@ -0,0 +1,71 @@
+package com.trademaster.trading.risk.control;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token Bucket
+ *
+ * Lock-free token bucket kept as a single theoretical arrival time (the generic cell
+ * rate algorithm): each unit taken pushes the arrival time one emission interval into
+ * the future, and a take is refused if that would put it further ahead of now than the
+ * bucket's capacity. Refill is implicit in the clock, so there is no refill task, and
+ * acquiring or refusing is one CAS with no allocation.
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+final class TokenBucket {
+
+    private final double nanosPerUnit;
+    private final long toleranceNanos;
+    private final AtomicLong arrival = new AtomicLong(Long.MIN_VALUE);
+
+    /**
+     * @param unitsPerSecond sustained rate
+     * @param capacity units that may be taken at once after the bucket has been idle
+     */
+    TokenBucket(double unitsPerSecond, long capacity) {
+        this.nanosPerUnit = 1_000_000_000d / unitsPerSecond;
+        this.toleranceNanos = (long) (Math.max(1, capacity) * nanosPerUnit);
+    }
+
+    /**
+     * Bucket for a positive rate, or null (unlimited) when the rate is zero or negative
+     */
+    static TokenBucket of(double unitsPerSecond, long capacity) {
+        return unitsPerSecond > 0 ? new TokenBucket(unitsPerSecond, capacity) : null;
+    }
+
+    /**
+     * Takes units at nowNanos unless the bucket holds fewer
+     */
+    boolean tryAcquire(long units, long nowNanos) {
+        long increment = (long) (units * nanosPerUnit);
+        long current = arrival.get();
+        while (true) {
+            long next = Math.max(current, nowNanos) + increment;
+            if (next - nowNanos > toleranceNanos) {
+                return false;
+            }
+            if (arrival.compareAndSet(current, next)) {
+                return true;
+            }
+            current = arrival.get();
+        }
+    }
+
+    /**
+     * Returns units taken by an order that a later control refused
+     */
+    void refund(long units) {
+        arrival.addAndGet(-(long) (units * nanosPerUnit));
+    }
+
+    /**
+     * Units that could be taken at nowNanos
+     */
+    long available(long nowNanos) {
+        long ahead = Math.max(arrival.get(), nowNanos) - nowNanos;
+        return (long) ((toleranceNanos - ahead) / nanosPerUnit);
+    }
+}
@@ -0,0 +1,136 @@
+package com.trademaster.trading.risk.covariance;
+
+import java.util.stream.IntStream;
+
+/**
+ * Cholesky Factor
+ *
+ * Lower-triangular L with L * L' = covariance, used to turn independent standard normal
+ * draws into correlated return scenarios. Computed column by column (left-looking), each
+ * column's rows in parallel blocks; every entry is a dot product of two contiguous row
+ * prefixes.
+ *
+ * An EWMA covariance estimated from fewer days than instruments is only positive
+ * semi-definite, so when a pivot is not positive the factorization is retried with a
+ * small ridge added to the diagonal, starting at 1e-10 of the mean variance and growing
+ * tenfold per attempt. The ridge used is reported by jitter().
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+public final class CholeskyFactor {
+
+    private static final double INITIAL_RIDGE = 1e-10;
+    private static final int MAX_ATTEMPTS = 8;
+    private static final int PARALLEL_WORK = 1 << 15;
+
+    private final int size;
+    private final double[] lower;
+    private final double jitter;
+
+    private CholeskyFactor(int size, double[] lower, double jitter) {
+        this.size = size;
+        this.lower = lower;
+        this.jitter = jitter;
+    }
+
+    static CholeskyFactor of(double[] covariance, int n) {
+        double trace = 0.0;
+        for (int index = 0; index < n; index++) {
+            trace += covariance[index * n + index];
+        }
+        double ridge = (trace > 0.0 ? trace / n : 1.0) * INITIAL_RIDGE;
+
+        double jitter = 0.0;
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            double[] lower = new double[n * n];
+            if (decompose(covariance, n, jitter, lower)) {
+                return new CholeskyFactor(n, lower, jitter);
+            }
+            jitter = jitter == 0.0 ? ridge : jitter * 10.0;
+        }
+        throw new IllegalStateException("Covariance matrix is not positive semi-definite");
+    }
+
+    private static boolean decompose(double[] covariance, int n, double jitter, double[] lower) {
+        for (int column = 0; column < n; column++) {
+            int pivotRow = column * n;
+            double diagonal = covariance[pivotRow + column] + jitter - dot(lower, pivotRow, lower, pivotRow, column);
+            if (!(diagonal > 0.0)) {
+                return false;
+            }
+            double pivot = Math.sqrt(diagonal);
+            lower[pivotRow + column] = pivot;
+
+            int first = column + 1;
+            int blocks = (n - first + CovarianceMatrix.BLOCK_ROWS - 1) / CovarianceMatrix.BLOCK_ROWS;
+            int j = column;
+            IntStream range = IntStream.range(0, blocks);
+            (n - first > CovarianceMatrix.BLOCK_ROWS && (long) (n - first) * column >= PARALLEL_WORK
+                ? range.parallel() : range).forEach(block -> {
+                    int start = first + block * CovarianceMatrix.BLOCK_ROWS;
+                    int end = Math.min(n, start + CovarianceMatrix.BLOCK_ROWS);
+                    for (int row = start; row < end; row++) {
+                        lower[row * n + j] = (covariance[row * n + j] - dot(lower, row * n, lower, pivotRow, j)) / pivot;
+                    }
+                });
+        }
+        return true;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public double get(int row, int column) {
+        return column <= row ? lower[row * size + column] : 0.0;
+    }
+
+    /**
+     * Ridge added to the diagonal to make the factorization succeed, 0 if none
+     */
+    public double jitter() {
+        return jitter;
+    }
+
+    /**
+     * out = L * normals: correlated draws from independent standard normals
+     */
+    public void correlate(double[] normals, double[] out) {
+        for (int row = 0; row < size; row++) {
+            out[row] = dot(lower, row * size, normals, 0, row + 1);
+        }
+    }
+
+    /**
+     * out[j] = (L * normals)[rows[j]]: correlated draws for a subset of the instruments.
+     * Only normals up to the largest row are read, since L is lower-triangular.
+     */
+    public void correlate(int[] rows, double[] normals, double[] out) {
+        for (int index = 0; index < rows.length; index++) {
+            int row = rows[index];
+            out[index] = dot(lower, row * size, normals, 0, row + 1);
+        }
+    }
+
+    /**
+     * Dot product with four accumulators, so the loop is not bound by one add chain
+     */
+    static double dot(double[] left, int leftOffset, double[] right, int rightOffset, int length) {
+        double sum0 = 0.0;
+        double sum1 = 0.0;
+        double sum2 = 0.0;
+        double sum3 = 0.0;
+        int index = 0;
+        for (; index + 3 < length; index += 4) {
+            sum0 += left[leftOffset + index] * right[rightOffset + index];
+            sum1 += left[leftOffset + index + 1] * right[rightOffset + index + 1];
+            sum2 += left[leftOffset + index + 2] * right[rightOffset + index + 2];
+            sum3 += left[leftOffset + index + 3] * right[rightOffset + index + 3];
+        }
+        for (; index < length; index++) {
+            sum0 += left[leftOffset + index] * right[rightOffset + index];
+        }
+        return (sum0 + sum1) + (sum2 + sum3);
+    }
+}
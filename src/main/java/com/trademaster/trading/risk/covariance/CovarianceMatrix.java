@@ -0,0 +1,164 @@
+package com.trademaster.trading.risk.covariance;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+/**
+ * Covariance Matrix
+ *
+ * Immutable dense covariance (or correlation) matrix of daily returns over a fixed list
+ * of instruments, stored row-major in one contiguous double[] so row operations stream
+ * through memory. EwmaCovariance publishes one per update.
+ *
+ * Key Features:
+ * - Matrix-vector products in blocks of BLOCK_ROWS rows, spread over the common
+ *   fork-join pool from PARALLEL_THRESHOLD instruments on
+ * - Parametric VaR with marginal and component contributions per instrument
+ * - Cholesky factor computed once per matrix and cached for Monte Carlo simulation
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+public final class CovarianceMatrix {
+
+    static final int BLOCK_ROWS = 64;
+    static final int PARALLEL_THRESHOLD = 256;
+
+    private final String[] instruments;
+    private final Map<String, Integer> indexes;
+    private final double[] values;
+    private volatile CholeskyFactor cholesky;
+
+    /**
+     * Takes ownership of values (n * n, row-major, symmetric)
+     */
+    CovarianceMatrix(String[] instruments, double[] values) {
+        if (values.length != instruments.length * instruments.length) {
+            throw new IllegalArgumentException("Expected " + instruments.length + "^2 values: " + values.length);
+        }
+        this.instruments = instruments.clone();
+        this.values = values;
+        this.indexes = new HashMap<>(instruments.length * 2);
+        for (int index = 0; index < instruments.length; index++) {
+            indexes.put(instruments[index], index);
+        }
+    }
+
+    /**
+     * Correlation matrix from nested maps; missing pairs are uncorrelated, the diagonal is 1
+     */
+    public static CovarianceMatrix fromCorrelations(List<String> instruments,
+                                                    Map<String, Map<String, BigDecimal>> correlations) {
+        int n = instruments.size();
+        double[] values = new double[n * n];
+        for (int row = 0; row < n; row++) {
+            String instrument = instruments.get(row);
+            Map<String, BigDecimal> rowCorrelations = Optional.ofNullable(correlations)
+                .map(matrix -> matrix.get(instrument))
+                .orElse(Map.of());
+            for (int column = 0; column < n; column++) {
+                values[row * n + column] = row == column ? 1.0
+                    : Optional.ofNullable(rowCorrelations.get(instruments.get(column)))
+                        .map(BigDecimal::doubleValue)
+                        .orElse(0.0);
+            }
+        }
+        return new CovarianceMatrix(instruments.toArray(String[]::new), values);
+    }
+
+    public int size() {
+        return instruments.length;
+    }
+
+    public String instrument(int index) {
+        return instruments[index];
+    }
+
+    /**
+     * Index of the instrument, or -1 when it is not covered
+     */
+    public int indexOf(String instrument) {
+        return indexes.getOrDefault(instrument, -1);
+    }
+
+    public double get(int row, int column) {
+        return values[row * instruments.length + column];
+    }
+
+    public double variance(int index) {
+        return get(index, index);
+    }
+
+    /**
+     * out = this * vector
+     */
+    public void multiply(double[] vector, double[] out) {
+        int n = instruments.length;
+        int blocks = (n + BLOCK_ROWS - 1) / BLOCK_ROWS;
+        IntStream range = IntStream.range(0, blocks);
+        (n >= PARALLEL_THRESHOLD ? range.parallel() : range).forEach(block -> {
+            int end = Math.min(n, (block + 1) * BLOCK_ROWS);
+            for (int row = block * BLOCK_ROWS; row < end; row++) {
+                out[row] = CholeskyFactor.dot(values, row * n, vector, 0, n);
+            }
+        });
+    }
+
+    /**
+     * vector' * this * vector, the variance of a portfolio with these exposures
+     */
+    public double quadraticForm(double[] vector) {
+        double[] product = new double[instruments.length];
+        multiply(vector, product);
+        return CholeskyFactor.dot(vector, 0, product, 0, vector.length);
+    }
+
+    /**
+     * Parametric (variance-covariance) VaR of the exposures and its split by instrument
+     *
+     * @param exposures position values in currency, indexed like the instruments
+     * @param confidence e.g. 0.99
+     * @param horizonDays holding period; daily risk is scaled by its square root
+     */
+    public RiskContributions contributions(double[] exposures, double confidence, int horizonDays) {
+        int n = instruments.length;
+        double[] product = new double[n];
+        multiply(exposures, product);
+        double variance = Math.max(CholeskyFactor.dot(exposures, 0, product, 0, n), 0.0);
+        double volatility = Math.sqrt(variance * horizonDays);
+        double scale = NormalQuantile.inverseCdf(confidence) * Math.sqrt(horizonDays);
+
+        double[] marginal = new double[n];
+        double[] component = new double[n];
+        if (variance > 0.0) {
+            double sigma = Math.sqrt(variance);
+            for (int index = 0; index < n; index++) {
+                marginal[index] = scale * product[index] / sigma;
+                component[index] = exposures[index] * marginal[index];
+            }
+        }
+        return new RiskContributions(confidence, horizonDays, volatility, scale * Math.sqrt(variance),
+            marginal, component);
+    }
+
+    /**
+     * Lower-triangular factor, computed on first use and cached with this matrix
+     */
+    public CholeskyFactor cholesky() {
+        CholeskyFactor factor = cholesky;
+        if (factor == null) {
+            synchronized (this) {
+                factor = cholesky;
+                if (factor == null) {
+                    factor = CholeskyFactor.of(values, instruments.length);
+                    cholesky = factor;
+                }
+            }
+        }
+        return factor;
+    }
+}
@@ -0,0 +1,113 @@
+package com.trademaster.trading.risk.covariance;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * EWMA Covariance
+ *
+ * Exponentially weighted covariance of daily returns, updated in place as each day's
+ * returns arrive instead of being re-estimated from the full history:
+ *
+ *   sigma = decay * sigma + (1 - decay) * r * r'
+ *
+ * The first observation seeds sigma with r * r'. Means are taken as zero, as is usual
+ * for daily returns. The n * n matrix is one contiguous row-major double[] updated in
+ * parallel row blocks; snapshot() copies it into an immutable CovarianceMatrix that is
+ * reused (with its cached Cholesky factor) until the next update.
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+public final class EwmaCovariance {
+
+    /**
+     * RiskMetrics decay for daily returns
+     */
+    public static final double DEFAULT_DECAY = 0.94;
+
+    private final String[] instruments;
+    private final Map<String, Integer> indexes;
+    private final double decay;
+    private final double[] values;
+    private long observations;
+    private CovarianceMatrix snapshot;
+
+    public EwmaCovariance(List<String> instruments, double decay) {
+        if (!(decay > 0.0 && decay < 1.0)) {
+            throw new IllegalArgumentException("Decay must be in (0, 1): " + decay);
+        }
+        this.instruments = instruments.toArray(String[]::new);
+        this.decay = decay;
+        this.values = new double[this.instruments.length * this.instruments.length];
+        this.indexes = new HashMap<>(this.instruments.length * 2);
+        for (int index = 0; index < this.instruments.length; index++) {
+            indexes.put(this.instruments[index], index);
+        }
+    }
+
+    public EwmaCovariance(List<String> instruments) {
+        this(instruments, DEFAULT_DECAY);
+    }
+
+    /**
+     * Applies one day of returns, indexed like the instruments
+     */
+    public synchronized void update(double[] returns) {
+        int n = instruments.length;
+        if (returns.length != n) {
+            throw new IllegalArgumentException("Expected " + n + " returns: " + returns.length);
+        }
+        double keep = observations == 0 ? 0.0 : decay;
+        double weight = observations == 0 ? 1.0 : 1.0 - decay;
+
+        int blocks = (n + CovarianceMatrix.BLOCK_ROWS - 1) / CovarianceMatrix.BLOCK_ROWS;
+        IntStream range = IntStream.range(0, blocks);
+        (n >= CovarianceMatrix.PARALLEL_THRESHOLD ? range.parallel() : range).forEach(block -> {
+            int end = Math.min(n, (block + 1) * CovarianceMatrix.BLOCK_ROWS);
+            for (int row = block * CovarianceMatrix.BLOCK_ROWS; row < end; row++) {
+                int offset = row * n;
+                double scaled = weight * returns[row];
+                for (int column = 0; column < n; column++) {
+                    values[offset + column] = keep * values[offset + column] + scaled * returns[column];
+                }
+            }
+        });
+        observations++;
+        snapshot = null;
+    }
+
+    /**
+     * Applies one day of returns by instrument; instruments without a return count as unchanged
+     */
+    public void update(Map<String, Double> returns) {
+        double[] aligned = new double[instruments.length];
+        returns.forEach((instrument, value) -> {
+            Integer index = indexes.get(instrument);
+            if (index != null && value != null) {
+                aligned[index] = value;
+            }
+        });
+        update(aligned);
+    }
+
+    public synchronized long observations() {
+        return observations;
+    }
+
+    public double decay() {
+        return decay;
+    }
+
+    /**
+     * Current estimate; the same instance is returned until the next update
+     */
+    public synchronized CovarianceMatrix snapshot() {
+        if (snapshot == null) {
+            snapshot = new CovarianceMatrix(instruments, values.clone());
+        }
+        return snapshot;
+    }
+}
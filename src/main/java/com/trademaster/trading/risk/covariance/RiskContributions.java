@@ -0,0 +1,30 @@
+package com.trademaster.trading.risk.covariance;
+
+/**
+ * Risk Contributions
+ *
+ * Parametric VaR of a set of exposures and its Euler decomposition, indexed like the
+ * instruments of the CovarianceMatrix it came from. Amounts are in the currency of the
+ * exposures:
+ * - marginalVaR[i]: change in VaR per unit of additional exposure to instrument i
+ * - componentVaR[i]: exposure[i] * marginalVaR[i]; the components sum to valueAtRisk
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+public record RiskContributions(
+    double confidence,
+    int horizonDays,
+    double volatility,
+    double valueAtRisk,
+    double[] marginalVaR,
+    double[] componentVaR
+) {
+
+    /**
+     * Share of the VaR contributed by instrument i, negative for hedges
+     */
+    public double share(int index) {
+        return valueAtRisk > 0.0 ? componentVaR[index] / valueAtRisk : 0.0;
+    }
+}
@@ -0,0 +1,88 @@
+package com.trademaster.trading.risk.exposure;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Exposure Bucket
+ *
+ * Position and open-order exposure of one symbol or sector of one user, in paise.
+ * position is signed (short positions negative); grossPosition is the sum of the
+ * absolute position of every symbol in the bucket, which for a symbol bucket is
+ * |position|. A symbol bucket also holds its quantity, so a fill can mark the whole
+ * position at the fill price. Open notional is kept per side so a sell order does not
+ * offset a buy.
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+final class ExposureBucket {
+
+    private final AtomicLong position = new AtomicLong();
+    private final AtomicLong grossPosition = new AtomicLong();
+    private final AtomicLong quantity = new AtomicLong();
+    private final AtomicLong openBuy = new AtomicLong();
+    private final AtomicLong openSell = new AtomicLong();
+
+    /**
+     * Moves the signed position, returning the change in its absolute value so the
+     * caller can carry it into an enclosing bucket
+     */
+    long movePosition(long delta) {
+        long before = position.getAndAdd(delta);
+        long absoluteDelta = Math.abs(before + delta) - Math.abs(before);
+        grossPosition.addAndGet(absoluteDelta);
+        return absoluteDelta;
+    }
+
+    /**
+     * Sets the position to value, returning the value it replaced
+     */
+    long markPosition(long value) {
+        long before = position.getAndSet(value);
+        grossPosition.addAndGet(Math.abs(value) - Math.abs(before));
+        return before;
+    }
+
+    long addQuantity(long delta) {
+        return quantity.addAndGet(delta);
+    }
+
+    void moveGross(long delta) {
+        grossPosition.addAndGet(delta);
+    }
+
+    void moveNet(long delta) {
+        position.addAndGet(delta);
+    }
+
+    void moveOpen(boolean buy, long delta) {
+        (buy ? openBuy : openSell).addAndGet(delta);
+    }
+
+    long position() {
+        return position.get();
+    }
+
+    long openBuy() {
+        return openBuy.get();
+    }
+
+    long openSell() {
+        return openSell.get();
+    }
+
+    /**
+     * Long exposure if every open buy filled and no open sell did
+     */
+    long longExposure() {
+        return position.get() + openBuy.get();
+    }
+
+    long gross() {
+        return grossPosition.get() + openBuy.get() + openSell.get();
+    }
+
+    long net() {
+        return position.get() + openBuy.get() - openSell.get();
+    }
+}
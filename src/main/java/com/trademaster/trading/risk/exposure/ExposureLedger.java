@@ -0,0 +1,593 @@
+package com.trademaster.trading.risk.exposure;
+
+import com.trademaster.common.functional.Result;
+import com.trademaster.trading.config.ExposureConfigurationProperties;
+import com.trademaster.trading.dto.MarketDataMessage;
+import com.trademaster.trading.dto.OrderRequest;
+import com.trademaster.trading.dto.integration.PortfolioImpact;
+import com.trademaster.trading.dto.integration.PositionRisk;
+import com.trademaster.trading.entity.Order;
+import com.trademaster.trading.error.ServiceError;
+import com.trademaster.trading.integration.client.PortfolioServiceClient;
+import com.trademaster.trading.model.OrderSide;
+import com.trademaster.trading.model.OrderStatus;
+import com.trademaster.trading.model.OrderType;
+import com.trademaster.trading.pnl.PositionPnL;
+import com.trademaster.trading.pnl.StreamingPnLEngine;
+import com.trademaster.trading.repository.OrderRepository;
+import com.trademaster.trading.service.MarketDataStreamListener;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Exposure Ledger
+ *
+ * Local pre-trade exposure of every user who has traded since startup, updated as
+ * orders are accepted, filled, cancelled, rejected and expired, so risk checks read
+ * atomics instead of calling portfolio-service per order.
+ *
+ * Key Features:
+ * - Accepting an order reserves its notional from buying power with one CAS; a buy the
+ *   user cannot afford is refused without a lock or a remote call
+ * - Modifying an order reserves any increase in its notional the same way before the
+ *   broker sees it, and returns any decrease
+ * - Open order notional, gross and net exposure per symbol and per sector, and today's
+ *   accepted order count kept per user
+ * - Fills move the filled part of the open notional into the position, which is then
+ *   marked at the fill price; cancels, rejects and expiries return what the order held
+ * - A user's first order seeds their ledger from portfolio-service (buying power and
+ *   portfolio value), the streaming P&L engine (positions) and their open orders;
+ *   every reconcile-interval-millis each ledger is rebuilt the same way to correct drift
+ *
+ * Orders reserve quantity times their limit price (stop price for stop-loss orders).
+ * Market orders reserve at the symbol's last traded price from the market data stream
+ * plus market-collar-percent; that price is pinned to the order, so its fills and release
+ * return exactly what it reserved. A market buy for a symbol not yet traded on the stream
+ * is refused.
+ *
+ * Metrics:
+ * - trading.risk.exposure.users: users with a ledger
+ * - trading.risk.exposure.rejections: orders refused, tagged by reason (buying_power, no_price,
+ *   unreconciled)
+ * - trading.risk.exposure.unreconciled: ledgers seeded without portfolio-service, whose buys
+ *   are refused as UNRECONCILED until a reconciliation succeeds
+ * - trading.risk.exposure.reconcile.duration: time to rebuild all ledgers
+ * - trading.risk.exposure.reconcile.failures: users whose rebuild failed
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ExposureLedger implements MarketDataStreamListener {
+
+    private static final String PORTFOLIO = "PORTFOLIO";
+    private static final List<OrderStatus> OPEN_STATUSES = Arrays.stream(OrderStatus.values())
+        .filter(status -> !status.isTerminal())
+        .toList();
+
+    private final PortfolioServiceClient portfolioClient;
+    private final StreamingPnLEngine pnlEngine;
+    private final OrderRepository orderRepository;
+    private final MeterRegistry meterRegistry;
+    // Rule #16: Dynamic Configuration
+    private final ExposureConfigurationProperties config;
+
+    private final Map<Long, UserExposure> users = new ConcurrentHashMap<>();
+    private final Map<String, String> sectors = new HashMap<>();
+    // Last traded price per symbol, and the price each open market order was reserved at (paise)
+    private final Map<String, Long> lastPrices = new ConcurrentHashMap<>();
+    private final Map<String, Long> marketPrices = new ConcurrentHashMap<>();
+
+    private ZoneId zoneId;
+    private Counter rejections;
+    private Counter noPriceRejections;
+    private Counter unreconciledRejections;
+    private Counter unreconciled;
+    private Counter reconcileFailures;
+    private Timer reconcileTimer;
+
+    @PostConstruct
+    public void init() {
+        zoneId = ZoneId.of(config.zone());
+        config.sectors().stream()
+            .map(mapping -> mapping.split(":", 2))
+            .filter(pair -> pair.length == 2 && !pair[0].isBlank() && !pair[1].isBlank())
+            .forEach(pair -> sectors.put(pair[0].trim(), pair[1].trim()));
+        Gauge.builder("trading.risk.exposure.users", users, Map::size)
+            .description("Users with a local exposure ledger")
+            .register(meterRegistry);
+        rejections = Counter.builder("trading.risk.exposure.rejections")
+            .description("Orders refused by the exposure ledger")
+            .tag("reason", "buying_power")
+            .register(meterRegistry);
+        noPriceRejections = Counter.builder("trading.risk.exposure.rejections")
+            .description("Orders refused by the exposure ledger")
+            .tag("reason", "no_price")
+            .register(meterRegistry);
+        unreconciledRejections = Counter.builder("trading.risk.exposure.rejections")
+            .description("Orders refused by the exposure ledger")
+            .tag("reason", "unreconciled")
+            .register(meterRegistry);
+        unreconciled = Counter.builder("trading.risk.exposure.unreconciled")
+            .description("Ledgers seeded while portfolio-service did not answer")
+            .register(meterRegistry);
+        reconcileTimer = Timer.builder("trading.risk.exposure.reconcile.duration")
+            .description("Time to rebuild all exposure ledgers")
+            .register(meterRegistry);
+        reconcileFailures = Counter.builder("trading.risk.exposure.reconcile.failures")
+            .description("Users whose exposure ledger could not be rebuilt")
+            .register(meterRegistry);
+        log.info("Exposure ledger initialized - enabled: {}, sector mappings: {}", config.enabled(), sectors.size());
+    }
+
+    // ========== Order Lifecycle ==========
+
+    /**
+     * Accepts the order into the ledger: reserves a buy's notional from buying power by
+     * CAS, books its open notional and counts it towards today's trades. A market order
+     * is first priced at the collared last traded price.
+     *
+     * @return anything but RESERVED with nothing booked
+     */
+    public Reservation reserve(Order order) {
+        if (!config.enabled()) {
+            return Reservation.RESERVED;
+        }
+        boolean buy = order.getSide() == OrderSide.BUY;
+        if (order.getOrderType() == OrderType.MARKET && !pinMarketPrice(order) && buy) {
+            noPriceRejections.increment();
+            return Reservation.NO_REFERENCE_PRICE;
+        }
+        UserExposure exposure = enter(order.getUserId());
+        try {
+            if (buy && exposure.reconciledAt() == 0) {
+                marketPrices.remove(order.getOrderId());
+                unreconciledRejections.increment();
+                return Reservation.UNRECONCILED;
+            }
+            long notional = openNotional(order, order.getQuantity());
+            if (buy && !exposure.tryReserve(notional)) {
+                marketPrices.remove(order.getOrderId());
+                rejections.increment();
+                return Reservation.INSUFFICIENT_BUYING_POWER;
+            }
+            exposure.moveOpen(order.getSymbol(), sectors.get(order.getSymbol()), buy, notional);
+            exposure.open(order.getOrderId());
+            exposure.countTrade(today());
+            return Reservation.RESERVED;
+        } finally {
+            exposure.exit();
+        }
+    }
+
+    /**
+     * Books a fill: the filled part of the open notional becomes position, and the whole
+     * position is marked at the fill price
+     */
+    public void fill(Order order, int quantity, BigDecimal price) {
+        if (!config.enabled() || quantity <= 0 || price == null) {
+            return;
+        }
+        UserExposure exposure = enter(order.getUserId());
+        try {
+            long released = openNotional(order, quantity);
+            long pricePaise = paise(price);
+            long filled = pricePaise * quantity;
+            boolean buy = order.getSide() == OrderSide.BUY;
+            String sector = sectors.get(order.getSymbol());
+            exposure.moveOpen(order.getSymbol(), sector, buy, -released);
+            exposure.fillPosition(order.getSymbol(), sector, buy ? quantity : -quantity, pricePaise);
+            exposure.settle(buy ? released : 0L, buy ? -filled : filled);
+            if (order.getStatus() != null && order.getStatus().isTerminal()) {
+                exposure.close(order.getOrderId());
+                marketPrices.remove(order.getOrderId());
+            }
+        } finally {
+            exposure.exit();
+        }
+    }
+
+    /**
+     * Returns what the order still holds when it is cancelled, rejected or expired. Only the
+     * first release of an order the user's ledger booked has any effect, so a release
+     * repeated by another path, or of an order the ledger was rebuilt without, is ignored.
+     */
+    public void release(Order order) {
+        if (!config.enabled()) {
+            return;
+        }
+        UserExposure exposure = enter(order.getUserId());
+        try {
+            if (!exposure.close(order.getOrderId())) {
+                marketPrices.remove(order.getOrderId());
+                return;
+            }
+            long released = openNotional(order, order.getRemainingQuantity());
+            boolean buy = order.getSide() == OrderSide.BUY;
+            exposure.moveOpen(order.getSymbol(), sectors.get(order.getSymbol()), buy, -released);
+            exposure.settle(buy ? released : 0L, 0L);
+            marketPrices.remove(order.getOrderId());
+        } finally {
+            exposure.exit();
+        }
+    }
+
+    /**
+     * Moves an open order's booking to new terms (null keeps a term): a buy reserves any
+     * increase by CAS like a new order, and any decrease is returned. Call before the
+     * order itself is changed.
+     *
+     * @return INSUFFICIENT_BUYING_POWER or UNRECONCILED, with nothing changed, if an
+     *         increase cannot be covered
+     */
+    public Reservation modify(Order order, Integer quantity, BigDecimal limitPrice, BigDecimal stopPrice) {
+        if (!config.enabled()) {
+            return Reservation.RESERVED;
+        }
+        UserExposure exposure = enter(order.getUserId());
+        try {
+            long delta = modifiedNotional(order, quantity, limitPrice, stopPrice)
+                - openNotional(order, order.getRemainingQuantity());
+            boolean buy = order.getSide() == OrderSide.BUY;
+            if (buy && delta > 0 && exposure.reconciledAt() == 0) {
+                unreconciledRejections.increment();
+                return Reservation.UNRECONCILED;
+            }
+            if (buy && delta > 0 && !exposure.tryReserve(delta)) {
+                rejections.increment();
+                return Reservation.INSUFFICIENT_BUYING_POWER;
+            }
+            if (buy && delta < 0) {
+                exposure.hold(delta);
+            }
+            exposure.moveOpen(order.getSymbol(), sectors.get(order.getSymbol()), buy, delta);
+            return Reservation.RESERVED;
+        } finally {
+            exposure.exit();
+        }
+    }
+
+    /**
+     * Undoes a modify() with the same terms, without the buying power check, when the
+     * broker did not take the modification; the order must still carry its old terms
+     */
+    public void revertModify(Order order, Integer quantity, BigDecimal limitPrice, BigDecimal stopPrice) {
+        if (!config.enabled()) {
+            return;
+        }
+        UserExposure exposure = enter(order.getUserId());
+        try {
+            long delta = modifiedNotional(order, quantity, limitPrice, stopPrice)
+                - openNotional(order, order.getRemainingQuantity());
+            boolean buy = order.getSide() == OrderSide.BUY;
+            exposure.moveOpen(order.getSymbol(), sectors.get(order.getSymbol()), buy, -delta);
+            exposure.hold(buy ? -delta : 0L);
+        } finally {
+            exposure.exit();
+        }
+    }
+
+    // ========== Market Data ==========
+
+    @Override
+    public void onPriceUpdate(MarketDataMessage.PriceUpdate priceUpdate) {
+        Optional.ofNullable(priceUpdate)
+            .filter(update -> update.symbol() != null && update.lastPrice() != null)
+            .ifPresent(update -> onPrice(update.symbol(), update.lastPrice()));
+    }
+
+    @Override
+    public void onTrade(MarketDataMessage.TradeExecution trade) {
+        Optional.ofNullable(trade)
+            .filter(t -> t.symbol() != null && t.price() != null)
+            .ifPresent(t -> onPrice(t.symbol(), t.price()));
+    }
+
+    /**
+     * Records the symbol's last traded price, which prices the next market orders
+     */
+    public void onPrice(String symbol, BigDecimal price) {
+        long pricePaise = paise(price);
+        if (pricePaise > 0) {
+            lastPrices.put(symbol, pricePaise);
+        }
+    }
+
+    // ========== Reads ==========
+
+    /**
+     * Notional the order reserves: its limit or stop price, or for a market order the
+     * price it was reserved at, else the collared last traded price (zero if none)
+     */
+    public BigDecimal notional(Order order) {
+        long price = order.getOrderType() == OrderType.MARKET
+            ? marketPrices.getOrDefault(order.getOrderId(), collaredLastPrice(order.getSymbol()))
+            : price(order);
+        return rupees(price * order.getQuantity());
+    }
+
+    /**
+     * Value of an order request as reserve would price it: its limit or stop price, or for
+     * a market order the collared last traded price (zero if none)
+     */
+    public BigDecimal orderValue(OrderRequest request) {
+        return request.orderType() == OrderType.MARKET
+            ? rupees(collaredLastPrice(request.symbol()) * request.quantity())
+            : request.getEstimatedOrderValue();
+    }
+
+    /**
+     * Whether the user's ledger holds buying power confirmed by portfolio-service
+     */
+    public boolean isReconciled(Long userId) {
+        return exposure(userId).reconciledAt() > 0;
+    }
+
+    public BigDecimal availableBuyingPower(Long userId) {
+        return rupees(exposure(userId).available());
+    }
+
+    public int tradesToday(Long userId) {
+        return exposure(userId).tradesOn(today());
+    }
+
+    /**
+     * Long exposure to the symbol as a percentage of portfolio value if every open buy,
+     * plus one more of additionalValue, filled
+     */
+    public BigDecimal symbolConcentration(Long userId, String symbol, BigDecimal additionalValue) {
+        UserExposure exposure = exposure(userId);
+        return concentration(exposure.symbol(symbol), additionalValue, exposure.portfolioValue());
+    }
+
+    /**
+     * Sector of the symbol from trading.risk.exposure.sectors, empty if unmapped
+     */
+    public Optional<String> sectorOf(String symbol) {
+        return Optional.ofNullable(symbol).map(sectors::get);
+    }
+
+    /**
+     * Long exposure to the sector as a percentage of portfolio value, as symbolConcentration
+     */
+    public BigDecimal sectorConcentration(Long userId, String sector, BigDecimal additionalValue) {
+        UserExposure exposure = exposure(userId);
+        return concentration(exposure.sector(sector), additionalValue, exposure.portfolioValue());
+    }
+
+    public ExposureSnapshot snapshot(Long userId) {
+        UserExposure exposure = exposure(userId);
+        return new ExposureSnapshot(userId, rupees(exposure.available()), rupees(exposure.reserved()),
+            rupees(exposure.openNotional()), rupees(exposure.portfolioValue()), exposure.tradesOn(today()),
+            snapshot(exposure.symbols()), snapshot(exposure.sectors()),
+            exposure.reconciledAt() > 0 ? Instant.ofEpochMilli(exposure.reconciledAt()) : null);
+    }
+
+    // ========== Reconciliation ==========
+
+    /**
+     * Rebuilds every ledger from portfolio-service, positions and open orders. Runs even
+     * when the ledger is disabled, so reads then see portfolio-service's view as of the
+     * last run.
+     */
+    @Scheduled(fixedDelayString = "${trading.risk.exposure.reconcile-interval-millis:30000}")
+    public void reconcile() {
+        if (users.isEmpty()) {
+            return;
+        }
+        long start = System.nanoTime();
+        long rebuilt = users.keySet().stream()
+            .filter(this::reconcile)
+            .count();
+        reconcileTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        log.debug("Exposure ledgers reconciled - {} of {} users", rebuilt, users.size());
+    }
+
+    private boolean reconcile(Long userId) {
+        UserExposure current = users.get(userId);
+        long mutations = current != null ? current.mutations() : 0L;
+        try {
+            return fetch(userId)
+                .map(source -> reconcile(userId, source.buyingPower(), source.portfolioValue(),
+                    pnlEngine.positions(userId), orderRepository.findByUserIdAndStatusIn(userId, OPEN_STATUSES),
+                    current, mutations))
+                .orElseGet(() -> {
+                    reconcileFailures.increment();
+                    return false;
+                });
+        } catch (RuntimeException e) {
+            reconcileFailures.increment();
+            log.warn("Exposure reconciliation failed for user {}: {}", userId, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Installs a ledger built from the given sources, unless the current one was updated
+     * after its mutation count was read or is being updated; that user is rebuilt on the
+     * next run instead. The check and the swap are one step: the current ledger is retired
+     * inside the map's compute, so no update can land on it after the check.
+     */
+    boolean reconcile(long userId, BigDecimal buyingPower, BigDecimal portfolioValue, List<PositionPnL> positions,
+                      List<Order> openOrders, UserExposure current, long mutations) {
+        UserExposure rebuilt = new UserExposure(userId, paise(buyingPower), paise(portfolioValue),
+            current != null ? current.trades() : 0L, System.currentTimeMillis());
+        positions.forEach(position -> rebuilt.addPosition(position.symbol(), sectors.get(position.symbol()),
+            position.quantity(), paise(position.marketValue())));
+        openOrders.forEach(order -> {
+            if (order.getOrderType() == OrderType.MARKET && !marketPrices.containsKey(order.getOrderId())) {
+                pinMarketPrice(order);
+            }
+            long notional = openNotional(order, order.getRemainingQuantity());
+            boolean buy = order.getSide() == OrderSide.BUY;
+            rebuilt.moveOpen(order.getSymbol(), sectors.get(order.getSymbol()), buy, notional);
+            rebuilt.hold(buy ? notional : 0L);
+            rebuilt.open(order.getOrderId());
+        });
+        if (current == null) {
+            return users.putIfAbsent(userId, rebuilt) == null;
+        }
+        return users.compute(userId, (id, existing) ->
+            existing == current && current.retire(mutations) ? rebuilt : existing) == rebuilt;
+    }
+
+    private record Source(BigDecimal buyingPower, BigDecimal portfolioValue) {}
+
+    /**
+     * Buying power (available margin) and portfolio value from portfolio-service
+     */
+    private Optional<Source> fetch(Long userId) {
+        Result<PositionRisk, ServiceError> risk = portfolioClient.getPositionRisk(userId, PORTFOLIO);
+        Result<PortfolioImpact, ServiceError> impact = portfolioClient.calculateImpact(userId, PORTFOLIO, 0,
+            BigDecimal.ZERO);
+        return switch (risk) {
+            case Result.Success<PositionRisk, ServiceError> riskSuccess -> switch (impact) {
+                case Result.Success<PortfolioImpact, ServiceError> impactSuccess -> Optional.of(new Source(
+                    riskSuccess.value().availableMargin(), impactSuccess.value().newPortfolioValue()));
+                case Result.Failure<PortfolioImpact, ServiceError> failure -> {
+                    log.warn("Portfolio value unavailable for user {}: {}", userId, failure.error());
+                    yield Optional.empty();
+                }
+            };
+            case Result.Failure<PositionRisk, ServiceError> failure -> {
+                log.warn("Buying power unavailable for user {}: {}", userId, failure.error());
+                yield Optional.empty();
+            }
+        };
+    }
+
+    /**
+     * The user's ledger, seeded on first use; if portfolio-service does not answer, an
+     * unreconciled ledger with no buying power is used until the next reconciliation, and
+     * its buys are refused as UNRECONCILED rather than for insufficient buying power
+     */
+    private UserExposure exposure(Long userId) {
+        UserExposure exposure = users.get(userId);
+        if (exposure != null) {
+            return exposure;
+        }
+        if (!reconcile(userId) && users.putIfAbsent(userId, new UserExposure(userId, 0L, 0L, 0L, 0L)) == null) {
+            unreconciled.increment();
+            log.warn("Exposure ledger for user {} seeded without portfolio-service; buys are refused until "
+                + "it reconciles", userId);
+        }
+        return users.get(userId);
+    }
+
+    /**
+     * The user's ledger, entered for an update; spins while a reconciliation swaps it
+     * for a rebuilt one
+     */
+    private UserExposure enter(Long userId) {
+        UserExposure exposure = exposure(userId);
+        while (!exposure.enter()) {
+            Thread.onSpinWait();
+            exposure = exposure(userId);
+        }
+        return exposure;
+    }
+
+    // ========== Helpers ==========
+
+    private long today() {
+        return LocalDate.now(zoneId).toEpochDay();
+    }
+
+    /**
+     * Notional the order holds for quantity, at the price it was accepted with
+     */
+    private long openNotional(Order order, int quantity) {
+        return price(order) * quantity;
+    }
+
+    private long price(Order order) {
+        return switch (order.getOrderType()) {
+            case MARKET -> marketPrices.getOrDefault(order.getOrderId(), 0L);
+            case LIMIT, STOP_LIMIT -> paise(order.getLimitPrice());
+            case STOP_LOSS -> paise(order.getStopPrice());
+        };
+    }
+
+    /**
+     * Notional the order would hold on the given terms; a market order keeps its pinned price
+     */
+    private long modifiedNotional(Order order, Integer quantity, BigDecimal limitPrice, BigDecimal stopPrice) {
+        long price = switch (order.getOrderType()) {
+            case MARKET -> price(order);
+            case LIMIT, STOP_LIMIT -> limitPrice != null ? paise(limitPrice) : price(order);
+            case STOP_LOSS -> stopPrice != null ? paise(stopPrice) : price(order);
+        };
+        int filled = order.getQuantity() - order.getRemainingQuantity();
+        return price * Math.max(0, Optional.ofNullable(quantity).orElse(order.getQuantity()) - filled);
+    }
+
+    /**
+     * Pins the collared last traded price to a market order
+     *
+     * @return false if the symbol has no last traded price yet
+     */
+    private boolean pinMarketPrice(Order order) {
+        long price = collaredLastPrice(order.getSymbol());
+        if (price <= 0) {
+            return false;
+        }
+        marketPrices.put(order.getOrderId(), price);
+        return true;
+    }
+
+    private long collaredLastPrice(String symbol) {
+        Long last = symbol != null ? lastPrices.get(symbol) : null;
+        return last != null ? Math.round(last * (1.0 + config.marketCollarPercent() / 100.0)) : 0L;
+    }
+
+    private static BigDecimal concentration(ExposureBucket bucket, BigDecimal additionalValue, long portfolioValue) {
+        long exposure = (bucket != null ? bucket.longExposure() : 0L)
+            + paise(Optional.ofNullable(additionalValue).orElse(BigDecimal.ZERO));
+        if (exposure <= 0) {
+            return BigDecimal.ZERO;
+        }
+        return portfolioValue > 0
+            ? BigDecimal.valueOf(exposure * 100.0 / portfolioValue).setScale(2, RoundingMode.HALF_UP)
+            : BigDecimal.valueOf(100);
+    }
+
+    private static Map<String, ExposureSnapshot.Exposure> snapshot(Map<String, ExposureBucket> buckets) {
+        return buckets.entrySet().stream()
+            .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, entry -> {
+                ExposureBucket bucket = entry.getValue();
+                return new ExposureSnapshot.Exposure(rupees(bucket.position()), rupees(bucket.openBuy()),
+                    rupees(bucket.openSell()), rupees(bucket.gross()), rupees(bucket.net()));
+            }));
+    }
+
+    static long paise(BigDecimal rupees) {
+        return rupees != null ? rupees.movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValueExact() : 0L;
+    }
+
+    static BigDecimal rupees(long paise) {
+        return BigDecimal.valueOf(paise, 2);
+    }
+}
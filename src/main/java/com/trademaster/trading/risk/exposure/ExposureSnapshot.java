@@ -0,0 +1,44 @@
+package com.trademaster.trading.risk.exposure;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Exposure Snapshot
+ *
+ * Point-in-time view of one user's exposure ledger, in rupees. Symbol exposure is keyed
+ * by symbol across exchanges; sector exposure covers the symbols mapped in
+ * trading.risk.exposure.sectors. reconciledAt is null until portfolio-service has
+ * answered for the user, in which case buying power and portfolio value are zero.
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+public record ExposureSnapshot(
+    Long userId,
+    BigDecimal availableBuyingPower,
+    BigDecimal reservedBuyingPower,
+    BigDecimal openOrderNotional,
+    BigDecimal portfolioValue,
+    int tradesToday,
+    Map<String, Exposure> symbols,
+    Map<String, Exposure> sectors,
+    Instant reconciledAt
+) {
+
+    /**
+     * Exposure of one symbol or sector
+     *
+     * @param position signed value of the position, negative when short
+     * @param gross absolute position plus open orders on both sides
+     * @param net position plus open buys minus open sells
+     */
+    public record Exposure(
+        BigDecimal position,
+        BigDecimal openBuy,
+        BigDecimal openSell,
+        BigDecimal gross,
+        BigDecimal net
+    ) {}
+}
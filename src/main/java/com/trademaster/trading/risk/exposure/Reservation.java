@@ -0,0 +1,37 @@
+package com.trademaster.trading.risk.exposure;
+
+/**
+ * Reservation
+ *
+ * Outcome of ExposureLedger.reserve. Anything but RESERVED leaves the ledger as it was.
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+public enum Reservation {
+
+    /**
+     * The order's notional is reserved and its exposure booked
+     */
+    RESERVED,
+
+    /**
+     * The user's buying power cannot cover the buy
+     */
+    INSUFFICIENT_BUYING_POWER,
+
+    /**
+     * A market buy for a symbol with no last traded price yet, so there is no notional to reserve
+     */
+    NO_REFERENCE_PRICE,
+
+    /**
+     * A buy for a user whose buying power portfolio-service has not confirmed yet, because
+     * it did not answer when the user's ledger was seeded
+     */
+    UNRECONCILED;
+
+    public boolean reserved() {
+        return this == RESERVED;
+    }
+}
@@ -0,0 +1,253 @@
+package com.trademaster.trading.risk.exposure;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * User Exposure
+ *
+ * One user's ledger in paise: buying power left after reservations, what open orders
+ * hold, per-symbol and per-sector exposure, and today's accepted order count. Every
+ * field is an atomic updated on its own, so reads never block; a reader racing an
+ * update may see one field moved and not yet another.
+ *
+ * Buying power is reserved by compare-and-set on available, so concurrent orders of
+ * one user can never reserve more than the user has.
+ *
+ * ExposureLedger makes its updates between enter() and exit(). A reconciliation swaps
+ * the exposure for a rebuilt one only if retire() finds no update since it read its
+ * sources and none in flight; an update entering after that sees the exposure retired
+ * and goes to the replacement. Both sides write one volatile and then read the other's,
+ * so at least one of them sees the other. The trade count packs the epoch
+ * day into the high 32 bits, so a new day resets it in the same CAS that counts.
+ *
+ * The IDs of the orders booked here are kept, so an order is released at most once and
+ * an order this exposure never booked (placed after it was rebuilt) is not released.
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+final class UserExposure {
+
+    private static final Function<String, ExposureBucket> NEW_BUCKET = key -> new ExposureBucket();
+
+    private final long userId;
+    private final long portfolioValue;
+    private final long reconciledAt;
+    private final AtomicLong available;
+    private final AtomicLong reserved = new AtomicLong();
+    private final AtomicLong openNotional = new AtomicLong();
+    private final AtomicLong trades;
+    private final LongAdder mutations = new LongAdder();
+    private final AtomicLong active = new AtomicLong();
+    private volatile boolean retired;
+    private final Map<String, ExposureBucket> symbols = new ConcurrentHashMap<>();
+    private final Map<String, ExposureBucket> sectors = new ConcurrentHashMap<>();
+    private final Set<String> openOrders = ConcurrentHashMap.newKeySet();
+
+    UserExposure(long userId, long buyingPower, long portfolioValue, long trades, long reconciledAt) {
+        this.userId = userId;
+        this.available = new AtomicLong(buyingPower);
+        this.portfolioValue = portfolioValue;
+        this.trades = new AtomicLong(trades);
+        this.reconciledAt = reconciledAt;
+    }
+
+    long userId() {
+        return userId;
+    }
+
+    // ========== Updates ==========
+
+    /**
+     * Starts an update
+     *
+     * @return false, with nothing started, if a reconciliation has retired this exposure
+     */
+    boolean enter() {
+        mutations.increment();
+        active.incrementAndGet();
+        if (retired) {
+            active.decrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    void exit() {
+        active.decrementAndGet();
+    }
+
+    /**
+     * Retires this exposure for replacement, unless it was updated after its mutation
+     * count was read or an update is in flight
+     */
+    boolean retire(long mutationsRead) {
+        retired = true;
+        if (active.get() != 0 || mutations.sum() != mutationsRead) {
+            retired = false;
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Takes amount from available unless that would leave it below zero
+     */
+    boolean tryReserve(long amount) {
+        long current = available.get();
+        while (current >= amount) {
+            if (available.compareAndSet(current, current - amount)) {
+                reserved.addAndGet(amount);
+                return true;
+            }
+            current = available.get();
+        }
+        return false;
+    }
+
+    /**
+     * Returns reservedAmount to available and moves it by cashDelta (negative for a buy fill)
+     */
+    void settle(long reservedAmount, long cashDelta) {
+        reserved.addAndGet(-reservedAmount);
+        available.addAndGet(reservedAmount + cashDelta);
+    }
+
+    /**
+     * Moves amount from available to reserved without the buying power check, for orders
+     * already accepted; a negative amount moves it back
+     */
+    void hold(long amount) {
+        reserved.addAndGet(amount);
+        available.addAndGet(-amount);
+    }
+
+    void moveOpen(String symbol, String sector, boolean buy, long notional) {
+        openNotional.addAndGet(notional);
+        bucket(symbols, symbol).moveOpen(buy, notional);
+        if (sector != null) {
+            bucket(sectors, sector).moveOpen(buy, notional);
+        }
+    }
+
+    /**
+     * Adds a seeded position (one per exchange) at its market value
+     */
+    void addPosition(String symbol, String sector, long quantity, long value) {
+        ExposureBucket bucket = bucket(symbols, symbol);
+        bucket.addQuantity(quantity);
+        long grossDelta = bucket.movePosition(value);
+        moveSector(sector, value, grossDelta);
+    }
+
+    /**
+     * Moves the position by a filled quantity and marks all of it at the fill price
+     */
+    void fillPosition(String symbol, String sector, long quantityDelta, long pricePaise) {
+        ExposureBucket bucket = bucket(symbols, symbol);
+        long value = bucket.addQuantity(quantityDelta) * pricePaise;
+        long before = bucket.markPosition(value);
+        moveSector(sector, value - before, Math.abs(value) - Math.abs(before));
+    }
+
+    private void moveSector(String sector, long netDelta, long grossDelta) {
+        if (sector != null) {
+            ExposureBucket sectorBucket = bucket(sectors, sector);
+            sectorBucket.moveNet(netDelta);
+            sectorBucket.moveGross(grossDelta);
+        }
+    }
+
+    /**
+     * Records that the order's open notional is booked here
+     */
+    void open(String orderId) {
+        openOrders.add(orderId);
+    }
+
+    /**
+     * Forgets a booked order
+     *
+     * @return false if the order was not booked here or was already closed
+     */
+    boolean close(String orderId) {
+        return openOrders.remove(orderId);
+    }
+
+    /**
+     * Counts one accepted order on the given epoch day
+     */
+    void countTrade(long epochDay) {
+        long current = trades.get();
+        while (!trades.compareAndSet(current, (current >>> 32) == epochDay ? current + 1 : epochDay << 32 | 1)) {
+            current = trades.get();
+        }
+    }
+
+    // ========== Reads ==========
+
+    long available() {
+        return available.get();
+    }
+
+    long reserved() {
+        return reserved.get();
+    }
+
+    long openNotional() {
+        return openNotional.get();
+    }
+
+    long portfolioValue() {
+        return portfolioValue;
+    }
+
+    long reconciledAt() {
+        return reconciledAt;
+    }
+
+    int tradesOn(long epochDay) {
+        long current = trades.get();
+        return (current >>> 32) == epochDay ? (int) current : 0;
+    }
+
+    /**
+     * Packed trade counter, carried into the exposure that replaces this one
+     */
+    long trades() {
+        return trades.get();
+    }
+
+    /**
+     * Number of updates applied so far; a reconciliation compares it before and after
+     */
+    long mutations() {
+        return mutations.sum();
+    }
+
+    ExposureBucket symbol(String symbol) {
+        return symbols.get(symbol);
+    }
+
+    ExposureBucket sector(String sector) {
+        return sectors.get(sector);
+    }
+
+    Map<String, ExposureBucket> symbols() {
+        return symbols;
+    }
+
+    Map<String, ExposureBucket> sectors() {
+        return sectors;
+    }
+
+    private static ExposureBucket bucket(Map<String, ExposureBucket> buckets, String key) {
+        ExposureBucket bucket = buckets.get(key);
+        return bucket != null ? bucket : buckets.computeIfAbsent(key, NEW_BUCKET);
+    }
+}
@@ -1,14 +1,15 @@
 package com.trademaster.trading.risk.impl;
 
-import com.trademaster.common.functional.Result;
 import com.trademaster.common.functional.Validation;
 import com.trademaster.trading.dto.OrderRequest;
-import com.trademaster.trading.dto.integration.PortfolioImpact;
-import com.trademaster.trading.dto.integration.PositionRisk;
-import com.trademaster.trading.error.ServiceError;
-import com.trademaster.trading.integration.client.PortfolioServiceClient;
 import com.trademaster.trading.entity.Order;
+import com.trademaster.trading.logging.LogSampler;
+import com.trademaster.trading.model.OrderSide;
 import com.trademaster.trading.risk.*;
+import com.trademaster.trading.risk.exposure.ExposureLedger;
+import com.trademaster.trading.risk.exposure.ExposureSnapshot;
+import com.trademaster.trading.risk.limits.RiskLimitCache;
+import com.trademaster.trading.risk.limits.UserRiskLimits;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
@@ -17,12 +18,9 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
-import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
@@ -37,18 +35,26 @@ import java.util.stream.Stream;
  * MANDATORY: Rule #13 - Stream API Mastery
  * MANDATORY: Rule #14 - Pattern Matching Excellence
  * MANDATORY: Rule #15 - Structured Logging & Monitoring
- * MANDATORY: Rule #25 - Circuit Breaker Implementation
  *
  * Comprehensive functional risk checking system with zero if-else statements.
  * Uses Validation monad for error accumulation and pattern matching throughout.
  *
  * Risk Checks Implemented:
- * - Buying power validation
- * - Position limit validation
+ * - Buying power validation (exposure ledger)
  * - Order value limit validation
- * - Daily trade limit validation
- * - Margin requirement validation
- * - Concentration risk validation
+ * - Daily trade limit validation (exposure ledger)
+ * - Symbol and sector concentration risk validation (exposure ledger)
+ *
+ * Position limit and margin requirement checks call portfolio-service, so they are IO
+ * validators (PositionLimitValidator, MarginRequirementValidator) that ValidatorPipeline
+ * runs concurrently on placement.
+ *
+ * Ledger-backed checks are reads of the user's ExposureLedger; the order's notional is
+ * reserved from buying power by CAS when OrderServiceImpl accepts it, which also counts
+ * it towards the daily trade limit.
+ *
+ * Limits are the user's own from RiskLimitCache, kept in memory and refreshed as
+ * risk_limits changes, else the trading.risk defaults.
  *
  * @author TradeMaster Development Team
  * @version 1.0.0
@@ -58,29 +64,15 @@ import java.util.stream.Stream;
 @RequiredArgsConstructor
 public class FunctionalRiskCheckEngine implements RiskCheckEngine {
 
-    private final PortfolioServiceClient portfolioClient;
     private final MeterRegistry meterRegistry;
-
-    // Daily trade counters (userId -> count)
-    private final Map<Long, AtomicInteger> dailyTradeCounters = new ConcurrentHashMap<>();
-    private final Map<Long, LocalDate> lastResetDates = new ConcurrentHashMap<>();
+    private final LogSampler logSampler;
+    private final ExposureLedger exposureLedger;
+    private final RiskLimitCache riskLimitCache;
 
     // Configuration constants (Rule #16: Dynamic Configuration)
-    @Value("${trading.risk.max-order-value:10000000}")
-    private BigDecimal maxOrderValue;
-
-    @Value("${trading.risk.max-daily-trades:100}")
-    private Integer maxDailyTrades;
-
-    @Value("${trading.risk.max-position-concentration:30.0}")
-    private BigDecimal maxConcentrationPercent;
-
     @Value("${trading.risk.min-buying-power-buffer:0.1}")
     private BigDecimal minBuyingPowerBuffer;
 
-    @Value("${trading.risk.max-margin-usage:0.8}")
-    private BigDecimal maxMarginUsage;
-
     // Metrics constants (Rule #15)
     private static final String RISK_CHECK_METRIC = "trading.risk.check";
     private static final String RISK_VIOLATION_METRIC = "trading.risk.violations";
@@ -93,7 +85,7 @@ public class FunctionalRiskCheckEngine implements RiskCheckEngine {
     public RiskCheckResult performRiskCheck(OrderRequest orderRequest, Long userId) {
         long startTime = System.nanoTime();
 
-        log.info("Performing risk check for user {} symbol {} - order value: {}",
+        logSampler.info(log, "risk.check", "Performing risk check for user {} symbol {} - order value: {}",
                 userId, orderRequest.symbol(), orderRequest.getEstimatedOrderValue());
 
         // Functional risk check pipeline (Rule #3, #11)
@@ -115,7 +107,8 @@ public class FunctionalRiskCheckEngine implements RiskCheckEngine {
             OrderRequest modificationRequest,
             Long userId) {
 
-        log.info("Performing modification risk check for order {}", existingOrder.getId());
+        logSampler.info(log, "risk.modification-check", "Performing modification risk check for order {}",
+                existingOrder.getId());
 
         // For modifications, perform same checks as new orders
         return performRiskCheck(modificationRequest, userId);
@@ -128,12 +121,14 @@ public class FunctionalRiskCheckEngine implements RiskCheckEngine {
     @Override
     public CompletableFuture<RiskMetrics> getRiskMetrics(Long userId) {
         return CompletableFuture.supplyAsync(() -> {
-            int dailyTrades = getDailyTradeCount(userId);
+            ExposureSnapshot exposure = exposureLedger.snapshot(userId);
 
             return RiskMetrics.builder()
                 .userId(userId)
-                .dailyTradeCount(dailyTrades)
-                .maxOrderValue(maxOrderValue)
+                .portfolioValue(exposure.portfolioValue())
+                .buyingPower(exposure.availableBuyingPower())
+                .dailyTradeCount(exposure.tradesToday())
+                .maxOrderValue(riskLimitCache.limits(userId).maxOrderValue())
                 .currentRiskScore(0.0)
                 .riskUtilization(0.0)
                 .calculatedAt(java.time.Instant.now())
@@ -149,7 +144,8 @@ public class FunctionalRiskCheckEngine implements RiskCheckEngine {
     public CompletableFuture<Boolean> isApproachingRiskLimits(Long userId) {
         return getRiskMetrics(userId)
             .thenApply(metrics -> {
-                double usagePercent = (double) metrics.getDailyTradeCount() / maxDailyTrades;
+                double usagePercent = (double) metrics.getDailyTradeCount()
+                    / riskLimitCache.limits(userId).maxDailyTrades();
                 return usagePercent >= 0.8;  // 80% threshold
             });
     }
@@ -161,22 +157,22 @@ public class FunctionalRiskCheckEngine implements RiskCheckEngine {
      */
     private RiskCheckResult performRiskCheckFunctionally(OrderRequest request, Long userId) {
         BigDecimal orderValue = request.getEstimatedOrderValue();
+        UserRiskLimits limits = riskLimitCache.limits(userId);
 
         // Compose all risk checks using functional pipeline
         List<Function<OrderRequest, Validation<OrderRequest, RiskError>>> riskChecks = List.of(
-            r -> checkOrderValueLimit(r, orderValue),
-            r -> checkDailyTradeLimit(userId),
-            r -> checkBuyingPower(userId, orderValue),
-            r -> checkPositionLimits(userId, r),
-            r -> checkConcentrationRisk(userId, r, orderValue),
-            r -> checkMarginRequirements(userId, orderValue)
+            r -> checkOrderValueLimit(r, orderValue, limits),
+            r -> checkDailyTradeLimit(userId, limits),
+            r -> checkBuyingPower(userId, r, orderValue),
+            r -> checkConcentrationRisk(userId, r, orderValue, limits),
+            r -> checkSectorConcentration(userId, r, orderValue, limits)
         );
 
         // Execute all checks and accumulate errors
         Validation<OrderRequest, RiskError> result = Validation.validateWith(request, riskChecks);
 
         // Convert to RiskCheckResult
-        return adaptToRiskCheckResult(result, userId);
+        return adaptToRiskCheckResult(result);
     }
 
     /**
@@ -185,12 +181,13 @@ public class FunctionalRiskCheckEngine implements RiskCheckEngine {
      */
     private Validation<OrderRequest, RiskError> checkOrderValueLimit(
             OrderRequest request,
-            BigDecimal orderValue) {
+            BigDecimal orderValue,
+            UserRiskLimits limits) {
 
         return Optional.ofNullable(orderValue)
-            .filter(value -> value.compareTo(maxOrderValue) > 0)
+            .filter(value -> value.compareTo(limits.maxOrderValue()) > 0)
             .map(value -> Validation.<OrderRequest, RiskError>invalid(
-                RiskError.orderValueLimitExceeded(value, maxOrderValue)))
+                RiskError.orderValueLimitExceeded(value, limits.maxOrderValue())))
             .orElseGet(() -> Validation.valid(request));
     }
 
@@ -198,201 +195,95 @@ public class FunctionalRiskCheckEngine implements RiskCheckEngine {
      * Check daily trade limit
      * Rule #3: Functional programming with Optional
      */
-    private Validation<OrderRequest, RiskError> checkDailyTradeLimit(Long userId) {
-        int currentTrades = getDailyTradeCount(userId);
+    private Validation<OrderRequest, RiskError> checkDailyTradeLimit(Long userId, UserRiskLimits limits) {
+        int currentTrades = exposureLedger.tradesToday(userId);
 
         return Optional.of(currentTrades)
-            .filter(count -> count >= maxDailyTrades)
+            .filter(count -> count >= limits.maxDailyTrades())
             .map(count -> Validation.<OrderRequest, RiskError>invalid(
-                RiskError.dailyTradeLimitExceeded(count, maxDailyTrades)))
+                RiskError.dailyTradeLimitExceeded(count, limits.maxDailyTrades())))
             .orElseGet(() -> Validation.valid(null));
     }
 
     /**
      * Check buying power
-     * Rule #25: Circuit breaker via PortfolioServiceClient
-     * Rule #11: Result monad error handling
+     * Lock-free read of the exposure ledger; sells never need buying power
+     * Rule #14: Pattern matching with switch expressions
      */
     private Validation<OrderRequest, RiskError> checkBuyingPower(
             Long userId,
+            OrderRequest request,
             BigDecimal orderValue) {
 
-        // Get portfolio impact from portfolio service (with circuit breaker)
-        Result<PortfolioImpact, ServiceError> impactResult =
-            portfolioClient.calculateImpact(userId, "PORTFOLIO", 0, orderValue);
-
-        return switch (impactResult) {
-            case Result.Success<PortfolioImpact, ServiceError> success -> {
-                PortfolioImpact impact = success.value();
-
-                // Calculate required buying power with buffer
-                BigDecimal requiredWithBuffer = orderValue.multiply(
-                    BigDecimal.ONE.add(minBuyingPowerBuffer));
-
-                // Check if order value is acceptable - eliminates ternary using Optional
-                yield Optional.of(impact.acceptable() && impact.marginImpactAcceptable())
-                    .filter(Boolean::booleanValue)
-                    .map(acceptable -> Validation.<OrderRequest, RiskError>valid(null))
-                    .orElseGet(() -> Validation.invalid(RiskError.insufficientBuyingPower(
-                        requiredWithBuffer, impact.newPortfolioValue())));
-            }
-
-            case Result.Failure<PortfolioImpact, ServiceError> failure ->
-                Validation.invalid(RiskError.systemError(
-                    "Failed to check buying power",
-                    failure.error().toString()));
+        return switch (request.side()) {
+            case BUY -> checkAvailableBuyingPower(userId, orderValue);
+            case SELL -> Validation.valid(null);
         };
     }
 
     /**
-     * Check position limits
-     * Rule #25: Circuit breaker via PortfolioServiceClient
-     * Rule #14: Pattern matching with Result
+     * Check the ledger's unreserved buying power covers the order with buffer
+     * Rule #3: Functional programming with Optional
      */
-    private Validation<OrderRequest, RiskError> checkPositionLimits(
-            Long userId,
-            OrderRequest request) {
-
-        Result<PositionRisk, ServiceError> riskResult =
-            portfolioClient.getPositionRisk(userId, request.symbol());
-
-        return switch (riskResult) {
-            case Result.Success<PositionRisk, ServiceError> success -> {
-                PositionRisk risk = success.value();
-
-                // Calculate new position size
-                BigDecimal newPosition = risk.currentPosition()
-                    .add(BigDecimal.valueOf(request.quantity()));
-
-                // Check if within limits - eliminates ternary using Optional
-                yield Optional.of(newPosition.compareTo(risk.maxPositionSize()) <= 0)
-                    .filter(Boolean::booleanValue)
-                    .map(withinLimit -> Validation.<OrderRequest, RiskError>valid(request))
-                    .orElseGet(() -> Validation.invalid(RiskError.positionLimitExceeded(
-                        request.symbol(),
-                        newPosition,
-                        risk.maxPositionSize())));
-            }
-
-            case Result.Failure<PositionRisk, ServiceError> failure ->
-                Validation.invalid(RiskError.systemError(
-                    "Failed to check position limits",
-                    failure.error().toString()));
-        };
+    private Validation<OrderRequest, RiskError> checkAvailableBuyingPower(Long userId, BigDecimal orderValue) {
+        // Calculate required buying power with buffer
+        BigDecimal requiredWithBuffer = orderValue.multiply(BigDecimal.ONE.add(minBuyingPowerBuffer));
+        BigDecimal available = exposureLedger.availableBuyingPower(userId);
+
+        return Optional.of(exposureLedger.isReconciled(userId))
+            .filter(Boolean::booleanValue)
+            .map(reconciled -> Optional.of(available.compareTo(requiredWithBuffer) >= 0)
+                .filter(Boolean::booleanValue)
+                .map(sufficient -> Validation.<OrderRequest, RiskError>valid(null))
+                .orElseGet(() -> Validation.invalid(RiskError.insufficientBuyingPower(
+                    requiredWithBuffer, available))))
+            .orElseGet(() -> Validation.invalid(RiskError.systemError(
+                "Failed to check buying power",
+                "Exposure ledger not yet reconciled with portfolio-service")));
     }
 
     /**
      * Check concentration risk
-     * Rule #25: Circuit breaker via PortfolioServiceClient
-     * Rule #14: Pattern matching
+     * Lock-free read of the exposure ledger: the symbol's position and open buys plus
+     * this order, as a percentage of portfolio value; sells only reduce it
+     * Rule #3: Functional programming with Optional
      */
     private Validation<OrderRequest, RiskError> checkConcentrationRisk(
             Long userId,
             OrderRequest request,
-            BigDecimal orderValue) {
-
-        Result<PortfolioImpact, ServiceError> impactResult =
-            portfolioClient.calculateImpact(
-                userId,
+            BigDecimal orderValue,
+            UserRiskLimits limits) {
+
+        return Optional.of(request)
+            .filter(r -> r.side() == OrderSide.BUY)
+            .map(r -> exposureLedger.symbolConcentration(userId, r.symbol(), orderValue))
+            .filter(concentration -> concentration.compareTo(limits.maxPositionConcentration()) > 0)
+            .map(concentration -> Validation.<OrderRequest, RiskError>invalid(RiskError.concentrationRiskExceeded(
                 request.symbol(),
-                request.quantity(),
-                orderValue);
-
-        return switch (impactResult) {
-            case Result.Success<PortfolioImpact, ServiceError> success -> {
-                PortfolioImpact impact = success.value();
-
-                // Check concentration percentage - eliminates ternary using Optional
-                yield Optional.of(impact.newConcentration().compareTo(maxConcentrationPercent) <= 0)
-                    .filter(Boolean::booleanValue)
-                    .map(acceptable -> Validation.<OrderRequest, RiskError>valid(request))
-                    .orElseGet(() -> Validation.invalid(RiskError.concentrationRiskExceeded(
-                        request.symbol(),
-                        impact.newConcentration(),
-                        maxConcentrationPercent)));
-            }
-
-            case Result.Failure<PortfolioImpact, ServiceError> failure ->
-                Validation.invalid(RiskError.systemError(
-                    "Failed to check concentration risk",
-                    failure.error().toString()));
-        };
-    }
-
-    /**
-     * Check margin requirements
-     * Rule #25: Circuit breaker via PortfolioServiceClient
-     * Rule #14: Pattern matching
-     */
-    private Validation<OrderRequest, RiskError> checkMarginRequirements(
-            Long userId,
-            BigDecimal orderValue) {
-
-        Result<PortfolioImpact, ServiceError> impactResult =
-            portfolioClient.calculateImpact(userId, "MARGIN", 0, orderValue);
-
-        return switch (impactResult) {
-            case Result.Success<PortfolioImpact, ServiceError> success -> {
-                PortfolioImpact impact = success.value();
-
-                // Check margin usage - eliminates ternary using Optional
-                yield Optional.of(impact.marginImpact().compareTo(maxMarginUsage) <= 0)
-                    .filter(Boolean::booleanValue)
-                    .map(acceptable -> Validation.<OrderRequest, RiskError>valid(null))
-                    .orElseGet(() -> Validation.invalid(RiskError.marginRequirementNotMet(
-                        orderValue,
-                        impact.newPortfolioValue())));
-            }
-
-            case Result.Failure<PortfolioImpact, ServiceError> failure ->
-                Validation.invalid(RiskError.systemError(
-                    "Failed to check margin requirements",
-                    failure.error().toString()));
-        };
-    }
-
-    /**
-     * Get daily trade count for user
-     * Rule #3: Functional programming with Optional
-     * Rule #12: Thread-safe with AtomicInteger
-     */
-    private int getDailyTradeCount(Long userId) {
-        // Reset counter if new day
-        resetCounterIfNewDay(userId);
-
-        // Return current count
-        return Optional.ofNullable(dailyTradeCounters.get(userId))
-            .map(AtomicInteger::get)
-            .orElse(0);
-    }
-
-    /**
-     * Increment daily trade count
-     * Rule #12: Thread-safe with AtomicInteger
-     */
-    private void incrementDailyTradeCount(Long userId) {
-        resetCounterIfNewDay(userId);
-        dailyTradeCounters
-            .computeIfAbsent(userId, k -> new AtomicInteger(0))
-            .incrementAndGet();
+                concentration,
+                limits.maxPositionConcentration())))
+            .orElseGet(() -> Validation.valid(request));
     }
 
     /**
-     * Reset counter if new day
+     * Check sector concentration risk
+     * As checkConcentrationRisk, over every symbol mapped to the order's sector;
+     * symbols without a sector mapping are not checked
      * Rule #3: Functional programming with Optional
      */
-    private void resetCounterIfNewDay(Long userId) {
-        LocalDate today = LocalDate.now();
-
-        Optional.ofNullable(lastResetDates.get(userId))
-            .filter(lastReset -> lastReset.isBefore(today))
-            .ifPresent(lastReset -> {
-                dailyTradeCounters.put(userId, new AtomicInteger(0));
-                lastResetDates.put(userId, today);
-            });
-
-        // Initialize if not exists
-        lastResetDates.putIfAbsent(userId, today);
+    private Validation<OrderRequest, RiskError> checkSectorConcentration(
+            Long userId,
+            OrderRequest request,
+            BigDecimal orderValue,
+            UserRiskLimits limits) {
+
+        return exposureLedger.sectorOf(request.symbol())
+            .filter(sector -> request.side() == OrderSide.BUY)
+            .flatMap(sector -> Optional.of(exposureLedger.sectorConcentration(userId, sector, orderValue))
+                .filter(concentration -> concentration.compareTo(limits.maxSectorConcentration()) > 0)
+                .map(concentration -> Validation.<OrderRequest, RiskError>invalid(
+                    RiskError.concentrationRiskExceeded(sector, concentration, limits.maxSectorConcentration()))))
+            .orElseGet(() -> Validation.valid(request));
     }
 
     /**
@@ -400,15 +291,11 @@ public class FunctionalRiskCheckEngine implements RiskCheckEngine {
      * Rule #14: Pattern matching with switch expression
      * Rule #13: Stream API for functional processing
      */
-    private RiskCheckResult adaptToRiskCheckResult(
-            Validation<OrderRequest, RiskError> validation,
-            Long userId) {
+    private RiskCheckResult adaptToRiskCheckResult(Validation<OrderRequest, RiskError> validation) {
 
         return switch (validation) {
             case Validation.Valid<OrderRequest, RiskError> v -> {
-                // All checks passed
-                incrementDailyTradeCount(userId);
-
+                // All checks passed; the ledger counts the trade when the order is accepted
                 yield RiskCheckResult.builder()
                     .passed(true)
                     .riskScore(0.0)
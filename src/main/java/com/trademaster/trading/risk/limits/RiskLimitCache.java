@@ -0,0 +1,306 @@
+package com.trademaster.trading.risk.limits;
+
+import com.trademaster.trading.config.RiskLimitConfigurationProperties;
+import com.trademaster.trading.metrics.MeterTable;
+import com.trademaster.trading.metrics.MeterTable.Tag;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Risk Limit Cache
+ *
+ * Per-user risk limits held in memory, so the pre-trade risk checks read a map instead
+ * of risk_limits per order. Every row is loaded in bulk when the application is ready and
+ * kept fresh by a listener thread; a user without an active row gets the configured
+ * defaults (trading.risk.max-order-value and so on).
+ *
+ * Modes:
+ * - notify: LISTEN on risk_limits_changed, raised by a trigger (V9 migration) with the
+ *   user ID of every inserted, updated or deleted row; the user is reloaded as soon as
+ *   the change commits (default)
+ * - poll: rows whose updated_at moved past the last one seen are reloaded every
+ *   poll-interval-millis; also the fallback while the notify connection is down
+ *
+ * The listener keeps one pooled connection for itself. After connecting it reloads every
+ * user, catching changes committed while it was not listening. Polling cannot see deleted
+ * rows, so it also reloads every user each full-reload-millis.
+ *
+ * Columns read: max_single_order_value, max_daily_orders (else max_daily_trades),
+ * max_single_position_percent, max_sector_concentration and max_margin_utilization, a
+ * percentage; a NULL column falls back to its default.
+ *
+ * Metrics:
+ * - trading.risk.limits.users: users with limits of their own
+ * - trading.risk.limits.reloads: rows reloaded, tagged by source (startup, notify, poll)
+ * - trading.risk.limits.listener.failures: notify connections lost
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RiskLimitCache {
+
+    static final String CHANNEL = "risk_limits_changed";
+
+    private static final String SELECT_LIMITS = """
+        SELECT user_id, active, max_single_order_value, max_daily_orders, max_daily_trades,
+               max_single_position_percent, max_sector_concentration, max_margin_utilization, updated_at
+        FROM risk_limits""";
+    private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+    // updated_at is the writing transaction's start time, so a slow transaction can commit
+    // a row older than the watermark; polls look back this far to still see it
+    private static final Duration POLL_OVERLAP = Duration.ofSeconds(5);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MeterRegistry meterRegistry;
+
+    // Rule #16: Dynamic Configuration
+    private final RiskLimitConfigurationProperties config;
+
+    private final Map<Long, UserRiskLimits> limits = new ConcurrentHashMap<>();
+
+    private UserRiskLimits defaults;
+    private Counter listenerFailures;
+    private MeterTable<Counter> reloads;
+    private volatile boolean running;
+    private Thread listener;
+    // Written by the startup load, then only by the listener thread
+    private Instant watermark = Instant.EPOCH;
+    private long lastFullReload;
+
+    @PostConstruct
+    public void init() {
+        defaults = new UserRiskLimits(config.maxOrderValue(), config.maxDailyTrades(),
+            config.maxPositionConcentration(), config.maxSectorConcentration(), config.maxMarginUsage());
+        Gauge.builder("trading.risk.limits.users", limits, Map::size)
+            .description("Users with risk limits of their own")
+            .register(meterRegistry);
+        listenerFailures = Counter.builder("trading.risk.limits.listener.failures")
+            .description("Risk limit notify connections lost")
+            .register(meterRegistry);
+        reloads = MeterTable.preRegistered(tags -> Counter.builder("trading.risk.limits.reloads")
+                .tags(tags)
+                .description("Risk limit rows reloaded")
+                .register(meterRegistry),
+            Tag.of("source", "startup", "notify", "poll"));
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        if (listener != null) {
+            listener.join(config.limits().pollIntervalMillis() * 2L);
+        }
+    }
+
+    /**
+     * Limits of the user, or the defaults when they have none of their own
+     */
+    public UserRiskLimits limits(Long userId) {
+        return limits.getOrDefault(userId, defaults);
+    }
+
+    public UserRiskLimits defaults() {
+        return defaults;
+    }
+
+    /**
+     * Loads every user's limits and starts the listener
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!config.limits().enabled()) {
+            log.info("Risk limit cache disabled, every user gets the default limits");
+            return;
+        }
+        try {
+            reloadAll("startup");
+            log.info("Loaded risk limits of {} users", limits.size());
+        } catch (RuntimeException e) {
+            log.error("Loading risk limits failed, the listener will retry", e);
+        }
+        running = true;
+        listener = Thread.ofPlatform()
+            .name("risk-limit-listener")
+            .daemon()
+            .start(this::listen);
+    }
+
+    private void listen() {
+        boolean notify = "notify".equalsIgnoreCase(config.limits().mode());
+        while (running) {
+            if (notify) {
+                try {
+                    awaitNotifications();
+                } catch (SQLException | RuntimeException e) {
+                    listenerFailures.increment();
+                    log.warn("Risk limit notifications lost, polling for {}ms: {}",
+                        config.limits().reconnectDelayMillis(), e.getMessage());
+                }
+            }
+            poll(notify ? System.currentTimeMillis() + config.limits().reconnectDelayMillis() : Long.MAX_VALUE);
+        }
+    }
+
+    /**
+     * Reloads each user named by a notification until the connection fails or the
+     * cache shuts down
+     */
+    private void awaitNotifications() throws SQLException {
+        try (Connection connection = jdbcTemplate.getDataSource().getConnection()) {
+            PGConnection pgConnection = connection.unwrap(PGConnection.class);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("LISTEN " + CHANNEL);
+            }
+            try {
+                reloadAll("notify");
+                log.info("Listening for risk limit changes on {}", CHANNEL);
+                while (running) {
+                    PGNotification[] notifications =
+                        pgConnection.getNotifications(config.limits().pollIntervalMillis());
+                    if (notifications == null) {
+                        continue;
+                    }
+                    for (PGNotification notification : notifications) {
+                        onNotification(notification.getParameter());
+                    }
+                }
+            } finally {
+                // The connection goes back to the pool
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("UNLISTEN " + CHANNEL);
+                } catch (SQLException e) {
+                    log.debug("UNLISTEN failed: {}", e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Reloads rows updated since the watermark every poll-interval-millis, and every
+     * row each full-reload-millis, until the deadline
+     */
+    private void poll(long deadline) {
+        while (running && System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(config.limits().pollIntervalMillis());
+                if (System.currentTimeMillis() - lastFullReload >= config.limits().fullReloadMillis()) {
+                    reloadAll("poll");
+                } else {
+                    jdbcTemplate.query(SELECT_LIMITS + " WHERE updated_at > ?",
+                        row -> update(row, "poll"), Timestamp.from(watermark.minus(POLL_OVERLAP)));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.debug("Risk limit poll failed: {}", e.getMessage());
+            }
+        }
+    }
+
+    private void reloadAll(String source) {
+        Map<Long, UserRiskLimits> loaded = new HashMap<>();
+        jdbcTemplate.query(SELECT_LIMITS, row -> {
+            advanceWatermark(row.getTimestamp("updated_at"));
+            if (row.getBoolean("active")) {
+                loaded.put(row.getLong("user_id"), resolve(row));
+            }
+        });
+        limits.keySet().retainAll(loaded.keySet());
+        limits.putAll(loaded);
+        lastFullReload = System.currentTimeMillis();
+        reloads.get(source).increment(loaded.size());
+    }
+
+    /**
+     * Reloads the user named by a risk_limits_changed payload
+     */
+    void onNotification(String payload) {
+        reload(Long.parseLong(payload), "notify");
+    }
+
+    private void reload(long userId, String source) {
+        boolean[] found = new boolean[1];
+        jdbcTemplate.query(SELECT_LIMITS + " WHERE user_id = ?", row -> {
+            found[0] = true;
+            update(row, source);
+        }, userId);
+        if (!found[0]) {
+            remove(userId);
+        }
+    }
+
+    private void update(ResultSet row, String source) throws SQLException {
+        advanceWatermark(row.getTimestamp("updated_at"));
+        long userId = row.getLong("user_id");
+        if (row.getBoolean("active")) {
+            put(userId, resolve(row));
+        } else {
+            remove(userId);
+        }
+        reloads.get(source).increment();
+    }
+
+    private UserRiskLimits resolve(ResultSet row) throws SQLException {
+        Integer dailyOrders = row.getObject("max_daily_orders", Integer.class);
+        return resolve(
+            row.getBigDecimal("max_single_order_value"),
+            dailyOrders != null ? dailyOrders : row.getObject("max_daily_trades", Integer.class),
+            row.getBigDecimal("max_single_position_percent"),
+            row.getBigDecimal("max_sector_concentration"),
+            row.getBigDecimal("max_margin_utilization"));
+    }
+
+    /**
+     * Limits from a risk_limits row's columns, each NULL one taken from the defaults
+     */
+    UserRiskLimits resolve(BigDecimal orderValue, Integer dailyTrades, BigDecimal positionPercent,
+                           BigDecimal sectorPercent, BigDecimal marginPercent) {
+        return new UserRiskLimits(
+            orderValue != null ? orderValue : defaults.maxOrderValue(),
+            dailyTrades != null ? dailyTrades : defaults.maxDailyTrades(),
+            positionPercent != null ? positionPercent : defaults.maxPositionConcentration(),
+            sectorPercent != null ? sectorPercent : defaults.maxSectorConcentration(),
+            marginPercent != null ? marginPercent.divide(HUNDRED) : defaults.maxMarginUsage());
+    }
+
+    void put(long userId, UserRiskLimits userLimits) {
+        limits.put(userId, userLimits);
+    }
+
+    void remove(long userId) {
+        limits.remove(userId);
+    }
+
+    private void advanceWatermark(Timestamp updatedAt) {
+        if (updatedAt != null && updatedAt.toInstant().isAfter(watermark)) {
+            watermark = updatedAt.toInstant();
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.trademaster.trading.risk.limits;
+
+import java.math.BigDecimal;
+
+/**
+ * Risk limits the pre-trade risk checks apply to one user
+ *
+ * Concentrations are percentages of portfolio value; margin usage is a ratio.
+ *
+ * @param maxOrderValue largest single order value
+ * @param maxDailyTrades orders accepted per trading day
+ * @param maxPositionConcentration largest share of the portfolio in one symbol
+ * @param maxSectorConcentration largest share of the portfolio in one sector
+ * @param maxMarginUsage margin impact allowed after the order
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+public record UserRiskLimits(
+    BigDecimal maxOrderValue,
+    int maxDailyTrades,
+    BigDecimal maxPositionConcentration,
+    BigDecimal maxSectorConcentration,
+    BigDecimal maxMarginUsage
+) {}
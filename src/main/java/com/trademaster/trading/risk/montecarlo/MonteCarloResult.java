@@ -0,0 +1,79 @@
+package com.trademaster.trading.risk.montecarlo;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Monte Carlo Result
+ *
+ * Simulated P&L distribution of a PositionBook under one StressScenario. Amounts are in
+ * account currency; valueAtRisk, its confidence bounds and expectedShortfall are losses
+ * (positive when the book loses money).
+ *
+ * - scenarioPnl: P&L of the scenario shift alone, without simulated noise
+ * - varLower / varUpper: 95% order-statistic confidence interval of the VaR estimate
+ * - tailContributions[i]: position i's average loss over the tail paths; they sum to
+ *   expectedShortfall
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+public record MonteCarloResult(
+    String scenario,
+    StressScenario.Type scenarioType,
+    double confidence,
+    int horizonDays,
+    double scenarioPnl,
+    double meanPnl,
+    double valueAtRisk,
+    double varLower,
+    double varUpper,
+    double expectedShortfall,
+    double probabilityOfLoss,
+    int paths,
+    boolean converged,
+    long elapsedNanos,
+    String[] instruments,
+    double[] tailContributions
+) {
+
+    public double pathsPerSecond() {
+        return elapsedNanos > 0 ? paths * 1e9 / elapsedNanos : 0.0;
+    }
+
+    /**
+     * Tail contribution of the instrument, 0 when it is not in the book
+     */
+    public double contribution(String instrument) {
+        double total = 0.0;
+        for (int index = 0; index < instruments.length; index++) {
+            if (instruments[index].equals(instrument)) {
+                total += tailContributions[index];
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Headline figures keyed for the stress-test and risk service responses
+     */
+    public Map<String, BigDecimal> summary() {
+        Map<String, BigDecimal> summary = new LinkedHashMap<>();
+        summary.put("scenarioPnl", amount(scenarioPnl));
+        summary.put("meanPnl", amount(meanPnl));
+        summary.put("valueAtRisk", amount(valueAtRisk));
+        summary.put("valueAtRiskLower", amount(varLower));
+        summary.put("valueAtRiskUpper", amount(varUpper));
+        summary.put("expectedShortfall", amount(expectedShortfall));
+        summary.put("probabilityOfLoss", BigDecimal.valueOf(probabilityOfLoss).setScale(4, RoundingMode.HALF_UP));
+        summary.put("paths", BigDecimal.valueOf(paths));
+        summary.put("pathsPerSecond", BigDecimal.valueOf(pathsPerSecond()).setScale(0, RoundingMode.HALF_UP));
+        return summary;
+    }
+
+    private static BigDecimal amount(double value) {
+        return BigDecimal.valueOf(value).setScale(2, RoundingMode.HALF_UP);
+    }
+}
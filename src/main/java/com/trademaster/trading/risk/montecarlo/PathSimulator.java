@@ -0,0 +1,117 @@
+package com.trademaster.trading.risk.montecarlo;
+
+import com.trademaster.trading.risk.covariance.CholeskyFactor;
+import com.trademaster.trading.risk.covariance.CovarianceMatrix;
+
+import java.util.SplittableRandom;
+
+/**
+ * Path Simulator
+ *
+ * Simulates horizon P&L paths of one book under one scenario. Each path draws standard
+ * normals, correlates them through the covariance's cached Cholesky factor (only the
+ * rows of instruments held), adds the scenario's log-return shift and fully revalues
+ * every position:
+ *
+ *   pnl = sum(notional[i] * (exp(shift[i] + scale * (L * z)[i]) - 1)),
+ *   scale = volatilityMultiplier * sqrt(horizonDays)
+ *
+ * Stateless apart from its inputs; every batch brings its own random stream and scratch
+ * arrays, so batches run concurrently.
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+final class PathSimulator {
+
+    private final CholeskyFactor factor;
+    private final int[] rows;
+    private final int depth;
+    private final double[] shifts;
+    private final double[] notionals;
+    private final double scale;
+
+    PathSimulator(PositionBook book, CovarianceMatrix covariance, StressScenario scenario, int horizonDays) {
+        int size = book.size();
+        this.rows = new int[size];
+        this.shifts = new double[size];
+        this.notionals = book.notionals();
+        int deepest = -1;
+        for (int index = 0; index < size; index++) {
+            rows[index] = covariance.indexOf(book.instrument(index));
+            if (rows[index] < 0) {
+                throw new IllegalArgumentException("No covariance for " + book.instrument(index));
+            }
+            shifts[index] = scenario.logShift(book.instrument(index));
+            deepest = Math.max(deepest, rows[index]);
+        }
+        this.scale = scenario.volatilityMultiplier() * Math.sqrt(horizonDays);
+        this.depth = scale > 0.0 ? deepest + 1 : 0;
+        this.factor = scale > 0.0 && size > 0 ? covariance.cholesky() : null;
+    }
+
+    int positions() {
+        return rows.length;
+    }
+
+    /**
+     * P&L of the scenario shift alone
+     */
+    double scenarioPnl() {
+        double total = 0.0;
+        for (int index = 0; index < rows.length; index++) {
+            total += notionals[index] * Math.expm1(shifts[index]);
+        }
+        return total;
+    }
+
+    /**
+     * Writes the P&L of paths consecutive paths to pnl[offset...]
+     */
+    void simulate(SplittableRandom random, int paths, double[] pnl, int offset) {
+        double[] normals = new double[depth];
+        double[] shocks = new double[rows.length];
+        for (int path = 0; path < paths; path++) {
+            pnl[offset + path] = revalue(random, normals, shocks, null);
+        }
+    }
+
+    /**
+     * Replays paths and adds the position P&L of those at or below threshold to tail
+     *
+     * @return the number of tail paths
+     */
+    int accumulateTail(SplittableRandom random, int paths, double threshold, double[] tail) {
+        double[] normals = new double[depth];
+        double[] shocks = new double[rows.length];
+        double[] positionPnl = new double[rows.length];
+        int count = 0;
+        for (int path = 0; path < paths; path++) {
+            if (revalue(random, normals, shocks, positionPnl) <= threshold) {
+                for (int index = 0; index < positionPnl.length; index++) {
+                    tail[index] += positionPnl[index];
+                }
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private double revalue(SplittableRandom random, double[] normals, double[] shocks, double[] positionPnl) {
+        for (int index = 0; index < depth; index++) {
+            normals[index] = random.nextGaussian();
+        }
+        if (factor != null) {
+            factor.correlate(rows, normals, shocks);
+        }
+        double total = 0.0;
+        for (int index = 0; index < rows.length; index++) {
+            double value = notionals[index] * Math.expm1(shifts[index] + scale * shocks[index]);
+            if (positionPnl != null) {
+                positionPnl[index] = value;
+            }
+            total += value;
+        }
+        return total;
+    }
+}
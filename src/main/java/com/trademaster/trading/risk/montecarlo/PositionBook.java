@@ -0,0 +1,75 @@
+package com.trademaster.trading.risk.montecarlo;
+
+import com.trademaster.trading.dto.PortfolioAnalytics;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Position Book
+ *
+ * Positions in struct-of-arrays form for simulation: one primitive array per field,
+ * indexed by position, so revaluing a path is a single pass over contiguous memory.
+ * Notional is quantity * price in account currency; short positions have negative
+ * quantity.
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+public final class PositionBook {
+
+    private final String[] instruments;
+    private final double[] quantities;
+    private final double[] prices;
+    private final double[] notionals;
+
+    public PositionBook(List<String> instruments, double[] quantities, double[] prices) {
+        if (quantities.length != instruments.size() || prices.length != instruments.size()) {
+            throw new IllegalArgumentException("Expected " + instruments.size() + " quantities and prices");
+        }
+        this.instruments = instruments.toArray(String[]::new);
+        this.quantities = quantities.clone();
+        this.prices = prices.clone();
+        this.notionals = new double[quantities.length];
+        for (int index = 0; index < quantities.length; index++) {
+            notionals[index] = quantities[index] * prices[index];
+        }
+    }
+
+    /**
+     * Book from analytics positions at their current price
+     */
+    public static PositionBook fromPositions(List<PortfolioAnalytics.Position> positions) {
+        return new PositionBook(
+            positions.stream().map(PortfolioAnalytics.Position::symbol).toList(),
+            positions.stream().mapToDouble(pos -> Optional.ofNullable(pos.quantity()).orElse(0)).toArray(),
+            positions.stream()
+                .mapToDouble(pos -> Optional.ofNullable(pos.currentPrice()).orElse(pos.averagePrice()).doubleValue())
+                .toArray()
+        );
+    }
+
+    public int size() {
+        return instruments.length;
+    }
+
+    public String instrument(int index) {
+        return instruments[index];
+    }
+
+    public double quantity(int index) {
+        return quantities[index];
+    }
+
+    public double price(int index) {
+        return prices[index];
+    }
+
+    public double notional(int index) {
+        return notionals[index];
+    }
+
+    double[] notionals() {
+        return notionals;
+    }
+}
@@ -1,15 +1,23 @@
 package com.trademaster.trading.security;
 
+import com.trademaster.trading.config.JwtCacheConfigurationProperties;
 import com.trademaster.trading.config.JwtConfigurationProperties;
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -19,61 +27,149 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import javax.crypto.spec.SecretKeySpec;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Date;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
 
 /**
  * JWT Authentication Filter
- * 
- * Servlet filter for JWT token validation using Java 24 Virtual Threads.
+ *
+ * Servlet filter for JWT token validation on the request's own (virtual) thread.
  * Validates JWT tokens from Epic 1 authentication service.
- * 
+ *
  * Performance Features:
- * - Virtual Thread support for non-blocking token validation
- * - Async processing with CompletableFuture
- * - Fast token parsing and validation
- * - Cached authentication context
- * 
+ * - Signing key and parser built once at startup and shared (the parser is immutable)
+ * - Validation runs inline, so the SecurityContext is set on the thread serving the request
+ * - Bounded cache of verified tokens keyed by SHA-256 digest, holding the ready principal
+ *   and authorities until token expiry - repeat requests skip signature verification and
+ *   claim mapping
+ * - Raw tokens are never retained; rejected tokens are never cached
+ * - A revoked token is dropped from the cache and rejected until its expiry
+ * - Expired tokens are purged on a schedule only; while the cache is full, newly verified
+ *   tokens are not cached, so no request thread scans the cache
+ *
+ * Metrics:
+ * - trading.security.jwt.authentication: latency per outcome (cache_hit, verified, rejected)
+ * - trading.security.jwt.cache.requests: cache lookups by result (hit, miss)
+ * - trading.security.jwt.cache.size: verified tokens currently cached
+ * - trading.security.jwt.cache.full: verified tokens not cached because the cache was full
+ *
  * @author TradeMaster Development Team
- * @version 2.0.0 (Java 24 + Virtual Threads)
+ * @version 2.1.0 (Java 24 + Virtual Threads)
  */
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
-    
+
     private final JwtConfigurationProperties jwtConfig;
-    
+    private final MeterRegistry meterRegistry;
+
+    // Rule #16: Dynamic Configuration
+    private final JwtCacheConfigurationProperties cacheConfig;
+
+    // Epoch millis
+    private final LongSupplier clock;
+
+    private final Map<String, VerifiedToken> verifiedTokens = new ConcurrentHashMap<>();
+    // Digest of each revoked token, to its expiry (epoch millis)
+    private final Map<String, Long> revokedTokens = new ConcurrentHashMap<>();
+
+    private JwtParser jwtParser;
+    private Timer cacheHitTimer;
+    private Timer verifiedTimer;
+    private Timer rejectedTimer;
+    private Counter cacheHits;
+    private Counter cacheMisses;
+    private Counter cacheFull;
+
+    @Autowired
+    public JwtAuthenticationFilter(JwtConfigurationProperties jwtConfig, MeterRegistry meterRegistry,
+                                   JwtCacheConfigurationProperties cacheConfig) {
+        this(jwtConfig, meterRegistry, cacheConfig, System::currentTimeMillis);
+    }
+
+    /**
+     * Filter that checks token and cache expiry against the given clock
+     */
+    JwtAuthenticationFilter(JwtConfigurationProperties jwtConfig, MeterRegistry meterRegistry,
+                            JwtCacheConfigurationProperties cacheConfig, LongSupplier clock) {
+        this.jwtConfig = jwtConfig;
+        this.meterRegistry = meterRegistry;
+        this.cacheConfig = cacheConfig;
+        this.clock = clock;
+    }
+
+    @PostConstruct
+    public void initialize() {
+        SecretKeySpec key = new SecretKeySpec(jwtConfig.secret().getBytes(), "HmacSHA256");
+        jwtParser = Jwts.parser()
+            .verifyWith(key)
+            .clock(() -> new Date(clock.getAsLong()))
+            .build();
+
+        cacheHitTimer = authenticationTimer("cache_hit");
+        verifiedTimer = authenticationTimer("verified");
+        rejectedTimer = authenticationTimer("rejected");
+        cacheHits = cacheCounter("hit");
+        cacheMisses = cacheCounter("miss");
+        Gauge.builder("trading.security.jwt.cache.size", verifiedTokens, Map::size)
+            .description("Verified JWTs currently cached")
+            .register(meterRegistry);
+        cacheFull = Counter.builder("trading.security.jwt.cache.full")
+            .description("Verified JWTs not cached because the cache was full")
+            .register(meterRegistry);
+
+        log.info("JWT authentication filter initialized: cacheMaxEntries={}, cacheMaxTtl={}s",
+                cacheConfig.maxEntries(), cacheConfig.maxTtlSeconds());
+    }
+
     @Override
-    protected void doFilterInternal(HttpServletRequest request, 
-                                  HttpServletResponse response, 
+    protected void doFilterInternal(HttpServletRequest request,
+                                  HttpServletResponse response,
                                   FilterChain filterChain) throws ServletException, IOException {
-        
-        try {
-            String token = extractTokenFromRequest(request);
 
+        try {
             // Eliminates if-statement using Optional.filter().ifPresent()
-            Optional.ofNullable(token)
-                .filter(t -> SecurityContextHolder.getContext().getAuthentication() == null)
-                .ifPresent(t -> {
-                    // Validate token asynchronously using Virtual Threads
-                    CompletableFuture.runAsync(() -> {
-                        try {
-                            validateAndSetAuthentication(t);
-                        } catch (Exception e) {
-                            log.warn("JWT validation failed: {}", e.getMessage());
-                        }
-                    }).join(); // Block to maintain filter chain order
-                });
+            Optional.ofNullable(extractTokenFromRequest(request))
+                .filter(token -> SecurityContextHolder.getContext().getAuthentication() == null)
+                .ifPresent(this::authenticate);
 
         } catch (Exception e) {
             log.error("JWT authentication error: {}", e.getMessage());
         }
-        
+
         filterChain.doFilter(request, response);
     }
-    
+
+    /**
+     * Drops cached tokens past their expiry so the cache only holds usable entries, and
+     * forgets revoked tokens that have expired anyway
+     */
+    @Scheduled(fixedDelayString = "${security.jwt.cache.purge-interval-millis:60000}")
+    public void purgeExpiredTokens() {
+        long now = clock.getAsLong();
+        verifiedTokens.values().removeIf(verified -> verified.isExpired(now));
+        revokedTokens.values().removeIf(expiresAt -> now >= expiresAt);
+    }
+
+    /**
+     * Revokes a token, e.g. on logout: it leaves the cache and is rejected until it
+     * expires. A token that does not verify is rejected anyway and is not recorded.
+     */
+    public void revoke(String token) {
+        String digest = digest(token);
+        expiration(token).ifPresent(expiresAt -> revokedTokens.put(digest, expiresAt));
+        verifiedTokens.remove(digest);
+    }
+
     private String extractTokenFromRequest(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
 
@@ -84,24 +180,50 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             .map(token -> token.substring(7))
             .orElse(null);
     }
-    
-    private void validateAndSetAuthentication(String token) {
+
+    private void authenticate(String token) {
+        long started = System.nanoTime();
+        String digest = digest(token);
+        long now = clock.getAsLong();
+
+        Timer outcome = Optional.ofNullable(verifiedTokens.get(digest))
+            .filter(cached -> !cached.isExpired(now) && !revokedTokens.containsKey(digest))
+            .map(cached -> {
+                cacheHits.increment();
+                setAuthentication(cached);
+                return cacheHitTimer;
+            })
+            .orElseGet(() -> {
+                cacheMisses.increment();
+                return verify(token)
+                    .filter(verified -> !revokedTokens.containsKey(digest))
+                    .map(verified -> {
+                        cache(digest, verified);
+                        setAuthentication(verified);
+                        return verifiedTimer;
+                    })
+                    .orElse(rejectedTimer);
+            });
+
+        outcome.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Full signature verification and claim mapping for a token not in the cache
+     */
+    private Optional<VerifiedToken> verify(String token) {
         try {
-            SecretKeySpec key = new SecretKeySpec(jwtConfig.secret().getBytes(), "HmacSHA256");
-            
-            Claims claims = Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseClaimsJws(token)
-                .getPayload();
-            
+            Claims claims = jwtParser.parseSignedClaims(token).getPayload();
+
             String userId = claims.getSubject();
             String username = claims.get("username", String.class);
-            List<String> roles = claims.get("roles", List.class);
+            List<String> roles = Optional.ofNullable(claims.get("roles", List.class))
+                .map(r -> ((List<?>) r).stream().map(String::valueOf).toList())
+                .orElse(null);
 
             // Eliminates if-statement using Optional.flatMap() chain
             // Eliminates ternary operator using Optional.map().orElse()
-            Optional.ofNullable(userId)
+            return Optional.ofNullable(userId)
                 .flatMap(uid -> Optional.ofNullable(username)
                     .map(uname -> {
                         List<SimpleGrantedAuthority> authorities = Optional.ofNullable(roles)
@@ -116,19 +238,92 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                             .roles(roles)
                             .build();
 
-                        UsernamePasswordAuthenticationToken authentication =
-                            new UsernamePasswordAuthenticationToken(principal, null, authorities);
-
-                        SecurityContextHolder.getContext().setAuthentication(authentication);
+                        // Tokens without an expiry are cached for the max TTL only
+                        long maxExpiry = clock.getAsLong() + cacheConfig.maxTtlSeconds() * 1000;
+                        long expiresAt = Optional.ofNullable(claims.getExpiration())
+                            .map(expiration -> Math.min(expiration.getTime(), maxExpiry))
+                            .orElse(maxExpiry);
 
-                        log.debug("JWT authentication successful for user: {}", uname);
-                        return true; // Dummy return value for map
+                        return new VerifiedToken(principal, authorities, expiresAt);
                     }));
-            
+
         } catch (JwtException e) {
             log.warn("Invalid JWT token: {}", e.getMessage());
         } catch (Exception e) {
             log.error("JWT parsing error: {}", e.getMessage());
         }
+        return Optional.empty();
+    }
+
+    /**
+     * Expiry of a token that verifies, in epoch millis; a token without one never expires
+     */
+    private Optional<Long> expiration(String token) {
+        try {
+            return Optional.of(Optional.ofNullable(jwtParser.parseSignedClaims(token).getPayload().getExpiration())
+                .map(Date::getTime)
+                .orElse(Long.MAX_VALUE));
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Caches a verified token unless the cache is full; expired entries are left to
+     * purgeExpiredTokens, so a burst of misses never scans the cache
+     */
+    private void cache(String digest, VerifiedToken verified) {
+        Optional.of(verifiedTokens.size() < cacheConfig.maxEntries())
+            .filter(hasRoom -> hasRoom)
+            .ifPresentOrElse(hasRoom -> verifiedTokens.put(digest, verified), cacheFull::increment);
+    }
+
+    private void setAuthentication(VerifiedToken verified) {
+        UsernamePasswordAuthenticationToken authentication =
+            new UsernamePasswordAuthenticationToken(verified.principal(), null, verified.authorities());
+
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+
+        log.debug("JWT authentication successful for user: {}", verified.principal().getUsername());
+    }
+
+    /**
+     * SHA-256 of the token, so the cache never holds a usable bearer token
+     */
+    private static String digest(String token) {
+        try {
+            return HexFormat.of().formatHex(
+                MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private Timer authenticationTimer(String outcome) {
+        return Timer.builder("trading.security.jwt.authentication")
+            .description("JWT authentication latency by outcome")
+            .tag("outcome", outcome)
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .register(meterRegistry);
+    }
+
+    private Counter cacheCounter(String result) {
+        return Counter.builder("trading.security.jwt.cache.requests")
+            .description("Verified JWT cache lookups by result")
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+
+    /**
+     * Ready authentication for a verified token, valid until expiresAt (epoch millis)
+     */
+    private record VerifiedToken(
+        TradingUserPrincipal principal,
+        List<SimpleGrantedAuthority> authorities,
+        long expiresAt
+    ) {
+        boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,178 @@
+package com.trademaster.trading.security.ratelimit;
+
+import java.security.SecureRandom;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+import java.util.stream.IntStream;
+
+/**
+ * Count-Min Sliding Window
+ *
+ * Lock-free, fixed-size approximate counter over a trailing window. The window is split
+ * into sub-windows (buckets); each bucket is a count-min sketch of depth hash rows by width
+ * counters, all held in one flat AtomicLongArray laid out [bucket][row][column]. A key's
+ * count is the minimum across rows of its counters summed over the live buckets.
+ *
+ * Properties:
+ * - Memory is fixed at buckets x depth x width longs regardless of how many keys are seen
+ * - Increment is depth atomic adds plus depth x buckets plain reads, no locks
+ * - Counts never under-estimate, except for increments racing a bucket being recycled;
+ *   over-estimation is bounded by e/width of the events in the window with probability
+ *   1 - e^-depth
+ * - The window slides in bucket steps (window / buckets)
+ * - Keys are hashed with a per-instance random seed, so colliding keys cannot be crafted
+ *   to inflate someone else's count
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+public final class CountMinSlidingWindow implements SlidingWindowCounter {
+
+    private static final long EMPTY_EPOCH = Long.MIN_VALUE;
+
+    private final int depth;
+    private final int widthMask;
+    private final int buckets;
+    private final int bucketStride;
+    private final long bucketMillis;
+    private final LongSupplier clock;
+    private final long seed;
+
+    private final AtomicLongArray counters;
+    private final AtomicLongArray bucketEpochs;
+    private final AtomicLongArray firstSeen;
+
+    public CountMinSlidingWindow(long windowMillis, int buckets, int depth, int width) {
+        this(windowMillis, buckets, depth, width, System::currentTimeMillis);
+    }
+
+    CountMinSlidingWindow(long windowMillis, int buckets, int depth, int width, LongSupplier clock) {
+        if (buckets < 1 || depth < 1 || width < 1 || windowMillis < buckets) {
+            throw new IllegalArgumentException("Invalid sketch shape: window=" + windowMillis
+                + "ms, buckets=" + buckets + ", depth=" + depth + ", width=" + width);
+        }
+        int roundedWidth = width == 1 ? 1 : Integer.highestOneBit(width - 1) << 1;
+        this.depth = depth;
+        this.widthMask = roundedWidth - 1;
+        this.buckets = buckets;
+        this.bucketStride = depth * roundedWidth;
+        this.bucketMillis = windowMillis / buckets;
+        this.clock = clock;
+        this.seed = new SecureRandom().nextLong();
+        this.counters = new AtomicLongArray(buckets * bucketStride);
+        this.bucketEpochs = new AtomicLongArray(buckets);
+        this.firstSeen = new AtomicLongArray(buckets);
+        IntStream.range(0, buckets).forEach(bucket -> bucketEpochs.set(bucket, EMPTY_EPOCH));
+    }
+
+    @Override
+    public long increment(String key) {
+        long epoch = clock.getAsLong() / bucketMillis;
+        int current = claimBucket(epoch);
+        long h1 = hash(key, seed);
+        long h2 = hash(key, ~seed) | 1;
+
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            int column = column(h1, h2, row);
+            long count = counters.incrementAndGet(current * bucketStride + row * (widthMask + 1) + column)
+                + otherBuckets(epoch, current, row, column);
+            estimate = Math.min(estimate, count);
+        }
+
+        if (estimate == 1) {
+            firstSeen.incrementAndGet(current);
+        }
+        return estimate;
+    }
+
+    @Override
+    public long estimate(String key) {
+        long epoch = clock.getAsLong() / bucketMillis;
+        long h1 = hash(key, seed);
+        long h2 = hash(key, ~seed) | 1;
+
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, otherBuckets(epoch, -1, row, column(h1, h2, row)));
+        }
+        return estimate;
+    }
+
+    @Override
+    public long distinctKeys() {
+        long epoch = clock.getAsLong() / bucketMillis;
+        return IntStream.range(0, buckets)
+            .filter(bucket -> isLive(bucketEpochs.get(bucket), epoch))
+            .mapToLong(firstSeen::get)
+            .sum();
+    }
+
+    @Override
+    public long nextRollMillis() {
+        return (clock.getAsLong() / bucketMillis + 1) * bucketMillis;
+    }
+
+    @Override
+    public void clear() {
+        IntStream.range(0, buckets).forEach(bucket -> bucketEpochs.set(bucket, EMPTY_EPOCH));
+        IntStream.range(0, counters.length()).forEach(index -> counters.set(index, 0));
+        IntStream.range(0, buckets).forEach(bucket -> firstSeen.set(bucket, 0));
+    }
+
+    /**
+     * Memory held by the counters in bytes
+     */
+    public long footprintBytes() {
+        return (long) counters.length() * Long.BYTES;
+    }
+
+    /**
+     * Returns the bucket for the epoch, recycling it if it still holds an expired epoch.
+     * Exactly one thread wins the recycle; increments racing the reset may be lost.
+     */
+    private int claimBucket(long epoch) {
+        int bucket = (int) Math.floorMod(epoch, (long) buckets);
+        long held = bucketEpochs.get(bucket);
+        if (held < epoch && bucketEpochs.compareAndSet(bucket, held, epoch)) {
+            int base = bucket * bucketStride;
+            for (int index = base; index < base + bucketStride; index++) {
+                counters.set(index, 0);
+            }
+            firstSeen.set(bucket, 0);
+        }
+        return bucket;
+    }
+
+    private long otherBuckets(long epoch, int skip, int row, int column) {
+        long sum = 0;
+        for (int bucket = 0; bucket < buckets; bucket++) {
+            if (bucket != skip && isLive(bucketEpochs.get(bucket), epoch)) {
+                sum += counters.get(bucket * bucketStride + row * (widthMask + 1) + column);
+            }
+        }
+        return sum;
+    }
+
+    private boolean isLive(long bucketEpoch, long epoch) {
+        return bucketEpoch != EMPTY_EPOCH && bucketEpoch <= epoch && bucketEpoch > epoch - buckets;
+    }
+
+    private int column(long h1, long h2, int row) {
+        // Kirsch-Mitzenmacher: row hashes derived from two independent hashes
+        return (int) ((h1 + row * h2) >>> 33) & widthMask;
+    }
+
+    private static long hash(String key, long seed) {
+        long h = seed;
+        for (int i = 0; i < key.length(); i++) {
+            h = (h ^ key.charAt(i)) * 0x9E3779B97F4A7C15L;
+        }
+        // Murmur3 fmix64 finalizer
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        return h ^ (h >>> 33);
+    }
+}
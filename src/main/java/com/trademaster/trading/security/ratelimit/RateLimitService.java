@@ -0,0 +1,247 @@
+package com.trademaster.trading.security.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.Stream;
+
+/**
+ * Rate Limit Service
+ *
+ * In-process rate limiting and abuse detection with bounded memory. Every dimension is a
+ * sliding window counter backed by a fixed-size count-min sketch, so a flood of distinct
+ * IPs or usernames cannot grow the heap and counts age out without a reset job.
+ *
+ * Dimensions:
+ * - Requests per client IP and per authenticated user (enforced by RateLimitFilter)
+ * - Authentication failures per username and per client IP (threat detection for
+ *   SecurityAuditService)
+ *
+ * A successful login resets the user's failure count. Sketch counts cannot be decremented,
+ * so each user's failures are counted under a reset epoch held in a fixed table next to the
+ * sketch; a success moves the user to a new epoch and the old counts age out unread.
+ *
+ * Modes:
+ * - local: per-instance counts only (default)
+ * - redis: request limits shared across instances through Redis, with the local sketch as
+ *   fallback when Redis is unreachable
+ *
+ * Metrics:
+ * - trading.security.ratelimit.rejected: requests rejected, tagged by dimension
+ * - trading.security.ratelimit.redis.errors: Redis round trips that fell back to local counts
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RateLimitService {
+
+    // Reset epochs for usernames, hashed with a per-instance seed so slots cannot be targeted
+    private static final int RESET_EPOCH_SLOTS = 1 << 14;
+
+    private final MeterRegistry meterRegistry;
+    private final ObjectProvider<RedisTemplate<String, String>> redisTemplate;
+
+    // Rule #16: Dynamic Configuration
+    @Value("${security.hardening.rate-limit.enabled:true}")
+    private boolean enabled;
+
+    @Value("${security.hardening.rate-limit.mode:local}")
+    private String mode;
+
+    @Value("${security.hardening.rate-limit.max-requests:1000}")
+    private long maxRequestsPerIp;
+
+    @Value("${security.hardening.rate-limit.max-requests-per-user:600}")
+    private long maxRequestsPerUser;
+
+    @Value("${security.hardening.rate-limit.window-size:60000}")
+    private long windowMillis;
+
+    @Value("${security.hardening.rate-limit.sketch.buckets:6}")
+    private int sketchBuckets;
+
+    @Value("${security.hardening.rate-limit.sketch.depth:4}")
+    private int sketchDepth;
+
+    @Value("${security.hardening.rate-limit.sketch.width:4096}")
+    private int sketchWidth;
+
+    @Value("${security.audit.failure-window-millis:900000}")
+    private long failureWindowMillis;
+
+    private SlidingWindowCounter ipRequests;
+    private SlidingWindowCounter userRequests;
+    private SlidingWindowCounter userFailures;
+    private SlidingWindowCounter ipFailures;
+    private Counter ipRejections;
+    private Counter userRejections;
+    private final AtomicLongArray failureEpochs = new AtomicLongArray(RESET_EPOCH_SLOTS);
+    private final int epochSeed = ThreadLocalRandom.current().nextInt();
+
+    /**
+     * Outcome of a rate limit check for the most constrained dimension
+     */
+    public record Decision(boolean allowed, String dimension, long limit, long count, long resetEpochSecond) {
+
+        public long remaining() {
+            return Math.max(0, limit - count);
+        }
+    }
+
+    /**
+     * Authentication failures in the failure window after recording one
+     */
+    public record FailureCounts(long userFailures, long ipFailures) {}
+
+    @PostConstruct
+    public void initialize() {
+        ipRejections = rejectionCounter("ip");
+        userRejections = rejectionCounter("user");
+
+        boolean clustered = "redis".equalsIgnoreCase(mode);
+        Counter redisErrors = Counter.builder("trading.security.ratelimit.redis.errors")
+            .description("Rate limit Redis round trips that fell back to local counts")
+            .register(meterRegistry);
+        RedisTemplate<String, String> redis = Optional.of(clustered)
+            .filter(shared -> shared)
+            .map(shared -> redisTemplate.getIfAvailable())
+            .orElse(null);
+
+        ipRequests = requestWindow(redis, "ratelimit:ip:", redisErrors);
+        userRequests = requestWindow(redis, "ratelimit:user:", redisErrors);
+        userFailures = sketch(failureWindowMillis);
+        ipFailures = sketch(failureWindowMillis);
+
+        Optional.of(clustered && redis == null)
+            .filter(missing -> missing)
+            .ifPresent(missing -> log.warn("Rate limit mode is redis but no RedisTemplate is available - using local counts"));
+
+        // Four sketches and the reset epochs, fixed for the life of the service
+        long footprint = (4L * sketchBuckets * sketchDepth * Integer.highestOneBit(sketchWidth * 2 - 1)
+            + RESET_EPOCH_SLOTS) * Long.BYTES;
+        log.info("Rate limiting initialized: enabled={}, mode={}, perIp={}, perUser={}, window={}ms, sketchMemory={}KB",
+                enabled, redis != null ? "redis" : "local", maxRequestsPerIp, maxRequestsPerUser,
+                windowMillis, footprint / 1024);
+    }
+
+    /**
+     * Counts a request against the IP and, when known, the user limit
+     *
+     * @param userId authenticated user, or null for anonymous requests
+     */
+    public Decision checkRequest(String clientIp, String userId) {
+        long resetEpochSecond = ipRequests.nextRollMillis() / 1000;
+        long ipCount = ipRequests.increment(clientIp);
+        Decision ipDecision = new Decision(ipCount <= maxRequestsPerIp, "ip", maxRequestsPerIp, ipCount, resetEpochSecond);
+
+        Decision decision = Optional.of(ipDecision)
+            .filter(Decision::allowed)
+            .flatMap(allowed -> Optional.ofNullable(userId))
+            .map(user -> {
+                long userCount = userRequests.increment(user);
+                Decision userDecision = new Decision(userCount <= maxRequestsPerUser, "user",
+                    maxRequestsPerUser, userCount, resetEpochSecond);
+                return !userDecision.allowed() || userDecision.remaining() < ipDecision.remaining()
+                    ? userDecision : ipDecision;
+            })
+            .orElse(ipDecision);
+
+        Optional.of(decision)
+            .filter(rejected -> !rejected.allowed())
+            .ifPresent(rejected -> ("ip".equals(rejected.dimension()) ? ipRejections : userRejections).increment());
+        return decision;
+    }
+
+    /**
+     * Records a failed authentication for threat detection
+     */
+    public FailureCounts recordAuthenticationFailure(String username, String clientIp) {
+        return new FailureCounts(userFailures.increment(failureKey(username)),
+            ipFailures.increment(String.valueOf(clientIp)));
+    }
+
+    /**
+     * Records a successful authentication, which clears the user's failure count
+     */
+    public void recordAuthenticationSuccess(String username) {
+        failureEpochs.incrementAndGet(epochSlot(String.valueOf(username)));
+    }
+
+    public long authenticationFailuresForUser(String username) {
+        return userFailures.estimate(failureKey(username));
+    }
+
+    public long authenticationFailuresForIp(String clientIp) {
+        return ipFailures.estimate(String.valueOf(clientIp));
+    }
+
+    /**
+     * Approximate distinct client IPs seen in the request window
+     */
+    public long activeClientIps() {
+        return ipRequests.distinctKeys();
+    }
+
+    /**
+     * Approximate distinct usernames with failures in the failure window
+     */
+    public long usersWithFailures() {
+        return userFailures.distinctKeys();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Forgets every count (local counts only in redis mode)
+     */
+    public void reset() {
+        Stream.of(ipRequests, userRequests, userFailures, ipFailures).forEach(SlidingWindowCounter::clear);
+    }
+
+    /**
+     * The user's failure key in their current reset epoch
+     */
+    private String failureKey(String username) {
+        String user = String.valueOf(username);
+        return user + "#" + failureEpochs.get(epochSlot(user));
+    }
+
+    private int epochSlot(String username) {
+        int hash = (username.hashCode() ^ epochSeed) * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & (RESET_EPOCH_SLOTS - 1);
+    }
+
+    private SlidingWindowCounter requestWindow(RedisTemplate<String, String> redis, String keyPrefix,
+                                               Counter redisErrors) {
+        SlidingWindowCounter local = sketch(windowMillis);
+        return Optional.ofNullable(redis)
+            .<SlidingWindowCounter>map(template -> new RedisSlidingWindow(template, keyPrefix, windowMillis, local, redisErrors))
+            .orElse(local);
+    }
+
+    private SlidingWindowCounter sketch(long window) {
+        return new CountMinSlidingWindow(window, sketchBuckets, sketchDepth, sketchWidth);
+    }
+
+    private Counter rejectionCounter(String dimension) {
+        return Counter.builder("trading.security.ratelimit.rejected")
+            .description("Requests rejected by the rate limiter")
+            .tag("dimension", dimension)
+            .register(meterRegistry);
+    }
+}
@@ -0,0 +1,41 @@
+package com.trademaster.trading.security.ratelimit;
+
+/**
+ * Sliding Window Counter
+ *
+ * Counts events per key over a trailing time window. Implementations may count
+ * approximately (never under the true count by more than a roll-over race, possibly over it
+ * by hash collisions) in exchange for bounded memory.
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+public interface SlidingWindowCounter {
+
+    /**
+     * Records one event for the key
+     *
+     * @return events for the key in the window, including this one
+     */
+    long increment(String key);
+
+    /**
+     * Events for the key in the window
+     */
+    long estimate(String key);
+
+    /**
+     * Approximate number of distinct keys first seen within the window
+     */
+    long distinctKeys();
+
+    /**
+     * Epoch millis at which the oldest sub-window rolls out and counts start to drop
+     */
+    long nextRollMillis();
+
+    /**
+     * Forgets every count
+     */
+    void clear();
+}
@@ -0,0 +1,28 @@
+package com.trademaster.trading.service;
+
+import com.trademaster.trading.dto.MarketDataMessage;
+
+/**
+ * Market Data Stream Listener
+ *
+ * In-process consumer of the live market data stream. Every listener bean is invoked by
+ * {@link MarketDataStreamingService} on the publishing thread for each message, independent
+ * of WebSocket subscriptions, so implementations must be O(1) and must not block.
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+public interface MarketDataStreamListener {
+
+    /**
+     * Called for every trade print on the stream
+     */
+    default void onTrade(MarketDataMessage.TradeExecution trade) {
+    }
+
+    /**
+     * Called for every quote/price update on the stream
+     */
+    default void onPriceUpdate(MarketDataMessage.PriceUpdate priceUpdate) {
+    }
+}
@@ -3,6 +3,7 @@ package com.trademaster.trading.service;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.trademaster.trading.dto.MarketDataMessage;
 import com.trademaster.trading.dto.MarketDataSubscription;
+import com.trademaster.trading.logging.LogSampler;
 import com.trademaster.trading.websocket.MarketDataWebSocketHandler;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -13,6 +14,7 @@ import org.springframework.web.socket.WebSocketSession;
 import java.math.BigDecimal;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
@@ -35,6 +37,7 @@ import java.util.stream.Collectors;
  * - Virtual thread-based message distribution
  * - Rate limiting and backpressure handling
  * - Subscription management per symbol and data type
+ * - In-process stream listeners (volume profiles, analytics) fed on every message
  *
  * Performance:
  * - Throughput: 100,000+ messages/second
@@ -54,6 +57,8 @@ public class MarketDataStreamingService {
     private final ObjectMapper objectMapper;
     private final RedisTemplate<String, String> redisTemplate;
     private final MarketDataWebSocketHandler webSocketHandler;
+    private final List<MarketDataStreamListener> streamListeners;
+    private final LogSampler logSampler;
 
     // Subscription storage: symbol -> Set<sessionIds>
     private final Map<String, Set<String>> symbolSubscriptions = new ConcurrentHashMap<>();
@@ -79,7 +84,7 @@ public class MarketDataStreamingService {
             Set<MarketDataSubscription.Request.DataType> dataTypes,
             WebSocketSession session) {
 
-        log.info("Subscribing sessionId={} to symbols={}, dataTypes={}",
+        logSampler.info(log, "market-data.subscribe", "Subscribing sessionId={} to symbols={}, dataTypes={}",
                 sessionId, symbols, dataTypes);
 
         // Update symbol subscriptions
@@ -146,6 +151,9 @@ public class MarketDataStreamingService {
     public void broadcastPriceUpdate(MarketDataMessage.PriceUpdate priceUpdate) {
         String symbol = priceUpdate.symbol();
 
+        // In-process consumers see every update, regardless of WebSocket subscribers
+        streamListeners.forEach(listener -> notifyListener(listener, l -> l.onPriceUpdate(priceUpdate)));
+
         java.util.Optional.ofNullable(symbolSubscriptions.get(symbol))
             .filter(subscribers -> !subscribers.isEmpty())
             .ifPresent(subscribers -> {
@@ -194,6 +202,9 @@ public class MarketDataStreamingService {
     public void broadcastTradeExecution(MarketDataMessage.TradeExecution tradeExecution) {
         String symbol = tradeExecution.symbol();
 
+        // In-process consumers see every trade, regardless of WebSocket subscribers
+        streamListeners.forEach(listener -> notifyListener(listener, l -> l.onTrade(tradeExecution)));
+
         java.util.Optional.ofNullable(symbolSubscriptions.get(symbol))
             .filter(subscribers -> !subscribers.isEmpty())
             .ifPresent(subscribers -> {
@@ -227,6 +238,19 @@ public class MarketDataStreamingService {
             );
     }
 
+    /**
+     * Invokes a stream listener, isolating the broadcast path from listener failures.
+     */
+    private void notifyListener(MarketDataStreamListener listener,
+                                java.util.function.Consumer<MarketDataStreamListener> callback) {
+        try {
+            callback.accept(listener);
+        } catch (Exception e) {
+            log.warn("Market data stream listener {} failed: {}",
+                    listener.getClass().getSimpleName(), e.getMessage());
+        }
+    }
+
     /**
      * Sends initial snapshot of current price for newly subscribed symbol.
      */
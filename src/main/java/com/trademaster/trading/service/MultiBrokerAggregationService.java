@@ -11,6 +11,7 @@ import com.trademaster.trading.model.OrderStatus;
 import com.trademaster.trading.routing.RoutingDecision;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
@@ -35,6 +36,7 @@ import java.util.stream.Stream;
  * 
  * Key Features:
  * - Smart order splitting based on broker capacity and liquidity
+ * - Concurrent child dispatch with fill-driven re-allocation (SmartOrderSplitEngine)
  * - Real-time broker performance monitoring and routing decisions
  * - Intelligent fill aggregation and partial execution handling
  * - Dynamic broker weighting based on execution quality
@@ -65,6 +67,8 @@ public class MultiBrokerAggregationService {
     private final TradingMetricsService metricsService;
     private final AlertingService alertingService;
     private final StructuredLoggingService loggingService;
+    private final SmartOrderSplitEngine splitEngine;
+    private final ObjectProvider<MarketDataService> marketDataService;
     
     // Virtual thread executor for high-performance async operations
     private final ScheduledExecutorService executorService = 
@@ -183,21 +187,39 @@ public class MultiBrokerAggregationService {
     }
     
     /**
-     * Execute multi-broker split strategy - eliminates for loop with Stream API
+     * Execute multi-broker split strategy - children dispatched concurrently by the split engine
      */
     private List<OrderResponse> executeMultiBrokerSplit(MultiBrokerOrderContext context) {
-        List<BrokerAllocation> allocations = calculateBrokerAllocations(context);
-
-        // Eliminate for loop with Stream API - create futures in parallel
-        return allocations.stream()
-            .map(allocation -> {
-                OrderRequest splitOrder = createSplitOrder(context.getOrderRequest(), allocation.getQuantity());
-                return CompletableFuture.supplyAsync(() ->
-                    executeBrokerOrder(splitOrder, allocation.getBrokerName(), context.getCorrelationId()),
-                    executorService);
-            })
-            .map(CompletableFuture::join)
-            .collect(Collectors.toList());
+        OrderRequest order = context.getOrderRequest();
+        return executeSplit(context, order, getAvailableBrokers(order.symbol()));
+    }
+    
+    /**
+     * Dispatch an order across brokers through the split engine using live liquidity inputs
+     */
+    private List<OrderResponse> executeSplit(MultiBrokerOrderContext context, OrderRequest order,
+                                             List<String> brokers) {
+        MarketLiquidity liquidity = resolveMarketLiquidity(order);
+
+        SmartOrderSplitEngine.SplitRequest request = new SmartOrderSplitEngine.SplitRequest(
+            order,
+            context.getCorrelationId(),
+            calculateBrokerSlots(brokers, order.symbol(), liquidity),
+            liquidity.referencePrice(),
+            MAX_BROKER_SPLITS
+        );
+
+        SmartOrderSplitEngine.SplitExecutionReport report = splitEngine.execute(request,
+            (childOrder, broker) -> executeBrokerOrder(childOrder, broker, context.getCorrelationId()));
+
+        // Surface unplaced quantity - slippage cap or broker rejections left part of the order unexecuted
+        Optional.of(report.unplacedQuantity())
+            .filter(unplaced -> unplaced > 0)
+            .ifPresent(unplaced -> log.warn(
+                "Split execution left {} shares unplaced - correlationId: {}, slippageCapHit: {}",
+                unplaced, context.getCorrelationId(), report.slippageCapHit()));
+
+        return report.responses();
     }
     
     /**
@@ -274,14 +296,14 @@ public class MultiBrokerAggregationService {
             state -> {
                 int currentChunk = Math.min(icebergSize, totalQuantity - state.executedQuantity());
 
-                // Execute chunk
+                // Execute chunk - each visible slice is split concurrently across brokers
                 OrderRequest chunkOrder = createSplitOrder(context.getOrderRequest(), currentChunk);
-                String bestBroker = selectBestBroker(chunkOrder, context.getCorrelationId());
-                OrderResponse response = executeBrokerOrder(chunkOrder, bestBroker, context.getCorrelationId());
+                List<OrderResponse> chunkResponses = executeSplit(
+                    context, chunkOrder, getAvailableBrokers(chunkOrder.symbol()));
 
-                // Accumulate response
+                // Accumulate responses
                 List<OrderResponse> updatedResponses = new ArrayList<>(state.responses());
-                updatedResponses.add(response);
+                updatedResponses.addAll(chunkResponses);
 
                 int newExecutedQuantity = state.executedQuantity() + currentChunk;
 
@@ -307,120 +329,55 @@ public class MultiBrokerAggregationService {
     }
     
     /**
-     * Execute liquidity seeking order strategy - eliminates for loop and if-statements with Stream.iterate()
+     * Execute liquidity seeking order strategy - dispatches concurrently to the brokers with the
+     * best liquidity, each capped by its share of visible depth
      */
     private List<OrderResponse> executeLiquiditySeekingOrder(MultiBrokerOrderContext context) {
-        // Get brokers with best liquidity for this symbol
-        List<String> liquidityBrokers = getBrokersWithBestLiquidity(context.getOrderRequest().symbol());
-
-        // State record for functional iteration - carries broker index, remaining quantity, and responses
-        record LiquidityState(int brokerIndex, int remainingQuantity, List<OrderResponse> responses) {}
-
-        // Use Stream.iterate() to replace for loop - functional iteration pattern
-        return Stream.iterate(
-            // Initial state: start at first broker with full quantity
-            new LiquidityState(0, context.getOrderRequest().quantity(), new ArrayList<>()),
-            // Continue while we have brokers and quantity remaining (eliminates break statement)
-            state -> state.brokerIndex() < liquidityBrokers.size() && state.remainingQuantity() > 0,
-            // Process one broker and return next state
-            state -> {
-                String broker = liquidityBrokers.get(state.brokerIndex());
-
-                // Get broker's available liquidity
-                int brokerLiquidity = getBrokerLiquidity(broker, context.getOrderRequest().symbol());
-                int orderQuantity = Math.min(state.remainingQuantity(), brokerLiquidity);
-
-                // Execute order only if quantity is positive (eliminates if-statement with Optional)
-                return Optional.of(orderQuantity)
-                    .filter(qty -> qty > 0)
-                    .map(qty -> {
-                        OrderRequest liquidityOrder = createSplitOrder(context.getOrderRequest(), qty);
-                        OrderResponse response = executeBrokerOrder(liquidityOrder, broker, context.getCorrelationId());
-
-                        List<OrderResponse> updatedResponses = new ArrayList<>(state.responses());
-                        updatedResponses.add(response);
-
-                        return new LiquidityState(
-                            state.brokerIndex() + 1,
-                            state.remainingQuantity() - qty,
-                            updatedResponses
-                        );
-                    })
-                    .orElse(new LiquidityState(
-                        state.brokerIndex() + 1,
-                        state.remainingQuantity(),
-                        state.responses()
-                    ));
-            }
-        )
-        // Extract final responses from last state
-        .reduce((first, last) -> last)
-        .map(LiquidityState::responses)
-        .orElse(List.of());
+        OrderRequest order = context.getOrderRequest();
+        return executeSplit(context, order, getBrokersWithBestLiquidity(order.symbol()));
     }
     
     /**
-     * Calculate broker allocations for multi-broker split - eliminates for loop and if-statements
+     * Calculate broker slots (performance weight + available liquidity) for the split engine
      */
-    private List<BrokerAllocation> calculateBrokerAllocations(MultiBrokerOrderContext context) {
-        List<String> availableBrokers = getAvailableBrokers(context.getOrderRequest().symbol());
-        int totalQuantity = context.getOrderRequest().quantity();
-        Map<String, Double> brokerWeights = calculateBrokerWeights(availableBrokers);
-
-        // State record for functional iteration - carries broker index, allocated quantity, and allocations
-        record AllocationState(int brokerIndex, int allocatedQuantity, List<BrokerAllocation> allocations) {}
-
-        // Use Stream.iterate() to replace for loop - functional iteration pattern
-        AllocationState finalState = Stream.iterate(
-            // Initial state: start at first broker with no allocations
-            new AllocationState(0, 0, new ArrayList<>()),
-            // Continue while: have brokers, quantity remaining, and under max splits (eliminates break statements)
-            state -> state.brokerIndex() < availableBrokers.size()
-                    && state.allocatedQuantity() < totalQuantity
-                    && state.allocations().size() < MAX_BROKER_SPLITS,
-            // Process one broker and return next state
-            state -> {
-                String broker = availableBrokers.get(state.brokerIndex());
-                double weight = brokerWeights.get(broker);
-                int allocation = Math.min(
-                    (int) (totalQuantity * weight),
-                    totalQuantity - state.allocatedQuantity()
-                );
+    private List<SmartOrderSplitEngine.BrokerSlot> calculateBrokerSlots(List<String> brokers, String symbol,
+                                                                        MarketLiquidity liquidity) {
+        Map<String, Double> brokerWeights = calculateBrokerWeights(brokers);
 
-                // Add allocation only if positive (eliminates if-statement with Optional)
-                return Optional.of(allocation)
-                    .filter(alloc -> alloc > 0)
-                    .map(alloc -> {
-                        List<BrokerAllocation> updatedAllocations = new ArrayList<>(state.allocations());
-                        updatedAllocations.add(new BrokerAllocation(broker, alloc, weight));
-                        return new AllocationState(
-                            state.brokerIndex() + 1,
-                            state.allocatedQuantity() + alloc,
-                            updatedAllocations
-                        );
-                    })
-                    .orElse(new AllocationState(
-                        state.brokerIndex() + 1,
-                        state.allocatedQuantity(),
-                        state.allocations()
-                    ));
-            }
-        )
-        // Extract final state
-        .reduce((first, last) -> last)
-        .orElse(new AllocationState(0, 0, new ArrayList<>()));
-
-        // Allocate remaining quantity to best performing broker (eliminates if-statement with Optional)
-        return Optional.of(finalState)
-            .filter(state -> state.allocatedQuantity() < totalQuantity)
-            .filter(state -> !state.allocations().isEmpty())
-            .map(state -> {
-                List<BrokerAllocation> updatedAllocations = new ArrayList<>(state.allocations());
-                BrokerAllocation bestAllocation = updatedAllocations.get(0);
-                bestAllocation.setQuantity(bestAllocation.getQuantity() + (totalQuantity - state.allocatedQuantity()));
-                return updatedAllocations;
-            })
-            .orElse(finalState.allocations());
+        return brokers.stream()
+            .map(broker -> new SmartOrderSplitEngine.BrokerSlot(
+                broker,
+                brokerWeights.get(broker),
+                // Visible depth apportioned by weight; broker-reported liquidity when no depth is available
+                Optional.of(liquidity.visibleQuantity())
+                    .filter(visible -> visible > 0)
+                    .map(visible -> Math.max(1L, (long) (visible * brokerWeights.get(broker))))
+                    .orElseGet(() -> (long) getBrokerLiquidity(broker, symbol))))
+            .toList();
+    }
+    
+    /**
+     * Resolve reference price and visible depth from the order book - falls back to the
+     * order's own price when no market data source is available
+     */
+    private MarketLiquidity resolveMarketLiquidity(OrderRequest order) {
+        return Optional.ofNullable(marketDataService.getIfAvailable())
+            .flatMap(service -> fetchMarketDepth(service, order.symbol()))
+            .map(depth -> MarketLiquidity.fromDepth(depth, order))
+            .orElseGet(() -> new MarketLiquidity(order.getEffectivePrice(), 0L));
+    }
+    
+    private Optional<MarketDataService.MarketDepth> fetchMarketDepth(MarketDataService service, String symbol) {
+        try {
+            return Optional.ofNullable(
+                service.getMarketDepth(symbol).get(AGGREGATION_WINDOW_MS / 2, TimeUnit.MILLISECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Optional.empty();
+        } catch (Exception e) {
+            log.debug("Market depth unavailable for {} - using broker liquidity estimates: {}", symbol, e.getMessage());
+            return Optional.empty();
+        }
     }
     
     /**
@@ -551,24 +508,29 @@ public class MultiBrokerAggregationService {
     }
     
     /**
-     * Broker allocation data structure
+     * Reference price and visible opposite-side depth for a symbol
      */
-    public static class BrokerAllocation {
-        private final String brokerName;
-        private int quantity;
-        private final double weight;
-        
-        public BrokerAllocation(String brokerName, int quantity, double weight) {
-            this.brokerName = brokerName;
-            this.quantity = quantity;
-            this.weight = weight;
+    record MarketLiquidity(BigDecimal referencePrice, long visibleQuantity) {
+
+        static MarketLiquidity fromDepth(MarketDataService.MarketDepth depth, OrderRequest order) {
+            List<MarketDataService.OrderBookEntry> levels = Optional.ofNullable(switch (order.side()) {
+                case BUY -> depth.asks();
+                case SELL -> depth.bids();
+            }).orElse(List.of());
+
+            BigDecimal referencePrice = levels.stream()
+                .findFirst()
+                .map(MarketDataService.OrderBookEntry::price)
+                .orElse(order.getEffectivePrice());
+
+            long visibleQuantity = levels.stream()
+                .map(MarketDataService.OrderBookEntry::quantity)
+                .filter(Objects::nonNull)
+                .mapToLong(BigDecimal::longValue)
+                .sum();
+
+            return new MarketLiquidity(referencePrice, visibleQuantity);
         }
-        
-        // Getters and setters
-        public String getBrokerName() { return brokerName; }
-        public int getQuantity() { return quantity; }
-        public void setQuantity(int quantity) { this.quantity = quantity; }
-        public double getWeight() { return weight; }
     }
     
     /**
@@ -1,9 +1,10 @@
 package com.trademaster.trading.service;
 
+import com.trademaster.trading.audit.AuditLogWriter;
+import com.trademaster.trading.security.ratelimit.RateLimitService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.actuate.audit.AuditEvent;
-import org.springframework.boot.actuate.audit.AuditEventRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.beans.factory.annotation.Value;
 
@@ -11,7 +12,6 @@ import java.time.Instant;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
 
 /**
@@ -23,6 +23,13 @@ import java.util.concurrent.atomic.AtomicLong;
  * - Automated alerting
  * - Performance metrics
  * 
+ * Events are handed to AuditLogWriter's ring buffer on the caller's thread and reach the
+ * AuditEventRepository from the audit writer thread; the returned futures are already complete.
+ * 
+ * Threat detection counts failures per user and per IP in bounded sliding windows held by
+ * RateLimitService, so counts age out on their own and memory stays fixed. A successful
+ * login resets the user's failure count.
+ * 
  * @author TradeMaster Security Team
  * @version 2.0.0
  */
@@ -31,7 +38,8 @@ import java.util.concurrent.atomic.AtomicLong;
 @RequiredArgsConstructor
 public class SecurityAuditService {
     
-    private final AuditEventRepository auditEventRepository;
+    private final AuditLogWriter auditLogWriter;
+    private final RateLimitService rateLimitService;
     
     @Value("${security.audit.enabled:true}")
     private boolean auditEnabled;
@@ -45,38 +53,33 @@ public class SecurityAuditService {
     private final AtomicLong suspiciousActivityDetected = new AtomicLong(0);
     private final AtomicLong accessDeniedEvents = new AtomicLong(0);
     
-    // Rate tracking for threat detection
-    private final Map<String, AtomicLong> ipRequestCounts = new ConcurrentHashMap<>();
-    private final Map<String, AtomicLong> userFailureAttempts = new ConcurrentHashMap<>();
-    
     /**
      * Log authentication success event - eliminates if-statement with Optional
      */
     public CompletableFuture<Void> logAuthenticationSuccess(String username, String clientIP, String userAgent) {
-        return CompletableFuture.runAsync(() ->
-            // Eliminates if-statement with Optional.filter()
-            Optional.of(auditEnabled)
-                .filter(Boolean::booleanValue)
-                .ifPresent(enabled -> {
-                    Map<String, Object> data = Map.of(
-                        "username", username,
-                        "clientIP", clientIP,
-                        "userAgent", userAgent,
-                        "timestamp", Instant.now(),
-                        "success", true,
-                        "sessionId", generateSessionId()
-                    );
+        // Eliminates if-statement with Optional.filter()
+        Optional.of(auditEnabled)
+            .filter(Boolean::booleanValue)
+            .ifPresent(enabled -> {
+                Map<String, Object> data = Map.of(
+                    "username", username,
+                    "clientIP", clientIP,
+                    "userAgent", userAgent,
+                    "timestamp", Instant.now(),
+                    "success", true,
+                    "sessionId", generateSessionId()
+                );
 
-                    AuditEvent event = new AuditEvent(username, "AUTHENTICATION_SUCCESS", data);
-                    auditEventRepository.add(event);
+                AuditEvent event = new AuditEvent(username, "AUTHENTICATION_SUCCESS", data);
+                auditLogWriter.publish(event);
 
-                    // Reset failure counter for user
-                    userFailureAttempts.put(username, new AtomicLong(0));
+                // Reset failure counter for user
+                rateLimitService.recordAuthenticationSuccess(username);
 
-                    log.info("Authentication successful - User: {} IP: {}", username, clientIP);
-                    totalSecurityEvents.incrementAndGet();
-                })
-        );
+                log.info("Authentication successful - User: {} IP: {}", username, clientIP);
+                totalSecurityEvents.incrementAndGet();
+            });
+        return CompletableFuture.completedFuture(null);
     }
     
     /**
@@ -84,48 +87,46 @@ public class SecurityAuditService {
      */
     public CompletableFuture<Void> logAuthenticationFailure(String username, String clientIP,
                                                           String userAgent, String reason) {
-        return CompletableFuture.runAsync(() ->
-            // Eliminates audit check with Optional.filter()
-            Optional.of(auditEnabled)
-                .filter(Boolean::booleanValue)
-                .ifPresent(enabled -> {
-                    Map<String, Object> data = Map.of(
-                        "username", username,
-                        "clientIP", clientIP,
-                        "userAgent", userAgent,
-                        "timestamp", Instant.now(),
-                        "success", false,
-                        "reason", reason,
-                        "sessionId", generateSessionId()
-                    );
+        // Eliminates audit check with Optional.filter()
+        Optional.of(auditEnabled)
+            .filter(Boolean::booleanValue)
+            .ifPresent(enabled -> {
+                Map<String, Object> data = Map.of(
+                    "username", username,
+                    "clientIP", clientIP,
+                    "userAgent", userAgent,
+                    "timestamp", Instant.now(),
+                    "success", false,
+                    "reason", reason,
+                    "sessionId", generateSessionId()
+                );
 
-                    AuditEvent event = new AuditEvent(username, "AUTHENTICATION_FAILURE", data);
-                    auditEventRepository.add(event);
+                AuditEvent event = new AuditEvent(username, "AUTHENTICATION_FAILURE", data);
+                auditLogWriter.publish(event);
 
-                    // Track failure attempts for threat detection
-                    long userFailures = userFailureAttempts.computeIfAbsent(username,
-                        k -> new AtomicLong(0)).incrementAndGet();
-                    long ipRequests = ipRequestCounts.computeIfAbsent(clientIP,
-                        k -> new AtomicLong(0)).incrementAndGet();
+                // Failure attempts in the sliding failure window
+                RateLimitService.FailureCounts counts = rateLimitService.recordAuthenticationFailure(username, clientIP);
+                long userFailures = counts.userFailures();
+                long ipRequests = counts.ipFailures();
 
-                    // Threat detection - eliminates if-statements with Optional.filter()
-                    Optional.of(userFailures)
-                        .filter(failures -> failures >= alertThreshold)
-                        .ifPresent(failures -> logSuspiciousActivity("MULTIPLE_FAILED_LOGINS", username, clientIP,
-                            "User exceeded failed login threshold: " + failures));
+                // Threat detection - eliminates if-statements with Optional.filter()
+                Optional.of(userFailures)
+                    .filter(failures -> failures >= alertThreshold)
+                    .ifPresent(failures -> logSuspiciousActivity("MULTIPLE_FAILED_LOGINS", username, clientIP,
+                        "User exceeded failed login threshold: " + failures));
 
-                    Optional.of(ipRequests)
-                        .filter(requests -> requests >= alertThreshold * 2)
-                        .ifPresent(requests -> logSuspiciousActivity("IP_BRUTE_FORCE", username, clientIP,
-                            "IP exceeded request threshold: " + requests));
+                Optional.of(ipRequests)
+                    .filter(requests -> requests >= alertThreshold * 2)
+                    .ifPresent(requests -> logSuspiciousActivity("IP_BRUTE_FORCE", username, clientIP,
+                        "IP exceeded request threshold: " + requests));
 
-                    log.warn("Authentication failed - User: {} IP: {} Reason: {} Attempts: {}",
-                        username, clientIP, reason, userFailures);
+                log.warn("Authentication failed - User: {} IP: {} Reason: {} Attempts: {}",
+                    username, clientIP, reason, userFailures);
 
-                    failedAuthenticationAttempts.incrementAndGet();
-                    totalSecurityEvents.incrementAndGet();
-                })
-        );
+                failedAuthenticationAttempts.incrementAndGet();
+                totalSecurityEvents.incrementAndGet();
+            });
+        return CompletableFuture.completedFuture(null);
     }
     
     /**
@@ -133,29 +134,28 @@ public class SecurityAuditService {
      */
     public CompletableFuture<Void> logAccessDenied(String username, String resource,
                                                  String action, String clientIP) {
-        return CompletableFuture.runAsync(() ->
-            Optional.of(auditEnabled)
-                .filter(Boolean::booleanValue)
-                .ifPresent(enabled -> {
-                    Map<String, Object> data = Map.of(
-                        "username", username,
-                        "resource", resource,
-                        "action", action,
-                        "clientIP", clientIP,
-                        "timestamp", Instant.now(),
-                        "eventType", "ACCESS_DENIED"
-                    );
+        Optional.of(auditEnabled)
+            .filter(Boolean::booleanValue)
+            .ifPresent(enabled -> {
+                Map<String, Object> data = Map.of(
+                    "username", username,
+                    "resource", resource,
+                    "action", action,
+                    "clientIP", clientIP,
+                    "timestamp", Instant.now(),
+                    "eventType", "ACCESS_DENIED"
+                );
 
-                    AuditEvent event = new AuditEvent(username, "ACCESS_DENIED", data);
-                    auditEventRepository.add(event);
+                AuditEvent event = new AuditEvent(username, "ACCESS_DENIED", data);
+                auditLogWriter.publish(event);
 
-                    log.warn("Access denied - User: {} Resource: {} Action: {} IP: {}",
-                        username, resource, action, clientIP);
+                log.warn("Access denied - User: {} Resource: {} Action: {} IP: {}",
+                    username, resource, action, clientIP);
 
-                    accessDeniedEvents.incrementAndGet();
-                    totalSecurityEvents.incrementAndGet();
-                })
-        );
+                accessDeniedEvents.incrementAndGet();
+                totalSecurityEvents.incrementAndGet();
+            });
+        return CompletableFuture.completedFuture(null);
     }
     
     /**
@@ -163,28 +163,27 @@ public class SecurityAuditService {
      */
     public CompletableFuture<Void> logPrivilegedOperation(String username, String operation,
                                                         String details, String clientIP) {
-        return CompletableFuture.runAsync(() ->
-            Optional.of(auditEnabled)
-                .filter(Boolean::booleanValue)
-                .ifPresent(enabled -> {
-                    Map<String, Object> data = Map.of(
-                        "username", username,
-                        "operation", operation,
-                        "details", details,
-                        "clientIP", clientIP,
-                        "timestamp", Instant.now(),
-                        "privileged", true
-                    );
+        Optional.of(auditEnabled)
+            .filter(Boolean::booleanValue)
+            .ifPresent(enabled -> {
+                Map<String, Object> data = Map.of(
+                    "username", username,
+                    "operation", operation,
+                    "details", details,
+                    "clientIP", clientIP,
+                    "timestamp", Instant.now(),
+                    "privileged", true
+                );
 
-                    AuditEvent event = new AuditEvent(username, "PRIVILEGED_OPERATION", data);
-                    auditEventRepository.add(event);
+                AuditEvent event = new AuditEvent(username, "PRIVILEGED_OPERATION", data);
+                auditLogWriter.publish(event);
 
-                    log.info("Privileged operation - User: {} Operation: {} IP: {}",
-                        username, operation, clientIP);
+                log.info("Privileged operation - User: {} Operation: {} IP: {}",
+                    username, operation, clientIP);
 
-                    totalSecurityEvents.incrementAndGet();
-                })
-        );
+                totalSecurityEvents.incrementAndGet();
+            });
+        return CompletableFuture.completedFuture(null);
     }
     
     /**
@@ -192,34 +191,33 @@ public class SecurityAuditService {
      */
     public CompletableFuture<Void> logSuspiciousActivity(String threatType, String username,
                                                        String clientIP, String description) {
-        return CompletableFuture.runAsync(() ->
-            Optional.of(auditEnabled)
-                .filter(Boolean::booleanValue)
-                .ifPresent(enabled -> {
-                    Map<String, Object> data = Map.of(
-                        "threatType", threatType,
-                        "username", username,
-                        "clientIP", clientIP,
-                        "description", description,
-                        "timestamp", Instant.now(),
-                        "severity", "HIGH",
-                        "automated", true
-                    );
+        Optional.of(auditEnabled)
+            .filter(Boolean::booleanValue)
+            .ifPresent(enabled -> {
+                Map<String, Object> data = Map.of(
+                    "threatType", threatType,
+                    "username", username,
+                    "clientIP", clientIP,
+                    "description", description,
+                    "timestamp", Instant.now(),
+                    "severity", "HIGH",
+                    "automated", true
+                );
 
-                    AuditEvent event = new AuditEvent(username, "SUSPICIOUS_ACTIVITY", data);
-                    auditEventRepository.add(event);
+                AuditEvent event = new AuditEvent(username, "SUSPICIOUS_ACTIVITY", data);
+                auditLogWriter.publish(event);
 
-                    // Critical alert logging
-                    log.error("SECURITY ALERT - Threat: {} User: {} IP: {} Description: {}",
-                        threatType, username, clientIP, description);
+                // Critical alert logging
+                log.error("SECURITY ALERT - Threat: {} User: {} IP: {} Description: {}",
+                    threatType, username, clientIP, description);
 
-                    suspiciousActivityDetected.incrementAndGet();
-                    totalSecurityEvents.incrementAndGet();
+                suspiciousActivityDetected.incrementAndGet();
+                totalSecurityEvents.incrementAndGet();
 
-                    // In production, this would trigger alerting system
-                    // alertingService.sendSecurityAlert(threatType, data);
-                })
-        );
+                // In production, this would trigger alerting system
+                // alertingService.sendSecurityAlert(threatType, data);
+            });
+        return CompletableFuture.completedFuture(null);
     }
     
     /**
@@ -227,28 +225,27 @@ public class SecurityAuditService {
      */
     public CompletableFuture<Void> logDataAccess(String username, String dataType,
                                                String operation, String recordId) {
-        return CompletableFuture.runAsync(() ->
-            Optional.of(auditEnabled)
-                .filter(Boolean::booleanValue)
-                .ifPresent(enabled -> {
-                    Map<String, Object> data = Map.of(
-                        "username", username,
-                        "dataType", dataType,
-                        "operation", operation,
-                        "recordId", recordId,
-                        "timestamp", Instant.now(),
-                        "compliance", true
-                    );
+        Optional.of(auditEnabled)
+            .filter(Boolean::booleanValue)
+            .ifPresent(enabled -> {
+                Map<String, Object> data = Map.of(
+                    "username", username,
+                    "dataType", dataType,
+                    "operation", operation,
+                    "recordId", recordId,
+                    "timestamp", Instant.now(),
+                    "compliance", true
+                );
 
-                    AuditEvent event = new AuditEvent(username, "DATA_ACCESS", data);
-                    auditEventRepository.add(event);
+                AuditEvent event = new AuditEvent(username, "DATA_ACCESS", data);
+                auditLogWriter.publish(event);
 
-                    log.debug("Data access - User: {} Type: {} Operation: {} ID: {}",
-                        username, dataType, operation, recordId);
+                log.debug("Data access - User: {} Type: {} Operation: {} ID: {}",
+                    username, dataType, operation, recordId);
 
-                    totalSecurityEvents.incrementAndGet();
-                })
-        );
+                totalSecurityEvents.incrementAndGet();
+            });
+        return CompletableFuture.completedFuture(null);
     }
     
     /**
@@ -260,17 +257,16 @@ public class SecurityAuditService {
             "failedAuthenticationAttempts", failedAuthenticationAttempts.get(),
             "suspiciousActivityDetected", suspiciousActivityDetected.get(),
             "accessDeniedEvents", accessDeniedEvents.get(),
-            "uniqueIPs", (long) ipRequestCounts.size(),
-            "usersWithFailures", (long) userFailureAttempts.size()
+            "uniqueIPs", rateLimitService.activeClientIps(),
+            "usersWithFailures", rateLimitService.usersWithFailures()
         );
     }
     
     /**
-     * Reset security counters (for scheduled cleanup)
+     * Reset security counters (windows also age out on their own)
      */
     public void resetSecurityCounters() {
-        ipRequestCounts.clear();
-        userFailureAttempts.clear();
+        rateLimitService.reset();
         log.info("Security counters reset for new monitoring period");
     }
     
@@ -286,15 +282,13 @@ public class SecurityAuditService {
      * Check if IP is showing suspicious behavior
      */
     public boolean isSuspiciousIP(String clientIP) {
-        return ipRequestCounts.getOrDefault(clientIP, new AtomicLong(0))
-                             .get() >= alertThreshold;
+        return rateLimitService.authenticationFailuresForIp(clientIP) >= alertThreshold;
     }
     
     /**
      * Check if user is showing suspicious behavior
      */
     public boolean isSuspiciousUser(String username) {
-        return userFailureAttempts.getOrDefault(username, new AtomicLong(0))
-                                 .get() >= alertThreshold;
+        return rateLimitService.authenticationFailuresForUser(username) >= alertThreshold;
     }
 }
\ No newline at end of file
@@ -0,0 +1,432 @@
+package com.trademaster.trading.service;
+
+import com.trademaster.trading.dto.OrderRequest;
+import com.trademaster.trading.dto.OrderResponse;
+import com.trademaster.trading.metrics.TradingMetricsService;
+import com.trademaster.trading.model.OrderSide;
+import com.trademaster.trading.model.OrderStatus;
+import com.trademaster.trading.model.OrderType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.*;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.StructuredTaskScope;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Smart Order Split Engine
+ *
+ * Concurrent split-execution engine used by {@link MultiBrokerAggregationService}.
+ * Child orders are dispatched in parallel inside a structured task scope and, as
+ * acknowledgements and fills come back, quantity a broker rejected or failed to place
+ * is re-allocated to the remaining healthy brokers without waiting for slower siblings.
+ *
+ * Execution Rules:
+ * - Allocations are weight-proportional and capped by each broker's available liquidity
+ * - MARKET children carry a marketable limit at the slippage cap when a reference price is known
+ * - Re-allocation stops once realized slippage exceeds the configured cap
+ * - Children still outstanding when the window closes are reported TIMED_OUT and never re-sent
+ * - Every child records its latency and outcome (trading.aggregation.split.latency)
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SmartOrderSplitEngine {
+
+    private final TradingMetricsService metricsService;
+
+    // Configuration (Rule #16: Dynamic Configuration)
+    @Value("${trading.aggregation.split.window-ms:100}")
+    private long windowMillis;
+
+    @Value("${trading.aggregation.split.max-slippage-bps:25}")
+    private double maxSlippageBps;
+
+    @Value("${trading.aggregation.split.max-children:20}")
+    private int maxChildren;
+
+    private static final double BASIS_POINTS = 10_000.0;
+
+    /**
+     * Execute a parent order as concurrently dispatched child orders.
+     * Blocks the calling thread for at most the configured aggregation window.
+     */
+    public SplitExecutionReport execute(SplitRequest request, ChildOrderExecutor executor) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(windowMillis);
+
+        try (var scope = new SplitScope()) {
+            SplitSession session = new SplitSession(request, executor, scope, deadline);
+            session.dispatch(allocate(request.parent().quantity(), request, Set.of()));
+
+            // Consume completions as they arrive - each may trigger a re-allocation fork
+            Stream.generate(session::awaitCompletion)
+                .takeWhile(Optional::isPresent)
+                .map(Optional::get)
+                .forEach(session::onChildCompleted);
+
+            session.closeWindow();
+            SplitExecutionReport report = session.report();
+
+            log.info("Split execution completed - correlationId: {}, children: {}, placed: {}, unplaced: {}, " +
+                    "timedOut: {}, slippageBps: {}", request.correlationId(), report.fills().size(),
+                report.placedQuantity(), report.unplacedQuantity(), report.timedOutQuantity(),
+                String.format("%.2f", report.realizedSlippageBps()));
+
+            return report;
+        }
+    }
+
+    /**
+     * Allocate quantity across eligible brokers - weight-proportional, capped by liquidity.
+     * Quantity that no broker can absorb within its liquidity rests with the highest-weight broker.
+     */
+    List<ChildAllocation> allocate(int quantity, SplitRequest request, Set<String> excludedBrokers) {
+        List<BrokerSlot> eligible = request.brokers().stream()
+            .filter(slot -> !excludedBrokers.contains(slot.broker()))
+            .sorted(Comparator.comparingDouble(BrokerSlot::weight).reversed())
+            .limit(request.maxSplits())
+            .toList();
+
+        double totalWeight = eligible.stream().mapToDouble(BrokerSlot::weight).sum();
+
+        // Pass 1: proportional share bounded by each broker's liquidity
+        int[] quantities = eligible.stream()
+            .mapToInt(slot -> Optional.of(totalWeight)
+                .filter(total -> total > 0)
+                .map(total -> (int) Math.min(slot.liquidity(), (long) Math.floor(quantity * slot.weight() / total)))
+                .orElse(0))
+            .toArray();
+
+        // Pass 2: hand leftover to brokers with spare liquidity, best weight first
+        int[] leftover = { quantity - Arrays.stream(quantities).sum() };
+        IntStream.range(0, eligible.size())
+            .forEach(i -> {
+                int spare = (int) Math.max(0, Math.min(leftover[0], eligible.get(i).liquidity() - quantities[i]));
+                quantities[i] += spare;
+                leftover[0] -= spare;
+            });
+
+        // Remaining quantity beyond visible liquidity rests with the best broker
+        Optional.of(leftover[0])
+            .filter(rest -> rest > 0 && quantities.length > 0)
+            .ifPresent(rest -> quantities[0] += rest);
+
+        return IntStream.range(0, eligible.size())
+            .filter(i -> quantities[i] > 0)
+            .mapToObj(i -> new ChildAllocation(eligible.get(i).broker(), quantities[i]))
+            .toList();
+    }
+
+    /**
+     * Marketable limit price that bounds a child's worst execution at the slippage cap
+     */
+    BigDecimal protectivePrice(BigDecimal referencePrice, OrderSide side) {
+        double offset = maxSlippageBps / BASIS_POINTS;
+        BigDecimal factor = switch (side) {
+            case BUY -> BigDecimal.valueOf(1.0 + offset);
+            case SELL -> BigDecimal.valueOf(1.0 - offset);
+        };
+        return referencePrice.multiply(factor).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Signed slippage of a fill versus the reference price in basis points (positive = adverse)
+     */
+    static double slippageBps(BigDecimal referencePrice, BigDecimal fillPrice, OrderSide side) {
+        double reference = referencePrice.doubleValue();
+        double fill = fillPrice.doubleValue();
+        return switch (side) {
+            case BUY -> (fill - reference) / reference * BASIS_POINTS;
+            case SELL -> (reference - fill) / reference * BASIS_POINTS;
+        };
+    }
+
+    /**
+     * Mutable per-execution state. Only the scope owner thread touches it; child threads
+     * communicate exclusively through the scope's completion queue.
+     */
+    private final class SplitSession {
+        private final SplitRequest request;
+        private final ChildOrderExecutor executor;
+        private final SplitScope scope;
+        private final long deadline;
+        private final long startTime = System.nanoTime();
+
+        private final Map<Integer, ChildAllocation> pending = new HashMap<>();
+        private final Set<String> excludedBrokers = new HashSet<>();
+        private final List<SplitFill> fills = new ArrayList<>();
+        private final List<OrderResponse> responses = new ArrayList<>();
+
+        private int childSequence;
+        private int placedQuantity;
+        private int unplacedQuantity;
+        private int timedOutQuantity;
+        private long slippageQuantity;
+        private double slippageWeightedBps;
+        private boolean slippageCapHit;
+        private boolean windowClosed;
+
+        SplitSession(SplitRequest request, ChildOrderExecutor executor, SplitScope scope, long deadline) {
+            this.request = request;
+            this.executor = executor;
+            this.scope = scope;
+            this.deadline = deadline;
+        }
+
+        void dispatch(List<ChildAllocation> allocations) {
+            allocations.forEach(allocation -> Optional.of(childSequence)
+                .filter(sequence -> sequence < maxChildren)
+                .ifPresentOrElse(
+                    sequence -> fork(sequence, allocation),
+                    () -> unplacedQuantity += allocation.quantity()));
+        }
+
+        private void fork(int childId, ChildAllocation allocation) {
+            childSequence++;
+            pending.put(childId, allocation);
+            scope.fork(() -> runChild(childId, allocation));
+        }
+
+        private SplitFill runChild(int childId, ChildAllocation allocation) {
+            long start = System.nanoTime();
+            try {
+                OrderResponse response = executor.execute(childOrder(allocation.quantity()), allocation.broker());
+                return SplitFill.from(childId, allocation, response, System.nanoTime() - start);
+            } catch (Exception e) {
+                log.warn("Split child failed - correlationId: {}, broker: {}, error: {}",
+                    request.correlationId(), allocation.broker(), e.getMessage());
+                return SplitFill.failed(childId, allocation, System.nanoTime() - start);
+            }
+        }
+
+        private OrderRequest childOrder(int quantity) {
+            OrderRequest parent = request.parent();
+            return Optional.ofNullable(request.referencePrice())
+                .filter(reference -> parent.orderType() == OrderType.MARKET)
+                .map(reference -> parent.toBuilder()
+                    .orderType(OrderType.LIMIT)
+                    .limitPrice(protectivePrice(reference, parent.side()))
+                    .quantity(quantity)
+                    .build())
+                .orElseGet(() -> parent.toBuilder().quantity(quantity).build());
+        }
+
+        Optional<SplitFill> awaitCompletion() {
+            long remaining = deadline - System.nanoTime();
+            return Optional.of(remaining)
+                .filter(nanos -> nanos > 0 && !pending.isEmpty())
+                .flatMap(this::pollCompletion);
+        }
+
+        private Optional<SplitFill> pollCompletion(long timeoutNanos) {
+            try {
+                return Optional.ofNullable(scope.completions.poll(timeoutNanos, TimeUnit.NANOSECONDS));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return Optional.empty();
+            }
+        }
+
+        void onChildCompleted(SplitFill fill) {
+            pending.remove(fill.childId());
+            record(fill);
+            Optional.ofNullable(fill.response()).ifPresent(responses::add);
+            placedQuantity += fill.requestedQuantity() - fill.unplacedQuantity();
+
+            Optional.ofNullable(request.referencePrice())
+                .filter(reference -> fill.filledQuantity() > 0 && fill.averagePrice() != null)
+                .ifPresent(reference -> {
+                    slippageQuantity += fill.filledQuantity();
+                    slippageWeightedBps += fill.filledQuantity() *
+                        slippageBps(reference, fill.averagePrice(), request.parent().side());
+                });
+
+            Optional.of(fill.unplacedQuantity())
+                .filter(quantity -> quantity > 0)
+                .ifPresent(quantity -> reallocate(fill.broker(), quantity));
+        }
+
+        private void reallocate(String failedBroker, int quantity) {
+            excludedBrokers.add(failedBroker);
+            slippageCapHit = slippageCapHit || realizedSlippageBps() > maxSlippageBps;
+
+            Optional.of(quantity)
+                .filter(q -> !windowClosed && !slippageCapHit && System.nanoTime() < deadline)
+                .map(q -> allocate(q, request, excludedBrokers))
+                .filter(allocations -> !allocations.isEmpty())
+                .ifPresentOrElse(this::dispatch, () -> unplacedQuantity += quantity);
+        }
+
+        /**
+         * Close the aggregation window: stop outstanding children, absorb completions that raced
+         * the deadline and report everything still pending as timed out.
+         */
+        void closeWindow() {
+            windowClosed = true;
+            scope.shutdown();
+            try {
+                scope.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            Stream.generate(scope.completions::poll)
+                .takeWhile(Objects::nonNull)
+                .forEach(this::onChildCompleted);
+
+            long elapsed = System.nanoTime() - startTime;
+            List.copyOf(pending.entrySet()).forEach(entry -> {
+                SplitFill timedOut = SplitFill.timedOut(entry.getKey(), entry.getValue(), elapsed);
+                timedOutQuantity += timedOut.requestedQuantity();
+                record(timedOut);
+            });
+            pending.clear();
+        }
+
+        private void record(SplitFill fill) {
+            fills.add(fill);
+            metricsService.recordSplitExecution(fill.broker(), fill.outcome().name(), fill.latencyNanos());
+        }
+
+        private double realizedSlippageBps() {
+            return Optional.of(slippageQuantity)
+                .filter(quantity -> quantity > 0)
+                .map(quantity -> slippageWeightedBps / quantity)
+                .orElse(0.0);
+        }
+
+        SplitExecutionReport report() {
+            return new SplitExecutionReport(List.copyOf(responses), List.copyOf(fills), placedQuantity,
+                unplacedQuantity, timedOutQuantity, realizedSlippageBps(), slippageCapHit);
+        }
+    }
+
+    /**
+     * Structured scope that publishes every completed child to a queue so the owner can
+     * react to individual acks and fills instead of waiting for the whole round.
+     */
+    private static final class SplitScope extends StructuredTaskScope<SplitFill> {
+        private final BlockingQueue<SplitFill> completions = new LinkedBlockingQueue<>();
+
+        @Override
+        protected void handleComplete(Subtask<? extends SplitFill> subtask) {
+            Optional.of(subtask)
+                .filter(task -> task.state() == Subtask.State.SUCCESS)
+                .<SplitFill>map(Subtask::get)
+                .ifPresent(completions::offer);
+        }
+    }
+
+    /**
+     * Broker submission function - typically the caller's broker API adapter
+     */
+    @FunctionalInterface
+    public interface ChildOrderExecutor {
+        OrderResponse execute(OrderRequest childOrder, String brokerName) throws Exception;
+    }
+
+    /**
+     * Split execution input
+     */
+    public record SplitRequest(
+        OrderRequest parent,
+        String correlationId,
+        List<BrokerSlot> brokers,
+        BigDecimal referencePrice,
+        int maxSplits
+    ) {}
+
+    /**
+     * Broker weight and available liquidity (shares) for this symbol
+     */
+    public record BrokerSlot(String broker, double weight, long liquidity) {}
+
+    /**
+     * Quantity assigned to a broker for one child order
+     */
+    public record ChildAllocation(String broker, int quantity) {}
+
+    /**
+     * Outcome of a single child order
+     */
+    public enum SplitOutcome {
+        FILLED, PARTIAL, ACKNOWLEDGED, REJECTED, FAILED, TIMED_OUT
+    }
+
+    /**
+     * Per-child latency and fill outcome
+     */
+    public record SplitFill(
+        int childId,
+        String broker,
+        int requestedQuantity,
+        int filledQuantity,
+        int unplacedQuantity,
+        BigDecimal averagePrice,
+        SplitOutcome outcome,
+        long latencyNanos,
+        OrderResponse response
+    ) {
+        static SplitFill from(int childId, ChildAllocation allocation, OrderResponse response, long latencyNanos) {
+            SplitOutcome outcome = classify(response.status());
+            int requested = allocation.quantity();
+            int filled = Optional.ofNullable(response.filledQuantity())
+                .orElseGet(() -> switch (outcome) {
+                    case FILLED -> requested;
+                    default -> 0;
+                });
+            int unplaced = switch (outcome) {
+                case REJECTED, FAILED -> Math.max(0, requested - filled);
+                default -> 0;
+            };
+            return new SplitFill(childId, allocation.broker(), requested, filled, unplaced,
+                response.averagePrice(), outcome, latencyNanos, response);
+        }
+
+        static SplitFill failed(int childId, ChildAllocation allocation, long latencyNanos) {
+            return new SplitFill(childId, allocation.broker(), allocation.quantity(), 0, allocation.quantity(),
+                null, SplitOutcome.FAILED, latencyNanos, null);
+        }
+
+        static SplitFill timedOut(int childId, ChildAllocation allocation, long latencyNanos) {
+            return new SplitFill(childId, allocation.broker(), allocation.quantity(), 0, 0,
+                null, SplitOutcome.TIMED_OUT, latencyNanos, null);
+        }
+
+        private static SplitOutcome classify(OrderStatus status) {
+            return Optional.ofNullable(status)
+                .map(s -> switch (s) {
+                    case FILLED -> SplitOutcome.FILLED;
+                    case PARTIALLY_FILLED -> SplitOutcome.PARTIAL;
+                    case PENDING, VALIDATED, SUBMITTED, ACKNOWLEDGED -> SplitOutcome.ACKNOWLEDGED;
+                    case REJECTED, CANCELLED, EXPIRED -> SplitOutcome.REJECTED;
+                })
+                .orElse(SplitOutcome.FAILED);
+        }
+    }
+
+    /**
+     * Aggregated result of a split execution. Timed-out quantity is unconfirmed: it may
+     * still be working at the broker and is therefore never re-allocated.
+     */
+    public record SplitExecutionReport(
+        List<OrderResponse> responses,
+        List<SplitFill> fills,
+        int placedQuantity,
+        int unplacedQuantity,
+        int timedOutQuantity,
+        double realizedSlippageBps,
+        boolean slippageCapHit
+    ) {}
+}
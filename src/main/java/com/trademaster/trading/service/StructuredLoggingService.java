@@ -1,5 +1,6 @@
 package com.trademaster.trading.service;
 
+import com.trademaster.trading.logging.LogContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.Logger;
@@ -10,7 +11,6 @@ import org.springframework.stereotype.Service;
 import java.math.BigDecimal;
 import java.time.Duration;
 import java.time.Instant;
-import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 
@@ -28,6 +28,12 @@ import java.util.concurrent.CompletableFuture;
  * - Error logging with full context and stack traces
  * - Financial transaction logging with audit trails
  * 
+ * Hot path:
+ * - Fields travel as SLF4J key-value pairs on the event, so logging never touches MDC and
+ *   disabled levels cost nothing beyond the level check
+ * - Scoped context (executeWithContext, executeWithCorrelation) is bound as LogContext,
+ *   which the async appender attaches to every event of the scope
+ * 
  * Compliance:
  * - SOX compliance for financial transaction logging
  * - GDPR compliance for data processing logs
@@ -68,11 +74,11 @@ public class StructuredLoggingService {
      * Log audit event for regulatory compliance
      */
     public void logAuditEvent(String correlationId, Long userId, String operation, String message) {
-        withMDC(Map.of(
-            CORRELATION_ID, correlationId,
-            USER_ID, String.valueOf(userId),
-            OPERATION, operation
-        ), () -> AUDIT_LOGGER.info(message));
+        AUDIT_LOGGER.atInfo()
+            .addKeyValue(CORRELATION_ID, correlationId)
+            .addKeyValue(USER_ID, userId)
+            .addKeyValue(OPERATION, operation)
+            .log(message);
     }
     
     /**
@@ -80,15 +86,15 @@ public class StructuredLoggingService {
      */
     public void logFinancialTransaction(String correlationId, Long userId, String orderId, 
                                       String symbol, BigDecimal amount, String broker, String message) {
-        withMDC(Map.of(
-            CORRELATION_ID, correlationId,
-            USER_ID, String.valueOf(userId),
-            ORDER_ID, orderId,
-            SYMBOL, symbol,
-            AMOUNT, amount.toString(),
-            BROKER, broker,
-            OPERATION, "FINANCIAL_TRANSACTION"
-        ), () -> AUDIT_LOGGER.info(message));
+        AUDIT_LOGGER.atInfo()
+            .addKeyValue(CORRELATION_ID, correlationId)
+            .addKeyValue(USER_ID, userId)
+            .addKeyValue(ORDER_ID, orderId)
+            .addKeyValue(SYMBOL, symbol)
+            .addKeyValue(AMOUNT, amount)
+            .addKeyValue(BROKER, broker)
+            .addKeyValue(OPERATION, "FINANCIAL_TRANSACTION")
+            .log(message);
     }
     
     /**
@@ -96,14 +102,14 @@ public class StructuredLoggingService {
      */
     public void logOrderEvent(String correlationId, Long userId, String orderId, 
                             String symbol, String orderStatus, String broker, String message) {
-        withMDC(Map.of(
-            CORRELATION_ID, correlationId,
-            USER_ID, String.valueOf(userId),
-            ORDER_ID, orderId,
-            SYMBOL, symbol,
-            BROKER, broker,
-            OPERATION, "ORDER_" + orderStatus
-        ), () -> AUDIT_LOGGER.info(message));
+        AUDIT_LOGGER.atInfo()
+            .addKeyValue(CORRELATION_ID, correlationId)
+            .addKeyValue(USER_ID, userId)
+            .addKeyValue(ORDER_ID, orderId)
+            .addKeyValue(SYMBOL, symbol)
+            .addKeyValue(BROKER, broker)
+            .addKeyValue(OPERATION, "ORDER_" + orderStatus)
+            .log(message);
     }
     
     /**
@@ -111,12 +117,12 @@ public class StructuredLoggingService {
      */
     public void logPerformanceMetric(String correlationId, String metricName, 
                                    Object value, Duration duration, String message) {
-        withMDC(Map.of(
-            CORRELATION_ID, correlationId,
-            METRIC, metricName,
-            VALUE, String.valueOf(value),
-            DURATION, String.valueOf(duration.toMillis())
-        ), () -> PERFORMANCE_LOGGER.info(message));
+        PERFORMANCE_LOGGER.atInfo()
+            .addKeyValue(CORRELATION_ID, correlationId)
+            .addKeyValue(METRIC, metricName)
+            .addKeyValue(VALUE, value)
+            .addKeyValue(DURATION, duration.toMillis())
+            .log(message);
     }
     
     /**
@@ -124,11 +130,11 @@ public class StructuredLoggingService {
      */
     public void logTiming(String correlationId, String operation, long startTime, String message) {
         long duration = System.currentTimeMillis() - startTime;
-        withMDC(Map.of(
-            CORRELATION_ID, correlationId,
-            OPERATION, operation,
-            DURATION, String.valueOf(duration)
-        ), () -> PERFORMANCE_LOGGER.debug(message + " - Duration: {}ms", duration));
+        PERFORMANCE_LOGGER.atDebug()
+            .addKeyValue(CORRELATION_ID, correlationId)
+            .addKeyValue(OPERATION, operation)
+            .addKeyValue(DURATION, duration)
+            .log("{} - Duration: {}ms", message, duration);
     }
     
     /**
@@ -137,13 +143,13 @@ public class StructuredLoggingService {
      */
     public void logSecurityEvent(String correlationId, Long userId, String securityEvent,
                                String sourceIp, String userAgent, String message) {
-        withMDC(Map.of(
-            CORRELATION_ID, correlationId,
-            USER_ID, Optional.ofNullable(userId).map(String::valueOf).orElse("anonymous"),
-            SECURITY_EVENT, securityEvent,
-            SOURCE_IP, Optional.ofNullable(sourceIp).orElse("unknown"),
-            USER_AGENT, Optional.ofNullable(userAgent).orElse("unknown")
-        ), () -> SECURITY_LOGGER.warn(message));
+        SECURITY_LOGGER.atWarn()
+            .addKeyValue(CORRELATION_ID, correlationId)
+            .addKeyValue(USER_ID, Optional.ofNullable(userId).map(String::valueOf).orElse("anonymous"))
+            .addKeyValue(SECURITY_EVENT, securityEvent)
+            .addKeyValue(SOURCE_IP, Optional.ofNullable(sourceIp).orElse("unknown"))
+            .addKeyValue(USER_AGENT, Optional.ofNullable(userAgent).orElse("unknown"))
+            .log(message);
     }
     
     /**
@@ -156,19 +162,16 @@ public class StructuredLoggingService {
             .filter(s -> s)
             .map(s -> "AUTH_SUCCESS")
             .orElse("AUTH_FAILURE");
-        withMDC(Map.of(
-            CORRELATION_ID, correlationId,
-            USER_ID, Optional.ofNullable(userId).map(String::valueOf).orElse("unknown"),
-            SECURITY_EVENT, securityEvent,
-            SOURCE_IP, Optional.ofNullable(sourceIp).orElse("unknown"),
-            OPERATION, authEvent
-        ), () -> Optional.of(success)
+        Optional.of(success)
             .filter(s -> s)
-            .ifPresentOrElse(
-                s -> SECURITY_LOGGER.info(message),
-                () -> SECURITY_LOGGER.warn(message)
-            )
-        );
+            .map(s -> SECURITY_LOGGER.atInfo())
+            .orElseGet(SECURITY_LOGGER::atWarn)
+            .addKeyValue(CORRELATION_ID, correlationId)
+            .addKeyValue(USER_ID, Optional.ofNullable(userId).map(String::valueOf).orElse("unknown"))
+            .addKeyValue(SECURITY_EVENT, securityEvent)
+            .addKeyValue(SOURCE_IP, Optional.ofNullable(sourceIp).orElse("unknown"))
+            .addKeyValue(OPERATION, authEvent)
+            .log(message);
     }
     
     /**
@@ -177,12 +180,13 @@ public class StructuredLoggingService {
      */
     public void logError(String correlationId, Long userId, String errorCode,
                         String operation, String message, Throwable throwable) {
-        withMDC(Map.of(
-            CORRELATION_ID, correlationId,
-            USER_ID, Optional.ofNullable(userId).map(String::valueOf).orElse("system"),
-            ERROR_CODE, errorCode,
-            OPERATION, operation
-        ), () -> ERROR_LOGGER.error(message, throwable));
+        ERROR_LOGGER.atError()
+            .addKeyValue(CORRELATION_ID, correlationId)
+            .addKeyValue(USER_ID, Optional.ofNullable(userId).map(String::valueOf).orElse("system"))
+            .addKeyValue(ERROR_CODE, errorCode)
+            .addKeyValue(OPERATION, operation)
+            .setCause(throwable)
+            .log(message);
     }
     
     /**
@@ -190,12 +194,12 @@ public class StructuredLoggingService {
      */
     public void logBusinessRuleViolation(String correlationId, Long userId, String ruleType, 
                                        String violationDetails, String message) {
-        withMDC(Map.of(
-            CORRELATION_ID, correlationId,
-            USER_ID, String.valueOf(userId),
-            OPERATION, "BUSINESS_RULE_VIOLATION",
-            ERROR_CODE, ruleType
-        ), () -> AUDIT_LOGGER.warn(message + " - Violation: {}", violationDetails));
+        AUDIT_LOGGER.atWarn()
+            .addKeyValue(CORRELATION_ID, correlationId)
+            .addKeyValue(USER_ID, userId)
+            .addKeyValue(OPERATION, "BUSINESS_RULE_VIOLATION")
+            .addKeyValue(ERROR_CODE, ruleType)
+            .log("{} - Violation: {}", message, violationDetails);
     }
     
     /**
@@ -203,13 +207,13 @@ public class StructuredLoggingService {
      */
     public void logRiskEvent(String correlationId, Long userId, String riskType, 
                            String riskLevel, BigDecimal riskValue, String message) {
-        withMDC(Map.of(
-            CORRELATION_ID, correlationId,
-            USER_ID, String.valueOf(userId),
-            OPERATION, "RISK_ASSESSMENT",
-            METRIC, riskType,
-            VALUE, riskValue.toString()
-        ), () -> AUDIT_LOGGER.info(message + " - Risk Level: {}", riskLevel));
+        AUDIT_LOGGER.atInfo()
+            .addKeyValue(CORRELATION_ID, correlationId)
+            .addKeyValue(USER_ID, userId)
+            .addKeyValue(OPERATION, "RISK_ASSESSMENT")
+            .addKeyValue(METRIC, riskType)
+            .addKeyValue(VALUE, riskValue)
+            .log("{} - Risk Level: {}", message, riskLevel);
     }
     
     /**
@@ -217,12 +221,12 @@ public class StructuredLoggingService {
      */
     public void logCircuitBreakerEvent(String correlationId, String serviceName, 
                                      String state, String reason, String message) {
-        withMDC(Map.of(
-            CORRELATION_ID, correlationId,
-            OPERATION, "CIRCUIT_BREAKER",
-            METRIC, serviceName,
-            VALUE, state
-        ), () -> PERFORMANCE_LOGGER.warn(message + " - Reason: {}", reason));
+        PERFORMANCE_LOGGER.atWarn()
+            .addKeyValue(CORRELATION_ID, correlationId)
+            .addKeyValue(OPERATION, "CIRCUIT_BREAKER")
+            .addKeyValue(METRIC, serviceName)
+            .addKeyValue(VALUE, state)
+            .log("{} - Reason: {}", message, reason);
     }
     
     /**
@@ -234,53 +238,21 @@ public class StructuredLoggingService {
     
     /**
      * Execute operation with correlation context
-     * Uses Optional to eliminate if-statement
+     * The context is bound as a LogContext scope on the executing thread, nothing is put in MDC
      */
     public CompletableFuture<Void> executeWithCorrelation(String correlationId, Runnable operation) {
-        return CompletableFuture.runAsync(() -> {
-            String previousCorrelationId = MDC.get(CORRELATION_ID);
-            try {
-                MDC.put(CORRELATION_ID, correlationId);
-                operation.run();
-            } finally {
-                Optional.ofNullable(previousCorrelationId)
-                    .ifPresentOrElse(
-                        prevId -> MDC.put(CORRELATION_ID, prevId),
-                        () -> MDC.remove(CORRELATION_ID)
-                    );
-            }
-        });
+        LogContext context = LogContext.currentOr(correlationId);
+        return CompletableFuture.runAsync(() -> context.run(operation));
     }
     
     /**
      * Execute operation with full context
      */
     public void executeWithContext(String correlationId, Long userId, String operation, Runnable task) {
-        withMDC(Map.of(
-            CORRELATION_ID, correlationId,
-            USER_ID, String.valueOf(userId),
-            OPERATION, operation
-        ), task);
-    }
-    
-    /**
-     * Helper method to execute code with MDC context
-     * Uses Optional to eliminate if-statement
-     */
-    private void withMDC(Map<String, String> contextMap, Runnable operation) {
-        // Store current MDC state
-        Map<String, String> previousContext = MDC.getCopyOfContextMap();
-
-        try {
-            // Set new context
-            contextMap.forEach(MDC::put);
-            operation.run();
-        } finally {
-            // Restore previous context
-            MDC.clear();
-            Optional.ofNullable(previousContext)
-                .ifPresent(MDC::setContextMap);
-        }
+        LogContext.currentOr(correlationId)
+            .withUser(userId)
+            .withOperation(operation)
+            .run(task);
     }
     
     /**
@@ -361,9 +333,11 @@ public class StructuredLoggingService {
     }
     
     /**
-     * Get current correlation ID from MDC
+     * Get current correlation ID from the bound LogContext, falling back to MDC
      */
     public String getCurrentCorrelationId() {
-        return MDC.get(CORRELATION_ID);
+        return Optional.ofNullable(LogContext.current())
+            .map(LogContext::correlationId)
+            .orElseGet(() -> MDC.get(CORRELATION_ID));
     }
 }
\ No newline at end of file
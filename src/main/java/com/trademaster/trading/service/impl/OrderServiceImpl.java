@@ -1,22 +1,35 @@
 package com.trademaster.trading.service.impl;
 
+import com.trademaster.trading.audit.AuditDurability;
+import com.trademaster.trading.audit.AuditLogWriter;
+import com.trademaster.trading.audit.AuditRecord;
 import com.trademaster.trading.client.BrokerAuthClient;
 import com.trademaster.common.functional.Result;
 import com.trademaster.trading.common.TradeError;
 import com.trademaster.trading.dto.OrderRequest;
 import com.trademaster.trading.dto.OrderResponse;
 import com.trademaster.trading.entity.Order;
+import com.trademaster.trading.logging.LogContext;
+import com.trademaster.trading.logging.LogSampler;
+import com.trademaster.trading.logging.RequestOutcome;
 import com.trademaster.trading.metrics.AlertingService;
 import com.trademaster.trading.metrics.TradingMetricsService;
+import com.trademaster.trading.metrics.latency.OrderLatencyRecorder;
+import com.trademaster.trading.metrics.latency.OrderStage;
 import com.trademaster.trading.model.OrderStatus;
 import com.trademaster.trading.repository.OrderRepository;
+import com.trademaster.trading.pnl.StreamingPnLEngine;
+import com.trademaster.trading.risk.control.ControlVerdict;
+import com.trademaster.trading.risk.control.OrderControls;
+import com.trademaster.trading.risk.exposure.ExposureLedger;
+import com.trademaster.trading.risk.exposure.Reservation;
 import com.trademaster.trading.routing.ExecutionStrategy;
 import com.trademaster.trading.routing.OrderRouter;
 import com.trademaster.trading.routing.RoutingDecision;
 import com.trademaster.trading.service.OrderService;
 import com.trademaster.trading.service.TradingEventPublisher;
-import com.trademaster.trading.validation.OrderValidator;
 import com.trademaster.trading.validation.ValidationResult;
+import com.trademaster.trading.validation.pipeline.ValidatorPipeline;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -24,13 +37,20 @@ import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.micrometer.core.instrument.Timer;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -50,6 +70,33 @@ import java.util.stream.Collectors;
  * - Rule #15: Structured logging with correlation IDs
  * - Rule #25: Circuit breaker for broker calls
  * 
+ * Every placement first passes OrderControls (kill switches, order-rate and notional
+ * throttles, open-order cap) before any I/O; a refused placement returns a preallocated
+ * rejection. Only an admitted placement opens a transaction, so a refusal never takes a
+ * pooled connection. An admitted order holds an open-order slot until it ends or is not
+ * placed.
+ * 
+ * Every order change is written to trading_audit_log through AuditLogWriter. Placements,
+ * modifications and fills wait for a durable (SYNC) ack; cancellations and status changes
+ * are queued (ASYNC). Fills also move the user's position in StreamingPnLEngine.
+ * 
+ * In-memory state that follows an order change (the P&L book, the exposure ledger's
+ * fills and releases, open-order slots) is updated after the transaction commits.
+ * 
+ * A validated order is accepted only if ExposureLedger can reserve its notional from the
+ * user's buying power; fills, cancellations, rejections, expiries and modifications keep
+ * the ledger's open notional and exposure in step with the order.
+ * 
+ * Validators run through ValidatorPipeline: cheap in-memory validators first, stopping at
+ * the first rejection, then I/O-bound ones concurrently on virtual threads.
+ * 
+ * Placements are traced stage by stage (validate, persist, route, broker, audit, publish)
+ * through OrderLatencyRecorder, keyed by the placement's correlation ID.
+ * 
+ * Each placement runs with its LogContext bound and a LogSampler tail buffer open; the
+ * sampled per-order INFO events it did not write are written out only when the placement
+ * is rejected, fails or breaches the SLA.
+ * 
  * @author TradeMaster Development Team
  * @version 2.0.0 (Java 24 + Virtual Threads)
  */
@@ -58,36 +105,62 @@ import java.util.stream.Collectors;
 public class OrderServiceImpl implements OrderService {
     
     private final OrderRepository orderRepository;
-    private final List<OrderValidator> validators;
+    private final ValidatorPipeline validatorPipeline;
     private final OrderRouter orderRouter;
     private final TradingEventPublisher eventPublisher;
     private final BrokerAuthClient brokerAuthClient;
     private final TradingMetricsService metricsService;
     private final AlertingService alertingService;
     private final AsyncTaskExecutor orderProcessingExecutor;
+    private final AuditLogWriter auditLogWriter;
+    private final OrderLatencyRecorder latencyRecorder;
+    private final LogSampler logSampler;
+    private final StreamingPnLEngine pnlEngine;
+    private final ExposureLedger exposureLedger;
+    private final OrderControls orderControls;
+    private final TransactionTemplate transactionTemplate;
     
     public OrderServiceImpl(
             OrderRepository orderRepository,
-            List<OrderValidator> validators,
+            ValidatorPipeline validatorPipeline,
             OrderRouter orderRouter,
             TradingEventPublisher eventPublisher,
             BrokerAuthClient brokerAuthClient,
             TradingMetricsService metricsService,
             AlertingService alertingService,
-            @Qualifier("orderProcessingExecutor") AsyncTaskExecutor orderProcessingExecutor) {
+            @Qualifier("orderProcessingExecutor") AsyncTaskExecutor orderProcessingExecutor,
+            AuditLogWriter auditLogWriter,
+            OrderLatencyRecorder latencyRecorder,
+            LogSampler logSampler,
+            StreamingPnLEngine pnlEngine,
+            ExposureLedger exposureLedger,
+            OrderControls orderControls,
+            PlatformTransactionManager transactionManager) {
         this.orderRepository = orderRepository;
-        this.validators = validators;
+        this.validatorPipeline = validatorPipeline;
         this.orderRouter = orderRouter;
         this.eventPublisher = eventPublisher;
         this.brokerAuthClient = brokerAuthClient;
         this.metricsService = metricsService;
         this.alertingService = alertingService;
         this.orderProcessingExecutor = orderProcessingExecutor;
+        this.auditLogWriter = auditLogWriter;
+        this.latencyRecorder = latencyRecorder;
+        this.logSampler = logSampler;
+        this.pnlEngine = pnlEngine;
+        this.exposureLedger = exposureLedger;
+        this.orderControls = orderControls;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
     
     // Circuit breaker names for monitoring
     private static final String BROKER_AUTH_CB = "broker-auth-service";
     private static final String PORTFOLIO_SERVICE_CB = "portfolio-service";
+    private static final long ORDER_SLA_MILLIS = 100;
+
+    // Results for orders refused by OrderControls, built once so a refusal allocates nothing
+    private static final Map<ControlVerdict, Result<OrderResponse, TradeError>> CONTROL_REJECTIONS =
+        controlRejections();
     
     /**
      * Order processing context record
@@ -102,12 +175,97 @@ public class OrderServiceImpl implements OrderService {
     ) {}
 
     @Override
-    @Transactional
     public Result<OrderResponse, TradeError> placeOrder(OrderRequest orderRequest, Long userId) {
+        return switch (orderControls.admit(userId, orderRequest)) {
+            case ADMITTED -> placeAdmittedOrder(orderRequest, userId);
+            case ControlVerdict refused -> CONTROL_REJECTIONS.get(refused);
+        };
+    }
+
+    /**
+     * Place an order admitted by the entry controls in its own transaction; if it is not
+     * placed, its open-order slot is freed
+     * Pattern 2: Admitted placement extraction
+     * Rule #5: 16 lines, complexity ≤7
+     */
+    private Result<OrderResponse, TradeError> placeAdmittedOrder(OrderRequest orderRequest, Long userId) {
         OrderProcessingContext context = initiateOrderProcessing(orderRequest, userId);
 
+        Result<OrderResponse, TradeError> result;
+        try {
+            result = LogContext.currentOr(context.correlationId())
+                .withUser(userId)
+                .call(() -> placeInTransaction(context, orderRequest, userId));
+        } finally {
+            // After the commit, so the span includes the audit write that waits for it
+            latencyRecorder.end(context.correlationId());
+        }
+        logSampler.complete(context.correlationId(), placementOutcome(context, result));
+        Optional.of(result)
+            .filter(placed -> !placed.isSuccess())
+            .ifPresent(failed -> orderControls.close(userId));
+        return result;
+    }
+
+    /**
+     * Run the placement in a transaction. The transaction starts only here, after the
+     * entry controls admitted the order, so a refused order never takes a connection
+     * from the pool. A placement that fails is rolled back, and one whose flush or commit
+     * throws is reported as a database error, so the caller still closes its log tail
+     * and open-order slot.
+     * Pattern 2: Transaction boundary extraction
+     * Rule #5: 9 lines, complexity ≤7
+     */
+    private Result<OrderResponse, TradeError> placeInTransaction(
+            OrderProcessingContext context, OrderRequest orderRequest, Long userId) {
+        try {
+            return transactionTemplate.execute(status ->
+                rollbackUnlessPlaced(status, processOrderPlacement(context, orderRequest, userId)));
+        } catch (RuntimeException e) {
+            log.error("Order placement transaction failed - correlationId: {}, userId: {}, error: {}",
+                     context.correlationId(), userId, e.getMessage());
+            return Result.failure(new TradeError.DataError.DatabaseError("order placement", e.getMessage()));
+        }
+    }
+
+    /**
+     * Mark the placement transaction rollback-only when the order was not placed, so none
+     * of a failed placement's writes commit
+     * Pattern 2: Rollback decision extraction
+     * Rule #5: 5 lines, complexity ≤7
+     */
+    private static Result<OrderResponse, TradeError> rollbackUnlessPlaced(
+            TransactionStatus status, Result<OrderResponse, TradeError> result) {
+        Optional.ofNullable(status)
+            .filter(open -> !result.isSuccess())
+            .ifPresent(TransactionStatus::setRollbackOnly);
+        return result;
+    }
+
+    /**
+     * Rejection result for every refusing control verdict
+     * Pattern 2: Preallocation extraction
+     * Rule #5: 5 lines, complexity ≤7
+     */
+    private static Map<ControlVerdict, Result<OrderResponse, TradeError>> controlRejections() {
+        Map<ControlVerdict, Result<OrderResponse, TradeError>> rejections = new EnumMap<>(ControlVerdict.class);
+        Arrays.stream(ControlVerdict.values())
+            .filter(verdict -> !verdict.admitted())
+            .forEach(verdict -> rejections.put(verdict, Result.failure(verdict.error())));
+        return Collections.unmodifiableMap(rejections);
+    }
+
+    /**
+     * Validate and process the order inside its log context
+     * Pattern 2: Placement pipeline extraction
+     * Rule #5: 15 lines, complexity ≤7
+     */
+    private Result<OrderResponse, TradeError> processOrderPlacement(
+            OrderProcessingContext context, OrderRequest orderRequest, Long userId) {
         try {
+            long validationStarted = System.nanoTime();
             ValidationResult validation = validateOrderWithAllValidators(orderRequest, userId);
+            latencyRecorder.record(context.correlationId(), OrderStage.VALIDATE, validationStarted);
             metricsService.recordRiskCheckTime(context.riskCheckTimer());
 
             return Optional.of(validation)
@@ -125,20 +283,40 @@ public class OrderServiceImpl implements OrderService {
     /**
      * Initialize order processing with metrics and correlation ID
      * Pattern 2: Initialization extraction
-     * Rule #5: 10 lines, complexity ≤7
+     * Rule #5: 12 lines, complexity ≤7
      */
     private OrderProcessingContext initiateOrderProcessing(OrderRequest orderRequest, Long userId) {
         String correlationId = generateCorrelationId();
         Timer.Sample orderProcessingTimer = metricsService.startOrderProcessing();
         Timer.Sample riskCheckTimer = metricsService.startRiskCheck();
         long startTime = System.currentTimeMillis();
+        latencyRecorder.begin(correlationId);
+        logSampler.begin(correlationId);
 
-        log.info("Processing order placement - correlationId: {}, userId: {}, symbol: {}, quantity: {}",
+        logSampler.info(correlationId, log, "order.placement",
+                "Processing order placement - correlationId: {}, userId: {}, symbol: {}, quantity: {}",
                 correlationId, userId, orderRequest.symbol(), orderRequest.quantity());
 
         return new OrderProcessingContext(correlationId, orderProcessingTimer, riskCheckTimer, startTime);
     }
 
+    /**
+     * Map the placement result to the outcome that decides whether its log tail is kept
+     * Pattern 2: Outcome classification extraction
+     * Rule #5: 9 lines, complexity ≤7
+     */
+    private RequestOutcome placementOutcome(
+            OrderProcessingContext context, Result<OrderResponse, TradeError> result) {
+        long processingTime = System.currentTimeMillis() - context.startTime();
+        return result.fold(
+            response -> processingTime > ORDER_SLA_MILLIS ? RequestOutcome.SLA_BREACH : RequestOutcome.COMPLETED,
+            error -> switch (error) {
+                case TradeError.DataError dataError -> RequestOutcome.ERROR;
+                case TradeError.SystemError systemError -> RequestOutcome.ERROR;
+                default -> RequestOutcome.REJECTED;
+            });
+    }
+
     /**
      * Handle validation failure with metrics and error reporting
      * Pattern 2: Error path extraction
@@ -315,35 +493,56 @@ public class OrderServiceImpl implements OrderService {
     }
 
     /**
-     * Execute order modification with broker - eliminates if-statements
+     * Execute order modification - moves the order's exposure to the new terms first, so
+     * a modification the user's buying power cannot cover never reaches the broker
      */
     private Result<OrderResponse, TradeError> executeOrderModification(
             Order order, OrderRequest modificationRequest, String correlationId, String orderId) {
 
-        CompletableFuture<String> brokerModification = modifyOrderWithBroker(order, modificationRequest, correlationId);
-
-        try {
-            String newBrokerOrderId = brokerModification.join();
-
-            // Update order with new details
-            updateOrderFromModificationRequest(order, modificationRequest);
-
-            // Update broker order ID if changed - eliminates if-statement with Optional
-            Order finalOrder = order;  // Create final copy for lambda
-            Optional.ofNullable(newBrokerOrderId)
-                .filter(newId -> !newId.equals(finalOrder.getBrokerOrderId()))
-                .ifPresent(finalOrder::setBrokerOrderId);
+        return switch (exposureLedger.modify(order, modificationRequest.quantity(),
+                modificationRequest.limitPrice(), modificationRequest.stopPrice())) {
+            case RESERVED -> submitOrderModification(order, modificationRequest, correlationId, orderId);
+            case UNRECONCILED -> Result.failure(new TradeError.SystemError.ServiceUnavailable(PORTFOLIO_SERVICE_CB));
+            case Reservation refused -> Result.failure(new TradeError.RiskError.InsufficientFunds(
+                String.valueOf(order.getUserId()), modificationRequest.getEstimatedOrderValue(),
+                exposureLedger.availableBuyingPower(order.getUserId())));
+        };
+    }
 
-            order = orderRepository.save(order);
+    /**
+     * Submit the modification to the broker and apply it; if the broker refuses, the
+     * exposure moved by executeOrderModification is moved back
+     */
+    private Result<OrderResponse, TradeError> submitOrderModification(
+            Order order, OrderRequest modificationRequest, String correlationId, String orderId) {
 
-            log.info("Order modified successfully - correlationId: {}, orderId: {}", correlationId, orderId);
-            return Result.success(convertToOrderResponse(order));
+        CompletableFuture<String> brokerModification = modifyOrderWithBroker(order, modificationRequest, correlationId);
 
+        String newBrokerOrderId;
+        try {
+            newBrokerOrderId = brokerModification.join();
         } catch (Exception brokerError) {
+            exposureLedger.revertModify(order, modificationRequest.quantity(),
+                modificationRequest.limitPrice(), modificationRequest.stopPrice());
             log.error("Broker modification failed - correlationId: {}, orderId: {}, error: {}",
                      correlationId, orderId, brokerError.getMessage());
             return Result.failure(new TradeError.SystemError.ServiceUnavailable("broker-auth-service"));
         }
+
+        Map<String, Object> stateBefore = AuditRecord.orderState(order);
+        updateOrderFromModificationRequest(order, modificationRequest);
+
+        // Update broker order ID if changed - eliminates if-statement with Optional
+        Order finalOrder = order;  // Create final copy for lambda
+        Optional.ofNullable(newBrokerOrderId)
+            .filter(newId -> !newId.equals(finalOrder.getBrokerOrderId()))
+            .ifPresent(finalOrder::setBrokerOrderId);
+
+        order = orderRepository.save(order);
+        writeDurableAudit(AuditRecord.orderChange(order, "UPDATE", stateBefore), correlationId);
+
+        log.info("Order modified successfully - correlationId: {}, orderId: {}", correlationId, orderId);
+        return Result.success(convertToOrderResponse(order));
     }
     
     @Override
@@ -396,8 +595,15 @@ public class OrderServiceImpl implements OrderService {
             });
 
         // Update order status
+        Map<String, Object> stateBefore = AuditRecord.orderState(order);
         order.updateStatus(OrderStatus.CANCELLED);
+        Order cancelled = order;
+        afterCommit(() -> {
+            exposureLedger.release(cancelled);
+            orderControls.close(cancelled.getUserId());
+        });
         order = orderRepository.save(order);
+        auditLogWriter.write(AuditRecord.orderChange(order, "UPDATE", stateBefore), AuditDurability.ASYNC);
 
         // Publish cancellation event
         eventPublisher.publishOrderCancelledEvent(order);
@@ -444,8 +650,20 @@ public class OrderServiceImpl implements OrderService {
         log.info("Processing fill for order {}: quantity={}, price={}", 
                 order.getOrderId(), fillQuantity, fillPrice);
         
+        Map<String, Object> stateBefore = AuditRecord.orderState(order);
+        OrderStatus previousStatus = order.getStatus();
         order.addFill(fillQuantity, fillPrice);
         Order savedOrder = orderRepository.save(order);
+        writeDurableAudit(AuditRecord.orderChange(savedOrder, "UPDATE", stateBefore), null);
+        boolean ended = savedOrder.getStatus().isTerminal() && !previousStatus.isTerminal();
+        afterCommit(() -> {
+            pnlEngine.applyFill(savedOrder.getUserId(), savedOrder.getSymbol(), savedOrder.getExchange(),
+                savedOrder.getSide(), fillQuantity, fillPrice);
+            exposureLedger.fill(savedOrder, fillQuantity, fillPrice);
+            Optional.of(ended)
+                .filter(Boolean::booleanValue)
+                .ifPresent(closed -> orderControls.close(savedOrder.getUserId()));
+        });
         
         // Publish execution event
         eventPublisher.publishOrderExecutedEvent(savedOrder);
@@ -459,6 +677,8 @@ public class OrderServiceImpl implements OrderService {
         // Functional pattern: eliminate if-statements with Optional and pattern matching
         return orderRepository.findByOrderId(orderId)
             .map(order -> {
+                Map<String, Object> stateBefore = AuditRecord.orderState(order);
+                OrderStatus previousStatus = order.getStatus();
                 order.updateStatus(newStatus);
 
                 // Set rejection reason using pattern matching - eliminates if-statement
@@ -466,7 +686,19 @@ public class OrderServiceImpl implements OrderService {
                     .filter(r -> newStatus == OrderStatus.REJECTED)
                     .ifPresent(order::setRejectionReason);
 
-                return orderRepository.save(order);
+                // Return what a cancelled, rejected or expired order still held
+                Optional.of(newStatus)
+                    .filter(s -> s.isTerminal() && s != OrderStatus.FILLED)
+                    .ifPresent(s -> afterCommit(() -> exposureLedger.release(order)));
+
+                // An order that just ended frees its open-order slot
+                Optional.of(newStatus)
+                    .filter(s -> s.isTerminal() && !previousStatus.isTerminal())
+                    .ifPresent(s -> afterCommit(() -> orderControls.close(order.getUserId())));
+
+                Order saved = orderRepository.save(order);
+                auditLogWriter.write(AuditRecord.orderChange(saved, "UPDATE", stateBefore), AuditDurability.ASYNC);
+                return saved;
             })
             .orElseThrow(() -> new IllegalArgumentException("Order not found: " + orderId));
     }
@@ -487,6 +719,10 @@ public class OrderServiceImpl implements OrderService {
                 try {
                     order.updateStatus(OrderStatus.EXPIRED);
                     orderRepository.save(order);
+                    afterCommit(() -> {
+                        exposureLedger.release(order);
+                        orderControls.close(order.getUserId());
+                    });
                     log.info("Expired order: {}", order.getOrderId());
                     return 1L;
                 } catch (Exception e) {
@@ -503,9 +739,70 @@ public class OrderServiceImpl implements OrderService {
     // Private helper methods
 
     /**
-     * Process validated order through routing and broker submission
+     * Apply an in-memory side effect of an order change (P&L book, exposure ledger,
+     * open-order slots) once the transaction commits, so a rollback leaves them in step
+     * with the database and a retried change is not applied twice; runs at once outside
+     * a transaction
+     * Pattern 2: Transaction synchronization extraction
+     * Rule #5: 8 lines, complexity ≤7
+     */
+    private static void afterCommit(Runnable action) {
+        Optional.of(action)
+            .filter(deferred -> TransactionSynchronizationManager.isSynchronizationActive())
+            .ifPresentOrElse(deferred -> TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        deferred.run();
+                    }
+                }), action);
+    }
+
+    /**
+     * Release what a placement that did not go through holds once its transaction is over:
+     * the order is rejected whether the transaction commits or rolls back, and releasing
+     * only after it completes keeps the buying power from being reused while the rejected
+     * order is still being written; runs at once outside a transaction
+     * Pattern 2: Transaction synchronization extraction
+     * Rule #5: 8 lines, complexity ≤7
+     */
+    private static void afterCompletion(Runnable action) {
+        Optional.of(action)
+            .filter(deferred -> TransactionSynchronizationManager.isSynchronizationActive())
+            .ifPresentOrElse(deferred -> TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(int status) {
+                        deferred.run();
+                    }
+                }), action);
+    }
+
+    /**
+     * Undo an in-memory side effect if the transaction does not commit, whether it rolled
+     * back or its outcome is unknown because the commit itself failed; nothing to undo
+     * outside a transaction
+     * Pattern 2: Transaction synchronization extraction
+     * Rule #5: 8 lines, complexity ≤7
+     */
+    private static void unlessCommitted(Runnable action) {
+        Optional.of(action)
+            .filter(undo -> TransactionSynchronizationManager.isSynchronizationActive())
+            .ifPresent(undo -> TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(int status) {
+                        Optional.of(status)
+                            .filter(completed -> completed != STATUS_COMMITTED)
+                            .ifPresent(notCommitted -> undo.run());
+                    }
+                }));
+    }
+
+    /**
+     * Process validated order through exposure reservation, routing and broker submission
      * Pattern 2: Layered Extraction - orchestration layer
-     * Rule #5: 14 lines, complexity ≤7
+     * Rule #5: 9 lines, complexity ≤7
      */
     private Result<OrderResponse, TradeError> processValidatedOrder(
             OrderRequest orderRequest,
@@ -514,8 +811,86 @@ public class OrderServiceImpl implements OrderService {
             String correlationId,
             long startTime) {
 
-        Order order = createAndPersistOrderWithMetrics(orderRequest, userId);
+        return reserveExposure(createOrderFromRequest(orderRequest, userId), orderProcessingTimer)
+            .flatMap(accepted -> placeReservedOrder(
+                accepted, orderRequest, orderProcessingTimer, correlationId, startTime
+            ));
+    }
+
+    /**
+     * Persist and route an order whose notional is reserved; if either throws before the
+     * order reached a terminal status, the reservation is released once the transaction
+     * completes
+     * Pattern 2: Reservation guard extraction
+     * Rule #5: 11 lines, complexity ≤7
+     */
+    private Result<OrderResponse, TradeError> placeReservedOrder(
+            Order order,
+            OrderRequest orderRequest,
+            Timer.Sample orderProcessingTimer,
+            String correlationId,
+            long startTime) {
+
+        try {
+            return routeAcceptedOrder(persistOrderWithMetrics(order, orderRequest, correlationId),
+                orderRequest, orderProcessingTimer, correlationId, startTime);
+        } catch (RuntimeException e) {
+            Optional.of(order)
+                .filter(unplaced -> !unplaced.getStatus().isTerminal())
+                .ifPresent(unplaced -> afterCompletion(() -> exposureLedger.release(unplaced)));
+            throw e;
+        }
+    }
+
+    /**
+     * Reserve the order's notional in the exposure ledger, rejecting it when the user's
+     * buying power cannot cover it, a market buy has no price to reserve at, or the
+     * user's buying power is unknown because portfolio-service did not answer
+     * Pattern 2: Acceptance extraction
+     * Rule #5: 11 lines, complexity ≤7
+     */
+    private Result<Order, TradeError> reserveExposure(Order order, Timer.Sample orderProcessingTimer) {
+        Reservation reservation = exposureLedger.reserve(order);
+        return switch (reservation) {
+            case RESERVED -> Result.success(order);
+            case INSUFFICIENT_BUYING_POWER -> rejectReservation(reservation, orderProcessingTimer,
+                new TradeError.RiskError.InsufficientFunds(String.valueOf(order.getUserId()),
+                    exposureLedger.notional(order), exposureLedger.availableBuyingPower(order.getUserId())));
+            case NO_REFERENCE_PRICE -> rejectReservation(reservation, orderProcessingTimer,
+                new TradeError.ExecutionError.OrderRejected(
+                    "No last traded price for " + order.getSymbol() + " to reserve a market buy at"));
+            case UNRECONCILED -> rejectReservation(reservation, orderProcessingTimer,
+                new TradeError.SystemError.ServiceUnavailable(PORTFOLIO_SERVICE_CB));
+        };
+    }
+
+    /**
+     * Record a reservation refused by the exposure ledger
+     * Pattern 2: Rejection path extraction
+     * Rule #5: 3 lines, complexity ≤7
+     */
+    private Result<Order, TradeError> rejectReservation(
+            Reservation reservation, Timer.Sample orderProcessingTimer, TradeError error) {
+        metricsService.recordOrderProcessingTime(orderProcessingTimer);
+        metricsService.recordOrderFailed("UNKNOWN", reservation.name());
+        return Result.failure(error);
+    }
+
+    /**
+     * Route an accepted, persisted order and submit it to the broker
+     * Pattern 2: Routing extraction
+     * Rule #5: 14 lines, complexity ≤7
+     */
+    private Result<OrderResponse, TradeError> routeAcceptedOrder(
+            Order order,
+            OrderRequest orderRequest,
+            Timer.Sample orderProcessingTimer,
+            String correlationId,
+            long startTime) {
+
+        long routingStarted = System.nanoTime();
         RoutingDecision routingDecision = orderRouter.routeOrder(order);
+        latencyRecorder.record(correlationId, OrderStage.ROUTE, routingStarted);
 
         Result<RoutingDecision, TradeError> routingResult = switch (routingDecision.getStrategy()) {
             case REJECT -> handleRoutingRejection(order, routingDecision, orderProcessingTimer);
@@ -528,20 +903,21 @@ public class OrderServiceImpl implements OrderService {
     }
 
     /**
-     * Create and persist order with metrics recording
-     * Pattern 2: Order creation extraction
-     * Rule #5: 11 lines, complexity ≤7
+     * Persist accepted order with metrics recording
+     * Pattern 2: Order persistence extraction
+     * Rule #5: 12 lines, complexity ≤7
      */
-    private Order createAndPersistOrderWithMetrics(OrderRequest orderRequest, Long userId) {
-        Order order = createOrderFromRequest(orderRequest, userId);
-        order = orderRepository.save(order);
+    private Order persistOrderWithMetrics(Order order, OrderRequest orderRequest, String correlationId) {
+        long persistStarted = System.nanoTime();
+        Order saved = orderRepository.save(order);
+        latencyRecorder.record(correlationId, OrderStage.PERSIST, persistStarted);
 
         String brokerName = Optional.ofNullable(orderRequest.brokerName()).orElse("UNKNOWN");
         BigDecimal orderValue = orderRequest.getEstimatedOrderValue();
         metricsService.recordOrderPlaced(brokerName, orderValue);
         metricsService.incrementActiveOrders();
 
-        return order;
+        return saved;
     }
 
     /**
@@ -557,6 +933,7 @@ public class OrderServiceImpl implements OrderService {
         order.updateStatus(OrderStatus.REJECTED);
         order.setRejectionReason(routingDecision.getReason());
         orderRepository.save(order);
+        afterCompletion(() -> exposureLedger.release(order));
 
         metricsService.recordOrderProcessingTime(orderProcessingTimer);
         metricsService.recordOrderFailed(routingDecision.getBrokerName(), "ROUTING_REJECTED");
@@ -568,7 +945,7 @@ public class OrderServiceImpl implements OrderService {
     /**
      * Submit order to broker and process response
      * Pattern 2: Layered Extraction - orchestration layer
-     * Rule #5: 15 lines, complexity ≤7
+     * Rule #5: 17 lines, complexity ≤7
      */
     private Result<OrderResponse, TradeError> submitAndProcessBrokerResponse(
             Order order,
@@ -578,11 +955,14 @@ public class OrderServiceImpl implements OrderService {
             String correlationId,
             long startTime) {
 
+        long brokerStarted = System.nanoTime();
         CompletableFuture<String> brokerSubmission = submitOrderToBroker(order, routingDecision, correlationId);
 
         try {
+            String brokerOrderId = brokerSubmission.join();
+            latencyRecorder.record(correlationId, OrderStage.BROKER, brokerStarted);
             return handleBrokerSuccess(order, routingDecision, orderRequest, orderProcessingTimer,
-                                      correlationId, startTime, brokerSubmission.join());
+                                      correlationId, startTime, brokerOrderId);
         } catch (Exception brokerError) {
             return handleBrokerFailure(order, routingDecision, orderProcessingTimer,
                                       correlationId, brokerError);
@@ -606,15 +986,57 @@ public class OrderServiceImpl implements OrderService {
         order.setBrokerOrderId(brokerOrderId);
         order.setBrokerName(routingDecision.getBrokerName());
         order.updateStatus(OrderStatus.ACKNOWLEDGED);
-        order = orderRepository.save(order);
+        order = persistAcknowledgedOrder(order, correlationId);
+        // If the placement does not commit, the order is not in the database to be released later
+        Order placed = order;
+        unlessCommitted(() -> exposureLedger.release(placed));
 
+        long publishStarted = System.nanoTime();
         eventPublisher.publishOrderPlacedEvent(order);
+        latencyRecorder.record(correlationId, OrderStage.PUBLISH, publishStarted);
         recordSuccessMetrics(orderProcessingTimer, routingDecision, orderRequest);
         checkSLAViolation(startTime, correlationId, order.getOrderId(), brokerOrderId);
 
         return Result.success(convertToOrderResponse(order));
     }
 
+    /**
+     * Save the acknowledged order; its durable audit record is written once the placement
+     * commits
+     * Pattern 2: Persistence extraction
+     * Rule #5: 6 lines, complexity ≤7
+     */
+    private Order persistAcknowledgedOrder(Order order, String correlationId) {
+        long persistStarted = System.nanoTime();
+        Order saved = orderRepository.save(order);
+        latencyRecorder.record(correlationId, OrderStage.PERSIST, persistStarted);
+
+        writeDurableAudit(AuditRecord.orderChange(saved, "INSERT", null), correlationId);
+        return saved;
+    }
+
+    /**
+     * Audit an order change once its transaction is over. A committed change is written
+     * SYNC after the commit, so waiting for durability holds no pooled connection and the
+     * record never describes a change that was rolled back; the broker has already acted by
+     * then, so a record that is not durable in time raises an alert rather than failing the
+     * operation, and the writer keeps the record and retries. A change that did not commit
+     * is recorded as rolled back.
+     * Pattern 2: Audit extraction
+     * Rule #5: 10 lines, complexity ≤7
+     */
+    private void writeDurableAudit(AuditRecord record, String correlationId) {
+        afterCommit(() -> {
+            long auditStarted = System.nanoTime();
+            Optional.of(auditLogWriter.write(record, AuditDurability.SYNC))
+                .filter(durable -> !durable)
+                .ifPresent(lost -> alertingService.handleAuditDurabilityFailure(
+                    record.action(), String.valueOf(record.entityId())));
+            latencyRecorder.record(correlationId, OrderStage.AUDIT, auditStarted);
+        });
+        unlessCommitted(() -> auditLogWriter.write(record.rolledBack(), AuditDurability.ASYNC));
+    }
+
     /**
      * Handle broker submission failure
      * Pattern 2: Error path extraction
@@ -633,6 +1055,7 @@ public class OrderServiceImpl implements OrderService {
         order.updateStatus(OrderStatus.REJECTED);
         order.setRejectionReason("Broker submission failed: " + brokerError.getMessage());
         orderRepository.save(order);
+        afterCompletion(() -> exposureLedger.release(order));
 
         recordFailureMetrics(orderProcessingTimer, routingDecision);
         alertingService.handleBrokerConnectivityIssue(routingDecision.getBrokerName(), brokerError.getMessage());
@@ -671,18 +1094,20 @@ public class OrderServiceImpl implements OrderService {
         long processingTime = System.currentTimeMillis() - startTime;
 
         Optional.of(processingTime)
-            .filter(time -> time > 100) // 100ms SLA
-            .ifPresent(time -> alertingService.handleSLAViolation("ORDER_PROCESSING", time, 100));
+            .filter(time -> time > ORDER_SLA_MILLIS)
+            .ifPresent(time -> alertingService.handleSLAViolation("ORDER_PROCESSING", time, ORDER_SLA_MILLIS));
 
-        log.info("Order placed successfully - correlationId: {}, orderId: {}, brokerOrderId: {}, processingTime: {}ms",
+        logSampler.info(correlationId, log, "order.placed", "Order placed successfully - correlationId: {}, orderId: {}, brokerOrderId: {}, processingTime: {}ms",
                 correlationId, orderId, brokerOrderId, processingTime);
     }
 
+    /**
+     * Run the validators through the pipeline, which stops at the first rejection
+     * Pattern 2: Validation delegation
+     * Rule #5: 1 line, complexity ≤7
+     */
     private ValidationResult validateOrderWithAllValidators(OrderRequest orderRequest, Long userId) {
-        // Functional programming pattern - replace for loop with stream operations
-        return validators.stream()
-            .map(validator -> validator.validate(orderRequest, userId))
-            .reduce(ValidationResult.success("OrderService"), ValidationResult::merge);
+        return validatorPipeline.validate(orderRequest, userId);
     }
     
     private Order createOrderFromRequest(OrderRequest request, Long userId) {
@@ -3,6 +3,8 @@ package com.trademaster.trading.validation;
 import com.trademaster.trading.dto.OrderRequest;
 import com.trademaster.trading.entity.Order;
 
+import java.util.Set;
+
 /**
  * Order Validator Interface
  * 
@@ -42,4 +44,18 @@ public interface OrderValidator {
      * Get validator name for logging and debugging
      */
     String getValidatorName();
+    
+    /**
+     * Get validator cost; CPU validators run in sequence before any IO validator
+     */
+    default ValidatorCost getCost() {
+        return ValidatorCost.CPU;
+    }
+    
+    /**
+     * Get names of the validators that must pass before this one runs
+     */
+    default Set<String> getDependencies() {
+        return Set.of();
+    }
 }
\ No newline at end of file
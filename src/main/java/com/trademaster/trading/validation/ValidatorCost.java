@@ -0,0 +1,23 @@
+package com.trademaster.trading.validation;
+
+/**
+ * Validator Cost
+ *
+ * How expensive a validator is to run, which decides where ValidatorPipeline runs it.
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+public enum ValidatorCost {
+
+    /**
+     * Deterministic in-memory checks: run one after another, stopping at the first rejection
+     */
+    CPU,
+
+    /**
+     * Checks that call other services or the database: run concurrently on virtual threads
+     * once every CPU validator has passed
+     */
+    IO
+}
@@ -0,0 +1,99 @@
+package com.trademaster.trading.validation.impl;
+
+import com.trademaster.common.functional.Result;
+import com.trademaster.trading.dto.OrderRequest;
+import com.trademaster.trading.dto.integration.PortfolioImpact;
+import com.trademaster.trading.entity.Order;
+import com.trademaster.trading.error.ServiceError;
+import com.trademaster.trading.integration.client.PortfolioServiceClient;
+import com.trademaster.trading.risk.RiskError;
+import com.trademaster.trading.risk.limits.RiskLimitCache;
+import com.trademaster.trading.validation.OrderValidator;
+import com.trademaster.trading.validation.ValidationResult;
+import com.trademaster.trading.validation.ValidatorCost;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Margin Requirement Validator
+ *
+ * Rejects an order whose margin impact, as portfolio-service calculates it, exceeds the
+ * user's maximum margin usage from RiskLimitCache. Calls portfolio-service, so it is an IO
+ * validator: ValidatorPipeline runs it concurrently with the other IO validators, after
+ * FunctionalOrderValidator has passed the order. An order is rejected when
+ * portfolio-service cannot answer.
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class MarginRequirementValidator implements OrderValidator {
+
+    private final PortfolioServiceClient portfolioClient;
+    private final RiskLimitCache riskLimitCache;
+
+    @Override
+    public ValidationResult validate(OrderRequest orderRequest, Long userId) {
+        BigDecimal orderValue = orderRequest.getEstimatedOrderValue();
+        Result<PortfolioImpact, ServiceError> impactResult =
+            portfolioClient.calculateImpact(userId, orderRequest.symbol(), orderRequest.quantity(), orderValue);
+
+        return switch (impactResult) {
+            case Result.Success<PortfolioImpact, ServiceError> success ->
+                checkMargin(userId, orderValue, success.value());
+            case Result.Failure<PortfolioImpact, ServiceError> failure -> {
+                log.warn("Portfolio impact unavailable for user {} symbol {}: {}",
+                    userId, orderRequest.symbol(), failure.error());
+                yield ValidationResult.failure(getValidatorName(),
+                    "Failed to check margin requirements: " + failure.error());
+            }
+        };
+    }
+
+    /**
+     * Modifications are checked with the modified terms, as new orders are
+     */
+    @Override
+    public ValidationResult validateModification(Order existingOrder, OrderRequest modificationRequest, Long userId) {
+        return validate(modificationRequest, userId);
+    }
+
+    /**
+     * Check the order's margin impact stays within the user's margin usage limit
+     * Rule #3: Functional programming with Optional
+     */
+    private ValidationResult checkMargin(Long userId, BigDecimal orderValue, PortfolioImpact impact) {
+        return Optional.of(impact.marginImpact().compareTo(riskLimitCache.limits(userId).maxMarginUsage()) <= 0)
+            .filter(Boolean::booleanValue)
+            .map(acceptable -> ValidationResult.success(getValidatorName()))
+            .orElseGet(() -> ValidationResult.failure(getValidatorName(),
+                RiskError.marginRequirementNotMet(orderValue, impact.newPortfolioValue()).message()));
+    }
+
+    @Override
+    public int getPriority() {
+        return 20;
+    }
+
+    @Override
+    public String getValidatorName() {
+        return "MarginRequirementValidator";
+    }
+
+    @Override
+    public ValidatorCost getCost() {
+        return ValidatorCost.IO;
+    }
+
+    @Override
+    public Set<String> getDependencies() {
+        return Set.of("FunctionalOrderValidator");
+    }
+}
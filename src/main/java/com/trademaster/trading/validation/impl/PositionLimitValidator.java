@@ -0,0 +1,98 @@
+package com.trademaster.trading.validation.impl;
+
+import com.trademaster.common.functional.Result;
+import com.trademaster.trading.dto.OrderRequest;
+import com.trademaster.trading.dto.integration.PositionRisk;
+import com.trademaster.trading.entity.Order;
+import com.trademaster.trading.error.ServiceError;
+import com.trademaster.trading.integration.client.PortfolioServiceClient;
+import com.trademaster.trading.risk.RiskError;
+import com.trademaster.trading.validation.OrderValidator;
+import com.trademaster.trading.validation.ValidationResult;
+import com.trademaster.trading.validation.ValidatorCost;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Position Limit Validator
+ *
+ * Rejects an order that would take the user's position in the symbol past the limit
+ * portfolio-service reports for it. Calls portfolio-service, so it is an IO validator:
+ * ValidatorPipeline runs it concurrently with the other IO validators, after
+ * FunctionalOrderValidator has passed the symbol and quantity. An order is rejected when
+ * portfolio-service cannot answer.
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class PositionLimitValidator implements OrderValidator {
+
+    private final PortfolioServiceClient portfolioClient;
+
+    @Override
+    public ValidationResult validate(OrderRequest orderRequest, Long userId) {
+        Result<PositionRisk, ServiceError> riskResult =
+            portfolioClient.getPositionRisk(userId, orderRequest.symbol());
+
+        return switch (riskResult) {
+            case Result.Success<PositionRisk, ServiceError> success ->
+                checkPosition(orderRequest, success.value());
+            case Result.Failure<PositionRisk, ServiceError> failure -> {
+                log.warn("Position risk unavailable for user {} symbol {}: {}",
+                    userId, orderRequest.symbol(), failure.error());
+                yield ValidationResult.failure(getValidatorName(),
+                    "Failed to check position limits: " + failure.error());
+            }
+        };
+    }
+
+    /**
+     * Modifications are checked with the modified terms, as new orders are
+     */
+    @Override
+    public ValidationResult validateModification(Order existingOrder, OrderRequest modificationRequest, Long userId) {
+        return validate(modificationRequest, userId);
+    }
+
+    /**
+     * Check the position after the order stays within the symbol's limit
+     * Rule #3: Functional programming with Optional
+     */
+    private ValidationResult checkPosition(OrderRequest request, PositionRisk risk) {
+        BigDecimal newPosition = risk.currentPosition().add(BigDecimal.valueOf(request.quantity()));
+
+        return Optional.of(newPosition.compareTo(risk.maxPositionSize()) <= 0)
+            .filter(Boolean::booleanValue)
+            .map(withinLimit -> ValidationResult.success(getValidatorName()))
+            .orElseGet(() -> ValidationResult.failure(getValidatorName(),
+                RiskError.positionLimitExceeded(request.symbol(), newPosition, risk.maxPositionSize()).message()));
+    }
+
+    @Override
+    public int getPriority() {
+        return 10;
+    }
+
+    @Override
+    public String getValidatorName() {
+        return "PositionLimitValidator";
+    }
+
+    @Override
+    public ValidatorCost getCost() {
+        return ValidatorCost.IO;
+    }
+
+    @Override
+    public Set<String> getDependencies() {
+        return Set.of("FunctionalOrderValidator");
+    }
+}
@@ -0,0 +1,130 @@
+package com.trademaster.trading.validation.impl;
+
+import com.trademaster.trading.dto.OrderRequest;
+import com.trademaster.trading.entity.Order;
+import com.trademaster.trading.model.OrderSide;
+import com.trademaster.trading.risk.RiskError;
+import com.trademaster.trading.risk.exposure.ExposureLedger;
+import com.trademaster.trading.risk.limits.RiskLimitCache;
+import com.trademaster.trading.risk.limits.UserRiskLimits;
+import com.trademaster.trading.validation.OrderValidator;
+import com.trademaster.trading.validation.ValidationResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Risk Limit Validator
+ *
+ * Rejects an order that breaks the user's limits from RiskLimitCache: maximum order
+ * value, daily trades, and symbol and sector concentration. Reads only the in-memory
+ * limits and exposure ledger, so it is a CPU validator: ValidatorPipeline runs it in
+ * sequence after FunctionalOrderValidator and before any IO validator, and a limit
+ * change takes effect on the next order once the cache has reloaded the user.
+ *
+ * The order is valued as the ledger will reserve it, so a market order counts at the
+ * collared last traded price. Concentration is checked for buys once the user's ledger
+ * is reconciled; until then the ledger refuses buys itself.
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class RiskLimitValidator implements OrderValidator {
+
+    private final RiskLimitCache riskLimitCache;
+    private final ExposureLedger exposureLedger;
+
+    /**
+     * Rule #3: Functional programming - first failing check wins
+     */
+    @Override
+    public ValidationResult validate(OrderRequest orderRequest, Long userId) {
+        UserRiskLimits limits = riskLimitCache.limits(userId);
+        BigDecimal orderValue = exposureLedger.orderValue(orderRequest);
+
+        return Stream.<Supplier<Optional<RiskError>>>of(
+                () -> checkOrderValue(orderValue, limits),
+                () -> checkDailyTrades(userId, limits),
+                () -> checkSymbolConcentration(orderRequest, userId, orderValue, limits),
+                () -> checkSectorConcentration(orderRequest, userId, orderValue, limits))
+            .map(Supplier::get)
+            .flatMap(Optional::stream)
+            .findFirst()
+            .map(error -> {
+                log.debug("Risk limit rejected order for user {}: {}", userId, error.code());
+                return ValidationResult.failure(getValidatorName(), error.message());
+            })
+            .orElseGet(() -> ValidationResult.success(getValidatorName()));
+    }
+
+    /**
+     * Modifications are checked with the modified terms, as new orders are
+     */
+    @Override
+    public ValidationResult validateModification(Order existingOrder, OrderRequest modificationRequest, Long userId) {
+        return validate(modificationRequest, userId);
+    }
+
+    private Optional<RiskError> checkOrderValue(BigDecimal orderValue, UserRiskLimits limits) {
+        return Optional.of(orderValue)
+            .filter(value -> value.compareTo(limits.maxOrderValue()) > 0)
+            .map(value -> RiskError.orderValueLimitExceeded(value, limits.maxOrderValue()));
+    }
+
+    private Optional<RiskError> checkDailyTrades(Long userId, UserRiskLimits limits) {
+        return Optional.of(exposureLedger.tradesToday(userId))
+            .filter(count -> count >= limits.maxDailyTrades())
+            .map(count -> RiskError.dailyTradeLimitExceeded(count, limits.maxDailyTrades()));
+    }
+
+    private Optional<RiskError> checkSymbolConcentration(OrderRequest request, Long userId,
+                                                         BigDecimal orderValue, UserRiskLimits limits) {
+        return Optional.of(request)
+            .filter(r -> checksConcentration(r, userId))
+            .map(r -> exposureLedger.symbolConcentration(userId, r.symbol(), orderValue))
+            .filter(concentration -> concentration.compareTo(limits.maxPositionConcentration()) > 0)
+            .map(concentration -> RiskError.concentrationRiskExceeded(
+                request.symbol(), concentration, limits.maxPositionConcentration()));
+    }
+
+    /**
+     * Symbols without a sector mapping are not checked
+     */
+    private Optional<RiskError> checkSectorConcentration(OrderRequest request, Long userId,
+                                                         BigDecimal orderValue, UserRiskLimits limits) {
+        return exposureLedger.sectorOf(request.symbol())
+            .filter(sector -> checksConcentration(request, userId))
+            .flatMap(sector -> Optional.of(exposureLedger.sectorConcentration(userId, sector, orderValue))
+                .filter(concentration -> concentration.compareTo(limits.maxSectorConcentration()) > 0)
+                .map(concentration -> RiskError.concentrationRiskExceeded(
+                    sector, concentration, limits.maxSectorConcentration())));
+    }
+
+    private boolean checksConcentration(OrderRequest request, Long userId) {
+        return request.side() == OrderSide.BUY && exposureLedger.isReconciled(userId);
+    }
+
+    @Override
+    public int getPriority() {
+        return 5;
+    }
+
+    @Override
+    public String getValidatorName() {
+        return "RiskLimitValidator";
+    }
+
+    @Override
+    public Set<String> getDependencies() {
+        return Set.of("FunctionalOrderValidator");
+    }
+}
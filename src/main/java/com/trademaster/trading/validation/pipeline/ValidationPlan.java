@@ -0,0 +1,139 @@
+package com.trademaster.trading.validation.pipeline;
+
+import com.trademaster.trading.validation.OrderValidator;
+import com.trademaster.trading.validation.ValidatorCost;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Order in which ValidatorPipeline runs the validators
+ *
+ * - sequential: CPU validators that depend only on CPU validators, run one at a time
+ * - waves: the rest, IO validators and anything depending on one; a wave runs
+ *   concurrently once the previous wave has passed, and a validator is placed in the
+ *   wave after the last of its dependencies
+ *
+ * Within each stage dependencies come first and ties are broken by the given order.
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+record ValidationPlan(List<OrderValidator> sequential, List<List<OrderValidator>> waves) {
+
+    /**
+     * @throws IllegalStateException if the dependencies form a cycle
+     */
+    static ValidationPlan of(List<OrderValidator> validators, Comparator<OrderValidator> order) {
+        Map<String, OrderValidator> byName = new HashMap<>();
+        validators.forEach(validator -> byName.put(validator.getValidatorName(), validator));
+
+        Map<OrderValidator, Integer> waveOf = new HashMap<>();
+        validators.forEach(validator -> wave(validator, byName, waveOf, new HashSet<>()));
+
+        List<OrderValidator> sequential = topological(
+            validators.stream().filter(validator -> waveOf.get(validator) < 0).toList(), byName, order);
+        int waveCount = waveOf.values().stream().mapToInt(Integer::intValue).max().orElse(-1) + 1;
+        List<List<OrderValidator>> waves = new ArrayList<>();
+        for (int wave = 0; wave < waveCount; wave++) {
+            int index = wave;
+            waves.add(validators.stream()
+                .filter(validator -> waveOf.get(validator) == index)
+                .sorted(order)
+                .toList());
+        }
+        return new ValidationPlan(sequential, List.copyOf(waves));
+    }
+
+    /**
+     * Wave of a validator, -1 for the sequential stage
+     */
+    private static int wave(OrderValidator validator, Map<String, OrderValidator> byName,
+                            Map<OrderValidator, Integer> waveOf, Set<OrderValidator> visiting) {
+        Integer known = waveOf.get(validator);
+        if (known != null) {
+            return known;
+        }
+        if (!visiting.add(validator)) {
+            throw new IllegalStateException("Validator dependency cycle through " + validator.getValidatorName());
+        }
+        int wave = validator.getCost() == ValidatorCost.IO ? 0 : -1;
+        for (OrderValidator dependency : dependencies(validator, byName)) {
+            int dependencyWave = wave(dependency, byName, waveOf, visiting);
+            if (dependencyWave >= 0) {
+                wave = Math.max(wave, dependencyWave + 1);
+            }
+        }
+        visiting.remove(validator);
+        waveOf.put(validator, wave);
+        return wave;
+    }
+
+    /**
+     * Kahn's algorithm, taking the first validator in the given order among those whose
+     * dependencies have all been placed
+     */
+    private static List<OrderValidator> topological(List<OrderValidator> stage, Map<String, OrderValidator> byName,
+                                                    Comparator<OrderValidator> order) {
+        Map<OrderValidator, Integer> waiting = new HashMap<>();
+        Map<OrderValidator, List<OrderValidator>> dependents = new HashMap<>();
+        PriorityQueue<OrderValidator> ready = new PriorityQueue<>(order);
+        for (OrderValidator validator : stage) {
+            List<OrderValidator> dependencies = dependencies(validator, byName);
+            waiting.put(validator, dependencies.size());
+            dependencies.forEach(dependency ->
+                dependents.computeIfAbsent(dependency, key -> new ArrayList<>()).add(validator));
+            if (dependencies.isEmpty()) {
+                ready.add(validator);
+            }
+        }
+        List<OrderValidator> sorted = new ArrayList<>(stage.size());
+        while (!ready.isEmpty()) {
+            OrderValidator next = ready.poll();
+            sorted.add(next);
+            dependents.getOrDefault(next, List.of()).forEach(dependent -> {
+                if (waiting.merge(dependent, -1, Integer::sum) == 0) {
+                    ready.add(dependent);
+                }
+            });
+        }
+        return List.copyOf(sorted);
+    }
+
+    /**
+     * Declared dependencies that are registered validators; others are ignored
+     */
+    private static List<OrderValidator> dependencies(OrderValidator validator, Map<String, OrderValidator> byName) {
+        return validator.getDependencies().stream()
+            .map(byName::get)
+            .filter(dependency -> dependency != null && dependency != validator)
+            .distinct()
+            .toList();
+    }
+
+    Stream<OrderValidator> all() {
+        return Stream.concat(sequential.stream(), waves.stream().flatMap(List::stream));
+    }
+
+    int size() {
+        return sequential.size() + waves.stream().mapToInt(List::size).sum();
+    }
+
+    @Override
+    public String toString() {
+        List<String> stages = new ArrayList<>();
+        sequential.forEach(validator -> stages.add(validator.getValidatorName()));
+        waves.forEach(wave -> stages.add(wave.stream()
+            .map(OrderValidator::getValidatorName)
+            .toList()
+            .toString()));
+        return String.join(" > ", stages);
+    }
+}
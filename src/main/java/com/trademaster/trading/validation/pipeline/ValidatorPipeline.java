@@ -0,0 +1,266 @@
+package com.trademaster.trading.validation.pipeline;
+
+import com.trademaster.trading.config.ValidationConfigurationProperties;
+import com.trademaster.trading.dto.OrderRequest;
+import com.trademaster.trading.metrics.latency.OrderLatencyRecorder;
+import com.trademaster.trading.validation.OrderValidator;
+import com.trademaster.trading.validation.ValidationResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.StructuredTaskScope;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Validator Pipeline
+ *
+ * Runs the order validators so a bad order is rejected as cheaply as possible.
+ *
+ * Key Features:
+ * - CPU validators run one after another; the first rejection ends validation and the
+ *   validators after it are skipped
+ * - IO validators (getCost) run concurrently on virtual threads after every CPU validator
+ *   has passed; the first rejection cancels the rest of the wave
+ * - A validator runs only after the validators it names in getDependencies have passed
+ * - Validators start in getPriority order; once each has min-samples runs, every
+ *   retune-interval-millis they are reordered by expected time per rejection (smoothed
+ *   mean latency over smoothed rejection rate), so validators that reject often and
+ *   quickly run first
+ *
+ * In production FunctionalOrderValidator and RiskLimitValidator, which depends on it, are
+ * the CPU stage; PositionLimitValidator and MarginRequirementValidator, which call
+ * portfolio-service, depend on FunctionalOrderValidator and form one IO wave.
+ *
+ * An IO wave that has not finished within timeout-millis rejects the order and
+ * interrupts the validators still running. A validator that throws fails the
+ * placement as it did before, through OrderServiceImpl's exception handling.
+ *
+ * Metrics:
+ * - trading.order.check.latency: per-validator latency, through OrderLatencyRecorder
+ * - trading.validation.pipeline.rejection.rate: smoothed rejection rate, tagged by validator
+ * - trading.validation.pipeline.position: position in the current order, tagged by validator
+ * - trading.validation.pipeline.skipped: validators not run because an earlier one rejected
+ * - trading.validation.pipeline.timeouts: IO waves that timed out
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ValidatorPipeline {
+
+    private static final String PIPELINE = "OrderService";
+
+    private final List<OrderValidator> validators;
+    private final OrderLatencyRecorder latencyRecorder;
+    private final MeterRegistry meterRegistry;
+
+    // Rule #16: Dynamic Configuration
+    private final ValidationConfigurationProperties config;
+
+    private final Map<String, ValidatorStats> stats = new HashMap<>();
+    private volatile ValidationPlan plan;
+    private Counter skipped;
+    private Counter timeouts;
+
+    /**
+     * Outcome of one validator run in an IO wave
+     */
+    private record Outcome(String validator, ValidationResult result) {}
+
+    @PostConstruct
+    public void init() {
+        for (OrderValidator validator : validators) {
+            String name = validator.getValidatorName();
+            ValidatorStats validatorStats = new ValidatorStats();
+            if (stats.putIfAbsent(name, validatorStats) != null) {
+                throw new IllegalStateException("Two order validators are named " + name);
+            }
+            validator.getDependencies().stream()
+                .filter(dependency -> validators.stream().noneMatch(v -> v.getValidatorName().equals(dependency)))
+                .forEach(dependency -> log.warn("Validator {} depends on unknown validator {}, ignoring it",
+                    name, dependency));
+            Gauge.builder("trading.validation.pipeline.rejection.rate", validatorStats, ValidatorStats::rejectionRate)
+                .description("Smoothed share of orders the validator rejects")
+                .tag("validator", name)
+                .register(meterRegistry);
+            Gauge.builder("trading.validation.pipeline.position", this, pipeline -> pipeline.position(name))
+                .description("Position of the validator in the current order")
+                .tag("validator", name)
+                .register(meterRegistry);
+        }
+        skipped = Counter.builder("trading.validation.pipeline.skipped")
+            .description("Validators not run because an earlier one rejected the order")
+            .register(meterRegistry);
+        timeouts = Counter.builder("trading.validation.pipeline.timeouts")
+            .description("IO validator waves that did not finish in time")
+            .register(meterRegistry);
+
+        plan = ValidationPlan.of(validators, byPriority());
+        log.info("Order validators: {}", plan);
+    }
+
+    /**
+     * Validates the order; the result merges every validator that ran
+     */
+    public ValidationResult validate(OrderRequest orderRequest, Long userId) {
+        ValidationPlan current = plan;
+        ValidationResult result = ValidationResult.success(PIPELINE);
+        int ran = 0;
+        for (OrderValidator validator : current.sequential()) {
+            ValidationResult validatorResult = run(validator, orderRequest, userId);
+            result = result.merge(validatorResult);
+            ran++;
+            if (!validatorResult.isValid()) {
+                skipped.increment(current.size() - ran);
+                return result;
+            }
+        }
+        for (List<OrderValidator> wave : current.waves()) {
+            result = result.merge(wave.size() == 1
+                ? run(wave.get(0), orderRequest, userId)
+                : runConcurrently(wave, orderRequest, userId));
+            ran += wave.size();
+            if (!result.isValid()) {
+                skipped.increment(current.size() - ran);
+                return result;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Reorders the validators by their smoothed latency and rejection rate
+     */
+    @Scheduled(fixedDelayString = "${trading.validation.retune-interval-millis:30000}",
+        initialDelayString = "${trading.validation.retune-interval-millis:30000}")
+    public void retune() {
+        stats.values().forEach(validatorStats -> validatorStats.retune(config.smoothing()));
+        if (!config.adaptive() || stats.values().stream()
+                .anyMatch(validatorStats -> validatorStats.samples() < config.minSamples())) {
+            return;
+        }
+        ValidationPlan tuned = ValidationPlan.of(validators, byRank());
+        if (!tuned.equals(plan)) {
+            plan = tuned;
+            log.info("Order validators reordered: {}", tuned);
+        }
+    }
+
+    /**
+     * Names of the validators in the order they currently run
+     */
+    public List<String> order() {
+        return plan.all().map(OrderValidator::getValidatorName).toList();
+    }
+
+    private ValidationResult run(OrderValidator validator, OrderRequest orderRequest, Long userId) {
+        long started = System.nanoTime();
+        ValidationResult result = validator.validate(orderRequest, userId);
+        latencyRecorder.recordCheck(validator.getValidatorName(), started);
+        stats.get(validator.getValidatorName()).record(System.nanoTime() - started, !result.isValid());
+        return result;
+    }
+
+    /**
+     * Runs one wave on virtual threads; forks inherit the placement's LogContext
+     */
+    private ValidationResult runConcurrently(List<OrderValidator> wave, OrderRequest orderRequest, Long userId) {
+        try (WaveScope scope = new WaveScope()) {
+            wave.forEach(validator -> scope.fork(() ->
+                new Outcome(validator.getValidatorName(), run(validator, orderRequest, userId))));
+            try {
+                scope.joinUntil(Instant.now().plusMillis(config.timeoutMillis()));
+            } catch (TimeoutException e) {
+                scope.shutdown();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                scope.shutdown();
+            }
+            return scope.result(wave);
+        }
+    }
+
+    private Comparator<OrderValidator> byPriority() {
+        return Comparator.comparingInt(OrderValidator::getPriority)
+            .thenComparing(OrderValidator::getValidatorName);
+    }
+
+    private Comparator<OrderValidator> byRank() {
+        return Comparator.<OrderValidator>comparingDouble(validator -> stats.get(validator.getValidatorName()).rank())
+            .thenComparing(byPriority());
+    }
+
+    private double position(String name) {
+        return order().indexOf(name);
+    }
+
+    /**
+     * Scope that stops the wave at its first rejection or failure
+     */
+    private final class WaveScope extends StructuredTaskScope<Outcome> {
+        private final Queue<Outcome> outcomes = new ConcurrentLinkedQueue<>();
+        private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        @Override
+        protected void handleComplete(Subtask<? extends Outcome> subtask) {
+            if (subtask.state() == Subtask.State.SUCCESS) {
+                outcomes.add(subtask.get());
+                if (!subtask.get().result().isValid()) {
+                    shutdown();
+                }
+            } else if (subtask.state() == Subtask.State.FAILED) {
+                failure.compareAndSet(null, subtask.exception());
+                shutdown();
+            }
+        }
+
+        /**
+         * Merged results; a wave cut short by its timeout rejects the order
+         */
+        ValidationResult result(List<OrderValidator> wave) {
+            Throwable thrown = failure.get();
+            if (thrown instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (thrown instanceof Error error) {
+                throw error;
+            }
+            if (thrown != null) {
+                throw new IllegalStateException("Order validator failed", thrown);
+            }
+            ValidationResult result = ValidationResult.success(PIPELINE);
+            List<String> finished = new ArrayList<>();
+            for (Outcome outcome : outcomes) {
+                result = result.merge(outcome.result());
+                finished.add(outcome.validator());
+            }
+            if (result.isValid() && finished.size() < wave.size()) {
+                timeouts.increment();
+                List<String> pending = wave.stream()
+                    .map(OrderValidator::getValidatorName)
+                    .filter(name -> !finished.contains(name))
+                    .toList();
+                result = result.merge(ValidationResult.failure(PIPELINE,
+                    "Order validation timed out waiting for " + String.join(", ", pending)));
+            }
+            return result;
+        }
+    }
+}
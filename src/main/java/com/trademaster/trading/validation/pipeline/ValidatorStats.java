@@ -0,0 +1,81 @@
+package com.trademaster.trading.validation.pipeline;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Runs, rejections and time spent of one validator
+ *
+ * Order threads add to striped counters; the retune folds what was added since the
+ * previous retune into exponentially smoothed latency and rejection rate, so the ranking
+ * follows changes in order flow without being swung by one quiet window.
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+final class ValidatorStats {
+
+    // Floor on the rejection rate, so a validator that never rejects still has a finite rank
+    private static final double MIN_REJECTION_RATE = 1e-4;
+
+    private final LongAdder runs = new LongAdder();
+    private final LongAdder rejections = new LongAdder();
+    private final LongAdder nanos = new LongAdder();
+
+    // Written by the retune only
+    private long foldedRuns;
+    private long foldedRejections;
+    private long foldedNanos;
+    private volatile double meanNanos;
+    private volatile double rejectionRate;
+    private volatile long samples;
+
+    void record(long elapsedNanos, boolean rejected) {
+        runs.increment();
+        nanos.add(elapsedNanos);
+        if (rejected) {
+            rejections.increment();
+        }
+    }
+
+    /**
+     * Folds runs since the previous retune into the smoothed figures; the first window
+     * with runs replaces them outright
+     */
+    synchronized void retune(double smoothing) {
+        long totalRuns = runs.sum();
+        long totalRejections = rejections.sum();
+        long totalNanos = nanos.sum();
+        long windowRuns = totalRuns - foldedRuns;
+        if (windowRuns > 0) {
+            double windowMean = (double) (totalNanos - foldedNanos) / windowRuns;
+            double windowRate = (double) (totalRejections - foldedRejections) / windowRuns;
+            double weight = samples == 0 ? 1.0 : smoothing;
+            meanNanos += weight * (windowMean - meanNanos);
+            rejectionRate += weight * (windowRate - rejectionRate);
+        }
+        foldedRuns = totalRuns;
+        foldedRejections = totalRejections;
+        foldedNanos = totalNanos;
+        samples = totalRuns;
+    }
+
+    /**
+     * Expected time spent per order rejected by this validator; running validators in
+     * ascending rank rejects a bad order for the least time
+     */
+    double rank() {
+        return meanNanos / Math.max(rejectionRate, MIN_REJECTION_RATE);
+    }
+
+    double meanNanos() {
+        return meanNanos;
+    }
+
+    double rejectionRate() {
+        return rejectionRate;
+    }
+
+    long samples() {
+        return samples;
+    }
+}
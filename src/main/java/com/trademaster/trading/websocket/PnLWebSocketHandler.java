@@ -0,0 +1,114 @@
+package com.trademaster.trading.websocket;
+
+import com.trademaster.trading.security.TradingUserPrincipal;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * WebSocket Handler for Streaming P&L
+ *
+ * Delivers P&L updates from StreamingPnLEngine to the authenticated user's sessions on
+ * /ws/pnl. The connection itself is the subscription: a session receives its user's full
+ * positions once after connecting, then deltas as prices and fills move them.
+ *
+ * Sessions without a TradingUserPrincipal are closed with POLICY_VIOLATION.
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+@Component
+@Slf4j
+public class PnLWebSocketHandler extends TextWebSocketHandler {
+
+    // userId -> open sessions of that user
+    private final Map<Long, Set<WebSocketSession>> sessionsByUser = new ConcurrentHashMap<>();
+
+    // Users connected since the engine last took them, owed a full snapshot
+    private final ConcurrentLinkedQueue<Long> newlyConnected = new ConcurrentLinkedQueue<>();
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+        Optional<Long> userId = userId(session.getPrincipal());
+        if (userId.isEmpty()) {
+            session.close(CloseStatus.POLICY_VIOLATION);
+            return;
+        }
+        sessionsByUser.computeIfAbsent(userId.get(), id -> ConcurrentHashMap.newKeySet()).add(session);
+        newlyConnected.offer(userId.get());
+        log.info("P&L stream connected: sessionId={}, userId={}", session.getId(), userId.get());
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        userId(session.getPrincipal()).ifPresent(userId ->
+            sessionsByUser.computeIfPresent(userId, (id, sessions) -> {
+                sessions.remove(session);
+                return sessions.isEmpty() ? null : sessions;
+            }));
+    }
+
+    @Override
+    public void handleTransportError(WebSocketSession session, Throwable exception) throws Exception {
+        log.warn("P&L stream transport error: sessionId={}: {}", session.getId(), exception.getMessage());
+        session.close(CloseStatus.SERVER_ERROR);
+    }
+
+    public boolean isConnected(long userId) {
+        return sessionsByUser.containsKey(userId);
+    }
+
+    /**
+     * Users connected since the last call
+     */
+    public List<Long> takeNewlyConnected() {
+        List<Long> users = new ArrayList<>();
+        for (Long userId = newlyConnected.poll(); userId != null; userId = newlyConnected.poll()) {
+            users.add(userId);
+        }
+        return users;
+    }
+
+    /**
+     * Sends the message to every open session of the user
+     */
+    public void send(long userId, String message) {
+        TextMessage textMessage = new TextMessage(message);
+        Optional.ofNullable(sessionsByUser.get(userId)).ifPresent(sessions -> sessions.stream()
+            .filter(WebSocketSession::isOpen)
+            .forEach(session -> {
+                try {
+                    // Sessions are not thread-safe for sends
+                    synchronized (session) {
+                        session.sendMessage(textMessage);
+                    }
+                } catch (Exception e) {
+                    log.warn("Failed to send P&L update to sessionId={}: {}", session.getId(), e.getMessage());
+                }
+            }));
+    }
+
+    public int getActiveConnectionsCount() {
+        return sessionsByUser.values().stream().mapToInt(Set::size).sum();
+    }
+
+    private static Optional<Long> userId(Principal principal) {
+        Object user = principal instanceof Authentication authentication ? authentication.getPrincipal() : principal;
+        return user instanceof TradingUserPrincipal tradingUser
+            ? Optional.ofNullable(tradingUser.getUserId())
+            : Optional.empty();
+    }
+}
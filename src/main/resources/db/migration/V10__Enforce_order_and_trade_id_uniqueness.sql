@@ -0,0 +1,72 @@
+-- V10__Enforce_order_and_trade_id_uniqueness.sql
+-- Business-key uniqueness for the partitioned orders and trades tables
+--
+-- Since V8, unique constraints on orders and trades must include the partition key, so
+-- (order_id, created_at) and (trade_id, trade_time) accept the same order_id or trade_id
+-- under another timestamp. order_ids and trade_ids are plain tables keyed on the business
+-- id alone; a trigger claims the id in the same transaction as the insert, so a duplicate
+-- fails with a unique violation and the insert rolls back with it.
+--
+-- Ids of partitions archived by PartitionMaintenanceService stay claimed: dropping a
+-- partition fires no row triggers, so an archived id is never reused. Rows moved out of a
+-- DEFAULT partition by trading_create_partition go through a detached table and keep their
+-- claim. Updating created_at or trade_time across a partition boundary re-inserts the row
+-- and is refused as a duplicate; the application never changes these event timestamps.
+
+CREATE TABLE order_ids (
+    order_id VARCHAR(50) PRIMARY KEY
+);
+
+CREATE TABLE trade_ids (
+    trade_id VARCHAR(50) PRIMARY KEY
+);
+
+COMMENT ON TABLE order_ids IS 'One row per orders.order_id ever used; enforces uniqueness across partitions';
+COMMENT ON TABLE trade_ids IS 'One row per trades.trade_id ever used; enforces uniqueness across partitions';
+
+INSERT INTO order_ids (order_id) SELECT order_id FROM orders;
+INSERT INTO trade_ids (trade_id) SELECT trade_id FROM trades;
+
+CREATE OR REPLACE FUNCTION claim_order_id()
+RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP = 'UPDATE' THEN
+        DELETE FROM order_ids WHERE order_id = OLD.order_id;
+    END IF;
+    INSERT INTO order_ids (order_id) VALUES (NEW.order_id);
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION claim_trade_id()
+RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP = 'UPDATE' THEN
+        DELETE FROM trade_ids WHERE trade_id = OLD.trade_id;
+    END IF;
+    INSERT INTO trade_ids (trade_id) VALUES (NEW.trade_id);
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_orders_claim_order_id
+    BEFORE INSERT ON orders
+    FOR EACH ROW
+    EXECUTE FUNCTION claim_order_id();
+
+CREATE TRIGGER trg_orders_reclaim_order_id
+    BEFORE UPDATE OF order_id ON orders
+    FOR EACH ROW
+    WHEN (OLD.order_id IS DISTINCT FROM NEW.order_id)
+    EXECUTE FUNCTION claim_order_id();
+
+CREATE TRIGGER trg_trades_claim_trade_id
+    BEFORE INSERT ON trades
+    FOR EACH ROW
+    EXECUTE FUNCTION claim_trade_id();
+
+CREATE TRIGGER trg_trades_reclaim_trade_id
+    BEFORE UPDATE OF trade_id ON trades
+    FOR EACH ROW
+    WHEN (OLD.trade_id IS DISTINCT FROM NEW.trade_id)
+    EXECUTE FUNCTION claim_trade_id();
@@ -0,0 +1,258 @@
+-- V8__Partition_trading_tables.sql
+-- Native range partitioning for the high-volume trading tables
+--
+-- orders, order_fills and trades are partitioned by month and trading_audit_log by day, on
+-- their event timestamp. Partitions are created ahead of time by trading_ensure_partitions();
+-- rows outside every partition land in a DEFAULT partition and are moved out when their
+-- partition is created. PartitionMaintenanceService runs the functions below on a schedule
+-- and archives partitions once they are past retention.
+--
+-- Consequences of partitioning:
+-- - Primary keys and unique constraints must include the partition key: orders is unique on
+--   (id, created_at) and (order_id, created_at), trades on (id, trade_time) and
+--   (trade_id, trade_time). Ids still come from the same sequences.
+-- - order_fills and trades can no longer reference orders(id), which is not unique on its
+--   own; both foreign keys are dropped and their order_id columns stay indexed.
+-- - Lookups by id alone probe one index per partition. Queries bounded on the partition
+--   key touch only the partitions in range.
+--
+-- Existing rows are copied into the partitioned tables; run in a maintenance window.
+
+-- Partition policy, one row per partitioned table
+CREATE TABLE trading_partition_policy (
+    parent_table VARCHAR(63) PRIMARY KEY,
+    partition_column VARCHAR(63) NOT NULL,
+    granularity VARCHAR(5) NOT NULL CHECK (granularity IN ('day', 'month')),
+    premake INTEGER NOT NULL CHECK (premake > 0),
+    retention INTERVAL NOT NULL,
+    archive_blocker TEXT
+);
+
+COMMENT ON TABLE trading_partition_policy IS 'Partition layout and hot retention of partitioned trading tables';
+COMMENT ON COLUMN trading_partition_policy.premake IS 'Partitions kept ready beyond the current one';
+COMMENT ON COLUMN trading_partition_policy.retention IS 'Age after which a partition is exported to the archive and dropped';
+COMMENT ON COLUMN trading_partition_policy.archive_blocker IS 'Row predicate that keeps a partition attached while any row matches it';
+
+INSERT INTO trading_partition_policy (parent_table, partition_column, granularity, premake, retention, archive_blocker)
+VALUES
+    ('orders', 'created_at', 'month', 3, INTERVAL '24 months',
+        'status NOT IN (''FILLED'', ''CANCELLED'', ''REJECTED'', ''EXPIRED'')'),
+    ('order_fills', 'fill_time', 'month', 3, INTERVAL '24 months', NULL),
+    ('trades', 'trade_time', 'month', 3, INTERVAL '24 months', NULL),
+    ('trading_audit_log', 'created_at', 'day', 14, INTERVAL '90 days', NULL);
+
+-- Partition name for a period, e.g. trades_p2026_10 or trading_audit_log_p2026_10_18
+CREATE OR REPLACE FUNCTION trading_partition_name(p_parent TEXT, p_granularity TEXT, p_period_start TIMESTAMPTZ)
+RETURNS TEXT AS $$
+    SELECT p_parent || '_p' || to_char(p_period_start AT TIME ZONE 'UTC',
+        CASE p_granularity WHEN 'day' THEN 'YYYY_MM_DD' ELSE 'YYYY_MM' END);
+$$ LANGUAGE sql IMMUTABLE;
+
+-- Creates the partition covering p_at (periods are aligned to UTC), moving any rows for it
+-- out of the DEFAULT partition. Returns false when the partition already exists.
+CREATE OR REPLACE FUNCTION trading_create_partition(p_parent TEXT, p_at TIMESTAMPTZ)
+RETURNS BOOLEAN AS $$
+DECLARE
+    policy trading_partition_policy%ROWTYPE;
+    period_start TIMESTAMP;
+    range_start TIMESTAMPTZ;
+    range_end TIMESTAMPTZ;
+    partition_name TEXT;
+BEGIN
+    SELECT * INTO STRICT policy FROM trading_partition_policy WHERE parent_table = p_parent;
+    period_start := date_trunc(policy.granularity, p_at AT TIME ZONE 'UTC');
+    range_start := period_start AT TIME ZONE 'UTC';
+    range_end := (period_start + ('1 ' || policy.granularity)::INTERVAL) AT TIME ZONE 'UTC';
+    partition_name := trading_partition_name(p_parent, policy.granularity, range_start);
+
+    IF to_regclass(partition_name) IS NOT NULL THEN
+        RETURN FALSE;
+    END IF;
+
+    -- Build the partition detached and fill it first; attaching then only has to scan rows
+    -- that were already moved
+    EXECUTE format('CREATE TABLE %I (LIKE %I INCLUDING DEFAULTS INCLUDING CONSTRAINTS)',
+        partition_name, p_parent);
+    EXECUTE format('WITH moved AS (DELETE FROM %I WHERE %I >= $1 AND %I < $2 RETURNING *) '
+        'INSERT INTO %I SELECT * FROM moved',
+        p_parent || '_default', policy.partition_column, policy.partition_column, partition_name)
+        USING range_start, range_end;
+    EXECUTE format('ALTER TABLE %I ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+        p_parent, partition_name, range_start, range_end);
+    RETURN TRUE;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Creates the current partition and the policy's premade ones. Returns the number created.
+CREATE OR REPLACE FUNCTION trading_ensure_partitions(p_parent TEXT)
+RETURNS INTEGER AS $$
+DECLARE
+    policy trading_partition_policy%ROWTYPE;
+    created INTEGER := 0;
+BEGIN
+    SELECT * INTO STRICT policy FROM trading_partition_policy WHERE parent_table = p_parent;
+    FOR period IN 0..policy.premake LOOP
+        IF trading_create_partition(p_parent, NOW() + (period || ' ' || policy.granularity)::INTERVAL) THEN
+            created := created + 1;
+        END IF;
+    END LOOP;
+    RETURN created;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Attached partitions whose whole range is older than the policy retention, oldest first
+CREATE OR REPLACE FUNCTION trading_expired_partitions(p_parent TEXT)
+RETURNS TABLE (partition_name TEXT, range_end TIMESTAMPTZ) AS $$
+    SELECT child.relname::TEXT, bounds.range_end
+    FROM trading_partition_policy policy
+    JOIN pg_inherits inheritance ON inheritance.inhparent = to_regclass(policy.parent_table)
+    JOIN pg_class child ON child.oid = inheritance.inhrelid
+    CROSS JOIN LATERAL (
+        SELECT (regexp_match(pg_get_expr(child.relpartbound, child.oid),
+            'TO \(''([^'']+)''\)'))[1]::TIMESTAMPTZ AS range_end
+    ) bounds
+    WHERE policy.parent_table = p_parent
+      AND bounds.range_end <= NOW() - policy.retention
+    ORDER BY bounds.range_end;
+$$ LANGUAGE sql STABLE;
+
+-- Replaces a table by a partitioned parent with the same columns, defaults and checks, a
+-- DEFAULT partition and partitions from its oldest row onwards, then copies the rows over.
+-- The original is left behind as <table>_legacy.
+CREATE OR REPLACE FUNCTION trading_convert_to_partitioned(p_table TEXT)
+RETURNS VOID AS $$
+DECLARE
+    policy trading_partition_policy%ROWTYPE;
+    legacy TEXT := p_table || '_legacy';
+    period TIMESTAMPTZ;
+BEGIN
+    SELECT * INTO STRICT policy FROM trading_partition_policy WHERE parent_table = p_table;
+    EXECUTE format('ALTER TABLE %I RENAME TO %I', p_table, legacy);
+    EXECUTE format('CREATE TABLE %I (LIKE %I INCLUDING DEFAULTS INCLUDING CONSTRAINTS INCLUDING COMMENTS) '
+        'PARTITION BY RANGE (%I)', p_table, legacy, policy.partition_column);
+    EXECUTE format('CREATE TABLE %I PARTITION OF %I DEFAULT', p_table || '_default', p_table);
+
+    EXECUTE format('SELECT MIN(%I) FROM %I', policy.partition_column, legacy) INTO period;
+    period := COALESCE(period, NOW());
+    WHILE period < NOW() LOOP
+        PERFORM trading_create_partition(p_table, period);
+        period := period + ('1 ' || policy.granularity)::INTERVAL;
+    END LOOP;
+    PERFORM trading_ensure_partitions(p_table);
+
+    EXECUTE format('INSERT INTO %I SELECT * FROM %I', p_table, legacy);
+END;
+$$ LANGUAGE plpgsql;
+
+-- Audit trigger: take the entity type from the trigger argument, since on a partitioned
+-- table TG_TABLE_NAME is the partition's name. Untagged triggers map the table name onto
+-- the values trading_audit_log accepts.
+CREATE OR REPLACE FUNCTION create_audit_log_entry()
+RETURNS TRIGGER AS $$
+DECLARE
+    entity TEXT := COALESCE(TG_ARGV[0], CASE TG_TABLE_NAME
+        WHEN 'orders' THEN 'ORDER'
+        WHEN 'trades' THEN 'TRADE'
+        WHEN 'portfolios' THEN 'PORTFOLIO'
+        WHEN 'positions' THEN 'PORTFOLIO'
+        ELSE 'RISK'
+    END);
+BEGIN
+    INSERT INTO trading_audit_log (
+        user_id, order_id, action, entity_type, entity_id,
+        old_values, new_values, created_at
+    )
+    VALUES (
+        COALESCE(NEW.user_id, OLD.user_id),
+        CASE WHEN entity = 'ORDER' THEN COALESCE(NEW.id, OLD.id) ELSE NULL END,
+        TG_OP,
+        entity,
+        COALESCE(NEW.id, OLD.id),
+        CASE WHEN TG_OP = 'DELETE' THEN row_to_json(OLD) ELSE NULL END,
+        CASE WHEN TG_OP != 'DELETE' THEN row_to_json(NEW) ELSE NULL END,
+        NOW()
+    );
+    RETURN COALESCE(NEW, OLD);
+END;
+$$ LANGUAGE plpgsql;
+
+-- Partition keys must be NOT NULL
+UPDATE orders SET created_at = COALESCE(updated_at, NOW()) WHERE created_at IS NULL;
+ALTER TABLE orders ALTER COLUMN created_at SET NOT NULL;
+UPDATE trading_audit_log SET created_at = NOW() WHERE created_at IS NULL;
+ALTER TABLE trading_audit_log ALTER COLUMN created_at SET NOT NULL;
+
+-- Foreign keys into orders(id) cannot survive partitioning of orders
+ALTER TABLE order_fills DROP CONSTRAINT IF EXISTS order_fills_order_id_fkey;
+ALTER TABLE trades DROP CONSTRAINT IF EXISTS trades_order_id_fkey;
+
+-- Orders
+SELECT trading_convert_to_partitioned('orders');
+ALTER SEQUENCE orders_id_seq OWNED BY orders.id;
+DROP TABLE orders_legacy;
+
+ALTER TABLE orders ADD CONSTRAINT orders_pkey PRIMARY KEY (id, created_at);
+ALTER TABLE orders ADD CONSTRAINT orders_order_id_key UNIQUE (order_id, created_at);
+CREATE INDEX idx_orders_order_id ON orders(order_id);
+CREATE INDEX idx_orders_user_id ON orders(user_id, created_at);
+CREATE INDEX idx_orders_symbol ON orders(symbol);
+CREATE INDEX idx_orders_status ON orders(status);
+CREATE INDEX idx_orders_created_at ON orders(created_at);
+CREATE INDEX idx_orders_user_symbol_status ON orders(user_id, symbol, status);
+CREATE INDEX idx_orders_broker_order_id ON orders(broker_order_id) WHERE broker_order_id IS NOT NULL;
+CREATE INDEX idx_orders_active ON orders(user_id, status) WHERE status IN ('ACKNOWLEDGED', 'PARTIALLY_FILLED');
+
+-- Order changes are audited by the application's audit writer; only keep updated_at current
+CREATE TRIGGER trg_orders_updated_at
+    BEFORE UPDATE ON orders
+    FOR EACH ROW
+    EXECUTE FUNCTION update_updated_at_column();
+
+-- Order fills
+SELECT trading_convert_to_partitioned('order_fills');
+ALTER SEQUENCE order_fills_id_seq OWNED BY order_fills.id;
+DROP TABLE order_fills_legacy;
+
+ALTER TABLE order_fills ADD CONSTRAINT order_fills_pkey PRIMARY KEY (id, fill_time);
+CREATE INDEX idx_order_fills_order_id ON order_fills(order_id);
+CREATE INDEX idx_order_fills_fill_time ON order_fills(fill_time);
+
+-- Trades
+SELECT trading_convert_to_partitioned('trades');
+ALTER SEQUENCE trades_id_seq OWNED BY trades.id;
+DROP TABLE trades_legacy;
+
+ALTER TABLE trades ADD CONSTRAINT trades_pkey PRIMARY KEY (id, trade_time);
+ALTER TABLE trades ADD CONSTRAINT trades_trade_id_key UNIQUE (trade_id, trade_time);
+CREATE INDEX idx_trades_order_id ON trades(order_id);
+CREATE INDEX idx_trades_user_id ON trades(user_id);
+CREATE INDEX idx_trades_symbol ON trades(symbol);
+CREATE INDEX idx_trades_trade_time ON trades(trade_time);
+CREATE INDEX idx_trades_user_symbol_time ON trades(user_id, symbol, trade_time);
+
+CREATE TRIGGER trg_update_portfolio_on_trade
+    AFTER INSERT ON trades
+    FOR EACH ROW
+    EXECUTE FUNCTION update_portfolio_on_trade();
+
+CREATE TRIGGER trg_trades_audit
+    AFTER INSERT OR UPDATE OR DELETE ON trades
+    FOR EACH ROW
+    EXECUTE FUNCTION create_audit_log_entry('TRADE');
+
+-- Audit log
+SELECT trading_convert_to_partitioned('trading_audit_log');
+ALTER SEQUENCE trading_audit_log_id_seq OWNED BY trading_audit_log.id;
+DROP TABLE trading_audit_log_legacy;
+
+ALTER TABLE trading_audit_log ADD CONSTRAINT trading_audit_log_pkey PRIMARY KEY (id, created_at);
+CREATE INDEX idx_audit_log_user_id ON trading_audit_log(user_id, created_at);
+CREATE INDEX idx_audit_log_entity ON trading_audit_log(entity_type, entity_id);
+CREATE INDEX idx_audit_log_created_at ON trading_audit_log(created_at);
+
+DROP FUNCTION trading_convert_to_partitioned(TEXT);
+
+COMMENT ON TABLE orders IS 'Core order management table with lifecycle tracking, partitioned monthly by created_at';
+COMMENT ON TABLE order_fills IS 'Order fill tracking for partial executions, partitioned monthly by fill_time';
+COMMENT ON TABLE trades IS 'Completed trade records for reporting and settlement, partitioned monthly by trade_time';
+COMMENT ON TABLE trading_audit_log IS 'Complete audit trail for regulatory compliance, partitioned daily by created_at';
@@ -0,0 +1,28 @@
+-- V9__Notify_risk_limit_changes.sql
+-- Change notifications for risk_limits
+--
+-- RiskLimitCache holds every user's limits in memory and LISTENs on risk_limits_changed.
+-- Each inserted, updated or deleted row raises a notification carrying its user_id, sent
+-- when the transaction commits; identical payloads within one transaction are delivered
+-- once. An update that moves a row to another user notifies both users.
+
+CREATE OR REPLACE FUNCTION notify_risk_limits_changed()
+RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP <> 'INSERT' THEN
+        PERFORM pg_notify('risk_limits_changed', OLD.user_id::text);
+    END IF;
+    IF TG_OP = 'INSERT' OR (TG_OP = 'UPDATE' AND NEW.user_id IS DISTINCT FROM OLD.user_id) THEN
+        PERFORM pg_notify('risk_limits_changed', NEW.user_id::text);
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_risk_limits_notify
+    AFTER INSERT OR UPDATE OR DELETE ON risk_limits
+    FOR EACH ROW
+    EXECUTE FUNCTION notify_risk_limits_changed();
+
+-- Polled by RiskLimitCache when notifications are unavailable
+CREATE INDEX IF NOT EXISTS idx_risk_limits_updated_at ON risk_limits(updated_at);
@@ -0,0 +1,291 @@
+package com.trademaster.trading.backtest;
+
+import com.trademaster.trading.model.OrderSide;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for BacktestEngine
+ *
+ * Checks fill prices and costs per order type against hand-computed bars, the
+ * time-ordered merge of several series and the memory-mapped file round trip.
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+class BacktestEngineTest {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Kolkata");
+    private static final long START = Instant.parse("2024-01-01T04:00:00Z").toEpochMilli();
+    private static final long DAY = 86_400_000L;
+    private static final long MINUTE = 60_000L;
+    private static final FillModel NO_COSTS = new FillModel(0.0, 0.0, 0.0);
+
+    private final BacktestEngine engine = new BacktestEngine(ZONE);
+
+    @Test
+    void market_FillsAtNextOpenWithSlippageAndCommission() {
+        BarSeries bars = bars("AAA", DAY, new double[][] {
+            {100, 101, 99, 100}, {102, 103, 101, 102}, {104, 106, 103, 105}});
+        FillModel costs = new FillModel(0.001, 10, 0.0);
+
+        BacktestRun run = engine.run(spec(costs, bars), (context, symbol, index) -> {
+            if (index == 0) {
+                context.submit(SimulatedOrder.market(symbol, OrderSide.BUY, 100));
+            }
+        });
+
+        // Bought at 102 + 10 bps, closed out at the last close 105 - 10 bps
+        ClosedTrade trade = run.trades().get(0);
+        assertEquals(102.102, trade.entryPrice(), 1e-9);
+        assertEquals(104.895, trade.exitPrice(), 1e-9);
+        assertEquals(279.3, trade.grossPnl(), 1e-9);
+        assertEquals(10.2102 + 10.4895, trade.commission(), 1e-9);
+        assertEquals(10.2 + 10.5, trade.slippage(), 1e-9);
+        assertEquals(SimulatedOrder.TIMEOUT, trade.exitReason());
+        assertEquals(3, run.days().size());
+        assertArrayEquals(new double[] {1_000_000.0, 999_979.5898, 1_000_258.6003}, run.equity(), 1e-6);
+        assertEquals(3, run.events());
+        assertEquals(1, run.orders());
+    }
+
+    @Test
+    void stopLoss_GapThroughStop_FillsAtTheOpen() {
+        BarSeries bars = bars("AAA", DAY, new double[][] {
+            {100, 100, 100, 100}, {100, 101, 99, 100}, {90, 91, 88, 89}, {89, 90, 88, 90}});
+
+        BacktestRun run = engine.run(spec(NO_COSTS, bars), (context, symbol, index) -> {
+            if (index == 0) {
+                context.submit(SimulatedOrder.market(symbol, OrderSide.BUY, 10));
+            } else if (index == 1) {
+                context.submit(SimulatedOrder.stopLoss(symbol, OrderSide.SELL, 10, 95.0));
+            }
+        });
+
+        ClosedTrade trade = run.trades().get(0);
+        assertEquals(90.0, trade.exitPrice());
+        assertEquals(-100.0, trade.grossPnl(), 1e-9);
+        assertEquals(SimulatedOrder.STOP_LOSS, trade.exitReason());
+        assertEquals(1, run.trades().size());
+    }
+
+    @Test
+    void trailingStop_TrailsTheHighByPercent() {
+        BarSeries bars = bars("AAA", DAY, new double[][] {
+            {100, 100, 100, 100}, {100, 100, 100, 100}, {100, 110, 100, 108},
+            {108, 112, 106, 111}, {111, 111, 105, 106}, {106, 107, 104, 105}});
+
+        BacktestRun run = engine.run(spec(NO_COSTS, bars), (context, symbol, index) -> {
+            if (index == 0) {
+                context.submit(SimulatedOrder.market(symbol, OrderSide.BUY, 10));
+            } else if (index == 1) {
+                context.submit(SimulatedOrder.trailingStop(symbol, OrderSide.SELL, 10, 0.0, 5.0));
+            }
+        });
+
+        // Stop at 95% of the 112 high, touched by the 105 low of the fifth bar
+        ClosedTrade trade = run.trades().get(0);
+        assertEquals(106.4, trade.exitPrice(), 1e-9);
+        assertEquals(SimulatedOrder.STOP_LOSS, trade.exitReason());
+        assertEquals(START + 4 * DAY, trade.exitMillis());
+    }
+
+    @Test
+    void bracket_TakesProfitAfterTheEntryBar() {
+        BarSeries bars = bars("AAA", DAY, new double[][] {
+            {100, 100, 100, 100}, {100, 106, 99, 101}, {101, 106, 100, 104}, {104, 105, 103, 104}});
+
+        BacktestRun run = engine.run(spec(NO_COSTS, bars), (context, symbol, index) -> {
+            if (index == 0) {
+                context.submit(SimulatedOrder.bracket(symbol, OrderSide.BUY, 10, Double.NaN, 105.0, 95.0));
+            }
+        });
+
+        ClosedTrade trade = run.trades().get(0);
+        assertEquals(100.0, trade.entryPrice());
+        assertEquals(105.0, trade.exitPrice());
+        assertEquals(START + 2 * DAY, trade.exitMillis());
+        assertEquals(SimulatedOrder.TAKE_PROFIT, trade.exitReason());
+    }
+
+    @Test
+    void twap_FillsEqualSlicesAndCatchesUpOnVolumeCap() {
+        double[][] flat = new double[14][];
+        for (int index = 0; index < flat.length; index++) {
+            flat[index] = new double[] {100, 101, 99, 100};
+        }
+        BarSeries bars = bars("AAA", MINUTE, flat);
+        long[] uncapped = positions(bars, NO_COSTS);
+        long[] capped = positions(bars, new FillModel(0.0, 0.0, 0.05));
+
+        for (int index = 1; index <= 10; index++) {
+            assertEquals(60L * index, uncapped[index]);
+        }
+        assertEquals(600, uncapped[13]);
+        // 5% of 1,000 shares a bar: behind schedule from the first slice, done on the 12th bar
+        assertEquals(250, capped[5]);
+        assertEquals(550, capped[11]);
+        assertEquals(600, capped[12]);
+    }
+
+    @Test
+    void run_MergesSeriesInTimeOrder_TiesBySymbolIndex() {
+        BarSeries first = bars("AAA", 2 * MINUTE, new double[][] {{1, 1, 1, 1}, {1, 1, 1, 1}, {1, 1, 1, 1}});
+        BarSeries second = bars("BBB", MINUTE, new double[][] {{1, 1, 1, 1}, {1, 1, 1, 1}, {1, 1, 1, 1}});
+        List<String> seen = new ArrayList<>();
+
+        BacktestRun run = engine.run(spec(NO_COSTS, first, second), (context, symbol, index) ->
+            seen.add(context.series(symbol).symbol() + index));
+
+        assertEquals(List.of("AAA0", "BBB0", "BBB1", "AAA1", "BBB2", "AAA2"), seen);
+        assertEquals(6, run.events());
+        assertEquals(1, run.days().size());
+    }
+
+    @Test
+    void run_RangeSelectsBarsInside() {
+        BarSeries bars = randomWalk("AAA", 30, 1);
+        BacktestSpec spec = spec(NO_COSTS, bars).withRange(Instant.ofEpochMilli(START + 5 * DAY),
+            Instant.ofEpochMilli(START + 15 * DAY));
+
+        BacktestRun run = engine.run(spec, (context, symbol, index) -> assertTrue(index >= 5 && index < 15));
+
+        assertEquals(10, run.events());
+        assertEquals(10, run.days().size());
+    }
+
+    @Test
+    void mappedSeries_RoundTripsAndReplaysIdentically(@TempDir Path directory) throws Exception {
+        BarSeries bars = randomWalk("RELIANCE", 500, 7);
+        Path file = directory.resolve("RELIANCE.bars");
+
+        MappedBarSeries.write(file, bars);
+        MappedBarSeries mapped = MappedBarSeries.open(file);
+
+        assertEquals("RELIANCE", mapped.symbol());
+        assertEquals(bars.size(), mapped.size());
+        for (int index = 0; index < bars.size(); index++) {
+            assertEquals(bars.timestamp(index), mapped.timestamp(index));
+            assertEquals(bars.open(index), mapped.open(index));
+            assertEquals(bars.high(index), mapped.high(index));
+            assertEquals(bars.low(index), mapped.low(index));
+            assertEquals(bars.close(index), mapped.close(index));
+            assertEquals(bars.volume(index), mapped.volume(index));
+        }
+        FillModel costs = new FillModel(0.0003, 5, 0.1);
+        BacktestRun fromArrays = engine.run(spec(costs, bars), new MovingAverageCrossover(5, 20, 100));
+        BacktestRun fromFile = engine.run(spec(costs, mapped), new MovingAverageCrossover(5, 20, 100));
+        assertArrayEquals(fromArrays.equity(), fromFile.equity());
+        assertEquals(fromArrays.trades(), fromFile.trades());
+        assertFalse(fromArrays.trades().isEmpty());
+    }
+
+    private long[] positions(BarSeries bars, FillModel model) {
+        long[] positions = new long[bars.size()];
+        engine.run(spec(model, bars), (context, symbol, index) -> {
+            positions[index] = context.position(symbol);
+            if (index == 0) {
+                context.submit(SimulatedOrder.twap(symbol, OrderSide.BUY, 600, 10, 60));
+            }
+        });
+        return positions;
+    }
+
+    static BacktestSpec spec(FillModel model, BarSeries... series) {
+        return new BacktestSpec("TEST", "Test", List.of(series), null, null, 1_000_000.0, model);
+    }
+
+    /**
+     * Bars of {open, high, low, close} rows from START, volume 1,000 each
+     */
+    static BarSeries bars(String symbol, long step, double[][] rows) {
+        int size = rows.length;
+        long[] timestamps = new long[size];
+        double[][] columns = new double[4][size];
+        long[] volume = new long[size];
+        for (int index = 0; index < size; index++) {
+            timestamps[index] = START + index * step;
+            for (int column = 0; column < 4; column++) {
+                columns[column][index] = rows[index][column];
+            }
+            volume[index] = 1_000;
+        }
+        return new ArrayBarSeries(symbol, timestamps, columns[0], columns[1], columns[2], columns[3], volume);
+    }
+
+    /**
+     * Daily bars of a lognormal random walk from 100
+     */
+    static BarSeries randomWalk(String symbol, int size, long seed) {
+        return randomWalk(symbol, size, seed, DAY, 0.0003);
+    }
+
+    static BarSeries randomWalk(String symbol, int size, long seed, long step, double drift) {
+        SplittableRandom random = new SplittableRandom(seed);
+        long[] timestamps = new long[size];
+        double[] open = new double[size];
+        double[] high = new double[size];
+        double[] low = new double[size];
+        double[] close = new double[size];
+        long[] volume = new long[size];
+        double price = 100.0;
+        for (int index = 0; index < size; index++) {
+            timestamps[index] = START + index * step;
+            open[index] = price;
+            price *= Math.exp(drift + 0.015 * random.nextGaussian());
+            close[index] = price;
+            high[index] = Math.max(open[index], close[index]) * (1.0 + 0.004 * random.nextDouble());
+            low[index] = Math.min(open[index], close[index]) * (1.0 - 0.004 * random.nextDouble());
+            volume[index] = random.nextLong(50_000, 500_000);
+        }
+        return new ArrayBarSeries(symbol, timestamps, open, high, low, close, volume);
+    }
+
+    /**
+     * Long while the fast simple moving average is above the slow one
+     */
+    static final class MovingAverageCrossover implements SignalStrategy {
+
+        private final int fast;
+        private final int slow;
+        private final long quantity;
+
+        MovingAverageCrossover(int fast, int slow, long quantity) {
+            this.fast = fast;
+            this.slow = slow;
+            this.quantity = quantity;
+        }
+
+        @Override
+        public void onBar(BacktestContext context, int symbol, int index) {
+            if (index + 1 < slow) {
+                return;
+            }
+            BarSeries bars = context.series(symbol);
+            boolean bullish = average(bars, index, fast) > average(bars, index, slow);
+            long position = context.position(symbol);
+            if (bullish && position == 0 && !context.hasWorkingOrders(symbol)) {
+                context.submit(SimulatedOrder.market(symbol, OrderSide.BUY, quantity));
+            } else if (!bullish && position > 0 && !context.hasWorkingOrders(symbol)) {
+                context.submit(SimulatedOrder.market(symbol, OrderSide.SELL, position));
+            }
+        }
+
+        private static double average(BarSeries bars, int index, int length) {
+            double sum = 0.0;
+            for (int bar = index - length + 1; bar <= index; bar++) {
+                sum += bars.close(bar);
+            }
+            return sum / length;
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.trademaster.trading.backtest;
+
+import com.trademaster.trading.dto.BacktestResult;
+import com.trademaster.trading.dto.SimulationParameters;
+import com.trademaster.trading.dto.SimulationResult;
+import com.trademaster.trading.dto.WalkForwardParameters;
+import com.trademaster.trading.dto.WalkForwardResult;
+import com.trademaster.trading.model.OrderSide;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for BacktestService
+ *
+ * Checks the BacktestResult mapping, walk-forward selection and its independence from
+ * the pool size, and the seeded bootstrap simulation.
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+class BacktestServiceTest {
+
+    private static final Instant START = Instant.parse("2024-01-01T00:00:00Z");
+
+    private BacktestService service;
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void backtest_MapsRunToResult() {
+        service = newService(1);
+        BarSeries bars = BacktestEngineTest.bars("AAA", 86_400_000L, new double[][] {
+            {100, 101, 99, 100}, {100, 111, 99, 110}, {110, 111, 104, 105}, {105, 106, 104, 106}});
+        BacktestSpec spec = service.spec("S1", "Buy and sell", List.of(bars));
+
+        BacktestResult result = service.backtest(spec, (context, symbol, index) -> {
+            if (index == 0) {
+                context.submit(SimulatedOrder.market(symbol, OrderSide.BUY, 1_000));
+            } else if (index == 1) {
+                context.submit(SimulatedOrder.market(symbol, OrderSide.SELL, 1_000));
+            }
+        });
+
+        // Bought 1,000 at the 100 open, sold at the 110 open: +10,000 on 1,000,000
+        assertEquals(new BigDecimal("1.00"), result.getPerformance().getTotalReturn());
+        assertEquals(1, result.getTradingStats().getTotalTrades());
+        assertEquals(1, result.getTradingStats().getWinningTrades());
+        assertEquals(new BigDecimal("100.00"), result.getTradingStats().getWinRate());
+        assertEquals(new BigDecimal("10000.00"), result.getTradingStats().getNetProfitAfterCosts());
+        assertEquals("LONG", result.getTrades().get(0).getDirection());
+        assertEquals(new BigDecimal("10.00"), result.getTrades().get(0).getNetReturn());
+        assertEquals(4, result.getStatistics().getTotalObservations());
+        assertEquals("2024-01", result.getMonthlyReturns().get(0).getPeriod());
+        assertEquals(spec.series().get(0).size(), result.getConfig().getTotalDataPoints());
+        assertNotNull(result.getBacktestId());
+    }
+
+    @Test
+    void walkForward_PicksTheBetterCandidatePerWindow() {
+        service = newService(2);
+        List<BarSeries> series = List.of(BacktestEngineTest.randomWalk("UP", 200, 3, 86_400_000L, 0.004));
+
+        WalkForwardResult result = service.walkForward(parameters(60, 20, 20), series, candidates());
+
+        assertEquals(6, result.periodResults().size());
+        result.periodResults().forEach(period -> assertEquals("HOLD", period.get("selectedStrategy")));
+        assertTrue(result.averageReturn().signum() > 0);
+        assertEquals(Duration.ofDays(60), Duration.between(
+            (Instant) result.periodResults().get(0).get("trainStart"),
+            (Instant) result.periodResults().get(0).get("testStart")));
+    }
+
+    @Test
+    void walkForward_SameResultOnAnyPoolSize() {
+        List<BarSeries> series = IntStream.range(0, 4)
+            .mapToObj(i -> BacktestEngineTest.randomWalk("SYM" + i, 250, i, 86_400_000L, 0.0))
+            .toList();
+
+        service = newService(1);
+        WalkForwardResult single = service.walkForward(parameters(50, 25, 25), series, candidates());
+        service.shutdown();
+        service = newService(4);
+        WalkForwardResult parallel = service.walkForward(parameters(50, 25, 25), series, candidates());
+
+        assertEquals(single.periodResults(), parallel.periodResults());
+        assertEquals(single.averageReturn(), parallel.averageReturn());
+        assertEquals(single.consistency(), parallel.consistency());
+        assertEquals(single.degradationFactor(), parallel.degradationFactor());
+    }
+
+    @Test
+    void walkForward_SkipsWindowsBelowMinObservations() {
+        service = newService(1);
+        List<BarSeries> series = List.of(BacktestEngineTest.randomWalk("AAA", 30, 1));
+        WalkForwardParameters parameters = new WalkForwardParameters("WF", START, START.plus(Duration.ofDays(90)),
+            20, 10, 10, 15);
+
+        WalkForwardResult result = service.walkForward(parameters, series, candidates());
+
+        // Train windows from day 0 and day 10 hold 20 and 20 bars, later ones run past the data
+        assertEquals(2, result.periodResults().size());
+    }
+
+    @Test
+    void simulate_SameSeed_SameDistribution() {
+        service = newService(2);
+        BacktestSpec spec = service.spec("S1", "Crossover", List.of(BacktestEngineTest.randomWalk("AAA", 300, 9)));
+        BacktestRun run = service.run(spec, new BacktestEngineTest.MovingAverageCrossover(5, 20, 1_000));
+        SimulationParameters parameters = new SimulationParameters("BOOTSTRAP", null, null, null, 500, Map.of(), "42");
+
+        SimulationResult first = service.simulate(run, parameters);
+        SimulationResult second = service.simulate(run, parameters);
+
+        assertEquals(first.scenarioResults(), second.scenarioResults());
+        assertEquals(first.finalValue(), second.finalValue());
+        List<BigDecimal> values = first.scenarioResults().stream()
+            .map(scenario -> (BigDecimal) scenario.get("finalValue"))
+            .toList();
+        for (int index = 1; index < values.size(); index++) {
+            assertTrue(values.get(index - 1).compareTo(values.get(index)) <= 0);
+        }
+        assertEquals(values.get(2), first.finalValue());
+        assertThrows(IllegalArgumentException.class, () -> service.simulate(run,
+            new SimulationParameters("GARCH", null, null, null, 10, Map.of(), null)));
+    }
+
+    static BacktestService newService(int parallelism) {
+        BacktestService service = new BacktestService(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(service, "parallelism", parallelism);
+        ReflectionTestUtils.setField(service, "initialCapital", 1_000_000.0);
+        ReflectionTestUtils.setField(service, "commissionRate", 0.0);
+        ReflectionTestUtils.setField(service, "slippageBps", 0.0);
+        ReflectionTestUtils.setField(service, "maxParticipation", 0.0);
+        ReflectionTestUtils.setField(service, "zone", "Asia/Kolkata");
+        ReflectionTestUtils.setField(service, "simulationIterations", 1_000);
+        ReflectionTestUtils.setField(service, "seed", 42L);
+        service.init();
+        return service;
+    }
+
+    private static WalkForwardParameters parameters(int train, int test, int step) {
+        return new WalkForwardParameters("WF", START, START.plus(Duration.ofDays(train + 6L * test + 1)),
+            train, test, step, train / 2);
+    }
+
+    /**
+     * Buy-and-hold against staying flat and a moving average crossover
+     */
+    private static Map<String, Supplier<SignalStrategy>> candidates() {
+        Map<String, Supplier<SignalStrategy>> candidates = new LinkedHashMap<>();
+        candidates.put("FLAT", () -> (context, symbol, index) -> { });
+        candidates.put("HOLD", () -> (context, symbol, index) -> {
+            if (context.position(symbol) == 0 && !context.hasWorkingOrders(symbol)) {
+                context.submit(SimulatedOrder.market(symbol, OrderSide.BUY, 1_000));
+            }
+        });
+        candidates.put("CROSSOVER", () -> new BacktestEngineTest.MovingAverageCrossover(5, 20, 1_000));
+        return candidates;
+    }
+}
@@ -0,0 +1,106 @@
+package com.trademaster.trading.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.test.context.junit.jupiter.web.SpringJUnitWebConfig;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Unit tests for the control endpoint rules in SecurityConfig
+ *
+ * A trader signed in with a valid token may read the order controls and log sampling
+ * state but gets 403 engaging a kill switch or changing sampling; admins and risk
+ * managers may write. The actuator endpoints are stood in for by a plain controller.
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+@SpringJUnitWebConfig(ControlEndpointSecurityTest.TestSecurity.class)
+class ControlEndpointSecurityTest {
+
+    @Autowired
+    private WebApplicationContext context;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).apply(springSecurity()).build();
+    }
+
+    @Test
+    void killSwitch_PlainTrader_IsForbidden() throws Exception {
+        mockMvc.perform(post("/actuator/order-controls").with(user("trader").roles("TRADER")))
+            .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void logSampling_PlainTrader_IsForbidden() throws Exception {
+        mockMvc.perform(post("/actuator/log-sampling").with(user("trader").roles("TRADER")))
+            .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void killSwitch_RiskManagerOrAdmin_IsAllowed() throws Exception {
+        mockMvc.perform(post("/actuator/order-controls").with(user("risk").roles("RISK_MANAGER")))
+            .andExpect(status().isOk());
+        mockMvc.perform(post("/actuator/order-controls").with(user("admin").roles("ADMIN")))
+            .andExpect(status().isOk());
+    }
+
+    @Test
+    void controls_PlainTrader_CanRead() throws Exception {
+        mockMvc.perform(get("/actuator/order-controls").with(user("trader").roles("TRADER")))
+            .andExpect(status().isOk());
+    }
+
+    @Configuration
+    @EnableWebMvc
+    @EnableWebSecurity
+    @Import(ControlEndpoints.class)
+    static class TestSecurity {
+
+        @Bean
+        SecurityFilterChain testFilterChain(HttpSecurity http) throws Exception {
+            return http
+                .csrf(AbstractHttpConfigurer::disable)
+                .authorizeHttpRequests(auth -> SecurityConfig.controlEndpoints(auth)
+                    .anyRequest().authenticated())
+                .build();
+        }
+    }
+
+    @RestController
+    static class ControlEndpoints {
+
+        @GetMapping({"/actuator/order-controls", "/actuator/log-sampling"})
+        String read() {
+            return "{}";
+        }
+
+        @PostMapping({"/actuator/order-controls", "/actuator/log-sampling"})
+        String write() {
+            return "{}";
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package com.trademaster.trading.history;
+
+import com.trademaster.trading.backtest.ArrayBarSeries;
+import com.trademaster.trading.dto.MarketAnalysis;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for HistoricalMarketDataStore
+ *
+ * Appends ticks across days and segment rolls, then checks range scans, late-tick
+ * drops, compaction into daily files, recovery after reopening, and the bar and volume
+ * profile views.
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+class HistoricalMarketDataStoreTest {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Kolkata");
+    private static final LocalDate DAY = LocalDate.of(2024, 3, 4);
+    private static final long OPEN = DAY.atTime(9, 15).atZone(ZONE).toInstant().toEpochMilli();
+    private static final long DAY_MILLIS = 86_400_000L;
+
+    @Test
+    void scan_ReturnsTicksInRangeAcrossSegmentRolls(@TempDir Path directory) {
+        HistoricalMarketDataStore store = newService(directory, 4);
+        for (int tick = 0; tick < 50; tick++) {
+            assertTrue(store.append("INFY", OPEN + tick * 1_000L, 1500.0 + tick * 0.05, 10 + tick));
+        }
+
+        TickSeries all = store.scan("INFY", Instant.ofEpochMilli(OPEN), Instant.ofEpochMilli(OPEN + 50_000));
+        TickSeries middle = store.scan("INFY", Instant.ofEpochMilli(OPEN + 10_500), Instant.ofEpochMilli(OPEN + 20_000));
+
+        assertEquals(50, all.size());
+        for (int tick = 0; tick < 50; tick++) {
+            assertEquals(OPEN + tick * 1_000L, all.timestamp(tick));
+            assertEquals(1500.0 + tick * 0.05, all.price(tick), 1e-9);
+            assertEquals(10 + tick, all.volume(tick));
+        }
+        assertEquals(9, middle.size());
+        assertEquals(OPEN + 11_000, middle.timestamp(0));
+        assertEquals(OPEN + 19_000, middle.timestamp(8));
+        // Capacities 4, 8, 16, 32 hold the 50 ticks
+        assertEquals(4, segmentFiles(directory.resolve("INFY")).size());
+    }
+
+    @Test
+    void append_DropsLateAndInvalidTicks(@TempDir Path directory) {
+        HistoricalMarketDataStore store = newService(directory, 16);
+
+        assertTrue(store.append("TCS", OPEN + 2_000, 3800.0, 5));
+        assertTrue(store.append("TCS", OPEN + 2_000, 3800.5, 5));
+        assertFalse(store.append("TCS", OPEN + 1_000, 3799.0, 5));
+        assertTrue(store.append("TCS", OPEN + DAY_MILLIS, 3810.0, 5));
+        assertFalse(store.append("TCS", OPEN + 3_000, 3801.0, 5));
+        assertFalse(store.append("../TCS", OPEN + DAY_MILLIS + 1, 3801.0, 5));
+        assertFalse(store.append("TCS", OPEN + DAY_MILLIS + 1, 0.0, 5));
+
+        assertEquals(3, store.scan("TCS", Instant.ofEpochMilli(OPEN), Instant.ofEpochMilli(OPEN + 2 * DAY_MILLIS)).size());
+        assertEquals(List.of(DAY, DAY.plusDays(1)), store.days("TCS"));
+    }
+
+    @Test
+    void compact_PreservesScansAndReplacesSegments(@TempDir Path directory) {
+        HistoricalMarketDataStore store = newService(directory, 8);
+        for (int day = 0; day < 3; day++) {
+            for (int tick = 0; tick < 100; tick++) {
+                store.append("SBIN", OPEN + day * DAY_MILLIS + tick * 37_000L, 600.0 + (tick % 7), tick + 1);
+            }
+        }
+        Instant from = Instant.ofEpochMilli(OPEN + 20 * 37_000L);
+        Instant to = Instant.ofEpochMilli(OPEN + 2 * DAY_MILLIS + 60 * 37_000L);
+        TickSeries before = store.scan("SBIN", from, to);
+
+        assertEquals(3, store.compact());
+
+        TickSeries after = store.scan("SBIN", from, to);
+        assertEquals(before.size(), after.size());
+        for (int index = 0; index < before.size(); index++) {
+            assertEquals(before.timestamp(index), after.timestamp(index));
+            assertEquals(before.scaledPrice(index), after.scaledPrice(index));
+            assertEquals(before.volume(index), after.volume(index));
+        }
+        assertTrue(segmentFiles(directory.resolve("SBIN")).isEmpty());
+        assertEquals(List.of(DAY, DAY.plusDays(1), DAY.plusDays(2)), store.days("SBIN"));
+        // Compacted days take no more ticks
+        assertFalse(store.append("SBIN", OPEN + 2 * DAY_MILLIS + 100 * 37_000L, 601.0, 1));
+        assertEquals(0, store.compact());
+    }
+
+    @Test
+    void append_AfterReopen_ContinuesTheDaysSegments(@TempDir Path directory) {
+        HistoricalMarketDataStore first = newService(directory, 4);
+        for (int tick = 0; tick < 6; tick++) {
+            first.append("HDFC", OPEN + tick, 1600.0, 1);
+        }
+        first.close();
+
+        HistoricalMarketDataStore second = newService(directory, 4);
+        assertFalse(second.append("HDFC", OPEN + 2, 1600.0, 1));
+        for (int tick = 6; tick < 20; tick++) {
+            assertTrue(second.append("HDFC", OPEN + tick, 1600.0, 1));
+        }
+
+        TickSeries series = second.scan("HDFC", Instant.ofEpochMilli(OPEN), Instant.ofEpochMilli(OPEN + 20));
+        assertEquals(20, series.size());
+        for (int tick = 0; tick < 20; tick++) {
+            assertEquals(OPEN + tick, series.timestamp(tick));
+        }
+    }
+
+    @Test
+    void bars_AggregateTicksIntoOhlcv(@TempDir Path directory) {
+        HistoricalMarketDataStore store = newService(directory, 64);
+        double[] prices = {100, 102, 99, 101, 105, 104, 103};
+        for (int tick = 0; tick < prices.length; tick++) {
+            // Ticks 0-3 in the first minute, 4-6 in the second
+            store.append("ITC", OPEN + tick * 10_000L + (tick >= 4 ? 20_000 : 0), prices[tick], 10L * (tick + 1));
+        }
+        Instant from = Instant.ofEpochMilli(OPEN);
+        Instant to = Instant.ofEpochMilli(OPEN + 180_000);
+
+        ArrayBarSeries bars = store.bars("ITC", from, to, 60_000L);
+        List<MarketAnalysis.OHLCVData> ohlcv = store.ohlcv("ITC", from, to, "1m");
+
+        assertEquals(2, bars.size());
+        assertEquals(OPEN, bars.timestamp(0));
+        assertEquals(OPEN + 60_000, bars.timestamp(1));
+        assertEquals(100, bars.open(0));
+        assertEquals(102, bars.high(0));
+        assertEquals(99, bars.low(0));
+        assertEquals(101, bars.close(0));
+        assertEquals(100, bars.volume(0));
+        assertEquals(105, bars.open(1));
+        assertEquals(103, bars.close(1));
+        assertEquals(180, bars.volume(1));
+        assertEquals(2, ohlcv.size());
+        assertEquals(0, new BigDecimal("101").compareTo(ohlcv.get(0).close()));
+        assertEquals("1m", ohlcv.get(0).timeframe());
+    }
+
+    @Test
+    void sessionVolumes_BucketsTheSession(@TempDir Path directory) {
+        HistoricalMarketDataStore store = newService(directory, 64);
+        store.append("WIPRO", OPEN - 60_000, 450.0, 999);
+        store.append("WIPRO", OPEN, 450.0, 100);
+        store.append("WIPRO", OPEN + 14 * 60_000, 450.5, 50);
+        store.append("WIPRO", OPEN + 15 * 60_000, 451.0, 70);
+        store.append("WIPRO", OPEN + 44 * 60_000, 451.0, 30);
+        store.append("WIPRO", OPEN + 45 * 60_000, 451.0, 999);
+
+        long[] volumes = store.sessionVolumes("WIPRO", DAY, LocalTime.of(9, 15), 15, 3);
+
+        assertArrayEquals(new long[] {150, 70, 30}, volumes);
+    }
+
+    static HistoricalMarketDataStore newService(Path directory, int segmentTicks) {
+        HistoricalMarketDataStore store = new HistoricalMarketDataStore(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(store, "enabled", true);
+        ReflectionTestUtils.setField(store, "directory", directory.toString());
+        ReflectionTestUtils.setField(store, "zone", ZONE.getId());
+        ReflectionTestUtils.setField(store, "priceScaleDigits", 4);
+        ReflectionTestUtils.setField(store, "segmentTicks", segmentTicks);
+        store.init();
+        return store;
+    }
+
+    private static List<Path> segmentFiles(Path symbolDirectory) {
+        try (Stream<Path> files = Files.list(symbolDirectory)) {
+            return files.filter(file -> file.toString().endsWith(".ticks")).toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.trademaster.trading.indicator;
+
+import com.trademaster.trading.dto.MarketDataMessage;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for IncrementalIndicators and StreamingIndicatorService
+ *
+ * Checks the O(1) indicator updates against direct recomputation over the same bars, and
+ * that streamed prints are aggregated into bars and published only once warm.
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+class IncrementalIndicatorsTest {
+
+    private static final Instant SESSION_START = Instant.parse("2024-06-03T03:45:00Z");
+
+    @Test
+    void update_MatchesRecomputationOverRandomWalk() {
+        SplittableRandom random = new SplittableRandom(7);
+        int bars = 5_000;
+        double[] highs = new double[bars];
+        double[] lows = new double[bars];
+        double[] closes = new double[bars];
+        IncrementalIndicators indicators = new IncrementalIndicators();
+
+        double price = 2_450.0;
+        for (int bar = 0; bar < bars; bar++) {
+            price = Math.max(1.0, price + random.nextDouble(-5.0, 5.0));
+            closes[bar] = price;
+            highs[bar] = price + random.nextDouble(0.0, 3.0);
+            lows[bar] = price - random.nextDouble(0.0, 3.0);
+            indicators.update(highs[bar], lows[bar], closes[bar], random.nextInt(100, 10_000));
+        }
+
+        assertEquals(mean(closes, bars - 20, bars), indicators.sma20(), 1e-9);
+        assertEquals(mean(closes, bars - 50, bars), indicators.sma50(), 1e-9);
+        assertEquals(ema(closes, 12), indicators.ema12(), 1e-9);
+        assertEquals(ema(closes, 26), indicators.ema26(), 1e-9);
+        assertEquals(standardDeviation(closes, bars - 20, bars), indicators.bollingerStdDev(), 1e-6);
+        assertEquals(rsi(closes, 14), indicators.rsi(), 1e-9);
+        assertEquals(atr(highs, lows, closes, 14), indicators.atr(), 1e-9);
+    }
+
+    @Test
+    void update_OnlyGains_GivesMaximumRsi() {
+        IncrementalIndicators indicators = new IncrementalIndicators();
+        for (int bar = 1; bar <= IncrementalIndicators.WARM_UP_BARS; bar++) {
+            indicators.update(bar + 1.0, bar - 1.0, bar, 1_000);
+        }
+
+        assertTrue(indicators.isWarm());
+        assertEquals(100.0, indicators.rsi());
+        assertEquals(IncrementalIndicators.WARM_UP_BARS - 9.5, indicators.sma20(), 1e-9);
+        assertEquals(2.0, indicators.atr(), 1e-9);
+        assertEquals(1_000.0, indicators.volumeSma(), 1e-9);
+    }
+
+    @Test
+    void streamingService_PublishesClosedBarsOnceWarm() {
+        StreamingIndicatorService service = new StreamingIndicatorService();
+        ReflectionTestUtils.setField(service, "enabled", true);
+        ReflectionTestUtils.setField(service, "barTimeframe", "1m");
+        ReflectionTestUtils.setField(service, "maxSymbols", 10);
+        service.init();
+
+        for (int minute = 0; minute < IncrementalIndicators.WARM_UP_BARS; minute++) {
+            trade(service, minute, 0, 100.0 + minute);
+            trade(service, minute, 30, 101.0 + minute);
+        }
+        assertTrue(service.latest("INFY").isEmpty(), "Last bar is still open");
+
+        trade(service, 0, 45, 500.0);
+        trade(service, IncrementalIndicators.WARM_UP_BARS, 0, 200.0);
+
+        IndicatorSnapshot snapshot = service.latest("INFY", "1m").orElseThrow();
+        assertEquals(IncrementalIndicators.WARM_UP_BARS, snapshot.bars());
+        assertEquals(100.0 + IncrementalIndicators.WARM_UP_BARS, snapshot.close());
+        assertEquals(200.0, snapshot.volume());
+        assertEquals(SESSION_START.plusSeconds(60L * (IncrementalIndicators.WARM_UP_BARS - 1)), snapshot.barTime());
+        assertTrue(service.latest("INFY", "5m").isEmpty());
+    }
+
+    private static void trade(StreamingIndicatorService service, int minute, int second, double price) {
+        service.onTrade(new MarketDataMessage.TradeExecution("INFY", "NSE", BigDecimal.valueOf(price), 100L, "BUY",
+            SESSION_START.plusSeconds(60L * minute + second)));
+    }
+
+    private static double mean(double[] values, int from, int to) {
+        double sum = 0.0;
+        for (int index = from; index < to; index++) {
+            sum += values[index];
+        }
+        return sum / (to - from);
+    }
+
+    private static double standardDeviation(double[] values, int from, int to) {
+        double mean = mean(values, from, to);
+        double squares = 0.0;
+        for (int index = from; index < to; index++) {
+            squares += (values[index] - mean) * (values[index] - mean);
+        }
+        return Math.sqrt(squares / (to - from));
+    }
+
+    private static double ema(double[] values, int period) {
+        double ema = mean(values, 0, period);
+        double multiplier = 2.0 / (period + 1);
+        for (int index = period; index < values.length; index++) {
+            ema += (values[index] - ema) * multiplier;
+        }
+        return ema;
+    }
+
+    private static double rsi(double[] closes, int period) {
+        double gain = 0.0;
+        double loss = 0.0;
+        for (int index = 1; index < closes.length; index++) {
+            double change = closes[index] - closes[index - 1];
+            if (index <= period) {
+                gain += Math.max(change, 0.0) / period;
+                loss += Math.max(-change, 0.0) / period;
+            } else {
+                gain = (gain * (period - 1) + Math.max(change, 0.0)) / period;
+                loss = (loss * (period - 1) + Math.max(-change, 0.0)) / period;
+            }
+        }
+        return 100.0 - 100.0 / (1.0 + gain / loss);
+    }
+
+    private static double atr(double[] highs, double[] lows, double[] closes, int period) {
+        double atr = 0.0;
+        for (int index = 1; index < closes.length; index++) {
+            double trueRange = Math.max(highs[index] - lows[index],
+                Math.max(Math.abs(highs[index] - closes[index - 1]), Math.abs(lows[index] - closes[index - 1])));
+            atr = index <= period ? atr + trueRange / period : (atr * (period - 1) + trueRange) / period;
+        }
+        return atr;
+    }
+}
@@ -0,0 +1,83 @@
+package com.trademaster.trading.indicator.screening;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Batch screening benchmark
+ *
+ * Screens a 5,000 symbol watchlist with one year of daily bars:
+ * - scalar: ScalarScreeningKernel on the calling thread
+ * - vector: VectorScreeningKernel on the calling thread
+ * - service: BatchScreeningService with its preferred kernel on the fork-join pool
+ *
+ * Reports:
+ * - Milliseconds per screen and nanoseconds per symbol
+ *
+ * Run with: ./gradlew benchmark
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+@Tag("benchmark")
+class BatchScreeningBenchmark {
+
+    private static final int SYMBOLS = 5_000;
+    private static final int BARS = 252;
+    private static final int WARMUP_SCREENS = 20;
+    private static final int MEASURED_SCREENS = 20;
+
+    @Test
+    void screenFiveThousandSymbols() {
+        ColumnarBars bars = BatchScreeningServiceTest.randomBars(SYMBOLS, BARS, 42);
+        BatchScreeningService service = new BatchScreeningService(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(service, "vectorEnabled", true);
+        ReflectionTestUtils.setField(service, "blockSymbols", 256);
+        ReflectionTestUtils.setField(service, "parallelism", 0);
+        service.init();
+
+        ScreeningColumns scalar = measure("scalar, 1 thread", () -> single(new ScalarScreeningKernel(), bars));
+        ScreeningColumns vector = measure("vector, 1 thread", () -> single(new VectorScreeningKernel(), bars));
+        double serviceMillis = millis(measureNanos("service " + service.kernelName(), () -> service.screen(bars)));
+        service.shutdown();
+
+        assertEquals(scalar.rows(), vector.rows());
+        assertTrue(serviceMillis < 1_000.0, "5,000 symbols should screen in under a second");
+    }
+
+    private static ScreeningColumns single(ScreeningKernel kernel, ColumnarBars bars) {
+        ScreeningColumns out = new ScreeningColumns(bars);
+        kernel.screen(bars, 0, bars.symbolCount(), out);
+        return out;
+    }
+
+    private static ScreeningColumns measure(String name, Supplier<ScreeningColumns> screen) {
+        ScreeningColumns[] last = new ScreeningColumns[1];
+        measureNanos(name, () -> last[0] = screen.get());
+        return last[0];
+    }
+
+    private static double measureNanos(String name, Runnable screen) {
+        for (int run = 0; run < WARMUP_SCREENS; run++) {
+            screen.run();
+        }
+        long started = System.nanoTime();
+        for (int run = 0; run < MEASURED_SCREENS; run++) {
+            screen.run();
+        }
+        double nanos = (double) (System.nanoTime() - started) / MEASURED_SCREENS;
+        System.out.printf("Batch screening, %s: %.2f ms/screen, %.0f ns/symbol%n",
+            name, millis(nanos), nanos / SYMBOLS);
+        return nanos;
+    }
+
+    private static double millis(double nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
@@ -0,0 +1,287 @@
+package com.trademaster.trading.integration;
+
+import com.trademaster.trading.entity.Order;
+import com.trademaster.trading.repository.OrderJpaRepository;
+import com.trademaster.trading.repository.TradeRepository;
+import com.trademaster.trading.repository.TradingAuditLogRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.flywaydb.core.Flyway;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for partitioned trading tables
+ *
+ * Runs the Flyway migrations against PostgreSQL and checks through EXPLAIN that the
+ * day-bounded repository queries touch only the partitions in range, and that the
+ * partition maintenance functions create, fill and expire partitions as intended.
+ *
+ * The repositories run on Hibernate, whose statement inspector captures the SQL they
+ * send. That SQL is prepared with its bind parameters and explained under
+ * force_generic_plan, so partitions must be pruned from the parameter values at
+ * execution, as they are once the driver switches to a server-side prepared statement.
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+@Testcontainers
+@SpringJUnitConfig(PartitionPruningIntegrationTest.Repositories.class)
+class PartitionPruningIntegrationTest {
+
+    private static final Pattern RELATION = Pattern.compile("\"Relation Name\": \"([^\"]+)\"");
+    private static final DateTimeFormatter MONTH = DateTimeFormatter.ofPattern("yyyy_MM");
+    private static final DateTimeFormatter DAY = DateTimeFormatter.ofPattern("yyyy_MM_dd");
+    private static final Pattern BIND_PARAMETER = Pattern.compile("\\?");
+    private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("trademaster_trading_test")
+            .withUsername("test_user")
+            .withPassword("test_password")
+            .withStartupTimeout(Duration.ofMinutes(2));
+
+    private static Connection connection;
+    private static LocalDate today;
+
+    @Autowired
+    private OrderJpaRepository orderRepository;
+
+    @Autowired
+    private TradeRepository tradeRepository;
+
+    @Autowired
+    private TradingAuditLogRepository auditLogRepository;
+
+    @BeforeAll
+    static void migrate() throws SQLException {
+        Flyway.configure()
+            .dataSource(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword())
+            .load()
+            .migrate();
+        connection = DriverManager.getConnection(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+        today = LocalDate.now(ZoneOffset.UTC);
+        execute("SET plan_cache_mode = force_generic_plan");
+
+        // Older partitions give the planner something to prune
+        execute("SELECT trading_create_partition('orders', NOW() - INTERVAL '1 month')");
+        execute("SELECT trading_create_partition('trades', NOW() - INTERVAL '1 month')");
+        execute("SELECT trading_create_partition('trades', NOW() - INTERVAL '2 months')");
+        execute("SELECT trading_create_partition('trading_audit_log', NOW() - INTERVAL '1 day')");
+    }
+
+    @AfterAll
+    static void close() throws SQLException {
+        connection.close();
+    }
+
+    @Test
+    void dailyTradeCount_ScansOnlyCurrentMonth() throws SQLException {
+        tradeRepository.getDailyTradeCount(1L, today, ZoneOffset.UTC);
+
+        Set<String> scanned = scannedRelations(lastStatement(), 1L, startOf(today), startOf(today.plusDays(1)));
+
+        assertEquals(Set.of("trades_p" + today.format(MONTH)), scanned);
+    }
+
+    @Test
+    void dateFunctionOnPartitionKey_ScansEveryPartition() throws SQLException {
+        Set<String> scanned = scannedRelations(
+            "SELECT COUNT(*) FROM trades WHERE user_id = ? AND DATE(trade_time) = ?::date", 1L, today);
+
+        assertTrue(scanned.contains("trades_p" + today.minusMonths(2).format(MONTH)), scanned::toString);
+        assertTrue(scanned.contains("trades_default"), scanned::toString);
+    }
+
+    @Test
+    void dailyOrderCount_ScansOnlyCurrentMonth() throws SQLException {
+        orderRepository.countDailyOrdersByUserId(1L, today, ZoneOffset.UTC);
+
+        Set<String> scanned = scannedRelations(lastStatement(), 1L, startOf(today), startOf(today.plusDays(1)));
+
+        assertEquals(Set.of("orders_p" + today.format(MONTH)), scanned);
+    }
+
+    @Test
+    void auditTrailForDay_ScansOnlyThatDay() throws SQLException {
+        LocalDate yesterday = today.minusDays(1);
+        // BETWEEN includes its upper bound, so the day ends a microsecond before midnight
+        Instant endOfYesterday = startOf(today).minusNanos(1_000);
+        auditLogRepository.findByUserIdAndCreatedAtBetweenOrderByCreatedAtDesc(1L, startOf(yesterday), endOfYesterday);
+
+        Set<String> scanned = scannedRelations(lastStatement(), 1L, startOf(yesterday), endOfYesterday);
+
+        assertEquals(Set.of("trading_audit_log_p" + yesterday.format(DAY)), scanned);
+    }
+
+    @Test
+    void createPartition_MovesRowsOutOfDefault() throws SQLException {
+        execute("INSERT INTO orders (order_id, user_id, symbol, exchange, order_type, side, quantity, created_at) " +
+                "VALUES ('TM-PARTITION-TEST', 1, 'INFY', 'NSE', 'MARKET', 'BUY', 10, NOW() + INTERVAL '2 years')");
+        assertEquals(1, count("SELECT COUNT(*) FROM orders_default WHERE order_id = 'TM-PARTITION-TEST'"));
+
+        execute("SELECT trading_create_partition('orders', NOW() + INTERVAL '2 years')");
+
+        String partition = "orders_p" + today.plusYears(2).format(MONTH);
+        assertEquals(0, count("SELECT COUNT(*) FROM orders_default WHERE order_id = 'TM-PARTITION-TEST'"));
+        assertEquals(1, count("SELECT COUNT(*) FROM " + partition + " WHERE order_id = 'TM-PARTITION-TEST'"));
+    }
+
+    @Test
+    void expiredPartitions_ListsOnlyPartitionsPastRetention() throws SQLException {
+        execute("SELECT trading_create_partition('trades', NOW() - INTERVAL '3 years')");
+
+        List<String> expired = new ArrayList<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery("SELECT partition_name FROM trading_expired_partitions('trades')")) {
+            while (result.next()) {
+                expired.add(result.getString(1));
+            }
+        }
+
+        assertEquals(List.of("trades_p" + today.minusYears(3).format(MONTH)), expired);
+    }
+
+    /**
+     * The last statement a repository sent
+     */
+    private static String lastStatement() {
+        String sql = STATEMENTS.get(STATEMENTS.size() - 1);
+        STATEMENTS.clear();
+        return sql;
+    }
+
+    /**
+     * Relations scanned by the generic plan of the query, executed with the given bind
+     * parameter values
+     */
+    private static Set<String> scannedRelations(String sql, Object... parameters) throws SQLException {
+        execute("PREPARE repository_query AS " + numbered(sql));
+        Set<String> relations = new TreeSet<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery(
+                 "EXPLAIN (FORMAT JSON) EXECUTE repository_query(" + literals(parameters) + ")")) {
+            result.next();
+            Matcher matcher = RELATION.matcher(result.getString(1));
+            while (matcher.find()) {
+                relations.add(matcher.group(1));
+            }
+        } finally {
+            execute("DEALLOCATE repository_query");
+        }
+        return relations;
+    }
+
+    /**
+     * JDBC ? placeholders as PREPARE's $1, $2, ...
+     */
+    private static String numbered(String sql) {
+        Matcher matcher = BIND_PARAMETER.matcher(sql);
+        StringBuilder numbered = new StringBuilder();
+        int position = 0;
+        while (matcher.find()) {
+            matcher.appendReplacement(numbered, "\\$" + ++position);
+        }
+        return matcher.appendTail(numbered).toString();
+    }
+
+    private static String literals(Object... parameters) {
+        return String.join(", ", Arrays.stream(parameters)
+            .map(value -> value instanceof Number ? value.toString() : "'" + value + "'")
+            .toList());
+    }
+
+    private static Instant startOf(LocalDate date) {
+        return date.atStartOfDay(ZoneOffset.UTC).toInstant();
+    }
+
+    private static long count(String query) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery(query)) {
+            result.next();
+            return result.getLong(1);
+        }
+    }
+
+    private static void execute(String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    /**
+     * The three repositories on Hibernate against the container, recording every SQL
+     * statement they prepare
+     */
+    @Configuration
+    @EnableJpaRepositories(basePackageClasses = OrderJpaRepository.class,
+        includeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE,
+            classes = {OrderJpaRepository.class, TradeRepository.class, TradingAuditLogRepository.class}))
+    static class Repositories {
+
+        @Bean
+        DataSource dataSource() {
+            return new DriverManagerDataSource(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+        }
+
+        @Bean
+        LocalContainerEntityManagerFactoryBean entityManagerFactory(DataSource dataSource) {
+            StatementInspector capture = sql -> {
+                STATEMENTS.add(sql);
+                return sql;
+            };
+            LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+            factory.setDataSource(dataSource);
+            factory.setPackagesToScan(Order.class.getPackageName());
+            factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+            factory.setJpaPropertyMap(Map.of(AvailableSettings.STATEMENT_INSPECTOR, capture));
+            return factory;
+        }
+
+        @Bean
+        PlatformTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
+            return new JpaTransactionManager(entityManagerFactory);
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.trademaster.trading.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.AppenderBase;
+import ch.qos.logback.core.util.Duration;
+import com.trademaster.trading.config.TradingLogger;
+import com.trademaster.trading.service.StructuredLoggingService;
+import net.logstash.logback.argument.StructuredArguments;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntConsumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Order path logging benchmark
+ *
+ * Logs order events at INFO through ContextAsyncAppender, once the way the order path
+ * logs now (TradingLogger and StructuredLoggingService inside a LogContext scope) and once
+ * the way it logged before (MDC map copied in and restored per event, StructuredArguments).
+ * The delegate appender only counts events, so the figures are what the logging thread
+ * pays; JSON encoding happens on the consumer thread.
+ *
+ * Reports:
+ * - Nanoseconds per event on the logging thread
+ * - Heap bytes allocated per event on the logging thread
+ *
+ * Run with: ./gradlew benchmark
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+@Tag("benchmark")
+class HotPathLoggingBenchmark {
+
+    private static final int WARMUP_EVENTS = 200_000;
+    private static final int MEASURED_EVENTS = 1_000_000;
+    private static final String[] SYMBOLS = {"RELIANCE", "INFY", "TCS", "HDFCBANK"};
+
+    private final LoggerContext loggerContext = (LoggerContext) LoggerFactory.getILoggerFactory();
+    private final LongAdder delivered = new LongAdder();
+    private ContextAsyncAppender appender;
+    private TradingLogger tradingLogger;
+    private StructuredLoggingService loggingService;
+
+    @BeforeEach
+    void setUp() {
+        AppenderBase<ILoggingEvent> counting = new AppenderBase<>() {
+            @Override
+            protected void append(ILoggingEvent event) {
+                delivered.increment();
+            }
+        };
+        counting.setContext(loggerContext);
+        counting.start();
+
+        appender = new ContextAsyncAppender();
+        appender.setContext(loggerContext);
+        appender.setName("BENCHMARK_ASYNC");
+        appender.setRingBufferSize(65_536);
+        appender.setAppendTimeout(Duration.buildBySeconds(1));
+        appender.setWaitStrategyType("liteBlocking");
+        appender.addAppender(counting);
+        appender.start();
+
+        for (String name : new String[] {TradingLogger.class.getName(), "com.trademaster.trading.audit"}) {
+            Logger logger = loggerContext.getLogger(name);
+            logger.detachAndStopAllAppenders();
+            logger.setAdditive(false);
+            logger.setLevel(Level.INFO);
+            logger.addAppender(appender);
+        }
+
+        tradingLogger = new TradingLogger();
+        loggingService = new StructuredLoggingService();
+    }
+
+    @AfterEach
+    void tearDown() {
+        appender.stop();
+    }
+
+    @Test
+    void orderPathLogging() throws InterruptedException {
+        LogContext context = LogContext.of("TM-BENCHMARK", 42L).withBroker("ZERODHA");
+        Result current = context.call(() -> measure("key-value pairs + LogContext", this::logOrder));
+        Result previous = measure("MDC + StructuredArguments", this::logOrderWithMdc);
+
+        long expected = 4L * (WARMUP_EVENTS + MEASURED_EVENTS);
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (delivered.sum() < expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(expected, delivered.sum());
+        assertTrue(current.nanosPerEvent() < 1_000,
+            "Order path logging should stay under 1us per event: " + current.nanosPerEvent() + " ns/event");
+        assertTrue(current.bytesPerEvent() < previous.bytesPerEvent());
+    }
+
+    private void logOrder(int event) {
+        String symbol = SYMBOLS[event & 3];
+        tradingLogger.logOrderSubmission("ORD-" + (event & 1023), symbol, "BUY", 100, 2450.75, "LIMIT", "TWAP", 3);
+        loggingService.logAuditEvent("TM-BENCHMARK", 42L, "ORDER_PLACED", "Order placed");
+    }
+
+    private void logOrderWithMdc(int event) {
+        String symbol = SYMBOLS[event & 3];
+        withMdc(Map.of("correlationId", "TM-BENCHMARK", "broker", "ZERODHA"), () ->
+            LoggerFactory.getLogger(TradingLogger.class).info("Order submitted",
+                StructuredArguments.kv("orderId", "ORD-" + (event & 1023)),
+                StructuredArguments.kv("symbol", symbol),
+                StructuredArguments.kv("side", "BUY"),
+                StructuredArguments.kv("quantity", 100.0),
+                StructuredArguments.kv("price", 2450.75),
+                StructuredArguments.kv("orderType", "LIMIT"),
+                StructuredArguments.kv("strategy", "TWAP"),
+                StructuredArguments.kv("durationMs", 3L)));
+        withMdc(Map.of("correlationId", "TM-BENCHMARK", "userId", "42", "operation", "ORDER_PLACED"), () ->
+            LoggerFactory.getLogger("com.trademaster.trading.audit").info("Order placed"));
+    }
+
+    private static void withMdc(Map<String, String> context, Runnable operation) {
+        Map<String, String> previous = MDC.getCopyOfContextMap();
+        try {
+            context.forEach(MDC::put);
+            operation.run();
+        } finally {
+            MDC.clear();
+            if (previous != null) {
+                MDC.setContextMap(previous);
+            }
+        }
+    }
+
+    private Result measure(String name, IntConsumer logger) {
+        for (int event = 0; event < WARMUP_EVENTS; event++) {
+            logger.accept(event);
+        }
+
+        com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+        long started = System.nanoTime();
+        for (int event = 0; event < MEASURED_EVENTS; event++) {
+            logger.accept(event);
+        }
+        long elapsed = System.nanoTime() - started;
+        long allocated = threads.getCurrentThreadAllocatedBytes() - allocatedBefore;
+
+        // Two log events per iteration
+        Result result = new Result((double) elapsed / (2L * MEASURED_EVENTS), (double) allocated / (2L * MEASURED_EVENTS));
+        System.out.printf("Order path logging, %s: %.1f ns/event, %.1f bytes/event%n",
+            name, result.nanosPerEvent(), result.bytesPerEvent());
+        return result;
+    }
+
+    private record Result(double nanosPerEvent, double bytesPerEvent) {}
+}
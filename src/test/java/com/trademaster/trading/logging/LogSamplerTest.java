@@ -0,0 +1,129 @@
+package com.trademaster.trading.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for LogSampler
+ *
+ * Verifies the per-site rate limit, that unsampled events of an open request are written
+ * only when the request ends badly, and that runtime reconfiguration is validated.
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+class LogSamplerTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final ListAppender<ILoggingEvent> events = new ListAppender<>();
+    private final Logger logger =
+        ((LoggerContext) LoggerFactory.getILoggerFactory()).getLogger("com.trademaster.trading.sampled");
+    private LogSampler sampler;
+
+    @BeforeEach
+    void setUp() {
+        events.start();
+        logger.addAppender(events);
+        logger.setLevel(Level.INFO);
+
+        sampler = new LogSampler(registry);
+        ReflectionTestUtils.setField(sampler, "enabled", true);
+        ReflectionTestUtils.setField(sampler, "defaultSampleRate", 0.0);
+        ReflectionTestUtils.setField(sampler, "defaultMaxPerSecond", 3);
+        ReflectionTestUtils.setField(sampler, "tailEnabled", true);
+        ReflectionTestUtils.setField(sampler, "tailBufferEvents", 4);
+        ReflectionTestUtils.setField(sampler, "tailMaxRequests", 2);
+        ReflectionTestUtils.setField(sampler, "tailTtlMillis", 60_000L);
+        sampler.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(events);
+    }
+
+    @Test
+    void info_WithoutCorrelation_IsRateLimitedPerSite() {
+        for (int call = 0; call < 10; call++) {
+            sampler.info(null, logger, "quote", "Quote {}", call);
+            sampler.info(null, logger, "subscribe", "Subscribe {}", call);
+        }
+
+        assertEquals(6, events.list.size());
+        assertEquals(7.0, registry.get("logging.sampled.events").tags("site", "quote", "decision", "suppressed")
+            .functionCounter().count());
+    }
+
+    @Test
+    void complete_WithRejection_WritesBufferedEvents() {
+        sampler.begin("TM-REJECTED");
+        sampler.info("TM-REJECTED", logger, "risk.check", "Risk check {}", "RELIANCE");
+        sampler.info("TM-REJECTED", logger, "order.placement", "Placement {}", "RELIANCE");
+        assertTrue(events.list.isEmpty());
+
+        sampler.complete("TM-REJECTED", RequestOutcome.REJECTED);
+
+        List<String> messages = events.list.stream().map(ILoggingEvent::getFormattedMessage).toList();
+        assertEquals(List.of("Risk check RELIANCE", "Placement RELIANCE"), messages);
+        assertEquals(0, sampler.openTails());
+    }
+
+    @Test
+    void complete_WithSuccess_DiscardsBufferedEvents() {
+        sampler.begin("TM-OK");
+        sampler.info("TM-OK", logger, "risk.check", "Risk check {}", "INFY");
+        sampler.complete("TM-OK", RequestOutcome.COMPLETED);
+
+        assertTrue(events.list.isEmpty());
+        assertEquals(1.0, registry.get("logging.tail.requests").tags("result", "discarded").counter().count());
+    }
+
+    @Test
+    void tailBuffer_KeepsMostRecentEvents() {
+        sampler.begin("TM-SLOW");
+        for (int call = 0; call < 6; call++) {
+            sampler.info("TM-SLOW", logger, "quote", "Quote {}", call);
+        }
+        sampler.complete("TM-SLOW", RequestOutcome.SLA_BREACH);
+
+        List<String> messages = events.list.stream().map(ILoggingEvent::getFormattedMessage).toList();
+        assertEquals(List.of("Quote 2", "Quote 3", "Quote 4", "Quote 5"), messages);
+    }
+
+    @Test
+    void begin_BeyondMaxRequests_OpensNoBuffer() {
+        sampler.begin("TM-1");
+        sampler.begin("TM-2");
+        sampler.begin("TM-3");
+
+        assertEquals(2, sampler.openTails());
+        assertEquals(1.0, registry.get("logging.tail.requests").tags("result", "overflow").counter().count());
+    }
+
+    @Test
+    void configure_SampledRequestsAreWrittenImmediately() {
+        sampler.configure("risk.check", 1.0, null);
+        sampler.begin("TM-SAMPLED");
+        sampler.info("TM-SAMPLED", logger, "risk.check", "Risk check {}", "TCS");
+        sampler.info("TM-SAMPLED", logger, "quote", "Quote {}", "TCS");
+
+        assertEquals(1, events.list.size());
+        sampler.complete("TM-SAMPLED", RequestOutcome.ERROR);
+        assertEquals(2, events.list.size());
+        assertThrows(IllegalArgumentException.class, () -> sampler.configure(null, 1.5, null));
+        assertThrows(IllegalArgumentException.class, () -> sampler.configure("quote", null, -1));
+    }
+}
@@ -0,0 +1,81 @@
+package com.trademaster.trading.metrics;
+
+import com.trademaster.trading.metrics.MeterTable.Tag;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for MeterTable
+ *
+ * Verifies that every slot resolves to the meter carrying its own tag values, that
+ * pre-registered tables export all known combinations up front while lazy ones do not,
+ * and that unknown tag values still record on a cached meter.
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+class MeterTableTest {
+
+    private enum Outcome { FILLED, REJECTED }
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void get_ResolvesMeterTaggedWithRequestedValues() {
+        MeterTable<Counter> table = MeterTable.preRegistered(this::counter,
+            Tag.of("broker", "ZERODHA", "UPSTOX"),
+            Tag.of("outcome", Outcome.class, "UNKNOWN"));
+
+        table.get("UPSTOX", "REJECTED").increment();
+        table.get("UPSTOX", "REJECTED").increment();
+        table.get("ZERODHA", "UNKNOWN").increment();
+
+        assertEquals(2.0, registry.get("test.orders").tags("broker", "UPSTOX", "outcome", "REJECTED").counter().count());
+        assertEquals(1.0, registry.get("test.orders").tags("broker", "ZERODHA", "outcome", "UNKNOWN").counter().count());
+        assertEquals(0.0, registry.get("test.orders").tags("broker", "ZERODHA", "outcome", "FILLED").counter().count());
+    }
+
+    @Test
+    void preRegistered_ExportsEveryKnownCombination() {
+        MeterTable.preRegistered(this::counter,
+            Tag.of("broker", "ZERODHA", "UPSTOX", "ANGEL_ONE"),
+            Tag.of("outcome", Outcome.class));
+
+        assertEquals(6, registry.find("test.orders").counters().size());
+    }
+
+    @Test
+    void lazy_RegistersOnFirstUse() {
+        MeterTable<Counter> table = MeterTable.lazy(this::counter,
+            Tag.of("broker", "ZERODHA", "UPSTOX"),
+            Tag.of("outcome", Outcome.class),
+            Tag.of("immediate", "true", "false"));
+        assertTrue(registry.find("test.orders").counters().isEmpty());
+
+        table.get("ZERODHA", "FILLED", "true").increment();
+
+        assertEquals(1, registry.find("test.orders").counters().size());
+        assertSame(table.get("ZERODHA", "FILLED", "true"), table.get("ZERODHA", "FILLED", "true"));
+    }
+
+    @Test
+    void get_UnknownValueRecordsOnCachedMeter() {
+        MeterTable<Counter> table = MeterTable.preRegistered(this::counter,
+            Tag.of("broker", "ZERODHA"),
+            Tag.of("outcome", Outcome.class));
+
+        Counter unknown = table.get("DHAN", "FILLED");
+        unknown.increment();
+
+        assertSame(unknown, table.get("DHAN", "FILLED"));
+        assertEquals(1.0, registry.get("test.orders").tags("broker", "DHAN", "outcome", "FILLED").counter().count());
+    }
+
+    private Counter counter(Tags tags) {
+        return Counter.builder("test.orders").tags(tags).register(registry);
+    }
+}
@@ -0,0 +1,116 @@
+package com.trademaster.trading.metrics.latency;
+
+import com.trademaster.trading.metrics.latency.OrderLatencyRecorder.OrderWaterfall;
+import com.trademaster.trading.metrics.latency.OrderLatencyRecorder.StageLatency;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for OrderLatencyRecorder
+ *
+ * Verifies that stage timings of an order reach the window percentiles and the recent
+ * order waterfall, that repeated stages add up, and that orders without a span slot are
+ * counted as dropped instead of recorded.
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+class OrderLatencyRecorderTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private OrderLatencyRecorder recorder;
+
+    @BeforeEach
+    void setUp() {
+        recorder = new OrderLatencyRecorder(registry);
+        ReflectionTestUtils.setField(recorder, "enabled", true);
+        ReflectionTestUtils.setField(recorder, "inFlightCapacity", 16);
+        ReflectionTestUtils.setField(recorder, "recentOrders", 4);
+        ReflectionTestUtils.setField(recorder, "windowIntervals", 2);
+        ReflectionTestUtils.setField(recorder, "snapshotIntervalMillis", 1000L);
+        ReflectionTestUtils.setField(recorder, "highestTrackableMillis", 1000L);
+        ReflectionTestUtils.setField(recorder, "significantDigits", 2);
+        recorder.init();
+    }
+
+    @Test
+    void end_FeedsStagesIntoWindowPercentiles() {
+        recorder.begin("TM-1");
+        recorder.record("TM-1", OrderStage.VALIDATE, System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(2));
+        recorder.record("TM-1", OrderStage.BROKER, System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(5));
+        recorder.end("TM-1");
+        recorder.rotate();
+
+        List<StageLatency> stages = recorder.stageLatencies();
+        StageLatency broker = stages.get(OrderStage.BROKER.ordinal());
+        assertEquals(1, broker.count());
+        assertTrue(broker.p99Micros() >= 4_900, broker::toString);
+        assertEquals(0, stages.get(OrderStage.ROUTE.ordinal()).count());
+        assertEquals(OrderLatencyRecorder.TOTAL, stages.get(stages.size() - 1).name());
+        assertEquals(1, stages.get(stages.size() - 1).count());
+        assertTrue(registry.get("trading.order.stage.latency").tags("stage", "BROKER", "quantile", "0.99")
+            .gauge().value() >= 0.0049);
+    }
+
+    @Test
+    void record_RepeatedStageAddsUpAndKeepsFirstOffset() {
+        recorder.begin("TM-2");
+        recorder.record("TM-2", OrderStage.PERSIST, System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(1));
+        recorder.record("TM-2", OrderStage.PERSIST, System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(1));
+        recorder.end("TM-2");
+
+        OrderWaterfall waterfall = recorder.waterfall("TM-2").orElseThrow();
+        assertEquals(1, waterfall.segments().size());
+        assertEquals(OrderStage.PERSIST, waterfall.segments().get(0).stage());
+        assertTrue(waterfall.segments().get(0).durationMicros() >= 2_000);
+    }
+
+    @Test
+    void recentOrders_KeepsOnlyNewestOrders() {
+        for (int order = 0; order < 6; order++) {
+            recorder.begin("TM-" + order);
+            recorder.end("TM-" + order);
+        }
+
+        assertEquals(List.of("TM-5", "TM-4", "TM-3", "TM-2"),
+            recorder.recentOrders().stream().map(OrderWaterfall::correlationId).toList());
+        assertTrue(recorder.waterfall("TM-0").isEmpty());
+    }
+
+    @Test
+    void recordCheck_TracksEachCheckSeparately() {
+        recorder.recordCheck("FunctionalOrderValidator", System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(3));
+        recorder.recordCheck("PositionLimitValidator", System.nanoTime());
+        recorder.rotate();
+
+        List<StageLatency> checks = recorder.checkLatencies();
+        assertEquals(List.of("FunctionalOrderValidator", "PositionLimitValidator"),
+            checks.stream().map(StageLatency::name).toList());
+    }
+
+    @Test
+    void begin_FullTableDropsOrder() {
+        for (int order = 0; order < 64; order++) {
+            recorder.begin("TM-" + order);
+        }
+
+        assertTrue(registry.get("trading.order.latency.dropped").counter().count() > 0);
+    }
+
+    @Test
+    void record_UnknownOrderIsIgnored() {
+        recorder.record("TM-UNKNOWN", OrderStage.ROUTE, System.nanoTime());
+        recorder.end("TM-UNKNOWN");
+        recorder.rotate();
+
+        assertTrue(recorder.recentOrders().isEmpty());
+        assertEquals(0, recorder.stageLatencies().get(OrderStage.ROUTE.ordinal()).count());
+    }
+}
@@ -0,0 +1,113 @@
+package com.trademaster.trading.order.scheduling;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for AlgoSliceScheduler
+ *
+ * Verifies chained slice execution, O(1) cancellation, cascading from coarse wheel levels
+ * and scheduling many parent orders on the shared wheel.
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+class AlgoSliceSchedulerTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private AlgoSliceScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        scheduler = new AlgoSliceScheduler(meterRegistry);
+        ReflectionTestUtils.setField(scheduler, "tickMillis", 1L);
+        scheduler.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.stop();
+    }
+
+    @Test
+    void schedule_ChainsSlicesUntilTaskStops() throws InterruptedException {
+        CountDownLatch completed = new CountDownLatch(1);
+        AtomicInteger lastSlice = new AtomicInteger();
+
+        scheduler.schedule("TWAP_1", Duration.ZERO, sliceNumber -> {
+            lastSlice.set(sliceNumber);
+            return sliceNumber < 3 ? TimeUnit.MILLISECONDS.toNanos(5) : stop(completed);
+        });
+
+        assertTrue(completed.await(2, TimeUnit.SECONDS));
+        assertEquals(3, lastSlice.get());
+        awaitNoActiveTimers();
+        assertFalse(scheduler.isScheduled("TWAP_1"));
+        assertEquals(3, meterRegistry.get("trading.algo.scheduler.lag").timer().count());
+    }
+
+    @Test
+    void cancel_PreventsPendingSliceFromFiring() throws InterruptedException {
+        AtomicInteger fired = new AtomicInteger();
+        scheduler.schedule("VWAP_1", Duration.ofMillis(100), sliceNumber -> {
+            fired.incrementAndGet();
+            return AlgoSliceScheduler.STOP;
+        });
+
+        assertTrue(scheduler.cancel("VWAP_1"));
+        Thread.sleep(250);
+
+        assertEquals(0, fired.get());
+        assertFalse(scheduler.cancel("VWAP_1"));
+    }
+
+    @Test
+    void schedule_CascadesTimersBeyondFirstWheelLevel() throws InterruptedException {
+        CountDownLatch fired = new CountDownLatch(1);
+        long start = System.nanoTime();
+
+        // 300 ticks at 1ms lands on the second wheel level
+        scheduler.schedule("TWAP_2", Duration.ofMillis(300), sliceNumber -> stop(fired));
+
+        assertTrue(fired.await(2, TimeUnit.SECONDS));
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(300));
+    }
+
+    @Test
+    void schedule_HandlesManyParentOrders() throws InterruptedException {
+        int orders = 10_000;
+        CountDownLatch completed = new CountDownLatch(orders);
+
+        IntStream.range(0, orders).forEach(i -> scheduler.schedule("ALGO_" + i, Duration.ofMillis(i % 50),
+            sliceNumber -> sliceNumber < 2 ? TimeUnit.MILLISECONDS.toNanos(10) : stop(completed)));
+
+        assertTrue(completed.await(10, TimeUnit.SECONDS));
+        awaitNoActiveTimers();
+        assertEquals(0, scheduler.getActiveTimerCount());
+    }
+
+    // Timers are released just after the final slice returns
+    private void awaitNoActiveTimers() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (scheduler.getActiveTimerCount() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+    }
+
+    private long stop(CountDownLatch latch) {
+        latch.countDown();
+        return AlgoSliceScheduler.STOP;
+    }
+}
@@ -0,0 +1,160 @@
+package com.trademaster.trading.order.strategy;
+
+import com.trademaster.trading.dto.OrderRequest;
+import com.trademaster.trading.model.OrderSide;
+import com.trademaster.trading.model.OrderType;
+import com.trademaster.trading.order.journal.StrategyStateJournal;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Trending-price replay benchmark for TrailingStopStrategy
+ *
+ * Replays an interleaved multi-symbol tape where every symbol trends with bounded noise:
+ * even symbols trend up under SELL trailing stops, odd symbols trend down under BUY trailing
+ * stops, so a steady share of ticks sets a new extreme while no stop is ever hit. Every price
+ * update goes through onPriceUpdate with journaling enabled, as in production.
+ *
+ * Reports:
+ * - Nanoseconds per order price update
+ * - Heap bytes allocated per order price update (prices are pre-built, so this is the
+ *   strategy's own allocation)
+ *
+ * Run with: ./gradlew benchmark
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+@Tag("benchmark")
+class TrailingStopStrategyBenchmark {
+
+    private static final int SYMBOLS = 32;
+    private static final int ORDERS_PER_SYMBOL = 32;
+    private static final int WARMUP_TICKS = 200_000;
+    private static final int MEASURED_TICKS = 400_000;
+    private static final long TREND_PAISE_PER_TICK = 5;
+    private static final int NOISE_PAISE = 200;       // Retracement stays below every trail distance
+
+    @TempDir
+    Path journalDirectory;
+
+    private StrategyStateJournal journal;
+    private TrailingStopStrategy strategy;
+    private String[][] orderIds;
+    private BigDecimal[] tape;
+    private int extremeTicks;
+
+    @BeforeEach
+    void setUp() {
+        journal = new StrategyStateJournal(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(journal, "enabled", true);
+        ReflectionTestUtils.setField(journal, "directory", journalDirectory.toString());
+        ReflectionTestUtils.setField(journal, "segmentSizeMb", 256);
+        ReflectionTestUtils.setField(journal, "fsyncPolicy", StrategyStateJournal.FsyncPolicy.NEVER);
+        ReflectionTestUtils.setField(journal, "fsyncIntervalMillis", 50L);
+        journal.open();
+
+        strategy = new TrailingStopStrategy(journal);
+        orderIds = IntStream.range(0, SYMBOLS)
+            .mapToObj(symbol -> IntStream.range(0, ORDERS_PER_SYMBOL)
+                .mapToObj(order -> placeOrder(symbol, order))
+                .toArray(String[]::new))
+            .toArray(String[][]::new);
+        tape = buildTape();
+    }
+
+    @AfterEach
+    void tearDown() {
+        journal.close();
+    }
+
+    @Test
+    void trendingReplay() {
+        replay(0, WARMUP_TICKS);
+
+        com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+        long started = System.nanoTime();
+        int triggered = replay(WARMUP_TICKS, WARMUP_TICKS + MEASURED_TICKS);
+        long elapsed = System.nanoTime() - started;
+        long allocated = threads.getCurrentThreadAllocatedBytes() - allocatedBefore;
+
+        long updates = (long) MEASURED_TICKS * ORDERS_PER_SYMBOL;
+        System.out.printf("Trailing stop trending replay: %d updates, %.1f%% on a new extreme, "
+                + "%.1f ns/update, %.3f bytes/update%n",
+            updates, 100.0 * extremeTicks / (WARMUP_TICKS + MEASURED_TICKS),
+            (double) elapsed / updates, (double) allocated / updates);
+
+        assertEquals(0, triggered, "Bounded noise must never reach a trailing stop");
+        assertEquals(SYMBOLS * ORDERS_PER_SYMBOL, strategy.getActiveOrdersCount());
+        assertTrue(allocated < updates, "Price updates should not allocate: " + allocated + " bytes");
+    }
+
+    private int replay(int fromTick, int toTick) {
+        int triggered = 0;
+        for (int tick = fromTick; tick < toTick; tick++) {
+            String[] symbolOrders = orderIds[tick % SYMBOLS];
+            BigDecimal price = tape[tick];
+            for (String orderId : symbolOrders) {
+                if (strategy.onPriceUpdate(orderId, price).join()) {
+                    triggered++;
+                }
+            }
+        }
+        return triggered;
+    }
+
+    /**
+     * Even symbols mix fixed ₹5 and 1% trails, odd symbols likewise on the BUY side.
+     */
+    private String placeOrder(int symbol, int order) {
+        boolean fixedTrail = order % 2 == 0;
+        OrderRequest request = OrderRequest.builder()
+            .symbol("SYM" + symbol)
+            .exchange("NSE")
+            .orderType(OrderType.STOP_LOSS)
+            .side(symbol % 2 == 0 ? OrderSide.SELL : OrderSide.BUY)
+            .quantity(100)
+            .trailAmount(new BigDecimal("5.00"))
+            .trailPercent(fixedTrail ? null : BigDecimal.ONE)
+            .build();
+        return strategy.execute(request).join().orderId();
+    }
+
+    /**
+     * Interleaved tape: trend line plus bounded uniform noise, rounded to the 5 paise tick.
+     */
+    private BigDecimal[] buildTape() {
+        SplittableRandom random = new SplittableRandom(42);
+        long[] bestPaise = new long[SYMBOLS];
+        BigDecimal[] prices = new BigDecimal[WARMUP_TICKS + MEASURED_TICKS];
+        for (int tick = 0; tick < prices.length; tick++) {
+            int symbol = tick % SYMBOLS;
+            boolean uptrend = symbol % 2 == 0;
+            long step = tick / SYMBOLS;
+            long trend = uptrend ? 100_000 + step * TREND_PAISE_PER_TICK : 200_000 - step * TREND_PAISE_PER_TICK;
+            long paise = (trend + random.nextInt(-NOISE_PAISE, NOISE_PAISE + 1)) / 5 * 5;
+
+            if (tick < SYMBOLS || (uptrend ? paise > bestPaise[symbol] : paise < bestPaise[symbol])) {
+                bestPaise[symbol] = paise;
+                extremeTicks++;
+            }
+            prices[tick] = BigDecimal.valueOf(paise, 2);
+        }
+        return prices;
+    }
+}
@@ -0,0 +1,81 @@
+package com.trademaster.trading.pnl;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Streaming P&L benchmark
+ *
+ * 200 symbols held by 5,000 users each (1M positions over 20,000 users), every symbol
+ * swept through 20 price moves on one thread, so every position is re-marked and its
+ * holder's totals moved on each sweep.
+ *
+ * Reports:
+ * - Positions marked per second
+ *
+ * Run with: ./gradlew benchmark
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+@Tag("benchmark")
+class StreamingPnLBenchmark {
+
+    private static final int SYMBOLS = 200;
+    private static final int HOLDERS = 5_000;
+    private static final int USERS = 20_000;
+    private static final int MOVES = 20;
+    private static final int WARMUP_RUNS = 1;
+    private static final int MEASURED_RUNS = 3;
+
+    @Test
+    void millionPositions() {
+        SplittableRandom random = new SplittableRandom(46);
+        UserPnL[] users = new UserPnL[USERS];
+        for (int user = 0; user < USERS; user++) {
+            users[user] = new UserPnL(user);
+        }
+        PositionBook[] books = new PositionBook[SYMBOLS];
+        long[] prices = new long[SYMBOLS];
+        for (int symbol = 0; symbol < SYMBOLS; symbol++) {
+            books[symbol] = new PositionBook("SYM" + symbol, user -> user.takeChanged());
+            prices[symbol] = 10_000 + random.nextInt(100_000);
+            for (int holder = 0; holder < HOLDERS; holder++) {
+                long quantity = random.nextBoolean() ? 1 + random.nextInt(500) : -1 - random.nextInt(500);
+                books[symbol].fill(users[(symbol * HOLDERS + holder) % USERS], "NSE", quantity, prices[symbol], 0L);
+            }
+        }
+
+        for (int run = 0; run < WARMUP_RUNS; run++) {
+            sweepAll(books, prices, random);
+        }
+        long nanos = 0;
+        for (int run = 0; run < MEASURED_RUNS; run++) {
+            nanos += sweepAll(books, prices, random);
+        }
+
+        long marks = (long) MEASURED_RUNS * MOVES * SYMBOLS * HOLDERS;
+        double marksPerSecond = marks * 1e9 / nanos;
+        System.out.printf("Streaming P&L, %d symbols x %d holders: %.0f positions marked/s, %.1f ns per position%n",
+            SYMBOLS, HOLDERS, marksPerSecond, (double) nanos / marks);
+        assertEquals((long) SYMBOLS * HOLDERS, Arrays.stream(books).mapToLong(PositionBook::size).sum());
+        assertTrue(marksPerSecond > 5_000_000, "Should mark at least 5M positions per second");
+    }
+
+    private static long sweepAll(PositionBook[] books, long[] prices, SplittableRandom random) {
+        long start = System.nanoTime();
+        for (int move = 0; move < MOVES; move++) {
+            for (int symbol = 0; symbol < books.length; symbol++) {
+                prices[symbol] += random.nextBoolean() ? 5 : -5;
+                books[symbol].offer(prices[symbol], move);
+                books[symbol].sweep();
+            }
+        }
+        return System.nanoTime() - start;
+    }
+}
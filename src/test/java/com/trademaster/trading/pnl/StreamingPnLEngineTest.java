@@ -0,0 +1,231 @@
+package com.trademaster.trading.pnl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.trademaster.trading.model.OrderSide;
+import com.trademaster.trading.websocket.PnLWebSocketHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for StreamingPnLEngine
+ *
+ * Applies fills and ticks and checks the positions and user totals against direct
+ * average-cost bookkeeping, then checks the WebSocket snapshot and delta pushes and
+ * that the write-behind adds fills to the stored position rather than overwriting it.
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+class StreamingPnLEngineTest {
+
+    private StreamingPnLEngine engine;
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.setField(engine, "enabled", false);
+        engine.shutdown();
+    }
+
+    @Test
+    void fillsAndTicks_MarkPositionsAtAverageCost() {
+        engine = newService(new RecordingHandler());
+
+        engine.applyFill(1L, "INFY", "NSE", OrderSide.BUY, 10, new BigDecimal("1500.00"));
+        engine.applyFill(1L, "INFY", "NSE", OrderSide.BUY, 10, new BigDecimal("1510.00"));
+        tick("INFY", 1520.00);
+        engine.applyFill(1L, "INFY", "NSE", OrderSide.SELL, 5, new BigDecimal("1530.00"));
+        tick("INFY", 1540.00);
+
+        PositionPnL position = engine.positions(1L).get(0);
+        // Average cost 1505: selling 5 at 1530 realizes 125; 15 left marked at 1540
+        assertEquals(15, position.quantity());
+        assertEquals(0, new BigDecimal("1505").compareTo(position.averageCost()));
+        assertEquals(0, new BigDecimal("525.00").compareTo(position.unrealizedPnL()));
+        assertEquals(0, new BigDecimal("125.00").compareTo(position.realizedPnL()));
+        assertEquals(0, new BigDecimal("23100.00").compareTo(position.marketValue()));
+        // Bought 20 for 30,100 and sold 5 for 7,650 today; 15 worth 23,100 now
+        assertEquals(0, new BigDecimal("650.00").compareTo(position.intradayPnL()));
+
+        PnLSnapshot summary = engine.snapshot(1L).orElseThrow();
+        assertEquals(0, new BigDecimal("650.00").compareTo(summary.totalPnL()));
+        assertEquals(0, new BigDecimal("650.00").compareTo(summary.intradayPnL()));
+    }
+
+    @Test
+    void fill_ShortAndFlip_RealizesAgainstAverageCost() {
+        engine = newService(new RecordingHandler());
+
+        engine.applyFill(2L, "TCS", "NSE", OrderSide.SELL, 10, new BigDecimal("4000.00"));
+        tick("TCS", 3950.00);
+        assertEquals(0, new BigDecimal("500.00").compareTo(engine.positions(2L).get(0).unrealizedPnL()));
+
+        // Covers 10 at 3900 (+1,000) and goes long 5 at 3900
+        engine.applyFill(2L, "TCS", "NSE", OrderSide.BUY, 15, new BigDecimal("3900.00"));
+        tick("TCS", 3920.00);
+
+        PositionPnL position = engine.positions(2L).get(0);
+        assertEquals(5, position.quantity());
+        assertEquals(0, new BigDecimal("1000.00").compareTo(position.realizedPnL()));
+        assertEquals(0, new BigDecimal("100.00").compareTo(position.unrealizedPnL()));
+        assertEquals(0, new BigDecimal("1100.00").compareTo(engine.snapshot(2L).orElseThrow().totalPnL()));
+    }
+
+    @Test
+    void randomTape_UserTotalsEqualSumOfPositions() {
+        engine = newService(new RecordingHandler());
+        SplittableRandom random = new SplittableRandom(46);
+        String[] symbols = {"A", "B", "C", "D", "E", "F"};
+        double[] prices = {100, 250, 40, 1200, 75, 600};
+
+        for (int event = 0; event < 20_000; event++) {
+            int symbol = random.nextInt(symbols.length);
+            prices[symbol] = Math.max(1.0, prices[symbol] + random.nextInt(-5, 6) * 0.05);
+            if (random.nextInt(4) == 0) {
+                engine.applyFill((long) random.nextInt(50), symbols[symbol], "NSE",
+                    random.nextBoolean() ? OrderSide.BUY : OrderSide.SELL, 1 + random.nextInt(100),
+                    BigDecimal.valueOf(Math.round(prices[symbol] * 100), 2));
+            } else {
+                engine.onPrice(symbols[symbol], prices[symbol], event);
+            }
+        }
+        for (int symbol = 0; symbol < symbols.length; symbol++) {
+            engine.onPrice(symbols[symbol], prices[symbol], 20_000);
+        }
+        assertTrue(engine.awaitQuiescence(10, TimeUnit.SECONDS));
+
+        for (long userId = 0; userId < 50; userId++) {
+            PnLSnapshot summary = engine.snapshot(userId).orElseThrow();
+            BigDecimal unrealized = BigDecimal.ZERO;
+            BigDecimal realized = BigDecimal.ZERO;
+            BigDecimal marketValue = BigDecimal.ZERO;
+            for (PositionPnL position : engine.positions(userId)) {
+                unrealized = unrealized.add(position.unrealizedPnL());
+                realized = realized.add(position.realizedPnL());
+                marketValue = marketValue.add(position.marketValue());
+                assertEquals(0, BigDecimal.valueOf(Math.round(prices[position.symbol().charAt(0) - 'A'] * 100), 2)
+                    .compareTo(position.currentPrice()));
+            }
+            assertEquals(0, unrealized.compareTo(summary.unrealizedPnL()));
+            assertEquals(0, realized.compareTo(summary.realizedPnL()));
+            assertEquals(0, marketValue.compareTo(summary.marketValue()));
+        }
+    }
+
+    @Test
+    void publishChanges_SendsSnapshotThenOnlyChangedPositions() {
+        RecordingHandler handler = new RecordingHandler();
+        engine = newService(handler);
+        engine.applyFill(7L, "SBIN", "NSE", OrderSide.BUY, 100, new BigDecimal("600.00"));
+        engine.applyFill(7L, "ITC", "NSE", OrderSide.BUY, 200, new BigDecimal("450.00"));
+        engine.applyFill(8L, "ITC", "NSE", OrderSide.BUY, 50, new BigDecimal("451.00"));
+        handler.connect(7L);
+
+        engine.publishChanges();
+        assertEquals(1, handler.messages.size());
+        assertTrue(handler.messages.get(0).contains("PNL_SNAPSHOT"));
+        assertTrue(handler.messages.get(0).contains("SBIN") && handler.messages.get(0).contains("ITC"));
+
+        handler.messages.clear();
+        engine.publishChanges();
+        tick("ITC", 455.00);
+        engine.publishChanges();
+
+        // User 8 is not connected; user 7 gets only the ITC move
+        assertEquals(1, handler.messages.size());
+        assertTrue(handler.messages.get(0).contains("PNL_DELTA"));
+        assertTrue(handler.messages.get(0).contains("ITC"));
+        assertFalse(handler.messages.get(0).contains("SBIN"));
+    }
+
+    @Test
+    void writeBehind_AddsFillsToStoredPositionAndMarksTheRest() {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        when(jdbcTemplate.batchUpdate(startsWith("UPDATE positions SET quantity"), anyCollection(), anyInt(), any()))
+            .thenReturn(new int[][] {{0}});
+        when(jdbcTemplate.batchUpdate(startsWith("INSERT"), anyCollection(), anyInt(), any()))
+            .thenReturn(new int[][] {{1}});
+        engine = newService(new RecordingHandler(), jdbcTemplate);
+
+        engine.applyFill(1L, "INFY", "NSE", OrderSide.BUY, 10, new BigDecimal("1500.00"));
+        engine.writeBehind();
+        // Not stored yet: the fill is inserted, then marked like every changed position
+        verify(jdbcTemplate).batchUpdate(startsWith("UPDATE positions SET quantity"), anyCollection(), anyInt(), any());
+        verify(jdbcTemplate).batchUpdate(startsWith("INSERT"), anyCollection(), anyInt(), any());
+        verify(jdbcTemplate).batchUpdate(startsWith("UPDATE positions SET side"), anyCollection(), anyInt(), any());
+
+        clearInvocations(jdbcTemplate);
+        tick("INFY", 1520.00);
+        engine.writeBehind();
+        // A price move leaves quantity, cost and realized P&L to the replicas that filled
+        verify(jdbcTemplate).batchUpdate(startsWith("UPDATE positions SET side"), anyCollection(), anyInt(), any());
+        verifyNoMoreInteractions(jdbcTemplate);
+    }
+
+    private void tick(String symbol, double price) {
+        engine.onPrice(symbol, price, System.currentTimeMillis());
+        assertTrue(engine.awaitQuiescence(5, TimeUnit.SECONDS));
+    }
+
+    static StreamingPnLEngine newService(PnLWebSocketHandler handler) {
+        return newService(handler, null);
+    }
+
+    static StreamingPnLEngine newService(PnLWebSocketHandler handler, JdbcTemplate jdbcTemplate) {
+        StreamingPnLEngine engine = new StreamingPnLEngine(new SimpleMeterRegistry(), jdbcTemplate, handler,
+            new ObjectMapper());
+        ReflectionTestUtils.setField(engine, "enabled", true);
+        ReflectionTestUtils.setField(engine, "parallelism", 2);
+        ReflectionTestUtils.setField(engine, "writeBatchSize", 500);
+        ReflectionTestUtils.setField(engine, "zone", "Asia/Kolkata");
+        engine.init();
+        return engine;
+    }
+
+    /**
+     * Handler with sessions replaced by a message list
+     */
+    static final class RecordingHandler extends PnLWebSocketHandler {
+
+        private final List<Long> connected = new ArrayList<>();
+        private final List<Long> newlyConnected = new ArrayList<>();
+        private final List<String> messages = new ArrayList<>();
+
+        void connect(long userId) {
+            connected.add(userId);
+            newlyConnected.add(userId);
+        }
+
+        @Override
+        public boolean isConnected(long userId) {
+            return connected.contains(userId);
+        }
+
+        @Override
+        public List<Long> takeNewlyConnected() {
+            List<Long> users = List.copyOf(newlyConnected);
+            newlyConnected.clear();
+            return users;
+        }
+
+        @Override
+        public void send(long userId, String message) {
+            messages.add(message);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.trademaster.trading.risk;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ReturnRiskKernel
+ *
+ * Checks the fused pass and the single selection pass against direct two-pass and
+ * full-sort computations over the same series.
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+class ReturnRiskKernelTest {
+
+    private static final double DAILY_TARGET = 0.000198;
+
+    @Test
+    void analyze_MatchesDirectComputation() {
+        SplittableRandom random = new SplittableRandom(3);
+        double[] returns = new double[1_001];
+        double[] benchmark = new double[returns.length];
+        for (int day = 0; day < returns.length; day++) {
+            benchmark[day] = random.nextDouble(-0.02, 0.021);
+            returns[day] = 1.2 * benchmark[day] + random.nextDouble(-0.01, 0.01);
+        }
+
+        ReturnRiskProfile profile = ReturnRiskKernel.analyze(returns, benchmark, DAILY_TARGET, 0.95, 0.99, 0.999);
+
+        double[] sorted = returns.clone();
+        Arrays.sort(sorted);
+        for (double confidence : new double[] {0.95, 0.99, 0.999}) {
+            int cutoff = (int) Math.floor(returns.length * (1 - confidence));
+            assertEquals(sorted[cutoff], profile.valueAtRisk(confidence));
+            assertEquals(mean(Arrays.copyOf(sorted, Math.max(1, cutoff))), profile.expectedShortfall(confidence), 1e-15);
+        }
+
+        double[] differences = new double[returns.length];
+        double covariance = 0.0;
+        double benchmarkVariance = 0.0;
+        for (int day = 0; day < returns.length; day++) {
+            differences[day] = returns[day] - benchmark[day];
+            covariance += (returns[day] - mean(returns)) * (benchmark[day] - mean(benchmark));
+            benchmarkVariance += (benchmark[day] - mean(benchmark)) * (benchmark[day] - mean(benchmark));
+        }
+        assertEquals(mean(returns), profile.mean(), 1e-15);
+        assertEquals(sampleStdDev(returns), profile.standardDeviation(), 1e-12);
+        assertEquals(sampleStdDev(differences), profile.trackingError(), 1e-12);
+        assertEquals(covariance / benchmarkVariance, profile.beta(), 1e-9);
+        assertEquals(mean(benchmark), profile.benchmarkMean(), 1e-15);
+        assertTrue(profile.benchmarked());
+    }
+
+    @Test
+    void analyze_DrawdownAndDownsideFollowCompoundedPath() {
+        double[] returns = {0.10, -0.20, 0.05, -0.10, 0.30};
+
+        ReturnRiskProfile profile = ReturnRiskKernel.analyze(returns, null, 0.0, 0.95);
+
+        // Wealth 1.1, 0.88, 0.924, 0.8316, 1.08108: deepest trough 0.8316 under the 1.1 peak
+        assertEquals(1.0 - 0.8316 / 1.1, profile.maxDrawdown(), 1e-12);
+        assertEquals(0.08108, profile.cumulativeReturn(), 1e-12);
+        assertEquals(Math.sqrt((0.04 + 0.01) / 2), profile.downsideDeviation(), 1e-12);
+        assertEquals(3, profile.winningPeriods());
+        assertEquals(0.45, profile.totalGains(), 1e-12);
+        assertEquals(0.30, profile.totalLosses(), 1e-12);
+        assertEquals(-0.20, profile.valueAtRisk(0.95));
+        assertEquals(-0.20, profile.expectedShortfall(0.95));
+        assertEquals(1.0, profile.beta());
+        assertFalse(profile.benchmarked());
+    }
+
+    @Test
+    void analyze_MisalignedBenchmark_KeepsNeutralBetaAndMean() {
+        ReturnRiskProfile profile = ReturnRiskKernel.analyze(
+            new double[] {0.01, 0.02, -0.01}, new double[] {0.01, 0.03}, 0.0, 0.95);
+
+        assertEquals(1.0, profile.beta());
+        assertEquals(0.0, profile.trackingError());
+        assertEquals(0.02, profile.benchmarkMean(), 1e-15);
+        assertThrows(IllegalArgumentException.class, () -> profile.valueAtRisk(0.99));
+    }
+
+    private static double mean(double[] values) {
+        return Arrays.stream(values).sum() / values.length;
+    }
+
+    private static double sampleStdDev(double[] values) {
+        double mean = mean(values);
+        double squares = Arrays.stream(values).map(value -> (value - mean) * (value - mean)).sum();
+        return Math.sqrt(squares / (values.length - 1));
+    }
+}
@@ -0,0 +1,96 @@
+package com.trademaster.trading.risk.control;
+
+import com.trademaster.trading.config.OrderControlConfigurationProperties;
+import com.trademaster.trading.repository.OrderRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for KillSwitchBroadcaster
+ *
+ * A flip Redis did not store is pending: sync neither undoes it from the hash nor stops
+ * retrying the write until it is stored.
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+class KillSwitchBroadcasterTest {
+
+    private static final String STATE_KEY = "trading:control:kill-switches";
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private ObjectProvider<RedisTemplate<String, String>> redisTemplate;
+
+    @Mock
+    private ObjectProvider<RedisConnectionFactory> connectionFactory;
+
+    @Mock
+    private RedisTemplate<String, String> redis;
+
+    @Mock
+    private HashOperations<String, Object, Object> hash;
+
+    private OrderControls orderControls;
+    private KillSwitchBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        orderControls = new OrderControls(orderRepository, registry,
+            new OrderControlConfigurationProperties(true, 0, 0, 0, 0, 0, 0, 0, 0, 0));
+        broadcaster = new KillSwitchBroadcaster(orderControls, redisTemplate, connectionFactory, registry);
+        ReflectionTestUtils.setField(broadcaster, "redis", redis);
+        ReflectionTestUtils.setField(broadcaster, "stateKey", STATE_KEY);
+        ReflectionTestUtils.setField(broadcaster, "channel", "trading:control:kill-switch");
+        ReflectionTestUtils.setField(broadcaster, "redisErrors", registry.counter("trading.control.redis.errors"));
+        doReturn(hash).when(redis).opsForHash();
+    }
+
+    @Test
+    void sync_EngageNotStored_StaysEngagedUntilWritten() {
+        RuntimeException down = new IllegalStateException("Redis down");
+        doThrow(down).doThrow(down).doNothing().when(hash).put(STATE_KEY, "GLOBAL", "1");
+        when(hash.entries(STATE_KEY)).thenReturn(Map.of(), Map.of("GLOBAL", "1"));
+
+        assertTrue(broadcaster.flip(KillSwitchScope.GLOBAL, null, true));
+        // The hash has no GLOBAL yet, but the switch was engaged here after it was read
+        broadcaster.sync();
+        assertTrue(orderControls.killSwitches().global());
+
+        broadcaster.sync();
+        assertTrue(orderControls.killSwitches().global());
+        verify(hash, times(3)).put(STATE_KEY, "GLOBAL", "1");
+    }
+
+    @Test
+    void sync_ReleaseNotStored_IsNotReengaged() {
+        broadcaster.flip(KillSwitchScope.USER, "42", true);
+        when(hash.delete(STATE_KEY, "USER:42")).thenThrow(new IllegalStateException("Redis down"));
+        when(hash.entries(STATE_KEY)).thenReturn(Map.of("USER:42", "1"));
+
+        broadcaster.flip(KillSwitchScope.USER, "42", false);
+        broadcaster.sync();
+
+        assertEquals(List.of(), orderControls.killSwitches().users());
+        verify(hash, times(2)).delete(STATE_KEY, "USER:42");
+    }
+}
@@ -0,0 +1,140 @@
+package com.trademaster.trading.risk.control;
+
+import com.trademaster.trading.config.OrderControlConfigurationProperties;
+import com.trademaster.trading.repository.OrderRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for OrderControls
+ *
+ * Drives admissions against a manual clock: order-rate buckets drain and refill,
+ * refusals give back what earlier controls took, open-order slots are held until
+ * closed, kill switches halt at each scope, and a refusal allocates nothing.
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+class OrderControlsTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    private final AtomicLong now = new AtomicLong(SECOND);
+
+    @Test
+    void userRate_RefusesBeyondBurstAndRefillsWithClock() {
+        OrderControls controls = newControls(5, 3, 0, 0);
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(ControlVerdict.ADMITTED, controls.admit(1L, "INFY", 100L));
+        }
+        assertEquals(ControlVerdict.USER_RATE, controls.admit(1L, "INFY", 100L));
+        // Another user has a bucket of their own
+        assertEquals(ControlVerdict.ADMITTED, controls.admit(2L, "INFY", 100L));
+
+        // 5 per second: one more order every 200ms
+        now.addAndGet(SECOND / 5);
+        assertEquals(ControlVerdict.ADMITTED, controls.admit(1L, "INFY", 100L));
+        assertEquals(ControlVerdict.USER_RATE, controls.admit(1L, "INFY", 100L));
+    }
+
+    @Test
+    void openOrders_HeldUntilClosedAndRefusalGivesBackTokens() {
+        OrderControls controls = newControls(100, 3, 2, 0);
+
+        assertEquals(ControlVerdict.ADMITTED, controls.admit(3L, "TCS", 4000L));
+        assertEquals(ControlVerdict.ADMITTED, controls.admit(3L, "TCS", 4000L));
+        assertEquals(ControlVerdict.OPEN_ORDERS, controls.admit(3L, "TCS", 4000L));
+        assertEquals(2, controls.openOrders(3L));
+
+        // The refused order's rate token came back, so the burst's third order still fits
+        controls.close(3L);
+        assertEquals(ControlVerdict.ADMITTED, controls.admit(3L, "TCS", 4000L));
+        assertEquals(2, controls.openOrders(3L));
+
+        controls.close(3L);
+        controls.close(3L);
+        controls.close(3L);
+        assertEquals(0, controls.openOrders(3L));
+    }
+
+    @Test
+    void notional_CappedPerSecondAndUnpricedOrdersNotCounted() {
+        OrderControls controls = newControls(100, 100, 0, 1_000_000);
+
+        // 600,000 of the 1,000,000 per second
+        assertEquals(ControlVerdict.ADMITTED, controls.admit(4L, "RELIANCE", 600_000L));
+        assertEquals(ControlVerdict.USER_NOTIONAL, controls.admit(4L, "RELIANCE", 600_000L));
+        // A market order has no price, so no notional to count
+        assertEquals(ControlVerdict.ADMITTED, controls.admit(4L, "RELIANCE", 0L));
+        assertEquals(ControlVerdict.ADMITTED, controls.admit(4L, "RELIANCE", 300_000L));
+
+        now.addAndGet(SECOND / 2);
+        assertEquals(ControlVerdict.ADMITTED, controls.admit(4L, "RELIANCE", 450_000L));
+    }
+
+    @Test
+    void killSwitches_HaltEachScopeUntilReleased() {
+        OrderControls controls = newControls(100, 100, 0, 0);
+
+        assertTrue(controls.apply(KillSwitchScope.SYMBOL, "YESBANK", true));
+        assertTrue(controls.apply(KillSwitchScope.USER, "7", true));
+        assertFalse(controls.apply(KillSwitchScope.USER, " 7", true));
+        assertEquals(ControlVerdict.SYMBOL_HALT, controls.admit(6L, "YESBANK", 20L));
+        assertEquals(ControlVerdict.ADMITTED, controls.admit(6L, "SBIN", 800L));
+        assertEquals(ControlVerdict.USER_HALT, controls.admit(7L, "SBIN", 800L));
+
+        controls.apply(KillSwitchScope.GLOBAL, null, true);
+        assertEquals(ControlVerdict.GLOBAL_HALT, controls.admit(6L, "SBIN", 800L));
+        assertEquals(new OrderControls.KillSwitches(true, List.of(7L), List.of("YESBANK")), controls.killSwitches());
+
+        controls.apply(KillSwitchScope.GLOBAL, null, false);
+        controls.apply(KillSwitchScope.USER, "7", false);
+        assertEquals(ControlVerdict.ADMITTED, controls.admit(7L, "SBIN", 800L));
+        assertEquals(ControlVerdict.SYMBOL_HALT, controls.admit(7L, "YESBANK", 20L));
+    }
+
+    @Test
+    void refusal_AllocatesNothing() {
+        OrderControls controls = newControls(1, 1, 0, 0);
+        assertEquals(ControlVerdict.ADMITTED, controls.admit(8L, "INFY", 1500L));
+        controls.apply(KillSwitchScope.SYMBOL, "HALTED", true);
+
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+        for (int i = 0; i < 20_000; i++) {
+            controls.admit(8L, "INFY", 1500L);
+            controls.admit(8L, "HALTED", 1500L);
+        }
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < 100_000; i++) {
+            assertSame(ControlVerdict.USER_RATE, controls.admit(8L, "INFY", 1500L));
+            assertSame(ControlVerdict.SYMBOL_HALT, controls.admit(8L, "HALTED", 1500L));
+        }
+        long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+
+        // Anything per refusal would be at least 16 bytes each, 3.2MB in all
+        assertTrue(allocated < 64 * 1024, "refusals allocated " + allocated + " bytes");
+    }
+
+    private OrderControls newControls(double userRate, long userBurst, int maxOpenOrders, double userNotional) {
+        OrderControlConfigurationProperties config = new OrderControlConfigurationProperties(true, 0, 0,
+            userRate, userBurst, 0, 0, userNotional, 0, maxOpenOrders);
+        OrderControls controls = new OrderControls(orderRepository, new SimpleMeterRegistry(), config, now::get);
+        controls.init();
+        return controls;
+    }
+}
@@ -0,0 +1,155 @@
+package com.trademaster.trading.risk.covariance;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the covariance engine
+ *
+ * Checks the EWMA update, the VaR decomposition and the Cholesky factor against direct
+ * computations on small matrices.
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+class CovarianceMatrixTest {
+
+    @Test
+    void ewmaUpdate_MatchesRecursiveFormula() {
+        EwmaCovariance ewma = new EwmaCovariance(List.of("A", "B", "C"), 0.9);
+        double[][] days = {{0.01, -0.02, 0.005}, {-0.03, 0.01, 0.02}, {0.002, 0.004, -0.01}};
+
+        double[][] expected = new double[3][3];
+        for (int day = 0; day < days.length; day++) {
+            for (int row = 0; row < 3; row++) {
+                for (int column = 0; column < 3; column++) {
+                    double product = days[day][row] * days[day][column];
+                    expected[row][column] = day == 0 ? product : 0.9 * expected[row][column] + 0.1 * product;
+                }
+            }
+            ewma.update(days[day]);
+        }
+
+        CovarianceMatrix matrix = ewma.snapshot();
+        for (int row = 0; row < 3; row++) {
+            for (int column = 0; column < 3; column++) {
+                assertEquals(expected[row][column], matrix.get(row, column), 1e-18);
+            }
+        }
+        assertEquals(3, ewma.observations());
+        assertSame(matrix, ewma.snapshot());
+
+        ewma.update(Map.of("B", 0.01));
+        assertNotSame(matrix, ewma.snapshot());
+        assertEquals(0.9 * expected[0][0], ewma.snapshot().variance(0), 1e-18);
+    }
+
+    @Test
+    void contributions_SumToVaRAndMatchNaiveMarginals() {
+        CovarianceMatrix matrix = randomCovariance(300, 7);
+        SplittableRandom random = new SplittableRandom(11);
+        double[] exposures = IntStream.range(0, matrix.size()).mapToDouble(i -> random.nextDouble(-1e5, 1e6)).toArray();
+
+        RiskContributions risk = matrix.contributions(exposures, 0.99, 10);
+
+        double variance = 0.0;
+        for (int row = 0; row < matrix.size(); row++) {
+            for (int column = 0; column < matrix.size(); column++) {
+                variance += exposures[row] * matrix.get(row, column) * exposures[column];
+            }
+        }
+        double scale = 2.3263478740408408 * Math.sqrt(10);
+        assertEquals(scale * Math.sqrt(variance), risk.valueAtRisk(), 1e-6 * risk.valueAtRisk());
+        assertEquals(risk.valueAtRisk(), IntStream.range(0, matrix.size()).mapToDouble(i -> risk.componentVaR()[i]).sum(),
+            1e-9 * risk.valueAtRisk());
+
+        int probe = 17;
+        double step = 1.0;
+        double[] bumped = exposures.clone();
+        bumped[probe] += step;
+        double bumpedVaR = matrix.contributions(bumped, 0.99, 10).valueAtRisk();
+        assertEquals((bumpedVaR - risk.valueAtRisk()) / step, risk.marginalVaR()[probe], 1e-4);
+    }
+
+    @Test
+    void cholesky_ReconstructsMatrixAndCorrelates() {
+        CovarianceMatrix matrix = randomCovariance(300, 5);
+        CholeskyFactor factor = matrix.cholesky();
+        assertSame(factor, matrix.cholesky());
+
+        for (int row = 0; row < matrix.size(); row += 7) {
+            for (int column = 0; column <= row; column += 3) {
+                double product = 0.0;
+                for (int k = 0; k <= column; k++) {
+                    product += factor.get(row, k) * factor.get(column, k);
+                }
+                assertEquals(matrix.get(row, column), product, 1e-12);
+            }
+        }
+
+        double[] unit = new double[matrix.size()];
+        double[] out = new double[matrix.size()];
+        unit[0] = 1.0;
+        factor.correlate(unit, out);
+        assertEquals(Math.sqrt(matrix.variance(0)), out[0], 1e-15);
+    }
+
+    @Test
+    void cholesky_SingularMatrix_AddsJitter() {
+        EwmaCovariance ewma = new EwmaCovariance(List.of("A", "B", "C"));
+        ewma.update(new double[] {0.01, 0.02, -0.01});
+
+        CholeskyFactor factor = ewma.snapshot().cholesky();
+
+        assertTrue(factor.jitter() > 0.0);
+        assertTrue(factor.jitter() < 1e-6 * ewma.snapshot().variance(1));
+    }
+
+    @Test
+    void fromCorrelations_FillsDiagonalAndMissingPairs() {
+        CovarianceMatrix matrix = CovarianceMatrix.fromCorrelations(List.of("A", "B", "C"),
+            Map.of("A", Map.of("B", new BigDecimal("0.5")), "B", Map.of("A", new BigDecimal("0.5"))));
+
+        assertEquals(1.0, matrix.get(2, 2));
+        assertEquals(0.5, matrix.get(1, 0));
+        assertEquals(0.0, matrix.get(0, 2));
+        assertEquals(-1, matrix.indexOf("D"));
+        assertEquals(2.326347874, NormalQuantile.inverseCdf(0.99), 1e-8);
+        assertThrows(IllegalArgumentException.class, () -> NormalQuantile.inverseCdf(1.0));
+    }
+
+    /**
+     * EWMA estimate from more days than instruments of returns driven by a few factors
+     */
+    static CovarianceMatrix randomCovariance(int instruments, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        List<String> names = IntStream.range(0, instruments).mapToObj(i -> "SYM" + i).toList();
+        EwmaCovariance ewma = new EwmaCovariance(names, 0.99);
+        double[][] loadings = new double[instruments][4];
+        for (double[] row : loadings) {
+            for (int factor = 0; factor < row.length; factor++) {
+                row[factor] = random.nextDouble(-1.0, 1.0);
+            }
+        }
+        double[] returns = new double[instruments];
+        for (int day = 0; day < instruments * 2; day++) {
+            double[] factors = {random.nextGaussian(), random.nextGaussian(), random.nextGaussian(), random.nextGaussian()};
+            for (int index = 0; index < instruments; index++) {
+                double systematic = 0.0;
+                for (int factor = 0; factor < factors.length; factor++) {
+                    systematic += loadings[index][factor] * factors[factor];
+                }
+                returns[index] = 0.01 * systematic + 0.01 * random.nextGaussian();
+            }
+            ewma.update(returns);
+        }
+        return ewma.snapshot();
+    }
+}
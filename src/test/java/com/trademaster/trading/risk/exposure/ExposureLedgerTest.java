@@ -0,0 +1,338 @@
+package com.trademaster.trading.risk.exposure;
+
+import com.trademaster.common.functional.Result;
+import com.trademaster.trading.config.ExposureConfigurationProperties;
+import com.trademaster.trading.entity.Order;
+import com.trademaster.trading.error.ServiceError;
+import com.trademaster.trading.integration.client.PortfolioServiceClient;
+import com.trademaster.trading.model.OrderSide;
+import com.trademaster.trading.model.OrderStatus;
+import com.trademaster.trading.model.OrderType;
+import com.trademaster.trading.pnl.PositionPnL;
+import com.trademaster.trading.pnl.StreamingPnLEngine;
+import com.trademaster.trading.repository.OrderRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for ExposureLedger
+ *
+ * Drives orders through reserve, fill and release against a ledger seeded directly
+ * (no portfolio-service), checks buying power and exposure after each step, and races
+ * concurrent buys against one user's buying power.
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+class ExposureLedgerTest {
+
+    @Mock
+    private PortfolioServiceClient portfolioClient;
+
+    @Mock
+    private StreamingPnLEngine pnlEngine;
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Test
+    void reserveFillRelease_KeepsBuyingPowerAndExposureInStep() {
+        ExposureLedger ledger = newLedger("INFY:IT");
+        seed(ledger, 1L, "100000.00", "200000.00");
+
+        Order buy = order(1L, "INFY", OrderSide.BUY, 40, "1500.00");
+        assertEquals(Reservation.RESERVED, ledger.reserve(buy));
+        assertAmount("40000.00", ledger.availableBuyingPower(1L));
+        assertEquals(1, ledger.tradesToday(1L));
+
+        // 10 fill at 1490: 15,000 reserved is released, 14,900 spent
+        ledger.fill(buy, 10, new BigDecimal("1490.00"));
+        buy.addFill(10, new BigDecimal("1490.00"));
+        assertAmount("40100.00", ledger.availableBuyingPower(1L));
+
+        buy.updateStatus(OrderStatus.CANCELLED);
+        ledger.release(buy);
+
+        ExposureSnapshot snapshot = ledger.snapshot(1L);
+        assertAmount("85100.00", snapshot.availableBuyingPower());
+        assertAmount("0.00", snapshot.reservedBuyingPower());
+        assertAmount("0.00", snapshot.openOrderNotional());
+        ExposureSnapshot.Exposure infy = snapshot.symbols().get("INFY");
+        assertAmount("14900.00", infy.position());
+        assertAmount("14900.00", infy.gross());
+        assertAmount("14900.00", snapshot.sectors().get("IT").net());
+
+        // A sell needs no buying power, offsets net but not gross, and pays out at fill
+        Order sell = order(1L, "INFY", OrderSide.SELL, 10, "1550.00");
+        assertEquals(Reservation.RESERVED, ledger.reserve(sell));
+        infy = ledger.snapshot(1L).symbols().get("INFY");
+        assertAmount("30400.00", infy.gross());
+        assertAmount("-600.00", infy.net());
+        ledger.fill(sell, 10, new BigDecimal("1550.00"));
+        assertAmount("100600.00", ledger.availableBuyingPower(1L));
+        assertAmount("0.00", ledger.snapshot(1L).symbols().get("INFY").position());
+        assertEquals(2, ledger.tradesToday(1L));
+    }
+
+    @Test
+    void reserve_BeyondBuyingPower_RefusedWithNothingBooked() {
+        ExposureLedger ledger = newLedger();
+        seed(ledger, 2L, "10000.00", "10000.00");
+
+        assertEquals(Reservation.INSUFFICIENT_BUYING_POWER,
+            ledger.reserve(order(2L, "TCS", OrderSide.BUY, 3, "4000.00")));
+
+        ExposureSnapshot snapshot = ledger.snapshot(2L);
+        assertAmount("10000.00", snapshot.availableBuyingPower());
+        assertAmount("0.00", snapshot.openOrderNotional());
+        assertEquals(0, snapshot.tradesToday());
+        assertEquals(Reservation.RESERVED, ledger.reserve(order(2L, "TCS", OrderSide.BUY, 2, "4000.00")));
+    }
+
+    @Test
+    void reserve_ConcurrentBuys_NeverReserveMoreThanAvailable() throws Exception {
+        ExposureLedger ledger = newLedger();
+        seed(ledger, 3L, "1000000.00", "1000000.00");
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Boolean>> results = executor.invokeAll(IntStream.range(0, 1_000)
+                .mapToObj(i -> (java.util.concurrent.Callable<Boolean>) () ->
+                    ledger.reserve(order(3L, "SYM" + (i % 10), OrderSide.BUY, 1, "3000.00")).reserved())
+                .toList());
+            long accepted = 0;
+            for (Future<Boolean> result : results) {
+                accepted += result.get() ? 1 : 0;
+            }
+
+            // 1,000,000 covers exactly 333 orders of 3,000
+            assertEquals(333, accepted);
+            ExposureSnapshot snapshot = ledger.snapshot(3L);
+            assertAmount("1000.00", snapshot.availableBuyingPower());
+            assertAmount("999000.00", snapshot.reservedBuyingPower());
+            assertEquals(333, snapshot.tradesToday());
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    void reserve_MarketOrderPricedAtCollaredLastPrice() {
+        ExposureLedger ledger = newLedger();
+        seed(ledger, 6L, "100000.00", "100000.00");
+
+        // Nothing traded yet: a market buy has no price to reserve at, a sell needs none
+        Order first = marketOrder(6L, "SBIN", OrderSide.BUY, 10);
+        assertEquals(Reservation.NO_REFERENCE_PRICE, ledger.reserve(first));
+        assertEquals(Reservation.RESERVED, ledger.reserve(marketOrder(6L, "SBIN", OrderSide.SELL, 10)));
+        assertAmount("100000.00", ledger.availableBuyingPower(6L));
+
+        // 800 plus the 5% collar
+        ledger.onPrice("SBIN", new BigDecimal("800.00"));
+        Order buy = marketOrder(6L, "SBIN", OrderSide.BUY, 10);
+        assertAmount("8400.00", ledger.notional(buy));
+        assertEquals(Reservation.RESERVED, ledger.reserve(buy));
+        assertAmount("91600.00", ledger.availableBuyingPower(6L));
+        assertEquals(Reservation.INSUFFICIENT_BUYING_POWER,
+            ledger.reserve(marketOrder(6L, "SBIN", OrderSide.BUY, 200)));
+
+        // The release returns what was reserved, whatever the price has done since
+        ledger.onPrice("SBIN", new BigDecimal("900.00"));
+        buy.updateStatus(OrderStatus.CANCELLED);
+        ledger.release(buy);
+        assertAmount("100000.00", ledger.availableBuyingPower(6L));
+        assertAmount("0.00", ledger.snapshot(6L).reservedBuyingPower());
+    }
+
+    @Test
+    void release_OnlyFirstReleaseOfABookedOrderCounts() {
+        ExposureLedger ledger = newLedger();
+        seed(ledger, 10L, "50000.00", "50000.00");
+        Order buy = order(10L, "INFY", OrderSide.BUY, 10, "1000.00");
+        assertEquals(Reservation.RESERVED, ledger.reserve(buy));
+
+        buy.updateStatus(OrderStatus.CANCELLED);
+        ledger.release(buy);
+        ledger.release(buy);
+        assertAmount("50000.00", ledger.availableBuyingPower(10L));
+        assertAmount("0.00", ledger.snapshot(10L).openOrderNotional());
+
+        // Never booked, e.g. placed after the ledger was rebuilt: nothing to return
+        Order unbooked = order(10L, "INFY", OrderSide.BUY, 10, "1000.00");
+        unbooked.updateStatus(OrderStatus.CANCELLED);
+        ledger.release(unbooked);
+        assertAmount("50000.00", ledger.availableBuyingPower(10L));
+        assertAmount("0.00", ledger.snapshot(10L).reservedBuyingPower());
+    }
+
+    @Test
+    void modify_IncreaseReservedByCasAndRevertable() {
+        ExposureLedger ledger = newLedger();
+        seed(ledger, 7L, "20000.00", "20000.00");
+        Order buy = order(7L, "TCS", OrderSide.BUY, 3, "4000.00");
+        assertEquals(Reservation.RESERVED, ledger.reserve(buy));
+        assertAmount("8000.00", ledger.availableBuyingPower(7L));
+
+        // 5 at 4000 needs 8,000 more: covered exactly; 6 would need 12,000 more
+        assertEquals(Reservation.INSUFFICIENT_BUYING_POWER, ledger.modify(buy, 6, null, null));
+        assertAmount("8000.00", ledger.availableBuyingPower(7L));
+        assertEquals(Reservation.RESERVED, ledger.modify(buy, 5, null, null));
+        assertAmount("0.00", ledger.availableBuyingPower(7L));
+
+        // The broker refused it: the order still has its old terms and gets its old booking
+        ledger.revertModify(buy, 5, null, null);
+        assertAmount("8000.00", ledger.availableBuyingPower(7L));
+        assertAmount("12000.00", ledger.snapshot(7L).openOrderNotional());
+
+        // A lower price returns the difference
+        assertEquals(Reservation.RESERVED, ledger.modify(buy, null, new BigDecimal("3000.00"), null));
+        buy.setLimitPrice(new BigDecimal("3000.00"));
+        assertAmount("11000.00", ledger.availableBuyingPower(7L));
+        assertAmount("9000.00", ledger.snapshot(7L).reservedBuyingPower());
+        buy.updateStatus(OrderStatus.CANCELLED);
+        ledger.release(buy);
+        assertAmount("20000.00", ledger.availableBuyingPower(7L));
+    }
+
+    @Test
+    void concentration_CountsPositionOpenBuysAndOrder() {
+        ExposureLedger ledger = newLedger("HDFCBANK:BANKING", "ICICIBANK:BANKING");
+        ledger.reconcile(4L, new BigDecimal("500000.00"), new BigDecimal("1000000.00"),
+            List.of(position("HDFCBANK", 100, "1600.00")), List.of(), null, 0L);
+        assertEquals(Reservation.RESERVED, ledger.reserve(order(4L, "ICICIBANK", OrderSide.BUY, 100, "1000.00")));
+
+        // HDFCBANK 160,000 + a 40,000 order is 20% of 1,000,000
+        assertAmount("20.00", ledger.symbolConcentration(4L, "HDFCBANK", new BigDecimal("40000.00")));
+        // Banking: 160,000 held + 100,000 open + 40,000 order
+        assertEquals("BANKING", ledger.sectorOf("ICICIBANK").orElseThrow());
+        assertAmount("30.00", ledger.sectorConcentration(4L, "BANKING", new BigDecimal("40000.00")));
+        assertTrue(ledger.sectorOf("INFY").isEmpty());
+    }
+
+    @Test
+    void reconcile_RebuildsFromSourcesUnlessLedgerMoved() {
+        ExposureLedger ledger = newLedger();
+        seed(ledger, 5L, "50000.00", "80000.00");
+        assertEquals(Reservation.RESERVED, ledger.reserve(order(5L, "INFY", OrderSide.BUY, 10, "1500.00")));
+
+        UserExposure current = (UserExposure) ReflectionTestUtils.invokeMethod(ledger, "exposure", 5L);
+        long mutations = current.mutations();
+        Order open = order(5L, "INFY", OrderSide.BUY, 10, "1500.00");
+        open.addFill(4, new BigDecimal("1500.00"));
+        assertTrue(ledger.reconcile(5L, new BigDecimal("44000.00"), new BigDecimal("86000.00"),
+            List.of(position("INFY", 4, "1500.00")), List.of(open), current, mutations));
+
+        // 6 still open hold 9,000; the trade count survives the rebuild
+        ExposureSnapshot snapshot = ledger.snapshot(5L);
+        assertAmount("35000.00", snapshot.availableBuyingPower());
+        assertAmount("9000.00", snapshot.reservedBuyingPower());
+        assertAmount("6000.00", snapshot.symbols().get("INFY").position());
+        assertAmount("86000.00", snapshot.portfolioValue());
+        assertEquals(1, snapshot.tradesToday());
+        assertNotNull(snapshot.reconciledAt());
+
+        UserExposure rebuilt = (UserExposure) ReflectionTestUtils.invokeMethod(ledger, "exposure", 5L);
+        long before = rebuilt.mutations();
+        assertEquals(Reservation.RESERVED, ledger.reserve(order(5L, "TCS", OrderSide.BUY, 1, "4000.00")));
+        assertFalse(ledger.reconcile(5L, BigDecimal.ZERO, BigDecimal.ZERO, List.of(), List.of(), rebuilt, before));
+        assertAmount("31000.00", ledger.availableBuyingPower(5L));
+    }
+
+    @Test
+    void reconcile_NotSwappedWhileUpdateInFlight() {
+        ExposureLedger ledger = newLedger();
+        seed(ledger, 8L, "50000.00", "50000.00");
+        UserExposure current = (UserExposure) ReflectionTestUtils.invokeMethod(ledger, "exposure", 8L);
+
+        // An update that entered before the mutation count was read keeps the ledger it is writing to
+        assertTrue(current.enter());
+        long mutations = current.mutations();
+        assertFalse(ledger.reconcile(8L, new BigDecimal("60000.00"), new BigDecimal("60000.00"),
+            List.of(), List.of(), current, mutations));
+        current.exit();
+        assertAmount("50000.00", ledger.availableBuyingPower(8L));
+
+        // Once retired, a later update goes to the rebuilt ledger
+        long settled = current.mutations();
+        assertTrue(ledger.reconcile(8L, new BigDecimal("60000.00"), new BigDecimal("60000.00"),
+            List.of(), List.of(), current, settled));
+        assertFalse(current.enter());
+        assertEquals(Reservation.RESERVED, ledger.reserve(order(8L, "INFY", OrderSide.BUY, 10, "1000.00")));
+        assertAmount("50000.00", ledger.availableBuyingPower(8L));
+    }
+
+    @Test
+    void reserve_PortfolioServiceDown_BuysRefusedAsUnreconciled() {
+        // Seeding fails and an unreconciled ledger is installed
+        when(portfolioClient.getPositionRisk(9L, "PORTFOLIO")).thenReturn(
+            Result.failure(new ServiceError.ServiceUnavailable("portfolio-service", "connection refused")));
+        ExposureLedger ledger = newLedger();
+
+        assertEquals(Reservation.UNRECONCILED, ledger.reserve(order(9L, "INFY", OrderSide.BUY, 1, "1000.00")));
+        assertEquals(Reservation.RESERVED, ledger.reserve(order(9L, "INFY", OrderSide.SELL, 1, "1000.00")));
+        assertFalse(ledger.isReconciled(9L));
+    }
+
+    private ExposureLedger newLedger(String... sectors) {
+        ExposureLedger ledger = new ExposureLedger(portfolioClient, pnlEngine, orderRepository, new SimpleMeterRegistry(),
+            new ExposureConfigurationProperties(true, "Asia/Kolkata", List.of(sectors), 5.0));
+        ledger.init();
+        return ledger;
+    }
+
+    private static void seed(ExposureLedger ledger, long userId, String buyingPower, String portfolioValue) {
+        assertTrue(ledger.reconcile(userId, new BigDecimal(buyingPower), new BigDecimal(portfolioValue),
+            List.of(), List.of(), null, 0L));
+    }
+
+    private static Order order(long userId, String symbol, OrderSide side, int quantity, String limitPrice) {
+        return Order.builder()
+            .userId(userId)
+            .symbol(symbol)
+            .exchange("NSE")
+            .orderType(OrderType.LIMIT)
+            .side(side)
+            .quantity(quantity)
+            .limitPrice(new BigDecimal(limitPrice))
+            .status(OrderStatus.ACKNOWLEDGED)
+            .build();
+    }
+
+    private static Order marketOrder(long userId, String symbol, OrderSide side, int quantity) {
+        return Order.builder()
+            .userId(userId)
+            .symbol(symbol)
+            .exchange("NSE")
+            .orderType(OrderType.MARKET)
+            .side(side)
+            .quantity(quantity)
+            .status(OrderStatus.ACKNOWLEDGED)
+            .build();
+    }
+
+    private static PositionPnL position(String symbol, long quantity, String price) {
+        BigDecimal value = new BigDecimal(price).multiply(BigDecimal.valueOf(quantity));
+        return new PositionPnL(symbol, "NSE", quantity, new BigDecimal(price), new BigDecimal(price), value,
+            BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO);
+    }
+
+    private static void assertAmount(String expected, BigDecimal actual) {
+        assertEquals(0, new BigDecimal(expected).compareTo(actual), "expected " + expected + " but was " + actual);
+    }
+}
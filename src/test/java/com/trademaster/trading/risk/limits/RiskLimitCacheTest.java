@@ -0,0 +1,132 @@
+package com.trademaster.trading.risk.limits;
+
+import com.trademaster.trading.config.RiskLimitConfigurationProperties;
+import com.trademaster.trading.dto.OrderRequest;
+import com.trademaster.trading.risk.exposure.ExposureLedger;
+import com.trademaster.trading.validation.impl.RiskLimitValidator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * Unit tests for RiskLimitCache
+ *
+ * Resolves risk_limits columns against the configured defaults and checks that users
+ * without limits of their own, including removed ones, get the defaults, and that a
+ * limit lowered by a notification rejects the user's next order.
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+class RiskLimitCacheTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private ExposureLedger exposureLedger;
+
+    @Mock
+    private ResultSet row;
+
+    @Mock
+    private OrderRequest order;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void limits_UserWithoutRowGetsDefaults() {
+        RiskLimitCache cache = newCache(true);
+
+        UserRiskLimits limits = cache.limits(42L);
+
+        assertSame(cache.defaults(), limits);
+        assertEquals(new BigDecimal("10000000"), limits.maxOrderValue());
+        assertEquals(100, limits.maxDailyTrades());
+        assertEquals(new BigDecimal("0.8"), limits.maxMarginUsage());
+    }
+
+    @Test
+    void resolve_NullColumnsFallBackAndMarginPercentBecomesRatio() {
+        RiskLimitCache cache = newCache(true);
+
+        UserRiskLimits limits = cache.resolve(new BigDecimal("500000"), 25, null, new BigDecimal("40.00"),
+            new BigDecimal("50.00"));
+
+        assertEquals(new BigDecimal("500000"), limits.maxOrderValue());
+        assertEquals(25, limits.maxDailyTrades());
+        assertEquals(new BigDecimal("30.0"), limits.maxPositionConcentration());
+        assertEquals(new BigDecimal("40.00"), limits.maxSectorConcentration());
+        assertEquals(0, limits.maxMarginUsage().compareTo(new BigDecimal("0.5")));
+    }
+
+    @Test
+    void putAndRemove_ReplaceUserLimitsAndRestoreDefaults() {
+        RiskLimitCache cache = newCache(true);
+        UserRiskLimits own = cache.resolve(new BigDecimal("250000"), 10, null, null, null);
+
+        cache.put(7L, own);
+        assertSame(own, cache.limits(7L));
+        assertSame(cache.defaults(), cache.limits(8L));
+        assertEquals(1.0, meterRegistry.get("trading.risk.limits.users").gauge().value());
+
+        cache.remove(7L);
+        assertSame(cache.defaults(), cache.limits(7L));
+        assertEquals(0.0, meterRegistry.get("trading.risk.limits.users").gauge().value());
+    }
+
+    @Test
+    void start_DisabledLeavesDefaultsWithoutDatabase() {
+        RiskLimitCache cache = newCache(false);
+
+        cache.start();
+
+        assertSame(cache.defaults(), cache.limits(1L));
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void onNotification_LoweredOrderValueRejectsNextOrder() throws Exception {
+        RiskLimitCache cache = newCache(true);
+        RiskLimitValidator validator = new RiskLimitValidator(cache, exposureLedger);
+        when(exposureLedger.orderValue(order)).thenReturn(new BigDecimal("100000"));
+        assertTrue(validator.validate(order, 7L).isValid());
+
+        when(row.getLong("user_id")).thenReturn(7L);
+        when(row.getBoolean("active")).thenReturn(true);
+        when(row.getBigDecimal("max_single_order_value")).thenReturn(new BigDecimal("50000"));
+        doAnswer(invocation -> {
+            invocation.<RowCallbackHandler>getArgument(1).processRow(row);
+            return null;
+        }).when(jdbcTemplate).query(contains("WHERE user_id = ?"), any(RowCallbackHandler.class), eq(7L));
+        cache.onNotification("7");
+
+        assertFalse(validator.validate(order, 7L).isValid());
+        assertEquals(1.0, meterRegistry.get("trading.risk.limits.reloads").tag("source", "notify").counter().count());
+    }
+
+    private RiskLimitCache newCache(boolean enabled) {
+        RiskLimitConfigurationProperties config = new RiskLimitConfigurationProperties(new BigDecimal("10000000"), 100,
+            new BigDecimal("30.0"), new BigDecimal("60.0"), new BigDecimal("0.8"),
+            new RiskLimitConfigurationProperties.Limits(enabled, "notify", 500, 5000L, 60000L));
+        RiskLimitCache cache = new RiskLimitCache(jdbcTemplate, meterRegistry, config);
+        cache.init();
+        return cache;
+    }
+}
@@ -0,0 +1,54 @@
+package com.trademaster.trading.risk.montecarlo;
+
+import com.trademaster.trading.risk.covariance.CovarianceMatrix;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Monte Carlo benchmark
+ *
+ * 200 positions drawn from a 500 instrument covariance, simulated to max-paths (zero
+ * tolerance, so every round runs) on the service's fork-join pool.
+ *
+ * Reports:
+ * - Paths per second, including the tail-contribution replay
+ *
+ * Run with: ./gradlew benchmark
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+@Tag("benchmark")
+class MonteCarloBenchmark {
+
+    private static final int WARMUP_RUNS = 1;
+    private static final int MEASURED_RUNS = 3;
+
+    @Test
+    void twoHundredPositions() {
+        CovarianceMatrix covariance = MonteCarloRiskServiceTest.covariance(500, 42);
+        PositionBook book = MonteCarloRiskServiceTest.book(covariance, 200);
+        covariance.cholesky();
+        MonteCarloRiskService service = MonteCarloRiskServiceTest.newService(0, 0.0);
+
+        for (int run = 0; run < WARMUP_RUNS; run++) {
+            service.simulate(book, covariance, StressScenario.BASELINE, 0.99, 1);
+        }
+        long paths = 0;
+        long nanos = 0;
+        MonteCarloResult result = null;
+        for (int run = 0; run < MEASURED_RUNS; run++) {
+            result = service.simulate(book, covariance, StressScenario.BASELINE, 0.99, 1);
+            paths += result.paths();
+            nanos += result.elapsedNanos();
+        }
+        service.shutdown();
+
+        double pathsPerSecond = paths * 1e9 / nanos;
+        System.out.printf("Monte Carlo, %d positions: %.0f paths/s, VaR %.0f [%.0f, %.0f]%n",
+            book.size(), pathsPerSecond, result.valueAtRisk(), result.varLower(), result.varUpper());
+        assertTrue(pathsPerSecond > 5_000, "Should simulate at least 5k paths per second");
+    }
+}
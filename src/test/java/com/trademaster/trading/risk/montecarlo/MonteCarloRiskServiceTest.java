@@ -0,0 +1,161 @@
+package com.trademaster.trading.risk.montecarlo;
+
+import com.trademaster.trading.risk.covariance.CovarianceMatrix;
+import com.trademaster.trading.risk.covariance.EwmaCovariance;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for MonteCarloRiskService
+ *
+ * Checks the simulated VaR against the closed form for a single lognormal position,
+ * reproducibility across pool sizes, the tail decomposition and scenario shifts.
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+class MonteCarloRiskServiceTest {
+
+    private MonteCarloRiskService service;
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void simulate_SinglePosition_MatchesLognormalQuantile() {
+        service = newService(2, 0.02);
+        double sigma = 0.02;
+        EwmaCovariance ewma = new EwmaCovariance(List.of("AAPL"));
+        ewma.update(new double[] {sigma});
+        PositionBook book = new PositionBook(List.of("AAPL"), new double[] {1_000}, new double[] {150.0});
+
+        MonteCarloResult result = service.simulate(book, ewma.snapshot(), StressScenario.BASELINE, 0.99, 1);
+
+        double expected = -150_000 * Math.expm1(-2.3263478740408408 * sigma);
+        assertTrue(result.converged());
+        assertEquals(expected, result.valueAtRisk(), 0.02 * expected);
+        assertTrue(result.varLower() <= result.valueAtRisk() && result.valueAtRisk() <= result.varUpper());
+        assertTrue(result.expectedShortfall() > result.valueAtRisk());
+        assertEquals(0.5, result.probabilityOfLoss(), 0.02);
+    }
+
+    @Test
+    void simulate_SameSeed_SameResultOnAnyPoolSize() {
+        CovarianceMatrix covariance = covariance(40, 3);
+        PositionBook book = book(covariance, 25);
+
+        service = newService(1, 0.0);
+        MonteCarloResult single = service.simulate(book, covariance, StressScenario.BASELINE, 0.99, 10);
+        service.shutdown();
+        service = newService(4, 0.0);
+        MonteCarloResult parallel = service.simulate(book, covariance, StressScenario.BASELINE, 0.99, 10);
+
+        assertEquals(single.paths(), parallel.paths());
+        assertEquals(single.valueAtRisk(), parallel.valueAtRisk());
+        assertEquals(single.expectedShortfall(), parallel.expectedShortfall());
+        assertArrayEquals(single.tailContributions(), parallel.tailContributions());
+    }
+
+    @Test
+    void simulate_TailContributionsSumToExpectedShortfall() {
+        service = newService(2, 0.0);
+        CovarianceMatrix covariance = covariance(40, 5);
+        PositionBook book = book(covariance, 30);
+
+        MonteCarloResult result = service.simulate(book, covariance, StressScenario.BASELINE, 0.975, 1);
+
+        double total = IntStream.range(0, book.size()).mapToDouble(i -> result.tailContributions()[i]).sum();
+        assertEquals(result.expectedShortfall(), total, 1e-6 * result.expectedShortfall());
+        assertEquals(result.tailContributions()[3], result.contribution(book.instrument(3)));
+        assertEquals(0.0, result.contribution("NOT_HELD"));
+    }
+
+    @Test
+    void simulate_HypotheticalShockWithoutNoise_LosesTheShock() {
+        service = newService(1, 0.01);
+        CovarianceMatrix covariance = covariance(5, 7);
+        PositionBook book = new PositionBook(List.of("SYM0", "SYM1"), new double[] {100, -50}, new double[] {10.0, 20.0});
+        StressScenario crash = StressScenario.hypothetical("CRASH", Map.of("SYM1", -0.10), -0.20, 0.0);
+
+        MonteCarloResult result = service.simulate(book, covariance, crash, 0.99, 1);
+
+        // Long 1,000 at -20%, short 1,000 at -10%
+        assertEquals(-100.0, result.scenarioPnl(), 1e-9);
+        assertEquals(100.0, result.valueAtRisk(), 1e-9);
+        assertEquals(1.0, result.probabilityOfLoss());
+        assertTrue(result.converged());
+        assertEquals(16_384, result.paths());
+    }
+
+    @Test
+    void historicalScenario_CompoundsDailyReturns() {
+        StressScenario replay = StressScenario.historical("MARCH_2020",
+            List.of(Map.of("A", -0.10, "B", 0.02), Map.of("A", -0.05)), 1.5);
+
+        assertEquals(0.9 * 0.95 - 1.0, replay.shocks().get("A"), 1e-15);
+        assertEquals(0.02, replay.shocks().get("B"), 1e-15);
+        assertEquals(Math.log(0.855), replay.logShift("A"), 1e-15);
+        assertEquals(0.0, replay.logShift("C"));
+        assertThrows(IllegalArgumentException.class,
+            () -> StressScenario.hypothetical("BAD", Map.of("A", -1.5), 0.0, 1.0));
+    }
+
+    @Test
+    void simulate_InstrumentWithoutCovariance_Throws() {
+        service = newService(1, 0.01);
+        PositionBook book = new PositionBook(List.of("UNKNOWN"), new double[] {1}, new double[] {1.0});
+
+        assertThrows(IllegalArgumentException.class,
+            () -> service.simulate(book, covariance(3, 1), StressScenario.BASELINE, 0.99, 1));
+    }
+
+    static MonteCarloRiskService newService(int parallelism, double tolerance) {
+        MonteCarloRiskService service = new MonteCarloRiskService(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(service, "batchPaths", 2048);
+        ReflectionTestUtils.setField(service, "minPaths", 16_384);
+        ReflectionTestUtils.setField(service, "maxPaths", 262_144);
+        ReflectionTestUtils.setField(service, "tolerance", tolerance);
+        ReflectionTestUtils.setField(service, "seed", 42L);
+        ReflectionTestUtils.setField(service, "parallelism", parallelism);
+        service.init();
+        return service;
+    }
+
+    /**
+     * EWMA covariance of factor-driven daily returns for SYM0..SYM(n-1)
+     */
+    static CovarianceMatrix covariance(int instruments, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        EwmaCovariance ewma = new EwmaCovariance(IntStream.range(0, instruments).mapToObj(i -> "SYM" + i).toList());
+        double[] loadings = IntStream.range(0, instruments).mapToDouble(i -> random.nextDouble(0.5, 1.5)).toArray();
+        double[] returns = new double[instruments];
+        for (int day = 0; day < instruments * 3; day++) {
+            double market = random.nextGaussian();
+            for (int index = 0; index < instruments; index++) {
+                returns[index] = 0.01 * loadings[index] * market + 0.015 * random.nextGaussian();
+            }
+            ewma.update(returns);
+        }
+        return ewma.snapshot();
+    }
+
+    static PositionBook book(CovarianceMatrix covariance, int positions) {
+        SplittableRandom random = new SplittableRandom(positions);
+        return new PositionBook(
+            IntStream.range(0, positions).mapToObj(covariance::instrument).toList(),
+            IntStream.range(0, positions).mapToDouble(i -> random.nextInt(-200, 1_000)).toArray(),
+            IntStream.range(0, positions).mapToDouble(i -> random.nextDouble(5.0, 500.0)).toArray()
+        );
+    }
+}
@@ -0,0 +1,153 @@
+package com.trademaster.trading.security;
+
+import com.trademaster.trading.config.JwtCacheConfigurationProperties;
+import com.trademaster.trading.config.JwtConfigurationProperties;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for JwtAuthenticationFilter
+ *
+ * Verifies the verified-token cache: repeat requests are served from it, entries lapse at
+ * the token's exp, a revoked token is dropped and rejected, and a full cache still
+ * authenticates new tokens without caching them.
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+class JwtAuthenticationFilterTest {
+
+    private static final String SECRET = "trading-service-test-secret-of-at-least-256-bits";
+    private static final long NOW = 1_750_000_000_000L;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private AtomicLong clock;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong(NOW);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void authenticate_RepeatToken_IsServedFromCache() throws Exception {
+        JwtAuthenticationFilter filter = newFilter(100);
+        String token = token("42", NOW + 60_000);
+
+        Authentication first = authenticate(filter, token);
+        Authentication second = authenticate(filter, token);
+
+        assertNotNull(first);
+        assertEquals(first.getPrincipal(), second.getPrincipal());
+        assertEquals(1.0, cacheRequests("hit"));
+        assertEquals(1.0, cacheRequests("miss"));
+    }
+
+    @Test
+    void authenticate_CachedTokenAtExp_IsNoLongerServedFromCache() throws Exception {
+        JwtAuthenticationFilter filter = newFilter(100);
+        long exp = NOW + 60_000;
+        String token = token("42", exp);
+        authenticate(filter, token);
+
+        clock.set(exp - 1);
+        assertNotNull(authenticate(filter, token));
+        assertEquals(1.0, cacheRequests("hit"));
+
+        clock.set(exp);
+        authenticate(filter, token);
+        assertEquals(1.0, cacheRequests("hit"));
+        assertEquals(2.0, cacheRequests("miss"));
+
+        clock.set(exp + 1_000);
+        assertNull(authenticate(filter, token));
+    }
+
+    @Test
+    void revoke_CachedToken_IsDroppedAndRejected() throws Exception {
+        JwtAuthenticationFilter filter = newFilter(100);
+        String revoked = token("42", NOW + 60_000);
+        String other = token("43", NOW + 60_000);
+        authenticate(filter, revoked);
+        authenticate(filter, other);
+
+        filter.revoke(revoked);
+
+        assertEquals(1.0, cacheSize());
+        assertNull(authenticate(filter, revoked));
+        assertNotNull(authenticate(filter, other));
+        assertEquals(1.0, cacheSize());
+    }
+
+    @Test
+    void authenticate_CacheFull_AuthenticatesWithoutCaching() throws Exception {
+        JwtAuthenticationFilter filter = newFilter(1);
+        authenticate(filter, token("42", NOW + 60_000));
+        String uncached = token("43", NOW + 60_000);
+
+        assertNotNull(authenticate(filter, uncached));
+        assertNotNull(authenticate(filter, uncached));
+
+        assertEquals(1.0, cacheSize());
+        assertEquals(2.0, meterRegistry.get("trading.security.jwt.cache.full").counter().count());
+        assertEquals(0.0, cacheRequests("hit"));
+    }
+
+    private JwtAuthenticationFilter newFilter(int maxEntries) {
+        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(
+            new JwtConfigurationProperties(SECRET, 15, "trademaster", null, 7), meterRegistry,
+            new JwtCacheConfigurationProperties(maxEntries, 300, 60_000), clock::get);
+        filter.initialize();
+        return filter;
+    }
+
+    private static String token(String userId, long expiresAt) {
+        return Jwts.builder()
+            .subject(userId)
+            .claim("username", "trader-" + userId)
+            .claim("roles", List.of("TRADER"))
+            .expiration(new Date(expiresAt))
+            .signWith(new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA256"), Jwts.SIG.HS256)
+            .compact();
+    }
+
+    /**
+     * Runs one request with the bearer token through the filter, returning the
+     * authentication it set, if any
+     */
+    private static Authentication authenticate(JwtAuthenticationFilter filter, String token) throws Exception {
+        SecurityContextHolder.clearContext();
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer " + token);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    private double cacheRequests(String result) {
+        return meterRegistry.get("trading.security.jwt.cache.requests").tag("result", result).counter().count();
+    }
+
+    private double cacheSize() {
+        return meterRegistry.get("trading.security.jwt.cache.size").gauge().value();
+    }
+}
@@ -0,0 +1,88 @@
+package com.trademaster.trading.security.ratelimit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for CountMinSlidingWindow
+ *
+ * Verifies per-key counting, sliding expiry in bucket steps, distinct key estimation and
+ * that a flood of distinct keys leaves memory and other keys' counts bounded.
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+class CountMinSlidingWindowTest {
+
+    private AtomicLong clock;
+    private CountMinSlidingWindow window;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong(1_000_000);
+        window = new CountMinSlidingWindow(60_000, 6, 4, 1024, clock::get);
+    }
+
+    @Test
+    void increment_CountsPerKey() {
+        IntStream.range(0, 5).forEach(i -> window.increment("10.0.0.1"));
+        window.increment("10.0.0.2");
+
+        assertEquals(6, window.increment("10.0.0.1"));
+        assertEquals(6, window.estimate("10.0.0.1"));
+        assertEquals(1, window.estimate("10.0.0.2"));
+        assertEquals(0, window.estimate("10.0.0.3"));
+    }
+
+    @Test
+    void estimate_SlidesOutOldBuckets() {
+        IntStream.range(0, 3).forEach(i -> window.increment("user"));
+        clock.addAndGet(30_000);
+        IntStream.range(0, 2).forEach(i -> window.increment("user"));
+        assertEquals(5, window.estimate("user"));
+
+        clock.addAndGet(30_000);
+        assertEquals(2, window.estimate("user"));
+
+        clock.addAndGet(30_000);
+        assertEquals(0, window.estimate("user"));
+        assertEquals(0, window.distinctKeys());
+    }
+
+    @Test
+    void distinctKeys_CountsFirstSightingsInWindow() {
+        IntStream.range(0, 100).forEach(i -> {
+            window.increment("ip-" + i);
+            window.increment("ip-" + i);
+        });
+
+        assertEquals(100, window.distinctKeys(), 2);
+    }
+
+    @Test
+    void increment_FloodOfDistinctKeysKeepsMemoryFixed() {
+        long footprint = window.footprintBytes();
+        IntStream.range(0, 3).forEach(i -> window.increment("victim"));
+
+        IntStream.range(0, 200_000).forEach(i -> window.increment("attacker-" + i));
+
+        assertEquals(footprint, window.footprintBytes());
+        long victim = window.estimate("victim");
+        assertTrue(victim >= 3, "count-min never under-estimates");
+        assertTrue(victim < 3 + 200_000 / 100, "over-estimate bounded by width");
+    }
+
+    @Test
+    void clear_ForgetsEveryCount() {
+        window.increment("user");
+        window.clear();
+
+        assertEquals(0, window.estimate("user"));
+        assertEquals(0, window.distinctKeys());
+    }
+}
@@ -0,0 +1,132 @@
+package com.trademaster.trading.service;
+
+import com.trademaster.trading.config.VolumeProfileConfigurationProperties;
+import com.trademaster.trading.dto.MarketDataMessage;
+import com.trademaster.trading.service.IntradayVolumeProfileService.VolumeCurve;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for IntradayVolumeProfileService
+ *
+ * Covers which bucket a print lands in around the session open and close, normalisation
+ * of execution-window profiles, and the default U-shaped curve served until a symbol has
+ * a completed session.
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+class IntradayVolumeProfileServiceTest {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Kolkata");
+    private static final LocalDate SESSION_DAY = LocalDate.of(2026, 10, 16);
+    private static final String SYMBOL = "RELIANCE";
+    private static final double DELTA = 1e-9;
+
+    private AtomicLong clock;
+    private IntradayVolumeProfileService service;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong(at(SESSION_DAY, "12:00:00").toEpochMilli());
+        service = new IntradayVolumeProfileService(
+            new VolumeProfileConfigurationProperties(5, 20, "09:15", "15:30", "Asia/Kolkata"), clock::get);
+        service.initialize();
+    }
+
+    @Test
+    void onTrade_PrintsAroundOpenAndClose_LandInSessionBucketsOnly() {
+        trade("09:14:59", "999.00", 1_000);
+        trade("09:15:00", "100.00", 100);
+        trade("09:19:59", "100.00", 100);
+        trade("09:20:00", "100.00", 200);
+        trade("15:29:59", "100.00", 400);
+        trade("15:30:00", "999.00", 1_000);
+
+        assertEquals(Optional.of(new BigDecimal("100.00")), service.getSessionVwap(SYMBOL));
+
+        clock.set(at(SESSION_DAY.plusDays(1), "09:00:00").toEpochMilli());
+        VolumeCurve curve = service.getCurve(SYMBOL);
+
+        assertEquals(1, curve.sampleDays());
+        assertEquals(75, curve.bucketCount());
+        assertEquals(0.25, curve.fractionBetween(LocalTime.of(9, 15), LocalTime.of(9, 20)), DELTA);
+        assertEquals(0.25, curve.fractionBetween(LocalTime.of(9, 20), LocalTime.of(9, 25)), DELTA);
+        assertEquals(0.50, curve.fractionBetween(LocalTime.of(15, 25), LocalTime.of(15, 30)), DELTA);
+        assertEquals(0.0, curve.fractionBetween(LocalTime.of(9, 0), LocalTime.of(9, 15)), DELTA);
+        assertEquals(0.0, curve.fractionBetween(LocalTime.of(15, 30), LocalTime.of(16, 0)), DELTA);
+    }
+
+    @Test
+    void windowProfile_WindowRunningPastClose_IsNormalisedOverSessionPart() {
+        long[] volumes = new long[service.getBucketCount()];
+        Arrays.fill(volumes, 10);
+        service.recordSessionVolumes(SYMBOL, volumes);
+
+        double[] profile = service.windowProfile(SYMBOL, at(SESSION_DAY, "15:20:00"), 5, 4);
+
+        assertArrayEquals(new double[] {0.5, 0.5, 0.0, 0.0}, profile, DELTA);
+    }
+
+    @Test
+    void windowProfile_UnevenHistory_SumsToOneInVolumeProportion() {
+        long[] volumes = new long[service.getBucketCount()];
+        volumes[0] = 300;
+        volumes[1] = 100;
+        volumes[2] = 100;
+        service.recordSessionVolumes(SYMBOL, volumes);
+
+        double[] profile = service.windowProfile(SYMBOL, at(SESSION_DAY, "09:15:00"), 5, 2);
+
+        assertArrayEquals(new double[] {0.75, 0.25}, profile, DELTA);
+        assertEquals(1.0, Arrays.stream(profile).sum(), DELTA);
+    }
+
+    @Test
+    void windowProfile_WindowOutsideSession_FallsBackToEqualWeights() {
+        double[] profile = service.windowProfile(SYMBOL, at(SESSION_DAY, "16:00:00"), 10, 4);
+
+        assertArrayEquals(new double[] {0.25, 0.25, 0.25, 0.25}, profile, DELTA);
+    }
+
+    @Test
+    void getCurve_NoHistory_ReturnsDefaultProfile() {
+        VolumeCurve curve = service.getCurve("UNKNOWN");
+
+        assertEquals(0, curve.sampleDays());
+        assertEquals(75, curve.bucketCount());
+        // First half-hour holds 6 buckets at 0.12 of the 5.82 total default weight
+        assertEquals(0.72 / 5.82, curve.fractionBetween(LocalTime.of(9, 15), LocalTime.of(9, 45)), DELTA);
+        assertEquals(1.0, curve.fractionBetween(LocalTime.of(9, 15), LocalTime.of(15, 30)), DELTA);
+    }
+
+    @Test
+    void getCurve_OnlyCurrentSessionTraded_KeepsDefaultProfile() {
+        trade("09:15:00", "100.00", 500);
+
+        VolumeCurve curve = service.getCurve(SYMBOL);
+
+        assertSame(service.getCurve("UNKNOWN"), curve);
+        assertEquals(0, curve.sampleDays());
+    }
+
+    private void trade(String time, String price, long quantity) {
+        service.onTrade(new MarketDataMessage.TradeExecution(
+            SYMBOL, "NSE", new BigDecimal(price), quantity, "BUY", at(SESSION_DAY, time)));
+    }
+
+    private static Instant at(LocalDate day, String time) {
+        return day.atTime(LocalTime.parse(time)).atZone(ZONE).toInstant();
+    }
+}
@@ -0,0 +1,136 @@
+package com.trademaster.trading.service;
+
+import com.trademaster.trading.dto.OrderRequest;
+import com.trademaster.trading.dto.OrderResponse;
+import com.trademaster.trading.metrics.TradingMetricsService;
+import com.trademaster.trading.model.OrderSide;
+import com.trademaster.trading.model.OrderStatus;
+import com.trademaster.trading.model.OrderType;
+import com.trademaster.trading.model.TimeInForce;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for SmartOrderSplitEngine
+ *
+ * Covers liquidity-capped allocation, fill-driven re-allocation of rejected quantity,
+ * timeout handling and the protective slippage limit on MARKET children.
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+class SmartOrderSplitEngineTest {
+
+    @Mock
+    private TradingMetricsService metricsService;
+
+    private SmartOrderSplitEngine splitEngine;
+
+    @BeforeEach
+    void setUp() {
+        splitEngine = new SmartOrderSplitEngine(metricsService);
+        ReflectionTestUtils.setField(splitEngine, "windowMillis", 500L);
+        ReflectionTestUtils.setField(splitEngine, "maxSlippageBps", 25.0);
+        ReflectionTestUtils.setField(splitEngine, "maxChildren", 20);
+    }
+
+    @Test
+    void allocate_CapsByLiquidityAndSpillsToBrokersWithSpareDepth() {
+        SmartOrderSplitEngine.SplitRequest request = splitRequest(1000, List.of(
+            new SmartOrderSplitEngine.BrokerSlot("ZERODHA", 0.5, 200),
+            new SmartOrderSplitEngine.BrokerSlot("UPSTOX", 0.3, 1000),
+            new SmartOrderSplitEngine.BrokerSlot("ANGELONE", 0.2, 1000)));
+
+        List<SmartOrderSplitEngine.ChildAllocation> allocations = splitEngine.allocate(1000, request, Set.of());
+
+        assertEquals(1000, allocations.stream().mapToInt(SmartOrderSplitEngine.ChildAllocation::quantity).sum());
+        assertEquals(200, quantityFor(allocations, "ZERODHA"));
+        assertEquals(800, quantityFor(allocations, "UPSTOX") + quantityFor(allocations, "ANGELONE"));
+    }
+
+    @Test
+    void execute_ReallocatesRejectedQuantityToHealthyBrokers() {
+        SmartOrderSplitEngine.SplitRequest request = splitRequest(1000, List.of(
+            new SmartOrderSplitEngine.BrokerSlot("ZERODHA", 0.5, 10_000),
+            new SmartOrderSplitEngine.BrokerSlot("UPSTOX", 0.5, 10_000)));
+
+        SmartOrderSplitEngine.SplitExecutionReport report = splitEngine.execute(request,
+            (child, broker) -> response(child, broker,
+                "ZERODHA".equals(broker) ? OrderStatus.REJECTED : OrderStatus.ACKNOWLEDGED));
+
+        assertEquals(1000, report.placedQuantity());
+        assertEquals(0, report.unplacedQuantity());
+        assertEquals(3, report.fills().size());
+        assertTrue(report.fills().stream()
+            .filter(fill -> fill.outcome() == SmartOrderSplitEngine.SplitOutcome.REJECTED)
+            .allMatch(fill -> "ZERODHA".equals(fill.broker())));
+        verify(metricsService, times(3)).recordSplitExecution(anyString(), anyString(), anyLong());
+    }
+
+    @Test
+    void execute_ReportsSlowChildrenAsTimedOutWithoutResending() {
+        ReflectionTestUtils.setField(splitEngine, "windowMillis", 50L);
+        SmartOrderSplitEngine.SplitRequest request = splitRequest(100, List.of(
+            new SmartOrderSplitEngine.BrokerSlot("ZERODHA", 1.0, 10_000)));
+
+        SmartOrderSplitEngine.SplitExecutionReport report = splitEngine.execute(request, (child, broker) -> {
+            Thread.sleep(5_000);
+            return response(child, broker, OrderStatus.ACKNOWLEDGED);
+        });
+
+        assertEquals(100, report.timedOutQuantity());
+        assertEquals(1, report.fills().size());
+        assertEquals(SmartOrderSplitEngine.SplitOutcome.TIMED_OUT, report.fills().get(0).outcome());
+    }
+
+    @Test
+    void protectivePrice_BoundsChildAtSlippageCap() {
+        assertEquals(new BigDecimal("1002.50"), splitEngine.protectivePrice(new BigDecimal("1000"), OrderSide.BUY));
+        assertEquals(new BigDecimal("997.50"), splitEngine.protectivePrice(new BigDecimal("1000"), OrderSide.SELL));
+    }
+
+    private SmartOrderSplitEngine.SplitRequest splitRequest(int quantity,
+                                                            List<SmartOrderSplitEngine.BrokerSlot> brokers) {
+        OrderRequest parent = OrderRequest.builder()
+            .symbol("RELIANCE")
+            .exchange("NSE")
+            .orderType(OrderType.MARKET)
+            .side(OrderSide.BUY)
+            .quantity(quantity)
+            .timeInForce(TimeInForce.DAY)
+            .build();
+        return new SmartOrderSplitEngine.SplitRequest(parent, "test-correlation", brokers,
+            new BigDecimal("2450.00"), 5);
+    }
+
+    private OrderResponse response(OrderRequest child, String broker, OrderStatus status) {
+        return OrderResponse.builder()
+            .orderId("ORD-" + broker)
+            .symbol(child.symbol())
+            .quantity(child.quantity())
+            .limitPrice(child.limitPrice())
+            .status(status)
+            .brokerName(broker)
+            .build();
+    }
+
+    private int quantityFor(List<SmartOrderSplitEngine.ChildAllocation> allocations, String broker) {
+        return allocations.stream()
+            .filter(allocation -> allocation.broker().equals(broker))
+            .mapToInt(SmartOrderSplitEngine.ChildAllocation::quantity)
+            .sum();
+    }
+}
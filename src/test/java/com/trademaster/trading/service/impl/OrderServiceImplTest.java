@@ -0,0 +1,275 @@
+package com.trademaster.trading.service.impl;
+
+import com.trademaster.common.functional.Result;
+import com.trademaster.trading.audit.AuditDurability;
+import com.trademaster.trading.audit.AuditLogWriter;
+import com.trademaster.trading.audit.AuditRecord;
+import com.trademaster.trading.client.BrokerAuthClient;
+import com.trademaster.trading.common.TradeError;
+import com.trademaster.trading.dto.OrderRequest;
+import com.trademaster.trading.dto.OrderResponse;
+import com.trademaster.trading.entity.Order;
+import com.trademaster.trading.logging.LogSampler;
+import com.trademaster.trading.logging.RequestOutcome;
+import com.trademaster.trading.metrics.AlertingService;
+import com.trademaster.trading.metrics.TradingMetricsService;
+import com.trademaster.trading.metrics.latency.OrderLatencyRecorder;
+import com.trademaster.trading.model.OrderSide;
+import com.trademaster.trading.model.OrderStatus;
+import com.trademaster.trading.model.OrderType;
+import com.trademaster.trading.pnl.StreamingPnLEngine;
+import com.trademaster.trading.repository.OrderRepository;
+import com.trademaster.trading.risk.control.ControlVerdict;
+import com.trademaster.trading.risk.control.OrderControls;
+import com.trademaster.trading.risk.exposure.ExposureLedger;
+import com.trademaster.trading.risk.exposure.Reservation;
+import com.trademaster.trading.routing.OrderRouter;
+import com.trademaster.trading.service.TradingEventPublisher;
+import com.trademaster.trading.validation.ValidationResult;
+import com.trademaster.trading.validation.pipeline.ValidatorPipeline;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for OrderServiceImpl
+ *
+ * Covers refused placements staying clear of the database, what an admitted placement gives back when it does not complete (the buying
+ * power reserved in the exposure ledger and the open-order slot) including when its
+ * transaction is rolled back or fails to commit, and modifications
+ * refused by the ledger before they reach the broker. In-memory updates that follow a
+ * fill, and its durable audit record, are checked to wait for the transaction to commit.
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+class OrderServiceImplTest {
+
+    private static final Long USER_ID = 12345L;
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private ValidatorPipeline validatorPipeline;
+
+    @Mock
+    private OrderRouter orderRouter;
+
+    @Mock
+    private TradingEventPublisher eventPublisher;
+
+    @Mock
+    private BrokerAuthClient brokerAuthClient;
+
+    @Mock
+    private TradingMetricsService metricsService;
+
+    @Mock
+    private AlertingService alertingService;
+
+    @Mock
+    private AsyncTaskExecutor orderProcessingExecutor;
+
+    @Mock
+    private AuditLogWriter auditLogWriter;
+
+    @Mock
+    private OrderLatencyRecorder latencyRecorder;
+
+    @Mock
+    private LogSampler logSampler;
+
+    @Mock
+    private StreamingPnLEngine pnlEngine;
+
+    @Mock
+    private ExposureLedger exposureLedger;
+
+    @Mock
+    private OrderControls orderControls;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private OrderRequest orderRequest;
+
+    @InjectMocks
+    private OrderServiceImpl orderService;
+
+    @Test
+    void placeOrder_SaveFails_ReleasesReservation() {
+        when(orderControls.admit(USER_ID, orderRequest)).thenReturn(ControlVerdict.ADMITTED);
+        when(validatorPipeline.validate(orderRequest, USER_ID)).thenReturn(ValidationResult.success("pipeline"));
+        when(exposureLedger.reserve(any(Order.class))).thenReturn(Reservation.RESERVED);
+        when(orderRepository.save(any(Order.class))).thenThrow(new IllegalStateException("connection reset"));
+
+        Result<OrderResponse, TradeError> result = orderService.placeOrder(orderRequest, USER_ID);
+
+        assertFalse(result.isSuccess());
+        ArgumentCaptor<Order> reserved = ArgumentCaptor.forClass(Order.class);
+        verify(exposureLedger).reserve(reserved.capture());
+        verify(exposureLedger).release(reserved.getValue());
+        verify(orderControls).close(USER_ID);
+        verifyNoInteractions(orderRouter);
+    }
+
+    @Test
+    void placeOrder_ValidationFails_RollsBackTransaction() {
+        TransactionStatus status = mock(TransactionStatus.class);
+        when(transactionManager.getTransaction(any())).thenReturn(status);
+        when(orderControls.admit(USER_ID, orderRequest)).thenReturn(ControlVerdict.ADMITTED);
+        when(validatorPipeline.validate(orderRequest, USER_ID))
+            .thenReturn(ValidationResult.failure("pipeline", "Quantity must be positive"));
+
+        Result<OrderResponse, TradeError> result = orderService.placeOrder(orderRequest, USER_ID);
+
+        assertFalse(result.isSuccess());
+        verify(status).setRollbackOnly();
+        verify(transactionManager).commit(status);
+        verify(orderControls).close(USER_ID);
+    }
+
+    @Test
+    void placeOrder_CommitFails_ClosesSlotAndLogTail() {
+        when(orderControls.admit(USER_ID, orderRequest)).thenReturn(ControlVerdict.ADMITTED);
+        when(validatorPipeline.validate(orderRequest, USER_ID))
+            .thenReturn(ValidationResult.failure("pipeline", "Quantity must be positive"));
+        doThrow(new DataAccessResourceFailureException("connection reset"))
+            .when(transactionManager).commit(any());
+
+        Result<OrderResponse, TradeError> result = orderService.placeOrder(orderRequest, USER_ID);
+
+        assertTrue(result.fold(response -> false, error -> error instanceof TradeError.DataError.DatabaseError));
+        verify(logSampler).complete(anyString(), eq(RequestOutcome.ERROR));
+        verify(orderControls).close(USER_ID);
+    }
+
+    @Test
+    void placeOrder_RefusedByControls_NeverTouchesDataSource() throws NoSuchMethodException {
+        DataSource dataSource = mock(DataSource.class);
+        OrderServiceImpl service = new OrderServiceImpl(orderRepository, validatorPipeline, orderRouter, eventPublisher,
+            brokerAuthClient, metricsService, alertingService, orderProcessingExecutor, auditLogWriter, latencyRecorder,
+            logSampler, pnlEngine, exposureLedger, orderControls, new DataSourceTransactionManager(dataSource));
+        when(orderControls.admit(USER_ID, orderRequest)).thenReturn(ControlVerdict.USER_RATE);
+
+        Result<OrderResponse, TradeError> result = service.placeOrder(orderRequest, USER_ID);
+
+        assertFalse(result.isSuccess());
+        verifyNoInteractions(dataSource, orderRepository, validatorPipeline, exposureLedger);
+        // The transaction opens inside the admitted path, not around the entry point
+        assertNull(OrderServiceImpl.class.getMethod("placeOrder", OrderRequest.class, Long.class)
+            .getAnnotation(Transactional.class));
+    }
+
+    @Test
+    void modifyOrder_BeyondBuyingPower_NeverReachesBroker() {
+        Order order = Order.builder()
+            .userId(USER_ID)
+            .symbol("TCS")
+            .exchange("NSE")
+            .orderType(OrderType.LIMIT)
+            .side(OrderSide.BUY)
+            .quantity(3)
+            .limitPrice(new BigDecimal("4000.00"))
+            .status(OrderStatus.ACKNOWLEDGED)
+            .build();
+        when(orderRepository.findByOrderIdAndUserId(order.getOrderId(), USER_ID)).thenReturn(Optional.of(order));
+        when(validatorPipeline.validate(orderRequest, USER_ID)).thenReturn(ValidationResult.success("pipeline"));
+        // The mocked request keeps every term null
+        when(exposureLedger.modify(order, null, null, null)).thenReturn(Reservation.INSUFFICIENT_BUYING_POWER);
+
+        Result<OrderResponse, TradeError> result = orderService.modifyOrder(order.getOrderId(), orderRequest, USER_ID);
+
+        assertFalse(result.isSuccess());
+        verifyNoInteractions(brokerAuthClient, orderProcessingExecutor);
+        verify(orderRepository, never()).save(any(Order.class));
+        assertEquals(3, order.getQuantity());
+    }
+
+    @Test
+    void processOrderFill_InMemoryUpdatesWaitForCommit() {
+        Order order = Order.builder()
+            .userId(USER_ID)
+            .symbol("INFY")
+            .exchange("NSE")
+            .orderType(OrderType.LIMIT)
+            .side(OrderSide.BUY)
+            .quantity(10)
+            .limitPrice(new BigDecimal("1500.00"))
+            .status(OrderStatus.ACKNOWLEDGED)
+            .build();
+        when(orderRepository.save(order)).thenReturn(order);
+        BigDecimal price = new BigDecimal("1490.00");
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            orderService.processOrderFill(order, 10, price);
+
+            // A rollback from here on must find the P&L book, ledger and slots untouched,
+            // and no audit record of the fill
+            verifyNoInteractions(pnlEngine, exposureLedger, orderControls, auditLogWriter);
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(pnlEngine).applyFill(USER_ID, "INFY", "NSE", OrderSide.BUY, 10, price);
+            verify(exposureLedger).fill(order, 10, price);
+            verify(orderControls).close(USER_ID);
+            verify(auditLogWriter).write(any(AuditRecord.class), eq(AuditDurability.SYNC));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void processOrderFill_RolledBack_AuditsRollback() {
+        Order order = Order.builder()
+            .userId(USER_ID)
+            .symbol("INFY")
+            .exchange("NSE")
+            .orderType(OrderType.LIMIT)
+            .side(OrderSide.BUY)
+            .quantity(10)
+            .limitPrice(new BigDecimal("1500.00"))
+            .status(OrderStatus.ACKNOWLEDGED)
+            .build();
+        when(orderRepository.save(order)).thenReturn(order);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            orderService.processOrderFill(order, 10, new BigDecimal("1490.00"));
+
+            TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+            ArgumentCaptor<AuditRecord> record = ArgumentCaptor.forClass(AuditRecord.class);
+            verify(auditLogWriter).write(record.capture(), eq(AuditDurability.ASYNC));
+            assertEquals("UPDATE_ROLLED_BACK", record.getValue().action());
+            verify(auditLogWriter, never()).write(any(AuditRecord.class), eq(AuditDurability.SYNC));
+            verifyNoInteractions(pnlEngine, exposureLedger);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+}
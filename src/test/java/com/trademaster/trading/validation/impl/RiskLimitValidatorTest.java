@@ -0,0 +1,107 @@
+package com.trademaster.trading.validation.impl;
+
+import com.trademaster.trading.dto.OrderRequest;
+import com.trademaster.trading.model.OrderSide;
+import com.trademaster.trading.risk.exposure.ExposureLedger;
+import com.trademaster.trading.risk.limits.RiskLimitCache;
+import com.trademaster.trading.risk.limits.UserRiskLimits;
+import com.trademaster.trading.validation.ValidationResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for RiskLimitValidator
+ *
+ * Each of the user's limits rejects on its own; concentration is left to the ledger's
+ * own refusal until the user is reconciled.
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+class RiskLimitValidatorTest {
+
+    private static final Long USER_ID = 42L;
+    private static final UserRiskLimits LIMITS = new UserRiskLimits(new BigDecimal("500000"), 10,
+        new BigDecimal("30.0"), new BigDecimal("60.0"), new BigDecimal("0.8"));
+
+    @Mock
+    private RiskLimitCache riskLimitCache;
+
+    @Mock
+    private ExposureLedger exposureLedger;
+
+    @Mock
+    private OrderRequest order;
+
+    @InjectMocks
+    private RiskLimitValidator validator;
+
+    @BeforeEach
+    void setUp() {
+        when(riskLimitCache.limits(USER_ID)).thenReturn(LIMITS);
+    }
+
+    @Test
+    void validate_OverMaxOrderValue_IsRejected() {
+        when(exposureLedger.orderValue(order)).thenReturn(new BigDecimal("600000"));
+
+        ValidationResult result = validator.validate(order, USER_ID);
+
+        assertFalse(result.isValid());
+        assertTrue(result.getErrorMessages().get(0).startsWith("Order value limit exceeded"));
+    }
+
+    @Test
+    void validate_DailyTradesUsedUp_IsRejected() {
+        when(exposureLedger.orderValue(order)).thenReturn(new BigDecimal("100000"));
+        when(exposureLedger.tradesToday(USER_ID)).thenReturn(10);
+
+        ValidationResult result = validator.validate(order, USER_ID);
+
+        assertFalse(result.isValid());
+        assertTrue(result.getErrorMessages().get(0).startsWith("Daily trade limit exceeded"));
+    }
+
+    @Test
+    void validate_BuyOverSymbolConcentration_IsRejected() {
+        when(order.side()).thenReturn(OrderSide.BUY);
+        when(order.symbol()).thenReturn("RELIANCE");
+        when(exposureLedger.orderValue(order)).thenReturn(new BigDecimal("100000"));
+        when(exposureLedger.isReconciled(USER_ID)).thenReturn(true);
+        when(exposureLedger.symbolConcentration(USER_ID, "RELIANCE", new BigDecimal("100000")))
+            .thenReturn(new BigDecimal("35.00"));
+
+        ValidationResult result = validator.validate(order, USER_ID);
+
+        assertFalse(result.isValid());
+        assertTrue(result.getErrorMessages().get(0).startsWith("Concentration risk for RELIANCE"));
+    }
+
+    @Test
+    void validate_BuyBeforeReconciliation_SkipsConcentration() {
+        when(order.side()).thenReturn(OrderSide.BUY);
+        when(order.symbol()).thenReturn("RELIANCE");
+        when(exposureLedger.orderValue(order)).thenReturn(new BigDecimal("100000"));
+        when(exposureLedger.sectorOf("RELIANCE")).thenReturn(Optional.of("ENERGY"));
+
+        ValidationResult result = validator.validate(order, USER_ID);
+
+        assertTrue(result.isValid());
+        verify(exposureLedger, never()).symbolConcentration(any(), any(), any());
+        verify(exposureLedger, never()).sectorConcentration(any(), any(), any());
+    }
+}
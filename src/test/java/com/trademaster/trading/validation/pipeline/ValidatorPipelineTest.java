@@ -0,0 +1,274 @@
+package com.trademaster.trading.validation.pipeline;
+
+import com.trademaster.trading.config.ValidationConfigurationProperties;
+import com.trademaster.trading.dto.OrderRequest;
+import com.trademaster.trading.entity.Order;
+import com.trademaster.trading.integration.client.PortfolioServiceClient;
+import com.trademaster.trading.metrics.latency.OrderLatencyRecorder;
+import com.trademaster.trading.risk.limits.RiskLimitCache;
+import com.trademaster.trading.validation.OrderValidator;
+import com.trademaster.trading.validation.ValidationResult;
+import com.trademaster.trading.validation.ValidatorCost;
+import com.trademaster.trading.validation.impl.FunctionalOrderValidator;
+import com.trademaster.trading.validation.impl.MarginRequirementValidator;
+import com.trademaster.trading.validation.impl.PositionLimitValidator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * Unit tests for ValidatorPipeline
+ *
+ * Covers short-circuiting of CPU validators, dependency ordering, the portfolio-service
+ * validators forming one IO wave, concurrent IO waves with cancellation and timeout, and
+ * reordering by observed latency and rejection rate.
+ *
+ * @author TradeMaster Development Team
+ * @version 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+class ValidatorPipelineTest {
+
+    @Mock
+    private OrderLatencyRecorder latencyRecorder;
+
+    @Mock
+    private PortfolioServiceClient portfolioClient;
+
+    @Mock
+    private RiskLimitCache riskLimitCache;
+
+    @Test
+    void validate_StopsAtFirstRejection() {
+        StubValidator symbol = new StubValidator("symbol", 1, ValidatorCost.CPU, Set.of(), () -> reject("symbol"));
+        StubValidator quantity = new StubValidator("quantity", 2, ValidatorCost.CPU, Set.of(), () -> pass("quantity"));
+        StubValidator margin = new StubValidator("margin", 3, ValidatorCost.IO, Set.of(), () -> pass("margin"));
+        ValidatorPipeline pipeline = newPipeline(List.of(margin, quantity, symbol), 2000, 200);
+
+        ValidationResult result = pipeline.validate(null, 1L);
+
+        assertFalse(result.isValid());
+        assertEquals(List.of("symbol rejected"), result.getErrorMessages());
+        assertEquals(1, symbol.runs.get());
+        assertEquals(0, quantity.runs.get());
+        assertEquals(0, margin.runs.get());
+    }
+
+    @Test
+    void plan_DependenciesRunFirstAndIoAfterCpu() {
+        StubValidator price = new StubValidator("price", 1, ValidatorCost.CPU, Set.of("symbol"), () -> pass("price"));
+        StubValidator symbol = new StubValidator("symbol", 2, ValidatorCost.CPU, Set.of(), () -> pass("symbol"));
+        StubValidator margin = new StubValidator("margin", 0, ValidatorCost.IO, Set.of(), () -> pass("margin"));
+        StubValidator limits = new StubValidator("limits", 3, ValidatorCost.CPU, Set.of("margin", "unknown"),
+            () -> pass("limits"));
+        ValidatorPipeline pipeline = newPipeline(List.of(price, symbol, margin, limits), 2000, 200);
+
+        assertEquals(List.of("symbol", "price", "margin", "limits"), pipeline.order());
+        assertTrue(pipeline.validate(null, 1L).isValid());
+    }
+
+    @Test
+    void plan_PortfolioServiceValidatorsShareOneIoWave() {
+        List<OrderValidator> validators = List.of(
+            new MarginRequirementValidator(portfolioClient, riskLimitCache),
+            new FunctionalOrderValidator(new SimpleMeterRegistry()),
+            new PositionLimitValidator(portfolioClient));
+
+        ValidationPlan plan = ValidationPlan.of(validators, Comparator.comparingInt(OrderValidator::getPriority));
+
+        assertEquals(List.of("FunctionalOrderValidator"),
+            plan.sequential().stream().map(OrderValidator::getValidatorName).toList());
+        assertEquals(1, plan.waves().size());
+        assertEquals(List.of("PositionLimitValidator", "MarginRequirementValidator"),
+            plan.waves().get(0).stream().map(OrderValidator::getValidatorName).toList());
+        // Planning reads only validator metadata
+        verifyNoInteractions(portfolioClient, riskLimitCache);
+    }
+
+    @Test
+    void plan_DependencyCycleRefused() {
+        StubValidator a = new StubValidator("a", 1, ValidatorCost.CPU, Set.of("b"), () -> pass("a"));
+        StubValidator b = new StubValidator("b", 2, ValidatorCost.CPU, Set.of("a"), () -> pass("b"));
+
+        assertThrows(IllegalStateException.class, () -> newPipeline(List.of(a, b), 2000, 200));
+    }
+
+    @Test
+    void ioWave_RunsValidatorsConcurrently() {
+        CyclicBarrier bothRunning = new CyclicBarrier(2);
+        StubValidator margin = new StubValidator("margin", 1, ValidatorCost.IO, Set.of(), () -> {
+            await(bothRunning);
+            return pass("margin");
+        });
+        StubValidator position = new StubValidator("position", 2, ValidatorCost.IO, Set.of(), () -> {
+            await(bothRunning);
+            return pass("position");
+        });
+        ValidatorPipeline pipeline = newPipeline(List.of(margin, position), 2000, 200);
+
+        ValidationResult result = pipeline.validate(null, 1L);
+
+        assertTrue(result.isValid(), result.getConsolidatedErrorMessage());
+        assertEquals(1, margin.runs.get());
+        assertEquals(1, position.runs.get());
+    }
+
+    @Test
+    void ioWave_RejectionCancelsSlowerValidators() {
+        StubValidator margin = new StubValidator("margin", 1, ValidatorCost.IO, Set.of(), () -> reject("margin"));
+        StubValidator position = new StubValidator("position", 2, ValidatorCost.IO, Set.of(), () -> {
+            sleep(5000);
+            return pass("position");
+        });
+        ValidatorPipeline pipeline = newPipeline(List.of(margin, position), 10_000, 200);
+
+        long started = System.nanoTime();
+        ValidationResult result = pipeline.validate(null, 1L);
+
+        assertFalse(result.isValid());
+        assertEquals(List.of("margin rejected"), result.getErrorMessages());
+        assertTrue(System.nanoTime() - started < TimeUnit.SECONDS.toNanos(2));
+    }
+
+    @Test
+    void ioWave_TimeoutRejectsOrder() {
+        StubValidator margin = new StubValidator("margin", 1, ValidatorCost.IO, Set.of(), () -> pass("margin"));
+        StubValidator position = new StubValidator("position", 2, ValidatorCost.IO, Set.of(), () -> {
+            sleep(5000);
+            return pass("position");
+        });
+        ValidatorPipeline pipeline = newPipeline(List.of(margin, position), 100, 200);
+
+        ValidationResult result = pipeline.validate(null, 1L);
+
+        assertFalse(result.isValid());
+        assertEquals(List.of("Order validation timed out waiting for position"), result.getErrorMessages());
+    }
+
+    @Test
+    void retune_CheapFrequentRejecterMovesFirst() {
+        StubValidator slow = new StubValidator("slow", 1, ValidatorCost.CPU, Set.of(), () -> {
+            sleep(2);
+            return pass("slow");
+        });
+        AtomicInteger orders = new AtomicInteger();
+        StubValidator picky = new StubValidator("picky", 2, ValidatorCost.CPU, Set.of(),
+            () -> orders.incrementAndGet() % 2 == 0 ? reject("picky") : pass("picky"));
+        ValidatorPipeline pipeline = newPipeline(List.of(slow, picky), 2000, 10);
+
+        for (int i = 0; i < 5; i++) {
+            pipeline.validate(null, 1L);
+        }
+        pipeline.retune();
+        // Too few samples to reorder yet
+        assertEquals(List.of("slow", "picky"), pipeline.order());
+
+        for (int i = 0; i < 10; i++) {
+            pipeline.validate(null, 1L);
+        }
+        pipeline.retune();
+        assertEquals(List.of("picky", "slow"), pipeline.order());
+
+        int slowRuns = slow.runs.get();
+        for (int i = 0; i < 10; i++) {
+            pipeline.validate(null, 1L);
+        }
+        // Rejected orders no longer reach the slow validator
+        assertEquals(5, slow.runs.get() - slowRuns);
+    }
+
+    private ValidatorPipeline newPipeline(List<OrderValidator> validators, long timeoutMillis, long minSamples) {
+        ValidatorPipeline pipeline = new ValidatorPipeline(validators, latencyRecorder, new SimpleMeterRegistry(),
+            new ValidationConfigurationProperties(true, timeoutMillis, minSamples, 0.3));
+        pipeline.init();
+        return pipeline;
+    }
+
+    private static ValidationResult pass(String name) {
+        return ValidationResult.success(name);
+    }
+
+    private static ValidationResult reject(String name) {
+        return ValidationResult.failure(name, name + " rejected");
+    }
+
+    private static void await(CyclicBarrier barrier) {
+        try {
+            barrier.await(1, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            throw new IllegalStateException("IO validators did not run concurrently", e);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private interface Check {
+        ValidationResult run();
+    }
+
+    private static final class StubValidator implements OrderValidator {
+        private final String name;
+        private final int priority;
+        private final ValidatorCost cost;
+        private final Set<String> dependencies;
+        private final Check check;
+        private final AtomicInteger runs = new AtomicInteger();
+
+        StubValidator(String name, int priority, ValidatorCost cost, Set<String> dependencies, Check check) {
+            this.name = name;
+            this.priority = priority;
+            this.cost = cost;
+            this.dependencies = dependencies;
+            this.check = check;
+        }
+
+        @Override
+        public ValidationResult validate(OrderRequest orderRequest, Long userId) {
+            runs.incrementAndGet();
+            return check.run();
+        }
+
+        @Override
+        public ValidationResult validateModification(Order existingOrder, OrderRequest modificationRequest, Long userId) {
+            return validate(modificationRequest, userId);
+        }
+
+        @Override
+        public int getPriority() {
+            return priority;
+        }
+
+        @Override
+        public String getValidatorName() {
+            return name;
+        }
+
+        @Override
+        public ValidatorCost getCost() {
+            return cost;
+        }
+
+        @Override
+        public Set<String> getDependencies() {
+            return dependencies;
+        }
+    }
+}